@@ -13,7 +13,7 @@ if exist %OUT_DIR% rmdir /s /q %OUT_DIR%
 mkdir %OUT_DIR%
 
 echo [2/3] Compiling Java sources...
-javac -d %OUT_DIR% -sourcepath %SRC_DIR% %SRC_DIR%\game\Main.java %SRC_DIR%\game\model\*.java %SRC_DIR%\game\ui\*.java
+javac -d %OUT_DIR% -sourcepath %SRC_DIR% %SRC_DIR%\game\Main.java %SRC_DIR%\game\model\*.java %SRC_DIR%\game\collections\*.java %SRC_DIR%\game\ui\*.java
 
 if %ERRORLEVEL% neq 0 (
     echo.
@@ -8,7 +8,7 @@ echo.
 if not exist "out\game\Main.class" (
     echo [INFO] Compiling...
     if not exist out mkdir out
-    javac -d out -sourcepath src\main\java src\main\java\game\Main.java src\main\java\game\model\*.java src\main\java\game\ui\*.java
+    javac -d out -sourcepath src\main\java src\main\java\game\Main.java src\main\java\game\model\*.java src\main\java\game\collections\*.java src\main\java\game\ui\*.java
     if %ERRORLEVEL% neq 0 (
         echo [ERROR] Compilation failed!
         pause
@@ -0,0 +1,409 @@
+package game.collections;
+
+import java.util.Arrays;
+
+// int -> int B+tree. Inner nodes hold up to fanout children and fanout - 1 separator keys;
+// every entry lives in a leaf of up to fanout keys, and leaves are linked left to right so
+// a range scan descends once and then walks sideways. A lookup touches one node per level,
+// and each node's keys sit in one contiguous int[], where TreeMap chases a pointer per key.
+public class BPlusTreeIntMap {
+    public static final int MIN_FANOUT = 4;
+    public static final int MAX_FANOUT = 1024;
+
+    public interface EntryVisitor {
+        void accept(int key, int value);
+    }
+
+    private final int fanout;
+    private final int minLeafKeys;
+    private final int minInnerKeys;
+    private final int missingValue;
+    private Node root;
+    private int size;
+    private int height;
+
+    // Structural changes so far, for the visualizer and benchmarks
+    private long leafSplits;
+    private long innerSplits;
+    private long merges;
+    private long borrows;
+
+    // Set by insert on the way back up: the previous value and the separator of a new node
+    private int previous;
+    private boolean replaced;
+    private int splitKey;
+
+    public BPlusTreeIntMap() {
+        this(64, 0);
+    }
+
+    public BPlusTreeIntMap(int fanout) {
+        this(fanout, 0);
+    }
+
+    // missingValue is what get/put/remove return when the key has no mapping
+    public BPlusTreeIntMap(int fanout, int missingValue) {
+        if (fanout < MIN_FANOUT || fanout > MAX_FANOUT) {
+            throw new IllegalArgumentException("Fanout must be " + MIN_FANOUT + ".." + MAX_FANOUT + ": " + fanout);
+        }
+        this.fanout = fanout;
+        this.minLeafKeys = fanout / 2;
+        this.minInnerKeys = (fanout - 1) / 2;
+        this.missingValue = missingValue;
+    }
+
+    public int put(int key, int value) {
+        if (root == null) {
+            root = new Leaf(fanout);
+            height = 1;
+        }
+        replaced = false;
+        Node right = insert(root, key, value);
+        if (right != null) {
+            Inner newRoot = new Inner(fanout);
+            newRoot.keys[0] = splitKey;
+            newRoot.children[0] = root;
+            newRoot.children[1] = right;
+            newRoot.count = 1;
+            root = newRoot;
+            height++;
+        }
+        if (replaced) return previous;
+        size++;
+        return missingValue;
+    }
+
+    public int get(int key) {
+        if (root == null) return missingValue;
+        Leaf leaf = leafFor(key);
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+        return pos >= 0 ? leaf.values[pos] : missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        if (root == null) return false;
+        Leaf leaf = leafFor(key);
+        return Arrays.binarySearch(leaf.keys, 0, leaf.count, key) >= 0;
+    }
+
+    public int remove(int key) {
+        if (root == null) return missingValue;
+        replaced = false;
+        delete(root, key);
+        if (!replaced) return missingValue;
+        size--;
+        if (root.count == 0) {
+            if (root instanceof Inner) {
+                root = ((Inner) root).children[0];
+                height--;
+            } else {
+                root = null;
+                height = 0;
+            }
+        }
+        return previous;
+    }
+
+    // Entries with from <= key < to, in key order; returns how many were visited
+    public int forEachInRange(int from, int to, EntryVisitor visitor) {
+        if (root == null || from >= to) return 0;
+        Leaf leaf = leafFor(from);
+        int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, from);
+        if (pos < 0) pos = -pos - 1;
+        int visited = 0;
+        while (leaf != null) {
+            for (; pos < leaf.count; pos++) {
+                if (leaf.keys[pos] >= to) return visited;
+                visitor.accept(leaf.keys[pos], leaf.values[pos]);
+                visited++;
+            }
+            leaf = leaf.next;
+            pos = 0;
+        }
+        return visited;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int fanout() { return fanout; }
+    public int height() { return height; }
+    public int getMissingValue() { return missingValue; }
+    public long leafSplits() { return leafSplits; }
+    public long innerSplits() { return innerSplits; }
+    public long merges() { return merges; }
+    public long borrows() { return borrows; }
+
+    public void clear() {
+        root = null;
+        size = 0;
+        height = 0;
+    }
+
+    // ── Node access ──────────────────────────────────────────────
+
+    public Node root() { return root; }
+
+    public Leaf firstLeaf() {
+        Node node = root;
+        if (node == null) return null;
+        while (node instanceof Inner) node = ((Inner) node).children[0];
+        return (Leaf) node;
+    }
+
+    public Leaf leafFor(int key) {
+        Node node = root;
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            node = inner.children[inner.childIndex(key)];
+        }
+        return (Leaf) node;
+    }
+
+    public int nodeCount() {
+        return root == null ? 0 : countNodes(root);
+    }
+
+    private static int countNodes(Node node) {
+        if (node instanceof Leaf) return 1;
+        Inner inner = (Inner) node;
+        int n = 1;
+        for (int i = 0; i <= inner.count; i++) n += countNodes(inner.children[i]);
+        return n;
+    }
+
+    // Heap bytes: every node object with its arrays, sized for one key of overflow
+    public long memoryBytes() {
+        return 32 + (root == null ? 0 : nodeBytes(root));
+    }
+
+    private long nodeBytes(Node node) {
+        if (node instanceof Leaf) return 32 + 2 * (16 + 4L * (fanout + 1));
+        Inner inner = (Inner) node;
+        long bytes = 24 + 16 + 4L * fanout + 16 + 4L * (fanout + 1);
+        for (int i = 0; i <= inner.count; i++) bytes += nodeBytes(inner.children[i]);
+        return bytes;
+    }
+
+    public abstract static class Node {
+        int[] keys;
+        int count;
+
+        public abstract boolean isLeaf();
+        public int keyCount() { return count; }
+        public int key(int i) { return keys[i]; }
+    }
+
+    public static final class Leaf extends Node {
+        int[] values;
+        Leaf next;
+        Leaf prev;
+
+        Leaf(int fanout) {
+            keys = new int[fanout + 1];
+            values = new int[fanout + 1];
+        }
+
+        public boolean isLeaf() { return true; }
+        public int value(int i) { return values[i]; }
+        public Leaf next() { return next; }
+    }
+
+    public static final class Inner extends Node {
+        Node[] children;
+
+        Inner(int fanout) {
+            keys = new int[fanout];
+            children = new Node[fanout + 1];
+        }
+
+        public boolean isLeaf() { return false; }
+        public Node child(int i) { return children[i]; }
+
+        // Child holding key: keys equal to a separator live to its right
+        int childIndex(int key) {
+            int pos = Arrays.binarySearch(keys, 0, count, key);
+            return pos >= 0 ? pos + 1 : -pos - 1;
+        }
+    }
+
+    // ── Insert ───────────────────────────────────────────────────
+    // Returns the new right sibling when node splits, with its separator in splitKey
+
+    private Node insert(Node node, int key, int value) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+            if (pos >= 0) {
+                previous = leaf.values[pos];
+                leaf.values[pos] = value;
+                replaced = true;
+                return null;
+            }
+            pos = -pos - 1;
+            System.arraycopy(leaf.keys, pos, leaf.keys, pos + 1, leaf.count - pos);
+            System.arraycopy(leaf.values, pos, leaf.values, pos + 1, leaf.count - pos);
+            leaf.keys[pos] = key;
+            leaf.values[pos] = value;
+            leaf.count++;
+            return leaf.count > fanout ? splitLeaf(leaf) : null;
+        }
+
+        Inner inner = (Inner) node;
+        int i = inner.childIndex(key);
+        Node right = insert(inner.children[i], key, value);
+        if (right == null) return null;
+        System.arraycopy(inner.keys, i, inner.keys, i + 1, inner.count - i);
+        System.arraycopy(inner.children, i + 1, inner.children, i + 2, inner.count - i);
+        inner.keys[i] = splitKey;
+        inner.children[i + 1] = right;
+        inner.count++;
+        return inner.count > fanout - 1 ? splitInner(inner) : null;
+    }
+
+    private Leaf splitLeaf(Leaf leaf) {
+        Leaf right = new Leaf(fanout);
+        int keep = (leaf.count + 1) / 2;
+        right.count = leaf.count - keep;
+        System.arraycopy(leaf.keys, keep, right.keys, 0, right.count);
+        System.arraycopy(leaf.values, keep, right.values, 0, right.count);
+        leaf.count = keep;
+        right.next = leaf.next;
+        if (right.next != null) right.next.prev = right;
+        right.prev = leaf;
+        leaf.next = right;
+        splitKey = right.keys[0];
+        leafSplits++;
+        return right;
+    }
+
+    // The middle key moves up instead of being copied, unlike a leaf split
+    private Inner splitInner(Inner inner) {
+        Inner right = new Inner(fanout);
+        int mid = inner.count / 2;
+        splitKey = inner.keys[mid];
+        right.count = inner.count - mid - 1;
+        System.arraycopy(inner.keys, mid + 1, right.keys, 0, right.count);
+        System.arraycopy(inner.children, mid + 1, right.children, 0, right.count + 1);
+        Arrays.fill(inner.children, mid + 1, inner.count + 1, null);
+        inner.count = mid;
+        innerSplits++;
+        return right;
+    }
+
+    // ── Delete ───────────────────────────────────────────────────
+    // A child left under half full borrows from a sibling, or merges with one if neither
+    // can spare a key
+
+    private void delete(Node node, int key) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int pos = Arrays.binarySearch(leaf.keys, 0, leaf.count, key);
+            if (pos < 0) return;
+            previous = leaf.values[pos];
+            replaced = true;
+            System.arraycopy(leaf.keys, pos + 1, leaf.keys, pos, leaf.count - pos - 1);
+            System.arraycopy(leaf.values, pos + 1, leaf.values, pos, leaf.count - pos - 1);
+            leaf.count--;
+            return;
+        }
+
+        Inner inner = (Inner) node;
+        int i = inner.childIndex(key);
+        Node child = inner.children[i];
+        delete(child, key);
+        if (!replaced) return;
+        if (child instanceof Leaf ? child.count < minLeafKeys : child.count < minInnerKeys) {
+            rebalance(inner, i);
+        }
+    }
+
+    private void rebalance(Inner parent, int i) {
+        Node child = parent.children[i];
+        Node left = i > 0 ? parent.children[i - 1] : null;
+        Node right = i < parent.count ? parent.children[i + 1] : null;
+        int min = child instanceof Leaf ? minLeafKeys : minInnerKeys;
+
+        if (left != null && left.count > min) {
+            borrowFromLeft(parent, i, left, child);
+            borrows++;
+        } else if (right != null && right.count > min) {
+            borrowFromRight(parent, i, child, right);
+            borrows++;
+        } else if (left != null) {
+            mergeInto(parent, i - 1, left, child);
+            merges++;
+        } else if (right != null) {
+            mergeInto(parent, i, child, right);
+            merges++;
+        }
+    }
+
+    private void borrowFromLeft(Inner parent, int i, Node left, Node child) {
+        System.arraycopy(child.keys, 0, child.keys, 1, child.count);
+        if (child instanceof Leaf) {
+            Leaf l = (Leaf) left;
+            Leaf c = (Leaf) child;
+            System.arraycopy(c.values, 0, c.values, 1, c.count);
+            c.keys[0] = l.keys[l.count - 1];
+            c.values[0] = l.values[l.count - 1];
+            parent.keys[i - 1] = c.keys[0];
+        } else {
+            Inner l = (Inner) left;
+            Inner c = (Inner) child;
+            System.arraycopy(c.children, 0, c.children, 1, c.count + 1);
+            c.keys[0] = parent.keys[i - 1];
+            c.children[0] = l.children[l.count];
+            l.children[l.count] = null;
+            parent.keys[i - 1] = l.keys[l.count - 1];
+        }
+        left.count--;
+        child.count++;
+    }
+
+    private void borrowFromRight(Inner parent, int i, Node child, Node right) {
+        if (child instanceof Leaf) {
+            Leaf c = (Leaf) child;
+            Leaf r = (Leaf) right;
+            c.keys[c.count] = r.keys[0];
+            c.values[c.count] = r.values[0];
+            System.arraycopy(r.keys, 1, r.keys, 0, r.count - 1);
+            System.arraycopy(r.values, 1, r.values, 0, r.count - 1);
+            parent.keys[i] = r.keys[0];
+        } else {
+            Inner c = (Inner) child;
+            Inner r = (Inner) right;
+            c.keys[c.count] = parent.keys[i];
+            c.children[c.count + 1] = r.children[0];
+            parent.keys[i] = r.keys[0];
+            System.arraycopy(r.keys, 1, r.keys, 0, r.count - 1);
+            System.arraycopy(r.children, 1, r.children, 0, r.count);
+            r.children[r.count] = null;
+        }
+        child.count++;
+        right.count--;
+    }
+
+    // Appends right to left and drops separator k and child k + 1 from the parent
+    private void mergeInto(Inner parent, int k, Node left, Node right) {
+        if (left instanceof Leaf) {
+            Leaf l = (Leaf) left;
+            Leaf r = (Leaf) right;
+            System.arraycopy(r.keys, 0, l.keys, l.count, r.count);
+            System.arraycopy(r.values, 0, l.values, l.count, r.count);
+            l.count += r.count;
+            l.next = r.next;
+            if (l.next != null) l.next.prev = l;
+        } else {
+            Inner l = (Inner) left;
+            Inner r = (Inner) right;
+            l.keys[l.count] = parent.keys[k];
+            System.arraycopy(r.keys, 0, l.keys, l.count + 1, r.count);
+            System.arraycopy(r.children, 0, l.children, l.count + 1, r.count + 1);
+            l.count += r.count + 1;
+        }
+        System.arraycopy(parent.keys, k + 1, parent.keys, k, parent.count - k - 1);
+        System.arraycopy(parent.children, k + 2, parent.children, k + 1, parent.count - k - 1);
+        parent.children[parent.count] = null;
+        parent.count--;
+    }
+}
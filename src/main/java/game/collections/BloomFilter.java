@@ -0,0 +1,180 @@
+package game.collections;
+
+import java.util.Arrays;
+
+// Classic Bloom filter over a bit array of m bits with k probes per key. add sets the k
+// bits; mightContain answers false only if one of them is clear, so a "no" is certain
+// and a "yes" is wrong with probability about (1 - e^(-kn/m))^k after n additions.
+//
+// Keys are ints: an int set passes its values straight in, and BloomFilteredSet passes
+// element hash codes. The k positions come from two mixes of the key by double hashing,
+// h1 + i * h2 (Kirsch and Mitzenmacher), which keeps the false-positive rate of k
+// independent hashes while hashing only twice. Each 32-bit position is mapped onto
+// [0, m) by multiply-shift, so m does not have to be a power of two. mightContain stops
+// at the first clear bit; on a half-full filter a miss reads two bits on average.
+//
+// On a filter bigger than the cache every probe is its own cache miss. The blocked layout
+// (Putze, Sanders and Singler) picks one 512-bit block, a single cache line, with the
+// first hash and places all k bits inside it with the second, so any lookup costs one
+// miss. Blocks fill unevenly, which costs some false positives at the same m and k;
+// expectedFalsePositiveRate accounts for that.
+public class BloomFilter {
+    public static final int BLOCK_BITS = 512;
+    private static final double LN2 = Math.log(2);
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+    private final boolean blocked;
+    private final int blockCount;
+    private int setBits;
+    private long additions;
+
+    public BloomFilter(int bitCount, int hashCount) {
+        this(bitCount, hashCount, false);
+    }
+
+    // A blocked filter rounds bitCount up to whole 512-bit blocks
+    public BloomFilter(int bitCount, int hashCount, boolean blocked) {
+        if (bitCount < 1) throw new IllegalArgumentException("bitCount must be positive: " + bitCount);
+        if (hashCount < 1) throw new IllegalArgumentException("hashCount must be positive: " + hashCount);
+        if (blocked) {
+            blockCount = (int) (((long) bitCount + BLOCK_BITS - 1) / BLOCK_BITS);
+            bitCount = blockCount * BLOCK_BITS;
+        } else {
+            blockCount = 0;
+        }
+        this.bits = new long[(int) (((long) bitCount + 63) >>> 6)];
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.blocked = blocked;
+    }
+
+    // Sized for a target false-positive rate: m = -n ln p / (ln 2)^2 and k = (m / n) ln 2
+    public static BloomFilter forExpected(int expectedInsertions, double falsePositiveRate) {
+        return forExpected(expectedInsertions, falsePositiveRate, false);
+    }
+
+    public static BloomFilter forExpected(int expectedInsertions, double falsePositiveRate, boolean blocked) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1): " + falsePositiveRate);
+        }
+        int n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int bitCount = (int) Math.max(64, Math.min(Integer.MAX_VALUE - BLOCK_BITS, m));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * LN2));
+        return new BloomFilter(bitCount, hashCount, blocked);
+    }
+
+    // true if the key was possibly new, i.e. at least one of its bits was clear
+    public boolean add(int key) {
+        int h1 = IntHashing.mix(key);
+        int h2 = secondHash(key);
+        int base = blocked ? blockBase(h1) : 0;
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = blocked ? blockedPosition(base, h2, i) : position(h1 + i * h2);
+            long mask = 1L << bit;
+            long word = bits[bit >>> 6];
+            if ((word & mask) == 0) {
+                bits[bit >>> 6] = word | mask;
+                setBits++;
+                changed = true;
+            }
+        }
+        additions++;
+        return changed;
+    }
+
+    public boolean mightContain(int key) {
+        int h1 = IntHashing.mix(key);
+        int h2 = secondHash(key);
+        if (blocked) {
+            int base = blockBase(h1);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = blockedPosition(base, h2, i);
+                if ((bits[bit >>> 6] & (1L << bit)) == 0) return false;
+            }
+            return true;
+        }
+        for (int i = 0; i < hashCount; i++) {
+            int bit = position(h1 + i * h2);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    // The k bit positions key probes, in probe order; fills out and returns it
+    public int[] probes(int key, int[] out) {
+        int h1 = IntHashing.mix(key);
+        int h2 = secondHash(key);
+        int base = blocked ? blockBase(h1) : 0;
+        for (int i = 0; i < hashCount; i++) out[i] = blocked ? blockedPosition(base, h2, i) : position(h1 + i * h2);
+        return out;
+    }
+
+    public void clear() {
+        Arrays.fill(bits, 0L);
+        setBits = 0;
+        additions = 0;
+    }
+
+    // Odd, so successive probes never collapse onto one position when m is a power of two
+    private static int secondHash(int key) {
+        int h = key * 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return (h ^ (h >>> 16)) | 1;
+    }
+
+    private int position(int hash) {
+        return (int) (((hash & 0xFFFFFFFFL) * bitCount) >>> 32);
+    }
+
+    private int blockBase(int h1) {
+        return (int) (((h1 & 0xFFFFFFFFL) * blockCount) >>> 32) * BLOCK_BITS;
+    }
+
+    // Start and odd stride both from h2, so the k bits inside a block are distinct
+    private static int blockedPosition(int base, int h2, int i) {
+        return base + ((h2 + i * ((h2 >>> 9) | 1)) & (BLOCK_BITS - 1));
+    }
+
+    // ── Introspection ────────────────────────────────────────────
+
+    public int bitCount() { return bitCount; }
+    public int hashCount() { return hashCount; }
+    public boolean isBlocked() { return blocked; }
+    public int setBits() { return setBits; }
+    public long additions() { return additions; }
+    public double fillRatio() { return (double) setBits / bitCount; }
+
+    public boolean isSet(int bit) {
+        return (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    // False-positive rate predicted from n distinct keys: (1 - e^(-kn/m))^k. Blocked, the
+    // same formula applies per block, averaged over the Poisson spread of keys per block.
+    public double expectedFalsePositiveRate(long n) {
+        double mean = blocked ? (double) n / blockCount : 0;
+        // Past a few hundred keys per block every block is nearly full either way
+        if (!blocked || mean > 500) return Math.pow(1 - Math.exp(-(double) hashCount * n / bitCount), hashCount);
+        double weight = Math.exp(-mean);
+        double rate = 0;
+        int limit = (int) (mean + 10 * Math.sqrt(mean) + 10);
+        for (int j = 0; j <= limit; j++) {
+            if (j > 0) weight *= mean / j;
+            rate += weight * Math.pow(1 - Math.pow(1 - 1.0 / BLOCK_BITS, (double) hashCount * j), hashCount);
+        }
+        return rate;
+    }
+
+    // Same estimate read off the actual bit array: every probe has to land on a set bit
+    public double currentFalsePositiveRate() {
+        return Math.pow(fillRatio(), hashCount);
+    }
+
+    public long memoryBytes() {
+        return 32 + 16 + 8L * bits.length;
+    }
+}
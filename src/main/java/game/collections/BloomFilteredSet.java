@@ -0,0 +1,111 @@
+package game.collections;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+// Puts a BloomFilter in front of any Set so that most lookups for absent elements never
+// reach it. contains first asks the filter with the element's hashCode; a "no" is final,
+// a "maybe" falls through to the wrapped set. Equal elements have equal hash codes, so
+// the filter never hides a member. Elements whose hash codes collide always pass the
+// filter together, which only costs a trip to the set.
+//
+// Bloom filters cannot forget: remove takes the element out of the set but leaves its
+// bits, so the filter slowly admits more false positives. rebuild() clears it and adds
+// the current elements again. Writes through the iterator go straight to the set and
+// leave stale bits the same way.
+public class BloomFilteredSet<E> extends AbstractSet<E> {
+    private final Set<E> set;
+    private BloomFilter filter;
+
+    private long filtered;
+    private long passed;
+    private long falsePositives;
+    private long staleRemovals;
+
+    public BloomFilteredSet(Set<E> set, BloomFilter filter) {
+        this.set = set;
+        this.filter = filter;
+        for (E e : set) filter.add(hash(e));
+    }
+
+    public BloomFilteredSet(Set<E> set, int expectedSize, double falsePositiveRate) {
+        this(set, BloomFilter.forExpected(expectedSize, falsePositiveRate));
+    }
+
+    @Override
+    public boolean add(E e) {
+        boolean added = set.add(e);
+        if (added) filter.add(hash(e));
+        return added;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!filter.mightContain(hash(o))) {
+            filtered++;
+            return false;
+        }
+        passed++;
+        boolean found = set.contains(o);
+        if (!found) falsePositives++;
+        return found;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        boolean removed = set.remove(o);
+        if (removed) staleRemovals++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        set.clear();
+        filter.clear();
+        staleRemovals = 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() { return set.iterator(); }
+
+    @Override
+    public int size() { return set.size(); }
+
+    // Swaps in a new filter (say, resized for the current size) and re-adds every element
+    public void rebuild(BloomFilter newFilter) {
+        newFilter.clear();
+        for (E e : set) newFilter.add(hash(e));
+        filter = newFilter;
+        staleRemovals = 0;
+    }
+
+    public void rebuild() {
+        rebuild(filter);
+    }
+
+    public static int hash(Object o) {
+        return o == null ? 0 : o.hashCode();
+    }
+
+    // ── Introspection ────────────────────────────────────────────
+
+    public BloomFilter filter() { return filter; }
+    public Set<E> backingSet() { return set; }
+    public long filteredLookups() { return filtered; }
+    public long passedLookups() { return passed; }
+    public long falsePositives() { return falsePositives; }
+    public long staleRemovals() { return staleRemovals; }
+
+    // Share of lookups for absent elements that the filter let through
+    public double observedFalsePositiveRate() {
+        long negatives = filtered + falsePositives;
+        return negatives == 0 ? 0 : (double) falsePositives / negatives;
+    }
+
+    public void resetStats() {
+        filtered = 0;
+        passed = 0;
+        falsePositives = 0;
+    }
+}
@@ -0,0 +1,275 @@
+package game.collections;
+
+// Persistent (immutable) int -> int map as a CHAMP trie: a hash array mapped trie where each
+// node splits its 32 slots between inline entries and child nodes with two bitmaps.
+//
+// The key's hash is consumed 5 bits per level. A node keeps a dataMap bit for every slot
+// holding an entry and a nodeMap bit for every slot pointing at a child; entries and
+// children are packed in separate arrays in slot order, and a slot's position in its array
+// is the popcount of the bitmap below its bit. put and remove never modify a node: they copy
+// the nodes on the path from the root to the changed slot and share everything else, so
+// an update costs O(depth) small copies and the old version stays valid for its readers.
+//
+// Removal keeps the trie canonical, as CHAMP requires: a child left with a single entry is
+// inlined back into its parent, so equal maps always have the same shape. IntHashing.mix is
+// a bijection on int, so two distinct keys always split apart by the last level and no
+// collision nodes are needed.
+public final class ChampIntMap {
+    public static final int BITS = 5;
+    public static final int FANOUT = 1 << BITS;
+
+    public interface EntryVisitor {
+        void accept(int key, int value);
+    }
+
+    private static final Node EMPTY_NODE = new Node(0, 0, new int[0], new Node[0]);
+
+    private final Node root;
+    private final int size;
+    private final int missingValue;
+
+    private ChampIntMap(Node root, int size, int missingValue) {
+        this.root = root;
+        this.size = size;
+        this.missingValue = missingValue;
+    }
+
+    public static ChampIntMap empty() {
+        return empty(0);
+    }
+
+    // missingValue is what get returns when the key has no mapping
+    public static ChampIntMap empty(int missingValue) {
+        return new ChampIntMap(EMPTY_NODE, 0, missingValue);
+    }
+
+    public int get(int key) {
+        int hash = IntHashing.mix(key);
+        Node node = root;
+        for (int shift = 0; ; shift += BITS) {
+            int bit = bitFor(hash, shift);
+            if ((node.dataMap & bit) != 0) {
+                int index = index(node.dataMap, bit);
+                return node.entries[2 * index] == key ? node.entries[2 * index + 1] : missingValue;
+            }
+            if ((node.nodeMap & bit) == 0) return missingValue;
+            node = node.children[index(node.nodeMap, bit)];
+        }
+    }
+
+    public boolean containsKey(int key) {
+        int hash = IntHashing.mix(key);
+        Node node = root;
+        for (int shift = 0; ; shift += BITS) {
+            int bit = bitFor(hash, shift);
+            if ((node.dataMap & bit) != 0) return node.entries[2 * index(node.dataMap, bit)] == key;
+            if ((node.nodeMap & bit) == 0) return false;
+            node = node.children[index(node.nodeMap, bit)];
+        }
+    }
+
+    // A new version with key mapped to value; this one is unchanged. Returns this when the
+    // mapping is already there.
+    public ChampIntMap put(int key, int value) {
+        boolean[] added = {false};
+        Node newRoot = put(root, key, value, IntHashing.mix(key), 0, added);
+        if (newRoot == root) return this;
+        return new ChampIntMap(newRoot, added[0] ? size + 1 : size, missingValue);
+    }
+
+    // A new version without key; returns this when the key is absent
+    public ChampIntMap remove(int key) {
+        Node newRoot = remove(root, key, IntHashing.mix(key), 0);
+        if (newRoot == root) return this;
+        return new ChampIntMap(newRoot, size - 1, missingValue);
+    }
+
+    public void forEach(EntryVisitor visitor) {
+        forEach(root, visitor);
+    }
+
+    private static void forEach(Node node, EntryVisitor visitor) {
+        for (int i = 0; i < node.entries.length; i += 2) visitor.accept(node.entries[i], node.entries[i + 1]);
+        for (Node child : node.children) forEach(child, visitor);
+    }
+
+    // ── Path copying ─────────────────────────────────────────────
+
+    private static Node put(Node node, int key, int value, int hash, int shift, boolean[] added) {
+        int bit = bitFor(hash, shift);
+        if ((node.dataMap & bit) != 0) {
+            int index = index(node.dataMap, bit);
+            int existing = node.entries[2 * index];
+            if (existing == key) {
+                if (node.entries[2 * index + 1] == value) return node;
+                int[] entries = node.entries.clone();
+                entries[2 * index + 1] = value;
+                return new Node(node.dataMap, node.nodeMap, entries, node.children);
+            }
+            // Slot taken by another key: push both down into a new child
+            added[0] = true;
+            Node child = merge(existing, node.entries[2 * index + 1], IntHashing.mix(existing),
+                    key, value, hash, shift + BITS);
+            return migrateToNode(node, bit, index, child);
+        }
+        if ((node.nodeMap & bit) != 0) {
+            int index = index(node.nodeMap, bit);
+            Node child = node.children[index];
+            Node newChild = put(child, key, value, hash, shift + BITS, added);
+            if (newChild == child) return node;
+            Node[] children = node.children.clone();
+            children[index] = newChild;
+            return new Node(node.dataMap, node.nodeMap, node.entries, children);
+        }
+        added[0] = true;
+        int index = index(node.dataMap, bit);
+        int[] entries = new int[node.entries.length + 2];
+        System.arraycopy(node.entries, 0, entries, 0, 2 * index);
+        entries[2 * index] = key;
+        entries[2 * index + 1] = value;
+        System.arraycopy(node.entries, 2 * index, entries, 2 * index + 2, node.entries.length - 2 * index);
+        return new Node(node.dataMap | bit, node.nodeMap, entries, node.children);
+    }
+
+    private static Node remove(Node node, int key, int hash, int shift) {
+        int bit = bitFor(hash, shift);
+        if ((node.dataMap & bit) != 0) {
+            int index = index(node.dataMap, bit);
+            if (node.entries[2 * index] != key) return node;
+            int[] entries = new int[node.entries.length - 2];
+            System.arraycopy(node.entries, 0, entries, 0, 2 * index);
+            System.arraycopy(node.entries, 2 * index + 2, entries, 2 * index, entries.length - 2 * index);
+            return new Node(node.dataMap & ~bit, node.nodeMap, entries, node.children);
+        }
+        if ((node.nodeMap & bit) != 0) {
+            int index = index(node.nodeMap, bit);
+            Node child = node.children[index];
+            Node newChild = remove(child, key, hash, shift + BITS);
+            if (newChild == child) return node;
+            if (newChild.nodeMap == 0 && newChild.entries.length == 2) {
+                // A lone entry below: hand it up, or inline it here if this node holds more
+                if (node.entries.length == 0 && node.children.length == 1 && shift > 0) return newChild;
+                return migrateToInline(node, bit, index, newChild.entries[0], newChild.entries[1]);
+            }
+            Node[] children = node.children.clone();
+            children[index] = newChild;
+            return new Node(node.dataMap, node.nodeMap, node.entries, children);
+        }
+        return node;
+    }
+
+    private static Node merge(int key0, int value0, int hash0, int key1, int value1, int hash1, int shift) {
+        int slot0 = (hash0 >>> shift) & (FANOUT - 1);
+        int slot1 = (hash1 >>> shift) & (FANOUT - 1);
+        if (slot0 == slot1) {
+            Node child = merge(key0, value0, hash0, key1, value1, hash1, shift + BITS);
+            return new Node(0, 1 << slot0, new int[0], new Node[]{child});
+        }
+        int[] entries = slot0 < slot1 ? new int[]{key0, value0, key1, value1} : new int[]{key1, value1, key0, value0};
+        return new Node((1 << slot0) | (1 << slot1), 0, entries, new Node[0]);
+    }
+
+    private static Node migrateToNode(Node node, int bit, int dataIndex, Node child) {
+        int[] entries = new int[node.entries.length - 2];
+        System.arraycopy(node.entries, 0, entries, 0, 2 * dataIndex);
+        System.arraycopy(node.entries, 2 * dataIndex + 2, entries, 2 * dataIndex, entries.length - 2 * dataIndex);
+        int nodeIndex = index(node.nodeMap, bit);
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.children, 0, children, 0, nodeIndex);
+        children[nodeIndex] = child;
+        System.arraycopy(node.children, nodeIndex, children, nodeIndex + 1, node.children.length - nodeIndex);
+        return new Node(node.dataMap & ~bit, node.nodeMap | bit, entries, children);
+    }
+
+    private static Node migrateToInline(Node node, int bit, int nodeIndex, int key, int value) {
+        Node[] children = new Node[node.children.length - 1];
+        System.arraycopy(node.children, 0, children, 0, nodeIndex);
+        System.arraycopy(node.children, nodeIndex + 1, children, nodeIndex, children.length - nodeIndex);
+        int dataIndex = index(node.dataMap, bit);
+        int[] entries = new int[node.entries.length + 2];
+        System.arraycopy(node.entries, 0, entries, 0, 2 * dataIndex);
+        entries[2 * dataIndex] = key;
+        entries[2 * dataIndex + 1] = value;
+        System.arraycopy(node.entries, 2 * dataIndex, entries, 2 * dataIndex + 2, node.entries.length - 2 * dataIndex);
+        return new Node(node.dataMap | bit, node.nodeMap & ~bit, entries, children);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & (FANOUT - 1));
+    }
+
+    private static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    // ── Introspection ────────────────────────────────────────────
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int getMissingValue() { return missingValue; }
+    public Node root() { return root; }
+
+    // Slot a key's hash selects at the given depth
+    public static int slotOf(int key, int depth) {
+        return (IntHashing.mix(key) >>> (depth * BITS)) & (FANOUT - 1);
+    }
+
+    public int nodeCount() {
+        return nodeCount(root);
+    }
+
+    private static int nodeCount(Node node) {
+        int count = 1;
+        for (Node child : node.children) count += nodeCount(child);
+        return count;
+    }
+
+    public int depth() {
+        return depth(root);
+    }
+
+    private static int depth(Node node) {
+        int max = 0;
+        for (Node child : node.children) max = Math.max(max, depth(child));
+        return max + 1;
+    }
+
+    // Estimated heap bytes for the whole trie, counting shared nodes as if owned
+    public long memoryBytes() {
+        return 24 + memoryBytes(root);
+    }
+
+    private static long memoryBytes(Node node) {
+        long bytes = node.bytes();
+        for (Node child : node.children) bytes += memoryBytes(child);
+        return bytes;
+    }
+
+    public static final class Node {
+        private final int dataMap;
+        private final int nodeMap;
+        // key, value pairs in slot order
+        private final int[] entries;
+        private final Node[] children;
+
+        private Node(int dataMap, int nodeMap, int[] entries, Node[] children) {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.entries = entries;
+            this.children = children;
+        }
+
+        public int dataMap() { return dataMap; }
+        public int nodeMap() { return nodeMap; }
+        public int dataArity() { return entries.length / 2; }
+        public int nodeArity() { return children.length; }
+        public int key(int i) { return entries[2 * i]; }
+        public int value(int i) { return entries[2 * i + 1]; }
+        public Node child(int i) { return children[i]; }
+
+        // Header and two bitmaps, the packed entry array and the child array
+        public long bytes() {
+            return 24 + (16 + 4L * entries.length) + (16 + 4L * children.length);
+        }
+    }
+}
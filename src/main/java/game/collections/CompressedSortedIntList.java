@@ -0,0 +1,362 @@
+package game.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+// Sorted, duplicate-free ints stored in blocks of delta + varint bytes. Each block keeps its
+// first value uncompressed in a skip index, so a lookup binary-searches the index and then
+// decodes at most one block. Dense ID sets cost one or two bytes per element.
+public class CompressedSortedIntList {
+    public static final int DEFAULT_BLOCK_SIZE = 128;
+
+    private final int blockSize;
+    // Skip index, one entry per block: first value, where its deltas start in data, how many
+    // values the block holds (first included)
+    private int[] firsts;
+    private int[] offsets;
+    private int[] counts;
+    private int blockCount;
+    private byte[] data;
+    private int dataLength;
+    private int size;
+    private int lastValue;
+
+    public CompressedSortedIntList() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public CompressedSortedIntList(int blockSize) {
+        if (blockSize < 2) throw new IllegalArgumentException("Block size must be at least 2: " + blockSize);
+        this.blockSize = blockSize;
+        firsts = new int[4];
+        offsets = new int[4];
+        counts = new int[4];
+        data = new byte[64];
+    }
+
+    // Sorts and deduplicates a copy of values
+    public static CompressedSortedIntList of(int[] values) {
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        CompressedSortedIntList list = new CompressedSortedIntList();
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) list.append(sorted[i]);
+        }
+        return list;
+    }
+
+    // Returns false if already present. Values above the current maximum are appended in
+    // place; anything else re-encodes the one block it lands in.
+    public boolean add(int value) {
+        if (size == 0 || value > lastValue) {
+            append(value);
+            return true;
+        }
+        int block = blockFor(value);
+        if (block < 0) block = 0;
+        int[] values = decodeBlock(block);
+        int pos = Arrays.binarySearch(values, value);
+        if (pos >= 0) return false;
+        pos = -pos - 1;
+        int[] grown = new int[values.length + 1];
+        System.arraycopy(values, 0, grown, 0, pos);
+        grown[pos] = value;
+        System.arraycopy(values, pos, grown, pos + 1, values.length - pos);
+        replaceBlock(block, grown);
+        size++;
+        return true;
+    }
+
+    public boolean contains(int value) {
+        int block = blockFor(value);
+        if (block < 0) return false;
+        int v = firsts[block];
+        if (v == value) return true;
+        int pos = offsets[block];
+        for (int i = 1; i < counts[block]; i++) {
+            int shift = 0;
+            int delta = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            v += delta;
+            if (v >= value) return v == value;
+        }
+        return false;
+    }
+
+    // Values in [from, to), in order
+    public void forEachInRange(int from, int to, IntConsumer action) {
+        if (from >= to || size == 0) return;
+        int block = Math.max(0, blockFor(from));
+        for (; block < blockCount; block++) {
+            int v = firsts[block];
+            if (v >= to) return;
+            if (v >= from) action.accept(v);
+            int pos = offsets[block];
+            for (int i = 1; i < counts[block]; i++) {
+                int shift = 0;
+                int delta = 0;
+                byte b;
+                do {
+                    b = data[pos++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                v += delta;
+                if (v >= to) return;
+                if (v >= from) action.accept(v);
+            }
+        }
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int block = 0; block < blockCount; block++) {
+            for (int v : decodeBlock(block)) action.accept(v);
+        }
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int block = 0;
+            private int index = 0;
+            private int pos;
+            private int value;
+
+            @Override
+            public boolean hasNext() {
+                return block < blockCount;
+            }
+
+            @Override
+            public int nextInt() {
+                if (block >= blockCount) throw new NoSuchElementException();
+                if (index == 0) {
+                    value = firsts[block];
+                    pos = offsets[block];
+                } else {
+                    int shift = 0;
+                    int delta = 0;
+                    byte b;
+                    do {
+                        b = data[pos++];
+                        delta |= (b & 0x7F) << shift;
+                        shift += 7;
+                    } while (b < 0);
+                    value += delta;
+                }
+                if (++index == counts[block]) {
+                    block++;
+                    index = 0;
+                }
+                return value;
+            }
+        };
+    }
+
+    // Union of two lists in one linear pass over both, appending to a fresh list
+    public CompressedSortedIntList merge(CompressedSortedIntList other) {
+        CompressedSortedIntList merged = new CompressedSortedIntList(blockSize);
+        PrimitiveIterator.OfInt a = iterator();
+        PrimitiveIterator.OfInt b = other.iterator();
+        boolean hasA = a.hasNext();
+        boolean hasB = b.hasNext();
+        int va = hasA ? a.nextInt() : 0;
+        int vb = hasB ? b.nextInt() : 0;
+        while (hasA || hasB) {
+            if (hasA && (!hasB || va < vb)) {
+                merged.append(va);
+                hasA = a.hasNext();
+                if (hasA) va = a.nextInt();
+            } else if (hasB && (!hasA || vb < va)) {
+                merged.append(vb);
+                hasB = b.hasNext();
+                if (hasB) vb = b.nextInt();
+            } else {
+                merged.append(va);
+                hasA = a.hasNext();
+                if (hasA) va = a.nextInt();
+                hasB = b.hasNext();
+                if (hasB) vb = b.nextInt();
+            }
+        }
+        return merged;
+    }
+
+    public int[] toArray() {
+        int[] out = new int[size];
+        int[] n = {0};
+        forEach(v -> out[n[0]++] = v);
+        return out;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int blockSize() { return blockSize; }
+    public int blockCount() { return blockCount; }
+    public int dataBytes() { return dataLength; }
+
+    public int first() {
+        if (size == 0) throw new NoSuchElementException();
+        return firsts[0];
+    }
+
+    public int last() {
+        if (size == 0) throw new NoSuchElementException();
+        return lastValue;
+    }
+
+    public void clear() {
+        blockCount = 0;
+        dataLength = 0;
+        size = 0;
+    }
+
+    // ── Skip index access ───────────────────────────────────────
+
+    public int blockFirst(int block) { return firsts[block]; }
+    public int blockValueCount(int block) { return counts[block]; }
+    public int blockOffset(int block) { return offsets[block]; }
+
+    // Encoded bytes of a block's deltas (its first value lives in the skip index)
+    public int blockBytes(int block) {
+        int end = block + 1 < blockCount ? offsets[block + 1] : dataLength;
+        return end - offsets[block];
+    }
+
+    public byte dataAt(int offset) { return data[offset]; }
+
+    // Last block whose first value is <= value, or -1 if value is below them all
+    public int blockFor(int value) {
+        int lo = 0;
+        int hi = blockCount - 1;
+        int found = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (firsts[mid] <= value) {
+                found = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    public int[] decodeBlock(int block) {
+        int[] values = new int[counts[block]];
+        int v = firsts[block];
+        values[0] = v;
+        int pos = offsets[block];
+        for (int i = 1; i < values.length; i++) {
+            int shift = 0;
+            int delta = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            v += delta;
+            values[i] = v;
+        }
+        return values;
+    }
+
+    // Heap bytes: the object, three skip-index arrays and the data array, at capacity
+    public long memoryBytes() {
+        return 40 + 3 * (16 + 4L * firsts.length) + 16 + data.length;
+    }
+
+    // ── Encoding ─────────────────────────────────────────────────
+
+    // Bytes an unsigned LEB128 varint of delta takes: 7 payload bits per byte
+    public static int varintLength(int delta) {
+        int bits = 32 - Integer.numberOfLeadingZeros(delta);
+        return Math.max(1, (bits + 6) / 7);
+    }
+
+    // value must be above everything stored
+    private void append(int value) {
+        if (blockCount == 0 || counts[blockCount - 1] == blockSize) {
+            ensureBlocks(blockCount + 1);
+            firsts[blockCount] = value;
+            offsets[blockCount] = dataLength;
+            counts[blockCount] = 1;
+            blockCount++;
+        } else {
+            ensureData(dataLength + 5);
+            dataLength = writeVarint(data, dataLength, value - lastValue);
+            counts[blockCount - 1]++;
+        }
+        lastValue = value;
+        size++;
+    }
+
+    // Re-encodes a block from values, splitting it in two when it outgrows blockSize, and
+    // shifts the bytes of every later block to fit
+    private void replaceBlock(int block, int[] values) {
+        int parts = values.length > blockSize ? 2 : 1;
+        int split = parts == 2 ? values.length / 2 : values.length;
+        byte[] encoded = new byte[values.length * 5];
+        int length = 0;
+        int secondOffset = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (i == split) {
+                secondOffset = length;
+                continue;
+            }
+            length = writeVarint(encoded, length, values[i] - values[i - 1]);
+        }
+
+        int start = offsets[block];
+        int end = block + 1 < blockCount ? offsets[block + 1] : dataLength;
+        int shift = length - (end - start);
+        ensureData(dataLength + shift);
+        System.arraycopy(data, end, data, end + shift, dataLength - end);
+        System.arraycopy(encoded, 0, data, start, length);
+        dataLength += shift;
+        for (int b = block + 1; b < blockCount; b++) offsets[b] += shift;
+
+        firsts[block] = values[0];
+        counts[block] = split;
+        if (parts == 2) {
+            ensureBlocks(blockCount + 1);
+            int tail = blockCount - block - 1;
+            System.arraycopy(firsts, block + 1, firsts, block + 2, tail);
+            System.arraycopy(offsets, block + 1, offsets, block + 2, tail);
+            System.arraycopy(counts, block + 1, counts, block + 2, tail);
+            firsts[block + 1] = values[split];
+            offsets[block + 1] = start + secondOffset;
+            counts[block + 1] = values.length - split;
+            blockCount++;
+        }
+    }
+
+    private static int writeVarint(byte[] out, int pos, int delta) {
+        while ((delta & ~0x7F) != 0) {
+            out[pos++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        out[pos++] = (byte) delta;
+        return pos;
+    }
+
+    private void ensureBlocks(int needed) {
+        if (needed <= firsts.length) return;
+        int capacity = Math.max(needed, firsts.length + (firsts.length >> 1));
+        firsts = Arrays.copyOf(firsts, capacity);
+        offsets = Arrays.copyOf(offsets, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+    }
+
+    private void ensureData(int needed) {
+        if (needed <= data.length) return;
+        data = Arrays.copyOf(data, Math.max(needed, data.length + (data.length >> 1)));
+    }
+}
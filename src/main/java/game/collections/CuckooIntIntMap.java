@@ -0,0 +1,300 @@
+package game.collections;
+
+import java.util.Arrays;
+
+// Cuckoo hashing (Pagh and Rodler) over two tables of equal size, each with its own seeded
+// hash. A key can only ever sit in one of two slots, hash0 in table 0 or hash1 in table 1,
+// so get and containsKey read at most two slots whatever the load and whatever the keys:
+// no chains, no probe runs, no tombstones.
+//
+// The cost moves to put. When both of a new key's slots are taken it evicts the occupant of
+// its table-0 slot; that key moves to its other slot, evicting whoever sits there, and so
+// on. The kick-out chain usually ends in a few moves. If it runs past maxKicks, or comes
+// back to a slot it already emptied twice, the keys involved form a cycle with more keys
+// than slots, and the only way out is a full rehash of every entry under new seeds. Two
+// one-slot tables stay cycle-free with high probability only below half full, so the map
+// grows when size reaches maxLoad of both tables together (0.45 by default), and also
+// grows if several seedings in a row fail at the current size.
+public class CuckooIntIntMap {
+    // Failed seedings at one size before the tables double instead
+    private static final int MAX_SEEDINGS = 4;
+
+    private final double maxLoad;
+    private final int missingValue;
+
+    // Table 0 is slots [0, tableSize), table 1 is [tableSize, 2 * tableSize)
+    private int[] keys;
+    private int[] values;
+    private boolean[] full;
+    private int tableSize;
+    private int mask;
+    private int size;
+    private int resizeAt;
+    private int maxKicks;
+    private int seed0;
+    private int seed1;
+    private int seedings;
+
+    private int rehashCount;
+    private int growCount;
+    private long totalKicks;
+    private int longestChain;
+
+    // Slots written by the last put and the key written to each, in order, and the same for
+    // the walk that gave up if the put forced a rehash
+    private int[] chain;
+    private int[] chainKeys;
+    private int chainLength;
+    private boolean recording;
+    private int[] failedChain = new int[0];
+    private int[] failedChainKeys = new int[0];
+    private int lastSlot = -1;
+    private int lastProbes;
+    private int nestlessKey;
+    private int nestlessValue;
+
+    public CuckooIntIntMap() {
+        this(16, 0.45, 0);
+    }
+
+    public CuckooIntIntMap(int expectedSize, double maxLoad) {
+        this(expectedSize, maxLoad, 0);
+    }
+
+    // missingValue is what get/put/remove return when the key has no mapping. maxLoad may
+    // go up to 1 to find the occupancy where inserts start failing; the map then only
+    // grows once rehashing fails MAX_SEEDINGS times in a row.
+    public CuckooIntIntMap(int expectedSize, double maxLoad, int missingValue) {
+        if (maxLoad <= 0 || maxLoad > 1) throw new IllegalArgumentException("maxLoad must be in (0, 1]: " + maxLoad);
+        this.maxLoad = maxLoad;
+        this.missingValue = missingValue;
+        reseed();
+        allocate(IntHashing.tableSizeFor(Math.max(4, (int) Math.ceil(Math.max(1, expectedSize) / (2 * maxLoad)))));
+    }
+
+    public int put(int key, int value) {
+        int slot = find(key);
+        chainLength = 0;
+        failedChain = new int[0];
+        failedChainKeys = new int[0];
+        if (slot >= 0) {
+            int old = values[slot];
+            values[slot] = value;
+            return old;
+        }
+        if (size + 1 > resizeAt) {
+            growCount++;
+            rebuild(tableSize << 1, false, false, 0, 0);
+        }
+        long kicksBefore = totalKicks;
+        recording = true;
+        boolean placed = place(key, value);
+        recording = false;
+        longestChain = (int) Math.max(longestChain, totalKicks - kicksBefore);
+        if (!placed) {
+            failedChain = Arrays.copyOf(chain, chainLength);
+            failedChainKeys = Arrays.copyOf(chainKeys, chainLength);
+            rehashCount++;
+            rebuild(tableSize, true, true, nestlessKey, nestlessValue);
+            chainLength = 0;
+        }
+        lastSlot = find(key);
+        lastProbes = 0;
+        return missingValue;
+    }
+
+    public int get(int key) {
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    public int remove(int key) {
+        int slot = find(key);
+        if (slot < 0) return missingValue;
+        full[slot] = false;
+        size--;
+        return values[slot];
+    }
+
+    public void clear() {
+        Arrays.fill(full, false);
+        size = 0;
+        chainLength = 0;
+        failedChain = new int[0];
+        failedChainKeys = new int[0];
+        lastSlot = -1;
+        lastProbes = 0;
+    }
+
+    // Draws new seeds and re-inserts everything at the current size
+    public void rehash() {
+        rehashCount++;
+        rebuild(tableSize, true, false, 0, 0);
+        chainLength = 0;
+        failedChain = new int[0];
+        failedChainKeys = new int[0];
+    }
+
+    public double maxLoad() { return maxLoad; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int tableSize() { return tableSize; }
+    public int capacity() { return keys.length; }
+    public int maxKicks() { return maxKicks; }
+    public int rehashCount() { return rehashCount; }
+    public int growCount() { return growCount; }
+    public long totalKicks() { return totalKicks; }
+    public int longestChain() { return longestChain; }
+
+    // The last lookup read lastProbes slots and found the key at lastSlot, or -1
+    public int lastSlot() { return lastSlot; }
+    public int lastProbes() { return lastProbes; }
+
+    // Slots the last put wrote in order, and the key written to each: the new key's slot
+    // first, then each evicted key's new home. Empty if the key was already there or the
+    // put ended in a rehash; the walk that gave up is kept apart as the failed chain.
+    public int[] lastChain() { return Arrays.copyOf(chain, chainLength); }
+    public int[] lastChainKeys() { return Arrays.copyOf(chainKeys, chainLength); }
+    public int[] lastFailedChain() { return failedChain.clone(); }
+    public int[] lastFailedChainKeys() { return failedChainKeys.clone(); }
+
+    public boolean isFull(int slot) { return full[slot]; }
+    public int keyAt(int slot) { return keys[slot]; }
+    public int valueAt(int slot) { return values[slot]; }
+    public int tableOf(int slot) { return slot < tableSize ? 0 : 1; }
+    public int slot0(int key) { return hash(key, seed0) & mask; }
+    public int slot1(int key) { return tableSize + (hash(key, seed1) & mask); }
+
+    // The slot the key at this slot would move to if it were kicked out
+    public int alternateSlot(int slot) {
+        int key = keys[slot];
+        return slot < tableSize ? slot1(key) : slot0(key);
+    }
+
+    // ── Lookup and insertion ─────────────────────────────────────
+
+    private int find(int key) {
+        int slot = hash(key, seed0) & mask;
+        lastProbes = 1;
+        if (full[slot] && keys[slot] == key) return lastSlot = slot;
+        slot = tableSize + (hash(key, seed1) & mask);
+        lastProbes = 2;
+        if (full[slot] && keys[slot] == key) return lastSlot = slot;
+        return lastSlot = -1;
+    }
+
+    // Puts key in a free slot of its own, or walks the kick-out chain. Returns false when
+    // the walk gives up, with the key still lacking a slot in nestlessKey/nestlessValue.
+    private boolean place(int key, int value) {
+        int slot = slot0(key);
+        if (!full[slot]) return store(slot, key, value);
+        int other = slot1(key);
+        if (!full[other]) return store(other, key, value);
+
+        int start = slot;
+        int startVisits = 0;
+        for (int kick = 0; kick < maxKicks; kick++) {
+            // A third visit to the first slot means the walk is going round a closed cycle
+            if (slot == start && ++startVisits > 2) break;
+            int evictedKey = keys[slot];
+            int evictedValue = values[slot];
+            keys[slot] = key;
+            values[slot] = value;
+            record(slot, key);
+            totalKicks++;
+            key = evictedKey;
+            value = evictedValue;
+            slot = slot < tableSize ? slot1(key) : slot0(key);
+            if (!full[slot]) return store(slot, key, value);
+        }
+        nestlessKey = key;
+        nestlessValue = value;
+        return false;
+    }
+
+    private boolean store(int slot, int key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        full[slot] = true;
+        size++;
+        record(slot, key);
+        return true;
+    }
+
+    private void record(int slot, int key) {
+        if (recording && chainLength < chain.length) {
+            chain[chainLength] = slot;
+            chainKeys[chainLength++] = key;
+        }
+    }
+
+    // Re-inserts every entry, plus the nestless one if a failed put left one, under new
+    // seeds when asked; doubles the tables after MAX_SEEDINGS failures at one size
+    private void rebuild(int newTableSize, boolean newSeeds, boolean withNestless, int extraKey, int extraValue) {
+        int n = size + (withNestless ? 1 : 0);
+        int[] oldKeys = new int[n];
+        int[] oldValues = new int[n];
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (full[i]) {
+                oldKeys[count] = keys[i];
+                oldValues[count++] = values[i];
+            }
+        }
+        if (withNestless) {
+            oldKeys[count] = extraKey;
+            oldValues[count] = extraValue;
+        }
+
+        int failures = 0;
+        while (true) {
+            if (newSeeds) reseed();
+            allocate(newTableSize);
+            boolean ok = true;
+            for (int i = 0; i < n && ok; i++) ok = place(oldKeys[i], oldValues[i]);
+            if (ok) return;
+            newSeeds = true;
+            rehashCount++;
+            if (++failures == MAX_SEEDINGS) {
+                failures = 0;
+                newTableSize <<= 1;
+                growCount++;
+            }
+        }
+    }
+
+    private void allocate(int newTableSize) {
+        tableSize = newTableSize;
+        mask = newTableSize - 1;
+        keys = new int[2 * newTableSize];
+        values = new int[2 * newTableSize];
+        full = new boolean[2 * newTableSize];
+        size = 0;
+        resizeAt = (int) Math.min(2L * newTableSize, (long) (2L * newTableSize * maxLoad));
+        // Chains past a few log n moves are almost always cycles
+        maxKicks = Math.max(16, 6 * Integer.numberOfTrailingZeros(newTableSize));
+        chain = new int[maxKicks + 2];
+        chainKeys = new int[maxKicks + 2];
+        chainLength = 0;
+    }
+
+    private void reseed() {
+        seedings++;
+        seed0 = hash(seedings, 0x9E3779B9);
+        seed1 = hash(seedings, 0x7F4A7C15);
+    }
+
+    // Murmur3's finalizer over the seeded key: every key bit reaches every slot bit
+    private static int hash(int key, int seed) {
+        int h = key ^ seed;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,196 @@
+package game.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+// The table of java.util.IdentityHashMap (JDK 17), rebuilt slot for slot so it can be
+// inspected. Keys and values alternate in one Object[]: key at an even index, its value
+// right after it. There are no Node objects and no cached hashes. Keys match by ==, and
+// a key's home is System.identityHashCode mixed by * -127 and shifted left one bit, so it
+// always lands on an even index. Collisions step to the next pair, wrapping, until the key
+// or a null turns up. The table doubles once size would pass 2/3 of the pairs. A remove
+// moves later keys of the run back into the hole, as IdentityHashMap.closeDeletion does,
+// so there are no tombstones.
+//
+// Null keys are refused: IdentityHashMap stores them as a private sentinel object, whose
+// identity hash decides where they go, so no copy could put them in the same slot.
+public class IdentityProbeTable {
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private Object[] table;
+    private int size;
+    private int resizes;
+    private int lastProbes;
+    // Key slots moved by the last remove, as from, to pairs
+    private List<int[]> lastMoves = new ArrayList<>();
+
+    public IdentityProbeTable() {
+        table = new Object[2 * DEFAULT_CAPACITY];
+    }
+
+    public static int hash(Object key, int length) {
+        int h = System.identityHashCode(key);
+        return ((h << 1) - (h << 8)) & (length - 1);
+    }
+
+    private static int nextKeyIndex(int i, int length) {
+        return i + 2 < length ? i + 2 : 0;
+    }
+
+    // Slot of the key, or -(slot where it would go) - 1 when absent; lastProbes counts the
+    // key slots read
+    public int probe(Object key) {
+        Object k = Objects.requireNonNull(key);
+        int i = hash(k, table.length);
+        lastProbes = 0;
+        while (true) {
+            lastProbes++;
+            Object item = table[i];
+            if (item == k) return i;
+            if (item == null) return -i - 1;
+            i = nextKeyIndex(i, table.length);
+        }
+    }
+
+    public Object put(Object key, Object value) {
+        while (true) {
+            int i = probe(key);
+            if (i >= 0) {
+                Object old = table[i + 1];
+                table[i + 1] = value;
+                return old;
+            }
+            int s = size + 1;
+            if (s + (s << 1) > table.length && resize()) continue;
+            int slot = -(i + 1);
+            table[slot] = key;
+            table[slot + 1] = value;
+            size = s;
+            return null;
+        }
+    }
+
+    public Object get(Object key) {
+        int i = probe(key);
+        return i >= 0 ? table[i + 1] : null;
+    }
+
+    public boolean containsKey(Object key) {
+        return probe(key) >= 0;
+    }
+
+    public Object remove(Object key) {
+        lastMoves = new ArrayList<>();
+        int i = probe(key);
+        if (i < 0) return null;
+        Object old = table[i + 1];
+        table[i] = null;
+        table[i + 1] = null;
+        size--;
+        closeDeletion(i);
+        return old;
+    }
+
+    // Walks the run after the hole and moves back every key whose home does not lie
+    // between the hole and where it sits
+    private void closeDeletion(int d) {
+        int length = table.length;
+        Object item;
+        for (int i = nextKeyIndex(d, length); (item = table[i]) != null; i = nextKeyIndex(i, length)) {
+            int r = hash(item, length);
+            if ((i < r && (r <= d || d <= i)) || (r <= d && d <= i)) {
+                table[d] = item;
+                table[d + 1] = table[i + 1];
+                table[i] = null;
+                table[i + 1] = null;
+                lastMoves.add(new int[]{i, d});
+                d = i;
+            }
+        }
+    }
+
+    private boolean resize() {
+        Object[] old = table;
+        Object[] next = new Object[old.length * 2];
+        for (int j = 0; j < old.length; j += 2) {
+            Object key = old[j];
+            if (key == null) continue;
+            int i = hash(key, next.length);
+            while (next[i] != null) i = nextKeyIndex(i, next.length);
+            next[i] = key;
+            next[i + 1] = old[j + 1];
+        }
+        table = next;
+        resizes++;
+        return true;
+    }
+
+    // Keeps the table length, as IdentityHashMap.clear does
+    public void clear() {
+        Arrays.fill(table, null);
+        size = 0;
+        lastMoves = new ArrayList<>();
+    }
+
+    public int size() { return size; }
+    public int length() { return table.length; }
+    public int capacity() { return table.length / 2; }
+    public int resizes() { return resizes; }
+    public int lastProbes() { return lastProbes; }
+    public List<int[]> lastMoves() { return new ArrayList<>(lastMoves); }
+    public boolean isEmpty(int pair) { return table[2 * pair] == null; }
+    public Object keyAt(int pair) { return table[2 * pair]; }
+    public Object valueAt(int pair) { return table[2 * pair + 1]; }
+
+    // Home pair of a key in the current table
+    public int home(Object key) {
+        return hash(key, table.length) / 2;
+    }
+
+    // Pairs between the key's home and where it sits, wrapping at the end
+    public int displacement(int pair) {
+        return Math.floorMod(pair - hash(table[2 * pair], table.length) / 2, capacity());
+    }
+
+    // Longest run of occupied pairs, counted around the wrap
+    public int longestRun() {
+        int n = capacity();
+        if (size == n) return n;
+        int longest = 0;
+        int run = 0;
+        int start = 0;
+        while (!isEmpty(start)) start++;
+        for (int i = 1; i <= n; i++) {
+            if (isEmpty((start + i) % n)) {
+                run = 0;
+            } else {
+                longest = Math.max(longest, ++run);
+            }
+        }
+        return longest;
+    }
+
+    // Key slots read by a successful get, averaged over the keys
+    public double averageHitProbes() {
+        if (size == 0) return 0;
+        long total = 0;
+        for (int p = 0; p < capacity(); p++) {
+            if (!isEmpty(p)) total += displacement(p) + 1;
+        }
+        return (double) total / size;
+    }
+
+    // Key slots read by a miss, averaged over every possible home pair
+    public double averageMissProbes() {
+        int n = capacity();
+        long total = 0;
+        for (int home = 0; home < n; home++) {
+            int probes = 1;
+            while (!isEmpty((home + probes - 1) % n)) probes++;
+            total += probes;
+        }
+        return (double) total / n;
+    }
+}
@@ -0,0 +1,159 @@
+package game.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// The table layout of the JDK's ImmutableCollections.SetN and MapN (what Set.of and Map.of
+// return from three elements and two entries up), rebuilt slot for slot so it can be
+// inspected. SetN keeps its elements in an Object[] of 2n slots; MapN keeps key, value
+// pairs interleaved in an Object[] of 4n slots, so both are exactly half full. A key's
+// home is floorMod(hashCode, buckets), and collisions probe linearly to the next bucket,
+// wrapping at the end, until the key or an empty bucket turns up. There are no nodes, no
+// cached hashes, no resizing and no tombstones: the table is built once, in argument order.
+//
+// Since JDK 11 the per-JVM SALT no longer touches the probe start. It picks where
+// iteration starts and which way it walks, so callers cannot come to depend on an order.
+// iterationOrder replays that walk from a given start; the JDK reads the bucket after the
+// start first.
+public class ImmutableProbeTable {
+    private final Object[] table;
+    // 1 for SetN, 2 for MapN, where a bucket is a key slot followed by its value slot
+    private final int stride;
+    private final int size;
+    private int lastProbes;
+
+    private ImmutableProbeTable(Object[] table, int stride, int size) {
+        this.table = table;
+        this.stride = stride;
+        this.size = size;
+    }
+
+    public static ImmutableProbeTable setOf(Object... elements) {
+        ImmutableProbeTable set = new ImmutableProbeTable(new Object[2 * elements.length], 1, elements.length);
+        for (Object e : elements) {
+            int idx = set.probe(Objects.requireNonNull(e));
+            if (idx >= 0) throw new IllegalArgumentException("duplicate element: " + e);
+            set.table[-(idx + 1)] = e;
+        }
+        return set;
+    }
+
+    public static ImmutableProbeTable mapOf(Object[] keys, Object[] values) {
+        if (keys.length != values.length) throw new IllegalArgumentException("keys and values differ in length");
+        ImmutableProbeTable map = new ImmutableProbeTable(new Object[4 * keys.length], 2, keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            int idx = map.probe(Objects.requireNonNull(keys[i]));
+            if (idx >= 0) throw new IllegalArgumentException("duplicate key: " + keys[i]);
+            int slot = -(idx + 1);
+            map.table[slot] = keys[i];
+            map.table[slot + 1] = Objects.requireNonNull(values[i]);
+        }
+        return map;
+    }
+
+    // The real MapN (or Map1/empty) for a list of entries, to set beside a mirror. Map.ofEntries
+    // takes an array, and a generic one can only be made raw.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <K, V> Map<K, V> jdkMapOf(List<Map.Entry<K, V>> entries) {
+        return Map.ofEntries(entries.toArray(new Map.Entry[0]));
+    }
+
+    // Slot of the key, or -(slot where it would go) - 1 when absent, as SetN.probe and
+    // MapN.probe report it; lastProbes counts the buckets read
+    public int probe(Object key) {
+        int idx = home(key) * stride;
+        lastProbes = 0;
+        while (true) {
+            lastProbes++;
+            Object k = table[idx];
+            if (k == null) return -idx - 1;
+            if (key.equals(k)) return idx;
+            idx += stride;
+            if (idx == table.length) idx = 0;
+        }
+    }
+
+    public boolean contains(Object key) {
+        return table.length > 0 && probe(key) >= 0;
+    }
+
+    public Object get(Object key) {
+        if (table.length == 0) return null;
+        int idx = probe(key);
+        return idx >= 0 && stride == 2 ? table[idx + 1] : null;
+    }
+
+    public int home(Object key) {
+        return Math.floorMod(key.hashCode(), buckets());
+    }
+
+    public boolean isMap() { return stride == 2; }
+    public int size() { return size; }
+    public int buckets() { return table.length / stride; }
+    public int slots() { return table.length; }
+    public int lastProbes() { return lastProbes; }
+    public boolean isEmpty(int bucket) { return table[bucket * stride] == null; }
+    public Object keyAt(int bucket) { return table[bucket * stride]; }
+    public Object valueAt(int bucket) { return stride == 2 ? table[bucket * stride + 1] : null; }
+
+    // Buckets between the key's home and where it sits, wrapping at the end
+    public int displacement(int bucket) {
+        return Math.floorMod(bucket - home(keyAt(bucket)), buckets());
+    }
+
+    // Longest run of occupied buckets, counted around the wrap
+    public int longestRun() {
+        int n = buckets();
+        if (size == n) return n;
+        int longest = 0;
+        int run = 0;
+        int start = 0;
+        while (!isEmpty(start)) start++;
+        for (int i = 1; i <= n; i++) {
+            if (isEmpty((start + i) % n)) {
+                run = 0;
+            } else {
+                longest = Math.max(longest, ++run);
+            }
+        }
+        return longest;
+    }
+
+    // Buckets read by a successful lookup, averaged over the keys
+    public double averageHitProbes() {
+        if (size == 0) return 0;
+        long total = 0;
+        for (int b = 0; b < buckets(); b++) {
+            if (!isEmpty(b)) total += displacement(b) + 1;
+        }
+        return (double) total / size;
+    }
+
+    // Buckets read by a miss, averaged over every possible home bucket
+    public double averageMissProbes() {
+        int n = buckets();
+        if (n == 0) return 0;
+        long total = 0;
+        for (int home = 0; home < n; home++) {
+            int probes = 1;
+            while (!isEmpty((home + probes - 1) % n)) probes++;
+            total += probes;
+        }
+        return (double) total / n;
+    }
+
+    // Keys in the order the JDK iterator would return them when the SALT put its start at
+    // this bucket; ascending is the JDK's REVERSE flag
+    public List<Object> iterationOrder(int startBucket, boolean ascending) {
+        List<Object> order = new ArrayList<>(size);
+        int n = buckets();
+        int bucket = startBucket;
+        while (order.size() < size) {
+            bucket = ascending ? (bucket + 1) % n : (bucket - 1 + n) % n;
+            if (!isEmpty(bucket)) order.add(keyAt(bucket));
+        }
+        return order;
+    }
+}
@@ -0,0 +1,88 @@
+package game.collections;
+
+import java.util.NoSuchElementException;
+
+public class IntArrayDeque {
+    private static final int MIN_CAPACITY = 16;
+
+    // Power-of-two circular buffer; head is the first element, tail the next free slot
+    private int[] elements;
+    private int head;
+    private int tail;
+    private int size;
+
+    public IntArrayDeque() {
+        this(MIN_CAPACITY);
+    }
+
+    public IntArrayDeque(int expectedSize) {
+        elements = new int[IntHashing.tableSizeFor(Math.max(MIN_CAPACITY, expectedSize))];
+    }
+
+    public void addFirst(int value) {
+        if (size == elements.length) doubleCapacity();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        size++;
+    }
+
+    public void addLast(int value) {
+        if (size == elements.length) doubleCapacity();
+        elements[tail] = value;
+        tail = (tail + 1) & (elements.length - 1);
+        size++;
+    }
+
+    public int removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    public int removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        tail = (tail - 1) & (elements.length - 1);
+        size--;
+        return elements[tail];
+    }
+
+    public int peekFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return elements[head];
+    }
+
+    public int peekLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return elements[(tail - 1) & (elements.length - 1)];
+    }
+
+    public boolean contains(int value) {
+        int mask = elements.length - 1;
+        for (int i = 0, idx = head; i < size; i++, idx = (idx + 1) & mask) {
+            if (elements[idx] == value) return true;
+        }
+        return false;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int capacity() { return elements.length; }
+
+    public void clear() {
+        head = 0;
+        tail = 0;
+        size = 0;
+    }
+
+    private void doubleCapacity() {
+        int[] grown = new int[elements.length << 1];
+        int firstPart = elements.length - head;
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, head);
+        elements = grown;
+        head = 0;
+        tail = size;
+    }
+}
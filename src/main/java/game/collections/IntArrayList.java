@@ -0,0 +1,93 @@
+package game.collections;
+
+import java.util.Arrays;
+
+public class IntArrayList {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        elements = new int[initialCapacity];
+    }
+
+    public void add(int value) {
+        if (size == elements.length) grow(size + 1);
+        elements[size++] = value;
+    }
+
+    public void add(int index, int value) {
+        if (index < 0 || index > size) throw outOfBounds(index);
+        if (size == elements.length) grow(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) throw outOfBounds(index);
+        return elements[index];
+    }
+
+    public int set(int index, int value) {
+        if (index < 0 || index >= size) throw outOfBounds(index);
+        int old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    public int removeAt(int index) {
+        if (index < 0 || index >= size) throw outOfBounds(index);
+        int old = elements[index];
+        int moved = size - index - 1;
+        if (moved > 0) System.arraycopy(elements, index + 1, elements, index, moved);
+        size--;
+        return old;
+    }
+
+    public int removeLast() {
+        if (size == 0) throw outOfBounds(-1);
+        return elements[--size];
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) { return indexOf(value) >= 0; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int capacity() { return elements.length; }
+    public void clear() { size = 0; }
+
+    public void trimToSize() {
+        if (size < elements.length) elements = Arrays.copyOf(elements, size);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    // Same 1.5x growth policy as java.util.ArrayList
+    private void grow(int minCapacity) {
+        int oldCapacity = elements.length;
+        int newCapacity = Math.max(minCapacity, oldCapacity + (oldCapacity >> 1));
+        if (newCapacity < DEFAULT_CAPACITY) newCapacity = DEFAULT_CAPACITY;
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    private IndexOutOfBoundsException outOfBounds(int index) {
+        return new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
@@ -0,0 +1,128 @@
+package game.collections;
+
+import java.util.Arrays;
+
+public class IntHashSet {
+    private static final double LOAD_FACTOR = 0.6;
+
+    // Open addressing with linear probing; 0 marks a free slot, so key 0 is tracked separately
+    private int[] keys;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+    private int resizeAt;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    public IntHashSet(int expectedSize) {
+        allocate(IntHashing.capacityFor(expectedSize, LOAD_FACTOR));
+    }
+
+    public boolean add(int key) {
+        if (key == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int idx = IntHashing.mix(key) & mask;
+        while (keys[idx] != 0) {
+            if (keys[idx] == key) return false;
+            idx = (idx + 1) & mask;
+        }
+        keys[idx] = key;
+        if (++size > resizeAt) rehash(keys.length << 1);
+        return true;
+    }
+
+    public boolean contains(int key) {
+        if (key == 0) return containsZero;
+        int idx = IntHashing.mix(key) & mask;
+        int k;
+        while ((k = keys[idx]) != 0) {
+            if (k == key) return true;
+            idx = (idx + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean remove(int key) {
+        if (key == 0) {
+            if (!containsZero) return false;
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int idx = IntHashing.mix(key) & mask;
+        int k;
+        while ((k = keys[idx]) != 0) {
+            if (k == key) {
+                shiftKeys(idx);
+                size--;
+                return true;
+            }
+            idx = (idx + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int capacity() { return keys.length; }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    public int[] toArray() {
+        int[] out = new int[size];
+        int n = 0;
+        if (containsZero) out[n++] = 0;
+        for (int k : keys) {
+            if (k != 0) out[n++] = k;
+        }
+        return out;
+    }
+
+    // Backward-shift deletion keeps probe chains intact without tombstones
+    private void shiftKeys(int pos) {
+        int last;
+        int slot;
+        int k;
+        while (true) {
+            last = pos;
+            pos = (pos + 1) & mask;
+            while (true) {
+                if ((k = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                slot = IntHashing.mix(k) & mask;
+                if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) break;
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = k;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int newCapacity) {
+        int[] old = keys;
+        allocate(newCapacity);
+        for (int k : old) {
+            if (k == 0) continue;
+            int idx = IntHashing.mix(k) & mask;
+            while (keys[idx] != 0) idx = (idx + 1) & mask;
+            keys[idx] = k;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package game.collections;
+
+final class IntHashing {
+    private IntHashing() {}
+
+    // Fibonacci multiply plus fold so sequential keys spread across a power-of-two table
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // 64-bit variant: the fold brings the high half's entropy down to the masked low bits
+    static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    static int tableSizeFor(int minCapacity) {
+        int n = Integer.highestOneBit(Math.max(2, minCapacity - 1)) << 1;
+        if (n <= 0) throw new IllegalArgumentException("Capacity too large: " + minCapacity);
+        return n;
+    }
+
+    // Smallest power-of-two table holding expectedSize keys under loadFactor
+    static int capacityFor(int expectedSize, double loadFactor) {
+        return tableSizeFor((int) Math.ceil(Math.max(1, expectedSize) / loadFactor) + 1);
+    }
+}
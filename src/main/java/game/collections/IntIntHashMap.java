@@ -0,0 +1,152 @@
+package game.collections;
+
+import java.util.Arrays;
+
+public class IntIntHashMap {
+    private static final double LOAD_FACTOR = 0.6;
+
+    // Open addressing with linear probing over parallel key/value arrays; key 0 marks a
+    // free slot, so a mapping for 0 lives in zeroValue instead
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+    private boolean hasZeroKey;
+    private int zeroValue;
+    private final int missingValue;
+
+    public IntIntHashMap() {
+        this(16, 0);
+    }
+
+    public IntIntHashMap(int expectedSize) {
+        this(expectedSize, 0);
+    }
+
+    // missingValue is what get/put/remove return when the key has no mapping
+    public IntIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(IntHashing.capacityFor(expectedSize, LOAD_FACTOR));
+    }
+
+    public int put(int key, int value) {
+        if (key == 0) {
+            int old = hasZeroKey ? zeroValue : missingValue;
+            if (!hasZeroKey) size++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return old;
+        }
+        int idx = IntHashing.mix(key) & mask;
+        while (keys[idx] != 0) {
+            if (keys[idx] == key) {
+                int old = values[idx];
+                values[idx] = value;
+                return old;
+            }
+            idx = (idx + 1) & mask;
+        }
+        keys[idx] = key;
+        values[idx] = value;
+        if (++size > resizeAt) rehash(keys.length << 1);
+        return missingValue;
+    }
+
+    public int get(int key) {
+        if (key == 0) return hasZeroKey ? zeroValue : missingValue;
+        int idx = IntHashing.mix(key) & mask;
+        int k;
+        while ((k = keys[idx]) != 0) {
+            if (k == key) return values[idx];
+            idx = (idx + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == 0) return hasZeroKey;
+        int idx = IntHashing.mix(key) & mask;
+        int k;
+        while ((k = keys[idx]) != 0) {
+            if (k == key) return true;
+            idx = (idx + 1) & mask;
+        }
+        return false;
+    }
+
+    public int remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) return missingValue;
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        int idx = IntHashing.mix(key) & mask;
+        int k;
+        while ((k = keys[idx]) != 0) {
+            if (k == key) {
+                int old = values[idx];
+                shiftKeys(idx);
+                size--;
+                return old;
+            }
+            idx = (idx + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int capacity() { return keys.length; }
+    public int getMissingValue() { return missingValue; }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    // Backward-shift deletion keeps probe chains intact without tombstones
+    private void shiftKeys(int pos) {
+        int last;
+        int slot;
+        int k;
+        while (true) {
+            last = pos;
+            pos = (pos + 1) & mask;
+            while (true) {
+                if ((k = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                slot = IntHashing.mix(k) & mask;
+                if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) break;
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = k;
+            values[last] = values[pos];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int k = oldKeys[i];
+            if (k == 0) continue;
+            int idx = IntHashing.mix(k) & mask;
+            while (keys[idx] != 0) idx = (idx + 1) & mask;
+            keys[idx] = k;
+            values[idx] = oldValues[i];
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package game.collections;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Lock-free skip list map from int to int, in the Harris / Herlihy-Shavit style: every
+// link is an AtomicMarkableReference and every change to the structure is one CAS.
+//
+// put links the new node at level 0 first (that CAS is the linearization point) and then
+// splices it in level by level going up; a put on a live key swaps the value with one CAS.
+// remove first claims the node by setting a removed bit next to the value (the
+// linearization point, and the word put's in-place update races against), then marks the
+// victim's links from the top down, and find() unlinks marked nodes it walks past. A put
+// that meets a claimed node links a fresh one in front of it. A link CAS that loses a race
+// is counted against its level and the operation re-reads the neighbourhood and tries again.
+//
+// java.util.concurrent.ConcurrentSkipListMap does the same with marker nodes instead of
+// marked references and a separate index layer, and does not expose its retries; this
+// one exists so they can be counted and watched.
+public class LockFreeSkipListIntMap {
+    public static final int MAX_LEVEL = 16;
+
+    // Node.state: the value in the low 32 bits, REMOVED once a remove has claimed the node
+    private static final long REMOVED = 1L << 32;
+    private static final long VALUE_BITS = 0xFFFF_FFFFL;
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Node.class, "state", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Hook for watching the CAS traffic. beforeCas runs after the expected value was read,
+    // so whatever it spends there widens the window in which another thread can win.
+    public interface CasObserver {
+        void beforeCas(CasKind kind, int key, int level);
+        void afterCas(CasKind kind, int key, int level, boolean success);
+    }
+
+    public enum CasKind { LINK, MARK, UNLINK }
+
+    public interface NodeVisitor {
+        void accept(int key, int value, int levels, boolean deleted);
+    }
+
+    private final Node head = new Node(0, 0, MAX_LEVEL);
+    private final int missingValue;
+    private final LongAdder size = new LongAdder();
+    private final LongAdder[] casAttempts = new LongAdder[MAX_LEVEL];
+    private final LongAdder[] casFailures = new LongAdder[MAX_LEVEL];
+    private final LongAdder findRestarts = new LongAdder();
+    private volatile CasObserver observer;
+
+    public LockFreeSkipListIntMap() {
+        this(0);
+    }
+
+    // missingValue is what get/put/remove return when the key has no mapping
+    public LockFreeSkipListIntMap(int missingValue) {
+        this.missingValue = missingValue;
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            casAttempts[i] = new LongAdder();
+            casFailures[i] = new LongAdder();
+        }
+    }
+
+    public int put(int key, int value) {
+        int levels = randomLevels();
+        Node[] preds = new Node[MAX_LEVEL];
+        Node[] succs = new Node[MAX_LEVEL];
+        while (true) {
+            if (find(key, preds, succs)) {
+                Node existing = succs[0];
+                long state = existing.state;
+                while ((state & REMOVED) == 0) {
+                    if (STATE.compareAndSet(existing, state, value & VALUE_BITS)) return (int) state;
+                    state = existing.state;
+                }
+                // Claimed by a remove but still linked: the new node goes in front of it,
+                // and find() drops the old one once it is marked
+            }
+            Node node = new Node(key, value, levels);
+            for (int level = 0; level < levels; level++) {
+                node.next[level].set(succs[level], false);
+            }
+            if (!cas(CasKind.LINK, key, 0, preds[0].next[0], succs[0], node, false, false)) continue;
+
+            for (int level = 1; level < levels; level++) {
+                while (true) {
+                    Node succ = succs[level];
+                    AtomicMarkableReference<Node> ref = node.next[level];
+                    // A remove that already started marking the new node wins; stop linking it
+                    if (ref.getReference() != succ && !ref.compareAndSet(ref.getReference(), succ, false, false)) {
+                        size.increment();
+                        return missingValue;
+                    }
+                    if (cas(CasKind.LINK, key, level, preds[level].next[level], succ, node, false, false)) break;
+                    if (!find(key, preds, succs)) {
+                        size.increment();
+                        return missingValue;
+                    }
+                }
+            }
+            size.increment();
+            return missingValue;
+        }
+    }
+
+    // Wait-free: steps over marked nodes without unlinking them
+    public int get(int key) {
+        Node node = findNode(key);
+        if (node == null) return missingValue;
+        long state = node.state;
+        return (state & REMOVED) == 0 ? (int) state : missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        Node node = findNode(key);
+        return node != null && (node.state & REMOVED) == 0;
+    }
+
+    public int remove(int key) {
+        Node[] preds = new Node[MAX_LEVEL];
+        Node[] succs = new Node[MAX_LEVEL];
+        if (!find(key, preds, succs)) return missingValue;
+        Node victim = succs[0];
+        long state;
+        do {
+            state = victim.state;
+            // Another remove claimed it first; a newer node for the key would have come before it
+            if ((state & REMOVED) != 0) return missingValue;
+        } while (!STATE.compareAndSet(victim, state, state | REMOVED));
+        size.decrement();
+
+        // Only the claiming thread marks, so these loops only retry when a neighbour's link moved
+        boolean[] marked = {false};
+        for (int level = victim.levels() - 1; level >= 0; level--) {
+            Node succ = victim.next[level].get(marked);
+            while (!marked[0]) {
+                cas(CasKind.MARK, key, level, victim.next[level], succ, succ, false, true);
+                succ = victim.next[level].get(marked);
+            }
+        }
+        // Unlinks the victim at every level
+        find(key, preds, succs);
+        return (int) state;
+    }
+
+    // Fills preds/succs with the last node below key and the first node at or above it on
+    // every level, unlinking marked nodes on the way. Restarts from the head when an
+    // unlink loses its race, since pred may itself have been removed.
+    private boolean find(int key, Node[] preds, Node[] succs) {
+        boolean[] marked = {false};
+        retry:
+        while (true) {
+            Node pred = head;
+            Node curr = null;
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                curr = pred.next[level].getReference();
+                while (curr != null) {
+                    Node succ = curr.next[level].get(marked);
+                    while (marked[0]) {
+                        if (!cas(CasKind.UNLINK, curr.key, level, pred.next[level], curr, succ, false, false)) {
+                            findRestarts.increment();
+                            continue retry;
+                        }
+                        curr = succ;
+                        if (curr == null) break;
+                        succ = curr.next[level].get(marked);
+                    }
+                    if (curr == null || curr.key >= key) break;
+                    pred = curr;
+                    curr = succ;
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return curr != null && curr.key == key;
+        }
+    }
+
+    private Node findNode(int key) {
+        boolean[] marked = {false};
+        Node pred = head;
+        Node curr = null;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            curr = pred.next[level].getReference();
+            while (curr != null) {
+                Node succ = curr.next[level].get(marked);
+                while (marked[0] && succ != null) {
+                    curr = succ;
+                    succ = curr.next[level].get(marked);
+                }
+                if (marked[0]) {
+                    curr = null;
+                    break;
+                }
+                if (curr.key >= key) break;
+                pred = curr;
+                curr = succ;
+            }
+        }
+        return curr != null && curr.key == key ? curr : null;
+    }
+
+    private boolean cas(CasKind kind, int key, int level, AtomicMarkableReference<Node> ref,
+                        Node expected, Node update, boolean expectedMark, boolean newMark) {
+        CasObserver watcher = observer;
+        if (watcher != null) watcher.beforeCas(kind, key, level);
+        boolean success = ref.compareAndSet(expected, update, expectedMark, newMark);
+        casAttempts[level].increment();
+        if (!success) casFailures[level].increment();
+        if (watcher != null) watcher.afterCas(kind, key, level, success);
+        return success;
+    }
+
+    // Geometric with p = 1/2, as in the original skip list paper
+    private static int randomLevels() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        int levels = 1 + Integer.numberOfTrailingZeros(bits | (1 << (MAX_LEVEL - 1)));
+        return Math.min(levels, MAX_LEVEL);
+    }
+
+    // ── Introspection ────────────────────────────────────────────
+
+    public int size() { return size.intValue(); }
+    public boolean isEmpty() { return size.sum() == 0; }
+    public int getMissingValue() { return missingValue; }
+    public void setObserver(CasObserver observer) { this.observer = observer; }
+
+    public long casAttempts(int level) { return casAttempts[level].sum(); }
+    public long casFailures(int level) { return casFailures[level].sum(); }
+    public long findRestarts() { return findRestarts.sum(); }
+
+    public long totalCasAttempts() {
+        long total = 0;
+        for (LongAdder adder : casAttempts) total += adder.sum();
+        return total;
+    }
+
+    public long totalCasFailures() {
+        long total = 0;
+        for (LongAdder adder : casFailures) total += adder.sum();
+        return total;
+    }
+
+    public void resetCounters() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            casAttempts[i].reset();
+            casFailures[i].reset();
+        }
+        findRestarts.reset();
+    }
+
+    // Highest level any node is linked on, plus one
+    public int height() {
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            if (head.next[level].getReference() != null) return level + 1;
+        }
+        return 0;
+    }
+
+    // Every node reachable on level 0 in key order, including ones marked but not yet unlinked
+    public void forEachNode(NodeVisitor visitor) {
+        boolean[] marked = {false};
+        Node node = head.next[0].getReference();
+        while (node != null) {
+            Node next = node.next[0].get(marked);
+            long state = node.state;
+            visitor.accept(node.key, (int) state, node.levels(), marked[0] || (state & REMOVED) != 0);
+            node = next;
+        }
+    }
+
+    // Keys currently linked on one level; during an insert a node shows up on its lower
+    // levels before the upper ones
+    public int[] keysAtLevel(int level) {
+        int count = 0;
+        for (Node n = head.next[level].getReference(); n != null; n = n.next[level].getReference()) count++;
+        int[] keys = new int[count];
+        int i = 0;
+        for (Node n = head.next[level].getReference(); n != null && i < count; n = n.next[level].getReference()) {
+            keys[i++] = n.key;
+        }
+        return i == count ? keys : java.util.Arrays.copyOf(keys, i);
+    }
+
+    // Unlinks everything at once; not atomic with respect to concurrent writers
+    public void clear() {
+        for (int level = 0; level < MAX_LEVEL; level++) head.next[level].set(null, false);
+        size.reset();
+    }
+
+    // Estimated heap bytes: node header, the next array and one AtomicMarkableReference plus
+    // its Pair object per level
+    public long memoryBytes() {
+        long[] bytes = {16 + 16L * MAX_LEVEL + 32L * MAX_LEVEL + 48};
+        forEachNode((k, v, levels, deleted) -> bytes[0] += 32 + 16 + 4L * levels + 40L * levels);
+        return bytes[0];
+    }
+
+    private static final class Node {
+        final int key;
+        volatile long state;
+        final AtomicMarkableReference<Node>[] next;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Node(int key, int value, int levels) {
+            this.key = key;
+            this.state = value & VALUE_BITS;
+            this.next = new AtomicMarkableReference[levels];
+            for (int i = 0; i < levels; i++) next[i] = new AtomicMarkableReference<>(null, false);
+        }
+
+        int levels() { return next.length; }
+    }
+}
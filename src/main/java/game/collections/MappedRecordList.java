@@ -0,0 +1,173 @@
+package game.collections;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+// Append-only list of fixed-size records stored in a file and read through memory-mapped
+// segments. Records live in the OS page cache rather than the Java heap, so the list can
+// be many times larger than -Xmx; the heap only holds one MappedByteBuffer per segment.
+//
+// A record is recordBytes long and addressed as longs (field 0, 1, ...). Segments hold a
+// whole number of records, so no record straddles two mappings.
+public class MappedRecordList implements AutoCloseable {
+    public static final int PAGE_BYTES = 4096;
+    private static final int DEFAULT_SEGMENT_BYTES = 64 << 20;
+
+    private final FileChannel channel;
+    private final int recordBytes;
+    private final int recordsPerSegment;
+    private final long segmentBytes;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private long size;
+
+    public MappedRecordList(Path file, int recordBytes) {
+        this(file, recordBytes, DEFAULT_SEGMENT_BYTES);
+    }
+
+    // Any existing file is truncated. segmentBytes is rounded down to whole records.
+    public MappedRecordList(Path file, int recordBytes, int segmentBytes) {
+        if (recordBytes < 8 || recordBytes % 8 != 0) {
+            throw new IllegalArgumentException("Record size must be a positive multiple of 8: " + recordBytes);
+        }
+        if (segmentBytes < recordBytes) {
+            throw new IllegalArgumentException("Segment smaller than one record: " + segmentBytes);
+        }
+        this.recordBytes = recordBytes;
+        this.recordsPerSegment = segmentBytes / recordBytes;
+        this.segmentBytes = (long) recordsPerSegment * recordBytes;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Appends a zeroed record with field 0 set; returns its index
+    public long add(long field0) {
+        long index = appendRecord();
+        setLong(index, 0, field0);
+        return index;
+    }
+
+    // Appends a zeroed record, mapping a new segment when the last one is full
+    public long appendRecord() {
+        checkOpen();
+        if (size == (long) segments.size() * recordsPerSegment) mapSegment();
+        return size++;
+    }
+
+    public long getLong(long index, int field) {
+        checkIndex(index, field);
+        return segments.get((int) (index / recordsPerSegment))
+                .getLong((int) (index % recordsPerSegment) * recordBytes + field * 8);
+    }
+
+    public void setLong(long index, int field, long value) {
+        checkIndex(index, field);
+        segments.get((int) (index / recordsPerSegment))
+                .putLong((int) (index % recordsPerSegment) * recordBytes + field * 8, value);
+    }
+
+    // Sequential scan of one field, walking each mapping directly instead of per-index lookups
+    public void forEachLong(int field, LongConsumer action) {
+        checkOpen();
+        checkField(field);
+        long remaining = size;
+        for (MappedByteBuffer segment : segments) {
+            int records = (int) Math.min(remaining, recordsPerSegment);
+            for (int i = 0, offset = field * 8; i < records; i++, offset += recordBytes) {
+                action.accept(segment.getLong(offset));
+            }
+            remaining -= records;
+        }
+    }
+
+    public long size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int recordBytes() { return recordBytes; }
+    public int fieldsPerRecord() { return recordBytes / 8; }
+    public int recordsPerSegment() { return recordsPerSegment; }
+    public int segmentCount() { return segments.size(); }
+    public boolean isClosed() { return !channel.isOpen(); }
+
+    // Bytes mapped so far, including the unused tail of the last segment
+    public long mappedBytes() { return segments.size() * segmentBytes; }
+    public long dataBytes() { return size * recordBytes; }
+
+    // Records are laid out back to back, so file position follows from the index alone
+    public long fileOffset(long index) { return index * recordBytes; }
+    public long pageOf(long index) { return fileOffset(index) / PAGE_BYTES; }
+
+    // Asks the OS (mincore on Linux) whether a mapped page is in physical memory. Only a
+    // hint: the answer can change before the caller acts on it.
+    public boolean isPageResident(long page) {
+        checkOpen();
+        long offset = page * PAGE_BYTES;
+        int segment = (int) (offset / segmentBytes);
+        if (segment >= segments.size()) return false;
+        int start = (int) (offset % segmentBytes);
+        int length = (int) Math.min(PAGE_BYTES, segmentBytes - start);
+        return segments.get(segment).slice(start, length).isLoaded();
+    }
+
+    public void force() {
+        checkOpen();
+        for (MappedByteBuffer segment : segments) segment.force();
+    }
+
+    // Trims the file to the records actually written and releases the channel. The mapped
+    // memory itself is returned when the GC collects the buffers; JDK 17 has no public unmap.
+    @Override
+    public void close() {
+        if (!channel.isOpen()) return;
+        segments.clear();
+        try {
+            try {
+                channel.truncate(dataBytes());
+            } catch (IOException e) {
+                // Windows refuses to shrink a file that is still mapped; the tail stays zeroed
+            }
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void mapSegment() {
+        try {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE,
+                    segments.size() * segmentBytes, segmentBytes);
+            segment.order(ByteOrder.nativeOrder());
+            segments.add(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void checkIndex(long index, int field) {
+        checkOpen();
+        checkField(field);
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkField(int field) {
+        if (field < 0 || field * 8 >= recordBytes) {
+            throw new IndexOutOfBoundsException("Field: " + field + ", Fields: " + recordBytes / 8);
+        }
+    }
+
+    private void checkOpen() {
+        if (!channel.isOpen()) throw new IllegalStateException("MappedRecordList is closed");
+    }
+}
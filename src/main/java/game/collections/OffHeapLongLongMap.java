@@ -0,0 +1,235 @@
+package game.collections;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// long -> long open-addressing map whose slots live outside the Java heap: the GC sees one
+// small object per chunk however many entries the map holds, and never scans the entries.
+//
+// Slots are 16 bytes (key, value) in direct ByteBuffers rather than an FFM MemorySegment:
+// java.lang.foreign is still an incubator module in JDK 17. Chunking keeps each buffer
+// under the 2 GB int-index limit, so tables of tens of millions of entries still fit.
+public class OffHeapLongLongMap implements AutoCloseable {
+    public static final int SLOT_BYTES = 16;
+    private static final double LOAD_FACTOR = 0.6;
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_SLOTS = 1 << CHUNK_SHIFT;
+
+    // Linear probing as in IntIntHashMap; key 0 marks a free slot, so a mapping for 0 lives
+    // in zeroValue instead
+    private ByteBuffer[] chunks;
+    private long mask;
+    private long capacity;
+    private long resizeAt;
+    private int size;
+    private boolean hasZeroKey;
+    private long zeroValue;
+    private final long missingValue;
+
+    public OffHeapLongLongMap() {
+        this(16, 0L);
+    }
+
+    public OffHeapLongLongMap(int expectedSize) {
+        this(expectedSize, 0L);
+    }
+
+    // missingValue is what get/put/remove return when the key has no mapping
+    public OffHeapLongLongMap(int expectedSize, long missingValue) {
+        this.missingValue = missingValue;
+        allocate(IntHashing.capacityFor(expectedSize, LOAD_FACTOR));
+    }
+
+    public long put(long key, long value) {
+        checkOpen();
+        if (key == 0) {
+            long old = hasZeroKey ? zeroValue : missingValue;
+            if (!hasZeroKey) size++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return old;
+        }
+        long idx = IntHashing.mix(key) & mask;
+        long k;
+        while ((k = keyAt(idx)) != 0) {
+            if (k == key) {
+                long old = valueAt(idx);
+                setValue(idx, value);
+                return old;
+            }
+            idx = (idx + 1) & mask;
+        }
+        setKey(idx, key);
+        setValue(idx, value);
+        if (++size > resizeAt) rehash(capacity << 1);
+        return missingValue;
+    }
+
+    public long get(long key) {
+        checkOpen();
+        if (key == 0) return hasZeroKey ? zeroValue : missingValue;
+        long idx = IntHashing.mix(key) & mask;
+        long k;
+        while ((k = keyAt(idx)) != 0) {
+            if (k == key) return valueAt(idx);
+            idx = (idx + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public boolean containsKey(long key) {
+        checkOpen();
+        if (key == 0) return hasZeroKey;
+        long idx = IntHashing.mix(key) & mask;
+        long k;
+        while ((k = keyAt(idx)) != 0) {
+            if (k == key) return true;
+            idx = (idx + 1) & mask;
+        }
+        return false;
+    }
+
+    public long remove(long key) {
+        checkOpen();
+        if (key == 0) {
+            if (!hasZeroKey) return missingValue;
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+        long idx = IntHashing.mix(key) & mask;
+        long k;
+        while ((k = keyAt(idx)) != 0) {
+            if (k == key) {
+                long old = valueAt(idx);
+                shiftKeys(idx);
+                size--;
+                return old;
+            }
+            idx = (idx + 1) & mask;
+        }
+        return missingValue;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public long capacity() { return capacity; }
+    public long getMissingValue() { return missingValue; }
+    public int chunkCount() { return chunks == null ? 0 : chunks.length; }
+    public boolean isClosed() { return chunks == null; }
+
+    // Native memory held by the slot table; the on-heap side is this object plus one
+    // ByteBuffer header per chunk
+    public long offHeapBytes() {
+        return chunks == null ? 0 : capacity * SLOT_BYTES;
+    }
+
+    public long onHeapBytes() {
+        return onHeapBytes(chunkCount());
+    }
+
+    // What a map grown to expectedSize entries would hold, for sizing views without building one
+    public static long offHeapBytesFor(int expectedSize) {
+        return (long) IntHashing.capacityFor(expectedSize, LOAD_FACTOR) * SLOT_BYTES;
+    }
+
+    public static long onHeapBytesFor(int expectedSize) {
+        long capacity = IntHashing.capacityFor(expectedSize, LOAD_FACTOR);
+        return onHeapBytes((int) Math.max(1, capacity / CHUNK_SLOTS));
+    }
+
+    // Map object, chunk array header, and a reference plus DirectByteBuffer per chunk
+    private static long onHeapBytes(int chunks) {
+        return 56 + 16 + (long) chunks * (4 + 64);
+    }
+
+    public void clear() {
+        checkOpen();
+        for (ByteBuffer chunk : chunks) {
+            for (int offset = 0; offset < chunk.capacity(); offset += SLOT_BYTES) chunk.putLong(offset, 0L);
+        }
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    // Drops the buffers; their native memory goes back once the GC collects the
+    // ByteBuffer objects, since direct buffers have no public free in JDK 17
+    @Override
+    public void close() {
+        chunks = null;
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    // ── Slot access ─────────────────────────────────────────────
+
+    private long keyAt(long slot) {
+        return chunks[(int) (slot >>> CHUNK_SHIFT)].getLong((int) (slot & (CHUNK_SLOTS - 1)) * SLOT_BYTES);
+    }
+
+    private long valueAt(long slot) {
+        return chunks[(int) (slot >>> CHUNK_SHIFT)].getLong((int) (slot & (CHUNK_SLOTS - 1)) * SLOT_BYTES + 8);
+    }
+
+    private void setKey(long slot, long key) {
+        chunks[(int) (slot >>> CHUNK_SHIFT)].putLong((int) (slot & (CHUNK_SLOTS - 1)) * SLOT_BYTES, key);
+    }
+
+    private void setValue(long slot, long value) {
+        chunks[(int) (slot >>> CHUNK_SHIFT)].putLong((int) (slot & (CHUNK_SLOTS - 1)) * SLOT_BYTES + 8, value);
+    }
+
+    private void checkOpen() {
+        if (chunks == null) throw new IllegalStateException("OffHeapLongLongMap is closed");
+    }
+
+    // Backward-shift deletion keeps probe chains intact without tombstones
+    private void shiftKeys(long pos) {
+        long last;
+        long slot;
+        long k;
+        while (true) {
+            last = pos;
+            pos = (pos + 1) & mask;
+            while (true) {
+                if ((k = keyAt(pos)) == 0) {
+                    setKey(last, 0L);
+                    return;
+                }
+                slot = IntHashing.mix(k) & mask;
+                if (last <= pos ? (last >= slot || slot > pos) : (last >= slot && slot > pos)) break;
+                pos = (pos + 1) & mask;
+            }
+            setKey(last, k);
+            setValue(last, valueAt(pos));
+        }
+    }
+
+    // Direct buffers come back zeroed, so every slot starts free
+    private void allocate(long newCapacity) {
+        int chunkSlots = (int) Math.min(newCapacity, CHUNK_SLOTS);
+        ByteBuffer[] newChunks = new ByteBuffer[(int) (newCapacity / chunkSlots)];
+        for (int i = 0; i < newChunks.length; i++) {
+            newChunks[i] = ByteBuffer.allocateDirect(chunkSlots * SLOT_BYTES).order(ByteOrder.nativeOrder());
+        }
+        chunks = newChunks;
+        capacity = newCapacity;
+        mask = newCapacity - 1;
+        resizeAt = (long) (newCapacity * LOAD_FACTOR);
+    }
+
+    private void rehash(long newCapacity) {
+        ByteBuffer[] oldChunks = chunks;
+        allocate(newCapacity);
+        for (ByteBuffer chunk : oldChunks) {
+            for (int offset = 0; offset < chunk.capacity(); offset += SLOT_BYTES) {
+                long k = chunk.getLong(offset);
+                if (k == 0) continue;
+                long idx = IntHashing.mix(k) & mask;
+                while (keyAt(idx) != 0) idx = (idx + 1) & mask;
+                setKey(idx, k);
+                setValue(idx, chunk.getLong(offset + 8));
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package game.collections;
+
+import java.util.Arrays;
+
+// Open addressing over flat key/value arrays with tombstone deletion, in either linear
+// probing or Robin Hood order. Unlike IntIntHashMap it keeps every probe visible: the
+// last probe run, per-slot displacement and the tombstones left behind by removals.
+public class ProbingIntIntMap {
+
+    public enum Mode {
+        LINEAR("Linear probing"),
+        ROBIN_HOOD("Robin Hood");
+
+        private final String displayName;
+        Mode(String displayName) { this.displayName = displayName; }
+        public String getDisplayName() { return displayName; }
+    }
+
+    static final byte FREE = 0;
+    static final byte FULL = 1;
+    static final byte TOMBSTONE = 2;
+
+    private final Mode mode;
+    private final double loadFactor;
+    private final int missingValue;
+
+    private int[] keys;
+    private int[] values;
+    // A removed slot keeps its key, so Robin Hood lookups can still stop early at it
+    private byte[] states;
+    private int mask;
+    private int size;
+    private int tombstones;
+    private int resizeAt;
+
+    private int rehashCount;
+    private int cleanupCount;
+    private int lastProbeStart;
+    private int lastProbeLength;
+    private int lastSlot = -1;
+
+    public ProbingIntIntMap(Mode mode) {
+        this(mode, 16, 0.75, 0);
+    }
+
+    public ProbingIntIntMap(Mode mode, int expectedSize, double loadFactor) {
+        this(mode, expectedSize, loadFactor, 0);
+    }
+
+    // missingValue is what get/put/remove return when the key has no mapping
+    public ProbingIntIntMap(Mode mode, int expectedSize, double loadFactor, int missingValue) {
+        if (loadFactor <= 0 || loadFactor >= 1) throw new IllegalArgumentException("Load factor must be in (0, 1): " + loadFactor);
+        this.mode = mode;
+        this.loadFactor = loadFactor;
+        this.missingValue = missingValue;
+        allocate(IntHashing.capacityFor(expectedSize, loadFactor));
+    }
+
+    public int put(int key, int value) {
+        int slot = find(key);
+        if (slot >= 0) {
+            int old = values[slot];
+            values[slot] = value;
+            return old;
+        }
+        // Tombstones count against the load: they lengthen every probe that crosses them
+        if (size + tombstones + 1 > resizeAt) {
+            rehash(size + 1 > resizeAt / 2 ? keys.length << 1 : keys.length);
+        }
+        if (mode == Mode.LINEAR) insertLinear(key, value);
+        else insertRobinHood(key, value);
+        size++;
+        return missingValue;
+    }
+
+    public int get(int key) {
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    public int remove(int key) {
+        int slot = find(key);
+        if (slot < 0) return missingValue;
+        states[slot] = TOMBSTONE;
+        size--;
+        tombstones++;
+        return values[slot];
+    }
+
+    public void clear() {
+        Arrays.fill(states, FREE);
+        size = 0;
+        tombstones = 0;
+        lastSlot = -1;
+        lastProbeLength = 0;
+    }
+
+    public Mode mode() { return mode; }
+    public double loadFactor() { return loadFactor; }
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int capacity() { return keys.length; }
+    public int tombstones() { return tombstones; }
+    public int rehashCount() { return rehashCount; }
+    public int cleanupCount() { return cleanupCount; }
+
+    // Slots touched by the last put/get/remove: lastProbeLength slots from lastProbeStart,
+    // wrapping around the table; lastSlot is where the key ended up or -1 if absent
+    public int lastProbeStart() { return lastProbeStart; }
+    public int lastProbeLength() { return lastProbeLength; }
+    public int lastSlot() { return lastSlot; }
+
+    public boolean isFull(int slot) { return states[slot] == FULL; }
+    public boolean isTombstone(int slot) { return states[slot] == TOMBSTONE; }
+    public int keyAt(int slot) { return keys[slot]; }
+    public int valueAt(int slot) { return values[slot]; }
+    public int homeSlot(int key) { return IntHashing.mix(key) & mask; }
+
+    // Distance from the key's home slot; meaningful for full and tombstone slots
+    public int displacement(int slot) {
+        return (slot - homeSlot(keys[slot])) & mask;
+    }
+
+    // Count of live entries per displacement; the last bucket also holds everything beyond it
+    public int[] displacementHistogram(int buckets) {
+        int[] histogram = new int[buckets];
+        for (int i = 0; i < keys.length; i++) {
+            if (states[i] == FULL) histogram[Math.min(buckets - 1, displacement(i))]++;
+        }
+        return histogram;
+    }
+
+    public int maxDisplacement() {
+        int max = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (states[i] == FULL) max = Math.max(max, displacement(i));
+        }
+        return max;
+    }
+
+    // Slots a successful lookup reads, averaged over all live keys
+    public double averageProbeLength() {
+        if (size == 0) return 0;
+        long total = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (states[i] == FULL) total += displacement(i) + 1;
+        }
+        return (double) total / size;
+    }
+
+    // ── Probing ──────────────────────────────────────────────────
+
+    private int find(int key) {
+        int home = IntHashing.mix(key) & mask;
+        int idx = home;
+        int dist = 0;
+        while (states[idx] != FREE) {
+            if (states[idx] == FULL && keys[idx] == key) {
+                return record(home, dist + 1, idx);
+            }
+            // Robin Hood keeps runs sorted by displacement, so a poorer slot means the key
+            // would have been placed before it
+            if (mode == Mode.ROBIN_HOOD && ((idx - homeSlot(keys[idx])) & mask) < dist) break;
+            idx = (idx + 1) & mask;
+            dist++;
+            if (dist == keys.length) break;
+        }
+        return record(home, Math.min(dist + 1, keys.length), -1);
+    }
+
+    private void insertLinear(int key, int value) {
+        int home = IntHashing.mix(key) & mask;
+        int idx = home;
+        int dist = 0;
+        while (states[idx] == FULL) {
+            idx = (idx + 1) & mask;
+            dist++;
+        }
+        if (states[idx] == TOMBSTONE) tombstones--;
+        place(idx, key, value);
+        record(home, dist + 1, idx);
+    }
+
+    // Displace any entry closer to its home than the one being carried, then keep going
+    // with the displaced entry; a tombstone no richer than the carried entry is reused
+    private void insertRobinHood(int key, int value) {
+        int home = IntHashing.mix(key) & mask;
+        int idx = home;
+        int dist = 0;
+        int carriedKey = key;
+        int carriedValue = value;
+        int placed = -1;
+        while (true) {
+            if (states[idx] == FREE) break;
+            int occupantDist = (idx - homeSlot(keys[idx])) & mask;
+            if (states[idx] == TOMBSTONE && occupantDist <= dist) {
+                tombstones--;
+                break;
+            }
+            if (states[idx] == FULL && occupantDist < dist) {
+                int k = keys[idx];
+                int v = values[idx];
+                keys[idx] = carriedKey;
+                values[idx] = carriedValue;
+                if (placed < 0) placed = idx;
+                carriedKey = k;
+                carriedValue = v;
+                dist = occupantDist;
+            }
+            idx = (idx + 1) & mask;
+            dist++;
+        }
+        place(idx, carriedKey, carriedValue);
+        if (placed < 0) placed = idx;
+        record(home, ((idx - home) & mask) + 1, placed);
+    }
+
+    private void place(int idx, int key, int value) {
+        keys[idx] = key;
+        values[idx] = value;
+        states[idx] = FULL;
+    }
+
+    private int record(int start, int length, int slot) {
+        lastProbeStart = start;
+        lastProbeLength = length;
+        lastSlot = slot;
+        return slot;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        states = new byte[capacity];
+        mask = capacity - 1;
+        resizeAt = Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    // Same capacity when tombstones alone pushed the table over its load factor
+    private void rehash(int newCapacity) {
+        if (newCapacity == keys.length) cleanupCount++;
+        else rehashCount++;
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        byte[] oldStates = states;
+        allocate(newCapacity);
+        tombstones = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldStates[i] != FULL) continue;
+            if (mode == Mode.LINEAR) insertLinear(oldKeys[i], oldValues[i]);
+            else insertRobinHood(oldKeys[i], oldValues[i]);
+        }
+    }
+}
@@ -0,0 +1,618 @@
+package game.collections;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Compressed bitmap set in the Roaring layout: ints are split on their high 16 bits into
+// chunks of 65536 values, and each chunk picks the cheapest of three containers:
+//   ARRAY   sorted char[] of low halves, up to 4096 values (2 bytes each)
+//   BITMAP  1024 longs, one bit per value (8 KB, whatever the count)
+//   RUN     (start, length - 1) char pairs, for long stretches of consecutive values
+// Array and bitmap swap automatically at 4096 values; runs come from runOptimize() and
+// from run-on-run set algebra. Iteration is in unsigned order, as in Roaring.
+public class RoaringIntSet {
+    public enum ContainerType { ARRAY, BITMAP, RUN }
+
+    public static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private static final int BITMAP_BYTES = BITMAP_WORDS * 8;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int containerCount;
+    private int size;
+
+    public boolean add(int value) {
+        char high = (char) (value >>> 16);
+        int i = findKey(high);
+        if (i < 0) {
+            i = -i - 1;
+            insertContainer(i, high, new ArrayContainer());
+        }
+        Container c = containers[i];
+        int before = c.cardinality();
+        containers[i] = c.add((char) value);
+        if (containers[i].cardinality() == before) return false;
+        size++;
+        return true;
+    }
+
+    public boolean remove(int value) {
+        int i = findKey((char) (value >>> 16));
+        if (i < 0) return false;
+        Container c = containers[i];
+        int before = c.cardinality();
+        Container after = c.remove((char) value);
+        if (after.cardinality() == before) return false;
+        size--;
+        if (after.cardinality() == 0) removeContainer(i);
+        else containers[i] = after;
+        return true;
+    }
+
+    public boolean contains(int value) {
+        int i = findKey((char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    public void clear() {
+        Arrays.fill(containers, 0, containerCount, null);
+        containerCount = 0;
+        size = 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < containerCount; i++) containers[i].forEach(keys[i] << 16, action);
+    }
+
+    public int[] toArray() {
+        int[] out = new int[size];
+        int[] n = {0};
+        forEach(v -> out[n[0]++] = v);
+        return out;
+    }
+
+    // ── Set algebra ──────────────────────────────────────────────
+    // Walks both key arrays in step; only chunks present on both sides do any container work
+
+    public RoaringIntSet or(RoaringIntSet other) {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount || j < other.containerCount) {
+            if (j == other.containerCount || (i < containerCount && keys[i] < other.keys[j])) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i == containerCount || other.keys[j] < keys[i]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], or(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public RoaringIntSet and(RoaringIntSet other) {
+        RoaringIntSet result = new RoaringIntSet();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (other.keys[j] < keys[i]) {
+                j++;
+            } else {
+                Container c = and(containers[i], other.containers[j]);
+                if (c.cardinality() > 0) result.appendContainer(keys[i], c);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // Converts every container to whichever of the three encodings is smallest; returns how
+    // many changed type
+    public int runOptimize() {
+        int changed = 0;
+        for (int i = 0; i < containerCount; i++) {
+            Container best = smallest(containers[i]);
+            if (best != containers[i]) changed++;
+            containers[i] = best;
+        }
+        return changed;
+    }
+
+    // ── Container access ─────────────────────────────────────────
+
+    public int containerCount() { return containerCount; }
+    public int containerKey(int i) { return keys[i]; }
+    public ContainerType containerType(int i) { return containers[i].type(); }
+    public int containerCardinality(int i) { return containers[i].cardinality(); }
+    public int containerRuns(int i) { return containers[i].runCount(); }
+    // Payload bytes of the encoding, as Roaring counts them: 2 per array value, 8 KB per
+    // bitmap, 4 per run
+    public int containerBytes(int i) { return containers[i].payloadBytes(); }
+
+    // Low 16 bits of every value in container i, ascending
+    public void forEachLow(int i, IntConsumer action) {
+        containers[i].forEach(0, action);
+    }
+
+    // Heap bytes: the set, its two arrays at capacity and every container with its array
+    public long memoryBytes() {
+        long bytes = 32 + 16 + 2L * keys.length + 16 + 4L * containers.length;
+        for (int i = 0; i < containerCount; i++) bytes += containers[i].heapBytes();
+        return bytes;
+    }
+
+    private int findKey(char high) {
+        return Arrays.binarySearch(keys, 0, containerCount, high);
+    }
+
+    private void insertContainer(int i, char high, Container c) {
+        if (containerCount == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+            containers = Arrays.copyOf(containers, containers.length * 2);
+        }
+        System.arraycopy(keys, i, keys, i + 1, containerCount - i);
+        System.arraycopy(containers, i, containers, i + 1, containerCount - i);
+        keys[i] = high;
+        containers[i] = c;
+        containerCount++;
+    }
+
+    private void appendContainer(char high, Container c) {
+        insertContainer(containerCount, high, c);
+        size += c.cardinality();
+    }
+
+    private void removeContainer(int i) {
+        System.arraycopy(keys, i + 1, keys, i, containerCount - i - 1);
+        System.arraycopy(containers, i + 1, containers, i, containerCount - i - 1);
+        containers[--containerCount] = null;
+    }
+
+    // ── Container pair operations ────────────────────────────────
+
+    private static Container or(Container a, Container b) {
+        if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+            return ((ArrayContainer) a).or((ArrayContainer) b);
+        }
+        if (a instanceof RunContainer && b instanceof RunContainer) {
+            return smallest(((RunContainer) a).or((RunContainer) b));
+        }
+        BitmapContainer result = a.toBitmap();
+        b.orInto(result.words);
+        result.recount();
+        return result.cardinality() <= ARRAY_MAX ? result.toArray() : result;
+    }
+
+    private static Container and(Container a, Container b) {
+        if (b instanceof ArrayContainer) {
+            Container t = a;
+            a = b;
+            b = t;
+        }
+        if (a instanceof ArrayContainer) {
+            return ((ArrayContainer) a).filter(b);
+        }
+        if (a instanceof RunContainer && b instanceof RunContainer) {
+            return smallest(((RunContainer) a).and((RunContainer) b));
+        }
+        BitmapContainer result = a.toBitmap();
+        long[] other = b instanceof BitmapContainer ? ((BitmapContainer) b).words : b.toBitmap().words;
+        for (int w = 0; w < BITMAP_WORDS; w++) result.words[w] &= other[w];
+        result.recount();
+        return result.cardinality() <= ARRAY_MAX ? result.toArray() : result;
+    }
+
+    private static Container smallest(Container c) {
+        int card = c.cardinality();
+        int runBytes = 2 + 4 * c.runCount();
+        int arrayBytes = card <= ARRAY_MAX ? 2 * card : Integer.MAX_VALUE;
+        if (runBytes < Math.min(arrayBytes, BITMAP_BYTES)) {
+            return c instanceof RunContainer ? c : RunContainer.from(c);
+        }
+        if (arrayBytes <= BITMAP_BYTES) return c instanceof ArrayContainer ? c : c.toArray();
+        return c instanceof BitmapContainer ? c : c.toBitmap();
+    }
+
+    // ── Containers ───────────────────────────────────────────────
+    // add/remove return the container to keep, which is a new one when the encoding changes
+
+    private abstract static class Container {
+        abstract ContainerType type();
+        abstract Container add(char low);
+        abstract Container remove(char low);
+        abstract boolean contains(char low);
+        abstract int cardinality();
+        abstract int runCount();
+        abstract int payloadBytes();
+        abstract long heapBytes();
+        abstract void forEach(int high, IntConsumer action);
+        abstract void orInto(long[] words);
+        abstract Container copy();
+
+        // Always a fresh container
+        BitmapContainer toBitmap() {
+            BitmapContainer b = new BitmapContainer();
+            orInto(b.words);
+            b.recount();
+            return b;
+        }
+
+        ArrayContainer toArray() {
+            ArrayContainer a = new ArrayContainer(cardinality());
+            forEach(0, v -> a.values[a.cardinality++] = (char) v);
+            return a;
+        }
+    }
+
+    private static final class ArrayContainer extends Container {
+        char[] values;
+        int cardinality;
+
+        ArrayContainer() { this(4); }
+        ArrayContainer(int capacity) { values = new char[Math.max(4, capacity)]; }
+
+        ContainerType type() { return ContainerType.ARRAY; }
+        int cardinality() { return cardinality; }
+        int payloadBytes() { return 2 * cardinality; }
+        long heapBytes() { return 24 + 16 + 2L * values.length; }
+
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        Container add(char low) {
+            int pos = Arrays.binarySearch(values, 0, cardinality, low);
+            if (pos >= 0) return this;
+            if (cardinality == ARRAY_MAX) return toBitmap().add(low);
+            pos = -pos - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, values.length * 2));
+            }
+            System.arraycopy(values, pos, values, pos + 1, cardinality - pos);
+            values[pos] = low;
+            cardinality++;
+            return this;
+        }
+
+        Container remove(char low) {
+            int pos = Arrays.binarySearch(values, 0, cardinality, low);
+            if (pos < 0) return this;
+            System.arraycopy(values, pos + 1, values, pos, cardinality - pos - 1);
+            cardinality--;
+            return this;
+        }
+
+        int runCount() {
+            int runs = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (i == 0 || values[i] != values[i - 1] + 1) runs++;
+            }
+            return runs;
+        }
+
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) action.accept(high | values[i]);
+        }
+
+        void orInto(long[] words) {
+            for (int i = 0; i < cardinality; i++) words[values[i] >>> 6] |= 1L << values[i];
+        }
+
+        Container copy() {
+            ArrayContainer c = new ArrayContainer(cardinality);
+            System.arraycopy(values, 0, c.values, 0, cardinality);
+            c.cardinality = cardinality;
+            return c;
+        }
+
+        Container or(ArrayContainer other) {
+            if (cardinality + other.cardinality > ARRAY_MAX) {
+                BitmapContainer b = toBitmap();
+                other.orInto(b.words);
+                b.recount();
+                return b.cardinality() <= ARRAY_MAX ? b.toArray() : b;
+            }
+            ArrayContainer out = new ArrayContainer(cardinality + other.cardinality);
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < cardinality && j < other.cardinality) {
+                char a = values[i];
+                char b = other.values[j];
+                if (a < b) { out.values[n++] = a; i++; }
+                else if (b < a) { out.values[n++] = b; j++; }
+                else { out.values[n++] = a; i++; j++; }
+            }
+            while (i < cardinality) out.values[n++] = values[i++];
+            while (j < other.cardinality) out.values[n++] = other.values[j++];
+            out.cardinality = n;
+            return out;
+        }
+
+        // Values of this array the other container also holds
+        Container filter(Container other) {
+            ArrayContainer out = new ArrayContainer(cardinality);
+            int n = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) out.values[n++] = values[i];
+            }
+            out.cardinality = n;
+            return out;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        final long[] words = new long[BITMAP_WORDS];
+        int cardinality;
+
+        ContainerType type() { return ContainerType.BITMAP; }
+        int cardinality() { return cardinality; }
+        int payloadBytes() { return BITMAP_BYTES; }
+        long heapBytes() { return 24 + 16 + BITMAP_BYTES; }
+
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        Container add(char low) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) {
+                words[low >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        Container remove(char low) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) return this;
+            words[low >>> 6] &= ~bit;
+            cardinality--;
+            return cardinality <= ARRAY_MAX ? toArray() : this;
+        }
+
+        // A run starts at every set bit whose lower neighbour is clear
+        int runCount() {
+            int runs = 0;
+            long carry = 0;
+            for (long w : words) {
+                runs += Long.bitCount(w & ~((w << 1) | carry));
+                carry = w >>> 63;
+            }
+            return runs;
+        }
+
+        void recount() {
+            int c = 0;
+            for (long w : words) c += Long.bitCount(w);
+            cardinality = c;
+        }
+
+        void forEach(int high, IntConsumer action) {
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    action.accept(high | (w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        void orInto(long[] target) {
+            for (int w = 0; w < BITMAP_WORDS; w++) target[w] |= words[w];
+        }
+
+        Container copy() {
+            BitmapContainer c = new BitmapContainer();
+            System.arraycopy(words, 0, c.words, 0, BITMAP_WORDS);
+            c.cardinality = cardinality;
+            return c;
+        }
+    }
+
+    private static final class RunContainer extends Container {
+        // Pairs of (start, length - 1), ascending and never adjacent
+        char[] runs;
+        int runCount;
+        int cardinality;
+
+        RunContainer(int capacity) { runs = new char[2 * Math.max(2, capacity)]; }
+
+        static RunContainer from(Container c) {
+            RunContainer r = new RunContainer(c.runCount());
+            c.forEach(0, v -> r.append((char) v));
+            return r;
+        }
+
+        ContainerType type() { return ContainerType.RUN; }
+        int cardinality() { return cardinality; }
+        int runCount() { return runCount; }
+        int payloadBytes() { return 2 + 4 * runCount; }
+        long heapBytes() { return 24 + 16 + 2L * runs.length; }
+
+        int start(int r) { return runs[2 * r]; }
+        int end(int r) { return runs[2 * r] + runs[2 * r + 1]; }
+
+        // Last run starting at or below low, or -1
+        private int runFor(int low) {
+            int lo = 0;
+            int hi = runCount - 1;
+            int found = -1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (start(mid) <= low) {
+                    found = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return found;
+        }
+
+        boolean contains(char low) {
+            int r = runFor(low);
+            return r >= 0 && low <= end(r);
+        }
+
+        Container add(char low) {
+            int r = runFor(low);
+            if (r >= 0 && low <= end(r)) return this;
+            boolean joinsPrevious = r >= 0 && end(r) + 1 == low;
+            boolean joinsNext = r + 1 < runCount && start(r + 1) == low + 1;
+            if (joinsPrevious && joinsNext) {
+                runs[2 * r + 1] = (char) (end(r + 1) - start(r));
+                deleteRun(r + 1);
+            } else if (joinsPrevious) {
+                runs[2 * r + 1]++;
+            } else if (joinsNext) {
+                runs[2 * (r + 1)]--;
+                runs[2 * (r + 1) + 1]++;
+            } else {
+                insertRun(r + 1, low, 0);
+            }
+            cardinality++;
+            return outgrown();
+        }
+
+        Container remove(char low) {
+            int r = runFor(low);
+            if (r < 0 || low > end(r)) return this;
+            int start = start(r);
+            int end = end(r);
+            if (start == end) {
+                deleteRun(r);
+            } else if (low == start) {
+                runs[2 * r]++;
+                runs[2 * r + 1]--;
+            } else if (low == end) {
+                runs[2 * r + 1]--;
+            } else {
+                runs[2 * r + 1] = (char) (low - 1 - start);
+                insertRun(r + 1, low + 1, end - low - 1);
+            }
+            cardinality--;
+            return outgrown();
+        }
+
+        // Single-value edits can fragment runs until another encoding is smaller
+        private Container outgrown() {
+            int runBytes = payloadBytes();
+            if (cardinality <= ARRAY_MAX && 2 * cardinality < runBytes) return toArray();
+            if (BITMAP_BYTES < runBytes) return toBitmap();
+            return this;
+        }
+
+        // low must be above everything stored
+        void append(char low) {
+            if (runCount > 0 && end(runCount - 1) + 1 == low) {
+                runs[2 * (runCount - 1) + 1]++;
+            } else {
+                insertRun(runCount, low, 0);
+            }
+            cardinality++;
+        }
+
+        private void insertRun(int r, int start, int lengthMinusOne) {
+            if (2 * runCount == runs.length) runs = Arrays.copyOf(runs, runs.length * 2);
+            System.arraycopy(runs, 2 * r, runs, 2 * r + 2, 2 * (runCount - r));
+            runs[2 * r] = (char) start;
+            runs[2 * r + 1] = (char) lengthMinusOne;
+            runCount++;
+        }
+
+        private void deleteRun(int r) {
+            System.arraycopy(runs, 2 * r + 2, runs, 2 * r, 2 * (runCount - r - 1));
+            runCount--;
+        }
+
+        void forEach(int high, IntConsumer action) {
+            for (int r = 0; r < runCount; r++) {
+                for (int v = start(r), end = end(r); v <= end; v++) action.accept(high | v);
+            }
+        }
+
+        void orInto(long[] words) {
+            for (int r = 0; r < runCount; r++) {
+                int start = start(r);
+                int end = end(r);
+                int first = start >>> 6;
+                int last = end >>> 6;
+                long firstMask = -1L << start;
+                long lastMask = -1L >>> (63 - (end & 63));
+                if (first == last) {
+                    words[first] |= firstMask & lastMask;
+                } else {
+                    words[first] |= firstMask;
+                    for (int w = first + 1; w < last; w++) words[w] = -1L;
+                    words[last] |= lastMask;
+                }
+            }
+        }
+
+        Container copy() {
+            RunContainer c = new RunContainer(runCount);
+            System.arraycopy(runs, 0, c.runs, 0, 2 * runCount);
+            c.runCount = runCount;
+            c.cardinality = cardinality;
+            return c;
+        }
+
+        // Interval merge: overlapping or touching runs fuse
+        RunContainer or(RunContainer other) {
+            RunContainer out = new RunContainer(runCount + other.runCount);
+            int i = 0;
+            int j = 0;
+            while (i < runCount || j < other.runCount) {
+                int start;
+                int end;
+                if (j == other.runCount || (i < runCount && start(i) <= other.start(j))) {
+                    start = start(i);
+                    end = end(i++);
+                } else {
+                    start = other.start(j);
+                    end = other.end(j++);
+                }
+                int last = out.runCount - 1;
+                if (last >= 0 && start <= out.end(last) + 1) {
+                    if (end > out.end(last)) {
+                        out.cardinality += end - out.end(last);
+                        out.runs[2 * last + 1] = (char) (end - out.start(last));
+                    }
+                } else {
+                    out.insertRun(out.runCount, start, end - start);
+                    out.cardinality += end - start + 1;
+                }
+            }
+            return out;
+        }
+
+        RunContainer and(RunContainer other) {
+            RunContainer out = new RunContainer(Math.max(runCount, other.runCount));
+            int i = 0;
+            int j = 0;
+            while (i < runCount && j < other.runCount) {
+                int start = Math.max(start(i), other.start(j));
+                int end = Math.min(end(i), other.end(j));
+                if (start <= end) {
+                    out.insertRun(out.runCount, start, end - start);
+                    out.cardinality += end - start + 1;
+                }
+                if (end(i) < other.end(j)) i++;
+                else j++;
+            }
+            return out;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package game.collections;
+
+import java.util.Arrays;
+
+// An int -> int map for the many-tiny-maps case: keys sorted in one int[], values at the
+// same index in a second int[], binary search for every lookup. No table, no nodes, no
+// boxes: an instance is a 32-byte object plus two arrays, and an empty map shares one
+// zero-length array, so it is just the object until the first put.
+//
+// Insert and remove shift the tail of both arrays with System.arraycopy, so they cost
+// O(n) moves; that is a few cache lines for the sizes this map is meant for (up to a few
+// dozen entries) and gets steadily worse beyond them. Capacity grows 2, 4, 8, then by half
+// again, and trimToSize drops the slack once a map is built. Nothing here is per-instance
+// bookkeeping beyond size: with millions of instances every field counts.
+public class SortedArrayIntMap {
+    private static final int[] EMPTY = new int[0];
+
+    private final int missingValue;
+    private int[] keys = EMPTY;
+    private int[] values = EMPTY;
+    private int size;
+
+    public SortedArrayIntMap() {
+        this(0);
+    }
+
+    // missingValue is what get/put/remove return when the key has no mapping
+    public SortedArrayIntMap(int missingValue) {
+        this.missingValue = missingValue;
+    }
+
+    public int put(int key, int value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            int old = values[index];
+            values[index] = value;
+            return old;
+        }
+        int insertAt = -(index + 1);
+        if (size == keys.length) grow();
+        System.arraycopy(keys, insertAt, keys, insertAt + 1, size - insertAt);
+        System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+        keys[insertAt] = key;
+        values[insertAt] = value;
+        size++;
+        return missingValue;
+    }
+
+    public int get(int key) {
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        return indexOf(key) >= 0;
+    }
+
+    public int remove(int key) {
+        int index = indexOf(key);
+        if (index < 0) return missingValue;
+        int old = values[index];
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return old;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // Shrinks both arrays to exactly size entries; an empty map goes back to the shared array
+    public void trimToSize() {
+        if (size == keys.length) return;
+        keys = size == 0 ? EMPTY : Arrays.copyOf(keys, size);
+        values = size == 0 ? EMPTY : Arrays.copyOf(values, size);
+    }
+
+    // Index of key, or -(insertion point) - 1 when absent, as Arrays.binarySearch reports it
+    public int indexOf(int key) {
+        int lo = 0;
+        int hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int k = keys[mid];
+            if (k < key) lo = mid + 1;
+            else if (k > key) hi = mid - 1;
+            else return mid;
+        }
+        return -(lo + 1);
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int capacity() { return keys.length; }
+    public int keyAt(int index) { return keys[index]; }
+    public int valueAt(int index) { return values[index]; }
+
+    // Object header, two array references, size and missingValue (28 bytes, padded to 32)
+    // plus both arrays; the shared empty array belongs to no one
+    public long memoryBytes() {
+        return 32 + 2 * arrayBytes(keys.length);
+    }
+
+    public static long arrayBytes(int length) {
+        return length == 0 ? 0 : (16 + 4L * length + 7) & ~7L;
+    }
+
+    // Capacity after growing from this one: 2, 4, 8, then 1.5x
+    public static int nextCapacity(int capacity) {
+        return capacity < 8 ? Math.max(2, capacity * 2) : capacity + (capacity >> 1);
+    }
+
+    private void grow() {
+        int newCapacity = nextCapacity(keys.length);
+        keys = Arrays.copyOf(keys, newCapacity);
+        values = Arrays.copyOf(values, newCapacity);
+    }
+}
@@ -0,0 +1,261 @@
+package game.collections;
+
+import java.util.Arrays;
+
+// Swiss-table layout: slots come in groups of 16, each with a control byte holding either
+// EMPTY, DELETED or the key's 7-bit H2 tag. A lookup compares all 16 tags of a group at
+// once and only reads keys whose tag matched.
+//
+// The 16 control bytes of a group are two longs, matched with SWAR bit tricks instead of
+// jdk.incubator.vector: the incubator module needs --add-modules at compile and run time,
+// and plain 64-bit arithmetic gets the same one-compare-per-group shape on any JVM.
+public class SwissIntIntMap {
+    public static final int GROUP_WIDTH = 16;
+    public static final byte EMPTY = (byte) 0x80;
+    public static final byte DELETED = (byte) 0xFE;
+
+    private static final long LSBS = 0x0101010101010101L;
+    private static final long MSBS = 0x8080808080808080L;
+
+    // Byte i of group g sits in word 2g + i/8, at bit 8 * (i % 8)
+    private long[] ctrl;
+    private int[] keys;
+    private int[] values;
+    private int groupMask;
+    private int size;
+    private int deleted;
+    private int growthLeft;
+    private final int missingValue;
+
+    private int rehashCount;
+    private int cleanupCount;
+    private int lastH2;
+    private int lastFirstGroup;
+    private int lastGroupsProbed;
+    private int lastSlot = -1;
+
+    public SwissIntIntMap() {
+        this(16, 0);
+    }
+
+    public SwissIntIntMap(int expectedSize) {
+        this(expectedSize, 0);
+    }
+
+    // missingValue is what get/put/remove return when the key has no mapping
+    public SwissIntIntMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int put(int key, int value) {
+        int slot = find(key);
+        if (slot >= 0) {
+            int old = values[slot];
+            values[slot] = value;
+            return old;
+        }
+        int hash = IntHashing.mix(key);
+        slot = findInsertSlot(hash);
+        if (growthLeft == 0 && ctrlAt(slot) == EMPTY) {
+            rehash(size + 1 > maxLoad(keys.length) / 2 ? keys.length << 1 : keys.length);
+            slot = findInsertSlot(hash);
+        }
+        if (ctrlAt(slot) == DELETED) deleted--;
+        else growthLeft--;
+        setCtrl(slot, (byte) (hash & 0x7F));
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        lastSlot = slot;
+        return missingValue;
+    }
+
+    public int get(int key) {
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : missingValue;
+    }
+
+    public boolean containsKey(int key) {
+        return find(key) >= 0;
+    }
+
+    // A group that still has an EMPTY byte never stopped a probe from ending there, so the
+    // slot can go straight back to EMPTY; otherwise later keys may have probed past it
+    public int remove(int key) {
+        int slot = find(key);
+        if (slot < 0) return missingValue;
+        if (emptyMask(slot / GROUP_WIDTH) != 0) {
+            setCtrl(slot, EMPTY);
+            growthLeft++;
+        } else {
+            setCtrl(slot, DELETED);
+            deleted++;
+        }
+        size--;
+        return values[slot];
+    }
+
+    public void clear() {
+        Arrays.fill(ctrl, LSBS * (EMPTY & 0xFF));
+        size = 0;
+        deleted = 0;
+        growthLeft = maxLoad(keys.length);
+        lastSlot = -1;
+        lastGroupsProbed = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int capacity() { return keys.length; }
+    public int groupCount() { return groupMask + 1; }
+    public int deleted() { return deleted; }
+    public int growthLeft() { return growthLeft; }
+    public int rehashCount() { return rehashCount; }
+    public int cleanupCount() { return cleanupCount; }
+
+    // The last lookup or insert: its H2 tag, first group and how many groups it read;
+    // lastSlot is where the key was found or placed, -1 if absent
+    public int lastH2() { return lastH2; }
+    public int lastFirstGroup() { return lastFirstGroup; }
+    public int lastGroupsProbed() { return lastGroupsProbed; }
+    public int lastSlot() { return lastSlot; }
+
+    public byte ctrlAt(int slot) { return (byte) (ctrl[slot >>> 3] >>> ((slot & 7) << 3)); }
+    public boolean isFull(int slot) { return ctrlAt(slot) >= 0; }
+    public int keyAt(int slot) { return keys[slot]; }
+    public int valueAt(int slot) { return values[slot]; }
+    public static int h2(int key) { return IntHashing.mix(key) & 0x7F; }
+    public int firstGroup(int key) { return (IntHashing.mix(key) >>> 7) & groupMask; }
+
+    // Triangular steps over power-of-two group counts visit every group once
+    public int probeGroup(int firstGroup, int step) {
+        return (firstGroup + step * (step + 1) / 2) & groupMask;
+    }
+
+    // Bit i set when byte i of the group holds tag h2; may include a false hit above a true
+    // one (borrow from the subtraction), which the key compare filters out
+    public int matchMask(int group, int h2) {
+        long pattern = LSBS * h2;
+        return zeroBytes(ctrl[2 * group] ^ pattern) | zeroBytes(ctrl[2 * group + 1] ^ pattern) << 8;
+    }
+
+    // EMPTY is the only control byte with bit 7 set and bit 1 clear
+    public int emptyMask(int group) {
+        long lo = ctrl[2 * group];
+        long hi = ctrl[2 * group + 1];
+        return gather(lo & ~(lo << 6) & MSBS) | gather(hi & ~(hi << 6) & MSBS) << 8;
+    }
+
+    // EMPTY and DELETED both have bit 7 set and bit 0 clear
+    public int emptyOrDeletedMask(int group) {
+        long lo = ctrl[2 * group];
+        long hi = ctrl[2 * group + 1];
+        return gather(lo & ~(lo << 7) & MSBS) | gather(hi & ~(hi << 7) & MSBS) << 8;
+    }
+
+    // Groups a lookup of the key now stored at slot reads before it reaches that slot
+    public int groupsProbed(int slot) {
+        int first = firstGroup(keys[slot]);
+        int target = slot / GROUP_WIDTH;
+        for (int step = 0; step <= groupMask; step++) {
+            if (probeGroup(first, step) == target) return step + 1;
+        }
+        return groupMask + 1;
+    }
+
+    // ── Probing ──────────────────────────────────────────────────
+
+    private int find(int key) {
+        int hash = IntHashing.mix(key);
+        int h2 = hash & 0x7F;
+        int first = (hash >>> 7) & groupMask;
+        int group = first;
+        for (int step = 0; ; step++) {
+            int base = group * GROUP_WIDTH;
+            int matches = matchMask(group, h2);
+            while (matches != 0) {
+                int i = Integer.numberOfTrailingZeros(matches);
+                if (keys[base + i] == key) return record(h2, first, step + 1, base + i);
+                matches &= matches - 1;
+            }
+            if (emptyMask(group) != 0) return record(h2, first, step + 1, -1);
+            group = (group + step + 1) & groupMask;
+        }
+    }
+
+    private int findInsertSlot(int hash) {
+        int first = (hash >>> 7) & groupMask;
+        int group = first;
+        for (int step = 0; ; step++) {
+            int free = emptyOrDeletedMask(group);
+            if (free != 0) {
+                record(hash & 0x7F, first, step + 1, -1);
+                return group * GROUP_WIDTH + Integer.numberOfTrailingZeros(free);
+            }
+            group = (group + step + 1) & groupMask;
+        }
+    }
+
+    private int record(int h2, int firstGroup, int groupsProbed, int slot) {
+        lastH2 = h2;
+        lastFirstGroup = firstGroup;
+        lastGroupsProbed = groupsProbed;
+        lastSlot = slot;
+        return slot;
+    }
+
+    // Bytes of x that are zero, as a bit per byte
+    private static int zeroBytes(long x) {
+        return gather((x - LSBS) & ~x & MSBS);
+    }
+
+    // Moves the top bit of each byte into bits 0-7; the multiply lands bit 8k+7 at 56+k
+    // with no two partial products overlapping
+    private static int gather(long msbs) {
+        return (int) (((msbs >>> 7) * 0x0102040810204080L) >>> 56);
+    }
+
+    private void setCtrl(int slot, byte b) {
+        int word = slot >>> 3;
+        int shift = (slot & 7) << 3;
+        ctrl[word] = (ctrl[word] & ~(0xFFL << shift)) | ((b & 0xFFL) << shift);
+    }
+
+    // 7/8 of the slots; at least two stay EMPTY so every probe terminates
+    private static int maxLoad(int capacity) {
+        return capacity - capacity / 8;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return Math.max(GROUP_WIDTH, IntHashing.capacityFor(expectedSize, 0.875));
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        ctrl = new long[capacity / 8];
+        groupMask = capacity / GROUP_WIDTH - 1;
+        clear();
+    }
+
+    // Same capacity when DELETED bytes, not live keys, used up the growth budget
+    private void rehash(int newCapacity) {
+        if (newCapacity == keys.length) cleanupCount++;
+        else rehashCount++;
+        long[] oldCtrl = ctrl;
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if ((byte) (oldCtrl[slot >>> 3] >>> ((slot & 7) << 3)) < 0) continue;
+            int hash = IntHashing.mix(oldKeys[slot]);
+            int target = findInsertSlot(hash);
+            setCtrl(target, (byte) (hash & 0x7F));
+            keys[target] = oldKeys[slot];
+            values[target] = oldValues[slot];
+            size++;
+            growthLeft--;
+        }
+    }
+}
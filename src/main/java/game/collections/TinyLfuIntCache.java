@@ -0,0 +1,574 @@
+package game.collections;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Bounded concurrent cache from int to int with the W-TinyLFU policy used by Caffeine.
+//
+// Entries live in a ConcurrentHashMap, so get never blocks. The eviction policy is three
+// access-ordered LRU lists: a small window that every new entry enters, and a main area
+// split into probation and protected. A window entry that gets pushed out becomes a
+// candidate for main and has to beat the probation LRU entry on estimated frequency, read
+// from a 4-bit count-min sketch that is halved every 10 x capacity additions so old
+// popularity fades. A hit in probation promotes the entry to protected; protected
+// overflow demotes back to probation.
+//
+// A synchronized access-order LinkedHashMap relinks on every get under one lock. Here a
+// hit only records the node in one of several striped ring buffers, picked by thread; a
+// full buffer triggers a tryLock and whoever gets the lock replays every buffer into the
+// lists in one go. Reads that find their buffer slot contended are dropped, which costs
+// the policy a little precision and never blocks. Writes take the lock but leave the
+// buffers to the readers that fill them.
+public class TinyLfuIntCache {
+    public static final int READ_BUFFER_STRIPES = 16;
+    public static final int READ_BUFFER_SIZE = 32;
+    public static final int SKETCH_DEPTH = 4;
+
+    public enum Segment { WINDOW, PROBATION, PROTECTED }
+
+    public interface EntryVisitor {
+        void accept(int key, int value, int frequency);
+    }
+
+    // Runs under the policy lock each time a window candidate duels the probation victim
+    public interface AdmissionListener {
+        void onAdmission(int candidate, int candidateFrequency, int victim, int victimFrequency, boolean admitted);
+    }
+
+    private final ConcurrentHashMap<Integer, Node> data;
+    private final int capacity;
+    private final int windowMax;
+    private final int protectedMax;
+    private final int missingValue;
+
+    // Guarded by evictionLock
+    private final AccessOrderDeque window = new AccessOrderDeque();
+    private final AccessOrderDeque probation = new AccessOrderDeque();
+    private final AccessOrderDeque protectedDeque = new AccessOrderDeque();
+    private final FrequencySketch sketch;
+    private int size;
+    private long drains;
+    private long drainedReads;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer[] readBuffers = new ReadBuffer[READ_BUFFER_STRIPES];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder admissions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder droppedReads = new LongAdder();
+    private volatile AdmissionListener listener;
+
+    public TinyLfuIntCache(int capacity) {
+        this(capacity, 1, 0);
+    }
+
+    // windowPercent is the share of capacity given to the admission window; Caffeine starts
+    // at 1% and climbs from there. missingValue is what get/put/remove return on a miss.
+    public TinyLfuIntCache(int capacity, int windowPercent, int missingValue) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        if (windowPercent < 1 || windowPercent > 99) {
+            throw new IllegalArgumentException("Window percent must be in 1..99: " + windowPercent);
+        }
+        this.capacity = capacity;
+        this.windowMax = Math.max(1, capacity * windowPercent / 100);
+        this.protectedMax = (capacity - windowMax) * 80 / 100;
+        this.missingValue = missingValue;
+        this.data = new ConcurrentHashMap<>(Math.min(capacity, 1 << 16));
+        this.sketch = new FrequencySketch(capacity);
+        for (int i = 0; i < READ_BUFFER_STRIPES; i++) readBuffers[i] = new ReadBuffer();
+    }
+
+    public int get(int key) {
+        Node node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return missingValue;
+        }
+        hits.increment();
+        afterRead(node);
+        return node.value;
+    }
+
+    public int put(int key, int value) {
+        evictionLock.lock();
+        try {
+            sketch.increment(key);
+            Node node = data.get(key);
+            if (node != null) {
+                int old = node.value;
+                node.value = value;
+                reorder(node);
+                return old;
+            }
+            node = new Node(key, value);
+            node.segment = Segment.WINDOW;
+            data.put(key, node);
+            window.addLast(node);
+            size++;
+            evict();
+            return missingValue;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int remove(int key) {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            Node node = data.remove(key);
+            if (node == null) return missingValue;
+            unlink(node);
+            return node.value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public boolean containsKey(int key) {
+        return data.containsKey(key);
+    }
+
+    // Replays any buffered reads now instead of waiting for a buffer to fill
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void clear() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedDeque.clear();
+            sketch.clear();
+            size = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // ── Read buffers ─────────────────────────────────────────────
+
+    private void afterRead(Node node) {
+        ReadBuffer buffer = readBuffers[stripe()];
+        if (!buffer.offer(node)) droppedReads.increment();
+        if (buffer.isFull() && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private static int stripe() {
+        return IntHashing.mix((int) Thread.currentThread().getId()) & (READ_BUFFER_STRIPES - 1);
+    }
+
+    private void drainReadBuffers() {
+        int replayed = 0;
+        for (ReadBuffer buffer : readBuffers) {
+            long head = buffer.readCounter;
+            long tail = buffer.writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) head & (READ_BUFFER_SIZE - 1);
+                Node node = buffer.slots.get(index);
+                // Slot claimed but not written yet; pick it up on the next drain
+                if (node == null) break;
+                buffer.slots.lazySet(index, null);
+                replayed++;
+                if (node.segment == null) continue;
+                sketch.increment(node.key);
+                reorder(node);
+            }
+            buffer.readCounter = head;
+        }
+        if (replayed > 0) {
+            drains++;
+            drainedReads += replayed;
+        }
+    }
+
+    // ── Policy ───────────────────────────────────────────────────
+
+    private void reorder(Node node) {
+        switch (node.segment) {
+            case WINDOW:
+                window.moveToBack(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                node.segment = Segment.PROTECTED;
+                protectedDeque.addLast(node);
+                while (protectedDeque.size > protectedMax) {
+                    Node demoted = protectedDeque.pollFirst();
+                    demoted.segment = Segment.PROBATION;
+                    probation.addLast(demoted);
+                }
+                break;
+            case PROTECTED:
+                protectedDeque.moveToBack(node);
+                break;
+        }
+    }
+
+    // Window overflow moves to the probation tail as candidates; then, while over capacity,
+    // the oldest candidate duels the probation head and the less frequent one is evicted
+    private void evict() {
+        Node candidate = null;
+        while (window.size > windowMax) {
+            Node moved = window.pollFirst();
+            moved.segment = Segment.PROBATION;
+            probation.addLast(moved);
+            if (candidate == null) candidate = moved;
+        }
+        while (size > capacity) {
+            Node victim = probation.size > 0 ? probation.first() : protectedDeque.first();
+            if (victim == null) victim = window.first();
+            if (candidate == null || candidate == victim) {
+                if (candidate == victim) candidate = probation.after(candidate);
+                evictEntry(victim);
+                continue;
+            }
+            int candidateFrequency = sketch.frequency(candidate.key);
+            int victimFrequency = sketch.frequency(victim.key);
+            boolean admitted = candidateFrequency > victimFrequency;
+            AdmissionListener watcher = listener;
+            if (watcher != null) {
+                watcher.onAdmission(candidate.key, candidateFrequency, victim.key, victimFrequency, admitted);
+            }
+            if (admitted) {
+                admissions.increment();
+                evictEntry(victim);
+            } else {
+                rejections.increment();
+                Node rejected = candidate;
+                candidate = probation.after(candidate);
+                evictEntry(rejected);
+            }
+        }
+    }
+
+    private void evictEntry(Node node) {
+        data.remove(node.key, node);
+        unlink(node);
+        evictions.increment();
+    }
+
+    private void unlink(Node node) {
+        switch (node.segment) {
+            case WINDOW:    window.remove(node); break;
+            case PROBATION: probation.remove(node); break;
+            case PROTECTED: protectedDeque.remove(node); break;
+        }
+        node.segment = null;
+        size--;
+    }
+
+    // ── Introspection ────────────────────────────────────────────
+
+    public int size() { return data.size(); }
+    public boolean isEmpty() { return data.isEmpty(); }
+    public int capacity() { return capacity; }
+    public int windowCapacity() { return windowMax; }
+    public int protectedCapacity() { return protectedMax; }
+    public int getMissingValue() { return missingValue; }
+    public void setAdmissionListener(AdmissionListener listener) { this.listener = listener; }
+
+    public long hits() { return hits.sum(); }
+    public long misses() { return misses.sum(); }
+    public long evictions() { return evictions.sum(); }
+    public long admissions() { return admissions.sum(); }
+    public long rejections() { return rejections.sum(); }
+    public long droppedReads() { return droppedReads.sum(); }
+
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    // Lock acquisitions that replayed buffered reads, and how many reads they replayed;
+    // the ratio is how many relinks each lock acquisition paid for
+    public long drains() {
+        evictionLock.lock();
+        try {
+            return drains;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long drainedReads() {
+        evictionLock.lock();
+        try {
+            return drainedReads;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+        admissions.reset();
+        rejections.reset();
+        droppedReads.reset();
+        evictionLock.lock();
+        try {
+            drains = 0;
+            drainedReads = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int segmentSize(Segment segment) {
+        evictionLock.lock();
+        try {
+            return deque(segment).size;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // Entries of one segment from least to most recently used, with their sketch estimate
+    public void forEach(Segment segment, EntryVisitor visitor) {
+        evictionLock.lock();
+        try {
+            AccessOrderDeque deque = deque(segment);
+            for (Node n = deque.first(); n != null; n = deque.after(n)) {
+                visitor.accept(n.key, n.value, sketch.frequency(n.key));
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int frequency(int key) {
+        evictionLock.lock();
+        try {
+            return sketch.frequency(key);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // Flat copy of every 4-bit sketch counter; index i is nibble (i & 15) of word i >> 4
+    public int[] sketchCounters() {
+        evictionLock.lock();
+        try {
+            int[] counters = new int[sketch.table.length * 16];
+            for (int i = 0; i < counters.length; i++) counters[i] = sketch.counter(i);
+            return counters;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // The SKETCH_DEPTH counter positions a key hashes to, in sketchCounters() indexing
+    public int[] sketchIndexes(int key) {
+        int[] indexes = new int[SKETCH_DEPTH];
+        int hash = IntHashing.mix(key);
+        for (int i = 0; i < SKETCH_DEPTH; i++) indexes[i] = sketch.indexOf(hash, i);
+        return indexes;
+    }
+
+    public int sketchResets() {
+        evictionLock.lock();
+        try {
+            return sketch.resets;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int sketchAdditions() {
+        evictionLock.lock();
+        try {
+            return sketch.additions;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int sketchSampleSize() { return sketch.sampleSize; }
+
+    // Estimated heap bytes: ConcurrentHashMap node, boxed key and policy node per entry,
+    // plus the map table, the sketch and the read buffers
+    public long memoryBytes() {
+        long entries = data.size();
+        long table = 16 + 4L * IntHashing.tableSizeFor((int) Math.min(Integer.MAX_VALUE / 2, entries * 4 / 3 + 1));
+        return 64 + table + entries * (32 + 16 + Node.BYTES) + sketchBytes() + readBufferBytes();
+    }
+
+    public long sketchBytes() { return 16 + 8L * sketch.table.length; }
+
+    public long readBufferBytes() { return READ_BUFFER_STRIPES * (32 + 24 + 16 + 4L * READ_BUFFER_SIZE); }
+
+    private AccessOrderDeque deque(Segment segment) {
+        switch (segment) {
+            case WINDOW:    return window;
+            case PROBATION: return probation;
+            default:        return protectedDeque;
+        }
+    }
+
+    private static final class Node {
+        // Header, key, value, segment and two links
+        static final int BYTES = 12 + 4 + 4 + 4 + 4 + 4;
+
+        final int key;
+        volatile int value;
+        // Null once the entry has left the cache; a buffered read of it is then skipped
+        Segment segment;
+        Node prev;
+        Node next;
+
+        Node(int key, int value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    // Intrusive doubly linked list, head = least recently used
+    private static final class AccessOrderDeque {
+        private Node head;
+        private Node tail;
+        int size;
+
+        Node first() { return head; }
+        Node after(Node node) { return node.next; }
+
+        void addLast(Node node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) head = node;
+            else tail.next = node;
+            tail = node;
+            size++;
+        }
+
+        Node pollFirst() {
+            Node node = head;
+            if (node != null) remove(node);
+            return node;
+        }
+
+        void remove(Node node) {
+            if (node.prev == null) head = node.next;
+            else node.prev.next = node.next;
+            if (node.next == null) tail = node.prev;
+            else node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToBack(Node node) {
+            if (node == tail) return;
+            remove(node);
+            addLast(node);
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
+    // Ring of node references; producers claim a slot with one CAS on writeCounter and
+    // only the lock holder advances readCounter
+    private static final class ReadBuffer {
+        final AtomicReferenceArray<Node> slots = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        final AtomicLong writeCounter = new AtomicLong();
+        volatile long readCounter;
+
+        boolean offer(Node node) {
+            long tail = writeCounter.get();
+            if (tail - readCounter >= READ_BUFFER_SIZE) return false;
+            if (!writeCounter.compareAndSet(tail, tail + 1)) return false;
+            slots.lazySet((int) tail & (READ_BUFFER_SIZE - 1), node);
+            return true;
+        }
+
+        boolean isFull() {
+            return writeCounter.get() - readCounter >= READ_BUFFER_SIZE;
+        }
+    }
+
+    // Count-min sketch of 4-bit counters packed 16 to a long. Each key bumps one counter
+    // in each of SKETCH_DEPTH hashed positions and its estimate is the smallest of them.
+    private static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97CB3127, 0xB7E15163, 0x8F1BBCDC, 0x5A827999};
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        final long[] table;
+        final int tableMask;
+        final int sampleSize;
+        int additions;
+        int resets;
+
+        FrequencySketch(int capacity) {
+            table = new long[IntHashing.tableSizeFor(Math.max(8, capacity))];
+            tableMask = table.length - 1;
+            sampleSize = 10 * capacity;
+        }
+
+        int indexOf(int hash, int depth) {
+            int h = IntHashing.mix(hash ^ SEEDS[depth]);
+            return (((h >>> 4) & tableMask) << 4) | (h & 15);
+        }
+
+        int counter(int index) {
+            return (int) (table[index >>> 4] >>> ((index & 15) << 2)) & 15;
+        }
+
+        int frequency(int key) {
+            int hash = IntHashing.mix(key);
+            int min = 15;
+            for (int i = 0; i < SKETCH_DEPTH; i++) min = Math.min(min, counter(indexOf(hash, i)));
+            return min;
+        }
+
+        void increment(int key) {
+            int hash = IntHashing.mix(key);
+            boolean added = false;
+            for (int i = 0; i < SKETCH_DEPTH; i++) {
+                int index = indexOf(hash, i);
+                if (counter(index) < 15) {
+                    table[index >>> 4] += 1L << ((index & 15) << 2);
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) reset();
+        }
+
+        // Halves every counter so the sketch tracks recent rather than all-time popularity
+        void reset() {
+            for (int i = 0; i < table.length; i++) table[i] = (table[i] >>> 1) & RESET_MASK;
+            additions >>>= 1;
+            resets++;
+        }
+
+        void clear() {
+            java.util.Arrays.fill(table, 0);
+            additions = 0;
+            resets = 0;
+        }
+    }
+}
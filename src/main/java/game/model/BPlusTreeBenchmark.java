@@ -0,0 +1,161 @@
+package game.model;
+
+import game.collections.BPlusTreeIntMap;
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// TreeMap<Integer,Integer> against BPlusTreeIntMap at three fanouts. Keys are random even
+// ints inserted in random order, so misses can be probed with odd keys and the leaves end
+// up at the fill random inserts give rather than the half-full leaves of a sorted load.
+// The fanout sweep shows the trade: wide nodes mean fewer levels and longer runs of keys
+// per leaf for range scans, at the cost of shifting more of each node on insert.
+public class BPlusTreeBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String BPLUS_TREE = "B+tree f=";
+    static final String NS_PER_OP = "ns/op";
+    static final String RETAINED = "RETAINED HEAP";
+
+    private static final int[] FANOUTS = {8, 32, 128};
+    private static final String[] OPERATIONS = {"INSERT (random)", "GET (hit)", "GET (miss)",
+            "RANGE SCAN (0.1% wide)", RETAINED};
+    // Enough short scans per round that the warmup rounds get the range loops compiled
+    private static final int RANGES = 4096;
+
+    private long sink;
+    private long rangeSum;
+
+    static List<String> structures() {
+        List<String> names = new ArrayList<>();
+        names.add("TreeMap");
+        for (int fanout : FANOUTS) names.add(BPLUS_TREE + fanout);
+        return names;
+    }
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        List<String> structures = structures();
+        int totalTasks = structures.size() * OPERATIONS.length;
+        int completed = 0;
+
+        Random random = new Random(42);
+        int[] keys = evenKeys(elementCount, random);
+        int[] hits = keys.clone();
+        shuffle(hits, random);
+        int[] misses = new int[keys.length];
+        for (int i = 0; i < misses.length; i++) misses[i] = hits[i] + 1;
+        int[] rangeStarts = new int[RANGES];
+        for (int i = 0; i < RANGES; i++) rangeStarts[i] = keys[random.nextInt(keys.length)];
+        // Keys span the whole int range, so 0.1% of it holds about 0.1% of the entries
+        int width = (int) ((1L << 32) / 1000);
+
+        for (String dsName : structures) {
+            for (int op = 0; op < OPERATIONS.length; op++) {
+                if (cancelled.getAsBoolean()) return results;
+                if (!BenchmarkModel.settle()) return results;
+
+                long nanos;
+                int count = elementCount;
+                switch (op) {
+                    case 0:  nanos = BenchmarkModel.best(() -> null, s -> BenchmarkModel.timedBuild(() -> build(dsName, keys))); break;
+                    case 1:  nanos = BenchmarkModel.bestOn(build(dsName, keys), s -> getAll(s, hits)); break;
+                    case 2:  nanos = BenchmarkModel.bestOn(build(dsName, keys), s -> getAll(s, misses)); break;
+                    case 3:  nanos = BenchmarkModel.bestOn(build(dsName, keys), s -> scanRanges(s, rangeStarts, width)); count = RANGES; break;
+                    default:
+                        build(dsName, Arrays.copyOf(keys, Math.min(keys.length, 1000)));
+                        results.add(BenchmarkModel.retainedResult(dsName, RETAINED, keys.length, () -> build(dsName, keys)));
+                        completed++;
+                        progress.accept((double) completed / totalTasks);
+                        continue;
+                }
+                Map<String, Double> metrics = new LinkedHashMap<>();
+                metrics.put(NS_PER_OP, (double) nanos / Math.max(1, count));
+                results.add(new BenchmarkResult(dsName, OPERATIONS[op], count, nanos, metrics, NS_PER_OP, true));
+
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return results;
+    }
+
+    // ── Data ─────────────────────────────────────────────────────
+
+    // Distinct even ints spread over the whole range, in random order
+    private static int[] evenKeys(int count, Random random) {
+        int[] out = new int[count];
+        HashSet<Integer> seen = new HashSet<>(count * 2);
+        for (int i = 0; i < count; ) {
+            int k = random.nextInt() & ~1;
+            if (seen.add(k)) out[i++] = k;
+        }
+        return out;
+    }
+
+    private static void shuffle(int[] a, Random random) {
+        for (int i = a.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    private static Object build(String dsName, int[] keys) {
+        if (dsName.startsWith(BPLUS_TREE)) {
+            BPlusTreeIntMap map = new BPlusTreeIntMap(Integer.parseInt(dsName.substring(BPLUS_TREE.length())));
+            for (int k : keys) map.put(k, k);
+            return map;
+        }
+        TreeMap<Integer, Integer> map = new TreeMap<>();
+        for (int k : keys) map.put(k, k);
+        return map;
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+
+    // One loop per concrete type, so each call site stays monomorphic
+    @SuppressWarnings("unchecked")
+    private long getAll(Object structure, int[] probes) {
+        long sum = 0;
+        long start = System.nanoTime();
+        if (structure instanceof BPlusTreeIntMap) {
+            BPlusTreeIntMap map = (BPlusTreeIntMap) structure;
+            for (int p : probes) sum += map.get(p);
+        } else {
+            TreeMap<Integer, Integer> map = (TreeMap<Integer, Integer>) structure;
+            for (int p : probes) {
+                Integer v = map.get(p);
+                if (v != null) sum += v;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += sum;
+        return nanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long scanRanges(Object structure, int[] starts, int width) {
+        rangeSum = 0;
+        long start = System.nanoTime();
+        if (structure instanceof BPlusTreeIntMap) {
+            BPlusTreeIntMap map = (BPlusTreeIntMap) structure;
+            for (int from : starts) {
+                int to = (int) Math.min(Integer.MAX_VALUE, (long) from + width);
+                map.forEachInRange(from, to, (k, v) -> rangeSum += v);
+            }
+        } else {
+            TreeMap<Integer, Integer> map = (TreeMap<Integer, Integer>) structure;
+            for (int from : starts) {
+                int to = (int) Math.min(Integer.MAX_VALUE, (long) from + width);
+                for (int v : map.subMap(from, to).values()) rangeSum += v;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += rangeSum;
+        return nanos;
+    }
+}
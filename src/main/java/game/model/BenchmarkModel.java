@@ -1,10 +1,26 @@
 package game.model;
 
+import game.collections.IntArrayDeque;
+import game.collections.IntArrayList;
+import game.collections.IntHashSet;
+import game.collections.IntIntHashMap;
+import game.collections.OffHeapLongLongMap;
+
 import javax.swing.*;
 import java.awt.Color;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 public class BenchmarkModel {
 
@@ -13,13 +29,48 @@ public class BenchmarkModel {
         private final String operationName;
         private final int elementCount;
         private final long timeNanos;
+        private final Map<String, Double> metrics;
+        private final String primaryMetric;
+        private final boolean lowerIsBetter;
+        private final String note;
+        private final double[] series;
 
         public BenchmarkResult(String dataStructureName, String operationName,
                                int elementCount, long timeNanos) {
+            this(dataStructureName, operationName, elementCount, timeNanos, Collections.emptyMap());
+        }
+
+        public BenchmarkResult(String dataStructureName, String operationName,
+                               int elementCount, long timeNanos, Map<String, Double> metrics) {
+            this(dataStructureName, operationName, elementCount, timeNanos, metrics, null, true);
+        }
+
+        // primaryMetric names the metric that ranks and sizes the bar instead of elapsed time
+        public BenchmarkResult(String dataStructureName, String operationName, int elementCount,
+                               long timeNanos, Map<String, Double> metrics,
+                               String primaryMetric, boolean lowerIsBetter) {
+            this(dataStructureName, operationName, elementCount, timeNanos, metrics, primaryMetric, lowerIsBetter, null);
+        }
+
+        // note is a short flag shown beside the bar, e.g. "OOM" or "THRASH"
+        public BenchmarkResult(String dataStructureName, String operationName, int elementCount,
+                               long timeNanos, Map<String, Double> metrics,
+                               String primaryMetric, boolean lowerIsBetter, String note) {
+            this(dataStructureName, operationName, elementCount, timeNanos, metrics, primaryMetric, lowerIsBetter, note, null);
+        }
+
+        private BenchmarkResult(String dataStructureName, String operationName, int elementCount,
+                                long timeNanos, Map<String, Double> metrics, String primaryMetric,
+                                boolean lowerIsBetter, String note, double[] series) {
             this.dataStructureName = dataStructureName;
             this.operationName = operationName;
             this.elementCount = elementCount;
             this.timeNanos = timeNanos;
+            this.metrics = Collections.unmodifiableMap(new LinkedHashMap<>(metrics));
+            this.primaryMetric = primaryMetric;
+            this.lowerIsBetter = lowerIsBetter;
+            this.note = note;
+            this.series = series == null ? null : series.clone();
         }
 
         public String getDataStructureName() { return dataStructureName; }
@@ -27,6 +78,33 @@ public class BenchmarkModel {
         public int getElementCount() { return elementCount; }
         public long getTimeNanos() { return timeNanos; }
         public double getTimeMs() { return timeNanos / 1_000_000.0; }
+        // Extra per-cell figures keyed by label with unit, e.g. "MB/s" or "alloc B/elem"
+        public Map<String, Double> getMetrics() { return metrics; }
+        public String getPrimaryMetric() { return primaryMetric; }
+        public boolean isLowerBetter() { return lowerIsBetter; }
+        public String getNote() { return note; }
+        // Samples over time for families that track drift, drawn as a sparkline; null otherwise
+        public double[] getSeries() { return series == null ? null : series.clone(); }
+        public double getValue() {
+            return primaryMetric == null ? getTimeMs() : metrics.getOrDefault(primaryMetric, 0.0);
+        }
+
+        BenchmarkResult withMetric(String name, double value) {
+            Map<String, Double> extended = new LinkedHashMap<>(metrics);
+            extended.put(name, value);
+            return new BenchmarkResult(dataStructureName, operationName, elementCount, timeNanos,
+                    extended, primaryMetric, lowerIsBetter, note, series);
+        }
+
+        BenchmarkResult withNote(String newNote) {
+            return new BenchmarkResult(dataStructureName, operationName, elementCount, timeNanos,
+                    metrics, primaryMetric, lowerIsBetter, newNote, series);
+        }
+
+        BenchmarkResult withSeries(double[] newSeries) {
+            return new BenchmarkResult(dataStructureName, operationName, elementCount, timeNanos,
+                    metrics, primaryMetric, lowerIsBetter, note, newSeries);
+        }
     }
 
     public enum Operation {
@@ -39,6 +117,50 @@ public class BenchmarkModel {
         public String getDisplayName() { return displayName; }
     }
 
+    public enum Family {
+        STANDARD("Core Operations", true, false),
+        SERIALIZATION("Serialization", false, false),
+        CONVERSION("Conversion / Copy", false, false),
+        FOOTPRINT("Memory Footprint", false, false),
+        KEY_TYPES("Key Types", true, true),
+        MEMORY_PRESSURE("Memory Pressure", false, false),
+        COLD_START("Cold Start", true, false),
+        TRACE_REPLAY("Trace Replay", false, false),
+        SOAK("Soak / Drift", false, false),
+        LOCALITY("Node Locality", false, false),
+        OPEN_ADDRESSING("Open Addressing", false, false),
+        GC_IMPACT("GC Impact: Off-Heap", false, false),
+        MAPPED_LIST("Mapped vs Heap List", false, false),
+        SORTED_INTS("Sorted Int Sets", false, false),
+        ROARING("Bitmap Set Algebra", false, false),
+        BPLUS_TREE("B+Tree vs TreeMap", false, false),
+        CONCURRENT_SORTED("Concurrent Sorted Maps", false, false),
+        CACHES("Bounded Caches (Zipf)", false, false),
+        PERSISTENT("Persistent Maps", false, false),
+        BLOOM("Bloom-Filtered Lookups", false, false),
+        CUCKOO("Cuckoo Lookup Tails", false, false),
+        SMALL_MAPS("Tiny Maps (n = 0..64)", false, false),
+        IMMUTABLE("Read-Only Lookups", false, false),
+        IDENTITY("Identity-Keyed Maps", false, false);
+
+        private final String displayName;
+        private final boolean usesOperations;
+        private final boolean usesKeyType;
+        Family(String displayName, boolean usesOperations, boolean usesKeyType) {
+            this.displayName = displayName;
+            this.usesOperations = usesOperations;
+            this.usesKeyType = usesKeyType;
+        }
+        public String getDisplayName() { return displayName; }
+        public boolean usesOperations() { return usesOperations; }
+        public boolean usesKeyType() { return usesKeyType; }
+    }
+
+    // A family measures every structure in its own way and reports one result per cell
+    interface FamilyRunner {
+        List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled);
+    }
+
     public static final LinkedHashMap<String, Color> DS_COLORS = new LinkedHashMap<>();
     static {
         DS_COLORS.put("ArrayList",         new Color(0, 200, 255));
@@ -53,14 +175,152 @@ public class BenchmarkModel {
         DS_COLORS.put("TreeMap",           new Color(100, 220, 180));
         DS_COLORS.put("Hashtable",         new Color(200, 120, 80));
         DS_COLORS.put("ConcurrentHashMap", new Color(100, 150, 220));
+        DS_COLORS.put("ConcurrentSkipListMap", new Color(110, 230, 230));
+        DS_COLORS.put("IntArrayList",      new Color(120, 230, 255));
+        DS_COLORS.put("IntArrayDeque",     new Color(210, 160, 255));
+        DS_COLORS.put("IntHashSet",        new Color(255, 190, 140));
+        DS_COLORS.put("IntIntHashMap",     new Color(255, 225, 150));
+        DS_COLORS.put("OffHeapLongLongMap", new Color(150, 235, 170));
+    }
+
+    // Structures only one family measures; they keep a color but stay out of DS_COLORS,
+    // which every other family iterates
+    static final Map<String, Color> FAMILY_COLORS = new LinkedHashMap<>();
+    static {
+        FAMILY_COLORS.put(OpenAddressingBenchmark.LINEAR,     new Color(120, 220, 255));
+        FAMILY_COLORS.put(OpenAddressingBenchmark.ROBIN_HOOD, new Color(200, 150, 230));
+        FAMILY_COLORS.put(OpenAddressingBenchmark.SWISS,      new Color(255, 130, 90));
+        FAMILY_COLORS.put(GcImpactBenchmark.BOXED,            new Color(255, 200, 80));
+        FAMILY_COLORS.put(MappedListBenchmark.HEAP_LIST,      new Color(100, 200, 255));
+        FAMILY_COLORS.put(MappedListBenchmark.MAPPED_LIST,    new Color(170, 230, 120));
+        FAMILY_COLORS.put(SortedIntBenchmark.SORTED_ARRAY,    new Color(230, 200, 120));
+        FAMILY_COLORS.put(SortedIntBenchmark.COMPRESSED,      new Color(100, 220, 210));
+        FAMILY_COLORS.put(RoaringBenchmark.ROARING,           new Color(240, 130, 200));
+        FAMILY_COLORS.put(BPlusTreeBenchmark.BPLUS_TREE + 8,   new Color(170, 200, 255));
+        FAMILY_COLORS.put(BPlusTreeBenchmark.BPLUS_TREE + 32,  new Color(120, 170, 255));
+        FAMILY_COLORS.put(BPlusTreeBenchmark.BPLUS_TREE + 128, new Color(80, 120, 240));
+        FAMILY_COLORS.put(ConcurrentSortedBenchmark.SYNCHRONIZED_TREE, new Color(60, 170, 130));
+        FAMILY_COLORS.put(ConcurrentSortedBenchmark.LOCK_FREE,  new Color(255, 120, 200));
+        FAMILY_COLORS.put(CacheBenchmark.SYNCHRONIZED_LRU,      new Color(255, 160, 110));
+        FAMILY_COLORS.put(CacheBenchmark.TINY_LFU,              new Color(150, 230, 120));
+        FAMILY_COLORS.put(PersistentMapBenchmark.CHAMP,         new Color(230, 170, 255));
+        FAMILY_COLORS.put(PersistentMapBenchmark.COPY_ON_WRITE, new Color(255, 200, 80));
+        FAMILY_COLORS.put(PersistentMapBenchmark.COPY_OF,       new Color(200, 200, 120));
+        FAMILY_COLORS.put(BloomBenchmark.BLOOM_1,               new Color(255, 140, 170));
+        FAMILY_COLORS.put(BloomBenchmark.BLOOM_10,              new Color(255, 200, 220));
+        FAMILY_COLORS.put(BloomBenchmark.BLOCKED_1,             new Color(255, 90, 120));
+        FAMILY_COLORS.put(BloomBenchmark.BLOOM_TREE,            new Color(180, 120, 255));
+        FAMILY_COLORS.put(CuckooBenchmark.CUCKOO,               new Color(255, 215, 110));
+        FAMILY_COLORS.put(SmallMapBenchmark.SORTED_ARRAY,       new Color(140, 210, 255));
+        FAMILY_COLORS.put(SmallMapBenchmark.MAP_OF,             new Color(200, 200, 120));
+        FAMILY_COLORS.put(ImmutableLookupBenchmark.SET_OF,      new Color(230, 230, 160));
+        FAMILY_COLORS.put(IdentityMapBenchmark.IDENTITY_HASH_MAP, new Color(120, 220, 220));
+    }
+
+    public static Color colorOf(String dsName, Color fallback) {
+        Color color = DS_COLORS.get(dsName);
+        if (color == null) color = FAMILY_COLORS.get(dsName);
+        return color != null ? color : fallback;
+    }
+
+    // game.collections structures and the boxed java.util structure each one replaces
+    static final Map<String, String> BOXED_COUNTERPARTS = new LinkedHashMap<>();
+    static {
+        BOXED_COUNTERPARTS.put("IntArrayList",  "ArrayList");
+        BOXED_COUNTERPARTS.put("IntArrayDeque", "ArrayDeque");
+        BOXED_COUNTERPARTS.put("IntHashSet",    "HashSet");
+        BOXED_COUNTERPARTS.put("IntIntHashMap", "HashMap");
+        BOXED_COUNTERPARTS.put("OffHeapLongLongMap", "HashMap");
+    }
+
+    // Extra structures registered through StructureProvider, appended after the built-ins
+    static final Map<String, StructureProvider> PROVIDERS = new LinkedHashMap<>();
+    static {
+        Iterator<StructureProvider> it = ServiceLoader.load(StructureProvider.class).iterator();
+        while (true) {
+            StructureProvider provider;
+            try {
+                if (!it.hasNext()) break;
+                provider = it.next();
+            } catch (ServiceConfigurationError e) {
+                System.err.println("Skipping structure provider: " + e.getMessage());
+                continue;
+            }
+            if (DS_COLORS.containsKey(provider.getName())) {
+                System.err.println("Skipping structure provider " + provider.getClass().getName()
+                        + ": name '" + provider.getName() + "' is already taken");
+                continue;
+            }
+            PROVIDERS.put(provider.getName(), provider);
+            DS_COLORS.put(provider.getName(), provider.getColor());
+        }
     }
 
     private List<BenchmarkResult> results = new ArrayList<>();
     private volatile boolean running = false;
     private SwingWorker<Void, Double> currentWorker;
 
+    private KeyTypeBenchmark.KeyType keyType = KeyTypeBenchmark.KeyType.INTEGER;
+    private int forkedHeapMb = 128;
+    private int maxBallastPercent = 80;
+    private int coldStartSamples = 5;
+    private Path tracePath;
+    private int soakSeconds = 30;
+    private volatile String lastError;
+
     public List<BenchmarkResult> getResults() { return Collections.unmodifiableList(results); }
     public boolean isRunning() { return running; }
+    public KeyTypeBenchmark.KeyType getKeyType() { return keyType; }
+    public void setKeyType(KeyTypeBenchmark.KeyType keyType) { this.keyType = keyType; }
+    public int getForkedHeapMb() { return forkedHeapMb; }
+    public void setForkedHeapMb(int forkedHeapMb) { this.forkedHeapMb = forkedHeapMb; }
+    public int getMaxBallastPercent() { return maxBallastPercent; }
+    public void setMaxBallastPercent(int maxBallastPercent) { this.maxBallastPercent = maxBallastPercent; }
+    public int getColdStartSamples() { return coldStartSamples; }
+    public void setColdStartSamples(int coldStartSamples) { this.coldStartSamples = coldStartSamples; }
+    public Path getTracePath() { return tracePath; }
+    public void setTracePath(Path tracePath) { this.tracePath = tracePath; }
+    public int getSoakSeconds() { return soakSeconds; }
+    public void setSoakSeconds(int soakSeconds) { this.soakSeconds = soakSeconds; }
+    // Message of the exception that ended the last run early, or null
+    public String getLastError() { return lastError; }
+
+    // One row per result; every metric seen in the run gets its own column
+    public void exportCsv(Path file) throws IOException {
+        Set<String> metricNames = new LinkedHashSet<>();
+        for (BenchmarkResult r : results) metricNames.addAll(r.getMetrics().keySet());
+
+        StringBuilder sb = new StringBuilder("structure,operation,elements,time_ms,note");
+        for (String name : metricNames) sb.append(',').append(csvField(name));
+        sb.append(",series\n");
+        for (BenchmarkResult r : results) {
+            sb.append(csvField(r.getDataStructureName())).append(',')
+              .append(csvField(r.getOperationName())).append(',')
+              .append(r.getElementCount()).append(',')
+              .append(String.format(Locale.ROOT, "%.4f", r.getTimeMs())).append(',')
+              .append(r.getNote() == null ? "" : csvField(r.getNote()));
+            for (String name : metricNames) {
+                Double v = r.getMetrics().get(name);
+                sb.append(',');
+                if (v != null) sb.append(String.format(Locale.ROOT, "%.4f", v));
+            }
+            sb.append(',');
+            double[] series = r.getSeries();
+            if (series != null) {
+                for (int i = 0; i < series.length; i++) {
+                    if (i > 0) sb.append(';');
+                    sb.append(String.format(Locale.ROOT, "%.4f", series[i]));
+                }
+            }
+            sb.append('\n');
+        }
+        Files.writeString(file, sb, StandardCharsets.UTF_8);
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) return value;
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
 
     public void cancel() {
         if (currentWorker != null && !currentWorker.isDone()) {
@@ -69,49 +329,25 @@ public class BenchmarkModel {
         }
     }
 
-    public void runBenchmarks(int elementCount, Set<Operation> operations,
+    public void runBenchmarks(Family family, int elementCount, Set<Operation> operations,
                               Consumer<Double> progressCallback, Runnable onComplete) {
         if (running) return;
 
+        FamilyRunner runner = createRunner(family, operations);
+
         currentWorker = new SwingWorker<>() {
             @Override
             protected Void doInBackground() {
                 running = true;
-                List<BenchmarkResult> newResults = new ArrayList<>();
-                List<String> dsNames = new ArrayList<>(DS_COLORS.keySet());
-                int totalTasks = dsNames.size() * operations.size();
-                int completed = 0;
-
-                Random random = new Random(42);
-
-                for (String dsName : dsNames) {
-                    if (isCancelled()) break;
-
-                    for (Operation op : Operation.values()) {
-                        if (isCancelled()) break;
-                        if (!operations.contains(op)) continue;
-
-                        // Warmup 2x at 1/10 size
-                        int warmupSize = Math.max(100, elementCount / 10);
-                        for (int w = 0; w < 2; w++) {
-                            runSingleBenchmark(dsName, op, warmupSize, new Random(random.nextLong()));
-                        }
-
-                        // GC before measurement
-                        System.gc();
-                        try { Thread.sleep(50); } catch (InterruptedException e) { return null; }
-
-                        // Actual measurement
-                        long nanos = runSingleBenchmark(dsName, op, elementCount, new Random(42));
-                        newResults.add(new BenchmarkResult(dsName, op.getDisplayName(), elementCount, nanos));
-
-                        completed++;
-                        double progress = (double) completed / totalTasks;
-                        SwingUtilities.invokeLater(() -> progressCallback.accept(progress));
-                    }
+                lastError = null;
+                try {
+                    results = runner.run(elementCount,
+                            progress -> SwingUtilities.invokeLater(() -> progressCallback.accept(progress)),
+                            this::isCancelled);
+                } catch (RuntimeException e) {
+                    results = new ArrayList<>();
+                    lastError = e.getMessage() != null ? e.getMessage() : e.toString();
                 }
-
-                results = newResults;
                 running = false;
                 return null;
             }
@@ -128,8 +364,94 @@ public class BenchmarkModel {
         currentWorker.execute();
     }
 
+    private FamilyRunner createRunner(Family family, Set<Operation> operations) {
+        switch (family) {
+            case SERIALIZATION: return new SerializationBenchmark();
+            case CONVERSION:    return new ConversionBenchmark();
+            case FOOTPRINT:     return new FootprintBenchmark();
+            case KEY_TYPES:     return new KeyTypeBenchmark(keyType, operations);
+            case MEMORY_PRESSURE: return new PressureBenchmark(forkedHeapMb, maxBallastPercent);
+            case COLD_START:    return new ColdStartBenchmark(operations, coldStartSamples);
+            case TRACE_REPLAY:  return new TraceReplayBenchmark(tracePath);
+            case SOAK:          return new SoakBenchmark(soakSeconds);
+            case LOCALITY:      return new LocalityBenchmark();
+            case OPEN_ADDRESSING: return new OpenAddressingBenchmark();
+            case GC_IMPACT:     return new GcImpactBenchmark();
+            case MAPPED_LIST:   return new MappedListBenchmark(forkedHeapMb);
+            case SORTED_INTS:   return new SortedIntBenchmark();
+            case ROARING:       return new RoaringBenchmark();
+            case BPLUS_TREE:    return new BPlusTreeBenchmark();
+            case CONCURRENT_SORTED: return new ConcurrentSortedBenchmark();
+            case CACHES:        return new CacheBenchmark();
+            case PERSISTENT:    return new PersistentMapBenchmark();
+            case BLOOM:         return new BloomBenchmark();
+            case CUCKOO:        return new CuckooBenchmark();
+            case SMALL_MAPS:    return new SmallMapBenchmark();
+            case IMMUTABLE:     return new ImmutableLookupBenchmark();
+            case IDENTITY:      return new IdentityMapBenchmark();
+            default:            return (count, progress, cancelled) -> runCoreOperations(count, operations, progress, cancelled);
+        }
+    }
+
+    private List<BenchmarkResult> runCoreOperations(int elementCount, Set<Operation> operations,
+                                                    Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> newResults = new ArrayList<>();
+        List<String> dsNames = new ArrayList<>(DS_COLORS.keySet());
+        int totalTasks = dsNames.size() * operations.size();
+        int completed = 0;
+
+        Random random = new Random(42);
+
+        for (String dsName : dsNames) {
+            if (cancelled.getAsBoolean()) break;
+
+            for (Operation op : Operation.values()) {
+                if (cancelled.getAsBoolean()) break;
+                if (!operations.contains(op)) continue;
+
+                // Warmup 2x at 1/10 size
+                int warmupSize = Math.max(100, elementCount / 10);
+                for (int w = 0; w < 2; w++) {
+                    runSingleBenchmark(dsName, op, warmupSize, new Random(random.nextLong()));
+                }
+
+                // GC before measurement
+                if (!settle()) return newResults;
+
+                // Actual measurement
+                long nanos = runSingleBenchmark(dsName, op, elementCount, new Random(42));
+                newResults.add(new BenchmarkResult(dsName, op.getDisplayName(), elementCount, nanos));
+
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return withBoxingTax(newResults, "x vs boxed");
+    }
+
+    // Annotates each primitive result with its boxed counterpart's cost divided by its own
+    static List<BenchmarkResult> withBoxingTax(List<BenchmarkResult> results, String metricName) {
+        Map<String, BenchmarkResult> byCell = new HashMap<>();
+        for (BenchmarkResult r : results) {
+            byCell.put(r.getDataStructureName() + "|" + r.getOperationName(), r);
+        }
+
+        List<BenchmarkResult> annotated = new ArrayList<>(results.size());
+        for (BenchmarkResult r : results) {
+            String boxedName = BOXED_COUNTERPARTS.get(r.getDataStructureName());
+            BenchmarkResult boxed = boxedName == null ? null : byCell.get(boxedName + "|" + r.getOperationName());
+            if (boxed == null || r.getValue() <= 0) {
+                annotated.add(r);
+                continue;
+            }
+            annotated.add(r.withMetric(metricName, boxed.getValue() / r.getValue()));
+        }
+        return annotated;
+    }
+
     private long runSingleBenchmark(String dsName, Operation op, int count, Random random) {
-        boolean isMap = dsName.contains("Map") || dsName.equals("Hashtable");
+        if (isPrimitive(dsName)) return benchmarkPrimitive(dsName, op, count, random);
+        boolean isMap = isMap(dsName);
 
         switch (op) {
             case ADD:    return isMap ? benchmarkMapAdd(dsName, count, random) : benchmarkCollectionAdd(dsName, count, random);
@@ -234,9 +556,160 @@ public class BenchmarkModel {
         return System.nanoTime() - start;
     }
 
+    // ── Primitive benchmarks (game.collections) ──────────────────
+
+    // Mirrors the boxed workloads above call for call, minus the Integer boxes
+    private long benchmarkPrimitive(String dsName, Operation op, int count, Random random) {
+        int[] data = randomInts(count, random);
+        switch (dsName) {
+            case "IntArrayList": {
+                IntArrayList list = new IntArrayList();
+                if (op == Operation.ADD) {
+                    long start = System.nanoTime();
+                    for (int v : data) list.add(v);
+                    return System.nanoTime() - start;
+                }
+                for (int v : data) list.add(v);
+                if (op == Operation.GET) {
+                    int[] lookups = randomInts(count, new Random(99));
+                    int size = list.size();
+                    long start = System.nanoTime();
+                    for (int i = 0; i < count; i++) list.get(Math.abs(lookups[i]) % size);
+                    return System.nanoTime() - start;
+                }
+                long start = System.nanoTime();
+                while (!list.isEmpty()) list.removeLast();
+                return System.nanoTime() - start;
+            }
+            case "IntArrayDeque": {
+                IntArrayDeque deque = new IntArrayDeque();
+                if (op == Operation.ADD) {
+                    long start = System.nanoTime();
+                    for (int v : data) deque.addLast(v);
+                    return System.nanoTime() - start;
+                }
+                for (int v : data) deque.addLast(v);
+                if (op == Operation.GET) {
+                    int[] lookups = randomInts(count, new Random(99));
+                    long start = System.nanoTime();
+                    for (int v : lookups) deque.contains(v);
+                    return System.nanoTime() - start;
+                }
+                long start = System.nanoTime();
+                while (!deque.isEmpty()) deque.removeFirst();
+                return System.nanoTime() - start;
+            }
+            case "IntHashSet": {
+                IntHashSet set = new IntHashSet();
+                if (op == Operation.ADD) {
+                    long start = System.nanoTime();
+                    for (int v : data) set.add(v);
+                    return System.nanoTime() - start;
+                }
+                for (int v : data) set.add(v);
+                if (op == Operation.GET) {
+                    int[] lookups = randomInts(count, new Random(99));
+                    long start = System.nanoTime();
+                    for (int v : lookups) set.contains(v);
+                    return System.nanoTime() - start;
+                }
+                long start = System.nanoTime();
+                for (int v : data) set.remove(v);
+                return System.nanoTime() - start;
+            }
+            case "IntIntHashMap": {
+                IntIntHashMap map = new IntIntHashMap();
+                if (op == Operation.ADD) {
+                    int[] vals = randomInts(count, random);
+                    long start = System.nanoTime();
+                    for (int i = 0; i < count; i++) map.put(data[i], vals[i]);
+                    return System.nanoTime() - start;
+                }
+                for (int i = 0; i < count; i++) map.put(data[i], i);
+                if (op == Operation.GET) {
+                    int[] lookups = randomInts(count, new Random(99));
+                    long start = System.nanoTime();
+                    for (int v : lookups) map.get(v);
+                    return System.nanoTime() - start;
+                }
+                long start = System.nanoTime();
+                for (int k : data) map.remove(k);
+                return System.nanoTime() - start;
+            }
+            case "OffHeapLongLongMap": {
+                // Closed after the measurement; the native memory itself only returns once the GC collects the buffers
+                try (OffHeapLongLongMap map = new OffHeapLongLongMap()) {
+                    if (op == Operation.ADD) {
+                        int[] vals = randomInts(count, random);
+                        long start = System.nanoTime();
+                        for (int i = 0; i < count; i++) map.put(data[i], vals[i]);
+                        return System.nanoTime() - start;
+                    }
+                    for (int i = 0; i < count; i++) map.put(data[i], i);
+                    if (op == Operation.GET) {
+                        int[] lookups = randomInts(count, new Random(99));
+                        long start = System.nanoTime();
+                        for (int v : lookups) map.get(v);
+                        return System.nanoTime() - start;
+                    }
+                    long start = System.nanoTime();
+                    for (int k : data) map.remove(k);
+                    return System.nanoTime() - start;
+                }
+            }
+            default: throw new IllegalArgumentException("Not a primitive structure: " + dsName);
+        }
+    }
+
     // ── Factories ────────────────────────────────────────────────
 
-    private Collection<Integer> createCollection(String name) {
+    static boolean isPrimitive(String dsName) {
+        return BOXED_COUNTERPARTS.containsKey(dsName);
+    }
+
+    // Structures that hold Integer and can go through java.util-based families
+    static List<String> boxedStructureNames() {
+        List<String> names = new ArrayList<>();
+        for (String name : DS_COLORS.keySet()) {
+            if (!isPrimitive(name)) names.add(name);
+        }
+        return names;
+    }
+
+    // Builds a populated structure of either kind, for families that only need it to exist
+    @SuppressWarnings("unchecked")
+    static Object populate(String dsName, int[] keys) {
+        switch (dsName) {
+            case "IntArrayList":  { IntArrayList l = new IntArrayList(); for (int k : keys) l.add(k); return l; }
+            case "IntArrayDeque": { IntArrayDeque d = new IntArrayDeque(); for (int k : keys) d.addLast(k); return d; }
+            case "IntHashSet":    { IntHashSet s = new IntHashSet(); for (int k : keys) s.add(k); return s; }
+            case "IntIntHashMap": { IntIntHashMap m = new IntIntHashMap(); for (int k : keys) m.put(k, k); return m; }
+            case "OffHeapLongLongMap": { OffHeapLongLongMap m = new OffHeapLongLongMap(); for (int k : keys) m.put(k, k); return m; }
+            default:
+                if (isMap(dsName)) {
+                    Map<Integer, Integer> map = (Map<Integer, Integer>) createMap(dsName);
+                    for (int k : keys) map.put(k, k);
+                    return map;
+                }
+                Collection<Integer> coll = createCollection(dsName);
+                for (int k : keys) coll.add(k);
+                return coll;
+        }
+    }
+
+    static boolean isMap(String dsName) {
+        StructureProvider provider = PROVIDERS.get(dsName);
+        if (provider != null) return provider.isMap();
+        return dsName.contains("Map") || dsName.equals("Hashtable");
+    }
+
+    static boolean isSet(String dsName) {
+        return !isPrimitive(dsName) && !isMap(dsName) && createCollection(dsName) instanceof Set;
+    }
+
+    static <E> Collection<E> createCollection(String name) {
+        StructureProvider provider = PROVIDERS.get(name);
+        if (provider != null && !provider.isMap()) return provider.newCollection();
         switch (name) {
             case "ArrayList":     return new java.util.ArrayList<>();
             case "LinkedList":    return new java.util.LinkedList<>();
@@ -249,20 +722,111 @@ public class BenchmarkModel {
         }
     }
 
-    private Map<?, ?> createMap(String name) {
+    static Map<?, ?> createMap(String name) {
+        StructureProvider provider = PROVIDERS.get(name);
+        if (provider != null && provider.isMap()) return provider.newMap();
         switch (name) {
             case "HashMap":           return new java.util.HashMap<>();
             case "LinkedHashMap":     return new java.util.LinkedHashMap<>();
             case "TreeMap":           return new java.util.TreeMap<>();
             case "Hashtable":         return new java.util.Hashtable<>();
             case "ConcurrentHashMap": return new ConcurrentHashMap<>();
+            case "ConcurrentSkipListMap": return new ConcurrentSkipListMap<>();
             default: throw new IllegalArgumentException("Not a map: " + name);
         }
     }
 
-    private int[] randomInts(int count, Random random) {
+    static int[] randomInts(int count, Random random) {
         int[] arr = new int[count];
         for (int i = 0; i < count; i++) arr[i] = random.nextInt(count * 2);
         return arr;
     }
+
+    // ── Measurement helpers ──────────────────────────────────────
+
+    // GC and a short pause before a measured cell; false if the worker was interrupted
+    static boolean settle() {
+        System.gc();
+        try {
+            Thread.sleep(50);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Bytes allocated so far by the calling thread, or -1 if the JVM cannot tell
+    static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) bean;
+            if (hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled()) {
+                return hotspot.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return -1;
+    }
+
+    static long allocatedSince(long before) {
+        if (before < 0) return -1;
+        long after = allocatedBytes();
+        return after < 0 ? -1 : after - before;
+    }
+
+    static final int BEST_OF = 3;
+
+    // Two warmup rounds, then the fastest of BEST_OF. setup supplies the instance each round
+    // works on: a fresh one for operations that consume their input.
+    static <T> long best(Supplier<? extends T> setup, ToLongFunction<? super T> measured) {
+        for (int i = 0; i < 2; i++) measured.applyAsLong(setup.get());
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < BEST_OF; i++) best = Math.min(best, measured.applyAsLong(setup.get()));
+        return best;
+    }
+
+    static <T> long bestOn(T structure, ToLongFunction<? super T> measured) {
+        return best(() -> structure, measured);
+    }
+
+    // Consumed after every timed build so the JIT cannot drop it
+    private static long buildSink;
+
+    static long timedBuild(Supplier<?> build) {
+        long start = System.nanoTime();
+        Object built = build.get();
+        long nanos = System.nanoTime() - start;
+        buildSink += System.identityHashCode(built);
+        return nanos;
+    }
+
+    // Strong root for the structure under measurement
+    private static Object retained;
+
+    record Retained(Object structure, long bytes, long nanos) {}
+
+    // Heap growth across one build, GC'd on both sides. The structure comes back so callers
+    // can add their own metrics; anything build shares with the caller is not in the delta.
+    static Retained measureRetained(Supplier<?> build) {
+        long before = FootprintBenchmark.usedHeapAfterGc();
+        long start = System.nanoTime();
+        retained = build.get();
+        long nanos = System.nanoTime() - start;
+        long after = FootprintBenchmark.usedHeapAfterGc();
+        Object structure = retained;
+        retained = null;
+        return new Retained(structure, Math.max(0, after - before), nanos);
+    }
+
+    static BenchmarkResult retainedResult(String dsName, String operation, int count, Supplier<?> build) {
+        return retainedResult(dsName, operation, count, "B/elem", measureRetained(build));
+    }
+
+    // unit names the per-element metric, e.g. "B/entry" where an element is a key-value pair
+    static BenchmarkResult retainedResult(String dsName, String operation, int count, String unit, Retained measured) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put(unit, (double) measured.bytes() / Math.max(1, count));
+        metrics.put("KB total", measured.bytes() / 1024.0);
+        return new BenchmarkResult(dsName, operation, count, measured.nanos(), metrics, unit, true);
+    }
 }
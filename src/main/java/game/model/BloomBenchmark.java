@@ -0,0 +1,144 @@
+package game.model;
+
+import game.collections.BloomFilter;
+import game.collections.BloomFilteredSet;
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// A bare HashSet<Integer> against the same set behind a Bloom filter sized for 1% and for
+// 10% false positives, and behind a blocked filter (all probes in one cache line) sized
+// for 1%. Each contains cell mixes members and absent keys at a fixed ratio: the more
+// lookups miss, the more of them the filter answers on its own without touching the
+// set's table and nodes.
+//
+// A HashSet miss is already about one cache miss, so in front of it the filter mostly
+// breaks even; the TreeSet pair shows the same filter in front of a set whose miss walks
+// log n nodes. The retained-heap cell counts set and filter together and reports the
+// filter's own share next to it: that is all a lookup has to keep in cache to turn a miss
+// away, and all that has to stay on the heap if the set itself moves off it.
+public class BloomBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String HASH_SET = "HashSet";
+    static final String BLOOM_1 = "Bloom 1% + HashSet";
+    static final String BLOOM_10 = "Bloom 10% + HashSet";
+    static final String BLOCKED_1 = "Blocked Bloom 1% + HashSet";
+    static final String TREE_SET = "TreeSet";
+    static final String BLOOM_TREE = "Bloom 1% + TreeSet";
+    static final String NS_PER_OP = "ns/op";
+
+    private static final List<String> STRUCTURES = List.of(HASH_SET, BLOOM_1, BLOOM_10, BLOCKED_1, TREE_SET, BLOOM_TREE);
+    private static final int[] ABSENT_PERCENTS = {0, 50, 90, 99};
+    // Enough probes to time reliably, few enough that TreeSet cells stay short
+    private static final int MIN_PROBES = 100_000;
+    private static final int MAX_PROBES = 250_000;
+
+    private long sink;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = STRUCTURES.size() * (ABSENT_PERCENTS.length + 1);
+        int completed = 0;
+
+        Random random = new Random(42);
+        Set<Integer> seen = new HashSet<>();
+        Integer[] members = distinct(elementCount, random, seen);
+        Integer[] absent = distinct(Math.max(elementCount, 1024), random, seen);
+        seen = null;
+
+        for (String dsName : STRUCTURES) {
+            for (int p = 0; p <= ABSENT_PERCENTS.length; p++) {
+                if (cancelled.getAsBoolean()) return results;
+                if (!BenchmarkModel.settle()) return results;
+
+                if (p == ABSENT_PERCENTS.length) {
+                    results.add(retainedResult(dsName, members));
+                } else {
+                    int percent = ABSENT_PERCENTS[p];
+                    Integer[] probes = probes(members, absent, percent, new Random(7 + p));
+                    Set<Integer> set = build(dsName, members);
+                    long best = BenchmarkModel.bestOn(set, s -> containsAll(s, probes));
+                    Map<String, Double> metrics = new LinkedHashMap<>();
+                    metrics.put(NS_PER_OP, (double) best / probes.length);
+                    if (set instanceof BloomFilteredSet) {
+                        BloomFilteredSet<Integer> bloom = (BloomFilteredSet<Integer>) set;
+                        metrics.put("filtered %", 100.0 * bloom.filteredLookups() / probes.length);
+                        metrics.put("observed FPR %", 100.0 * bloom.observedFalsePositiveRate());
+                        metrics.put("predicted FPR %", 100.0 * bloom.filter().expectedFalsePositiveRate(members.length));
+                    }
+                    results.add(new BenchmarkResult(dsName, "CONTAINS, " + percent + "% absent", probes.length, best,
+                            metrics, NS_PER_OP, true));
+                }
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return results;
+    }
+
+    private static BenchmarkResult retainedResult(String dsName, Integer[] members) {
+        // The boxed members are shared with the caller and not part of the delta
+        BenchmarkModel.Retained measured = BenchmarkModel.measureRetained(() -> build(dsName, members));
+        BenchmarkResult result = BenchmarkModel.retainedResult(dsName, "RETAINED HEAP", members.length, "B/elem", measured);
+        if (!(measured.structure() instanceof BloomFilteredSet)) return result;
+        BloomFilter filter = ((BloomFilteredSet<?>) measured.structure()).filter();
+        long bytes = measured.bytes();
+        return result.withMetric("filter B/elem", (double) filter.memoryBytes() / members.length)
+                .withMetric("filter % of total", bytes == 0 ? 0 : 100.0 * filter.memoryBytes() / bytes)
+                .withMetric("k", (double) filter.hashCount());
+    }
+
+    private static Integer[] distinct(int count, Random random, Set<Integer> seen) {
+        Integer[] out = new Integer[count];
+        for (int i = 0; i < count; ) {
+            int value = random.nextInt();
+            if (seen.add(value)) out[i++] = value;
+        }
+        return out;
+    }
+
+    private static Integer[] probes(Integer[] members, Integer[] absent, int absentPercent, Random random) {
+        Integer[] probes = new Integer[Math.max(MIN_PROBES, Math.min(MAX_PROBES, members.length))];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = random.nextInt(100) < absentPercent
+                    ? absent[random.nextInt(absent.length)]
+                    : members[random.nextInt(members.length)];
+        }
+        return probes;
+    }
+
+    private static Set<Integer> build(String dsName, Integer[] members) {
+        boolean tree = dsName.equals(TREE_SET) || dsName.equals(BLOOM_TREE);
+        Set<Integer> set = tree ? new TreeSet<>(Arrays.asList(members)) : new HashSet<>(Arrays.asList(members));
+        if (dsName.equals(HASH_SET) || dsName.equals(TREE_SET)) return set;
+        double rate = dsName.equals(BLOOM_10) ? 0.10 : 0.01;
+        return new BloomFilteredSet<>(set, BloomFilter.forExpected(members.length, rate, dsName.equals(BLOCKED_1)));
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+
+    // One loop per concrete type, so each call site stays monomorphic. The filter's stats are
+    // reset first, so they describe the last round only.
+    @SuppressWarnings("unchecked")
+    private long containsAll(Object set, Integer[] probes) {
+        if (set instanceof BloomFilteredSet) ((BloomFilteredSet<Integer>) set).resetStats();
+        int found = 0;
+        long start = System.nanoTime();
+        if (set instanceof BloomFilteredSet) {
+            BloomFilteredSet<Integer> bloom = (BloomFilteredSet<Integer>) set;
+            for (Integer p : probes) if (bloom.contains(p)) found++;
+        } else if (set instanceof TreeSet) {
+            TreeSet<Integer> treeSet = (TreeSet<Integer>) set;
+            for (Integer p : probes) if (treeSet.contains(p)) found++;
+        } else {
+            HashSet<Integer> hashSet = (HashSet<Integer>) set;
+            for (Integer p : probes) if (hashSet.contains(p)) found++;
+        }
+        long nanos = System.nanoTime() - start;
+        sink += found;
+        return nanos;
+    }
+}
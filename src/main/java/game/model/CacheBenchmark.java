@@ -0,0 +1,249 @@
+package game.model;
+
+import game.collections.TinyLfuIntCache;
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Bounded caches replaying Zipfian key traces: the usual LRU idiom, an access-order
+// LinkedHashMap with removeEldestEntry behind Collections.synchronizedMap, against
+// TinyLfuIntCache. Every access is cache-aside: get, and put the key on a miss.
+//
+// The universe is elementCount keys and the cache holds 1% of it. Hit-ratio cells run on
+// one thread and report the hit rate after a 10% warm-up, including one trace with a
+// one-off sequential scan every few thousand accesses, which flushes an LRU but mostly
+// fails TinyLFU admission. Throughput cells split the same trace across 1, 2 and 4 threads.
+public class CacheBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String SYNCHRONIZED_LRU = "synchronized LinkedHashMap (LRU)";
+    static final String TINY_LFU = "TinyLfuIntCache";
+    static final String HIT_RATE = "hit %";
+    static final String NS_PER_OP = "ns/op";
+
+    private static final List<String> STRUCTURES = List.of(SYNCHRONIZED_LRU, TINY_LFU);
+    private static final double[] SKEWS = {0.8, 1.0};
+    private static final int[] THREADS = {1, 2, 4};
+    private static final int SCAN_EVERY = 4000;
+    private static final int ROUNDS = 3;
+
+    private final LongAdder sink = new LongAdder();
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int capacity = Math.max(64, elementCount / 100);
+        int length = Math.max(200_000, elementCount * 2);
+        int totalTasks = STRUCTURES.size() * (SKEWS.length + 1 + THREADS.length);
+        int completed = 0;
+
+        List<String> traceNames = new ArrayList<>();
+        List<int[]> traces = new ArrayList<>();
+        for (double skew : SKEWS) {
+            traceNames.add("HIT RATIO, zipf " + skew);
+            traces.add(zipfKeys(elementCount, skew, length, 42));
+        }
+        traceNames.add("HIT RATIO, zipf 1.0 + scans");
+        traces.add(withScans(traces.get(traces.size() - 1), elementCount, capacity));
+
+        for (int t = 0; t < traces.size(); t++) {
+            for (String dsName : STRUCTURES) {
+                if (cancelled.getAsBoolean()) return results;
+                if (!BenchmarkModel.settle()) return results;
+                results.add(hitRatioCell(dsName, traceNames.get(t), traces.get(t), capacity));
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+
+        int[] trace = traces.get(SKEWS.length - 1);
+        for (int threads : THREADS) {
+            for (String dsName : STRUCTURES) {
+                if (cancelled.getAsBoolean()) return results;
+                if (!BenchmarkModel.settle()) return results;
+                results.add(throughputCell(dsName, trace, capacity, threads));
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return results;
+    }
+
+    // ── Traces ───────────────────────────────────────────────────
+
+    // length draws from a Zipf(skew) distribution over universe keys; rank r is drawn with
+    // probability proportional to 1 / r^skew and mapped to a shuffled key so the hot keys
+    // are not also the smallest ones
+    static int[] zipfKeys(int universe, double skew, int length, long seed) {
+        double[] cdf = new double[universe];
+        double sum = 0;
+        for (int r = 0; r < universe; r++) {
+            sum += 1.0 / Math.pow(r + 1, skew);
+            cdf[r] = sum;
+        }
+        int[] keyOfRank = new int[universe];
+        for (int i = 0; i < universe; i++) keyOfRank[i] = i;
+        Random random = new Random(seed);
+        for (int i = universe - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = keyOfRank[i];
+            keyOfRank[i] = keyOfRank[j];
+            keyOfRank[j] = tmp;
+        }
+        int[] keys = new int[length];
+        for (int i = 0; i < length; i++) {
+            int rank = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+            if (rank < 0) rank = -rank - 1;
+            keys[i] = keyOfRank[Math.min(rank, universe - 1)];
+        }
+        return keys;
+    }
+
+    // Every SCAN_EVERY accesses, a run of capacity keys outside the universe that are never
+    // seen again
+    private static int[] withScans(int[] trace, int universe, int capacity) {
+        int scans = trace.length / SCAN_EVERY;
+        int[] keys = new int[trace.length + scans * capacity];
+        int next = universe;
+        int out = 0;
+        for (int i = 0; i < trace.length; i++) {
+            keys[out++] = trace[i];
+            if ((i + 1) % SCAN_EVERY == 0) {
+                for (int s = 0; s < capacity; s++) keys[out++] = next++;
+            }
+        }
+        return keys;
+    }
+
+    // ── Cells ────────────────────────────────────────────────────
+
+    private BenchmarkResult hitRatioCell(String dsName, String operation, int[] trace, int capacity) {
+        int warmup = trace.length / 10;
+        Object cache = create(dsName, capacity);
+        replay(cache, trace, 0, warmup);
+        if (cache instanceof TinyLfuIntCache) ((TinyLfuIntCache) cache).resetStats();
+
+        long begin = System.nanoTime();
+        long hits = replay(cache, trace, warmup, trace.length);
+        long nanos = System.nanoTime() - begin;
+
+        int count = trace.length - warmup;
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put(HIT_RATE, 100.0 * hits / count);
+        metrics.put(NS_PER_OP, (double) nanos / count);
+        if (cache instanceof TinyLfuIntCache) {
+            TinyLfuIntCache c = (TinyLfuIntCache) cache;
+            metrics.put("admitted", (double) c.admissions());
+            metrics.put("rejected", (double) c.rejections());
+        }
+        return new BenchmarkResult(dsName, operation, count, nanos, metrics, HIT_RATE, false);
+    }
+
+    private BenchmarkResult throughputCell(String dsName, int[] trace, int capacity, int threads) {
+        long best = Long.MAX_VALUE;
+        long hits = 0;
+        double readsPerDrain = 0;
+        for (int round = 0; round < ROUNDS + 2; round++) {
+            Object cache = create(dsName, capacity);
+            LongAdder roundHits = new LongAdder();
+            long nanos = timed(cache, trace, threads, roundHits);
+            if (round < 2 || nanos >= best) continue;
+            best = nanos;
+            hits = roundHits.sum();
+            if (cache instanceof TinyLfuIntCache) {
+                TinyLfuIntCache c = (TinyLfuIntCache) cache;
+                readsPerDrain = (double) c.drainedReads() / Math.max(1, c.drains());
+            }
+        }
+
+        int count = trace.length / threads * threads;
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put(NS_PER_OP, (double) best / Math.max(1, count));
+        metrics.put("M ops/s", count * 1000.0 / Math.max(1, best));
+        metrics.put(HIT_RATE, 100.0 * hits / Math.max(1, count));
+        if (dsName.equals(TINY_LFU)) metrics.put("reads/drain", readsPerDrain);
+        String name = "THROUGHPUT, " + threads + (threads == 1 ? " thread" : " threads");
+        return new BenchmarkResult(dsName, name, count, best, metrics, NS_PER_OP, true);
+    }
+
+    private static Object create(String dsName, int capacity) {
+        if (dsName.equals(TINY_LFU)) return new TinyLfuIntCache(capacity, 1, -1);
+        return Collections.synchronizedMap(new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+
+    private long timed(Object cache, int[] trace, int threads, LongAdder hits) {
+        int share = trace.length / threads;
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int from = t * share;
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                hits.add(replay(cache, trace, from, from + share));
+                done.countDown();
+            }, "cache-bench-" + t);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        try {
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            return System.nanoTime() - begin;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Long.MAX_VALUE;
+        }
+    }
+
+    // Cache-aside over trace[from, to); returns the number of hits
+    @SuppressWarnings("unchecked")
+    private long replay(Object cache, int[] trace, int from, int to) {
+        long hits = 0;
+        long sum = 0;
+        if (cache instanceof TinyLfuIntCache) {
+            TinyLfuIntCache c = (TinyLfuIntCache) cache;
+            for (int i = from; i < to; i++) {
+                int key = trace[i];
+                int value = c.get(key);
+                if (value >= 0) {
+                    hits++;
+                    sum += value;
+                } else {
+                    c.put(key, key);
+                }
+            }
+        } else {
+            Map<Integer, Integer> m = (Map<Integer, Integer>) cache;
+            for (int i = from; i < to; i++) {
+                int key = trace[i];
+                Integer value = m.get(key);
+                if (value != null) {
+                    hits++;
+                    sum += value;
+                } else {
+                    m.put(key, key);
+                }
+            }
+        }
+        sink.add(sum);
+        return hits;
+    }
+}
@@ -0,0 +1,92 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+import game.model.BenchmarkModel.Operation;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Every sample is a brand-new JVM, so the numbers include class loading, static init
+// and interpreter / C1 execution: what a short-lived CLI or batch job actually pays
+public class ColdStartBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String MICROS = "us";
+    private static final long SAMPLE_TIMEOUT_SECONDS = 30;
+
+    private final Set<Operation> operations;
+    private final int samples;
+
+    public ColdStartBenchmark(Set<Operation> operations, int samples) {
+        this.operations = operations;
+        this.samples = samples;
+    }
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        List<String> dsNames = new ArrayList<>(BenchmarkModel.DS_COLORS.keySet());
+        int totalTasks = dsNames.size() * operations.size() * samples;
+        int completed = 0;
+
+        try {
+            for (Operation op : Operation.values()) {
+                if (!operations.contains(op)) continue;
+
+                for (String dsName : dsNames) {
+                    if (cancelled.getAsBoolean()) return results;
+
+                    // One list of samples per checkpoint (first 1, 10, 100, 1000 ops)
+                    List<List<Long>> byCheckpoint = new ArrayList<>();
+                    for (int c = 0; c < ForkedCell.COLD_CHECKPOINTS.length; c++) byCheckpoint.add(new ArrayList<>());
+
+                    for (int s = 0; s < samples; s++) {
+                        if (cancelled.getAsBoolean()) return results;
+
+                        Map<String, String> params = new LinkedHashMap<>();
+                        params.put("mode", "coldstart");
+                        params.put("ds", dsName);
+                        params.put("op", op.name());
+                        Map<String, String> cell = ForkedCell.fork(List.of(), params, SAMPLE_TIMEOUT_SECONDS);
+
+                        for (int c = 0; c < ForkedCell.COLD_CHECKPOINTS.length; c++) {
+                            String value = cell.get("ns" + ForkedCell.COLD_CHECKPOINTS[c]);
+                            if (value != null) byCheckpoint.get(c).add(Long.parseLong(value));
+                        }
+
+                        completed++;
+                        progress.accept((double) completed / totalTasks);
+                    }
+
+                    for (int c = 0; c < ForkedCell.COLD_CHECKPOINTS.length; c++) {
+                        results.add(toResult(dsName, op, ForkedCell.COLD_CHECKPOINTS[c], byCheckpoint.get(c)));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return results;
+    }
+
+    static String operationName(Operation op, int checkpoint) {
+        return op.getDisplayName() + "  [first " + checkpoint + (checkpoint == 1 ? " op" : " ops") + ", cold JVM]";
+    }
+
+    private BenchmarkResult toResult(String dsName, Operation op, int checkpoint, List<Long> nanos) {
+        String name = operationName(op, checkpoint);
+        if (nanos.isEmpty()) {
+            return new BenchmarkResult(dsName, name, checkpoint, 0, Map.of(MICROS, 0.0), MICROS, true, "FAILED");
+        }
+        Collections.sort(nanos);
+        long median = nanos.get(nanos.size() / 2);
+
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put("us/op", median / 1000.0 / checkpoint);
+        metrics.put("min us", nanos.get(0) / 1000.0);
+        metrics.put("max us", nanos.get(nanos.size() - 1) / 1000.0);
+        metrics.put("samples", (double) nanos.size());
+        metrics.put(MICROS, median / 1000.0);
+        return new BenchmarkResult(dsName, name, checkpoint, median, metrics, MICROS, true);
+    }
+}
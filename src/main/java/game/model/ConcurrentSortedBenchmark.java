@@ -0,0 +1,223 @@
+package game.model;
+
+import game.collections.LockFreeSkipListIntMap;
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+// Sorted maps shared between 1, 2 and 4 real threads: ConcurrentSkipListMap, a TreeMap
+// behind Collections.synchronizedSortedMap, and LockFreeSkipListIntMap, the instrumented
+// list the Skip List tab animates. Every cell splits elementCount operations across the
+// threads and times from a common start gate to the last thread finishing.
+//
+// For the lock-free list the cell also reports CAS per op and failed CAS per op, the same
+// counters the visualizer shows, measured here at full speed instead of slowed down. Its
+// mixed cells replay the same ops once more as a put/remove stress check and are flagged
+// if the list that comes out disagrees with what the threads were told.
+public class ConcurrentSortedBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String LOCK_FREE = "LockFreeSkipListIntMap";
+    static final String SYNCHRONIZED_TREE = "synchronized TreeMap";
+    static final String NS_PER_OP = "ns/op";
+
+    private static final List<String> STRUCTURES = List.of("ConcurrentSkipListMap", SYNCHRONIZED_TREE, LOCK_FREE);
+    private static final int[] THREADS = {1, 2, 4};
+    private static final String[] OPERATIONS = {"INSERT", "MIXED 50/25/25"};
+    private static final int ROUNDS = 3;
+
+    private final LongAdder sink = new LongAdder();
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = STRUCTURES.size() * THREADS.length * OPERATIONS.length;
+        int completed = 0;
+
+        for (int threads : THREADS) {
+            int[][] keys = new int[threads][];
+            int[][] ops = new int[threads][];
+            Random random = new Random(42);
+            for (int t = 0; t < threads; t++) {
+                int share = elementCount / threads;
+                keys[t] = new int[share];
+                ops[t] = new int[share];
+                for (int i = 0; i < share; i++) {
+                    keys[t][i] = random.nextInt(elementCount * 2);
+                    ops[t][i] = random.nextInt(4);
+                }
+            }
+            for (String dsName : STRUCTURES) {
+                for (int op = 0; op < OPERATIONS.length; op++) {
+                    if (cancelled.getAsBoolean()) return results;
+                    if (!BenchmarkModel.settle()) return results;
+
+                    boolean mixed = op == 1;
+                    long best = Long.MAX_VALUE;
+                    long cas = 0;
+                    long failures = 0;
+                    for (int round = 0; round < ROUNDS + 2; round++) {
+                        Object map = create(dsName);
+                        // Mixed runs start from a half-full map so removes and gets find keys
+                        if (mixed) prefill(map, elementCount);
+                        if (map instanceof LockFreeSkipListIntMap) ((LockFreeSkipListIntMap) map).resetCounters();
+                        long nanos = timed(map, keys, ops, mixed);
+                        if (round < 2) continue;
+                        if (nanos < best) {
+                            best = nanos;
+                            if (map instanceof LockFreeSkipListIntMap) {
+                                cas = ((LockFreeSkipListIntMap) map).totalCasAttempts();
+                                failures = ((LockFreeSkipListIntMap) map).totalCasFailures();
+                            }
+                        }
+                    }
+
+                    int count = threads * keys[0].length;
+                    Map<String, Double> metrics = new LinkedHashMap<>();
+                    metrics.put(NS_PER_OP, (double) best / Math.max(1, count));
+                    metrics.put("M ops/s", count * 1000.0 / Math.max(1, best));
+                    if (dsName.equals(LOCK_FREE)) {
+                        metrics.put("CAS/op", (double) cas / Math.max(1, count));
+                        metrics.put("failed CAS/op", (double) failures / Math.max(1, count));
+                    }
+                    String name = OPERATIONS[op] + ", " + threads + (threads == 1 ? " thread" : " threads");
+                    String note = mixed && dsName.equals(LOCK_FREE) ? stressCheck(keys, ops, elementCount) : null;
+                    results.add(new BenchmarkResult(dsName, name, count, best, metrics, NS_PER_OP, true, note));
+
+                    completed++;
+                    progress.accept((double) completed / totalTasks);
+                }
+            }
+        }
+        return results;
+    }
+
+    private static Object create(String dsName) {
+        switch (dsName) {
+            case LOCK_FREE:         return new LockFreeSkipListIntMap();
+            case SYNCHRONIZED_TREE: return Collections.synchronizedSortedMap(new TreeMap<Integer, Integer>());
+            default:                return new ConcurrentSkipListMap<Integer, Integer>();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void prefill(Object map, int elementCount) {
+        Random random = new Random(7);
+        if (map instanceof LockFreeSkipListIntMap) {
+            LockFreeSkipListIntMap m = (LockFreeSkipListIntMap) map;
+            for (int i = 0; i < elementCount / 2; i++) m.put(random.nextInt(elementCount * 2), i);
+        } else {
+            Map<Integer, Integer> m = (Map<Integer, Integer>) map;
+            for (int i = 0; i < elementCount / 2; i++) m.put(random.nextInt(elementCount * 2), i);
+        }
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+
+    private long timed(Object map, int[][] keys, int[][] ops, boolean mixed) {
+        return onThreads(keys.length, t -> sink.add(work(map, keys[t], ops[t], mixed)));
+    }
+
+    // Runs task(t) on threads real threads released by one start gate; wall time to the last finish
+    private static long onThreads(int threads, IntConsumer task) {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            Thread thread = new Thread(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                task.accept(index);
+                done.countDown();
+            }, "concurrent-sorted-" + t);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        try {
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            return System.nanoTime() - begin;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Long.MAX_VALUE;
+        }
+    }
+
+    // 0-1 put, 2 get, 3 remove in the mixed run; the insert run only puts
+    @SuppressWarnings("unchecked")
+    private static long work(Object map, int[] keys, int[] ops, boolean mixed) {
+        long sum = 0;
+        if (map instanceof LockFreeSkipListIntMap) {
+            LockFreeSkipListIntMap m = (LockFreeSkipListIntMap) map;
+            for (int i = 0; i < keys.length; i++) {
+                int op = mixed ? ops[i] : 0;
+                if (op < 2) m.put(keys[i], i);
+                else if (op == 2) sum += m.get(keys[i]);
+                else sum += m.remove(keys[i]);
+            }
+        } else {
+            Map<Integer, Integer> m = (Map<Integer, Integer>) map;
+            for (int i = 0; i < keys.length; i++) {
+                int op = mixed ? ops[i] : 0;
+                Integer v;
+                if (op < 2) m.put(keys[i], i);
+                else if (op == 2 && (v = m.get(keys[i])) != null) sum += v;
+                else if (op == 3 && (v = m.remove(keys[i])) != null) sum += v;
+            }
+        }
+        return sum;
+    }
+
+    // ── Stress check ─────────────────────────────────────────────
+
+    // The mixed ops again on a list whose missing value (-1) no put ever stores, so every put
+    // and remove says whether it changed the key set. Afterwards the live nodes must be
+    // strictly ascending, each readable through get, and as many as the prefill plus the
+    // inserts minus the removes, which size() must agree with. A lost update or a key
+    // inserted twice breaks the count. Returns the flag for the cell, null if it holds.
+    private static String stressCheck(int[][] keys, int[][] ops, int elementCount) {
+        LockFreeSkipListIntMap map = new LockFreeSkipListIntMap(-1);
+        prefill(map, elementCount);
+        LongAdder net = new LongAdder();
+        net.add(map.size());
+        if (onThreads(keys.length, t -> net.add(stressWork(map, keys[t], ops[t]))) == Long.MAX_VALUE) return null;
+
+        long[] live = {0};
+        long[] last = {Long.MIN_VALUE};
+        boolean[] broken = {false};
+        map.forEachNode((key, value, levels, deleted) -> {
+            if (deleted) return;
+            if (key <= last[0] || map.get(key) != value) broken[0] = true;
+            last[0] = key;
+            live[0]++;
+        });
+        return broken[0] || live[0] != net.sum() || map.size() != net.sum() ? "INCONSISTENT" : null;
+    }
+
+    // +1 for every put that inserted, -1 for every remove that found its key
+    private static long stressWork(LockFreeSkipListIntMap map, int[] keys, int[] ops) {
+        long net = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (ops[i] < 2) {
+                if (map.put(keys[i], i) == -1) net++;
+            } else if (ops[i] == 2) {
+                map.get(keys[i]);
+            } else if (map.remove(keys[i]) != -1) {
+                net--;
+            }
+        }
+        return net;
+    }
+}
@@ -0,0 +1,133 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class ConversionBenchmark implements BenchmarkModel.FamilyRunner {
+
+    public enum Conversion {
+        TO_ARRAY("toArray()", false),
+        TO_ARRAY_TYPED("toArray(new T[0])", false),
+        LIST_COPY_OF("List.copyOf", false),
+        NEW_ARRAYLIST("new ArrayList<>(c)", false),
+        STREAM_TO_LIST("stream().collect(toList())", false),
+        SET_COPY_OF("Set.copyOf", false),
+        COLLECTORS_TO_MAP("Collectors.toMap", true),
+        TREEMAP_FROM_MAP("new TreeMap<>(map)", true);
+
+        private final String displayName;
+        private final boolean fromMap;
+        Conversion(String displayName, boolean fromMap) {
+            this.displayName = displayName;
+            this.fromMap = fromMap;
+        }
+        public String getDisplayName() { return displayName; }
+        public boolean isFromMap() { return fromMap; }
+    }
+
+    // Consumed after every conversion so the JIT cannot drop the copy
+    private long sink;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        List<String> dsNames = BenchmarkModel.boxedStructureNames();
+        int totalTasks = 0;
+        for (String dsName : dsNames) totalTasks += conversionsFor(dsName).size();
+        int completed = 0;
+
+        for (String dsName : dsNames) {
+            if (cancelled.getAsBoolean()) break;
+
+            for (Conversion conversion : conversionsFor(dsName)) {
+                if (cancelled.getAsBoolean()) break;
+
+                // Warmup 2x at 1/10 size
+                int warmupSize = Math.max(100, elementCount / 10);
+                for (int w = 0; w < 2; w++) {
+                    measure(dsName, conversion, warmupSize);
+                }
+
+                if (!BenchmarkModel.settle()) return results;
+                results.add(measure(dsName, conversion, elementCount));
+
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return results;
+    }
+
+    private List<Conversion> conversionsFor(String dsName) {
+        boolean isMap = BenchmarkModel.isMap(dsName);
+        // new TreeMap<>(sorted) takes the linear buildFromSorted path, not the sort this row is about
+        boolean sorted = isMap && BenchmarkModel.createMap(dsName) instanceof SortedMap;
+        List<Conversion> list = new ArrayList<>();
+        for (Conversion c : Conversion.values()) {
+            if (c == Conversion.TREEMAP_FROM_MAP && sorted) continue;
+            if (c.isFromMap() == isMap) list.add(c);
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BenchmarkResult measure(String dsName, Conversion conversion, int count) {
+        Random random = new Random(42);
+        int[] keys = BenchmarkModel.randomInts(count, random);
+
+        long alloc;
+        long start;
+        long nanos;
+        if (conversion.isFromMap()) {
+            int[] vals = BenchmarkModel.randomInts(count, random);
+            Map<Integer, Integer> map = (Map<Integer, Integer>) BenchmarkModel.createMap(dsName);
+            for (int i = 0; i < count; i++) map.put(keys[i], vals[i]);
+
+            alloc = BenchmarkModel.allocatedBytes();
+            start = System.nanoTime();
+            sink += convertMap(conversion, map);
+            nanos = System.nanoTime() - start;
+        } else {
+            Collection<Integer> coll = BenchmarkModel.createCollection(dsName);
+            for (int k : keys) coll.add(k);
+
+            alloc = BenchmarkModel.allocatedBytes();
+            start = System.nanoTime();
+            sink += convertCollection(conversion, coll);
+            nanos = System.nanoTime() - start;
+        }
+        long allocated = BenchmarkModel.allocatedSince(alloc);
+
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put("ns/elem", (double) nanos / Math.max(1, count));
+        if (allocated >= 0) metrics.put("alloc B/elem", (double) allocated / Math.max(1, count));
+        return new BenchmarkResult(dsName, conversion.getDisplayName(), count, nanos, metrics);
+    }
+
+    private static int convertCollection(Conversion conversion, Collection<Integer> coll) {
+        switch (conversion) {
+            case TO_ARRAY:       return coll.toArray().length;
+            case TO_ARRAY_TYPED: return coll.toArray(new Integer[0]).length;
+            case LIST_COPY_OF:   return List.copyOf(coll).size();
+            case NEW_ARRAYLIST:  return new ArrayList<>(coll).size();
+            case STREAM_TO_LIST: return coll.stream().collect(Collectors.toList()).size();
+            case SET_COPY_OF:    return Set.copyOf(coll).size();
+            default: throw new IllegalArgumentException("Not a collection conversion: " + conversion);
+        }
+    }
+
+    private static int convertMap(Conversion conversion, Map<Integer, Integer> map) {
+        switch (conversion) {
+            case COLLECTORS_TO_MAP:
+                return map.entrySet().stream()
+                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)).size();
+            case TREEMAP_FROM_MAP:
+                return new TreeMap<>(map).size();
+            default: throw new IllegalArgumentException("Not a map conversion: " + conversion);
+        }
+    }
+}
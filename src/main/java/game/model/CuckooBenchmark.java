@@ -0,0 +1,264 @@
+package game.model;
+
+import game.collections.CuckooIntIntMap;
+import game.collections.ProbingIntIntMap;
+import game.collections.ProbingIntIntMap.Mode;
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Lookup tail latency: the two-table cuckoo map, whose lookups read at most two slots,
+// against linear probing and chained HashMap<Integer,Integer>. Every cell reports the
+// batched ns/op (best of three after two warmups) and, from a pass that times each
+// operation on its own (after one warmup pass), p50 / p99 / p99.9 / max. Per-op timing
+// adds the cost of reading the clock to every sample, so p50 sits above ns/op; the tail
+// is what those cells are for.
+//
+// Random keys keep HashMap's buckets short. The colliding-keys cell uses keys of the form
+// (h << 16) | h, whose Integer hash codes all have zero low bits after HashMap's spread:
+// up to 65,536 of them share one or two buckets, which HashMap turns into red-black trees,
+// while probing and cuckoo hash them with their own mixers. PUT includes every resize;
+// for cuckoo that also means every rehash a kick-out cycle forced.
+public class CuckooBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String CUCKOO = "Cuckoo (2 tables)";
+    static final String LINEAR = OpenAddressingBenchmark.LINEAR;
+    static final String HASH_MAP = "HashMap";
+    static final String NS_PER_OP = "ns/op";
+    static final String P99 = "p99 ns";
+
+    private static final List<String> STRUCTURES = List.of(CUCKOO, LINEAR, HASH_MAP);
+    private static final String[] OPERATIONS = {"PUT (growing)", "GET (hit)", "GET (miss)", "GET (hit), colliding keys"};
+    private static final int MIN_PROBES = 100_000;
+    private static final int MAX_PROBES = 500_000;
+    private static final int ROUNDS = 3;
+
+    private long sink;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = STRUCTURES.size() * OPERATIONS.length;
+        int completed = 0;
+
+        int[] all = OpenAddressingBenchmark.distinctRandomInts(elementCount * 2, new Random(42));
+        int[] keys = Arrays.copyOfRange(all, 0, elementCount);
+        int[] misses = Arrays.copyOfRange(all, elementCount, elementCount * 2);
+        int[] colliding = collidingKeys(Math.min(elementCount, 1 << 16), new Random(43));
+        int probeCount = Math.max(MIN_PROBES, Math.min(MAX_PROBES, elementCount));
+        int[] hitProbes = probes(keys, probeCount, new Random(7));
+        int[] missProbes = probes(misses, probeCount, new Random(8));
+        int[] collidingProbes = probes(colliding, probeCount, new Random(9));
+
+        for (String dsName : STRUCTURES) {
+            for (int op = 0; op < OPERATIONS.length; op++) {
+                if (cancelled.getAsBoolean()) return results;
+                if (!BenchmarkModel.settle()) return results;
+
+                Object structure;
+                long best = Long.MAX_VALUE;
+                long[] latencies;
+                int count;
+                if (op == 0) {
+                    for (int round = 0; round < ROUNDS + 2; round++) {
+                        long nanos = putAll(create(dsName), keys, null);
+                        if (round >= 2) best = Math.min(best, nanos);
+                    }
+                    latencies = new long[keys.length];
+                    putAll(create(dsName), keys, latencies);
+                    structure = create(dsName);
+                    putAll(structure, keys, latencies);
+                    count = keys.length;
+                } else {
+                    int[] probes = op == 1 ? hitProbes : op == 2 ? missProbes : collidingProbes;
+                    structure = create(dsName);
+                    putAll(structure, op == 3 ? colliding : keys, null);
+                    for (int round = 0; round < ROUNDS + 2; round++) {
+                        long nanos = getAll(structure, probes, null);
+                        if (round >= 2) best = Math.min(best, nanos);
+                    }
+                    latencies = new long[probes.length];
+                    getAll(structure, probes, latencies);
+                    getAll(structure, probes, latencies);
+                    count = probes.length;
+                }
+                results.add(result(dsName, OPERATIONS[op], count, best, latencies, structure, op == 3 ? colliding : keys));
+
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return results;
+    }
+
+    private static BenchmarkResult result(String dsName, String op, int count, long nanos, long[] latencies,
+                                          Object structure, int[] keys) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put(NS_PER_OP, (double) nanos / Math.max(1, count));
+        metrics.put("p50 ns", (double) TraceReplayBenchmark.percentile(sorted, 0.50));
+        metrics.put("p99.9 ns", (double) TraceReplayBenchmark.percentile(sorted, 0.999));
+        metrics.put("max ns", (double) sorted[sorted.length - 1]);
+        if (structure instanceof CuckooIntIntMap) {
+            CuckooIntIntMap map = (CuckooIntIntMap) structure;
+            metrics.put("2nd-table hits %", 100.0 * secondTableEntries(map) / Math.max(1, map.size()));
+            metrics.put("load %", 100.0 * map.size() / map.capacity());
+            metrics.put("rehashes", (double) map.rehashCount());
+            metrics.put("kicks/key", (double) map.totalKicks() / Math.max(1, map.size()));
+            metrics.put("longest chain", (double) map.longestChain());
+        } else if (structure instanceof ProbingIntIntMap) {
+            metrics.put("max probe", (double) ((ProbingIntIntMap) structure).maxDisplacement() + 1);
+        } else {
+            metrics.put("max bucket", (double) longestBucket(keys));
+        }
+        metrics.put(P99, (double) TraceReplayBenchmark.percentile(sorted, 0.99));
+        return new BenchmarkResult(dsName, op, count, nanos, metrics, P99, true);
+    }
+
+    // ── Structures and keys ──────────────────────────────────────
+
+    private static Object create(String dsName) {
+        switch (dsName) {
+            case CUCKOO: return new CuckooIntIntMap();
+            case LINEAR: return new ProbingIntIntMap(Mode.LINEAR);
+            default:     return new HashMap<Integer, Integer>();
+        }
+    }
+
+    // (h << 16) | h spreads to h << 16 under HashMap's h ^ (h >>> 16): nothing in the low bits
+    private static int[] collidingKeys(int count, Random random) {
+        int[] high = new int[1 << 16];
+        for (int i = 0; i < high.length; i++) high[i] = i;
+        for (int i = high.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = high[i];
+            high[i] = high[j];
+            high[j] = t;
+        }
+        int[] out = new int[count];
+        for (int i = 0; i < count; i++) out[i] = (high[i] << 16) | high[i];
+        return out;
+    }
+
+    private static int[] probes(int[] keys, int count, Random random) {
+        int[] out = new int[count];
+        for (int i = 0; i < count; i++) out[i] = keys[random.nextInt(keys.length)];
+        return out;
+    }
+
+    private static int secondTableEntries(CuckooIntIntMap map) {
+        int count = 0;
+        for (int slot = map.tableSize(); slot < map.capacity(); slot++) {
+            if (map.isFull(slot)) count++;
+        }
+        return count;
+    }
+
+    // Longest bucket of a default HashMap grown to hold these keys, from the same spread and
+    // table size HashMap uses; past 8 entries HashMap keeps such a bucket as a tree
+    static int longestBucket(int[] keys) {
+        int table = 16;
+        while (keys.length > table * 0.75) table <<= 1;
+        int[] counts = new int[table];
+        int longest = 0;
+        for (int k : keys) {
+            int h = Integer.hashCode(k);
+            longest = Math.max(longest, ++counts[(h ^ (h >>> 16)) & (table - 1)]);
+        }
+        return longest;
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+    // One loop per concrete type, so each call site stays monomorphic. With latencies
+    // given, every operation is timed on its own instead of the loop as a whole.
+
+    @SuppressWarnings("unchecked")
+    private static long putAll(Object structure, int[] keys, long[] latencies) {
+        long start = System.nanoTime();
+        if (structure instanceof CuckooIntIntMap) {
+            CuckooIntIntMap m = (CuckooIntIntMap) structure;
+            if (latencies == null) {
+                for (int k : keys) m.put(k, k);
+            } else {
+                for (int i = 0; i < keys.length; i++) {
+                    long t = System.nanoTime();
+                    m.put(keys[i], i);
+                    latencies[i] = System.nanoTime() - t;
+                }
+            }
+        } else if (structure instanceof ProbingIntIntMap) {
+            ProbingIntIntMap m = (ProbingIntIntMap) structure;
+            if (latencies == null) {
+                for (int k : keys) m.put(k, k);
+            } else {
+                for (int i = 0; i < keys.length; i++) {
+                    long t = System.nanoTime();
+                    m.put(keys[i], i);
+                    latencies[i] = System.nanoTime() - t;
+                }
+            }
+        } else {
+            Map<Integer, Integer> m = (Map<Integer, Integer>) structure;
+            if (latencies == null) {
+                for (int k : keys) m.put(k, k);
+            } else {
+                for (int i = 0; i < keys.length; i++) {
+                    long t = System.nanoTime();
+                    m.put(keys[i], i);
+                    latencies[i] = System.nanoTime() - t;
+                }
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long getAll(Object structure, int[] probes, long[] latencies) {
+        long sum = 0;
+        long start = System.nanoTime();
+        if (structure instanceof CuckooIntIntMap) {
+            CuckooIntIntMap m = (CuckooIntIntMap) structure;
+            if (latencies == null) {
+                for (int k : probes) sum += m.get(k);
+            } else {
+                for (int i = 0; i < probes.length; i++) {
+                    long t = System.nanoTime();
+                    sum += m.get(probes[i]);
+                    latencies[i] = System.nanoTime() - t;
+                }
+            }
+        } else if (structure instanceof ProbingIntIntMap) {
+            ProbingIntIntMap m = (ProbingIntIntMap) structure;
+            if (latencies == null) {
+                for (int k : probes) sum += m.get(k);
+            } else {
+                for (int i = 0; i < probes.length; i++) {
+                    long t = System.nanoTime();
+                    sum += m.get(probes[i]);
+                    latencies[i] = System.nanoTime() - t;
+                }
+            }
+        } else {
+            Map<Integer, Integer> m = (Map<Integer, Integer>) structure;
+            if (latencies == null) {
+                for (int k : probes) {
+                    Integer v = m.get(k);
+                    if (v != null) sum += v;
+                }
+            } else {
+                for (int i = 0; i < probes.length; i++) {
+                    long t = System.nanoTime();
+                    Integer v = m.get(probes[i]);
+                    latencies[i] = System.nanoTime() - t;
+                    if (v != null) sum += v;
+                }
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += sum;
+        return nanos;
+    }
+}
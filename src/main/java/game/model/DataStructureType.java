@@ -13,7 +13,8 @@ public enum DataStructureType {
     ARRAYDEQUE("ArrayDeque", "Resizable circular array, O(1) both ends"),
     HASHTABLE("Hashtable", "Legacy synchronized hash table"),
     PRIORITYQUEUE("PriorityQueue", "Binary min-heap, O(log n) offer/poll"),
-    CONCURRENTHASHMAP("ConcurrentHashMap", "Segment-locked hash map, thread-safe");
+    CONCURRENTHASHMAP("ConcurrentHashMap", "Segment-locked hash map, thread-safe"),
+    CONCURRENTSKIPLISTMAP("ConcurrentSkipListMap", "Lock-free skip list, O(log n) sorted, thread-safe");
 
     private final String displayName;
     private final String description;
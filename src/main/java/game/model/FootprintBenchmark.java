@@ -0,0 +1,70 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+public class FootprintBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String OPERATION = "RETAINED HEAP";
+
+    // Strong root for the structure under measurement; a local could be treated as dead early
+    private Object retained;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        List<String> dsNames = new ArrayList<>(BenchmarkModel.DS_COLORS.keySet());
+        int[] keys = BenchmarkModel.randomInts(elementCount, new Random(42));
+        int completed = 0;
+
+        for (String dsName : dsNames) {
+            if (cancelled.getAsBoolean()) break;
+
+            // Warmup so class loading and JIT allocations do not land in the measurement
+            StructureOps.release(BenchmarkModel.populate(dsName, Arrays.copyOf(keys, Math.min(keys.length, 1000))));
+
+            long before = usedHeapAfterGc();
+            if (before < 0) break;
+            long start = System.nanoTime();
+            retained = BenchmarkModel.populate(dsName, keys);
+            long nanos = System.nanoTime() - start;
+            long after = usedHeapAfterGc();
+            long offHeap = StructureOps.offHeapBytesOf(retained);
+            StructureOps.release(retained);
+            retained = null;
+            if (after < 0) break;
+
+            // Off-heap bytes count toward the total: they are memory the process pays for,
+            // just not memory the GC has to trace
+            long heapBytes = Math.max(0, after - before);
+            long bytes = heapBytes + offHeap;
+            Map<String, Double> metrics = new LinkedHashMap<>();
+            metrics.put("B/elem", (double) bytes / Math.max(1, elementCount));
+            metrics.put("KB total", bytes / 1024.0);
+            if (offHeap > 0) {
+                metrics.put("heap B/elem", (double) heapBytes / Math.max(1, elementCount));
+                metrics.put("off-heap B/elem", (double) offHeap / Math.max(1, elementCount));
+            }
+            results.add(new BenchmarkResult(dsName, OPERATION, elementCount, nanos, metrics, "B/elem", true));
+
+            completed++;
+            progress.accept((double) completed / dsNames.size());
+        }
+        return BenchmarkModel.withBoxingTax(results, "x smaller than boxed");
+    }
+
+    // Lowest heap in use across several paced collections; -1 if interrupted. A single GC is
+    // not enough: compiler and reference-handler threads can pin garbage for a few ms.
+    static long usedHeapAfterGc() {
+        Runtime rt = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            if (!BenchmarkModel.settle()) return -1;
+            used = Math.min(used, rt.totalMemory() - rt.freeMemory());
+        }
+        return used;
+    }
+}
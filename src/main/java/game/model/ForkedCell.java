@@ -0,0 +1,482 @@
+package game.model;
+
+import game.collections.IntArrayDeque;
+import game.collections.IntArrayList;
+import game.collections.IntHashSet;
+import game.collections.IntIntHashMap;
+import game.collections.MappedRecordList;
+import game.collections.OffHeapLongLongMap;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// Entry point for benchmark cells that need a JVM of their own. The parent passes
+// key=value arguments and reads back a single "RESULT key=value ..." line.
+public class ForkedCell {
+
+    static final String RESULT_PREFIX = "RESULT ";
+
+    public static void main(String[] args) {
+        Map<String, String> params = parseArgs(args);
+        Map<String, Object> out = new LinkedHashMap<>();
+        try {
+            switch (params.getOrDefault("mode", "")) {
+                case "pressure":  runPressure(params, out); break;
+                case "coldstart": runColdStart(params, out); break;
+                case "soak":      runSoak(params, out); break;
+                case "gcpause":   runGcPause(params, out); break;
+                case "mapped":    runMapped(params, out); break;
+                default: throw new IllegalArgumentException("Unknown mode: " + params.get("mode"));
+            }
+        } catch (OutOfMemoryError e) {
+            ballast = null;
+            heapRecords = null;
+            out.clear();
+            out.put("oom", 1);
+        } catch (IOException | UncheckedIOException e) {
+            out.clear();
+            out.put("error", e.getClass().getSimpleName());
+        }
+        StringBuilder line = new StringBuilder(RESULT_PREFIX);
+        for (Map.Entry<String, Object> e : out.entrySet()) {
+            line.append(e.getKey()).append('=').append(e.getValue()).append(' ');
+        }
+        System.out.println(line.toString().trim());
+    }
+
+    // ── Memory pressure: ballast to a target occupancy, then build and churn ──
+
+    // Live ballast kept reachable for the whole run
+    private static List<long[]> ballast;
+
+    private static void runPressure(Map<String, String> params, Map<String, Object> out) {
+        String dsName = params.get("ds");
+        int count = Integer.parseInt(params.get("count"));
+        int ballastPercent = Integer.parseInt(params.get("ballast"));
+
+        // Many small objects rather than a few big arrays, so marking cost scales like a real heap
+        long ballastBytes = Runtime.getRuntime().maxMemory() * ballastPercent / 100;
+        ballast = new ArrayList<>();
+        for (long filled = 0; filled < ballastBytes; filled += 128) {
+            ballast.add(new long[14]);
+        }
+        System.gc();
+
+        int[] keys = BenchmarkModel.randomInts(count, new Random(42));
+        int[] churnKeys = BenchmarkModel.randomInts(count, new Random(7));
+
+        long gcBefore = totalGcMillis();
+        long start = System.nanoTime();
+        Object structure = BenchmarkModel.populate(dsName, keys);
+        long churnStart = System.nanoTime();
+        StructureOps.churn(structure, keys, churnKeys);
+        long end = System.nanoTime();
+        long gcMillis = totalGcMillis() - gcBefore;
+
+        double wallMs = (end - start) / 1_000_000.0;
+        double churnMs = Math.max(0.001, (end - churnStart) / 1_000_000.0);
+        out.put("opsPerMs", String.format(Locale.ROOT, "%.3f", count / churnMs));
+        out.put("wallMs", String.format(Locale.ROOT, "%.3f", wallMs));
+        out.put("gcMs", gcMillis);
+        out.put("gcPercent", String.format(Locale.ROOT, "%.2f", 100.0 * gcMillis / Math.max(0.001, wallMs)));
+        out.put("size", StructureOps.sizeOf(structure));
+        StructureOps.release(structure);
+    }
+
+    // ── Soak: steady-size churn with a traffic spike per interval ──
+
+    static final int SOAK_SAMPLES = 20;
+
+    private static void runSoak(Map<String, String> params, Map<String, Object> out) {
+        String dsName = params.get("ds");
+        int count = Integer.parseInt(params.get("count"));
+        long intervalNanos = Long.parseLong(params.get("seconds")) * 1_000_000_000L / SOAK_SAMPLES;
+
+        // Distinct keys, so the logical size really stays at count
+        int[] live = new int[count];
+        for (int i = 0; i < count; i++) live[i] = i;
+        Random random = new Random(42);
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = live[i]; live[i] = live[j]; live[j] = t;
+        }
+
+        // Formatter and friends keep caches alive once used; pull them in before the baseline
+        String.format(Locale.ROOT, "%.3f", 0.0);
+        StructureOps.sizeOf(live);
+
+        long baseline = FootprintBenchmark.usedHeapAfterGc();
+        Object structure = BenchmarkModel.populate(dsName, live);
+        long fresh = FootprintBenchmark.usedHeapAfterGc() - baseline;
+
+        StringBuilder opsPerMs = new StringBuilder();
+        StringBuilder heapBytes = new StringBuilder();
+        int nextKey = count;
+        int cursor = 0;
+        for (int s = 0; s < SOAK_SAMPLES; s++) {
+            // Spike: double the size, then drain back. Whatever the structure keeps from the
+            // peak shows up in every heap sample after this one.
+            for (int j = 0; j < count; j++) StructureOps.add(structure, nextKey + j, j);
+            for (int j = 0; j < count; j++) StructureOps.remove(structure, nextKey + j);
+            nextKey += count;
+
+            long ops = 0;
+            long start = System.nanoTime();
+            long deadline = start + intervalNanos;
+            long now = start;
+            while (now < deadline) {
+                for (int b = 0; b < 256; b++) {
+                    int i = cursor;
+                    if (++cursor == count) cursor = 0;
+                    StructureOps.remove(structure, live[i]);
+                    live[i] = nextKey;
+                    // Wrap while the spike's next count keys still fit in an int; by then
+                    // every live key is far above count * 2
+                    if (++nextKey > Integer.MAX_VALUE - count) nextKey = count * 2;
+                    StructureOps.add(structure, live[i], i);
+                }
+                ops += 256;
+                now = System.nanoTime();
+            }
+
+            if (s > 0) { opsPerMs.append(';'); heapBytes.append(';'); }
+            opsPerMs.append(String.format(Locale.ROOT, "%.3f", ops / Math.max(0.001, (now - start) / 1_000_000.0)));
+            heapBytes.append(FootprintBenchmark.usedHeapAfterGc() - baseline);
+        }
+
+        out.put("freshBytes", fresh);
+        out.put("opsPerMs", opsPerMs);
+        out.put("heapBytes", heapBytes);
+        out.put("size", StructureOps.sizeOf(structure));
+        StructureOps.release(structure);
+    }
+
+    // ── GC pause: a long-lived map on heap or off heap, then collections around it ──
+
+    // Per-op garbage both maps see, so young collections happen either way and what differs
+    // is the live map each one has to scan or skip
+    private static volatile long[] requestGarbage;
+    private static final List<Long> pauseMillis = Collections.synchronizedList(new ArrayList<>());
+
+    private static void runGcPause(Map<String, String> params, Map<String, Object> out) {
+        boolean boxed = params.get("ds").equals("boxed");
+        int count = Integer.parseInt(params.get("count"));
+        long updateNanos = Long.parseLong(params.get("seconds")) * 1_000_000_000L;
+
+        long[] keys = new long[count];
+        Random random = new Random(42);
+        for (int i = 0; i < count; i++) keys[i] = random.nextLong();
+
+        String.format(Locale.ROOT, "%.3f", 0.0);
+        long baseline = FootprintBenchmark.usedHeapAfterGc();
+        Map<Long, Long> heapMap = null;
+        OffHeapLongLongMap offHeapMap = null;
+        if (boxed) {
+            heapMap = new HashMap<>();
+            for (int i = 0; i < count; i++) heapMap.put(keys[i], (long) i);
+        } else {
+            offHeapMap = new OffHeapLongLongMap(count);
+            for (int i = 0; i < count; i++) offHeapMap.put(keys[i], i);
+        }
+        out.put("heapBytes", Math.max(0, FootprintBenchmark.usedHeapAfterGc() - baseline));
+        out.put("offHeapBytes", boxed ? 0 : offHeapMap.offHeapBytes());
+
+        // System.gc() under G1 is a stop-the-world full collection that marks every live object
+        long fullGc = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            System.gc();
+            fullGc = Math.min(fullGc, System.nanoTime() - start);
+        }
+        out.put("fullGcMs", String.format(Locale.ROOT, "%.3f", fullGc / 1_000_000.0));
+
+        listenForPauses();
+        long ops = 0;
+        long sink = 0;
+        long start = System.nanoTime();
+        long deadline = start + updateNanos;
+        long now = start;
+        int cursor = 0;
+        while (now < deadline) {
+            for (int b = 0; b < 256; b++) {
+                long key = keys[cursor];
+                cursor = cursor + 1 == count ? 0 : cursor + 1;
+                requestGarbage = new long[8];
+                if (boxed) {
+                    sink += heapMap.get(key);
+                    heapMap.put(key, sink);
+                } else {
+                    sink += offHeapMap.get(key);
+                    offHeapMap.put(key, sink);
+                }
+            }
+            ops += 256;
+            now = System.nanoTime();
+        }
+        // Notifications arrive on a service thread after the pause they describe
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long total = 0;
+        long max = 0;
+        synchronized (pauseMillis) {
+            for (long ms : pauseMillis) {
+                total += ms;
+                max = Math.max(max, ms);
+            }
+            out.put("pauses", pauseMillis.size());
+        }
+        out.put("pauseMs", total);
+        out.put("maxPauseMs", max);
+        out.put("opsPerMs", String.format(Locale.ROOT, "%.3f", ops / Math.max(0.001, (now - start) / 1_000_000.0)));
+        out.put("size", boxed ? heapMap.size() : offHeapMap.size());
+        out.put("sink", sink & 1);
+        StructureOps.release(offHeapMap);
+    }
+
+    private static void listenForPauses() {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(gc instanceof NotificationEmitter)) continue;
+            ((NotificationEmitter) gc).addNotificationListener((notification, handback) -> {
+                if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) return;
+                GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                pauseMillis.add(info.getGcInfo().getDuration());
+            }, null, null);
+        }
+    }
+
+    // ── Mapped: fixed-size records on heap or in a mapped file, sized against -Xmx ──
+
+    // Kept reachable until the cell ends so the collector has to carry it
+    private static List<long[]> heapRecords;
+
+    private static void runMapped(Map<String, String> params, Map<String, Object> out) throws IOException {
+        boolean mapped = params.get("ds").equals("mapped");
+        long records = Long.parseLong(params.get("records"));
+        int recordBytes = Integer.parseInt(params.get("recordBytes"));
+        int fields = recordBytes / 8;
+        int gets = (int) Math.min(records, 1_000_000);
+        long[] probes = new long[gets];
+        Random random = new Random(42);
+        for (int i = 0; i < gets; i++) probes[i] = (long) (random.nextDouble() * records);
+
+        Path file = mapped ? Files.createTempFile("mapped-cell", ".bin") : null;
+        MappedRecordList list = null;
+        try {
+            long gcBefore = totalGcMillis();
+            long start = System.nanoTime();
+            if (mapped) {
+                list = new MappedRecordList(file, recordBytes);
+                for (long i = 0; i < records; i++) list.add(i);
+            } else {
+                heapRecords = new ArrayList<>();
+                for (long i = 0; i < records; i++) {
+                    long[] record = new long[fields];
+                    record[0] = i;
+                    heapRecords.add(record);
+                }
+            }
+            long appendNanos = System.nanoTime() - start;
+            long gcMillis = totalGcMillis() - gcBefore;
+
+            long sink = 0;
+            start = System.nanoTime();
+            if (mapped) {
+                for (long index : probes) sink += list.getLong(index, 0);
+            } else {
+                for (long index : probes) sink += heapRecords.get((int) index)[0];
+            }
+            long getNanos = System.nanoTime() - start;
+
+            long[] sum = {0};
+            start = System.nanoTime();
+            if (mapped) {
+                list.forEachLong(0, v -> sum[0] += v);
+            } else {
+                for (long[] record : heapRecords) sum[0] += record[0];
+            }
+            long scanNanos = System.nanoTime() - start;
+
+            out.put("appendNs", String.format(Locale.ROOT, "%.3f", (double) appendNanos / Math.max(1, records)));
+            out.put("gcMs", gcMillis);
+            out.put("getNs", String.format(Locale.ROOT, "%.3f", (double) getNanos / Math.max(1, gets)));
+            out.put("scanMBps", String.format(Locale.ROOT, "%.3f",
+                    records * recordBytes / (1024.0 * 1024) / Math.max(1e-9, scanNanos / 1e9)));
+            out.put("sink", (sink + sum[0]) & 1);
+        } finally {
+            heapRecords = null;
+            if (list != null) list.close();
+            if (file != null) {
+                // Windows refuses to delete a file that is still mapped, and the mapping only goes
+                // away with the buffer; a failed cleanup must not throw away the numbers above
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    file.toFile().deleteOnExit();
+                }
+            }
+        }
+    }
+
+    // ── Cold start: the first operations a fresh JVM ever runs on a structure ──
+
+    static final int[] COLD_CHECKPOINTS = {1, 10, 100, 1000};
+
+    // Nothing here touches BenchmarkModel: its static init pulls in AWT, and that must
+    // not be charged to (or pre-load classes for) the structure under test
+    private static void runColdStart(Map<String, String> params, Map<String, Object> out) {
+        String dsName = params.get("ds");
+        String op = params.get("op");
+        int n = COLD_CHECKPOINTS[COLD_CHECKPOINTS.length - 1];
+        int[] keys = new int[n];
+        int[] probes = new int[n];
+        Random random = new Random(42);
+        for (int i = 0; i < n; i++) keys[i] = random.nextInt(n * 2);
+        random = new Random(99);
+        for (int i = 0; i < n; i++) probes[i] = random.nextInt(n * 2);
+
+        long[] elapsed = new long[COLD_CHECKPOINTS.length];
+        int next = 0;
+        Object structure;
+        if (op.equals("ADD")) {
+            // Construction is timed too: it is where the class gets loaded and initialized
+            long start = System.nanoTime();
+            structure = newStructure(dsName);
+            for (int i = 0; i < n; i++) {
+                StructureOps.add(structure, keys[i], keys[i]);
+                if (i + 1 == COLD_CHECKPOINTS[next]) elapsed[next++] = System.nanoTime() - start;
+            }
+        } else {
+            structure = newStructure(dsName);
+            for (int i = 0; i < n; i++) StructureOps.add(structure, keys[i], keys[i]);
+            boolean get = op.equals("GET");
+            long start = System.nanoTime();
+            for (int i = 0; i < n; i++) {
+                if (get) StructureOps.get(structure, probes[i]);
+                else StructureOps.remove(structure, keys[i]);
+                if (i + 1 == COLD_CHECKPOINTS[next]) elapsed[next++] = System.nanoTime() - start;
+            }
+        }
+        for (int i = 0; i < COLD_CHECKPOINTS.length; i++) {
+            out.put("ns" + COLD_CHECKPOINTS[i], elapsed[i]);
+        }
+        out.put("size", StructureOps.sizeOf(structure));
+        StructureOps.release(structure);
+    }
+
+    private static Object newStructure(String dsName) {
+        switch (dsName) {
+            case "ArrayList":         return new ArrayList<Integer>();
+            case "LinkedList":        return new LinkedList<Integer>();
+            case "ArrayDeque":        return new ArrayDeque<Integer>();
+            case "PriorityQueue":     return new PriorityQueue<Integer>();
+            case "HashSet":           return new HashSet<Integer>();
+            case "LinkedHashSet":     return new LinkedHashSet<Integer>();
+            case "TreeSet":           return new TreeSet<Integer>();
+            case "HashMap":           return new HashMap<Integer, Integer>();
+            case "LinkedHashMap":     return new LinkedHashMap<Integer, Integer>();
+            case "TreeMap":           return new TreeMap<Integer, Integer>();
+            case "Hashtable":         return new Hashtable<Integer, Integer>();
+            case "ConcurrentHashMap": return new java.util.concurrent.ConcurrentHashMap<Integer, Integer>();
+            case "ConcurrentSkipListMap": return new java.util.concurrent.ConcurrentSkipListMap<Integer, Integer>();
+            case "IntArrayList":      return new IntArrayList();
+            case "IntArrayDeque":     return new IntArrayDeque();
+            case "IntHashSet":        return new IntHashSet();
+            case "IntIntHashMap":     return new IntIntHashMap();
+            case "OffHeapLongLongMap": return new OffHeapLongLongMap();
+            default:                  return newProvidedStructure(dsName);
+        }
+    }
+
+    // Looked up directly rather than through BenchmarkModel.PROVIDERS, for the reason above
+    private static Object newProvidedStructure(String dsName) {
+        for (StructureProvider provider : ServiceLoader.load(StructureProvider.class)) {
+            if (provider.getName().equals(dsName)) {
+                return provider.isMap() ? provider.newMap() : provider.newCollection();
+            }
+        }
+        throw new IllegalArgumentException("Unknown structure: " + dsName);
+    }
+
+    static long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> params = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0) params.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        return params;
+    }
+
+    // ── Parent side ──────────────────────────────────────────────
+
+    // Runs one cell in a fresh JVM. Returns the child's key/values, "timeout" if it overran,
+    // or an empty map if it could not start or died without printing a result.
+    static Map<String, String> fork(List<String> jvmOptions, Map<String, String> params, long timeoutSeconds)
+            throws InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ForkedCell.class.getName());
+        for (Map.Entry<String, String> e : params.entrySet()) {
+            command.add(e.getKey() + "=" + e.getValue());
+        }
+
+        // Output goes to a file so a chatty child can never block on a full pipe
+        File outputFile = null;
+        Process process = null;
+        try {
+            outputFile = File.createTempFile("forked-cell", ".out");
+            process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(outputFile)
+                    .start();
+            if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                return Collections.singletonMap("timeout", "1");
+            }
+            return parseResult(Files.readString(outputFile.toPath(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            return Collections.emptyMap();
+        } finally {
+            if (process != null) process.destroyForcibly();
+            if (outputFile != null) outputFile.delete();
+        }
+    }
+
+    private static Map<String, String> parseResult(String output) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String line : output.split("\\R")) {
+            if (!line.startsWith(RESULT_PREFIX)) continue;
+            for (String token : line.substring(RESULT_PREFIX.length()).split(" ")) {
+                int eq = token.indexOf('=');
+                if (eq > 0) result.put(token.substring(0, eq), token.substring(eq + 1));
+            }
+        }
+        return result;
+    }
+}
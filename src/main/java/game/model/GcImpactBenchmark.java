@@ -0,0 +1,78 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// HashMap<Long,Long> against OffHeapLongLongMap at the same size, each in a forked G1 JVM.
+// The map sits in the heap as a long-lived table while an update loop runs, the way a
+// lookup service holds one: the boxed map is tens of bytes of traced objects per entry,
+// the off-heap one a few buffer headers.
+public class GcImpactBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String BOXED = "HashMap<Long,Long>";
+    static final String OFF_HEAP = "OffHeapLongLongMap";
+    static final String FULL_GC = "FULL GC, MAP LIVE";
+    static final String UPDATES = "GC DURING UPDATES";
+
+    private static final List<String> STRUCTURES = List.of(BOXED, OFF_HEAP);
+    private static final int UPDATE_SECONDS = 5;
+    private static final List<String> JVM_OPTIONS = List.of("-XX:+UseG1GC", "-Xmx1g");
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int completed = 0;
+
+        try {
+            for (String dsName : STRUCTURES) {
+                if (cancelled.getAsBoolean()) break;
+
+                Map<String, String> params = new LinkedHashMap<>();
+                params.put("mode", "gcpause");
+                params.put("ds", dsName.equals(BOXED) ? "boxed" : "offheap");
+                params.put("count", Integer.toString(elementCount));
+                params.put("seconds", Integer.toString(UPDATE_SECONDS));
+                Map<String, String> cell = ForkedCell.fork(JVM_OPTIONS, params, UPDATE_SECONDS + 120L);
+
+                if (cell.containsKey("fullGcMs")) {
+                    addResults(dsName, elementCount, cell, results);
+                } else {
+                    String note = cell.containsKey("oom") ? "OOM" : cell.containsKey("timeout") ? "TIMEOUT" : "CRASHED";
+                    results.add(new BenchmarkResult(dsName, FULL_GC, elementCount, 0,
+                            Map.of("ms", 0.0), "ms", true, note));
+                }
+
+                completed++;
+                progress.accept((double) completed / STRUCTURES.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return results;
+    }
+
+    private void addResults(String dsName, int count, Map<String, String> cell, List<BenchmarkResult> results) {
+        double fullGcMs = Double.parseDouble(cell.get("fullGcMs"));
+        double heapMb = Double.parseDouble(cell.get("heapBytes")) / (1024.0 * 1024);
+        double offHeapMb = Double.parseDouble(cell.get("offHeapBytes")) / (1024.0 * 1024);
+
+        Map<String, Double> full = new LinkedHashMap<>();
+        full.put("ms", fullGcMs);
+        full.put("heap MB", heapMb);
+        full.put("off-heap MB", offHeapMb);
+        results.add(new BenchmarkResult(dsName, FULL_GC, count, (long) (fullGcMs * 1_000_000), full, "ms", true));
+
+        double pauses = Double.parseDouble(cell.get("pauses"));
+        double pauseMs = Double.parseDouble(cell.get("pauseMs"));
+        Map<String, Double> updates = new LinkedHashMap<>();
+        updates.put("max pause ms", Double.parseDouble(cell.get("maxPauseMs")));
+        updates.put("avg pause ms", pauses == 0 ? 0 : pauseMs / pauses);
+        updates.put("pauses", pauses);
+        updates.put("ops/ms", Double.parseDouble(cell.get("opsPerMs")));
+        results.add(new BenchmarkResult(dsName, UPDATES, count, UPDATE_SECONDS * 1_000_000_000L,
+                updates, "max pause ms", true));
+    }
+}
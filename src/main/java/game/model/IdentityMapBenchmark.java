@@ -0,0 +1,212 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Identity-keyed maps: IdentityHashMap against HashMap, both keyed by plain objects that
+// keep Object's equals and hashCode, the way a traversal cache keys on graph nodes. Both
+// maps then hash by System.identityHashCode and hold the same key and value objects, so
+// the difference is the table: IdentityHashMap's one interleaved Object[] with linear
+// probing against HashMap's bucket array of 32 B nodes. The Key Types family is no use
+// here, since it probes with equal-but-distinct keys that an identity map never finds.
+//
+// GRAPH WALK is the workload the map exists for: a breadth-first walk over a random graph
+// (about four edges per vertex) that asks the visited map containsKey on every edge and
+// puts each vertex the first time it is reached. It reports ns per edge.
+public class IdentityMapBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String IDENTITY_HASH_MAP = "IdentityHashMap";
+    static final String HASH_MAP = "HashMap";
+    static final String NS_PER_OP = "ns/op";
+
+    private static final List<String> STRUCTURES = List.of(IDENTITY_HASH_MAP, HASH_MAP);
+    private static final String[] OPERATIONS = {"PUT", "GET (hit)", "GET (miss)", "REMOVE",
+            "GRAPH WALK (visited map)", "RETAINED HEAP"};
+    private static final int MIN_PROBES = 200_000;
+    private static final int MAX_PROBES = 1_000_000;
+    private static final int EDGES_PER_VERTEX = 4;
+
+    // No equals or hashCode of its own, so HashMap also falls back to identity
+    private static final class Vertex {
+        final int id;
+        Vertex[] edges;
+
+        Vertex(int id) {
+            this.id = id;
+        }
+    }
+
+    private long sink;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = STRUCTURES.size() * OPERATIONS.length;
+        int completed = 0;
+
+        Random random = new Random(42);
+        Vertex[] keys = graph(elementCount, random);
+        Vertex[] strangers = new Vertex[elementCount];
+        for (int i = 0; i < elementCount; i++) strangers[i] = new Vertex(elementCount + i);
+
+        int probeCount = Math.max(MIN_PROBES, Math.min(MAX_PROBES, elementCount));
+        Vertex[] hits = sample(keys, probeCount, random);
+        Vertex[] misses = sample(strangers, probeCount, random);
+        int edges = elementCount * EDGES_PER_VERTEX;
+
+        for (String dsName : STRUCTURES) {
+            for (int op = 0; op < OPERATIONS.length; op++) {
+                if (cancelled.getAsBoolean()) return results;
+                if (!BenchmarkModel.settle()) return results;
+
+                if (op == 5) {
+                    build(dsName, Arrays.copyOf(keys, Math.min(keys.length, 1000)));
+                    // Keys and values are the shared vertices, so only the map itself is counted
+                    BenchmarkModel.Retained measured = BenchmarkModel.measureRetained(() -> build(dsName, keys));
+                    results.add(BenchmarkModel.retainedResult(dsName, OPERATIONS[5], keys.length, "B/entry", measured));
+                } else {
+                    long best;
+                    switch (op) {
+                        case 0:  best = BenchmarkModel.best(() -> empty(dsName), s -> putAll(s, keys)); break;
+                        case 1:  best = BenchmarkModel.bestOn(build(dsName, keys), s -> getAll(s, hits)); break;
+                        case 2:  best = BenchmarkModel.bestOn(build(dsName, keys), s -> getAll(s, misses)); break;
+                        case 3:  best = BenchmarkModel.best(() -> build(dsName, keys), s -> removeAll(s, keys)); break;
+                        default: best = BenchmarkModel.best(() -> empty(dsName), s -> walk(s, keys)); break;
+                    }
+                    int count = op == 1 || op == 2 ? probeCount : op == 4 ? edges : elementCount;
+                    Map<String, Double> metrics = new LinkedHashMap<>();
+                    metrics.put(NS_PER_OP, (double) best / count);
+                    results.add(new BenchmarkResult(dsName, OPERATIONS[op], count, best, metrics, NS_PER_OP, true));
+                }
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return results;
+    }
+
+    // Vertex i links to a random EDGES_PER_VERTEX others; some may go unreached, and the
+    // walk restarts from them
+    private static Vertex[] graph(int n, Random random) {
+        Vertex[] vertices = new Vertex[n];
+        for (int i = 0; i < n; i++) vertices[i] = new Vertex(i);
+        for (Vertex v : vertices) {
+            v.edges = new Vertex[EDGES_PER_VERTEX];
+            for (int e = 0; e < EDGES_PER_VERTEX; e++) v.edges[e] = vertices[random.nextInt(n)];
+        }
+        return vertices;
+    }
+
+    private static Vertex[] sample(Vertex[] keys, int count, Random random) {
+        Vertex[] out = new Vertex[count];
+        for (int i = 0; i < count; i++) out[i] = keys[random.nextInt(keys.length)];
+        return out;
+    }
+
+    private static Map<Vertex, Vertex> empty(String dsName) {
+        return dsName.equals(IDENTITY_HASH_MAP) ? new IdentityHashMap<>() : new HashMap<>();
+    }
+
+    private static Map<Vertex, Vertex> build(String dsName, Vertex[] keys) {
+        Map<Vertex, Vertex> map = empty(dsName);
+        for (Vertex k : keys) map.put(k, k);
+        return map;
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+
+    // One loop per concrete type, so each call site stays monomorphic
+    private long putAll(Map<Vertex, Vertex> structure, Vertex[] keys) {
+        long start = System.nanoTime();
+        if (structure instanceof IdentityHashMap) {
+            IdentityHashMap<Vertex, Vertex> map = (IdentityHashMap<Vertex, Vertex>) structure;
+            for (Vertex k : keys) map.put(k, k);
+        } else {
+            HashMap<Vertex, Vertex> map = (HashMap<Vertex, Vertex>) structure;
+            for (Vertex k : keys) map.put(k, k);
+        }
+        long nanos = System.nanoTime() - start;
+        sink += structure.size();
+        return nanos;
+    }
+
+    private long getAll(Map<Vertex, Vertex> structure, Vertex[] probes) {
+        long sum = 0;
+        long start = System.nanoTime();
+        if (structure instanceof IdentityHashMap) {
+            IdentityHashMap<Vertex, Vertex> map = (IdentityHashMap<Vertex, Vertex>) structure;
+            for (Vertex p : probes) {
+                Vertex v = map.get(p);
+                if (v != null) sum += v.id;
+            }
+        } else {
+            HashMap<Vertex, Vertex> map = (HashMap<Vertex, Vertex>) structure;
+            for (Vertex p : probes) {
+                Vertex v = map.get(p);
+                if (v != null) sum += v.id;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += sum;
+        return nanos;
+    }
+
+    private long removeAll(Map<Vertex, Vertex> structure, Vertex[] keys) {
+        long start = System.nanoTime();
+        if (structure instanceof IdentityHashMap) {
+            IdentityHashMap<Vertex, Vertex> map = (IdentityHashMap<Vertex, Vertex>) structure;
+            for (Vertex k : keys) map.remove(k);
+        } else {
+            HashMap<Vertex, Vertex> map = (HashMap<Vertex, Vertex>) structure;
+            for (Vertex k : keys) map.remove(k);
+        }
+        long nanos = System.nanoTime() - start;
+        sink += structure.size();
+        return nanos;
+    }
+
+    // Maps each vertex to the one it was reached from, as a copy or path cache would
+    private long walk(Map<Vertex, Vertex> structure, Vertex[] vertices) {
+        ArrayDeque<Vertex> queue = new ArrayDeque<>();
+        long start = System.nanoTime();
+        if (structure instanceof IdentityHashMap) {
+            IdentityHashMap<Vertex, Vertex> visited = (IdentityHashMap<Vertex, Vertex>) structure;
+            for (Vertex root : vertices) {
+                if (visited.containsKey(root)) continue;
+                visited.put(root, root);
+                queue.add(root);
+                while (!queue.isEmpty()) {
+                    Vertex v = queue.poll();
+                    for (Vertex next : v.edges) {
+                        if (!visited.containsKey(next)) {
+                            visited.put(next, v);
+                            queue.add(next);
+                        }
+                    }
+                }
+            }
+        } else {
+            HashMap<Vertex, Vertex> visited = (HashMap<Vertex, Vertex>) structure;
+            for (Vertex root : vertices) {
+                if (visited.containsKey(root)) continue;
+                visited.put(root, root);
+                queue.add(root);
+                while (!queue.isEmpty()) {
+                    Vertex v = queue.poll();
+                    for (Vertex next : v.edges) {
+                        if (!visited.containsKey(next)) {
+                            visited.put(next, v);
+                            queue.add(next);
+                        }
+                    }
+                }
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += structure.size();
+        return nanos;
+    }
+}
@@ -0,0 +1,165 @@
+package game.model;
+
+import game.collections.ImmutableProbeTable;
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Read-only lookups: Set.of and Map.of (the JDK's SetN and MapN, built once from an array)
+// against HashSet and HashMap holding the same boxed Integers. Lookups are contains for
+// the sets and get for the maps, best of three after two warmups.
+//
+// Random keys spread evenly over both kinds of table. Sequential keys 0..n-1 do not:
+// Integer.hashCode is the value and SetN/MapN take it mod the bucket count unmixed, so the
+// keys fill buckets 0..n-1 as one solid run. Hits still land on their home bucket, but a
+// miss whose home falls inside the run (here k + 2n for a key k) reads on to the end of it,
+// n/2 buckets on average. HashMap spreads the hash and chains, so it does not care. Those
+// cells run fewer probes at large n and report ns per probe all the same; for the JDK
+// tables they also report the average buckets read, from ImmutableProbeTable's copy of the
+// layout.
+public class ImmutableLookupBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String SET_OF = "Set.of";
+    static final String HASH_SET = "HashSet";
+    static final String MAP_OF = SmallMapBenchmark.MAP_OF;
+    static final String HASH_MAP = "HashMap";
+    static final String NS_PER_OP = "ns/op";
+
+    private static final List<String> STRUCTURES = List.of(SET_OF, HASH_SET, MAP_OF, HASH_MAP);
+    private static final String[] OPERATIONS = {"LOOKUP (hit)", "LOOKUP (miss)", "LOOKUP (hit), sequential keys",
+            "LOOKUP (miss), sequential keys", "RETAINED HEAP"};
+    private static final int MIN_PROBES = 200_000;
+    private static final int MAX_PROBES = 1_000_000;
+    // Bucket reads allowed per sequential-miss cell, about a tenth of a second of probing
+    private static final long CLUSTERED_BUDGET = 50_000_000L;
+    private static final int PROBE_SAMPLE = 1000;
+
+    private long sink;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = STRUCTURES.size() * OPERATIONS.length;
+        int completed = 0;
+
+        int[] all = OpenAddressingBenchmark.distinctRandomInts(elementCount * 2, new Random(42));
+        Integer[] randomKeys = boxed(Arrays.copyOfRange(all, 0, elementCount));
+        Integer[] sequentialKeys = new Integer[elementCount];
+        for (int i = 0; i < elementCount; i++) sequentialKeys[i] = i;
+
+        int probeCount = Math.max(MIN_PROBES, Math.min(MAX_PROBES, elementCount));
+        Random random = new Random(7);
+        Integer[][] probes = new Integer[4][];
+        probes[0] = sample(randomKeys, probeCount, random);
+        probes[1] = sample(boxed(Arrays.copyOfRange(all, elementCount, elementCount * 2)), probeCount, random);
+        probes[2] = sample(sequentialKeys, probeCount, random);
+        int clusteredCount = (int) Math.max(PROBE_SAMPLE, Math.min(probeCount, CLUSTERED_BUDGET / Math.max(1, elementCount)));
+        probes[3] = new Integer[clusteredCount];
+        for (int i = 0; i < clusteredCount; i++) probes[3][i] = random.nextInt(elementCount) + 2 * elementCount;
+
+        for (String dsName : STRUCTURES) {
+            for (int op = 0; op < OPERATIONS.length; op++) {
+                if (cancelled.getAsBoolean()) return results;
+                if (!BenchmarkModel.settle()) return results;
+
+                Integer[] keys = op >= 2 && op <= 3 ? sequentialKeys : randomKeys;
+                if (op == 4) {
+                    build(dsName, Arrays.copyOf(keys, Math.min(keys.length, 1000)));
+                    // The boxes are shared with the key array, so only the structure itself is counted
+                    results.add(BenchmarkModel.retainedResult(dsName, OPERATIONS[4], keys.length, () -> build(dsName, keys)));
+                } else {
+                    Integer[] opProbes = probes[op];
+                    long best = BenchmarkModel.bestOn(build(dsName, keys), s -> lookupAll(s, opProbes));
+                    Map<String, Double> metrics = new LinkedHashMap<>();
+                    metrics.put(NS_PER_OP, (double) best / probes[op].length);
+                    if (dsName.equals(SET_OF) || dsName.equals(MAP_OF)) {
+                        metrics.put("buckets read", averageProbes(dsName, keys, probes[op]));
+                    }
+                    results.add(new BenchmarkResult(dsName, OPERATIONS[op], probes[op].length, best, metrics, NS_PER_OP, true));
+                }
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return results;
+    }
+
+    // Mean buckets read over the first probes, on a copy of the JDK layout
+    private static double averageProbes(String dsName, Integer[] keys, Integer[] probes) {
+        ImmutableProbeTable table = dsName.equals(SET_OF)
+                ? ImmutableProbeTable.setOf((Object[]) keys)
+                : ImmutableProbeTable.mapOf(keys, keys);
+        int count = Math.min(PROBE_SAMPLE, probes.length);
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            table.probe(probes[i]);
+            total += table.lastProbes();
+        }
+        return (double) total / count;
+    }
+
+    private static Integer[] boxed(int[] values) {
+        Integer[] out = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) out[i] = values[i];
+        return out;
+    }
+
+    private static Integer[] sample(Integer[] keys, int count, Random random) {
+        Integer[] out = new Integer[count];
+        for (int i = 0; i < count; i++) out[i] = keys[random.nextInt(keys.length)];
+        return out;
+    }
+
+    // Map values reuse the key boxes: both map kinds hold the same objects either way
+    private static Object build(String dsName, Integer[] keys) {
+        switch (dsName) {
+            case SET_OF:
+                return Set.of(keys);
+            case HASH_SET:
+                return new HashSet<>(Arrays.asList(keys));
+            case MAP_OF: {
+                List<Map.Entry<Integer, Integer>> entries = new ArrayList<>(keys.length);
+                for (Integer k : keys) entries.add(Map.entry(k, k));
+                return ImmutableProbeTable.jdkMapOf(entries);
+            }
+            default: {
+                HashMap<Integer, Integer> map = new HashMap<>();
+                for (Integer k : keys) map.put(k, k);
+                return map;
+            }
+        }
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+
+    // One loop per concrete type, so each call site stays monomorphic
+    @SuppressWarnings("unchecked")
+    private long lookupAll(Object structure, Integer[] probes) {
+        long sum = 0;
+        long start = System.nanoTime();
+        if (structure instanceof HashSet) {
+            HashSet<Integer> set = (HashSet<Integer>) structure;
+            for (Integer p : probes) if (set.contains(p)) sum++;
+        } else if (structure instanceof Set) {
+            Set<Integer> set = (Set<Integer>) structure;
+            for (Integer p : probes) if (set.contains(p)) sum++;
+        } else if (structure instanceof HashMap) {
+            HashMap<Integer, Integer> map = (HashMap<Integer, Integer>) structure;
+            for (Integer p : probes) {
+                Integer v = map.get(p);
+                if (v != null) sum += v;
+            }
+        } else {
+            Map<Integer, Integer> map = (Map<Integer, Integer>) structure;
+            for (Integer p : probes) {
+                Integer v = map.get(p);
+                if (v != null) sum += v;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += sum;
+        return nanos;
+    }
+}
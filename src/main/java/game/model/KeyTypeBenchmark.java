@@ -0,0 +1,258 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+import game.model.BenchmarkModel.Operation;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+public class KeyTypeBenchmark implements BenchmarkModel.FamilyRunner {
+
+    public enum KeyType {
+        INTEGER("Integer"),
+        RECORD_3("Record, 3 fields"),
+        RECORD_5("Record, 5 fields"),
+        STRING_8("String, 8 chars"),
+        STRING_64("String, 64 chars"),
+        STRING_512("String, 512 chars"),
+        CACHED_HASH("Composite, cached hash"),
+        UNCACHED_HASH("Composite, uncached hash"),
+        SLOW_EQUALS("Slow equals()");
+
+        private final String displayName;
+        KeyType(String displayName) { this.displayName = displayName; }
+        public String getDisplayName() { return displayName; }
+    }
+
+    // Hash-based structure -> comparison-based structure holding the same keys
+    private static final Map<String, String> TREE_COUNTERPARTS = Map.of(
+            "HashSet", "TreeSet",
+            "LinkedHashSet", "TreeSet",
+            "HashMap", "TreeMap",
+            "LinkedHashMap", "TreeMap",
+            "Hashtable", "TreeMap",
+            "ConcurrentHashMap", "TreeMap");
+
+    private final KeyType keyType;
+    private final Set<Operation> operations;
+    private long sink;
+
+    public KeyTypeBenchmark(KeyType keyType, Set<Operation> operations) {
+        this.keyType = keyType;
+        this.operations = operations;
+    }
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        List<String> dsNames = keyedStructureNames();
+        boolean withBaseline = keyType != KeyType.INTEGER;
+        int totalTasks = dsNames.size() * operations.size();
+        int completed = 0;
+
+        for (String dsName : dsNames) {
+            if (cancelled.getAsBoolean()) break;
+
+            for (Operation op : Operation.values()) {
+                if (cancelled.getAsBoolean()) break;
+                if (!operations.contains(op)) continue;
+
+                // Warmup 2x at 1/10 size
+                int warmupSize = Math.max(100, elementCount / 10);
+                for (int w = 0; w < 2; w++) {
+                    measure(dsName, op, keyType, warmupSize);
+                }
+
+                if (!BenchmarkModel.settle()) return results;
+                long nanos = measure(dsName, op, keyType, elementCount);
+
+                Map<String, Double> metrics = new LinkedHashMap<>();
+                metrics.put("ns/op", (double) nanos / Math.max(1, elementCount));
+                if (withBaseline) {
+                    measure(dsName, op, KeyType.INTEGER, warmupSize);
+                    if (!BenchmarkModel.settle()) return results;
+                    long baseline = measure(dsName, op, KeyType.INTEGER, elementCount);
+                    metrics.put("x vs Integer", (double) nanos / Math.max(1, baseline));
+                }
+                results.add(new BenchmarkResult(dsName, op.getDisplayName() + "  [" + keyType.getDisplayName() + "]",
+                        elementCount, nanos, metrics));
+
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return withTreeRatio(results);
+    }
+
+    // Sets and maps: the structures whose cost depends on hashCode/equals/compareTo
+    private static List<String> keyedStructureNames() {
+        List<String> names = new ArrayList<>();
+        for (String name : BenchmarkModel.boxedStructureNames()) {
+            if (BenchmarkModel.isSet(name) || BenchmarkModel.isMap(name)) names.add(name);
+        }
+        return names;
+    }
+
+    private static List<BenchmarkResult> withTreeRatio(List<BenchmarkResult> results) {
+        Map<String, BenchmarkResult> byCell = new HashMap<>();
+        for (BenchmarkResult r : results) {
+            byCell.put(r.getDataStructureName() + "|" + r.getOperationName(), r);
+        }
+        List<BenchmarkResult> annotated = new ArrayList<>(results.size());
+        for (BenchmarkResult r : results) {
+            String treeName = TREE_COUNTERPARTS.get(r.getDataStructureName());
+            BenchmarkResult tree = treeName == null ? null : byCell.get(treeName + "|" + r.getOperationName());
+            annotated.add(tree == null ? r
+                    : r.withMetric("x vs " + treeName, (double) r.getTimeNanos() / Math.max(1, tree.getTimeNanos())));
+        }
+        return annotated;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long measure(String dsName, Operation op, KeyType type, int count) {
+        Random random = new Random(42);
+        int[] ids = BenchmarkModel.randomInts(count, random);
+        Object[] keys = createKeys(type, ids);
+        // Lookups and removals use equal but distinct instances, as keys arriving off the wire would be
+        Object[] probes = createKeys(type, op == Operation.GET ? BenchmarkModel.randomInts(count, new Random(99)) : ids);
+
+        if (BenchmarkModel.isMap(dsName)) {
+            Map<Object, Object> map = (Map<Object, Object>) BenchmarkModel.createMap(dsName);
+            if (op == Operation.ADD) {
+                long start = System.nanoTime();
+                for (int i = 0; i < count; i++) map.put(keys[i], ids[i]);
+                return System.nanoTime() - start;
+            }
+            for (int i = 0; i < count; i++) map.put(keys[i], ids[i]);
+            long start = System.nanoTime();
+            if (op == Operation.GET) {
+                for (Object k : probes) if (map.get(k) != null) sink++;
+            } else {
+                for (Object k : probes) map.remove(k);
+            }
+            return System.nanoTime() - start;
+        }
+
+        Collection<Object> set = BenchmarkModel.createCollection(dsName);
+        if (op == Operation.ADD) {
+            long start = System.nanoTime();
+            for (Object k : keys) set.add(k);
+            return System.nanoTime() - start;
+        }
+        for (Object k : keys) set.add(k);
+        long start = System.nanoTime();
+        if (op == Operation.GET) {
+            for (Object k : probes) if (set.contains(k)) sink++;
+        } else {
+            for (Object k : probes) set.remove(k);
+        }
+        return System.nanoTime() - start;
+    }
+
+    // ── Key factories: the same id always yields an equal key ────
+
+    static Object[] createKeys(KeyType type, int[] ids) {
+        Object[] keys = new Object[ids.length];
+        for (int i = 0; i < ids.length; i++) keys[i] = createKey(type, ids[i]);
+        return keys;
+    }
+
+    private static Object createKey(KeyType type, int id) {
+        switch (type) {
+            case RECORD_3:      return new Key3(id % 64, id * 31L, CURRENCIES[id % CURRENCIES.length]);
+            case RECORD_5:      return new Key5(id % 64, id * 31L, CURRENCIES[id % CURRENCIES.length], id >>> 3, 1_700_000_000_000L + id);
+            case STRING_8:      return paddedString(id, 8);
+            case STRING_64:     return paddedString(id, 64);
+            case STRING_512:    return paddedString(id, 512);
+            case CACHED_HASH:   return new CompositeKey(id, true);
+            case UNCACHED_HASH: return new CompositeKey(id, false);
+            case SLOW_EQUALS:   return new SlowEqualsKey(id);
+            default:            return Integer.valueOf(id);
+        }
+    }
+
+    private static final String[] CURRENCIES = {"USD", "EUR", "GBP", "JPY", "CHF", "SEK", "NOK", "PLN"};
+
+    // Shared prefix with the id at the end, like URLs or file paths: equals and
+    // compareTo both have to walk the whole string before they can decide
+    private static String paddedString(int id, int length) {
+        String digits = Integer.toString(id);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = digits.length(); i < length; i++) sb.append((char) ('a' + i % 26));
+        return sb.append(digits).toString();
+    }
+
+    record Key3(int region, long account, String currency) implements Comparable<Key3> {
+        @Override
+        public int compareTo(Key3 o) {
+            int c = Integer.compare(region, o.region);
+            if (c == 0) c = Long.compare(account, o.account);
+            return c != 0 ? c : currency.compareTo(o.currency);
+        }
+    }
+
+    record Key5(int region, long account, String currency, int bucket, long timestamp) implements Comparable<Key5> {
+        @Override
+        public int compareTo(Key5 o) {
+            int c = Integer.compare(region, o.region);
+            if (c == 0) c = Long.compare(account, o.account);
+            if (c == 0) c = currency.compareTo(o.currency);
+            if (c == 0) c = Integer.compare(bucket, o.bucket);
+            return c != 0 ? c : Long.compare(timestamp, o.timestamp);
+        }
+    }
+
+    // Eight-long payload; hashCode either walks it every call or once at construction
+    static final class CompositeKey implements Comparable<CompositeKey> {
+        private final long[] parts = new long[8];
+        private final int cachedHash;
+        private final boolean cacheHash;
+
+        CompositeKey(int id, boolean cacheHash) {
+            for (int i = 0; i < parts.length; i++) parts[i] = id * 0x9E3779B97F4A7C15L + i;
+            this.cacheHash = cacheHash;
+            this.cachedHash = cacheHash ? Arrays.hashCode(parts) : 0;
+        }
+
+        @Override
+        public int hashCode() { return cacheHash ? cachedHash : Arrays.hashCode(parts); }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CompositeKey && Arrays.equals(parts, ((CompositeKey) o).parts);
+        }
+
+        @Override
+        public int compareTo(CompositeKey o) { return Arrays.compare(parts, o.parts); }
+    }
+
+    // Cheap hash, but equals compares a 64-char name the slow way, char by char via charAt
+    static final class SlowEqualsKey implements Comparable<SlowEqualsKey> {
+        private final int id;
+        private final String name;
+
+        SlowEqualsKey(int id) {
+            this.id = id;
+            this.name = paddedString(id, 64);
+        }
+
+        @Override
+        public int hashCode() { return Integer.hashCode(id); }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof SlowEqualsKey)) return false;
+            SlowEqualsKey other = (SlowEqualsKey) o;
+            if (name.length() != other.name.length()) return false;
+            boolean same = id == other.id;
+            for (int i = 0; i < name.length(); i++) {
+                same &= name.charAt(i) == other.name.charAt(i);
+            }
+            return same;
+        }
+
+        @Override
+        public int compareTo(SlowEqualsKey o) { return Integer.compare(id, o.id); }
+    }
+}
@@ -0,0 +1,185 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+// Same node-based structure, same keys, different heap layouts. The core benchmark only
+// ever sees the FRESH layout: nodes allocated back to back in one TLAB, in key order.
+public class LocalityBenchmark implements BenchmarkModel.FamilyRunner {
+
+    public enum Layout {
+        FRESH("fresh, in order"),
+        SHUFFLED("shuffled insertion"),
+        INTERLEAVED("interleaved with live filler"),
+        AGED("churned + aged through GCs");
+
+        private final String displayName;
+        Layout(String displayName) { this.displayName = displayName; }
+        public String getDisplayName() { return displayName; }
+    }
+
+    static final String TRAVERSE = "TRAVERSE";
+    static final String LOOKUP = "LOOKUP";
+    static final String NS_PER_ELEM = "ns/elem";
+
+    // Structures whose elements live in one heap object per entry
+    private static final List<String> NODE_BASED = List.of(
+            "LinkedList", "TreeSet", "TreeMap", "HashSet", "LinkedHashSet",
+            "HashMap", "LinkedHashMap", "Hashtable", "ConcurrentHashMap");
+
+    // One long[6] (64 bytes with header) between consecutive nodes: about a cache line
+    private static final int FILLER_LONGS = 6;
+    private static final int ROUNDS = 3;
+
+    // Filler stays reachable while an INTERLEAVED structure is measured
+    private List<long[]> filler;
+    // Written, never read: a field store keeps escape analysis from removing the garbage
+    private long[] garbage;
+    private long sink;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = NODE_BASED.size() * Layout.values().length;
+        int completed = 0;
+
+        int[] ordered = new int[elementCount];
+        for (int i = 0; i < elementCount; i++) ordered[i] = i;
+        int[] shuffled = shuffle(ordered, new Random(42));
+        int[] probes = shuffle(ordered, new Random(99));
+
+        for (String dsName : NODE_BASED) {
+            if (cancelled.getAsBoolean()) break;
+            double freshTraverse = 0;
+            double freshLookup = 0;
+
+            for (Layout layout : Layout.values()) {
+                if (cancelled.getAsBoolean()) break;
+                if (!BenchmarkModel.settle()) return results;
+
+                Object structure = build(dsName, layout, ordered, shuffled);
+                long traverseNanos = best(() -> traverse(structure));
+                long lookupNanos = dsName.equals("LinkedList") ? -1 : best(() -> lookup(structure, probes));
+                filler = null;
+
+                double traverse = (double) traverseNanos / elementCount;
+                if (layout == Layout.FRESH) freshTraverse = traverse;
+                results.add(result(dsName, TRAVERSE, layout, elementCount, traverseNanos, traverse, freshTraverse));
+
+                // A LinkedList lookup is a linear scan, which says nothing about locality per node
+                if (lookupNanos >= 0) {
+                    double lookup = (double) lookupNanos / elementCount;
+                    if (layout == Layout.FRESH) freshLookup = lookup;
+                    results.add(result(dsName, LOOKUP, layout, elementCount, lookupNanos, lookup, freshLookup));
+                }
+
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return results;
+    }
+
+    static String operationName(String op, Layout layout) {
+        return op + "  [" + layout.getDisplayName() + "]";
+    }
+
+    private static BenchmarkResult result(String dsName, String op, Layout layout, int count, long nanos,
+                                          double nsPerElem, double fresh) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        if (layout != Layout.FRESH && fresh > 0) metrics.put("x vs fresh", nsPerElem / fresh);
+        metrics.put(NS_PER_ELEM, nsPerElem);
+        return new BenchmarkResult(dsName, operationName(op, layout), count, nanos, metrics, NS_PER_ELEM, true);
+    }
+
+    // ── Building each layout ─────────────────────────────────────
+
+    @SuppressWarnings("unchecked")
+    private Object build(String dsName, Layout layout, int[] ordered, int[] shuffled) {
+        int[] keys = layout == Layout.FRESH ? ordered : shuffled;
+        boolean interleave = layout == Layout.INTERLEAVED || layout == Layout.AGED;
+        List<long[]> spacer = interleave ? new ArrayList<>(keys.length) : null;
+
+        Object structure = BenchmarkModel.isMap(dsName) ? BenchmarkModel.createMap(dsName)
+                : BenchmarkModel.createCollection(dsName);
+        for (int k : keys) {
+            StructureOps.add(structure, k, k);
+            if (interleave) spacer.add(new long[FILLER_LONGS]);
+        }
+        // LinkedList nodes always follow insertion order; shuffling moves the element
+        // references instead, so each step of a traversal lands on a far-away Integer
+        if (layout != Layout.FRESH && structure instanceof LinkedList) {
+            Collections.shuffle((List<Integer>) structure, new Random(7));
+        }
+
+        if (layout == Layout.INTERLEAVED) {
+            filler = spacer;
+        } else if (layout == Layout.AGED) {
+            // Replace a quarter of the entries with new nodes allocated among garbage, drop
+            // the spacers, then let full GCs compact what is left
+            Random random = new Random(11);
+            int replaced = keys.length / 4;
+            Set<Integer> chosen = new LinkedHashSet<>();
+            for (int i = 0; i < replaced; i++) chosen.add(keys[random.nextInt(keys.length)]);
+            // StructureOps.remove takes a LinkedList's head, not the key; drop the chosen keys
+            // in one pass instead, so they go back on the end and the contents stay the same
+            if (structure instanceof List) ((List<Integer>) structure).removeIf(chosen::contains);
+            for (int k : chosen) {
+                if (!(structure instanceof List)) StructureOps.remove(structure, k);
+                garbage = new long[FILLER_LONGS];
+                StructureOps.add(structure, k, k);
+            }
+            spacer = null;
+            for (int i = 0; i < 3; i++) BenchmarkModel.settle();
+        }
+        return structure;
+    }
+
+    private static int[] shuffle(int[] source, Random random) {
+        int[] out = source.clone();
+        for (int i = out.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = out[i]; out[i] = out[j]; out[j] = t;
+        }
+        return out;
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+
+    // Two warmup rounds, then the best of ROUNDS
+    private long best(LongSupplier measured) {
+        for (int i = 0; i < 2; i++) measured.getAsLong();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) best = Math.min(best, measured.getAsLong());
+        return best;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long traverse(Object structure) {
+        long sum = 0;
+        long start = System.nanoTime();
+        if (structure instanceof Map) {
+            for (Map.Entry<Integer, Integer> e : ((Map<Integer, Integer>) structure).entrySet()) {
+                sum += e.getKey() + e.getValue();
+            }
+        } else {
+            for (Integer v : (Collection<Integer>) structure) sum += v;
+        }
+        long nanos = System.nanoTime() - start;
+        sink += sum;
+        return nanos;
+    }
+
+    private long lookup(Object structure, int[] probes) {
+        long found = 0;
+        long start = System.nanoTime();
+        for (int k : probes) if (StructureOps.get(structure, k)) found++;
+        long nanos = System.nanoTime() - start;
+        sink += found;
+        return nanos;
+    }
+}
@@ -0,0 +1,94 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// ArrayList<long[]> against MappedRecordList with datasets sized as a share of the forked
+// JVM's -Xmx, from comfortably inside the heap to twice its size. The mapped list only
+// pays for the page cache; the heap list has to hold, and the GC trace, every record.
+public class MappedListBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String HEAP_LIST = "ArrayList<long[]>";
+    static final String MAPPED_LIST = "MappedRecordList";
+    static final int RECORD_BYTES = 64;
+
+    private static final List<String> STRUCTURES = List.of(HEAP_LIST, MAPPED_LIST);
+    private static final int[] HEAP_PERCENTS = {25, 50, 100, 200};
+    private static final long CELL_TIMEOUT_SECONDS = 180;
+
+    private final int heapMb;
+
+    public MappedListBenchmark(int heapMb) {
+        this.heapMb = heapMb;
+    }
+
+    // elementCount is unused: dataset sizes follow from the forked heap instead
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = STRUCTURES.size() * HEAP_PERCENTS.length;
+        int completed = 0;
+
+        List<String> jvmOptions = List.of("-Xmx" + heapMb + "m");
+        try {
+            for (int percent : HEAP_PERCENTS) {
+                long records = (long) heapMb * 1024 * 1024 * percent / 100 / RECORD_BYTES;
+                for (String dsName : STRUCTURES) {
+                    if (cancelled.getAsBoolean()) return results;
+
+                    Map<String, String> params = new LinkedHashMap<>();
+                    params.put("mode", "mapped");
+                    params.put("ds", dsName.equals(MAPPED_LIST) ? "mapped" : "heap");
+                    params.put("records", Long.toString(records));
+                    params.put("recordBytes", Integer.toString(RECORD_BYTES));
+                    Map<String, String> cell = ForkedCell.fork(jvmOptions, params, CELL_TIMEOUT_SECONDS);
+                    addResults(dsName, percent, (int) records, cell, results);
+
+                    completed++;
+                    progress.accept((double) completed / totalTasks);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return results;
+    }
+
+    static String operationName(String op, int percent) {
+        return String.format("%s, DATA %d%% OF HEAP", op, percent);
+    }
+
+    private void addResults(String dsName, int percent, int records, Map<String, String> cell,
+                            List<BenchmarkResult> results) {
+        if (!cell.containsKey("appendNs")) {
+            String note = cell.containsKey("oom") ? "OOM" : cell.containsKey("timeout") ? "TIMEOUT"
+                    : cell.containsKey("error") ? cell.get("error") : "CRASHED";
+            results.add(new BenchmarkResult(dsName, operationName("APPEND", percent), records, 0,
+                    Map.of("ns/record", 0.0), "ns/record", true, note));
+            results.add(new BenchmarkResult(dsName, operationName("RANDOM GET", percent), records, 0,
+                    Map.of("ns/get", 0.0), "ns/get", true, note));
+            results.add(new BenchmarkResult(dsName, operationName("SEQ SCAN", percent), records, 0,
+                    Map.of("MB/s", 0.0), "MB/s", false, note));
+            return;
+        }
+
+        double appendNs = Double.parseDouble(cell.get("appendNs"));
+        Map<String, Double> append = new LinkedHashMap<>();
+        append.put("ns/record", appendNs);
+        append.put("GC ms", Double.parseDouble(cell.get("gcMs")));
+        results.add(new BenchmarkResult(dsName, operationName("APPEND", percent), records,
+                (long) (appendNs * records), append, "ns/record", true));
+
+        double getNs = Double.parseDouble(cell.get("getNs"));
+        results.add(new BenchmarkResult(dsName, operationName("RANDOM GET", percent), records,
+                (long) (getNs * Math.min(records, 1_000_000)), Map.of("ns/get", getNs), "ns/get", true));
+
+        double scanMBps = Double.parseDouble(cell.get("scanMBps"));
+        double megabytes = (double) records * RECORD_BYTES / (1024 * 1024);
+        results.add(new BenchmarkResult(dsName, operationName("SEQ SCAN", percent), records,
+                (long) (megabytes / Math.max(1e-9, scanMBps) * 1e9), Map.of("MB/s", scanMBps), "MB/s", false));
+    }
+}
@@ -0,0 +1,258 @@
+package game.model;
+
+import game.collections.IntIntHashMap;
+import game.collections.ProbingIntIntMap;
+import game.collections.ProbingIntIntMap.Mode;
+import game.collections.SwissIntIntMap;
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// int -> int maps head to head: the two probing orders of ProbingIntIntMap, the Swiss table's
+// group probing, IntIntHashMap (linear probing with backward-shift deletes, so no tombstones)
+// and HashMap<Integer,Integer>.
+// Keys are distinct random ints, so HashMap gets no help from sequential Integer hash codes.
+public class OpenAddressingBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String LINEAR = "Linear probing";
+    static final String ROBIN_HOOD = "Robin Hood";
+    static final String SWISS = "Swiss table";
+    static final String NS_PER_OP = "ns/op";
+
+    private static final List<String> STRUCTURES = List.of(LINEAR, ROBIN_HOOD, SWISS, "IntIntHashMap", "HashMap");
+    private static final String[] OPERATIONS = {"PUT (growing)", "GET (hit)", "GET (miss)", "REMOVE", "CHURN (remove + put)",
+            "READ-HEAVY (95% get)"};
+    private static final double LOAD_FACTOR = 0.75;
+
+    private long sink;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = STRUCTURES.size() * OPERATIONS.length;
+        int completed = 0;
+
+        // Present keys, keys never inserted, and replacement keys for the churn pass
+        int[] all = distinctRandomInts(elementCount * 3, new Random(42));
+        int[] keys = Arrays.copyOfRange(all, 0, elementCount);
+        int[] misses = Arrays.copyOfRange(all, elementCount, elementCount * 2);
+        int[] fresh = Arrays.copyOfRange(all, elementCount * 2, elementCount * 3);
+
+        for (String dsName : STRUCTURES) {
+            for (int op = 0; op < OPERATIONS.length; op++) {
+                if (cancelled.getAsBoolean()) return results;
+                if (!BenchmarkModel.settle()) return results;
+
+                Object[] last = new Object[1];
+                long nanos;
+                switch (op) {
+                    case 0:  nanos = BenchmarkModel.best(() -> create(dsName), s -> putAll(last[0] = s, keys)); break;
+                    case 1:  nanos = BenchmarkModel.bestOn(last[0] = populated(dsName, keys), s -> getAll(s, keys)); break;
+                    case 2:  nanos = BenchmarkModel.bestOn(last[0] = populated(dsName, keys), s -> getAll(s, misses)); break;
+                    case 3:  nanos = BenchmarkModel.best(() -> populated(dsName, keys), s -> removeAll(last[0] = s, keys)); break;
+                    case 4:  nanos = BenchmarkModel.bestOn(last[0] = populated(dsName, keys), s -> churn(s, keys, fresh)); break;
+                    default: nanos = BenchmarkModel.bestOn(last[0] = populated(dsName, keys), s -> readHeavy(s, keys, misses)); break;
+                }
+                results.add(result(dsName, OPERATIONS[op], elementCount, nanos, last[0]));
+
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return results;
+    }
+
+    private static BenchmarkResult result(String dsName, String op, int count, long nanos, Object structure) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        if (structure instanceof ProbingIntIntMap) {
+            ProbingIntIntMap map = (ProbingIntIntMap) structure;
+            metrics.put("avg probe", map.averageProbeLength());
+            metrics.put("max disp", (double) map.maxDisplacement());
+            metrics.put("tombstones", (double) map.tombstones());
+        } else if (structure instanceof SwissIntIntMap) {
+            SwissIntIntMap map = (SwissIntIntMap) structure;
+            metrics.put("groups/hit", groupsPerHit(map));
+            metrics.put("tombstones", (double) map.deleted());
+        }
+        metrics.put(NS_PER_OP, (double) nanos / Math.max(1, count));
+        return new BenchmarkResult(dsName, op, count, nanos, metrics, NS_PER_OP, true);
+    }
+
+    // ── Structures ───────────────────────────────────────────────
+
+    private static Object create(String dsName) {
+        switch (dsName) {
+            case LINEAR:          return new ProbingIntIntMap(Mode.LINEAR, 16, LOAD_FACTOR);
+            case ROBIN_HOOD:      return new ProbingIntIntMap(Mode.ROBIN_HOOD, 16, LOAD_FACTOR);
+            case SWISS:           return new SwissIntIntMap();
+            case "IntIntHashMap": return new IntIntHashMap();
+            default:              return new HashMap<Integer, Integer>();
+        }
+    }
+
+    private static double groupsPerHit(SwissIntIntMap map) {
+        if (map.size() == 0) return 0;
+        long total = 0;
+        for (int slot = 0; slot < map.capacity(); slot++) {
+            if (map.isFull(slot)) total += map.groupsProbed(slot);
+        }
+        return (double) total / map.size();
+    }
+
+    private static Object populated(String dsName, int[] keys) {
+        Object structure = create(dsName);
+        putAll(structure, keys);
+        return structure;
+    }
+
+    static int[] distinctRandomInts(int count, Random random) {
+        Set<Integer> seen = new HashSet<>(count * 2);
+        int[] out = new int[count];
+        int n = 0;
+        while (n < count) {
+            int k = random.nextInt();
+            if (seen.add(k)) out[n++] = k;
+        }
+        return out;
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+    // One loop per concrete type, so each call site stays monomorphic
+
+    @SuppressWarnings("unchecked")
+    private static long putAll(Object structure, int[] keys) {
+        long start = System.nanoTime();
+        if (structure instanceof ProbingIntIntMap) {
+            ProbingIntIntMap m = (ProbingIntIntMap) structure;
+            for (int k : keys) m.put(k, k);
+        } else if (structure instanceof SwissIntIntMap) {
+            SwissIntIntMap m = (SwissIntIntMap) structure;
+            for (int k : keys) m.put(k, k);
+        } else if (structure instanceof IntIntHashMap) {
+            IntIntHashMap m = (IntIntHashMap) structure;
+            for (int k : keys) m.put(k, k);
+        } else {
+            Map<Integer, Integer> m = (Map<Integer, Integer>) structure;
+            for (int k : keys) m.put(k, k);
+        }
+        return System.nanoTime() - start;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long getAll(Object structure, int[] probes) {
+        long sum = 0;
+        long start = System.nanoTime();
+        if (structure instanceof ProbingIntIntMap) {
+            ProbingIntIntMap m = (ProbingIntIntMap) structure;
+            for (int k : probes) sum += m.get(k);
+        } else if (structure instanceof SwissIntIntMap) {
+            SwissIntIntMap m = (SwissIntIntMap) structure;
+            for (int k : probes) sum += m.get(k);
+        } else if (structure instanceof IntIntHashMap) {
+            IntIntHashMap m = (IntIntHashMap) structure;
+            for (int k : probes) sum += m.get(k);
+        } else {
+            Map<Integer, Integer> m = (Map<Integer, Integer>) structure;
+            for (int k : probes) {
+                Integer v = m.get(k);
+                if (v != null) sum += v;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += sum;
+        return nanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long removeAll(Object structure, int[] keys) {
+        long sum = 0;
+        long start = System.nanoTime();
+        if (structure instanceof ProbingIntIntMap) {
+            ProbingIntIntMap m = (ProbingIntIntMap) structure;
+            for (int k : keys) sum += m.remove(k);
+        } else if (structure instanceof SwissIntIntMap) {
+            SwissIntIntMap m = (SwissIntIntMap) structure;
+            for (int k : keys) sum += m.remove(k);
+        } else if (structure instanceof IntIntHashMap) {
+            IntIntHashMap m = (IntIntHashMap) structure;
+            for (int k : keys) sum += m.remove(k);
+        } else {
+            Map<Integer, Integer> m = (Map<Integer, Integer>) structure;
+            for (int k : keys) {
+                Integer v = m.remove(k);
+                if (v != null) sum += v;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += sum;
+        return nanos;
+    }
+
+    // Swaps every key for a fresh one and back, so the size never changes and each round
+    // leaves the same keys behind; a probing map keeps collecting tombstones throughout
+    @SuppressWarnings("unchecked")
+    private static long churn(Object structure, int[] keys, int[] fresh) {
+        long start = System.nanoTime();
+        if (structure instanceof ProbingIntIntMap) {
+            ProbingIntIntMap m = (ProbingIntIntMap) structure;
+            for (int i = 0; i < keys.length; i++) { m.remove(keys[i]); m.put(fresh[i], i); }
+            for (int i = 0; i < keys.length; i++) { m.remove(fresh[i]); m.put(keys[i], i); }
+        } else if (structure instanceof SwissIntIntMap) {
+            SwissIntIntMap m = (SwissIntIntMap) structure;
+            for (int i = 0; i < keys.length; i++) { m.remove(keys[i]); m.put(fresh[i], i); }
+            for (int i = 0; i < keys.length; i++) { m.remove(fresh[i]); m.put(keys[i], i); }
+        } else if (structure instanceof IntIntHashMap) {
+            IntIntHashMap m = (IntIntHashMap) structure;
+            for (int i = 0; i < keys.length; i++) { m.remove(keys[i]); m.put(fresh[i], i); }
+            for (int i = 0; i < keys.length; i++) { m.remove(fresh[i]); m.put(keys[i], i); }
+        } else {
+            Map<Integer, Integer> m = (Map<Integer, Integer>) structure;
+            for (int i = 0; i < keys.length; i++) { m.remove(keys[i]); m.put(fresh[i], i); }
+            for (int i = 0; i < keys.length; i++) { m.remove(fresh[i]); m.put(keys[i], i); }
+        }
+        // Two removes and two puts per key
+        return (System.nanoTime() - start) / 4;
+    }
+
+    // 19 of every 20 ops are lookups, a quarter of them misses; the 20th removes a key and
+    // puts it back, so the size holds and deletes keep trickling in
+    @SuppressWarnings("unchecked")
+    private long readHeavy(Object structure, int[] keys, int[] misses) {
+        long sum = 0;
+        int n = keys.length;
+        long start = System.nanoTime();
+        if (structure instanceof ProbingIntIntMap) {
+            ProbingIntIntMap m = (ProbingIntIntMap) structure;
+            for (int i = 0; i < n; i++) {
+                if (i % 20 == 19) { m.remove(keys[i]); m.put(keys[i], i); }
+                else sum += m.get((i & 3) == 3 ? misses[i] : keys[i]);
+            }
+        } else if (structure instanceof SwissIntIntMap) {
+            SwissIntIntMap m = (SwissIntIntMap) structure;
+            for (int i = 0; i < n; i++) {
+                if (i % 20 == 19) { m.remove(keys[i]); m.put(keys[i], i); }
+                else sum += m.get((i & 3) == 3 ? misses[i] : keys[i]);
+            }
+        } else if (structure instanceof IntIntHashMap) {
+            IntIntHashMap m = (IntIntHashMap) structure;
+            for (int i = 0; i < n; i++) {
+                if (i % 20 == 19) { m.remove(keys[i]); m.put(keys[i], i); }
+                else sum += m.get((i & 3) == 3 ? misses[i] : keys[i]);
+            }
+        } else {
+            Map<Integer, Integer> m = (Map<Integer, Integer>) structure;
+            for (int i = 0; i < n; i++) {
+                if (i % 20 == 19) { m.remove(keys[i]); m.put(keys[i], i); }
+                else {
+                    Integer v = m.get((i & 3) == 3 ? misses[i] : keys[i]);
+                    if (v != null) sum += v;
+                }
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += sum;
+        return nanos;
+    }
+}
@@ -0,0 +1,174 @@
+package game.model;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// A recorded workload: (op, key, value, thread id) per entry, decoded into flat arrays
+// so replay timing never includes parsing.
+//
+// Two on-disk formats, told apart by the first four bytes:
+//   CSV:    op,key[,value[,thread]] per line; op is PUT/ADD, GET or REMOVE/DEL; '#' starts a comment
+//   Binary: "CVTR", int version (1), then 12-byte big-endian records:
+//           byte op (0 put, 1 get, 2 remove), byte unused, short thread, int key, int value
+public class OperationTrace {
+
+    public static final byte PUT = 0;
+    public static final byte GET = 1;
+    public static final byte REMOVE = 2;
+
+    static final byte[] BINARY_MAGIC = "CVTR".getBytes(StandardCharsets.US_ASCII);
+    static final int BINARY_HEADER = 8;
+    static final int BINARY_RECORD = 12;
+
+    // Files are mapped a window at a time, so traces larger than the address budget still stream
+    private static final long WINDOW = 64L * 1024 * 1024;
+
+    private byte[] ops = new byte[1024];
+    private int[] keys = new int[1024];
+    private int[] values = new int[1024];
+    private short[] threads = new short[1024];
+    private int size;
+    private int threadCount;
+
+    private OperationTrace() {}
+
+    public int size() { return size; }
+    public byte op(int i) { return ops[i]; }
+    public int key(int i) { return keys[i]; }
+    public int value(int i) { return values[i]; }
+    public short thread(int i) { return threads[i]; }
+    public int threadCount() { return threadCount; }
+
+    public int count(byte op) {
+        int n = 0;
+        for (int i = 0; i < size; i++) if (ops[i] == op) n++;
+        return n;
+    }
+
+    // Reads at most maxOps entries; the rest of the file is never mapped
+    public static OperationTrace load(Path file, int maxOps) throws IOException {
+        OperationTrace trace = new OperationTrace();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (isBinary(channel)) {
+                trace.readBinary(channel, maxOps);
+            } else {
+                trace.readCsv(channel, maxOps);
+            }
+        }
+        trace.countThreads();
+        return trace;
+    }
+
+    private static boolean isBinary(FileChannel channel) throws IOException {
+        if (channel.size() < BINARY_HEADER) return false;
+        MappedByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, 0, BINARY_MAGIC.length);
+        for (byte b : BINARY_MAGIC) {
+            if (head.get() != b) return false;
+        }
+        return true;
+    }
+
+    private void readBinary(FileChannel channel, int maxOps) throws IOException {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, BINARY_HEADER);
+        int version = header.getInt(BINARY_MAGIC.length);
+        if (version != 1) throw new IOException("Unsupported trace version " + version);
+
+        long recordWindow = WINDOW / BINARY_RECORD * BINARY_RECORD;
+        long position = BINARY_HEADER;
+        long end = channel.size();
+        while (position + BINARY_RECORD <= end && size < maxOps) {
+            long length = Math.min(recordWindow, (end - position) / BINARY_RECORD * BINARY_RECORD);
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            while (buf.remaining() >= BINARY_RECORD && size < maxOps) {
+                byte op = buf.get();
+                buf.get();
+                short thread = buf.getShort();
+                int key = buf.getInt();
+                int value = buf.getInt();
+                if (op < PUT || op > REMOVE) throw new IOException("Bad op " + op + " in record " + size);
+                append(op, key, value, thread);
+            }
+            position += length;
+        }
+    }
+
+    private void readCsv(FileChannel channel, int maxOps) throws IOException {
+        long position = 0;
+        long end = channel.size();
+        int lineNumber = 0;
+        while (position < end && size < maxOps) {
+            long length = Math.min(WINDOW, end - position);
+            boolean lastWindow = position + length == end;
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+            // Parse whole lines only; a line cut by the window edge is re-read from the next window
+            int lineStart = 0;
+            for (int i = 0; i < length && size < maxOps; i++) {
+                if (buf.get(i) != '\n') continue;
+                lineNumber++;
+                parseLine(buf, lineStart, i, lineNumber);
+                lineStart = i + 1;
+            }
+            if (lastWindow) {
+                if (lineStart < length && size < maxOps) parseLine(buf, lineStart, (int) length, lineNumber + 1);
+                break;
+            }
+            if (lineStart == 0) throw new IOException("Line " + (lineNumber + 1) + " is longer than the mapping window");
+            position += lineStart;
+        }
+    }
+
+    private void parseLine(MappedByteBuffer buf, int from, int to, int lineNumber) throws IOException {
+        String line = StandardCharsets.US_ASCII.decode(buf.slice(from, to - from)).toString().trim();
+        if (line.isEmpty() || line.startsWith("#")) return;
+
+        String[] fields = line.split(",");
+        String opName = fields[0].trim().toUpperCase();
+        byte op;
+        switch (opName) {
+            case "PUT": case "ADD":    op = PUT; break;
+            case "GET":                op = GET; break;
+            case "REMOVE": case "DEL": op = REMOVE; break;
+            default:
+                // Tolerate a header row, reject anything else
+                if (lineNumber == 1) return;
+                throw new IOException("Line " + lineNumber + ": unknown op '" + fields[0] + "'");
+        }
+        try {
+            int key = Integer.parseInt(fields[1].trim());
+            int value = fields.length > 2 && !fields[2].isBlank() ? Integer.parseInt(fields[2].trim()) : key;
+            short thread = fields.length > 3 ? Short.parseShort(fields[3].trim()) : 0;
+            append(op, key, value, thread);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Line " + lineNumber + ": cannot parse '" + line + "'");
+        }
+    }
+
+    private void append(byte op, int key, int value, short thread) {
+        if (size == ops.length) {
+            int newCapacity = size + (size >> 1);
+            ops = Arrays.copyOf(ops, newCapacity);
+            keys = Arrays.copyOf(keys, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+            threads = Arrays.copyOf(threads, newCapacity);
+        }
+        ops[size] = op;
+        keys[size] = key;
+        values[size] = value;
+        threads[size] = thread;
+        size++;
+    }
+
+    private void countThreads() {
+        boolean[] seen = new boolean[1 << 16];
+        for (int i = 0; i < size; i++) {
+            int t = threads[i] & 0xFFFF;
+            if (!seen[t]) { seen[t] = true; threadCount++; }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package game.model;
+
+import game.collections.ChampIntMap;
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Immutable snapshots, three ways: ChampIntMap, which copies only the root-to-leaf path on
+// every put; a copy-on-write HashMap, copied whole and then modified; and Map.copyOf of
+// such a copy, the JDK's compact immutable map. Every update produces a new version that
+// readers of the old one never see change.
+//
+// Whole-map copies cost O(n) per update, so those cells run fewer updates at large sizes
+// and report ns per update. The version cell keeps eight successive versions alive and
+// reports what each extra version costs on the heap: one path for the trie, one full
+// table for the copies.
+public class PersistentMapBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String CHAMP = "ChampIntMap";
+    static final String COPY_ON_WRITE = "copy-on-write HashMap";
+    static final String COPY_OF = "Map.copyOf";
+    static final String NS_PER_OP = "ns/op";
+    static final String KB_PER_VERSION = "KB/version";
+
+    private static final List<String> STRUCTURES = List.of(CHAMP, COPY_ON_WRITE, COPY_OF);
+    private static final String[] OPERATIONS = {"UPDATE (new version)", "GET (hit)", "GET (miss)",
+            "RETAINED HEAP", "HEAP, +8 VERSIONS"};
+    private static final int VERSIONS = 8;
+
+    private long sink;
+    // Strong root for the version chain under measurement
+    private Object retained;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = STRUCTURES.size() * OPERATIONS.length;
+        int completed = 0;
+
+        Random random = new Random(42);
+        int[] keys = new int[elementCount];
+        for (int i = 0; i < elementCount; i++) keys[i] = 2 * i;
+        shuffle(keys, random);
+        int[] misses = new int[elementCount];
+        for (int i = 0; i < elementCount; i++) misses[i] = keys[i] + 1;
+        // Half the updates replace an existing key, half add a new one
+        int[] updates = new int[4096];
+        for (int i = 0; i < updates.length; i++) {
+            updates[i] = random.nextBoolean() ? keys[random.nextInt(elementCount)] : 2 * elementCount + 2 * i;
+        }
+
+        for (String dsName : STRUCTURES) {
+            for (int op = 0; op < OPERATIONS.length; op++) {
+                if (cancelled.getAsBoolean()) return results;
+                if (!BenchmarkModel.settle()) return results;
+
+                if (op == 3) {
+                    build(dsName, Arrays.copyOf(keys, Math.min(keys.length, 1000)));
+                    results.add(BenchmarkModel.retainedResult(dsName, OPERATIONS[3], keys.length, () -> build(dsName, keys)));
+                } else if (op == 4) {
+                    results.add(versionsResult(dsName, keys, updates));
+                } else {
+                    Object base = build(dsName, keys);
+                    int count = op == 0 ? updateCount(dsName, elementCount) : elementCount;
+                    int[] probes = op == 1 ? keys : misses;
+                    long best = op == 0
+                            ? BenchmarkModel.bestOn(base, s -> updateAll(s, updates, count))
+                            : BenchmarkModel.bestOn(base, s -> getAll(s, probes));
+                    Map<String, Double> metrics = new LinkedHashMap<>();
+                    metrics.put(NS_PER_OP, (double) best / Math.max(1, count));
+                    results.add(new BenchmarkResult(dsName, OPERATIONS[op], count, best, metrics, NS_PER_OP, true));
+                }
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return results;
+    }
+
+    // Enough copies to time reliably without a million-entry copy running for minutes
+    private static int updateCount(String dsName, int elementCount) {
+        if (dsName.equals(CHAMP)) return 4096;
+        return Math.max(16, Math.min(4096, 4_000_000 / Math.max(1, elementCount)));
+    }
+
+    // One base version, then VERSIONS single-put successors all kept reachable
+    private BenchmarkResult versionsResult(String dsName, int[] keys, int[] updates) {
+        List<Object> versions = new ArrayList<>();
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        String note = null;
+        long nanos = 0;
+        try {
+            versions.add(build(dsName, keys));
+            retained = versions;
+            long before = FootprintBenchmark.usedHeapAfterGc();
+            long start = System.nanoTime();
+            for (int i = 0; i < VERSIONS; i++) {
+                versions.add(update(versions.get(versions.size() - 1), updates[i], i));
+            }
+            nanos = System.nanoTime() - start;
+            long after = FootprintBenchmark.usedHeapAfterGc();
+            long bytes = Math.max(0, after - before);
+            metrics.put(KB_PER_VERSION, bytes / 1024.0 / VERSIONS);
+            metrics.put("B/elem/version", (double) bytes / VERSIONS / keys.length);
+        } catch (OutOfMemoryError e) {
+            note = "OOM";
+        } finally {
+            retained = null;
+            versions.clear();
+        }
+        return new BenchmarkResult(dsName, OPERATIONS[4], keys.length, nanos, metrics, KB_PER_VERSION, true, note);
+    }
+
+    private static void shuffle(int[] a, Random random) {
+        for (int i = a.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    private static Object build(String dsName, int[] keys) {
+        if (dsName.equals(CHAMP)) {
+            ChampIntMap map = ChampIntMap.empty(-1);
+            for (int k : keys) map = map.put(k, k);
+            return map;
+        }
+        HashMap<Integer, Integer> map = new HashMap<>();
+        for (int k : keys) map.put(k, k);
+        return dsName.equals(COPY_OF) ? Map.copyOf(map) : map;
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+
+    @SuppressWarnings("unchecked")
+    private static Object update(Object version, int key, int value) {
+        if (version instanceof ChampIntMap) return ((ChampIntMap) version).put(key, value);
+        HashMap<Integer, Integer> copy = new HashMap<>((Map<Integer, Integer>) version);
+        copy.put(key, value);
+        return version instanceof HashMap ? copy : Map.copyOf(copy);
+    }
+
+    // One loop per concrete type, so each call site stays monomorphic
+    @SuppressWarnings("unchecked")
+    private long updateAll(Object base, int[] updates, int count) {
+        long start = System.nanoTime();
+        Object last;
+        if (base instanceof ChampIntMap) {
+            ChampIntMap map = (ChampIntMap) base;
+            for (int i = 0; i < count; i++) map = map.put(updates[i % updates.length], i);
+            last = map;
+        } else if (base instanceof HashMap) {
+            HashMap<Integer, Integer> map = (HashMap<Integer, Integer>) base;
+            for (int i = 0; i < count; i++) {
+                HashMap<Integer, Integer> copy = new HashMap<>(map);
+                copy.put(updates[i % updates.length], i);
+                map = copy;
+            }
+            last = map;
+        } else {
+            Map<Integer, Integer> map = (Map<Integer, Integer>) base;
+            for (int i = 0; i < count; i++) {
+                HashMap<Integer, Integer> copy = new HashMap<>(map);
+                copy.put(updates[i % updates.length], i);
+                map = Map.copyOf(copy);
+            }
+            last = map;
+        }
+        long nanos = System.nanoTime() - start;
+        sink += System.identityHashCode(last);
+        return nanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long getAll(Object structure, int[] probes) {
+        long sum = 0;
+        long start = System.nanoTime();
+        if (structure instanceof ChampIntMap) {
+            ChampIntMap map = (ChampIntMap) structure;
+            for (int p : probes) sum += map.get(p);
+        } else if (structure instanceof HashMap) {
+            HashMap<Integer, Integer> map = (HashMap<Integer, Integer>) structure;
+            for (int p : probes) {
+                Integer v = map.get(p);
+                if (v != null) sum += v;
+            }
+        } else {
+            Map<Integer, Integer> map = (Map<Integer, Integer>) structure;
+            for (int p : probes) {
+                Integer v = map.get(p);
+                if (v != null) sum += v;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += sum;
+        return nanos;
+    }
+}
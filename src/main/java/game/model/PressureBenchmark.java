@@ -0,0 +1,137 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Each cell runs in a forked JVM with a small fixed heap that is pre-filled with live
+// ballast, so the structure is built and churned while the collector is already busy
+public class PressureBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String OPS_PER_MS = "ops/ms";
+    static final String GC_PERCENT = "GC %";
+
+    // A cell counts as thrashing once the collector eats half of the wall time
+    private static final double THRASH_GC_PERCENT = 50;
+    private static final long CELL_TIMEOUT_SECONDS = 60;
+
+    private final int heapMb;
+    private final int maxBallastPercent;
+
+    public PressureBenchmark(int heapMb, int maxBallastPercent) {
+        this.heapMb = heapMb;
+        this.maxBallastPercent = maxBallastPercent;
+    }
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        List<String> dsNames = new ArrayList<>(BenchmarkModel.DS_COLORS.keySet());
+        List<Integer> levels = ballastLevels();
+        int totalTasks = dsNames.size() * levels.size();
+        int completed = 0;
+
+        List<String> jvmOptions = List.of("-Xms" + heapMb + "m", "-Xmx" + heapMb + "m");
+        try {
+            for (String dsName : dsNames) {
+                if (cancelled.getAsBoolean()) break;
+
+                double baseline = 0;
+                for (int level : levels) {
+                    if (cancelled.getAsBoolean()) break;
+
+                    Map<String, String> params = new LinkedHashMap<>();
+                    params.put("mode", "pressure");
+                    params.put("ds", dsName);
+                    params.put("count", Integer.toString(elementCount));
+                    params.put("ballast", Integer.toString(level));
+                    Map<String, String> cell = ForkedCell.fork(jvmOptions, params, CELL_TIMEOUT_SECONDS);
+
+                    BenchmarkResult r = toResult(dsName, level, elementCount, cell, baseline);
+                    if (level == 0) baseline = r.getValue();
+                    results.add(r);
+
+                    completed++;
+                    progress.accept((double) completed / totalTasks);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return withThrashRanking(results);
+    }
+
+    // 0%, then steps of 20 up to the configured ceiling
+    private List<Integer> ballastLevels() {
+        List<Integer> levels = new ArrayList<>();
+        for (int level = 0; level < maxBallastPercent; level += 20) levels.add(level);
+        levels.add(maxBallastPercent);
+        return levels;
+    }
+
+    static String operationName(int level) {
+        return String.format("OCCUPANCY +%d%% BALLAST", level);
+    }
+
+    private BenchmarkResult toResult(String dsName, int level, int count, Map<String, String> cell, double baseline) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        String note = null;
+        double opsPerMs = 0;
+        long nanos = 0;
+
+        if (cell.containsKey("oom")) {
+            note = "OOM";
+        } else if (cell.containsKey("timeout")) {
+            note = "TIMEOUT";
+        } else if (!cell.containsKey("opsPerMs")) {
+            note = "CRASHED";
+        } else {
+            opsPerMs = Double.parseDouble(cell.get("opsPerMs"));
+            nanos = (long) (Double.parseDouble(cell.get("wallMs")) * 1_000_000);
+            double gcPercent = Double.parseDouble(cell.get("gcPercent"));
+            metrics.put(GC_PERCENT, gcPercent);
+            if (level > 0 && baseline > 0 && opsPerMs > 0) {
+                metrics.put("x slower vs 0%", baseline / opsPerMs);
+            }
+            if (gcPercent >= THRASH_GC_PERCENT) note = "THRASH";
+        }
+        metrics.put(OPS_PER_MS, opsPerMs);
+        return new BenchmarkResult(dsName, operationName(level), count, nanos, metrics, OPS_PER_MS, false, note);
+    }
+
+    // Orders structures by the lowest occupancy at which they thrash (ties: higher GC % first)
+    // and tags that first failing cell with its rank
+    private static List<BenchmarkResult> withThrashRanking(List<BenchmarkResult> results) {
+        Map<String, BenchmarkResult> firstThrash = new LinkedHashMap<>();
+        Map<String, Integer> firstLevel = new HashMap<>();
+        for (BenchmarkResult r : results) {
+            if (r.getNote() == null || firstThrash.containsKey(r.getDataStructureName())) continue;
+            firstThrash.put(r.getDataStructureName(), r);
+            firstLevel.put(r.getDataStructureName(), levelOf(r));
+        }
+
+        List<String> order = new ArrayList<>(firstThrash.keySet());
+        order.sort(Comparator.<String>comparingInt(firstLevel::get)
+                .thenComparing(ds -> -firstThrash.get(ds).getMetrics().getOrDefault(GC_PERCENT, 100.0)));
+
+        Map<BenchmarkResult, String> ranked = new IdentityHashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            BenchmarkResult first = firstThrash.get(order.get(i));
+            ranked.put(first, first.getNote() + " #" + (i + 1));
+        }
+
+        List<BenchmarkResult> annotated = new ArrayList<>(results.size());
+        for (BenchmarkResult r : results) {
+            String rankedNote = ranked.get(r);
+            annotated.add(rankedNote == null ? r : r.withNote(rankedNote));
+        }
+        return annotated;
+    }
+
+    private static int levelOf(BenchmarkResult r) {
+        String op = r.getOperationName();
+        return Integer.parseInt(op.substring(op.indexOf('+') + 1, op.indexOf('%')));
+    }
+}
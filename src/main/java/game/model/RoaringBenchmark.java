@@ -0,0 +1,153 @@
+package game.model;
+
+import game.collections.RoaringIntSet;
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// HashSet<Integer>, TreeSet<Integer> and RoaringIntSet on three value shapes, one per
+// container type: ints scattered over the whole range (array containers of one or two
+// values), uniform 1-in-8 density (bitmaps) and long consecutive runs (run containers).
+// Each cell unions or intersects two sets of the same shape, or measures retained heap.
+public class RoaringBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String ROARING = "RoaringIntSet";
+    static final String NS_PER_ELEM = "ns/elem";
+
+    private static final List<String> STRUCTURES = List.of("HashSet", "TreeSet", ROARING);
+    private static final String[] SHAPES = {"SPARSE", "1/8 DENSE", "RUNS"};
+    private static final String[] OPERATIONS = {"OR", "AND", "RETAINED"};
+
+    private long sink;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = STRUCTURES.size() * SHAPES.length * OPERATIONS.length;
+        int completed = 0;
+
+        for (int shape = 0; shape < SHAPES.length; shape++) {
+            int[] a = values(shape, elementCount, new Random(42));
+            int[] b = values(shape, elementCount, new Random(43));
+            for (String dsName : STRUCTURES) {
+                Object setA = build(dsName, a);
+                Object setB = build(dsName, b);
+                for (String op : OPERATIONS) {
+                    if (cancelled.getAsBoolean()) return results;
+                    if (!BenchmarkModel.settle()) return results;
+
+                    String name = op + ", " + SHAPES[shape];
+                    if (op.equals("RETAINED")) {
+                        results.add(BenchmarkModel.retainedResult(dsName, name, a.length, () -> build(dsName, a)));
+                    } else {
+                        boolean union = op.equals("OR");
+                        long nanos = BenchmarkModel.bestOn(setA, s -> union ? or(s, setB) : and(s, setB));
+                        Map<String, Double> metrics = new LinkedHashMap<>();
+                        metrics.put(NS_PER_ELEM, (double) nanos / (a.length + b.length));
+                        metrics.put("M elem/s", (a.length + b.length) * 1000.0 / Math.max(1, nanos));
+                        results.add(new BenchmarkResult(dsName, name, a.length + b.length, nanos, metrics,
+                                NS_PER_ELEM, true));
+                    }
+
+                    completed++;
+                    progress.accept((double) completed / totalTasks);
+                }
+            }
+        }
+        return results;
+    }
+
+    // ── Data ─────────────────────────────────────────────────────
+
+    static int[] values(int shape, int count, Random random) {
+        int[] out = new int[count];
+        switch (shape) {
+            case 0:
+                for (int i = 0; i < count; i++) out[i] = random.nextInt();
+                break;
+            case 1:
+                for (int i = 0; i < count; i++) out[i] = random.nextInt(count * 8);
+                break;
+            default: {
+                // Runs of 500-1500 consecutive values with gaps of the same order
+                int v = 0;
+                int left = 0;
+                for (int i = 0; i < count; i++) {
+                    if (left == 0) {
+                        v += 500 + random.nextInt(1000);
+                        left = 500 + random.nextInt(1000);
+                    }
+                    out[i] = v++;
+                    left--;
+                }
+            }
+        }
+        return out;
+    }
+
+    private static Object build(String dsName, int[] values) {
+        switch (dsName) {
+            case ROARING: {
+                RoaringIntSet set = new RoaringIntSet();
+                for (int v : values) set.add(v);
+                set.runOptimize();
+                return set;
+            }
+            case "TreeSet": {
+                TreeSet<Integer> set = new TreeSet<>();
+                for (int v : values) set.add(v);
+                return set;
+            }
+            default: {
+                HashSet<Integer> set = new HashSet<>();
+                for (int v : values) set.add(v);
+                return set;
+            }
+        }
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+    // Both produce a new set and leave the inputs alone, as RoaringIntSet.or/and do
+
+    @SuppressWarnings("unchecked")
+    private long or(Object a, Object b) {
+        long start = System.nanoTime();
+        int size;
+        if (a instanceof RoaringIntSet) {
+            size = ((RoaringIntSet) a).or((RoaringIntSet) b).size();
+        } else if (a instanceof TreeSet) {
+            TreeSet<Integer> union = new TreeSet<>((TreeSet<Integer>) a);
+            union.addAll((TreeSet<Integer>) b);
+            size = union.size();
+        } else {
+            HashSet<Integer> union = new HashSet<>((HashSet<Integer>) a);
+            union.addAll((HashSet<Integer>) b);
+            size = union.size();
+        }
+        long nanos = System.nanoTime() - start;
+        sink += size;
+        return nanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long and(Object a, Object b) {
+        long start = System.nanoTime();
+        int size;
+        if (a instanceof RoaringIntSet) {
+            size = ((RoaringIntSet) a).and((RoaringIntSet) b).size();
+        } else if (a instanceof TreeSet) {
+            TreeSet<Integer> intersection = new TreeSet<>((TreeSet<Integer>) a);
+            intersection.retainAll((TreeSet<Integer>) b);
+            size = intersection.size();
+        } else {
+            HashSet<Integer> intersection = new HashSet<>((HashSet<Integer>) a);
+            intersection.retainAll((HashSet<Integer>) b);
+            size = intersection.size();
+        }
+        long nanos = System.nanoTime() - start;
+        sink += size;
+        return nanos;
+    }
+}
@@ -0,0 +1,190 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+public class SerializationBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String JAVA_WRITE = "JAVA SERIALIZE";
+    static final String JAVA_READ = "JAVA DESERIALIZE";
+    static final String BINARY_WRITE = "BINARY ENCODE";
+    static final String BINARY_READ = "BINARY DECODE";
+
+    private final ReusableByteArrayOutputStream javaBuffer = new ReusableByteArrayOutputStream();
+    private ByteBuffer binaryBuffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        List<String> dsNames = BenchmarkModel.boxedStructureNames();
+        int completed = 0;
+
+        for (String dsName : dsNames) {
+            if (cancelled.getAsBoolean()) break;
+
+            // Warmup 2x at 1/10 size
+            int warmupSize = Math.max(100, elementCount / 10);
+            for (int w = 0; w < 2; w++) {
+                measure(dsName, warmupSize, new ArrayList<>());
+            }
+
+            if (!BenchmarkModel.settle()) break;
+            measure(dsName, elementCount, results);
+
+            completed++;
+            progress.accept((double) completed / dsNames.size());
+        }
+        return results;
+    }
+
+    private void measure(String dsName, int count, List<BenchmarkResult> out) {
+        Object source = populate(dsName, count);
+
+        // ── ObjectOutputStream / ObjectInputStream ───────────────
+        // Plugged-in structures need not be Serializable; they only get the binary rows
+        if (source instanceof Serializable) measureJava(dsName, source, count, out);
+
+        // ── Compact varint encoder into a reused direct ByteBuffer ─
+        ensureBinaryCapacity(count);
+        binaryBuffer.clear();
+        long alloc = BenchmarkModel.allocatedBytes();
+        long start = System.nanoTime();
+        encode(source, binaryBuffer);
+        long nanos = System.nanoTime() - start;
+        long allocated = BenchmarkModel.allocatedSince(alloc);
+        binaryBuffer.flip();
+        int binaryBytes = binaryBuffer.remaining();
+        out.add(result(dsName, BINARY_WRITE, count, nanos, binaryBytes, allocated));
+
+        alloc = BenchmarkModel.allocatedBytes();
+        start = System.nanoTime();
+        decode(dsName, binaryBuffer);
+        nanos = System.nanoTime() - start;
+        out.add(result(dsName, BINARY_READ, count, nanos, binaryBytes, BenchmarkModel.allocatedSince(alloc)));
+    }
+
+    private void measureJava(String dsName, Object source, int count, List<BenchmarkResult> out) {
+        javaBuffer.reset();
+        long alloc = BenchmarkModel.allocatedBytes();
+        long start = System.nanoTime();
+        try (ObjectOutputStream oos = new ObjectOutputStream(javaBuffer)) {
+            oos.writeObject(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long nanos = System.nanoTime() - start;
+        long allocated = BenchmarkModel.allocatedSince(alloc);
+        int javaBytes = javaBuffer.size();
+        out.add(result(dsName, JAVA_WRITE, count, nanos, javaBytes, allocated));
+
+        alloc = BenchmarkModel.allocatedBytes();
+        start = System.nanoTime();
+        try (ObjectInputStream ois = new ObjectInputStream(
+                new ByteArrayInputStream(javaBuffer.buffer(), 0, javaBytes))) {
+            ois.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+        nanos = System.nanoTime() - start;
+        out.add(result(dsName, JAVA_READ, count, nanos, javaBytes, BenchmarkModel.allocatedSince(alloc)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object populate(String dsName, int count) {
+        Random random = new Random(42);
+        int[] keys = BenchmarkModel.randomInts(count, random);
+        if (BenchmarkModel.isMap(dsName)) {
+            int[] vals = BenchmarkModel.randomInts(count, random);
+            Map<Integer, Integer> map = (Map<Integer, Integer>) BenchmarkModel.createMap(dsName);
+            for (int i = 0; i < count; i++) map.put(keys[i], vals[i]);
+            return map;
+        }
+        Collection<Integer> coll = BenchmarkModel.createCollection(dsName);
+        for (int k : keys) coll.add(k);
+        return coll;
+    }
+
+    // ── Binary format: varint size, then varint elements (or key/value pairs) ──
+
+    @SuppressWarnings("unchecked")
+    private static void encode(Object source, ByteBuffer buf) {
+        if (source instanceof Map) {
+            Map<Integer, Integer> map = (Map<Integer, Integer>) source;
+            writeVarInt(buf, map.size());
+            for (Map.Entry<Integer, Integer> e : map.entrySet()) {
+                writeVarInt(buf, e.getKey());
+                writeVarInt(buf, e.getValue());
+            }
+        } else {
+            Collection<Integer> coll = (Collection<Integer>) source;
+            writeVarInt(buf, coll.size());
+            for (int v : coll) writeVarInt(buf, v);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object decode(String dsName, ByteBuffer buf) {
+        int size = readVarInt(buf);
+        if (BenchmarkModel.isMap(dsName)) {
+            Map<Integer, Integer> map = (Map<Integer, Integer>) BenchmarkModel.createMap(dsName);
+            for (int i = 0; i < size; i++) map.put(readVarInt(buf), readVarInt(buf));
+            return map;
+        }
+        Collection<Integer> coll = BenchmarkModel.createCollection(dsName);
+        for (int i = 0; i < size; i++) coll.add(readVarInt(buf));
+        return coll;
+    }
+
+    // Zig-zag so small negatives stay short; 1-5 bytes per int
+    static void writeVarInt(ByteBuffer buf, int value) {
+        int v = (value << 1) ^ (value >> 31);
+        while ((v & ~0x7F) != 0) {
+            buf.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buf.put((byte) v);
+    }
+
+    static int readVarInt(ByteBuffer buf) {
+        int v = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf.get();
+            v |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private void ensureBinaryCapacity(int count) {
+        // Worst case: 5-byte size header plus two 5-byte varints per map entry
+        long needed = 5 + (long) count * 10;
+        if (binaryBuffer.capacity() < needed) {
+            binaryBuffer = ByteBuffer.allocateDirect((int) Math.min(Integer.MAX_VALUE, needed));
+        }
+    }
+
+    private static BenchmarkResult result(String dsName, String op, int count, long nanos,
+                                          long bytes, long allocated) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        double seconds = Math.max(1, nanos) / 1_000_000_000.0;
+        metrics.put("MB/s", bytes / seconds / (1024.0 * 1024));
+        metrics.put("B/elem", (double) bytes / Math.max(1, count));
+        if (allocated >= 0) metrics.put("alloc B/elem", (double) allocated / Math.max(1, count));
+        return new BenchmarkResult(dsName, op, count, nanos, metrics);
+    }
+
+    // Exposes the backing array so deserialization reads it without a toByteArray() copy
+    private static class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+        ReusableByteArrayOutputStream() { super(64 * 1024); }
+        byte[] buffer() { return buf; }
+    }
+}
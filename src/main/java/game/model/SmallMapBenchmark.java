@@ -0,0 +1,191 @@
+package game.model;
+
+import game.collections.ImmutableProbeTable;
+import game.collections.SortedArrayIntMap;
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Many tiny maps instead of one big one: for each size from 0 to 64 the cell builds a pool
+// of maps of exactly that size, about elementCount entries in all (never fewer than 1,024
+// maps), and spreads its operations across the pool, so most lookups start with a cache
+// miss on a map object the way a real per-object attribute map does.
+//
+// GET probes a random key of a random map (a miss when the maps are empty) and also
+// reports what one map of that size retains on the heap, boxes included. PUT builds every
+// map of the pool from empty, one put at a time, growth and shifting included. Map.of
+// maps cannot be filled that way, so they only appear in the GET rows, built once with
+// Map.ofEntries.
+public class SmallMapBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String SORTED_ARRAY = "SortedArrayIntMap";
+    static final String HASH_MAP = "HashMap";
+    static final String TREE_MAP = "TreeMap";
+    static final String MAP_OF = "Map.of";
+    static final String NS_PER_OP = "ns/op";
+    static final String BYTES_PER_MAP = "B/map";
+
+    static final int[] SIZES = {0, 1, 2, 4, 8, 16, 32, 64};
+    private static final List<String> STRUCTURES = List.of(SORTED_ARRAY, HASH_MAP, TREE_MAP, MAP_OF);
+    private static final int MIN_MAPS = 1024;
+    private static final int MAX_MAPS = 1 << 18;
+    private static final int MIN_PROBES = 200_000;
+    private static final int ROUNDS = 3;
+
+    private long sink;
+    // Strong root for the pool while its heap is measured
+    private Object[] retained;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = STRUCTURES.size() * SIZES.length * 2;
+        int completed = 0;
+
+        for (String dsName : STRUCTURES) {
+            for (int size : SIZES) {
+                for (int op = 0; op < 2; op++) {
+                    if (cancelled.getAsBoolean()) return results;
+                    boolean put = op == 1;
+                    if (put && (size == 0 || dsName.equals(MAP_OF))) {
+                        completed++;
+                        continue;
+                    }
+                    if (!BenchmarkModel.settle()) return results;
+
+                    int maps = Math.max(MIN_MAPS, Math.min(MAX_MAPS, elementCount / Math.max(1, size)));
+                    Random random = new Random(42 + size);
+                    int[] keys = OpenAddressingBenchmark.distinctRandomInts(maps * size, random);
+                    results.add(put ? putResult(dsName, size, maps, keys) : getResult(dsName, size, maps, keys, random));
+
+                    completed++;
+                    progress.accept((double) completed / totalTasks);
+                }
+            }
+        }
+        return results;
+    }
+
+    static String getOperation(int size) {
+        return "GET, n=" + size + (size == 0 ? " (miss)" : "");
+    }
+
+    static String putOperation(int size) {
+        return "PUT, n=" + size;
+    }
+
+    private BenchmarkResult getResult(String dsName, int size, int maps, int[] keys, Random random) {
+        Object[] pool = new Object[maps];
+        retained = pool;
+        long before = FootprintBenchmark.usedHeapAfterGc();
+        fill(dsName, pool, size, keys);
+        long after = FootprintBenchmark.usedHeapAfterGc();
+        retained = null;
+
+        int probes = Math.max(MIN_PROBES, maps);
+        int[] probeMaps = new int[probes];
+        int[] probeKeys = new int[probes];
+        for (int i = 0; i < probes; i++) {
+            int m = random.nextInt(maps);
+            probeMaps[i] = m;
+            probeKeys[i] = size == 0 ? random.nextInt() : keys[m * size + random.nextInt(size)];
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS + 2; round++) {
+            long nanos = getAll(pool, probeMaps, probeKeys);
+            if (round >= 2) best = Math.min(best, nanos);
+        }
+
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put(NS_PER_OP, (double) best / probes);
+        double bytesPerMap = (double) Math.max(0, after - before) / maps;
+        metrics.put(BYTES_PER_MAP, bytesPerMap);
+        if (size > 0) metrics.put("B/entry", bytesPerMap / size);
+        return new BenchmarkResult(dsName, getOperation(size), probes, best, metrics, NS_PER_OP, true);
+    }
+
+    private BenchmarkResult putResult(String dsName, int size, int maps, int[] keys) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS + 2; round++) {
+            Object[] pool = new Object[maps];
+            long start = System.nanoTime();
+            fill(dsName, pool, size, keys);
+            long nanos = System.nanoTime() - start;
+            sink += System.identityHashCode(pool[maps - 1]);
+            if (round >= 2) best = Math.min(best, nanos);
+        }
+        int count = maps * size;
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put(NS_PER_OP, (double) best / count);
+        metrics.put("ns/map", (double) best / maps);
+        return new BenchmarkResult(dsName, putOperation(size), count, best, metrics, NS_PER_OP, true);
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+    // One loop per concrete type, so each call site stays monomorphic. Values are distinct
+    // from keys so the boxed maps pay for two boxes per entry, as they would in use.
+
+    private static void fill(String dsName, Object[] pool, int size, int[] keys) {
+        switch (dsName) {
+            case SORTED_ARRAY:
+                for (int m = 0; m < pool.length; m++) {
+                    SortedArrayIntMap map = new SortedArrayIntMap();
+                    for (int j = m * size; j < (m + 1) * size; j++) map.put(keys[j], keys[j] + 1);
+                    pool[m] = map;
+                }
+                break;
+            case HASH_MAP:
+                for (int m = 0; m < pool.length; m++) {
+                    HashMap<Integer, Integer> map = new HashMap<>();
+                    for (int j = m * size; j < (m + 1) * size; j++) map.put(keys[j], keys[j] + 1);
+                    pool[m] = map;
+                }
+                break;
+            case TREE_MAP:
+                for (int m = 0; m < pool.length; m++) {
+                    TreeMap<Integer, Integer> map = new TreeMap<>();
+                    for (int j = m * size; j < (m + 1) * size; j++) map.put(keys[j], keys[j] + 1);
+                    pool[m] = map;
+                }
+                break;
+            default:
+                for (int m = 0; m < pool.length; m++) {
+                    List<Map.Entry<Integer, Integer>> entries = new ArrayList<>(size);
+                    for (int j = m * size; j < (m + 1) * size; j++) entries.add(Map.entry(keys[j], keys[j] + 1));
+                    pool[m] = ImmutableProbeTable.jdkMapOf(entries);
+                }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private long getAll(Object[] pool, int[] probeMaps, int[] probeKeys) {
+        long sum = 0;
+        long start = System.nanoTime();
+        if (pool[0] instanceof SortedArrayIntMap) {
+            for (int i = 0; i < probeMaps.length; i++) {
+                sum += ((SortedArrayIntMap) pool[probeMaps[i]]).get(probeKeys[i]);
+            }
+        } else if (pool[0] instanceof HashMap) {
+            for (int i = 0; i < probeMaps.length; i++) {
+                Integer v = ((HashMap<Integer, Integer>) pool[probeMaps[i]]).get(probeKeys[i]);
+                if (v != null) sum += v;
+            }
+        } else if (pool[0] instanceof TreeMap) {
+            for (int i = 0; i < probeMaps.length; i++) {
+                Integer v = ((TreeMap<Integer, Integer>) pool[probeMaps[i]]).get(probeKeys[i]);
+                if (v != null) sum += v;
+            }
+        } else {
+            // Map.of has one class per size band (empty, Map1, MapN), as callers see it
+            for (int i = 0; i < probeMaps.length; i++) {
+                Integer v = ((Map<Integer, Integer>) pool[probeMaps[i]]).get(probeKeys[i]);
+                if (v != null) sum += v;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += sum;
+        return nanos;
+    }
+}
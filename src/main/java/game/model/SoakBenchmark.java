@@ -0,0 +1,118 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Long steady-size churn per structure, one forked JVM each so heap samples are not
+// polluted by the UI or by earlier structures. The logical size never changes, so any
+// rise in heap after GC is capacity the structure keeps or leaks.
+public class SoakBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String THROUGHPUT = "SOAK THROUGHPUT";
+    static final String HEAP = "SOAK HEAP AFTER GC";
+
+    // Retained memory this much above the freshly built size means peak capacity was kept
+    private static final double RETAINED_PEAK_RATIO = 1.1;
+    // Growth between the first and last third of the run, with every third above the one
+    // before, that we treat as unbounded rather than noise
+    private static final double GROWTH_PERCENT = 10;
+
+    private final int seconds;
+
+    public SoakBenchmark(int seconds) {
+        this.seconds = seconds;
+    }
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        List<String> dsNames = new ArrayList<>(BenchmarkModel.DS_COLORS.keySet());
+        int completed = 0;
+
+        try {
+            for (String dsName : dsNames) {
+                if (cancelled.getAsBoolean()) break;
+
+                Map<String, String> params = new LinkedHashMap<>();
+                params.put("mode", "soak");
+                params.put("ds", dsName);
+                params.put("count", Integer.toString(elementCount));
+                params.put("seconds", Integer.toString(seconds));
+                Map<String, String> cell = ForkedCell.fork(List.of("-Xmx1g"), params, seconds + 120L);
+
+                if (cell.containsKey("heapBytes")) {
+                    addResults(dsName, elementCount, cell, results);
+                } else {
+                    String note = cell.containsKey("oom") ? "OOM" : cell.containsKey("timeout") ? "TIMEOUT" : "CRASHED";
+                    results.add(new BenchmarkResult(dsName, THROUGHPUT, elementCount, 0,
+                            Map.of("ops/ms", 0.0), "ops/ms", false, note));
+                }
+
+                completed++;
+                progress.accept((double) completed / dsNames.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return results;
+    }
+
+    private void addResults(String dsName, int count, Map<String, String> cell, List<BenchmarkResult> results) {
+        double[] opsPerMs = parseSeries(cell.get("opsPerMs"));
+        double[] heapPerElem = parseSeries(cell.get("heapBytes"));
+        for (int i = 0; i < heapPerElem.length; i++) heapPerElem[i] /= Math.max(1, count);
+        double freshPerElem = Double.parseDouble(cell.get("freshBytes")) / Math.max(1, count);
+        long nanos = seconds * 1_000_000_000L;
+
+        Map<String, Double> throughput = new LinkedHashMap<>();
+        throughput.put("drift %", driftPercent(opsPerMs));
+        throughput.put("ops/ms", mean(opsPerMs, 0, opsPerMs.length));
+        results.add(new BenchmarkResult(dsName, THROUGHPUT, count, nanos, throughput, "ops/ms", false)
+                .withSeries(opsPerMs));
+
+        double last = heapPerElem[heapPerElem.length - 1];
+        Map<String, Double> heap = new LinkedHashMap<>();
+        heap.put("fresh B/elem", freshPerElem);
+        heap.put("drift %", driftPercent(heapPerElem));
+        heap.put("B/elem", last);
+
+        String note = null;
+        if (keepsGrowing(heapPerElem)) note = "GROWING";
+        else if (freshPerElem > 0 && last > freshPerElem * RETAINED_PEAK_RATIO) note = "KEEPS PEAK";
+        results.add(new BenchmarkResult(dsName, HEAP, count, nanos, heap, "B/elem", true, note)
+                .withSeries(heapPerElem));
+    }
+
+    // Last third against first third, in percent
+    private static double driftPercent(double[] series) {
+        int third = Math.max(1, series.length / 3);
+        double first = mean(series, 0, third);
+        double last = mean(series, series.length - third, series.length);
+        return first == 0 ? 0 : (last - first) / first * 100;
+    }
+
+    private static boolean keepsGrowing(double[] series) {
+        int third = Math.max(1, series.length / 3);
+        double first = mean(series, 0, third);
+        double middle = mean(series, third, series.length - third);
+        double last = mean(series, series.length - third, series.length);
+        return first < middle && middle < last && driftPercent(series) > GROWTH_PERCENT;
+    }
+
+    private static double mean(double[] series, int from, int to) {
+        if (to <= from) return 0;
+        double sum = 0;
+        for (int i = from; i < to; i++) sum += series[i];
+        return sum / (to - from);
+    }
+
+    private static double[] parseSeries(String joined) {
+        String[] parts = joined.split(";");
+        double[] series = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) series[i] = Double.parseDouble(parts[i]);
+        return series;
+    }
+}
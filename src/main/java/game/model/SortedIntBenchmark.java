@@ -0,0 +1,193 @@
+package game.model;
+
+import game.collections.CompressedSortedIntList;
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Sorted int sets three ways: TreeSet<Integer>, a plain sorted int[] searched with
+// Arrays.binarySearch, and CompressedSortedIntList's delta + varint blocks. Values are
+// clustered IDs (short runs with small gaps, the odd larger jump), the shape posting lists
+// and ID sets usually have and the one delta coding is built for.
+public class SortedIntBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String SORTED_ARRAY = "Sorted int[]";
+    static final String COMPRESSED = "CompressedSortedIntList";
+    static final String NS_PER_OP = "ns/op";
+    static final String RETAINED = "RETAINED HEAP";
+
+    private static final List<String> STRUCTURES = List.of("TreeSet", SORTED_ARRAY, COMPRESSED);
+    private static final String[] OPERATIONS = {"BUILD (sorted input)", "CONTAINS (50% hit)",
+            "RANGE SCAN (0.1% wide)", "MERGE (union, +50%)", RETAINED};
+    // Enough short scans per round that the warmup rounds get the range loops compiled
+    private static final int RANGES = 4096;
+
+    private long sink;
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalTasks = STRUCTURES.size() * OPERATIONS.length;
+        int completed = 0;
+
+        Random random = new Random(42);
+        int[] values = clusteredIds(elementCount, random);
+        int[] other = clusteredIds(Math.max(1, elementCount / 2), random);
+        int[] probes = probes(values, random);
+        int[] rangeStarts = new int[RANGES];
+        int width = Math.max(1, (values[values.length - 1] - values[0]) / 1000);
+        for (int i = 0; i < RANGES; i++) rangeStarts[i] = values[random.nextInt(values.length)];
+
+        for (String dsName : STRUCTURES) {
+            Object otherSet = build(dsName, other);
+            for (int op = 0; op < OPERATIONS.length; op++) {
+                if (cancelled.getAsBoolean()) return results;
+                if (!BenchmarkModel.settle()) return results;
+
+                long nanos;
+                int count = elementCount;
+                switch (op) {
+                    case 0:  nanos = BenchmarkModel.best(() -> null, s -> BenchmarkModel.timedBuild(() -> build(dsName, values))); break;
+                    case 1:  nanos = BenchmarkModel.bestOn(build(dsName, values), s -> containsAll(s, probes)); count = probes.length; break;
+                    case 2:  nanos = BenchmarkModel.bestOn(build(dsName, values), s -> scanRanges(s, rangeStarts, width)); count = RANGES; break;
+                    case 3:  nanos = BenchmarkModel.bestOn(build(dsName, values), s -> merge(s, otherSet)); count = elementCount + other.length; break;
+                    default:
+                        build(dsName, Arrays.copyOf(values, Math.min(values.length, 1000)));
+                        results.add(BenchmarkModel.retainedResult(dsName, RETAINED, values.length, () -> build(dsName, values)));
+                        completed++;
+                        progress.accept((double) completed / totalTasks);
+                        continue;
+                }
+                Map<String, Double> metrics = new LinkedHashMap<>();
+                metrics.put(NS_PER_OP, (double) nanos / Math.max(1, count));
+                results.add(new BenchmarkResult(dsName, OPERATIONS[op], count, nanos, metrics, NS_PER_OP, true));
+
+                completed++;
+                progress.accept((double) completed / totalTasks);
+            }
+        }
+        return results;
+    }
+
+    // ── Data ─────────────────────────────────────────────────────
+
+    // Sorted, distinct: gaps of 1-8 with a 2% chance of a jump up to 10000
+    static int[] clusteredIds(int count, Random random) {
+        int[] out = new int[count];
+        int v = random.nextInt(1000);
+        for (int i = 0; i < count; i++) {
+            v += random.nextInt(50) == 0 ? 1 + random.nextInt(10_000) : 1 + random.nextInt(8);
+            out[i] = v;
+        }
+        return out;
+    }
+
+    // Alternating hits and near misses (one past a present value, usually absent), random order
+    private static int[] probes(int[] values, Random random) {
+        int[] out = new int[values.length];
+        for (int i = 0; i < out.length; i++) {
+            int v = values[random.nextInt(values.length)];
+            out[i] = (i & 1) == 0 ? v : v + 1;
+        }
+        return out;
+    }
+
+    private static Object build(String dsName, int[] sorted) {
+        switch (dsName) {
+            case SORTED_ARRAY:
+                return sorted.clone();
+            case COMPRESSED: {
+                CompressedSortedIntList list = new CompressedSortedIntList();
+                for (int v : sorted) list.add(v);
+                return list;
+            }
+            default: {
+                TreeSet<Integer> set = new TreeSet<>();
+                for (int v : sorted) set.add(v);
+                return set;
+            }
+        }
+    }
+
+    // ── Measured operations ──────────────────────────────────────
+
+    // One loop per concrete type, so each call site stays monomorphic
+    @SuppressWarnings("unchecked")
+    private long containsAll(Object structure, int[] probes) {
+        long hits = 0;
+        long start = System.nanoTime();
+        if (structure instanceof int[]) {
+            int[] a = (int[]) structure;
+            for (int p : probes) if (Arrays.binarySearch(a, p) >= 0) hits++;
+        } else if (structure instanceof CompressedSortedIntList) {
+            CompressedSortedIntList list = (CompressedSortedIntList) structure;
+            for (int p : probes) if (list.contains(p)) hits++;
+        } else {
+            TreeSet<Integer> set = (TreeSet<Integer>) structure;
+            for (int p : probes) if (set.contains(p)) hits++;
+        }
+        long nanos = System.nanoTime() - start;
+        sink += hits;
+        return nanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long scanRanges(Object structure, int[] starts, int width) {
+        long[] sum = {0};
+        long start = System.nanoTime();
+        if (structure instanceof int[]) {
+            int[] a = (int[]) structure;
+            for (int from : starts) {
+                int to = from + width;
+                int i = Arrays.binarySearch(a, from);
+                if (i < 0) i = -i - 1;
+                for (; i < a.length && a[i] < to; i++) sum[0] += a[i];
+            }
+        } else if (structure instanceof CompressedSortedIntList) {
+            CompressedSortedIntList list = (CompressedSortedIntList) structure;
+            for (int from : starts) list.forEachInRange(from, from + width, v -> sum[0] += v);
+        } else {
+            TreeSet<Integer> set = (TreeSet<Integer>) structure;
+            for (int from : starts) {
+                for (int v : set.subSet(from, from + width)) sum[0] += v;
+            }
+        }
+        long nanos = System.nanoTime() - start;
+        sink += sum[0];
+        return nanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long merge(Object structure, Object other) {
+        long start = System.nanoTime();
+        int size;
+        if (structure instanceof int[]) {
+            size = mergeArrays((int[]) structure, (int[]) other).length;
+        } else if (structure instanceof CompressedSortedIntList) {
+            size = ((CompressedSortedIntList) structure).merge((CompressedSortedIntList) other).size();
+        } else {
+            // The SortedSet copy constructor is linear; addAll then inserts one by one
+            TreeSet<Integer> union = new TreeSet<>((TreeSet<Integer>) structure);
+            union.addAll((TreeSet<Integer>) other);
+            size = union.size();
+        }
+        long nanos = System.nanoTime() - start;
+        sink += size;
+        return nanos;
+    }
+
+    private static int[] mergeArrays(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) out[n++] = a[i++];
+            else if (b[j] < a[i]) out[n++] = b[j++];
+            else { out[n++] = a[i++]; j++; }
+        }
+        while (i < a.length) out[n++] = a[i++];
+        while (j < b.length) out[n++] = b[j++];
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+}
@@ -0,0 +1,142 @@
+package game.model;
+
+import game.collections.IntArrayDeque;
+import game.collections.IntArrayList;
+import game.collections.IntHashSet;
+import game.collections.IntIntHashMap;
+import game.collections.OffHeapLongLongMap;
+
+import java.util.*;
+
+// Structure-agnostic operations on anything BenchmarkModel.populate can build, boxed or primitive.
+// Deliberately free of BenchmarkModel so forked cold-start cells can use it.
+final class StructureOps {
+
+    private StructureOps() {}
+
+    // Same calls the warmed-up core benchmark makes, one element at a time
+    @SuppressWarnings("unchecked")
+    static void add(Object structure, int key, int value) {
+        if (structure instanceof Map) ((Map<Integer, Integer>) structure).put(key, value);
+        else if (structure instanceof Collection) ((Collection<Integer>) structure).add(key);
+        else if (structure instanceof IntArrayList) ((IntArrayList) structure).add(key);
+        else if (structure instanceof IntArrayDeque) ((IntArrayDeque) structure).addLast(key);
+        else if (structure instanceof IntHashSet) ((IntHashSet) structure).add(key);
+        else if (structure instanceof IntIntHashMap) ((IntIntHashMap) structure).put(key, value);
+        else ((OffHeapLongLongMap) structure).put(key, value);
+    }
+
+    // Lists are read by position (key mod size), everything else by key.
+    // Returns whether something was found, so callers can keep the lookup alive.
+    @SuppressWarnings("unchecked")
+    static boolean get(Object structure, int key) {
+        if (structure instanceof Map) {
+            return ((Map<Integer, Integer>) structure).get(key) != null;
+        } else if (structure instanceof List) {
+            List<Integer> list = (List<Integer>) structure;
+            return !list.isEmpty() && list.get(Math.floorMod(key, list.size())) != null;
+        } else if (structure instanceof Collection) {
+            return ((Collection<Integer>) structure).contains(key);
+        } else if (structure instanceof IntArrayList) {
+            IntArrayList list = (IntArrayList) structure;
+            if (list.isEmpty()) return false;
+            list.get(Math.floorMod(key, list.size()));
+            return true;
+        } else if (structure instanceof IntArrayDeque) {
+            return ((IntArrayDeque) structure).contains(key);
+        } else if (structure instanceof IntHashSet) {
+            return ((IntHashSet) structure).contains(key);
+        } else if (structure instanceof IntIntHashMap) {
+            return ((IntIntHashMap) structure).containsKey(key);
+        } else {
+            return ((OffHeapLongLongMap) structure).containsKey(key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static void remove(Object structure, int key) {
+        if (structure instanceof Map) {
+            ((Map<Integer, Integer>) structure).remove(key);
+        } else if (structure instanceof Deque) {
+            ((Deque<Integer>) structure).pollFirst();
+        } else if (structure instanceof Queue) {
+            ((Queue<Integer>) structure).poll();
+        } else if (structure instanceof List) {
+            List<Integer> list = (List<Integer>) structure;
+            if (!list.isEmpty()) list.remove(list.size() - 1);
+        } else if (structure instanceof Collection) {
+            ((Collection<Integer>) structure).remove(key);
+        } else if (structure instanceof IntArrayList) {
+            IntArrayList list = (IntArrayList) structure;
+            if (!list.isEmpty()) list.removeLast();
+        } else if (structure instanceof IntArrayDeque) {
+            IntArrayDeque deque = (IntArrayDeque) structure;
+            if (!deque.isEmpty()) deque.removeFirst();
+        } else if (structure instanceof IntHashSet) {
+            ((IntHashSet) structure).remove(key);
+        } else if (structure instanceof IntIntHashMap) {
+            ((IntIntHashMap) structure).remove(key);
+        } else {
+            ((OffHeapLongLongMap) structure).remove(key);
+        }
+    }
+
+    // Steady state: each op retires one existing element and inserts a fresh one
+    @SuppressWarnings("unchecked")
+    static void churn(Object structure, int[] keys, int[] fresh) {
+        int n = Math.min(keys.length, fresh.length);
+        if (structure instanceof Map) {
+            Map<Integer, Integer> map = (Map<Integer, Integer>) structure;
+            for (int i = 0; i < n; i++) { map.remove(keys[i]); map.put(fresh[i], i); }
+        } else if (structure instanceof Queue) {
+            Queue<Integer> queue = (Queue<Integer>) structure;
+            for (int i = 0; i < n; i++) { queue.poll(); queue.offer(fresh[i]); }
+        } else if (structure instanceof List) {
+            List<Integer> list = (List<Integer>) structure;
+            for (int i = 0; i < n; i++) { list.remove(list.size() - 1); list.add(fresh[i]); }
+        } else if (structure instanceof Collection) {
+            Collection<Integer> coll = (Collection<Integer>) structure;
+            for (int i = 0; i < n; i++) { coll.remove(keys[i]); coll.add(fresh[i]); }
+        } else if (structure instanceof IntArrayList) {
+            IntArrayList list = (IntArrayList) structure;
+            for (int i = 0; i < n; i++) { list.removeLast(); list.add(fresh[i]); }
+        } else if (structure instanceof IntArrayDeque) {
+            IntArrayDeque deque = (IntArrayDeque) structure;
+            for (int i = 0; i < n; i++) { deque.removeFirst(); deque.addLast(fresh[i]); }
+        } else if (structure instanceof IntHashSet) {
+            IntHashSet set = (IntHashSet) structure;
+            for (int i = 0; i < n; i++) { set.remove(keys[i]); set.add(fresh[i]); }
+        } else if (structure instanceof IntIntHashMap) {
+            IntIntHashMap map = (IntIntHashMap) structure;
+            for (int i = 0; i < n; i++) { map.remove(keys[i]); map.put(fresh[i], i); }
+        } else if (structure instanceof OffHeapLongLongMap) {
+            OffHeapLongLongMap map = (OffHeapLongLongMap) structure;
+            for (int i = 0; i < n; i++) { map.remove(keys[i]); map.put(fresh[i], i); }
+        } else {
+            throw new IllegalArgumentException("Cannot churn " + structure.getClass().getName());
+        }
+    }
+
+    static int sizeOf(Object structure) {
+        if (structure instanceof Map) return ((Map<?, ?>) structure).size();
+        if (structure instanceof Collection) return ((Collection<?>) structure).size();
+        if (structure instanceof IntArrayList) return ((IntArrayList) structure).size();
+        if (structure instanceof IntArrayDeque) return ((IntArrayDeque) structure).size();
+        if (structure instanceof IntHashSet) return ((IntHashSet) structure).size();
+        if (structure instanceof IntIntHashMap) return ((IntIntHashMap) structure).size();
+        if (structure instanceof OffHeapLongLongMap) return ((OffHeapLongLongMap) structure).size();
+        return -1;
+    }
+
+    // Native memory the structure holds outside the Java heap, which heap sampling never sees
+    static long offHeapBytesOf(Object structure) {
+        if (structure instanceof OffHeapLongLongMap) return ((OffHeapLongLongMap) structure).offHeapBytes();
+        return 0;
+    }
+
+    // Drops the off-heap chunks once a measurement is done with them. Heap structures need nothing;
+    // the native memory behind a closed map is still only freed when the GC collects its buffers.
+    static void release(Object structure) {
+        if (structure instanceof OffHeapLongLongMap) ((OffHeapLongLongMap) structure).close();
+    }
+}
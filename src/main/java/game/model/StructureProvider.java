@@ -0,0 +1,27 @@
+package game.model;
+
+import java.awt.Color;
+import java.util.Collection;
+import java.util.Map;
+
+// Plugs an extra Collection or Map implementation into every benchmark family.
+// Implementations are found with ServiceLoader: list the class name in
+// META-INF/services/game.model.StructureProvider inside a jar on the classpath.
+public interface StructureProvider {
+
+    // Unique name shown on the charts; must not clash with a built-in structure
+    String getName();
+
+    Color getColor();
+
+    boolean isMap();
+
+    // Fresh, empty instance per call. Only the one matching isMap() is ever called.
+    default <E> Collection<E> newCollection() {
+        throw new UnsupportedOperationException(getName() + " is not a Collection");
+    }
+
+    default <K, V> Map<K, V> newMap() {
+        throw new UnsupportedOperationException(getName() + " is not a Map");
+    }
+}
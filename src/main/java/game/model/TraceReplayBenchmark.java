@@ -0,0 +1,144 @@
+package game.model;
+
+import game.model.BenchmarkModel.BenchmarkResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Replays a recorded trace, in its original order, against every structure.
+// Each structure gets a warmup replay, a throughput replay and a per-op timed replay,
+// each on a fresh instance so all three start from the same empty state.
+public class TraceReplayBenchmark implements BenchmarkModel.FamilyRunner {
+
+    static final String OPS_PER_MS = "ops/ms";
+    static final String P99 = "p99 ns";
+
+    // Lists and queues answer key lookups with linear scans; stop a pass that takes longer than this
+    private static final long PASS_BUDGET_NANOS = 10_000_000_000L;
+
+    private final Path tracePath;
+    private long sink;
+
+    public TraceReplayBenchmark(Path tracePath) {
+        this.tracePath = tracePath;
+    }
+
+    @Override
+    public List<BenchmarkResult> run(int elementCount, Consumer<Double> progress, BooleanSupplier cancelled) {
+        OperationTrace trace;
+        try {
+            trace = OperationTrace.load(tracePath, elementCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read trace " + tracePath + ": " + e.getMessage(), e);
+        }
+        if (trace.size() == 0) throw new IllegalArgumentException("Trace " + tracePath + " has no operations");
+
+        String label = "  [" + tracePath.getFileName() + ", " + String.format("%,d", trace.size()) + " ops, "
+                + trace.threadCount() + (trace.threadCount() == 1 ? " thread]" : " threads]");
+        List<BenchmarkResult> results = new ArrayList<>();
+        List<String> dsNames = new ArrayList<>(BenchmarkModel.DS_COLORS.keySet());
+        long[] latencies = new long[trace.size()];
+        int completed = 0;
+
+        for (String dsName : dsNames) {
+            if (cancelled.getAsBoolean()) break;
+
+            Object structure = BenchmarkModel.populate(dsName, new int[0]);
+            try {
+                replay(structure, trace, null);
+            } finally {
+                StructureOps.release(structure);
+            }
+
+            if (!BenchmarkModel.settle()) break;
+            structure = BenchmarkModel.populate(dsName, new int[0]);
+            long nanos;
+            int done;
+            int finalSize;
+            try {
+                long start = System.nanoTime();
+                done = replay(structure, trace, null);
+                nanos = System.nanoTime() - start;
+                finalSize = StructureOps.sizeOf(structure);
+            } finally {
+                StructureOps.release(structure);
+            }
+            structure = null;
+
+            if (!BenchmarkModel.settle()) break;
+            structure = BenchmarkModel.populate(dsName, new int[0]);
+            int timed;
+            try {
+                timed = replay(structure, trace, latencies);
+            } finally {
+                StructureOps.release(structure);
+            }
+            structure = null;
+
+            String note = done < trace.size() || timed < trace.size() ? "PARTIAL (too slow)" : null;
+            results.add(throughputResult(dsName, label, done, nanos, finalSize, note));
+            results.add(latencyResult(dsName, label, latencies, timed, note));
+
+            completed++;
+            progress.accept((double) completed / dsNames.size());
+        }
+        return results;
+    }
+
+    // Returns how many ops ran before the budget ran out; fills latencies when given
+    private int replay(Object structure, OperationTrace trace, long[] latencies) {
+        long deadline = System.nanoTime() + PASS_BUDGET_NANOS;
+        int n = trace.size();
+        long found = 0;
+        for (int i = 0; i < n; i++) {
+            long start = latencies == null ? 0 : System.nanoTime();
+            switch (trace.op(i)) {
+                case OperationTrace.PUT:    StructureOps.add(structure, trace.key(i), trace.value(i)); break;
+                case OperationTrace.GET:    if (StructureOps.get(structure, trace.key(i))) found++; break;
+                default:                    StructureOps.remove(structure, trace.key(i)); break;
+            }
+            if (latencies != null) latencies[i] = System.nanoTime() - start;
+            if ((i & 1023) == 1023 && System.nanoTime() > deadline) {
+                sink += found;
+                return i + 1;
+            }
+        }
+        sink += found;
+        return n;
+    }
+
+    private static String throughputOperation(String label) { return "REPLAY THROUGHPUT" + label; }
+    private static String latencyOperation(String label) { return "REPLAY LATENCY" + label; }
+
+    private static BenchmarkResult throughputResult(String dsName, String label, int ops, long nanos,
+                                                    int finalSize, String note) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put("final size", (double) finalSize);
+        metrics.put(OPS_PER_MS, ops / Math.max(0.001, nanos / 1_000_000.0));
+        return new BenchmarkResult(dsName, throughputOperation(label), ops, nanos, metrics, OPS_PER_MS, false, note);
+    }
+
+    private static BenchmarkResult latencyResult(String dsName, String label, long[] latencies, int ops, String note) {
+        long[] sorted = Arrays.copyOf(latencies, ops);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long l : sorted) total += l;
+
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put("p50 ns", (double) percentile(sorted, 0.50));
+        metrics.put("p90 ns", (double) percentile(sorted, 0.90));
+        metrics.put("p99.9 ns", (double) percentile(sorted, 0.999));
+        metrics.put("max ns", (double) sorted[sorted.length - 1]);
+        metrics.put(P99, (double) percentile(sorted, 0.99));
+        return new BenchmarkResult(dsName, latencyOperation(label), ops, total, metrics, P99, true, note);
+    }
+
+    static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -0,0 +1,375 @@
+package game.model;
+
+import game.collections.BPlusTreeIntMap;
+import game.collections.BPlusTreeIntMap.Inner;
+import game.collections.BPlusTreeIntMap.Leaf;
+import game.collections.BPlusTreeIntMap.Node;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class VisualBPlusTree {
+    public static final int[] FANOUTS = {4, 6, 8};
+    public static final int MAX_KEYS = 64;
+    public static final int CELL_WIDTH = 24;
+    public static final int NODE_HEIGHT = 34;
+    public static final int NODE_GAP = 12;
+    public static final int LEVEL_HEIGHT = 90;
+    public static final int TOP_Y = 120;
+    public static final int LEFT_X = 30;
+
+    public enum Event { NONE, LEAF_SPLIT, INNER_SPLIT, NEW_ROOT, BORROW, MERGE, ROOT_COLLAPSE }
+
+    // A node's place on screen; x and y ease toward the layout target
+    public static final class NodeBox {
+        public final Node node;
+        public final int level;
+        public double x;
+        public double y;
+        double targetX;
+        double targetY;
+        public double alpha;
+
+        NodeBox(Node node, int level) {
+            this.node = node;
+            this.level = level;
+        }
+
+        public int width(int fanout) { return fanout * CELL_WIDTH + 8; }
+    }
+
+    private BPlusTreeIntMap tree = new BPlusTreeIntMap(FANOUTS[0]);
+    private final Random random = new Random();
+    private int operationsCount = 0;
+    private String lastOperation = "";
+
+    private Map<Node, NodeBox> boxes = new IdentityHashMap<>();
+    private final List<NodeBox> layout = new ArrayList<>();
+
+    private Event lastEvent = Event.NONE;
+    private long lastEventTime = 0;
+    private boolean justChanged = false;
+    // Nodes the last structural change created or touched
+    private final List<Node> changedNodes = new ArrayList<>();
+
+    // Last lookup: the node at each level and the slot taken in it
+    private final List<Node> searchPath = new ArrayList<>();
+    private final List<Integer> searchSlots = new ArrayList<>();
+    private final List<Leaf> rangeLeaves = new ArrayList<>();
+    private int rangeFrom = 0;
+    private int rangeTo = 0;
+    private long lastSearchTime = 0;
+    private long lastRangeTime = 0;
+
+    public synchronized boolean put(int key, int value) {
+        if (tree.size() >= MAX_KEYS && !tree.containsKey(key)) {
+            lastOperation = "PUT: view holds " + MAX_KEYS + " keys";
+            return false;
+        }
+        long[] before = counters();
+        int height = tree.height();
+        boolean existed = tree.containsKey(key);
+        tree.put(key, value);
+        operationsCount++;
+        recordPath(key);
+        lastOperation = "PUT: " + key + " -> " + value + (existed ? " (updated)" : "");
+        afterChange(before, height, key);
+        return true;
+    }
+
+    public synchronized Integer get(int key) {
+        recordPath(key);
+        operationsCount++;
+        boolean found = tree.containsKey(key);
+        int value = tree.get(key);
+        lastOperation = "GET: " + key + (found ? " -> " + value : " -> not found") + " (" + searchPath.size()
+                + " nodes, one per level)";
+        return found ? value : null;
+    }
+
+    public synchronized boolean remove(int key) {
+        if (!tree.containsKey(key)) {
+            lastOperation = "REMOVE: " + key + " not found";
+            return false;
+        }
+        long[] before = counters();
+        int height = tree.height();
+        tree.remove(key);
+        operationsCount++;
+        searchPath.clear();
+        lastOperation = "REMOVE: " + key;
+        afterChange(before, height, key);
+        return true;
+    }
+
+    // Descends once to the leaf holding from, then follows next links
+    public synchronized int range(int from, int to) {
+        rangeLeaves.clear();
+        rangeFrom = from;
+        rangeTo = to;
+        int count = 0;
+        if (!tree.isEmpty() && from < to) {
+            recordPath(from);
+            Leaf leaf = tree.leafFor(from);
+            while (leaf != null && (leaf.keyCount() == 0 || leaf.key(0) < to)) {
+                rangeLeaves.add(leaf);
+                for (int i = 0; i < leaf.keyCount(); i++) {
+                    if (leaf.key(i) >= from && leaf.key(i) < to) count++;
+                }
+                leaf = leaf.next();
+            }
+        }
+        lastRangeTime = System.currentTimeMillis();
+        operationsCount++;
+        lastOperation = "RANGE [" + from + ", " + to + "): " + count + " entries, 1 descent + "
+                + Math.max(0, rangeLeaves.size() - 1) + " leaf hops";
+        return count;
+    }
+
+    public synchronized int addRandom(int count) {
+        int added = 0;
+        for (int i = 0; i < count && tree.size() < MAX_KEYS; i++) {
+            int key = generateRandomKey(random);
+            if (tree.containsKey(key)) continue;
+            long[] before = counters();
+            int height = tree.height();
+            tree.put(key, random.nextInt(1000));
+            afterChange(before, height, key);
+            added++;
+        }
+        searchPath.clear();
+        operationsCount++;
+        lastOperation = "PUT x" + added + " random keys: " + tree.leafSplits() + " leaf splits so far";
+        return added;
+    }
+
+    public synchronized int removeRandom(int count) {
+        int removed = 0;
+        for (int i = 0; i < count && !tree.isEmpty(); i++) {
+            List<Integer> keys = keys();
+            int key = keys.get(random.nextInt(keys.size()));
+            long[] before = counters();
+            int height = tree.height();
+            tree.remove(key);
+            afterChange(before, height, key);
+            removed++;
+        }
+        searchPath.clear();
+        operationsCount++;
+        lastOperation = "REMOVE x" + removed + " random keys: " + tree.merges() + " merges, " + tree.borrows()
+                + " borrows so far";
+        return removed;
+    }
+
+    // Rebuilds the tree with another fanout, re-inserting every entry in key order
+    public synchronized void setFanout(int fanout) {
+        BPlusTreeIntMap rebuilt = new BPlusTreeIntMap(fanout);
+        BPlusTreeIntMap old = tree;
+        old.forEachInRange(Integer.MIN_VALUE, Integer.MAX_VALUE, rebuilt::put);
+        tree = rebuilt;
+        boxes = new IdentityHashMap<>();
+        searchPath.clear();
+        rangeLeaves.clear();
+        changedNodes.clear();
+        relayout();
+        operationsCount++;
+        lastOperation = "FANOUT: " + fanout + ", rebuilt " + tree.size() + " keys into " + tree.nodeCount()
+                + " nodes, height " + tree.height();
+    }
+
+    public synchronized void clear() {
+        tree.clear();
+        boxes = new IdentityHashMap<>();
+        layout.clear();
+        searchPath.clear();
+        rangeLeaves.clear();
+        changedNodes.clear();
+        operationsCount++;
+        lastOperation = "CLEAR: all nodes dropped";
+    }
+
+    private long[] counters() {
+        return new long[]{tree.leafSplits(), tree.innerSplits(), tree.merges(), tree.borrows()};
+    }
+
+    // Works out what the last insert or delete did to the structure from the counters
+    private void afterChange(long[] before, int heightBefore, int key) {
+        Event event = Event.NONE;
+        if (tree.height() > heightBefore && heightBefore > 0) event = Event.NEW_ROOT;
+        else if (tree.height() < heightBefore && tree.height() > 0) event = Event.ROOT_COLLAPSE;
+        else if (tree.innerSplits() > before[1]) event = Event.INNER_SPLIT;
+        else if (tree.leafSplits() > before[0]) event = Event.LEAF_SPLIT;
+        else if (tree.merges() > before[2]) event = Event.MERGE;
+        else if (tree.borrows() > before[3]) event = Event.BORROW;
+
+        if (event != Event.NONE) {
+            lastEvent = event;
+            lastEventTime = System.currentTimeMillis();
+            justChanged = true;
+            changedNodes.clear();
+            Leaf leaf = tree.isEmpty() ? null : tree.leafFor(key);
+            if (leaf != null) {
+                changedNodes.add(leaf);
+                if (leaf.next() != null) changedNodes.add(leaf.next());
+                // The other half of a split or the sibling that lent a key
+                Leaf first = tree.firstLeaf();
+                for (Leaf l = first; l != null && l.next() != null; l = l.next()) {
+                    if (l.next() == leaf) {
+                        changedNodes.add(l);
+                        break;
+                    }
+                }
+            }
+            if (event == Event.NEW_ROOT || event == Event.INNER_SPLIT) changedNodes.add(tree.root());
+        }
+        relayout();
+    }
+
+    private void recordPath(int key) {
+        searchPath.clear();
+        searchSlots.clear();
+        Node node = tree.root();
+        while (node != null && !node.isLeaf()) {
+            Inner inner = (Inner) node;
+            int slot = 0;
+            while (slot < inner.keyCount() && inner.key(slot) <= key) slot++;
+            searchPath.add(node);
+            searchSlots.add(slot);
+            node = inner.child(slot);
+        }
+        if (node != null) {
+            int slot = 0;
+            while (slot < node.keyCount() && node.key(slot) < key) slot++;
+            searchPath.add(node);
+            searchSlots.add(slot);
+        }
+        lastSearchTime = System.currentTimeMillis();
+    }
+
+    // ── Layout ───────────────────────────────────────────────────
+    // Leaves sit side by side on the bottom row; each inner node centres over its children
+
+    private void relayout() {
+        Map<Node, NodeBox> next = new IdentityHashMap<>();
+        layout.clear();
+        if (tree.root() != null) place(tree.root(), 0, new double[]{LEFT_X}, next);
+        for (NodeBox box : layout) {
+            NodeBox old = boxes.get(box.node);
+            if (old != null) {
+                box.x = old.x;
+                box.y = old.y;
+                box.alpha = old.alpha;
+            } else {
+                // New nodes fade in from just below where they will settle
+                box.x = box.targetX;
+                box.y = box.targetY + 30;
+                box.alpha = 0;
+            }
+        }
+        boxes = next;
+    }
+
+    private double place(Node node, int level, double[] nextLeafX, Map<Node, NodeBox> next) {
+        NodeBox box = new NodeBox(node, level);
+        int width = box.width(tree.fanout());
+        box.targetY = TOP_Y + level * LEVEL_HEIGHT;
+        if (node.isLeaf()) {
+            box.targetX = nextLeafX[0];
+            nextLeafX[0] += width + NODE_GAP;
+        } else {
+            Inner inner = (Inner) node;
+            double first = place(inner.child(0), level + 1, nextLeafX, next);
+            double last = first;
+            for (int i = 1; i <= inner.keyCount(); i++) last = place(inner.child(i), level + 1, nextLeafX, next);
+            box.targetX = (first + last) / 2 - width / 2.0;
+        }
+        layout.add(box);
+        next.put(node, box);
+        return box.targetX + width / 2.0;
+    }
+
+    public synchronized void update(double deltaTime) {
+        double t = Math.min(1, deltaTime * 8);
+        for (NodeBox box : layout) {
+            box.x += (box.targetX - box.x) * t;
+            box.y += (box.targetY - box.y) * t;
+            box.alpha = Math.min(1, box.alpha + deltaTime * 3);
+        }
+        if (justChanged && System.currentTimeMillis() - lastEventTime > 1500) {
+            justChanged = false;
+        }
+    }
+
+    private List<Integer> keys() {
+        List<Integer> keys = new ArrayList<>();
+        tree.forEachInRange(Integer.MIN_VALUE, Integer.MAX_VALUE, (k, v) -> keys.add(k));
+        return keys;
+    }
+
+    public synchronized List<NodeBox> getLayout() { return new ArrayList<>(layout); }
+    public synchronized NodeBox boxOf(Node node) { return boxes.get(node); }
+    public synchronized int getSize() { return tree.size(); }
+    public synchronized int getFanout() { return tree.fanout(); }
+    public synchronized int getHeight() { return tree.height(); }
+    public synchronized int getNodeCount() { return tree.nodeCount(); }
+    public synchronized long getLeafSplits() { return tree.leafSplits(); }
+    public synchronized long getInnerSplits() { return tree.innerSplits(); }
+    public synchronized long getMerges() { return tree.merges(); }
+    public synchronized long getBorrows() { return tree.borrows(); }
+    public synchronized Leaf getFirstLeaf() { return tree.firstLeaf(); }
+    public synchronized Event getLastEvent() { return lastEvent; }
+    public synchronized boolean wasJustChanged() { return justChanged; }
+    public synchronized List<Node> getChangedNodes() { return new ArrayList<>(changedNodes); }
+    public synchronized List<Node> getSearchPath() { return new ArrayList<>(searchPath); }
+    public synchronized List<Integer> getSearchSlots() { return new ArrayList<>(searchSlots); }
+    public synchronized long getLastSearchTime() { return lastSearchTime; }
+    public synchronized List<Leaf> getRangeLeaves() { return new ArrayList<>(rangeLeaves); }
+    public synchronized int getRangeFrom() { return rangeFrom; }
+    public synchronized int getRangeTo() { return rangeTo; }
+    public synchronized long getLastRangeTime() { return lastRangeTime; }
+    public int getOperationsCount() { return operationsCount; }
+    public String getLastOperation() { return lastOperation; }
+
+    // Leaf fill: how full the average leaf is against the fanout
+    public synchronized double getLeafFill() {
+        int leaves = 0;
+        for (Leaf l = tree.firstLeaf(); l != null; l = l.next()) leaves++;
+        return leaves == 0 ? 0 : (double) tree.size() / (leaves * tree.fanout());
+    }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int n = tree.size();
+        long totalUsed = tree.memoryBytes();
+        long keyBytes = 8L * n;
+        // TreeMap<Integer,Integer>: a 40B entry plus two 16B boxes per mapping
+        long treeMap = 48 + (long) n * (40 + 16 + 16);
+        return new MemoryInfo(totalUsed, keyBytes, totalUsed - keyBytes, treeMap, tree.nodeCount(), tree.height());
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long entryBytes,
+            long overhead,
+            long treeMap,
+            int nodes,
+            int height
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatEntries() { return formatBytes(entryBytes); }
+        public String formatOverhead() { return formatBytes(overhead); }
+        public String formatTreeMap() { return formatBytes(treeMap); }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomKey(Random random) {
+        return random.nextInt(1000);
+    }
+}
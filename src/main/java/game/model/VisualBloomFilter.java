@@ -0,0 +1,260 @@
+package game.model;
+
+import game.collections.BloomFilter;
+import game.collections.BloomFilteredSet;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+// A BloomFilteredSet over a HashSet, small enough to draw every bit. Each query keeps its
+// k probe positions and where it stopped; batches of random absent keys record the
+// observed false-positive rate at the current size next to the predicted one.
+public class VisualBloomFilter {
+    public static final int[] BIT_OPTIONS = {128, 256, 512, 1024};
+    public static final int MAX_HASHES = 8;
+    public static final int MAX_KEYS = 200;
+    public static final int KEY_RANGE = 100_000;
+    public static final int MAX_SAMPLES = 60;
+    public static final long FLASH_MILLIS = 1500;
+
+    public enum QueryResult { NONE, ADDED, DEFINITELY_ABSENT, PRESENT, FALSE_POSITIVE }
+
+    public record FprSample(int size, double predicted, double observed) {}
+
+    private final Random random = new Random();
+    private final BloomFilteredSet<Integer> set;
+    private int bitCount = 256;
+    private int hashCount = 3;
+    private boolean blocked = false;
+
+    private int lastKey = -1;
+    private int[] lastProbes = new int[0];
+    private boolean[] lastProbeWasSet = new boolean[0];
+    private QueryResult lastResult = QueryResult.NONE;
+    private int stoppedAt = -1;
+    private final List<FprSample> samples = new ArrayList<>();
+    private long flashTime = 0;
+    private boolean justFalsePositive = false;
+
+    private int operationsCount = 0;
+    private String lastOperation = "";
+
+    public VisualBloomFilter() {
+        set = new BloomFilteredSet<>(new HashSet<>(), new BloomFilter(bitCount, hashCount, blocked));
+    }
+
+    // ── Operations ───────────────────────────────────────────────
+
+    public synchronized boolean add(int key) {
+        if (set.size() >= MAX_KEYS && !set.backingSet().contains(key)) {
+            lastOperation = "ADD: view holds " + MAX_KEYS + " keys";
+            return false;
+        }
+        recordProbes(key);
+        boolean added = set.add(key);
+        operationsCount++;
+        lastResult = QueryResult.ADDED;
+        stoppedAt = -1;
+        int newBits = 0;
+        for (boolean wasSet : lastProbeWasSet) if (!wasSet) newBits++;
+        lastOperation = added
+                ? "ADD: " + key + " set " + newBits + " new bit" + (newBits == 1 ? "" : "s") + " of " + hashCount
+                + " (fill " + String.format("%.0f%%", 100 * set.filter().fillRatio()) + ")"
+                : "ADD: " + key + " already in the set, filter untouched";
+        return added;
+    }
+
+    public synchronized boolean contains(int key) {
+        recordProbes(key);
+        operationsCount++;
+        boolean found = set.contains(key);
+        boolean inSet = set.backingSet().contains(key);
+        stoppedAt = -1;
+        for (int i = 0; i < lastProbeWasSet.length; i++) {
+            if (!lastProbeWasSet[i]) {
+                stoppedAt = i;
+                break;
+            }
+        }
+        if (stoppedAt >= 0) {
+            lastResult = QueryResult.DEFINITELY_ABSENT;
+            lastOperation = "CONTAINS: " + key + " -> false after " + (stoppedAt + 1) + " of " + hashCount
+                    + " probes (bit " + lastProbes[stoppedAt] + " clear), set not touched";
+        } else if (inSet) {
+            lastResult = QueryResult.PRESENT;
+            lastOperation = "CONTAINS: " + key + " -> all " + hashCount + " bits set, HashSet confirms: true";
+        } else {
+            lastResult = QueryResult.FALSE_POSITIVE;
+            lastOperation = "CONTAINS: " + key + " -> all " + hashCount + " bits set by other keys, HashSet says no: FALSE POSITIVE";
+            flashTime = System.currentTimeMillis();
+            justFalsePositive = true;
+        }
+        return found;
+    }
+
+    public synchronized boolean remove(int key) {
+        boolean removed = set.remove(key);
+        operationsCount++;
+        lastKey = key;
+        lastProbes = new int[0];
+        lastProbeWasSet = new boolean[0];
+        lastResult = QueryResult.NONE;
+        lastOperation = removed
+                ? "REMOVE: " + key + " gone from the set, its bits stay (" + set.staleRemovals() + " stale)"
+                : "REMOVE: " + key + " not in the set";
+        return removed;
+    }
+
+    public synchronized int addRandom(int count) {
+        int added = 0;
+        for (int i = 0; i < count && set.size() < MAX_KEYS; i++) {
+            if (set.add(random.nextInt(KEY_RANGE))) added++;
+        }
+        operationsCount++;
+        lastProbes = new int[0];
+        lastProbeWasSet = new boolean[0];
+        lastResult = QueryResult.NONE;
+        lastOperation = "ADD x" + added + ": n = " + set.size() + ", fill "
+                + String.format("%.0f%%", 100 * set.filter().fillRatio());
+        return added;
+    }
+
+    // Queries count random keys known to be absent and records the share the filter let through
+    public synchronized double probeAbsent(int count) {
+        long before = set.falsePositives();
+        int done = 0;
+        while (done < count) {
+            int key = random.nextInt(KEY_RANGE);
+            if (set.backingSet().contains(key)) continue;
+            set.contains(key);
+            done++;
+        }
+        int falsePositives = (int) (set.falsePositives() - before);
+        double observed = (double) falsePositives / count;
+        double predicted = set.filter().expectedFalsePositiveRate(set.size());
+        samples.add(new FprSample(set.size(), predicted, observed));
+        if (samples.size() > MAX_SAMPLES) samples.remove(0);
+        operationsCount++;
+        lastOperation = String.format("PROBE %d absent keys at n = %d: %d false positives, observed %.1f%% vs predicted %.1f%%",
+                count, set.size(), falsePositives, 100 * observed, 100 * predicted);
+        return observed;
+    }
+
+    public synchronized void configure(int bitCount, int hashCount, boolean blocked) {
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+        this.blocked = blocked;
+        set.rebuild(new BloomFilter(bitCount, hashCount, blocked));
+        set.resetStats();
+        samples.clear();
+        lastProbes = new int[0];
+        lastProbeWasSet = new boolean[0];
+        lastResult = QueryResult.NONE;
+        operationsCount++;
+        lastOperation = "CONFIGURE: m = " + set.filter().bitCount() + " bits, k = " + hashCount
+                + (blocked ? ", blocked" : "") + ", " + set.size() + " keys re-added";
+    }
+
+    // Clears the bits left behind by removals
+    public synchronized void rebuild() {
+        long stale = set.staleRemovals();
+        set.rebuild();
+        operationsCount++;
+        lastOperation = "REBUILD: filter re-filled from " + set.size() + " keys, " + stale + " stale removals dropped";
+    }
+
+    public synchronized void clear() {
+        set.clear();
+        set.resetStats();
+        samples.clear();
+        lastProbes = new int[0];
+        lastProbeWasSet = new boolean[0];
+        lastResult = QueryResult.NONE;
+        operationsCount++;
+        lastOperation = "CLEAR: set and filter emptied";
+    }
+
+    private void recordProbes(int key) {
+        BloomFilter filter = set.filter();
+        lastKey = key;
+        lastProbes = filter.probes(BloomFilteredSet.hash(key), new int[filter.hashCount()]);
+        lastProbeWasSet = new boolean[lastProbes.length];
+        for (int i = 0; i < lastProbes.length; i++) lastProbeWasSet[i] = filter.isSet(lastProbes[i]);
+    }
+
+    public synchronized void update(double deltaTime) {
+        if (justFalsePositive && System.currentTimeMillis() - flashTime > FLASH_MILLIS) {
+            justFalsePositive = false;
+        }
+    }
+
+    // ── Getters ──────────────────────────────────────────────────
+
+    public synchronized boolean isBitSet(int bit) { return set.filter().isSet(bit); }
+    public synchronized int getBitCount() { return set.filter().bitCount(); }
+    public synchronized int getHashCount() { return hashCount; }
+    public synchronized boolean isBlocked() { return blocked; }
+    public synchronized int getSetBits() { return set.filter().setBits(); }
+    public synchronized double getFillRatio() { return set.filter().fillRatio(); }
+    public synchronized int getSize() { return set.size(); }
+    public synchronized int getLastKey() { return lastKey; }
+    public synchronized int[] getLastProbes() { return lastProbes.clone(); }
+    public synchronized boolean[] getLastProbeWasSet() { return lastProbeWasSet.clone(); }
+    public synchronized QueryResult getLastResult() { return lastResult; }
+    public synchronized int getStoppedAt() { return stoppedAt; }
+    public synchronized List<FprSample> getSamples() { return new ArrayList<>(samples); }
+    public synchronized boolean wasJustFalsePositive() { return justFalsePositive; }
+    public synchronized long getFilteredLookups() { return set.filteredLookups(); }
+    public synchronized long getPassedLookups() { return set.passedLookups(); }
+    public synchronized long getFalsePositives() { return set.falsePositives(); }
+    public synchronized long getStaleRemovals() { return set.staleRemovals(); }
+    public synchronized double getObservedFpr() { return set.observedFalsePositiveRate(); }
+    public synchronized double getPredictedFpr() { return set.filter().expectedFalsePositiveRate(set.size()); }
+    public synchronized double getFillBasedFpr() { return set.filter().currentFalsePositiveRate(); }
+    public synchronized boolean containsKey(int key) { return set.backingSet().contains(key); }
+    public int getOperationsCount() { return operationsCount; }
+    public synchronized String getLastOperation() { return lastOperation; }
+
+    // Predicted rate for the current m and k at any size, for the chart's curve
+    public synchronized double predictedFprAt(int n) {
+        return set.filter().expectedFalsePositiveRate(n);
+    }
+
+    // The k that minimises the false-positive rate at the current size: (m / n) ln 2
+    public synchronized double getOptimalHashCount() {
+        return set.isEmpty() ? 0 : (double) set.filter().bitCount() / set.size() * Math.log(2);
+    }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int n = set.size();
+        long filterBytes = set.filter().memoryBytes();
+        int table = Integer.highestOneBit(Math.max(1, (int) (n / 0.75f)) * 2 - 1);
+        long hashSetBytes = 16 + 48 + 16 + 4L * Math.max(16, table) + n * (32L + 16);
+        return new MemoryInfo(filterBytes + hashSetBytes + 56, filterBytes, hashSetBytes, n);
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long filterBytes,
+            long hashSetBytes,
+            int entries
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatFilter() { return formatBytes(filterBytes); }
+        public String formatHashSet() { return formatBytes(hashSetBytes); }
+
+        public double bitsPerEntry() { return entries == 0 ? 0 : (filterBytes - 48) * 8.0 / entries; }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomKey(Random random) {
+        return random.nextInt(KEY_RANGE);
+    }
+}
@@ -0,0 +1,339 @@
+package game.model;
+
+import game.collections.ChampIntMap;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.Collections;
+
+// Keeps the last few versions of a ChampIntMap. After every update the new version's nodes
+// are compared by identity with the version before it: nodes that only exist in the new
+// one are the copied path, everything else is shared between the two.
+public class VisualChamp {
+    public static final int MAX_KEYS = 64;
+    public static final int KEY_RANGE = 1000;
+    public static final int MAX_VERSIONS = 8;
+    public static final long FADE_MILLIS = 1500;
+
+    public record NodeInfo(int id, int parentId, int depth, int slot, int dataMap, int nodeMap,
+                           int[] keys, int[] values, boolean copied, long bytes) {
+        public int dataArity() { return keys.length; }
+        public int nodeArity() { return Integer.bitCount(nodeMap); }
+    }
+
+    public record VersionInfo(int number, int size, int newNodes, long newBytes) {}
+
+    private final Random random = new Random();
+    private final List<ChampIntMap> versions = new ArrayList<>();
+    private final List<VersionInfo> versionInfos = new ArrayList<>();
+    private final Map<ChampIntMap.Node, Integer> ids = new IdentityHashMap<>();
+    private ChampIntMap previous;
+    private int nextId = 0;
+    private int versionNumber = 0;
+
+    private int operationsCount = 0;
+    private String lastOperation = "";
+    private int lastKey = -1;
+    private boolean lookup = false;
+    private final Set<Integer> lookupPath = new java.util.HashSet<>();
+    private long changeTime = 0;
+    private boolean justCopied = false;
+
+    // Snapshot of the current version, preorder
+    private List<NodeInfo> nodes = new ArrayList<>();
+    private int copiedNodes = 0;
+    private long copiedBytes = 0;
+    private int sharedNodes = 0;
+    private long sharedBytes = 0;
+
+    public VisualChamp() {
+        ChampIntMap empty = ChampIntMap.empty(-1);
+        versions.add(empty);
+        versionInfos.add(new VersionInfo(versionNumber, 0, 1, empty.memoryBytes()));
+        previous = empty;
+        snapshot();
+    }
+
+    private ChampIntMap current() {
+        return versions.get(versions.size() - 1);
+    }
+
+    // ── Operations ───────────────────────────────────────────────
+
+    public synchronized boolean put(int key, int value) {
+        ChampIntMap map = current();
+        if (map.size() >= MAX_KEYS && !map.containsKey(key)) {
+            lastOperation = "PUT: view holds " + MAX_KEYS + " keys";
+            return false;
+        }
+        ChampIntMap next = map.put(key, value);
+        operationsCount++;
+        lastKey = key;
+        lookup = false;
+        if (next == map) {
+            lastOperation = "PUT: " + key + " -> " + value + " already mapped, same version returned";
+            return true;
+        }
+        commit(next);
+        lastOperation = "PUT: " + key + " -> " + value + " (slots " + slotPath(key) + "): copied " + copiedNodes
+                + " node" + (copiedNodes == 1 ? "" : "s") + ", shared " + sharedNodes;
+        return true;
+    }
+
+    public synchronized boolean remove(int key) {
+        ChampIntMap map = current();
+        ChampIntMap next = map.remove(key);
+        operationsCount++;
+        lastKey = key;
+        lookup = false;
+        if (next == map) {
+            lastOperation = "REMOVE: " + key + " not found, same version returned";
+            return false;
+        }
+        commit(next);
+        lastOperation = "REMOVE: " + key + ": copied " + copiedNodes + " node" + (copiedNodes == 1 ? "" : "s")
+                + ", shared " + sharedNodes + " (lone entries move back up)";
+        return true;
+    }
+
+    public synchronized Integer get(int key) {
+        ChampIntMap map = current();
+        operationsCount++;
+        lastKey = key;
+        lookup = true;
+        lookupPath.clear();
+        // Walk the same slots get() does, recording the nodes on the way
+        ChampIntMap.Node node = map.root();
+        for (int depth = 0; node != null; depth++) {
+            lookupPath.add(ids.get(node));
+            int bit = 1 << ChampIntMap.slotOf(key, depth);
+            if ((node.nodeMap() & bit) == 0) break;
+            node = node.child(Integer.bitCount(node.nodeMap() & (bit - 1)));
+        }
+        int value = map.get(key);
+        boolean found = map.containsKey(key);
+        lastOperation = "GET: " + key + (found ? " -> " + value : " -> not found") + " (slots " + slotPath(key)
+                + ", " + lookupPath.size() + " node" + (lookupPath.size() == 1 ? "" : "s") + " read, nothing copied)";
+        changeTime = System.currentTimeMillis();
+        return found ? value : null;
+    }
+
+    public synchronized int addRandom(int count) {
+        ChampIntMap map = current();
+        ChampIntMap next = map;
+        int added = 0;
+        for (int i = 0; i < count && next.size() < MAX_KEYS; i++) {
+            int key = random.nextInt(KEY_RANGE);
+            if (next.containsKey(key)) continue;
+            next = next.put(key, random.nextInt(1000));
+            added++;
+        }
+        operationsCount++;
+        lookup = false;
+        lastKey = -1;
+        if (next == map) {
+            lastOperation = "PUT x0: map full";
+            return 0;
+        }
+        commit(next);
+        lastOperation = "PUT x" + added + " as one new version: " + copiedNodes + " nodes new, " + sharedNodes + " shared";
+        return added;
+    }
+
+    // Old versions are still intact, so going back is just dropping the newest one
+    public synchronized boolean undo() {
+        if (versions.size() < 2) {
+            lastOperation = "UNDO: no older version kept";
+            return false;
+        }
+        versions.remove(versions.size() - 1);
+        versionInfos.remove(versionInfos.size() - 1);
+        previous = current();
+        operationsCount++;
+        lookup = false;
+        lastKey = -1;
+        snapshot();
+        lastOperation = "UNDO: back to v" + versionInfos.get(versionInfos.size() - 1).number()
+                + ", nothing rebuilt - that version was never modified";
+        return true;
+    }
+
+    public synchronized void clear() {
+        versions.clear();
+        versionInfos.clear();
+        ids.clear();
+        ChampIntMap empty = ChampIntMap.empty(-1);
+        versions.add(empty);
+        versionNumber++;
+        versionInfos.add(new VersionInfo(versionNumber, 0, 1, empty.memoryBytes()));
+        previous = empty;
+        lastKey = -1;
+        lookup = false;
+        operationsCount++;
+        snapshot();
+        lastOperation = "CLEAR: history dropped, new empty version";
+    }
+
+    private void commit(ChampIntMap next) {
+        previous = current();
+        versions.add(next);
+        if (versions.size() > MAX_VERSIONS) versions.remove(0);
+        versionNumber++;
+        snapshot();
+        versionInfos.add(new VersionInfo(versionNumber, next.size(), copiedNodes, copiedBytes));
+        if (versionInfos.size() > MAX_VERSIONS) versionInfos.remove(0);
+        changeTime = System.currentTimeMillis();
+        justCopied = true;
+    }
+
+    private String slotPath(int key) {
+        StringBuilder path = new StringBuilder();
+        int depth = 0;
+        ChampIntMap.Node node = current().root();
+        while (true) {
+            int slot = ChampIntMap.slotOf(key, depth);
+            path.append(depth == 0 ? "" : ">").append(slot);
+            int bit = 1 << slot;
+            if (node == null || (node.nodeMap() & bit) == 0) break;
+            node = node.child(Integer.bitCount(node.nodeMap() & (bit - 1)));
+            depth++;
+        }
+        return path.toString();
+    }
+
+    // ── Snapshot ─────────────────────────────────────────────────
+
+    private void snapshot() {
+        Set<ChampIntMap.Node> before = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (previous != current()) collect(previous.root(), before);
+        List<NodeInfo> out = new ArrayList<>();
+        copiedNodes = 0;
+        copiedBytes = 0;
+        sharedNodes = 0;
+        sharedBytes = 0;
+        walk(current().root(), -1, 0, -1, before, out, previous != current());
+
+        // Forget ids of nodes no kept version can reach any more
+        Set<ChampIntMap.Node> live = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ChampIntMap version : versions) collect(version.root(), live);
+        ids.keySet().retainAll(live);
+        nodes = out;
+    }
+
+    private void walk(ChampIntMap.Node node, int parentId, int depth, int slot, Set<ChampIntMap.Node> before,
+                      List<NodeInfo> out, boolean compare) {
+        int id = ids.computeIfAbsent(node, n -> nextId++);
+        boolean copied = compare && !before.contains(node);
+        if (copied) {
+            copiedNodes++;
+            copiedBytes += node.bytes();
+        } else {
+            sharedNodes++;
+            sharedBytes += node.bytes();
+        }
+        int[] keys = new int[node.dataArity()];
+        int[] values = new int[node.dataArity()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = node.key(i);
+            values[i] = node.value(i);
+        }
+        out.add(new NodeInfo(id, parentId, depth, slot, node.dataMap(), node.nodeMap(), keys, values, copied, node.bytes()));
+        int childIndex = 0;
+        for (int s = 0; s < ChampIntMap.FANOUT; s++) {
+            if ((node.nodeMap() & (1 << s)) == 0) continue;
+            walk(node.child(childIndex++), id, depth + 1, s, before, out, compare);
+        }
+    }
+
+    private static void collect(ChampIntMap.Node node, Set<ChampIntMap.Node> into) {
+        if (!into.add(node)) return;
+        for (int i = 0; i < node.nodeArity(); i++) collect(node.child(i), into);
+    }
+
+    public synchronized void update(double deltaTime) {
+        if (justCopied && System.currentTimeMillis() - changeTime > FADE_MILLIS) {
+            justCopied = false;
+        }
+    }
+
+    // ── Getters ──────────────────────────────────────────────────
+
+    public synchronized List<NodeInfo> getNodes() { return nodes; }
+    public synchronized boolean isOnLookupPath(int id) { return lookup && lookupPath.contains(id); }
+    public synchronized boolean isLookup() { return lookup; }
+    public synchronized int getLastKey() { return lastKey; }
+    public synchronized long getChangeTime() { return changeTime; }
+    public synchronized boolean wasJustCopied() { return justCopied; }
+    public synchronized int getSize() { return current().size(); }
+    public synchronized int getDepth() { return current().depth(); }
+    public synchronized int getNodeCount() { return nodes.size(); }
+    public synchronized int getCopiedNodes() { return copiedNodes; }
+    public synchronized long getCopiedBytes() { return copiedBytes; }
+    public synchronized int getSharedNodes() { return sharedNodes; }
+    public synchronized long getSharedBytes() { return sharedBytes; }
+    public synchronized List<VersionInfo> getVersions() { return new ArrayList<>(versionInfos); }
+    public synchronized int getVersionNumber() { return versionInfos.get(versionInfos.size() - 1).number(); }
+    public synchronized boolean containsKey(int key) { return current().containsKey(key); }
+    public int getOperationsCount() { return operationsCount; }
+    public synchronized String getLastOperation() { return lastOperation; }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int n = current().size();
+        long totalUsed = current().memoryBytes();
+        Set<ChampIntMap.Node> all = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ChampIntMap version : versions) collect(version.root(), all);
+        long allVersions = 24L * versions.size();
+        for (ChampIntMap.Node node : all) allVersions += node.bytes();
+        long hashMapPerVersion = 0;
+        long copyOfPerVersion = 0;
+        for (ChampIntMap version : versions) {
+            hashMapPerVersion += hashMapBytes(version.size());
+            copyOfPerVersion += copyOfBytes(version.size());
+        }
+        return new MemoryInfo(totalUsed, allVersions, hashMapBytes(n), copyOfBytes(n),
+                hashMapPerVersion, copyOfPerVersion, versions.size(), n);
+    }
+
+    // HashMap: 48B header, 4B table slots at load 0.75, 32B node and two 16B boxes per entry
+    static long hashMapBytes(int n) {
+        int table = Integer.highestOneBit(Math.max(1, (int) (n / 0.75f)) * 2 - 1);
+        return 48 + 16 + 4L * Math.max(16, table) + n * (32L + 16 + 16);
+    }
+
+    // Map.copyOf (MapN): keys and values interleaved in one Object[] of 4n slots, no nodes
+    static long copyOfBytes(int n) {
+        return 24 + 16 + 4L * 4 * n + n * (16L + 16);
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long allVersions,
+            long hashMap,
+            long copyOf,
+            long hashMapVersions,
+            long copyOfVersions,
+            int versions,
+            int entries
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatAllVersions() { return formatBytes(allVersions); }
+        public String formatHashMap() { return formatBytes(hashMap); }
+        public String formatCopyOf() { return formatBytes(copyOf); }
+        public String formatHashMapVersions() { return formatBytes(hashMapVersions); }
+        public String formatCopyOfVersions() { return formatBytes(copyOfVersions); }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomKey(Random random) {
+        return random.nextInt(KEY_RANGE);
+    }
+}
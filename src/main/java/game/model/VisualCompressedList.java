@@ -0,0 +1,256 @@
+package game.model;
+
+import game.collections.CompressedSortedIntList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class VisualCompressedList {
+    // Small blocks so splits and the skip index show up after a few dozen values
+    public static final int BLOCK_SIZE = 16;
+    public static final int MAX_VALUES = 640;
+
+    private CompressedSortedIntList list = new CompressedSortedIntList(BLOCK_SIZE);
+    private final Random random = new Random();
+    private int operationsCount = 0;
+    private String lastOperation = "";
+    private boolean justSplit = false;
+    private long lastSplitTime = 0;
+    private int splitCount = 0;
+
+    // Last lookup: skip-index entries the binary search read, the block it settled on and
+    // how many values it decoded there
+    private final List<Integer> lastSearchPath = new ArrayList<>();
+    private int lastBlock = -1;
+    private int lastDecoded = 0;
+    private boolean lastFound = false;
+    private int lastValue = 0;
+    private long lastLookupTime = 0;
+
+    private int rangeFrom = 0;
+    private int rangeTo = 0;
+    private int rangeFirstBlock = -1;
+    private int rangeLastBlock = -1;
+    private long lastRangeTime = 0;
+
+    public synchronized boolean add(int value) {
+        if (list.size() >= MAX_VALUES) {
+            lastOperation = "ADD: view holds " + MAX_VALUES + " values";
+            return false;
+        }
+        int blocksBefore = list.blockCount();
+        boolean appended = list.isEmpty() || value > list.last();
+        boolean added = list.add(value);
+        operationsCount++;
+        if (!added) {
+            lastOperation = "ADD: " + value + " already present";
+            return false;
+        }
+        int block = Math.max(0, list.blockFor(value));
+        lastOperation = "ADD: " + value + (appended ? " appended to block " + block : " re-encoded block " + block);
+        if (!appended && list.blockCount() > blocksBefore) {
+            splitCount++;
+            justSplit = true;
+            lastSplitTime = System.currentTimeMillis();
+            lastOperation += ", SPLIT";
+        }
+        return true;
+    }
+
+    // spread is the largest gap between neighbouring values; bigger gaps need longer varints
+    public synchronized int addRandom(int count, int spread) {
+        int added = 0;
+        int base = list.isEmpty() ? random.nextInt(100) : list.last();
+        for (int i = 0; i < count && list.size() < MAX_VALUES; i++) {
+            base += 1 + random.nextInt(spread);
+            if (list.add(base)) added++;
+        }
+        operationsCount++;
+        lastOperation = "APPEND x" + added + ": gaps up to " + spread + ", now " + list.blockCount() + " blocks";
+        return added;
+    }
+
+    // Values scattered across the existing range: every one of them lands inside a block
+    public synchronized int insertRandom(int count) {
+        if (list.size() < 2) {
+            lastOperation = "INSERT: add a few values first";
+            return 0;
+        }
+        int blocksBefore = list.blockCount();
+        int added = 0;
+        int lo = list.first();
+        int hi = list.last();
+        for (int i = 0; i < count && list.size() < MAX_VALUES; i++) {
+            if (list.add(lo + random.nextInt(Math.max(1, hi - lo)))) added++;
+        }
+        operationsCount++;
+        int splits = list.blockCount() - blocksBefore;
+        lastOperation = "INSERT x" + added + " mid-list: " + splits + " block splits";
+        if (splits > 0) {
+            splitCount += splits;
+            justSplit = true;
+            lastSplitTime = System.currentTimeMillis();
+        }
+        return added;
+    }
+
+    public synchronized boolean contains(int value) {
+        lastSearchPath.clear();
+        int lo = 0;
+        int hi = list.blockCount() - 1;
+        int block = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            lastSearchPath.add(mid);
+            if (list.blockFirst(mid) <= value) {
+                block = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        lastBlock = block;
+        lastDecoded = 0;
+        lastFound = false;
+        if (block >= 0) {
+            for (int v : list.decodeBlock(block)) {
+                lastDecoded++;
+                if (v >= value) {
+                    lastFound = v == value;
+                    break;
+                }
+            }
+        }
+        lastValue = value;
+        lastLookupTime = System.currentTimeMillis();
+        operationsCount++;
+        lastOperation = "CONTAINS: " + value + " -> " + lastFound + " (" + lastSearchPath.size()
+                + " index reads, " + lastDecoded + " decoded" + (block >= 0 ? " in block " + block : "") + ")";
+        return lastFound;
+    }
+
+    public synchronized int range(int from, int to) {
+        int[] count = {0};
+        list.forEachInRange(from, to, v -> count[0]++);
+        rangeFrom = from;
+        rangeTo = to;
+        rangeFirstBlock = Math.max(0, list.blockFor(from));
+        rangeLastBlock = Math.max(0, list.blockFor(to - 1));
+        lastRangeTime = System.currentTimeMillis();
+        operationsCount++;
+        lastOperation = "RANGE [" + from + ", " + to + "): " + count[0] + " values from blocks "
+                + rangeFirstBlock + ".." + rangeLastBlock;
+        return count[0];
+    }
+
+    // Union with a random list of the given size over the same value range
+    public synchronized int mergeRandom(int count) {
+        int lo = list.isEmpty() ? 0 : list.first();
+        int hi = list.isEmpty() ? 500 : list.last() + 50;
+        int[] other = new int[count];
+        for (int i = 0; i < count; i++) other[i] = lo + random.nextInt(Math.max(1, hi - lo));
+        CompressedSortedIntList incoming = CompressedSortedIntList.of(other);
+        CompressedSortedIntList merged = list.merge(incoming);
+        if (merged.size() > MAX_VALUES) {
+            lastOperation = "MERGE: result would pass " + MAX_VALUES + " values";
+            return 0;
+        }
+        int before = list.size();
+        list = merged;
+        lastBlock = -1;
+        operationsCount++;
+        lastOperation = "MERGE: " + incoming.size() + " values in, " + (list.size() - before)
+                + " new, one linear pass, blocks packed full";
+        return list.size() - before;
+    }
+
+    public synchronized void clear() {
+        list.clear();
+        lastBlock = -1;
+        lastSearchPath.clear();
+        lastLookupTime = 0;
+        lastRangeTime = 0;
+        operationsCount++;
+        lastOperation = "CLEAR: skip index and data emptied";
+    }
+
+    public synchronized void update(double deltaTime) {
+        if (justSplit && System.currentTimeMillis() - lastSplitTime > 1500) {
+            justSplit = false;
+        }
+    }
+
+    public synchronized int getSize() { return list.size(); }
+    public synchronized int getBlockCount() { return list.blockCount(); }
+    public synchronized int getDataBytes() { return list.dataBytes(); }
+    public synchronized int getSplitCount() { return splitCount; }
+    public synchronized int getBlockFirst(int block) { return list.blockFirst(block); }
+    public synchronized int getBlockValueCount(int block) { return list.blockValueCount(block); }
+    public synchronized int getBlockOffset(int block) { return list.blockOffset(block); }
+    public synchronized int getBlockBytes(int block) { return list.blockBytes(block); }
+    public synchronized int[] decodeBlock(int block) { return list.decodeBlock(block); }
+    public synchronized byte getDataAt(int offset) { return list.dataAt(offset); }
+    public synchronized int getFirst() { return list.isEmpty() ? 0 : list.first(); }
+    public synchronized int getLast() { return list.isEmpty() ? 0 : list.last(); }
+    public int getOperationsCount() { return operationsCount; }
+    public boolean wasJustSplit() { return justSplit; }
+    public String getLastOperation() { return lastOperation; }
+
+    public synchronized List<Integer> getLastSearchPath() { return new ArrayList<>(lastSearchPath); }
+    public synchronized int getLastBlock() { return lastBlock; }
+    public synchronized int getLastDecoded() { return lastDecoded; }
+    public synchronized boolean wasLastFound() { return lastFound; }
+    public synchronized int getLastValue() { return lastValue; }
+    public synchronized long getLastLookupTime() { return lastLookupTime; }
+    public synchronized int getRangeFrom() { return rangeFrom; }
+    public synchronized int getRangeTo() { return rangeTo; }
+    public synchronized int getRangeFirstBlock() { return rangeFirstBlock; }
+    public synchronized int getRangeLastBlock() { return rangeLastBlock; }
+    public synchronized long getLastRangeTime() { return lastRangeTime; }
+
+    // Encoded bytes per delta: 1 up to 127, 2 up to 16383, ...
+    public synchronized double getAverageDeltaBytes() {
+        int deltas = list.size() - list.blockCount();
+        return deltas <= 0 ? 0 : (double) list.dataBytes() / deltas;
+    }
+
+    public synchronized double getBytesPerElement() {
+        return list.isEmpty() ? 0 : (double) getMemoryInfo().totalUsed() / list.size();
+    }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int n = list.size();
+        long totalUsed = list.memoryBytes();
+        long skipIndex = 12L * list.blockCount();
+        long data = list.dataBytes();
+        long slack = totalUsed - skipIndex - data;
+        // VisualTreeSet's estimate: TreeMap.Entry 40B plus a 16B Integer per element
+        long treeSet = 48 + 32 + (long) n * (40 + 16);
+        long sortedArray = 16 + 4L * n;
+        return new MemoryInfo(totalUsed, skipIndex, data, slack, treeSet, sortedArray);
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long skipIndex,
+            long data,
+            long slack,
+            long treeSet,
+            long sortedArray
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatTreeSet() { return formatBytes(treeSet); }
+        public String formatSortedArray() { return formatBytes(sortedArray); }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomValue(Random random) {
+        return random.nextInt(2000);
+    }
+}
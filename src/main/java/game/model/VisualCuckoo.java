@@ -0,0 +1,399 @@
+package game.model;
+
+import game.collections.CuckooIntIntMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// A CuckooIntIntMap small enough to draw both tables slot by slot. Each put keeps its
+// kick-out chain (and, when the walk gave up, the failed chain that forced the rehash);
+// each lookup keeps its two candidate slots. For comparison the same keys are also
+// bucketed the way VisualHashMap chains them, key % capacity over as many slots, and a
+// load test fills fresh fixed-size tables until the first insert fails.
+public class VisualCuckoo {
+    public static final int MAX_KEYS = 28;
+    // Past one half, kick-out chains start closing into cycles
+    public static final double[] MAX_LOAD_OPTIONS = {0.45, 0.60, 0.75, 0.90};
+    public static final int KEY_RANGE = 1000;
+    public static final int KICK_BUCKETS = 9;
+    public static final int LOAD_BUCKETS = 20;
+    public static final int LOAD_TEST_TRIALS = 200;
+    public static final long FLASH_MILLIS = 1500;
+
+    public enum LookupResult { NONE, FIRST_TABLE, SECOND_TABLE, ABSENT }
+
+    // One move of a kick-out chain: key now sits in slot of table
+    public record Move(int key, int slot, int table, int index) {}
+
+    private final Random random = new Random();
+    private CuckooIntIntMap map;
+
+    private int lastKey = -1;
+    private int lastSlot0 = -1;
+    private int lastSlot1 = -1;
+    private int lastFoundSlot = -1;
+    private LookupResult lastLookup = LookupResult.NONE;
+    private List<Move> lastChain = new ArrayList<>();
+    private List<Move> failedChain = new ArrayList<>();
+    private long chainTime = 0;
+    private final int[] kickHistogram = new int[KICK_BUCKETS];
+    private int cycles = 0;
+    private int[] loadTestHistogram = new int[LOAD_BUCKETS];
+    private int loadTestTableSize = 0;
+    private double loadTestAverage = 0;
+    private double loadTestMin = 0;
+
+    private boolean justRehashed = false;
+    private long lastRehashTime = 0;
+    private int operationsCount = 0;
+    private String lastOperation = "";
+
+    public VisualCuckoo() {
+        map = new CuckooIntIntMap(7, 0.45, Integer.MIN_VALUE);
+    }
+
+    // ── Operations ───────────────────────────────────────────────
+
+    public synchronized Integer put(int key, int value) {
+        if (map.size() >= MAX_KEYS && !map.containsKey(key)) {
+            lastOperation = "PUT: view holds " + MAX_KEYS + " keys";
+            return null;
+        }
+        int rehashesBefore = map.rehashCount();
+        int growsBefore = map.growCount();
+        int tableSizeBefore = map.tableSize();
+        int old = map.put(key, value);
+        boolean updated = old != Integer.MIN_VALUE;
+        operationsCount++;
+        lastKey = key;
+        lastLookup = LookupResult.NONE;
+        lastFoundSlot = map.lastSlot();
+        lastChain = moves(map.lastChain(), map.lastChainKeys(), map.tableSize());
+        // The walk that gave up ran in the tables as they were before the rehash
+        failedChain = moves(map.lastFailedChain(), map.lastFailedChainKeys(), tableSizeBefore);
+        chainTime = System.currentTimeMillis();
+        candidates(key);
+
+        if (updated) {
+            lastOperation = "PUT: " + key + " -> " + value + " (updated in " + slotName(map.lastSlot()) + ")";
+            return old;
+        }
+        if (!failedChain.isEmpty()) {
+            cycles++;
+            justRehashed = true;
+            lastRehashTime = System.currentTimeMillis();
+            int extra = map.rehashCount() - rehashesBefore - 1;
+            lastOperation = "PUT: " + key + " -> kick-out chain gave up after " + (failedChain.size()) + " moves: CYCLE, rehashed under new seeds"
+                    + (extra > 0 ? " (" + extra + " more failed)" : "")
+                    + (map.tableSize() != tableSizeBefore ? ", tables grew to " + map.tableSize() : "");
+            return null;
+        }
+        int kicks = lastChain.size() - 1;
+        kickHistogram[Math.min(KICK_BUCKETS - 1, Math.max(0, kicks))]++;
+        String where = kicks == 0 ? "free slot " + slotName(map.lastSlot())
+                : kicks + " kick" + (kicks == 1 ? "" : "s") + ", key now in " + slotName(map.lastSlot());
+        lastOperation = "PUT: " + key + " -> " + value + " (" + where + ")";
+        if (map.growCount() != growsBefore) {
+            lastOperation += ", GROW to 2 x " + map.tableSize();
+            justRehashed = true;
+            lastRehashTime = System.currentTimeMillis();
+        }
+        return null;
+    }
+
+    public synchronized Integer get(int key) {
+        int value = map.get(key);
+        afterLookup(key);
+        boolean found = value != Integer.MIN_VALUE;
+        lastOperation = "GET: " + key + " -> " + (found ? value : "null") + lookupSuffix();
+        return found ? value : null;
+    }
+
+    public synchronized boolean containsKey(int key) {
+        boolean found = map.containsKey(key);
+        afterLookup(key);
+        lastOperation = "CONTAINS KEY: " + key + " -> " + found + lookupSuffix();
+        return found;
+    }
+
+    public synchronized Integer remove(int key) {
+        int old = map.remove(key);
+        afterLookup(key);
+        boolean found = old != Integer.MIN_VALUE;
+        lastOperation = "REMOVE: " + key + (found ? " (" + slotName(map.lastSlot()) + " freed, nothing moves)" : " (not found)");
+        return found ? old : null;
+    }
+
+    public synchronized int putRandom(int count) {
+        int before = map.size();
+        int cyclesBefore = cycles;
+        for (int i = 0; i < count && map.size() < MAX_KEYS; i++) {
+            put(random.nextInt(KEY_RANGE), random.nextInt(KEY_RANGE));
+        }
+        int added = map.size() - before;
+        if (count > 1) {
+            lastOperation = "PUT x" + added + ": n = " + map.size() + String.format(", load %.0f%%", 100 * getCurrentLoad())
+                    + (cycles > cyclesBefore ? ", " + (cycles - cyclesBefore) + " cycle rehash(es)" : "");
+        }
+        return added;
+    }
+
+    // Keys that share one residue mod the table's slot count: all in one chain of a
+    // key % capacity table, scattered by cuckoo's seeded hashes
+    public synchronized int putColliding(int count) {
+        int slots = map.capacity();
+        int residue = random.nextInt(slots);
+        int before = map.size();
+        for (int i = 0; i < count * 4 && map.size() - before < count && map.size() < MAX_KEYS; i++) {
+            int key = residue + slots * random.nextInt(Math.max(1, (KEY_RANGE - residue) / slots));
+            if (!map.containsKey(key)) put(key, random.nextInt(KEY_RANGE));
+        }
+        int added = map.size() - before;
+        if (added > 0) {
+            lastOperation = "PUT x" + added + " keys = " + residue + " mod " + slots + ": longest chain in a chained table "
+                    + getChainedMaxChain() + ", cuckoo lookups still read at most 2 slots";
+        }
+        return added;
+    }
+
+    public synchronized void rehash() {
+        map.rehash();
+        lastChain = new ArrayList<>();
+        failedChain = new ArrayList<>();
+        lastLookup = LookupResult.NONE;
+        lastSlot0 = lastSlot1 = lastFoundSlot = -1;
+        operationsCount++;
+        justRehashed = true;
+        lastRehashTime = System.currentTimeMillis();
+        lastOperation = "REHASH: new seeds, all " + map.size() + " keys re-placed in 2 x " + map.tableSize() + " slots";
+    }
+
+    // Rebuilds the map with a new growth threshold and puts every entry back
+    public synchronized void configure(double maxLoad) {
+        CuckooIntIntMap old = map;
+        map = new CuckooIntIntMap(7, maxLoad, Integer.MIN_VALUE);
+        for (int slot = 0; slot < old.capacity(); slot++) {
+            if (old.isFull(slot)) map.put(old.keyAt(slot), old.valueAt(slot));
+        }
+        lastChain = new ArrayList<>();
+        failedChain = new ArrayList<>();
+        lastLookup = LookupResult.NONE;
+        lastSlot0 = lastSlot1 = lastFoundSlot = -1;
+        Arrays.fill(kickHistogram, 0);
+        cycles = 0;
+        operationsCount++;
+        lastOperation = String.format("CONFIGURE: grow at %.0f%% load, %d keys re-put into 2 x %d slots",
+                100 * maxLoad, map.size(), map.tableSize());
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        lastChain = new ArrayList<>();
+        failedChain = new ArrayList<>();
+        lastLookup = LookupResult.NONE;
+        lastSlot0 = lastSlot1 = lastFoundSlot = -1;
+        Arrays.fill(kickHistogram, 0);
+        cycles = 0;
+        operationsCount++;
+        lastOperation = "CLEAR: both tables emptied";
+    }
+
+    // Fills fresh tables of the current size with random keys, growth off, and records the
+    // load at which the first insert could not be placed without a rehash
+    public synchronized void runLoadTest() {
+        int tableSize = map.tableSize();
+        loadTestHistogram = new int[LOAD_BUCKETS];
+        loadTestTableSize = tableSize;
+        double total = 0;
+        double min = 1;
+        for (int trial = 0; trial < LOAD_TEST_TRIALS; trial++) {
+            CuckooIntIntMap fixed = new CuckooIntIntMap(2 * tableSize, 1.0);
+            while (true) {
+                int size = fixed.size();
+                int rehashes = fixed.rehashCount();
+                fixed.put(random.nextInt(), 0);
+                if (fixed.rehashCount() != rehashes || fixed.tableSize() != tableSize) {
+                    double load = (double) size / (2 * tableSize);
+                    loadTestHistogram[Math.min(LOAD_BUCKETS - 1, (int) (load * LOAD_BUCKETS))]++;
+                    total += load;
+                    min = Math.min(min, load);
+                    break;
+                }
+            }
+        }
+        loadTestAverage = total / LOAD_TEST_TRIALS;
+        loadTestMin = min;
+        operationsCount++;
+        lastOperation = String.format("LOAD TEST: %d fills of 2 x %d slots, first failed insert at %.0f%% load on average (earliest %.0f%%)",
+                LOAD_TEST_TRIALS, tableSize, 100 * loadTestAverage, 100 * loadTestMin);
+    }
+
+    private void afterLookup(int key) {
+        operationsCount++;
+        lastKey = key;
+        lastChain = new ArrayList<>();
+        failedChain = new ArrayList<>();
+        int slot = map.lastSlot();
+        lastFoundSlot = slot;
+        candidates(key);
+        lastLookup = slot < 0 ? LookupResult.ABSENT : map.tableOf(slot) == 0 ? LookupResult.FIRST_TABLE : LookupResult.SECOND_TABLE;
+    }
+
+    private void candidates(int key) {
+        lastSlot0 = map.slot0(key);
+        lastSlot1 = map.slot1(key);
+    }
+
+    private String lookupSuffix() {
+        return switch (lastLookup) {
+            case FIRST_TABLE -> " (1 slot read: T0[" + lastSlot0 + "])";
+            case SECOND_TABLE -> " (2 slots read: T0[" + lastSlot0 + "], T1[" + (lastSlot1 - map.tableSize()) + "])";
+            default -> " (2 slots read, both miss: done)";
+        };
+    }
+
+    private static List<Move> moves(int[] slots, int[] keys, int tableSize) {
+        List<Move> moves = new ArrayList<>();
+        for (int i = 0; i < slots.length; i++) {
+            int table = slots[i] < tableSize ? 0 : 1;
+            moves.add(new Move(keys[i], slots[i], table, slots[i] - table * tableSize));
+        }
+        return moves;
+    }
+
+    private String slotName(int slot) {
+        if (slot < 0) return "-";
+        int table = map.tableOf(slot);
+        return "T" + table + "[" + (slot - table * map.tableSize()) + "]";
+    }
+
+    public synchronized void update(double deltaTime) {
+        if (justRehashed && System.currentTimeMillis() - lastRehashTime > FLASH_MILLIS) {
+            justRehashed = false;
+        }
+    }
+
+    // ── Getters ──────────────────────────────────────────────────
+
+    public synchronized int getSize() { return map.size(); }
+    public synchronized int getTableSize() { return map.tableSize(); }
+    public synchronized int getCapacity() { return map.capacity(); }
+    public synchronized double getCurrentLoad() { return (double) map.size() / map.capacity(); }
+    public synchronized double getMaxLoad() { return map.maxLoad(); }
+    public synchronized int getMaxKicks() { return map.maxKicks(); }
+    public synchronized int getRehashCount() { return map.rehashCount(); }
+    public synchronized int getGrowCount() { return map.growCount(); }
+    public synchronized long getTotalKicks() { return map.totalKicks(); }
+    public synchronized int getLongestChain() { return map.longestChain(); }
+    public synchronized int getCycles() { return cycles; }
+    public synchronized boolean isFull(int slot) { return map.isFull(slot); }
+    public synchronized int getKeyAt(int slot) { return map.keyAt(slot); }
+    public synchronized int getValueAt(int slot) { return map.valueAt(slot); }
+    public synchronized int getAlternateSlot(int slot) { return map.alternateSlot(slot); }
+    public synchronized int getLastKey() { return lastKey; }
+    public synchronized int getLastSlot0() { return lastSlot0; }
+    public synchronized int getLastSlot1() { return lastSlot1; }
+    public synchronized int getLastFoundSlot() { return lastFoundSlot; }
+    public synchronized LookupResult getLastLookup() { return lastLookup; }
+    public synchronized List<Move> getLastChain() { return new ArrayList<>(lastChain); }
+    public synchronized List<Move> getFailedChain() { return new ArrayList<>(failedChain); }
+    public synchronized long getChainTime() { return chainTime; }
+    public synchronized int[] getKickHistogram() { return kickHistogram.clone(); }
+    public synchronized int[] getLoadTestHistogram() { return loadTestHistogram.clone(); }
+    public synchronized int getLoadTestTableSize() { return loadTestTableSize; }
+    public synchronized double getLoadTestAverage() { return loadTestAverage; }
+    public synchronized double getLoadTestMin() { return loadTestMin; }
+    public boolean wasJustRehashed() { return justRehashed; }
+    public int getOperationsCount() { return operationsCount; }
+    public synchronized String getLastOperation() { return lastOperation; }
+
+    // Share of keys in table 1, which a hit reaches only on its second read
+    public synchronized double getSecondTableShare() {
+        if (map.size() == 0) return 0;
+        int count = 0;
+        for (int slot = map.tableSize(); slot < map.capacity(); slot++) {
+            if (map.isFull(slot)) count++;
+        }
+        return (double) count / map.size();
+    }
+
+    // The same keys chained the way VisualHashMap does it: key % capacity, same slot count
+    public synchronized int[] getChainLengths() {
+        int[] chains = new int[map.capacity()];
+        for (int slot = 0; slot < map.capacity(); slot++) {
+            if (map.isFull(slot)) chains[(map.keyAt(slot) & 0x7FFFFFFF) % chains.length]++;
+        }
+        return chains;
+    }
+
+    public synchronized int getChainedMaxChain() {
+        int max = 0;
+        for (int c : getChainLengths()) max = Math.max(max, c);
+        return max;
+    }
+
+    // Entries a successful chained lookup walks, averaged over all keys
+    public synchronized double getChainedAverageHit() {
+        if (map.size() == 0) return 0;
+        long total = 0;
+        for (int c : getChainLengths()) total += (long) c * (c + 1) / 2;
+        return (double) total / map.size();
+    }
+
+    public synchronized double getCuckooAverageHit() {
+        return map.size() == 0 ? 0 : 1 + getSecondTableShare();
+    }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int capacity = map.capacity();
+        long mapOverhead = 80;
+        long keysArray = 16 + 4L * capacity;
+        long valuesArray = 16 + 4L * capacity;
+        long fullArray = 16 + (long) capacity;
+        long chainBuffers = 2 * (16 + 4L * (map.maxKicks() + 2));
+        long totalUsed = mapOverhead + keysArray + valuesArray + fullArray + chainBuffers;
+
+        int n = map.size();
+        int table = 16;
+        while (table * 0.75 < n) table <<= 1;
+        long boxedHashMap = 48 + 16 + (long) table * 4 + (long) n * (32 + 16 + 16);
+
+        return new MemoryInfo(totalUsed, mapOverhead, keysArray, valuesArray, fullArray, chainBuffers, boxedHashMap, n, capacity);
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long mapOverhead,
+            long keysArray,
+            long valuesArray,
+            long fullArray,
+            long chainBuffers,
+            long boxedHashMap,
+            int entries,
+            int capacity
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatBoxedHashMap() { return formatBytes(boxedHashMap); }
+
+        public double bytesPerEntry() { return entries == 0 ? 0 : (double) totalUsed / entries; }
+
+        // Slot bytes that hold no entry: the price of keeping both tables under half full
+        public long emptySlotBytes() { return (long) (capacity - entries) * 9; }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomKey(Random random) {
+        return random.nextInt(KEY_RANGE);
+    }
+
+    public static int generateRandomValue(Random random) {
+        return random.nextInt(KEY_RANGE);
+    }
+}
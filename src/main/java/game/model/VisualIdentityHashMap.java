@@ -0,0 +1,354 @@
+package game.model;
+
+import game.collections.IdentityProbeTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// An IdentityProbeTable keyed by graph nodes, the way a traversal cache keys its visited
+// map. Nodes compare equal by id, as a record would, but the table only ever asks ==, so
+// a second node with the same id (a twin) is a different key: put adds a new pair and a
+// lookup with an equal copy misses. Every lookup keeps the pairs it read, every remove the
+// keys closeDeletion moved back.
+//
+// Byte counts follow the JDK 17 layouts with compressed oops. The key and value objects are
+// left out on both sides, because the graph owns them either way: what is compared is the
+// map itself, its table, and HashMap's 32 B node per entry.
+public class VisualIdentityHashMap {
+    // 2/3 of 64 pairs: the view resizes once, from 32 pairs to 64, and stops there
+    public static final int MAX_KEYS = 42;
+    public static final int KEY_RANGE = 100;
+    public static final long FLASH_MILLIS = 1500;
+    public static final int HISTOGRAM_BUCKETS = 8;
+
+    public enum LastAction { NONE, HIT, MISS, INSERT, UPDATE, REMOVE }
+
+    // A graph node: equal to any node with the same id, but every instance its own key here
+    public static final class Node {
+        private final int id;
+        // 0 for the first node with this id, then 1, 2 ... for each twin
+        private final int copy;
+
+        Node(int id, int copy) {
+            this.id = id;
+            this.copy = copy;
+        }
+
+        public int getId() { return id; }
+        public int getCopy() { return copy; }
+        public String label() { return "n" + id + "'".repeat(copy); }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Node && ((Node) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(id);
+        }
+
+        @Override
+        public String toString() {
+            return label();
+        }
+    }
+
+    private final Random random = new Random();
+    private final IdentityProbeTable table = new IdentityProbeTable();
+    // Live keys in insertion order, so a node id can be turned back into the object itself
+    private final List<Node> nodes = new ArrayList<>();
+
+    private Node lastKey;
+    private LastAction lastAction = LastAction.NONE;
+    private List<Integer> lastPath = new ArrayList<>();
+    private int lastPair = -1;
+    private List<int[]> lastMoves = new ArrayList<>();
+    private long lookupTime = 0;
+    private long totalProbes = 0;
+    private int lookups = 0;
+    private int twins = 0;
+    private long movedTotal = 0;
+
+    private boolean justResized = false;
+    private long lastResizeTime = 0;
+    private int operationsCount = 0;
+    private String lastOperation = "";
+
+    // ── Operations ───────────────────────────────────────────────
+
+    // Puts under the node already in the map with this id, or a new node if there is none
+    public synchronized void put(int id, int value) {
+        Node node = find(id);
+        if (node == null && nodes.size() >= MAX_KEYS) {
+            lastOperation = "PUT: view holds " + MAX_KEYS + " keys";
+            return;
+        }
+        if (node == null) node = new Node(id, 0);
+        insert(node, value);
+    }
+
+    // A new node equal to the one in the map: a second key, not an update
+    public synchronized void putTwin(int id, int value) {
+        Node original = find(id);
+        if (original == null) {
+            put(id, value);
+            return;
+        }
+        if (nodes.size() >= MAX_KEYS) {
+            lastOperation = "PUT: view holds " + MAX_KEYS + " keys";
+            return;
+        }
+        int copy = 0;
+        for (Node n : nodes) if (n.id == id) copy = Math.max(copy, n.copy + 1);
+        Node twin = new Node(id, copy);
+        twins++;
+        int resizesBefore = table.resizes();
+        insert(twin, value);
+        lastOperation = "PUT TWIN: " + twin.label() + " equals() " + original.label() + " but is another object, so it gets"
+                + " its own pair " + lastPair + "; a HashMap would have replaced " + original.label() + "'s value"
+                + (table.resizes() != resizesBefore ? ", RESIZE to " + table.capacity() + " pairs" : "");
+    }
+
+    private void insert(Node node, int value) {
+        int resizesBefore = table.resizes();
+        int capacityBefore = table.capacity();
+        Object old = table.put(node, value);
+        operationsCount++;
+        trace(node);
+        lastMoves = new ArrayList<>();
+        if (old != null) {
+            lastAction = LastAction.UPDATE;
+            lastOperation = "PUT: " + node.label() + " -> " + value + " (same object, value slot " + (2 * lastPair + 1)
+                    + " overwritten, was " + old + ")";
+            return;
+        }
+        nodes.add(node);
+        lastAction = LastAction.INSERT;
+        int d = table.displacement(lastPair);
+        lastOperation = "PUT: " + node.label() + " -> " + value + " (home pair " + table.home(node) + ", "
+                + (d == 0 ? "free" : d + " taken, placed at pair " + lastPair) + "; key in slot " + 2 * lastPair
+                + ", value in slot " + (2 * lastPair + 1) + ")";
+        if (table.resizes() != resizesBefore) {
+            justResized = true;
+            lastResizeTime = System.currentTimeMillis();
+            lastOperation += ", RESIZE " + capacityBefore + " -> " + table.capacity() + " pairs, every key re-probed";
+        }
+    }
+
+    // Looks up the node object in the map with this id; with no such node the lookup is a miss
+    public synchronized Object get(int id) {
+        Node node = find(id);
+        Node key = node != null ? node : new Node(id, 0);
+        Object value = lookup(key);
+        lastOperation = "GET: " + key.label() + " -> " + (value == null ? "null" : value) + lookupSuffix();
+        return value;
+    }
+
+    // Looks up a fresh node equal to the one in the map: identity says it is not there
+    public synchronized Object getWithCopy(int id) {
+        Node copy = new Node(id, 0);
+        Object value = lookup(copy);
+        Node original = find(id);
+        lastOperation = "GET with an equal copy of n" + id + " -> " + (value == null ? "null" : value) + lookupSuffix()
+                + (original != null ? "; " + original.label() + " is in the map, but == says a copy is not it" : "");
+        return value;
+    }
+
+    public synchronized Object remove(int id) {
+        Node node = find(id);
+        operationsCount++;
+        if (node == null) {
+            lookup(new Node(id, 0));
+            lastOperation = "REMOVE: n" + id + " not found" + lookupSuffix();
+            return null;
+        }
+        trace(node);
+        int pair = lastPair;
+        Object old = table.remove(node);
+        // By identity: List.remove would take the first equal node, twins included
+        nodes.removeIf(n -> n == node);
+        lastKey = node;
+        lastAction = LastAction.REMOVE;
+        lastMoves = new ArrayList<>();
+        for (int[] move : table.lastMoves()) lastMoves.add(new int[]{move[0] / 2, move[1] / 2});
+        movedTotal += lastMoves.size();
+        lastOperation = "REMOVE: " + node.label() + " from pair " + pair + "; closeDeletion moved "
+                + lastMoves.size() + " key" + (lastMoves.size() == 1 ? "" : "s") + " back into the hole, no tombstone";
+        return old;
+    }
+
+    public synchronized int putRandom(int count) {
+        int before = nodes.size();
+        int resizesBefore = table.resizes();
+        for (int i = 0; i < count && nodes.size() < MAX_KEYS; i++) {
+            put(generateRandomKey(random), generateRandomValue(random));
+        }
+        int added = nodes.size() - before;
+        if (count > 1) {
+            lastOperation = "PUT x" + added + ": n = " + nodes.size() + " in " + table.capacity() + " pairs"
+                    + (table.resizes() > resizesBefore ? " (resized)" : "")
+                    + String.format(", a miss reads %.2f pairs on average", table.averageMissProbes());
+        }
+        return added;
+    }
+
+    public synchronized void clear() {
+        table.clear();
+        nodes.clear();
+        operationsCount++;
+        lastAction = LastAction.NONE;
+        lastPath = new ArrayList<>();
+        lastMoves = new ArrayList<>();
+        lastPair = -1;
+        lastOperation = "CLEAR: every slot nulled, the table keeps its " + table.length() + " slots";
+    }
+
+    private Node find(int id) {
+        for (Node n : nodes) if (n.id == id) return n;
+        return null;
+    }
+
+    // Records the pairs a probe for this key reads, home first
+    private int trace(Node key) {
+        lastKey = key;
+        lastPath = new ArrayList<>();
+        lookupTime = System.currentTimeMillis();
+        int slot = table.probe(key);
+        int home = table.home(key);
+        for (int i = 0; i < table.lastProbes(); i++) lastPath.add((home + i) % table.capacity());
+        lastPair = lastPath.get(lastPath.size() - 1);
+        return slot;
+    }
+
+    private Object lookup(Node key) {
+        operationsCount++;
+        int slot = trace(key);
+        lastMoves = new ArrayList<>();
+        totalProbes += lastPath.size();
+        lookups++;
+        lastAction = slot >= 0 ? LastAction.HIT : LastAction.MISS;
+        return slot >= 0 ? table.valueAt(lastPair) : null;
+    }
+
+    private String lookupSuffix() {
+        int reads = lastPath.size();
+        String suffix = " (home pair " + lastPath.get(0) + ", " + reads + " key slot" + (reads == 1 ? "" : "s") + " read";
+        return suffix + (lastAction == LastAction.HIT ? ", == at pair " + lastPair + ")" : ", null at pair " + lastPair + ")");
+    }
+
+    public synchronized void update(double deltaTime) {
+        if (justResized && System.currentTimeMillis() - lastResizeTime > FLASH_MILLIS) {
+            justResized = false;
+        }
+    }
+
+    // ── Getters ──────────────────────────────────────────────────
+
+    public synchronized int getSize() { return table.size(); }
+    public synchronized int getCapacity() { return table.capacity(); }
+    public synchronized int getLength() { return table.length(); }
+    public synchronized int getResizes() { return table.resizes(); }
+    public synchronized Node getKeyAt(int pair) { return (Node) table.keyAt(pair); }
+    public synchronized Object getValueAt(int pair) { return table.valueAt(pair); }
+    public synchronized int getDisplacement(int pair) { return table.displacement(pair); }
+    public synchronized Node getLastKey() { return lastKey; }
+    public synchronized LastAction getLastAction() { return lastAction; }
+    public synchronized List<Integer> getLastPath() { return new ArrayList<>(lastPath); }
+    public synchronized int getLastPair() { return lastPair; }
+    public synchronized List<int[]> getLastMoves() { return new ArrayList<>(lastMoves); }
+    public synchronized long getLookupTime() { return lookupTime; }
+    public synchronized int getTwins() { return twins; }
+    public synchronized long getMovedTotal() { return movedTotal; }
+    public synchronized double getAverageProbes() { return lookups == 0 ? 0 : (double) totalProbes / lookups; }
+    public synchronized int getLongestRun() { return table.longestRun(); }
+    public synchronized double getAverageHitProbes() { return table.averageHitProbes(); }
+    public synchronized double getAverageMissProbes() { return table.averageMissProbes(); }
+    public boolean hasJustResized() { return justResized; }
+    public int getOperationsCount() { return operationsCount; }
+    public synchronized String getLastOperation() { return lastOperation; }
+
+    // Size at which the next put doubles the table
+    public synchronized int getResizeAt() {
+        return table.length() / 3 + 1;
+    }
+
+    // Keys by how many pairs they sit past their home; the last bucket takes the rest
+    public synchronized int[] getDisplacementHistogram() {
+        int[] histogram = new int[HISTOGRAM_BUCKETS];
+        for (int p = 0; p < table.capacity(); p++) {
+            if (!table.isEmpty(p)) histogram[Math.min(HISTOGRAM_BUCKETS - 1, table.displacement(p))]++;
+        }
+        return histogram;
+    }
+
+    // ── Bytes for n entries, keys and values not counted ─────────
+
+    static long arrayBytes(int length) {
+        return (16 + 4L * length + 7) & ~7;
+    }
+
+    // 40 B object (table, size, modCount, three view fields); the table starts at 32 pairs
+    // and doubles once 3 * size passes its length
+    public static long identityHashMapBytes(int n) {
+        int pairs = 32;
+        while (3L * n > 2L * pairs) pairs <<= 1;
+        return 40 + arrayBytes(2 * pairs);
+    }
+
+    // 48 B object; the table (16 slots at least, load 0.75) only exists after the first put;
+    // a 32 B node per entry
+    public static long hashMapBytes(int n) {
+        return 48 + (n == 0 ? 0 : arrayBytes(hashMapTableLength(n))) + 32L * n;
+    }
+
+    static int hashMapTableLength(int n) {
+        int table = 16;
+        while (n > table * 0.75) table <<= 1;
+        return table;
+    }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int n = table.size();
+        long tableBytes = arrayBytes(table.length());
+        long hashTable = n == 0 ? 0 : arrayBytes(hashMapTableLength(n));
+        return new MemoryInfo(40 + tableBytes, 40, tableBytes, 8L * (table.capacity() - n),
+                hashMapBytes(n), 48, hashTable, 32L * n, n, table.capacity(), n == 0 ? 0 : hashMapTableLength(n));
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long objectBytes,
+            long tableBytes,
+            long emptyPairBytes,
+            long hashMapTotal,
+            long hashMapObject,
+            long hashMapTable,
+            long hashMapNodes,
+            int entries,
+            int pairs,
+            int hashMapBuckets
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatHashMapTotal() { return formatBytes(hashMapTotal); }
+
+        public double bytesPerEntry() { return entries == 0 ? 0 : (double) totalUsed / entries; }
+        public double hashMapBytesPerEntry() { return entries == 0 ? 0 : (double) hashMapTotal / entries; }
+        public double savedPercent() { return hashMapTotal == 0 ? 0 : 100.0 * (hashMapTotal - totalUsed) / hashMapTotal; }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomKey(Random random) {
+        return random.nextInt(KEY_RANGE);
+    }
+
+    public static int generateRandomValue(Random random) {
+        return random.nextInt(1000);
+    }
+}
@@ -0,0 +1,427 @@
+package game.model;
+
+import game.collections.ImmutableProbeTable;
+
+import java.util.*;
+
+// Set.of and Map.of drawn slot for slot. The collections cannot change, so every add or
+// remove here builds a new one from the keys in insertion order, the way code using them
+// has to: the real instance for its iteration order, and an ImmutableProbeTable with the
+// same layout to draw and to trace lookups through. Below three elements (Set12) or two
+// entries (Map1) the JDK keeps fields instead of a table, and the view says so.
+//
+// The iteration order is the real one from this JVM; the start bucket and direction the
+// SALT chose are found by replaying the table walk until it matches. Byte counts follow the
+// JDK 17 layouts with compressed oops, boxes included (keys outside the Integer cache), and
+// compare against a HashSet or HashMap filled by add or put.
+public class VisualImmutableCollection {
+    public static final int MAX_KEYS = 32;
+    public static final int KEY_RANGE = 1000;
+    public static final long FLASH_MILLIS = 1500;
+    public static final int HISTOGRAM_BUCKETS = 8;
+
+    public enum Kind { SET, MAP }
+    public enum LastAction { NONE, HIT, MISS, REBUILD, REJECTED }
+
+    private final Random random = new Random();
+    private final List<Integer> keys = new ArrayList<>();
+    private final List<Integer> values = new ArrayList<>();
+    private Kind kind = Kind.SET;
+
+    // Null below the SetN/MapN sizes
+    private ImmutableProbeTable table;
+    private List<Integer> realOrder = new ArrayList<>();
+    private int[] iterationRank = new int[0];
+    private int iterationStart = -1;
+    private boolean ascending = true;
+    private boolean orderMatches = true;
+
+    private int lastKey = -1;
+    private LastAction lastAction = LastAction.NONE;
+    private List<Integer> lastPath = new ArrayList<>();
+    private int lastBucket = -1;
+    private long lookupTime = 0;
+    private long totalProbes = 0;
+    private int lookups = 0;
+    private int rebuilds = 0;
+    private long copied = 0;
+
+    private boolean justRebuilt = false;
+    private long lastRebuildTime = 0;
+    private int operationsCount = 0;
+    private String lastOperation = "";
+
+    // ── Operations ───────────────────────────────────────────────
+
+    public synchronized void add(int key, int value) {
+        int index = keys.indexOf(key);
+        operationsCount++;
+        if (index >= 0 && kind == Kind.SET) {
+            lastAction = LastAction.REJECTED;
+            lastKey = key;
+            lastPath = new ArrayList<>();
+            lastOperation = "ADD: " + key + " is already there; Set.of would throw IllegalArgumentException (duplicate element)";
+            return;
+        }
+        if (index >= 0) {
+            values.set(index, value);
+            rebuild();
+            lastKey = key;
+            lastOperation = "PUT: " + key + " -> " + value + " (a new Map.of of " + keys.size()
+                    + " entries; the key keeps its bucket, only the value slot differs)";
+            markKey(key);
+            return;
+        }
+        if (keys.size() >= MAX_KEYS) {
+            lastAction = LastAction.REJECTED;
+            lastOperation = (kind == Kind.SET ? "ADD" : "PUT") + ": view holds " + MAX_KEYS + " keys";
+            return;
+        }
+        keys.add(key);
+        values.add(value);
+        rebuild();
+        lastKey = key;
+        lastOperation = (kind == Kind.SET ? "ADD: " + key : "PUT: " + key + " -> " + value)
+                + " (copied all " + keys.size() + " into a new " + getLayout() + placement(key) + ")";
+        markKey(key);
+    }
+
+    public synchronized boolean contains(int key) {
+        boolean found = lookup(key);
+        lastOperation = (kind == Kind.SET ? "CONTAINS: " : "CONTAINS KEY: ") + key + " -> " + found + lookupSuffix();
+        return found;
+    }
+
+    public synchronized Integer get(int key) {
+        boolean found = lookup(key);
+        Integer value = found ? values.get(keys.indexOf(key)) : null;
+        lastOperation = "GET: " + key + " -> " + (value == null ? "null" : value) + lookupSuffix();
+        return value;
+    }
+
+    public synchronized void remove(int key) {
+        int index = keys.indexOf(key);
+        operationsCount++;
+        if (index < 0) {
+            lookup(key);
+            lastOperation = "REMOVE: " + key + " not found" + lookupSuffix() + ", nothing to copy";
+            return;
+        }
+        keys.remove(index);
+        values.remove(index);
+        rebuild();
+        lastKey = key;
+        lastAction = LastAction.REBUILD;
+        lastPath = new ArrayList<>();
+        lastBucket = -1;
+        lastOperation = "REMOVE: " + key + " (no tombstones: the other " + keys.size() + " were copied into a new "
+                + getLayout() + (table != null ? ", table " + table.slots() + " slots" : "") + ")";
+    }
+
+    public synchronized int fillRandom(int count) {
+        int before = keys.size();
+        for (int i = 0; i < count && keys.size() < MAX_KEYS; i++) {
+            int key = random.nextInt(KEY_RANGE);
+            if (!keys.contains(key)) {
+                keys.add(key);
+                values.add(random.nextInt(KEY_RANGE));
+            }
+        }
+        return afterFill("FILL RANDOM", before);
+    }
+
+    // The next small integers: Integer.hashCode is the value itself, so they take
+    // consecutive buckets and build one long run
+    public synchronized int fillSequential(int count) {
+        int before = keys.size();
+        int next = 0;
+        for (int i = 0; i < count && keys.size() < MAX_KEYS; i++) {
+            while (keys.contains(next)) next++;
+            keys.add(next);
+            values.add(random.nextInt(KEY_RANGE));
+        }
+        return afterFill("FILL SEQUENTIAL", before);
+    }
+
+    // Keys that all share one home bucket in the table they will end up in
+    public synchronized int fillClustered(int count) {
+        int before = keys.size();
+        int buckets = 2 * Math.min(MAX_KEYS, before + count);
+        int home = random.nextInt(buckets);
+        for (int key = home; keys.size() < MAX_KEYS && keys.size() - before < count; key += buckets) {
+            if (!keys.contains(key)) {
+                keys.add(key);
+                values.add(random.nextInt(KEY_RANGE));
+            }
+        }
+        int added = afterFill("FILL CLUSTERED", before);
+        if (added > 0) lastOperation += ", " + added + " keys = " + home + " mod " + buckets;
+        return added;
+    }
+
+    private int afterFill(String label, int before) {
+        int added = keys.size() - before;
+        operationsCount++;
+        if (added > 0) rebuild();
+        lastAction = LastAction.REBUILD;
+        lastPath = new ArrayList<>();
+        lastBucket = -1;
+        lastOperation = label + ": +" + added + ", rebuilt as " + getLayout() + " of " + keys.size()
+                + (table != null ? String.format(", longest run %d, miss reads %.2f buckets on average",
+                        table.longestRun(), table.averageMissProbes()) : "");
+        return added;
+    }
+
+    public synchronized void setKind(Kind kind) {
+        if (this.kind == kind) return;
+        this.kind = kind;
+        operationsCount++;
+        rebuild();
+        lastAction = LastAction.REBUILD;
+        lastPath = new ArrayList<>();
+        lastBucket = -1;
+        lastOperation = "MODE: " + (kind == Kind.SET ? "Set.of" : "Map.of") + ", the same keys rebuilt as " + getLayout()
+                + (table != null ? " (" + table.slots() + " slots)" : "");
+    }
+
+    public synchronized void clear() {
+        keys.clear();
+        values.clear();
+        operationsCount++;
+        rebuild();
+        lastAction = LastAction.NONE;
+        lastPath = new ArrayList<>();
+        lastBucket = -1;
+        lastOperation = "CLEAR: " + (kind == Kind.SET ? "Set.of()" : "Map.of()") + " is one shared instance, 0 B";
+    }
+
+    // Builds the real collection and its mirror, then reads the SALT's choice off the real order
+    private void rebuild() {
+        int n = keys.size();
+        Integer[] k = keys.toArray(new Integer[0]);
+        if (kind == Kind.SET) {
+            realOrder = new ArrayList<>(Set.of(k));
+            table = n >= 3 ? ImmutableProbeTable.setOf((Object[]) k) : null;
+        } else {
+            List<Map.Entry<Integer, Integer>> entries = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) entries.add(Map.entry(k[i], values.get(i)));
+            realOrder = new ArrayList<>(ImmutableProbeTable.jdkMapOf(entries).keySet());
+            table = n >= 2 ? ImmutableProbeTable.mapOf(k, values.toArray()) : null;
+        }
+        rebuilds++;
+        copied += n;
+        justRebuilt = true;
+        lastRebuildTime = System.currentTimeMillis();
+
+        iterationStart = -1;
+        orderMatches = true;
+        iterationRank = new int[table == null ? 0 : table.buckets()];
+        if (table == null) return;
+        Arrays.fill(iterationRank, -1);
+        int buckets = table.buckets();
+        int first = bucketOf(realOrder.get(0));
+        int before = (first - 1 + buckets) % buckets;
+        int after = (first + 1) % buckets;
+        if (table.iterationOrder(before, true).equals(realOrder)) {
+            iterationStart = before;
+            ascending = true;
+        } else if (table.iterationOrder(after, false).equals(realOrder)) {
+            iterationStart = after;
+            ascending = false;
+        } else {
+            orderMatches = false;
+        }
+        for (int i = 0; i < realOrder.size(); i++) {
+            iterationRank[bucketOf(realOrder.get(i))] = i;
+        }
+    }
+
+    private boolean lookup(int key) {
+        operationsCount++;
+        lastKey = key;
+        lastPath = new ArrayList<>();
+        lookupTime = System.currentTimeMillis();
+        boolean found;
+        if (table == null) {
+            found = keys.contains(key);
+            lastBucket = -1;
+        } else {
+            int buckets = table.buckets();
+            int home = table.home(key);
+            int slot = table.probe(key);
+            for (int i = 0; i < table.lastProbes(); i++) lastPath.add((home + i) % buckets);
+            found = slot >= 0;
+            lastBucket = lastPath.get(lastPath.size() - 1);
+            totalProbes += table.lastProbes();
+            lookups++;
+        }
+        lastAction = found ? LastAction.HIT : LastAction.MISS;
+        return found;
+    }
+
+    private void markKey(int key) {
+        lastAction = LastAction.REBUILD;
+        lastPath = new ArrayList<>();
+        lastBucket = table == null ? -1 : bucketOf(key);
+    }
+
+    // Bucket of a key known to be in the table
+    private int bucketOf(int key) {
+        return table.probe(key) / (table.isMap() ? 2 : 1);
+    }
+
+    private String placement(int key) {
+        if (table == null) return "";
+        int bucket = bucketOf(key);
+        int d = table.displacement(bucket);
+        return ", " + table.slots() + " slots; " + key + " lands in bucket " + bucket
+                + (d == 0 ? ", its home" : ", " + d + " past its taken home " + table.home(key));
+    }
+
+    private String lookupSuffix() {
+        if (table == null) {
+            int n = keys.size();
+            return " (" + getLayout() + ": " + (n == 0 ? "shared empty instance, no compare" : "compared with "
+                    + n + " field" + (n == 1 ? "" : "s")) + ")";
+        }
+        int probes = lastPath.size();
+        int home = lastPath.get(0);
+        if (lastAction == LastAction.HIT) {
+            return " (home " + home + ", found in bucket " + lastBucket + " after " + probes + " read" + (probes == 1 ? "" : "s") + ")";
+        }
+        return " (home " + home + ", " + probes + " read" + (probes == 1 ? "" : "s") + " until the empty bucket " + lastBucket + ")";
+    }
+
+    public synchronized void update(double deltaTime) {
+        if (justRebuilt && System.currentTimeMillis() - lastRebuildTime > FLASH_MILLIS) {
+            justRebuilt = false;
+        }
+    }
+
+    // ── Getters ──────────────────────────────────────────────────
+
+    public synchronized Kind getKind() { return kind; }
+    public synchronized int getSize() { return keys.size(); }
+    public synchronized boolean hasTable() { return table != null; }
+    public synchronized int getBuckets() { return table == null ? 0 : table.buckets(); }
+    public synchronized int getSlots() { return table == null ? 0 : table.slots(); }
+    public synchronized Integer getKeyAt(int bucket) { return (Integer) table.keyAt(bucket); }
+    public synchronized Integer getValueAt(int bucket) { return (Integer) table.valueAt(bucket); }
+    public synchronized int getHome(int bucket) { return table.home(table.keyAt(bucket)); }
+    public synchronized int getDisplacement(int bucket) { return table.displacement(bucket); }
+    public synchronized int getIterationRank(int bucket) { return iterationRank[bucket]; }
+    public synchronized int getIterationStart() { return iterationStart; }
+    public synchronized boolean isAscending() { return ascending; }
+    public synchronized boolean isOrderMatched() { return orderMatches; }
+    public synchronized List<Integer> getRealOrder() { return new ArrayList<>(realOrder); }
+    public synchronized List<Integer> getKeys() { return new ArrayList<>(keys); }
+    public synchronized List<Integer> getValues() { return new ArrayList<>(values); }
+    public synchronized int getLastKey() { return lastKey; }
+    public synchronized LastAction getLastAction() { return lastAction; }
+    public synchronized List<Integer> getLastPath() { return new ArrayList<>(lastPath); }
+    public synchronized int getLastBucket() { return lastBucket; }
+    public synchronized long getLookupTime() { return lookupTime; }
+    public synchronized int getRebuilds() { return rebuilds; }
+    public synchronized long getCopied() { return copied; }
+    public synchronized double getAverageProbes() { return lookups == 0 ? 0 : (double) totalProbes / lookups; }
+    public synchronized int getLongestRun() { return table == null ? 0 : table.longestRun(); }
+    public synchronized double getAverageHitProbes() { return table == null ? 0 : table.averageHitProbes(); }
+    public synchronized double getAverageMissProbes() { return table == null ? 0 : table.averageMissProbes(); }
+    public boolean hasJustRebuilt() { return justRebuilt; }
+    public int getOperationsCount() { return operationsCount; }
+    public synchronized String getLastOperation() { return lastOperation; }
+
+    public synchronized String getLayout() {
+        int n = keys.size();
+        if (kind == Kind.SET) return n == 0 ? "EMPTY_SET" : n <= 2 ? "Set12" : "SetN";
+        return n == 0 ? "EMPTY_MAP" : n == 1 ? "Map1" : "MapN";
+    }
+
+    // Keys by how many buckets they sit past their home; the last bucket takes the rest
+    public synchronized int[] getDisplacementHistogram() {
+        int[] histogram = new int[HISTOGRAM_BUCKETS];
+        if (table == null) return histogram;
+        for (int b = 0; b < table.buckets(); b++) {
+            if (!table.isEmpty(b)) histogram[Math.min(HISTOGRAM_BUCKETS - 1, table.displacement(b))]++;
+        }
+        return histogram;
+    }
+
+    // ── Bytes for n elements ─────────────────────────────────────
+
+    static long arrayBytes(int length) {
+        return (16 + 4L * length + 7) & ~7;
+    }
+
+    // Set.of() is shared; Set12 holds one or two fields; SetN an Object[] of 2n slots
+    public static long setOfBytes(int n) {
+        if (n == 0) return 0;
+        if (n <= 2) return 24 + 16L * n;
+        return 24 + arrayBytes(2 * n) + 16L * n;
+    }
+
+    // The HashSet and its HashMap; the table only exists after the first add; a node and a
+    // box per element, every value the shared PRESENT object
+    public static long hashSetBytes(int n) {
+        return 16 + 48 + (n == 0 ? 0 : arrayBytes(hashTableLength(n))) + 48L * n;
+    }
+
+    static int hashTableLength(int n) {
+        int table = 16;
+        while (n > table * 0.75) table <<= 1;
+        return table;
+    }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int n = keys.size();
+        boolean set = kind == Kind.SET;
+        int boxesPerEntry = set ? 1 : 2;
+        long object = n == 0 ? 0 : set ? 24 : 32;
+        long tableBytes = table == null ? 0 : arrayBytes(table.slots());
+        long boxes = 16L * boxesPerEntry * n;
+        long total = set ? setOfBytes(n) : VisualSortedArrayMap.mapOfBytes(n);
+        long hashObjects = set ? 16 + 48 : 48;
+        long hashTable = n == 0 ? 0 : arrayBytes(hashTableLength(n));
+        long hashTotal = set ? hashSetBytes(n) : VisualSortedArrayMap.hashMapBytes(n);
+        return new MemoryInfo(set, getLayout(), total, object, tableBytes, boxes, hashTotal, hashObjects, hashTable,
+                32L * n, boxes, n, table == null ? 0 : table.slots());
+    }
+
+    public record MemoryInfo(
+            boolean set,
+            String layout,
+            long totalUsed,
+            long objectBytes,
+            long tableBytes,
+            long boxBytes,
+            long hashTotal,
+            long hashObjects,
+            long hashTable,
+            long hashNodes,
+            long hashBoxes,
+            int entries,
+            int slots
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatHashTotal() { return formatBytes(hashTotal); }
+        public String hashName() { return set ? "HashSet" : "HashMap"; }
+
+        public double bytesPerEntry() { return entries == 0 ? 0 : (double) totalUsed / entries; }
+        public double hashBytesPerEntry() { return entries == 0 ? 0 : (double) hashTotal / entries; }
+        public double savedPercent() { return hashTotal == 0 ? 0 : 100.0 * (hashTotal - totalUsed) / hashTotal; }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomKey(Random random) {
+        return random.nextInt(KEY_RANGE);
+    }
+
+    public static int generateRandomValue(Random random) {
+        return random.nextInt(KEY_RANGE);
+    }
+}
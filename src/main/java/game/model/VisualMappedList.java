@@ -0,0 +1,306 @@
+package game.model;
+
+import game.collections.MappedRecordList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Random;
+
+public class VisualMappedList {
+    public static final int PAGE_BYTES = MappedRecordList.PAGE_BYTES;
+    // Big records and small segments so a few thousand records already span many pages
+    public static final int RECORD_BYTES = 256;
+    public static final int RECORDS_PER_PAGE = PAGE_BYTES / RECORD_BYTES;
+    public static final int SEGMENT_BYTES = 16 * PAGE_BYTES;
+    public static final int MAX_PAGES = 256;
+    public static final int MAX_RECORDS = MAX_PAGES * RECORDS_PER_PAGE;
+    // Pages a sequential fault pulls in after the one that faulted, like kernel readahead
+    public static final int READAHEAD_PAGES = 3;
+    private static final double SCAN_RECORDS_PER_SECOND = 48;
+
+    public enum PageState { NOT_RESIDENT, RESIDENT, PREFETCHED }
+
+    private final Path file;
+    private MappedRecordList list;
+    private final Random random = new Random();
+
+    // Simulated physical memory: pages in LRU order, value = brought in by readahead and
+    // not touched since. The OS decides residency for real; this models a small budget
+    // so faults and evictions are visible on a file that would otherwise fit in RAM.
+    private final LinkedHashMap<Integer, Boolean> resident = new LinkedHashMap<>(16, 0.75f, true);
+    private int budgetPages = 16;
+    private final long[] lastFaultTime = new long[MAX_PAGES];
+    private final long[] lastHitTime = new long[MAX_PAGES];
+    private final boolean[] osResident = new boolean[MAX_PAGES];
+    private long osCheckTime = 0;
+    private int osResidentCount = 0;
+
+    private long faults = 0;
+    private long hits = 0;
+    private long evictions = 0;
+    private long readaheadPages = 0;
+    private int operationsCount = 0;
+    private String lastOperation = "";
+    private long lastAccessedRecord = -1;
+
+    private boolean scanning = false;
+    private double scanPosition = 0;
+    private long scanFaults = 0;
+    private long scanHits = 0;
+    private long scanSum = 0;
+
+    public VisualMappedList() {
+        try {
+            file = Files.createTempFile("visual-mapped-list", ".bin");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        file.toFile().deleteOnExit();
+        list = new MappedRecordList(file, RECORD_BYTES, SEGMENT_BYTES);
+    }
+
+    // Appends records whose field 0 is a random value and field 1 their index
+    public synchronized boolean append(int count) {
+        if (list.size() + count > MAX_RECORDS) {
+            lastOperation = "APPEND x" + count + ": would pass the " + MAX_RECORDS + "-record view limit";
+            return false;
+        }
+        long faultsBefore = faults;
+        long first = list.size();
+        int segmentsBefore = list.segmentCount();
+        for (int i = 0; i < count; i++) {
+            long index = list.add(random.nextInt(1000));
+            list.setLong(index, 1, index);
+            touch((int) list.pageOf(index), false);
+            lastAccessedRecord = index;
+        }
+        operationsCount++;
+        lastOperation = "APPEND x" + count + ": records " + first + ".." + (list.size() - 1)
+                + " (" + (faults - faultsBefore) + " faults)";
+        if (list.segmentCount() > segmentsBefore) {
+            lastOperation += ", mapped segment " + (list.segmentCount() - 1);
+        }
+        return true;
+    }
+
+    public synchronized Long get(long index) {
+        if (index < 0 || index >= list.size()) {
+            lastOperation = "GET [" + index + "]: out of bounds (size " + list.size() + ")";
+            return null;
+        }
+        int page = (int) list.pageOf(index);
+        boolean hit = touch(page, false);
+        long value = list.getLong(index, 0);
+        lastAccessedRecord = index;
+        operationsCount++;
+        lastOperation = "GET [" + index + "] -> " + value + " (page " + page + ": " + (hit ? "HIT" : "FAULT") + ")";
+        return value;
+    }
+
+    public synchronized void randomGets(int count) {
+        if (list.isEmpty()) {
+            lastOperation = "RANDOM GET: list is empty";
+            return;
+        }
+        long faultsBefore = faults;
+        for (int i = 0; i < count; i++) {
+            long index = (long) (random.nextDouble() * list.size());
+            touch((int) list.pageOf(index), false);
+            list.getLong(index, 0);
+            lastAccessedRecord = index;
+        }
+        operationsCount++;
+        lastOperation = "RANDOM GET x" + count + ": " + (faults - faultsBefore) + " faults, no readahead";
+    }
+
+    public synchronized void startScan() {
+        if (list.isEmpty()) {
+            lastOperation = "SCAN: list is empty";
+            return;
+        }
+        scanning = true;
+        scanPosition = 0;
+        scanFaults = 0;
+        scanHits = 0;
+        scanSum = 0;
+        operationsCount++;
+        lastOperation = "SCAN: started over " + list.size() + " records";
+    }
+
+    public synchronized void stopScan() {
+        if (!scanning) return;
+        scanning = false;
+        lastOperation = "SCAN: stopped at record " + (long) scanPosition;
+    }
+
+    public synchronized void setBudgetPages(int pages) {
+        budgetPages = pages;
+        int evicted = evictToBudget();
+        lastOperation = "BUDGET: " + pages + " pages (" + pages * PAGE_BYTES / 1024 + " KB)"
+                + (evicted > 0 ? ", evicted " + evicted : "");
+    }
+
+    // Memory pressure: everything leaves the simulated page cache, the file stays intact
+    public synchronized void evictAll() {
+        evictions += resident.size();
+        resident.clear();
+        operationsCount++;
+        lastOperation = "EVICT ALL: next access to any page faults";
+    }
+
+    // Real residency from the OS for every page in the file
+    public synchronized void checkOsResidency() {
+        osResidentCount = 0;
+        for (int page = 0; page < getPageCount(); page++) {
+            osResident[page] = list.isPageResident(page);
+            if (osResident[page]) osResidentCount++;
+        }
+        osCheckTime = System.currentTimeMillis();
+        lastOperation = "OS CHECK: " + osResidentCount + "/" + getPageCount() + " pages loaded (isLoaded)";
+    }
+
+    public synchronized void clear() {
+        list.close();
+        list = new MappedRecordList(file, RECORD_BYTES, SEGMENT_BYTES);
+        resident.clear();
+        scanning = false;
+        lastAccessedRecord = -1;
+        osCheckTime = 0;
+        faults = hits = evictions = readaheadPages = 0;
+        operationsCount++;
+        lastOperation = "CLEAR: file truncated, segments unmapped";
+    }
+
+    // Returns true on a hit. Sequential access faults pull the following pages in too.
+    private boolean touch(int page, boolean sequential) {
+        long now = System.currentTimeMillis();
+        Boolean prefetched = resident.get(page);
+        if (prefetched != null) {
+            if (prefetched) resident.put(page, false);
+            hits++;
+            lastHitTime[page] = now;
+            return true;
+        }
+        faults++;
+        lastFaultTime[page] = now;
+        resident.put(page, false);
+        if (sequential) {
+            int last = Math.min(getPageCount() - 1, page + READAHEAD_PAGES);
+            for (int next = page + 1; next <= last; next++) {
+                if (resident.containsKey(next)) continue;
+                resident.put(next, true);
+                readaheadPages++;
+            }
+        }
+        evictToBudget();
+        return false;
+    }
+
+    private int evictToBudget() {
+        int evicted = 0;
+        Iterator<Integer> it = resident.keySet().iterator();
+        while (resident.size() > budgetPages && it.hasNext()) {
+            it.next();
+            it.remove();
+            evicted++;
+        }
+        evictions += evicted;
+        return evicted;
+    }
+
+    public synchronized void update(double deltaTime) {
+        if (!scanning) return;
+        double target = Math.min(list.size(), scanPosition + SCAN_RECORDS_PER_SECOND * deltaTime);
+        for (long index = (long) Math.ceil(scanPosition); index < target; index++) {
+            if (touch((int) list.pageOf(index), true)) scanHits++;
+            else scanFaults++;
+            scanSum += list.getLong(index, 0);
+            lastAccessedRecord = index;
+        }
+        scanPosition = target;
+        if (scanPosition >= list.size()) {
+            scanning = false;
+            lastOperation = "SCAN: done, sum " + scanSum + ", " + scanFaults + " page faults, "
+                    + scanHits + " record hits";
+        }
+    }
+
+    public synchronized long getSize() { return list.size(); }
+    public synchronized int getPageCount() {
+        return (int) ((list.dataBytes() + PAGE_BYTES - 1) / PAGE_BYTES);
+    }
+    public synchronized int getMappedPageCount() { return (int) (list.mappedBytes() / PAGE_BYTES); }
+    public synchronized int getSegmentCount() { return list.segmentCount(); }
+    public synchronized int getResidentCount() { return resident.size(); }
+    public synchronized int getBudgetPages() { return budgetPages; }
+    public synchronized long getFaults() { return faults; }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getEvictions() { return evictions; }
+    public synchronized long getReadaheadPages() { return readaheadPages; }
+    public synchronized boolean isScanning() { return scanning; }
+    public synchronized long getScanPosition() { return (long) scanPosition; }
+    public synchronized long getLastAccessedRecord() { return lastAccessedRecord; }
+    public synchronized long getOsCheckTime() { return osCheckTime; }
+    public synchronized int getOsResidentCount() { return osResidentCount; }
+    public int getOperationsCount() { return operationsCount; }
+    public String getLastOperation() { return lastOperation; }
+    public Path getFile() { return file; }
+
+    public synchronized double getHitRatio() {
+        return hits + faults == 0 ? 0 : (double) hits / (hits + faults);
+    }
+
+    public synchronized PageState getPageState(int page) {
+        Boolean prefetched = resident.get(page);
+        if (prefetched == null) return PageState.NOT_RESIDENT;
+        return prefetched ? PageState.PREFETCHED : PageState.RESIDENT;
+    }
+
+    public synchronized long getLastFaultTime(int page) { return lastFaultTime[page]; }
+    public synchronized long getLastHitTime(int page) { return lastHitTime[page]; }
+    public synchronized boolean isOsResident(int page) { return osCheckTime != 0 && osResident[page]; }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        long n = list.size();
+        // List object, segment ArrayList, and a MappedByteBuffer plus FileDescriptor-backed
+        // channel; none of it grows with the record count
+        long heapBytes = 40 + 40 + 16 + (long) list.segmentCount() * (4 + 64) + 96;
+        long mappedBytes = list.mappedBytes();
+        long dataBytes = list.dataBytes();
+        long residentBytes = (long) resident.size() * PAGE_BYTES;
+
+        int table = 10;
+        while (table < n) table += table >> 1;
+        long arrayListBytes = 24 + 16 + (long) table * 4 + n * (16 + RECORD_BYTES);
+
+        return new MemoryInfo(heapBytes, mappedBytes, dataBytes, residentBytes, arrayListBytes);
+    }
+
+    public record MemoryInfo(
+            long heapBytes,
+            long mappedBytes,
+            long dataBytes,
+            long residentBytes,
+            long arrayListBytes
+    ) {
+        public String formatHeap() { return formatBytes(heapBytes); }
+        public String formatMapped() { return formatBytes(mappedBytes); }
+        public String formatData() { return formatBytes(dataBytes); }
+        public String formatResident() { return formatBytes(residentBytes); }
+        public String formatArrayList() { return formatBytes(arrayListBytes); }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomIndex(Random random, long size) {
+        return size == 0 ? 0 : random.nextInt((int) Math.min(Integer.MAX_VALUE, size));
+    }
+}
@@ -0,0 +1,189 @@
+package game.model;
+
+import game.collections.ProbingIntIntMap;
+import game.collections.ProbingIntIntMap.Mode;
+
+import java.util.Random;
+
+public class VisualOpenHashMap {
+    // Higher than HashMap's 0.75 so clustering and long probe runs show up on a small table
+    public static final double LOAD_FACTOR = 0.85;
+    public static final int HISTOGRAM_BUCKETS = 8;
+
+    private ProbingIntIntMap map;
+    private int operationsCount = 0;
+    private long totalProbes = 0;
+    private int probedOperations = 0;
+    private boolean justRehashed = false;
+    private long lastRehashTime = 0;
+    private String lastOperation = "";
+    private long lastProbeTime = 0;
+    private int knownRehashes = 0;
+    private int knownCleanups = 0;
+
+    public VisualOpenHashMap() {
+        map = new ProbingIntIntMap(Mode.LINEAR, 8, LOAD_FACTOR, Integer.MIN_VALUE);
+    }
+
+    public synchronized Integer put(int key, int value) {
+        int old = map.put(key, value);
+        boolean updated = old != Integer.MIN_VALUE;
+        afterProbe();
+        lastOperation = "PUT: " + key + " -> " + value + (updated ? " (updated)" : " (slot[" + map.lastSlot() + "])");
+        if (checkRehash()) {
+            lastOperation += ", " + (map.cleanupCount() > knownCleanups ? "CLEANUP" : "REHASH");
+        }
+        knownRehashes = map.rehashCount();
+        knownCleanups = map.cleanupCount();
+        return updated ? old : null;
+    }
+
+    public synchronized Integer get(int key) {
+        int value = map.get(key);
+        afterProbe();
+        boolean found = value != Integer.MIN_VALUE;
+        lastOperation = "GET: " + key + " -> " + (found ? value : "null") + probeSuffix();
+        return found ? value : null;
+    }
+
+    public synchronized boolean containsKey(int key) {
+        boolean found = map.containsKey(key);
+        afterProbe();
+        lastOperation = "CONTAINS KEY: " + key + " -> " + found + probeSuffix();
+        return found;
+    }
+
+    public synchronized Integer remove(int key) {
+        int old = map.remove(key);
+        afterProbe();
+        boolean found = old != Integer.MIN_VALUE;
+        lastOperation = "REMOVE: " + key + (found ? " (tombstone at [" + map.lastSlot() + "])" : " (not found)");
+        return found ? old : null;
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        operationsCount++;
+        lastOperation = "CLEAR: slots freed, tombstones dropped";
+    }
+
+    // Rebuilds the table in the other probing order with the same entries
+    public synchronized void setMode(Mode mode) {
+        if (mode == map.mode()) return;
+        ProbingIntIntMap rebuilt = new ProbingIntIntMap(mode, map.size(), LOAD_FACTOR, Integer.MIN_VALUE);
+        for (int i = 0; i < map.capacity(); i++) {
+            if (map.isFull(i)) rebuilt.put(map.keyAt(i), map.valueAt(i));
+        }
+        map = rebuilt;
+        knownRehashes = 0;
+        knownCleanups = 0;
+        totalProbes = 0;
+        probedOperations = 0;
+        lastProbeTime = 0;
+        operationsCount++;
+        lastOperation = "MODE: " + mode.getDisplayName() + " (rebuilt " + map.size() + " entries)";
+    }
+
+    private void afterProbe() {
+        operationsCount++;
+        probedOperations++;
+        totalProbes += map.lastProbeLength();
+        lastProbeTime = System.currentTimeMillis();
+    }
+
+    private String probeSuffix() {
+        int n = map.lastProbeLength();
+        return " (" + n + (n == 1 ? " probe)" : " probes)");
+    }
+
+    private boolean checkRehash() {
+        if (map.rehashCount() == knownRehashes && map.cleanupCount() == knownCleanups) return false;
+        justRehashed = true;
+        lastRehashTime = System.currentTimeMillis();
+        return true;
+    }
+
+    public synchronized void update(double deltaTime) {
+        if (justRehashed && System.currentTimeMillis() - lastRehashTime > 1500) {
+            justRehashed = false;
+        }
+    }
+
+    public synchronized int getSize() { return map.size(); }
+    public synchronized int getCapacity() { return map.capacity(); }
+    public synchronized int getTombstones() { return map.tombstones(); }
+    public synchronized Mode getMode() { return map.mode(); }
+    public synchronized double getCurrentLoad() { return (double) map.size() / map.capacity(); }
+    public synchronized double getTombstoneLoad() { return (double) map.tombstones() / map.capacity(); }
+    public synchronized int getRehashCount() { return map.rehashCount(); }
+    public synchronized int getCleanupCount() { return map.cleanupCount(); }
+    public synchronized int getMaxDisplacement() { return map.maxDisplacement(); }
+    public synchronized double getAverageProbeLength() { return map.averageProbeLength(); }
+    public synchronized int[] getDisplacementHistogram() { return map.displacementHistogram(HISTOGRAM_BUCKETS); }
+    public double getLoadFactor() { return LOAD_FACTOR; }
+    public int getOperationsCount() { return operationsCount; }
+    public boolean wasJustRehashed() { return justRehashed; }
+    public String getLastOperation() { return lastOperation; }
+
+    public synchronized double getAverageProbesPerOperation() {
+        return probedOperations == 0 ? 0 : (double) totalProbes / probedOperations;
+    }
+
+    public synchronized boolean isFull(int slot) { return map.isFull(slot); }
+    public synchronized boolean isTombstone(int slot) { return map.isTombstone(slot); }
+    public synchronized int getKeyAt(int slot) { return map.keyAt(slot); }
+    public synchronized int getValueAt(int slot) { return map.valueAt(slot); }
+    public synchronized int getDisplacement(int slot) { return map.displacement(slot); }
+    public synchronized int getHomeSlot(int key) { return map.homeSlot(key); }
+
+    // The last probe run, or an empty run once the table has been rebuilt
+    public synchronized int getLastProbeStart() { return map.lastProbeStart(); }
+    public synchronized int getLastProbeLength() { return lastProbeTime == 0 ? 0 : map.lastProbeLength(); }
+    public synchronized int getLastSlot() { return lastProbeTime == 0 ? -1 : map.lastSlot(); }
+    public synchronized long getLastProbeTime() { return lastProbeTime; }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int capacity = map.capacity();
+        long mapOverhead = 56;
+        long keysArray = 16 + (long) capacity * 4;
+        long valuesArray = 16 + (long) capacity * 4;
+        long statesArray = 16 + ((capacity + 7) / 8) * 8L;
+        long totalUsed = mapOverhead + keysArray + valuesArray + statesArray;
+
+        // HashMap<Integer,Integer> sized by its own 0.75 rule for the same entries
+        int n = map.size();
+        int table = 16;
+        while (table * 0.75 < n) table <<= 1;
+        long boxedHashMap = 48 + 16 + (long) table * 4 + (long) n * (32 + 16 + 16);
+
+        return new MemoryInfo(totalUsed, mapOverhead, keysArray, valuesArray, statesArray,
+                map.tombstones() * 9L, boxedHashMap);
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long mapOverhead,
+            long keysArray,
+            long valuesArray,
+            long statesArray,
+            long tombstoneBytes,
+            long boxedHashMap
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatBoxedHashMap() { return formatBytes(boxedHashMap); }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomKey(Random random) {
+        return random.nextInt(1000);
+    }
+
+    public static int generateRandomValue(Random random) {
+        return random.nextInt(1000);
+    }
+}
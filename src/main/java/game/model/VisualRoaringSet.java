@@ -0,0 +1,335 @@
+package game.model;
+
+import game.collections.RoaringIntSet;
+import game.collections.RoaringIntSet.ContainerType;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class VisualRoaringSet {
+    public static final int CHUNK_VALUES = 65536;
+    // The view covers values 0 .. CHUNKS * 65536 - 1, one row per chunk
+    public static final int CHUNKS = 8;
+    public static final int BUCKETS = 128;
+    public static final int BUCKET_VALUES = CHUNK_VALUES / BUCKETS;
+
+    private RoaringIntSet set = new RoaringIntSet();
+    private RoaringIntSet operand = new RoaringIntSet();
+    private final Random random = new Random();
+    private int operationsCount = 0;
+    private String lastOperation = "";
+
+    // Per chunk: the type it switched from and when, for the transition flash
+    private final ContainerType[] previousType = new ContainerType[CHUNKS];
+    private final long[] transitionTime = new long[CHUNKS];
+    private String lastTransition = "";
+
+    // Density per bucket of BUCKET_VALUES values, recomputed after every change
+    private final int[][] density = new int[CHUNKS][BUCKETS];
+    private final int[][] operandDensity = new int[CHUNKS][BUCKETS];
+
+    private int lastValue = -1;
+    private boolean lastFound = false;
+    private long lastLookupTime = 0;
+    private long lastAlgebraNanos = 0;
+    private String lastAlgebra = "";
+    private long lastAlgebraTime = 0;
+
+    public synchronized boolean add(int value) {
+        if (!inView(value)) {
+            lastOperation = "ADD: view shows 0.." + (CHUNKS * CHUNK_VALUES - 1);
+            return false;
+        }
+        ContainerType[] before = types();
+        boolean added = set.add(value);
+        operationsCount++;
+        lastOperation = "ADD: " + value + (added ? " -> chunk " + (value >>> 16) + ", low " + (value & 0xFFFF)
+                : " already present");
+        afterChange(before);
+        return added;
+    }
+
+    public synchronized boolean remove(int value) {
+        ContainerType[] before = types();
+        boolean removed = set.remove(value);
+        operationsCount++;
+        lastOperation = "REMOVE: " + value + (removed ? " removed" : " not present");
+        afterChange(before);
+        return removed;
+    }
+
+    public synchronized boolean contains(int value) {
+        lastValue = value;
+        lastFound = set.contains(value);
+        lastLookupTime = System.currentTimeMillis();
+        operationsCount++;
+        int chunk = value >>> 16;
+        int index = indexOf(chunk);
+        String how = index < 0 ? "no container for chunk " + chunk
+                : set.containerType(index) == ContainerType.ARRAY ? "binary search in array"
+                : set.containerType(index) == ContainerType.BITMAP ? "one bit test"
+                : "binary search over runs";
+        lastOperation = "CONTAINS: " + value + " -> " + lastFound + " (" + how + ")";
+        return lastFound;
+    }
+
+    // Scattered values in one chunk: an array until 4096, a bitmap after
+    public synchronized int addRandom(int chunk, int count) {
+        ContainerType[] before = types();
+        int added = 0;
+        for (int i = 0; i < count; i++) {
+            if (set.add((chunk << 16) | random.nextInt(CHUNK_VALUES))) added++;
+        }
+        operationsCount++;
+        lastOperation = "ADD x" + count + " random in chunk " + chunk + ": " + added + " new, "
+                + cardinalityOf(chunk) + " in chunk";
+        afterChange(before);
+        return added;
+    }
+
+    // Consecutive values from a random start: compresses to a handful of runs
+    public synchronized int addRun(int chunk, int length) {
+        ContainerType[] before = types();
+        int start = random.nextInt(CHUNK_VALUES - length);
+        int added = 0;
+        for (int low = start; low < start + length; low++) {
+            if (set.add((chunk << 16) | low)) added++;
+        }
+        operationsCount++;
+        lastOperation = "ADD RUN [" + start + ", " + (start + length) + ") in chunk " + chunk + ": " + added + " new";
+        afterChange(before);
+        return added;
+    }
+
+    // Removes random present values from one chunk
+    public synchronized int removeRandom(int chunk, int count) {
+        int index = indexOf(chunk);
+        if (index < 0) {
+            lastOperation = "THIN: chunk " + chunk + " is empty";
+            return 0;
+        }
+        ContainerType[] before = types();
+        int[] lows = new int[set.containerCardinality(index)];
+        int[] n = {0};
+        set.forEachLow(index, low -> lows[n[0]++] = low);
+        int removed = 0;
+        for (int i = 0; i < count && i < lows.length; i++) {
+            int pick = i + random.nextInt(lows.length - i);
+            int low = lows[pick];
+            lows[pick] = lows[i];
+            if (set.remove((chunk << 16) | low)) removed++;
+        }
+        operationsCount++;
+        lastOperation = "THIN x" + removed + " in chunk " + chunk + ": " + cardinalityOf(chunk) + " left";
+        afterChange(before);
+        return removed;
+    }
+
+    public synchronized int runOptimize() {
+        ContainerType[] before = types();
+        int changed = set.runOptimize();
+        operationsCount++;
+        lastOperation = "RUN OPTIMIZE: " + changed + " containers re-encoded to the smallest form";
+        afterChange(before);
+        return changed;
+    }
+
+    // Operand B: a dense run, a random sprinkle and a bitmap-sized chunk, in random chunks
+    public synchronized void newOperand() {
+        operand = new RoaringIntSet();
+        int runChunk = random.nextInt(CHUNKS);
+        int start = random.nextInt(CHUNK_VALUES - 20_000);
+        for (int low = start; low < start + 20_000; low++) operand.add((runChunk << 16) | low);
+        for (int i = 0; i < 2000; i++) operand.add(random.nextInt(CHUNKS * CHUNK_VALUES));
+        int denseChunk = random.nextInt(CHUNKS);
+        for (int i = 0; i < 12_000; i++) operand.add((denseChunk << 16) | random.nextInt(CHUNK_VALUES));
+        operand.runOptimize();
+        recomputeDensity(operand, operandDensity);
+        operationsCount++;
+        lastOperation = "NEW B: " + operand.size() + " values in " + operand.containerCount() + " containers";
+    }
+
+    public synchronized void union() {
+        ContainerType[] before = types();
+        int sizeBefore = set.size();
+        long start = System.nanoTime();
+        set = set.or(operand);
+        lastAlgebraNanos = System.nanoTime() - start;
+        lastAlgebra = "A OR B";
+        lastAlgebraTime = System.currentTimeMillis();
+        operationsCount++;
+        lastOperation = "UNION: " + sizeBefore + " OR " + operand.size() + " = " + set.size()
+                + " in " + lastAlgebraNanos / 1000 + " us, container by container";
+        afterChange(before);
+    }
+
+    public synchronized void intersect() {
+        ContainerType[] before = types();
+        int sizeBefore = set.size();
+        long start = System.nanoTime();
+        set = set.and(operand);
+        lastAlgebraNanos = System.nanoTime() - start;
+        lastAlgebra = "A AND B";
+        lastAlgebraTime = System.currentTimeMillis();
+        operationsCount++;
+        lastOperation = "INTERSECT: " + sizeBefore + " AND " + operand.size() + " = " + set.size()
+                + " in " + lastAlgebraNanos / 1000 + " us, shared chunks only";
+        afterChange(before);
+    }
+
+    public synchronized void clear() {
+        set.clear();
+        for (int c = 0; c < CHUNKS; c++) previousType[c] = null;
+        lastLookupTime = 0;
+        lastTransition = "";
+        recomputeDensity(set, density);
+        operationsCount++;
+        lastOperation = "CLEAR: all containers dropped";
+    }
+
+    public synchronized void update(double deltaTime) {
+        long now = System.currentTimeMillis();
+        for (int c = 0; c < CHUNKS; c++) {
+            if (previousType[c] != null && now - transitionTime[c] > 1500) previousType[c] = null;
+        }
+    }
+
+    private boolean inView(int value) {
+        return value >= 0 && value < CHUNKS * CHUNK_VALUES;
+    }
+
+    private ContainerType[] types() {
+        ContainerType[] types = new ContainerType[CHUNKS];
+        for (int c = 0; c < CHUNKS; c++) types[c] = typeOf(c);
+        return types;
+    }
+
+    // Notes every chunk whose container changed encoding, then refreshes the densities
+    private void afterChange(ContainerType[] before) {
+        long now = System.currentTimeMillis();
+        for (int c = 0; c < CHUNKS; c++) {
+            ContainerType after = typeOf(c);
+            if (before[c] != null && after != null && before[c] != after) {
+                previousType[c] = before[c];
+                transitionTime[c] = now;
+                lastTransition = "chunk " + c + ": " + before[c] + " -> " + after
+                        + " at " + cardinalityOf(c) + " values";
+            }
+        }
+        recomputeDensity(set, density);
+    }
+
+    private static void recomputeDensity(RoaringIntSet source, int[][] target) {
+        for (int[] row : target) Arrays.fill(row, 0);
+        for (int i = 0; i < source.containerCount(); i++) {
+            int chunk = source.containerKey(i);
+            if (chunk >= CHUNKS) continue;
+            int[] row = target[chunk];
+            source.forEachLow(i, low -> row[low / BUCKET_VALUES]++);
+        }
+    }
+
+    private int indexOf(int chunk) {
+        for (int i = 0; i < set.containerCount(); i++) {
+            if (set.containerKey(i) == chunk) return i;
+        }
+        return -1;
+    }
+
+    public synchronized ContainerType typeOf(int chunk) {
+        int i = indexOf(chunk);
+        return i < 0 ? null : set.containerType(i);
+    }
+
+    public synchronized int cardinalityOf(int chunk) {
+        int i = indexOf(chunk);
+        return i < 0 ? 0 : set.containerCardinality(i);
+    }
+
+    public synchronized int bytesOf(int chunk) {
+        int i = indexOf(chunk);
+        return i < 0 ? 0 : set.containerBytes(i);
+    }
+
+    public synchronized int runsOf(int chunk) {
+        int i = indexOf(chunk);
+        return i < 0 ? 0 : set.containerRuns(i);
+    }
+
+    public synchronized ContainerType operandTypeOf(int chunk) {
+        for (int i = 0; i < operand.containerCount(); i++) {
+            if (operand.containerKey(i) == chunk) return operand.containerType(i);
+        }
+        return null;
+    }
+
+    public synchronized int getDensity(int chunk, int bucket) { return density[chunk][bucket]; }
+    public synchronized int getOperandDensity(int chunk, int bucket) { return operandDensity[chunk][bucket]; }
+    public synchronized ContainerType getPreviousType(int chunk) { return previousType[chunk]; }
+    public synchronized int getSize() { return set.size(); }
+    public synchronized int getContainerCount() { return set.containerCount(); }
+    public synchronized int getOperandSize() { return operand.size(); }
+    public synchronized int getLastValue() { return lastValue; }
+    public synchronized boolean wasLastFound() { return lastFound; }
+    public synchronized long getLastLookupTime() { return lastLookupTime; }
+    public synchronized long getLastAlgebraNanos() { return lastAlgebraNanos; }
+    public synchronized String getLastAlgebra() { return lastAlgebra; }
+    public synchronized long getLastAlgebraTime() { return lastAlgebraTime; }
+    public synchronized String getLastTransition() { return lastTransition; }
+    public int getOperationsCount() { return operationsCount; }
+    public String getLastOperation() { return lastOperation; }
+
+    public synchronized boolean wasJustTransitioned() {
+        for (ContainerType t : previousType) if (t != null) return true;
+        return false;
+    }
+
+    public synchronized int countOf(ContainerType type) {
+        int n = 0;
+        for (int i = 0; i < set.containerCount(); i++) if (set.containerType(i) == type) n++;
+        return n;
+    }
+
+    public synchronized double getBytesPerElement() {
+        return set.isEmpty() ? 0 : (double) set.memoryBytes() / set.size();
+    }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int n = set.size();
+        long totalUsed = set.memoryBytes();
+        long payload = 0;
+        for (int i = 0; i < set.containerCount(); i++) payload += set.containerBytes(i);
+        long overhead = totalUsed - payload;
+        // HashSet<Integer>: HashMap plus table, then a 32B node and a 16B Integer per element
+        int table = 16;
+        while (table * 0.75 < n) table <<= 1;
+        long hashSet = 16 + 48 + 16 + 4L * table + n * 48L;
+        // TreeSet<Integer>: TreeMap, then a 40B entry and a 16B Integer per element
+        long treeSet = 48 + 32 + n * 56L;
+        return new MemoryInfo(totalUsed, payload, overhead, hashSet, treeSet);
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long payload,
+            long overhead,
+            long hashSet,
+            long treeSet
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatPayload() { return formatBytes(payload); }
+        public String formatOverhead() { return formatBytes(overhead); }
+        public String formatHashSet() { return formatBytes(hashSet); }
+        public String formatTreeSet() { return formatBytes(treeSet); }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomValue(Random random) {
+        return random.nextInt(CHUNKS * CHUNK_VALUES);
+    }
+}
@@ -0,0 +1,359 @@
+package game.model;
+
+import game.collections.LockFreeSkipListIntMap;
+import game.collections.LockFreeSkipListIntMap.CasKind;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Drives a LockFreeSkipListIntMap from real worker threads. Each worker pauses inside the
+// CAS window (after reading the expected link, before swapping it), so threads working
+// on neighbouring keys really do race, and the losers show up as failed CAS on the level
+// where they lost.
+public class VisualSkipList {
+    public static final int MAX_KEYS = 40;
+    public static final int KEY_RANGE = 100;
+    public static final int SHOWN_LEVELS = 8;
+    public static final int MAX_WORKERS = 6;
+    public static final int OPS_PER_WORKER = 8;
+    public static final long EVENT_MILLIS = 900;
+
+    public enum Mode { INSERT, DELETE, MIXED }
+
+    public enum Phase { IDLE, SEARCH, CAS, RETRY, DONE }
+
+    public static final class Worker {
+        public final int id;
+        public volatile Phase phase = Phase.IDLE;
+        public volatile String action = "";
+        public volatile int key = -1;
+        public volatile int level;
+        public volatile CasKind kind;
+        public volatile int retries;
+        public volatile int opsDone;
+        public volatile int opsTotal;
+
+        Worker(int id) {
+            this.id = id;
+        }
+    }
+
+    public record CasEvent(int worker, CasKind kind, int key, int level, boolean pending, boolean success, long time) {}
+
+    public record NodeView(int key, int value, int levels, boolean deleted) {}
+
+    private final LockFreeSkipListIntMap map = new LockFreeSkipListIntMap(-1);
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+    private final Random random = new Random();
+    private final List<CasEvent> events = new ArrayList<>();
+    private final List<Worker> workers = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean stopRequested = false;
+    private volatile int casDelayMillis = 120;
+
+    private int operationsCount = 0;
+    private String lastOperation = "";
+    private long runStart = 0;
+    private long runMillis = 0;
+    private int runOps = 0;
+    private long runCas = 0;
+    private long runFailures = 0;
+    private long casAtRunStart = 0;
+    private long failuresAtRunStart = 0;
+    private boolean justFinished = false;
+    private long finishTime = 0;
+
+    // Snapshot taken once per frame; the map itself keeps changing under the workers
+    private List<NodeView> nodes = new ArrayList<>();
+    private List<Set<Integer>> linked = new ArrayList<>();
+    private final Map<Integer, double[]> positions = new HashMap<>();
+
+    public VisualSkipList() {
+        map.setObserver(new LockFreeSkipListIntMap.CasObserver() {
+            @Override
+            public void beforeCas(CasKind kind, int key, int level) {
+                Worker worker = currentWorker.get();
+                recordEvent(worker, kind, key, level, true, false);
+                if (worker == null) return;
+                worker.phase = Phase.CAS;
+                worker.kind = kind;
+                worker.level = level;
+                pause(casDelayMillis);
+            }
+
+            @Override
+            public void afterCas(CasKind kind, int key, int level, boolean success) {
+                Worker worker = currentWorker.get();
+                recordEvent(worker, kind, key, level, false, success);
+                if (worker == null) return;
+                if (!success) {
+                    worker.retries++;
+                    worker.phase = Phase.RETRY;
+                } else {
+                    worker.phase = Phase.SEARCH;
+                }
+            }
+        });
+        snapshot();
+    }
+
+    // ── Single operations from the control panel ─────────────────
+
+    public synchronized boolean put(int key, int value) {
+        if (map.size() >= MAX_KEYS && !map.containsKey(key)) {
+            lastOperation = "PUT: view holds " + MAX_KEYS + " keys";
+            return false;
+        }
+        long before = map.totalCasAttempts();
+        int old = map.put(key, value);
+        operationsCount++;
+        lastOperation = "PUT: " + key + " -> " + value + (old != map.getMissingValue() ? " (value swapped in place, no link CAS)"
+                : " (" + (map.totalCasAttempts() - before) + " CAS: level 0 first, then up)");
+        return true;
+    }
+
+    public synchronized Integer get(int key) {
+        operationsCount++;
+        int value = map.get(key);
+        boolean found = value != map.getMissingValue() || map.containsKey(key);
+        lastOperation = "GET: " + key + (found ? " -> " + value : " -> not found") + " (no CAS, no locks)";
+        recordEvent(null, null, key, 0, false, found);
+        return found ? value : null;
+    }
+
+    public synchronized boolean remove(int key) {
+        long before = map.totalCasAttempts();
+        boolean present = map.containsKey(key);
+        map.remove(key);
+        operationsCount++;
+        lastOperation = present ? "REMOVE: " + key + " (" + (map.totalCasAttempts() - before)
+                + " CAS: mark top-down, then unlink)" : "REMOVE: " + key + " not found";
+        return present;
+    }
+
+    public synchronized int addRandom(int count) {
+        int added = 0;
+        for (int i = 0; i < count && map.size() < MAX_KEYS; i++) {
+            int key = random.nextInt(KEY_RANGE);
+            if (map.containsKey(key)) continue;
+            map.put(key, random.nextInt(1000));
+            added++;
+        }
+        operationsCount++;
+        lastOperation = "PUT x" + added + " random keys, height " + map.height();
+        return added;
+    }
+
+    public synchronized void clear() {
+        if (isRunning()) {
+            lastOperation = "CLEAR: stop the workers first";
+            return;
+        }
+        map.clear();
+        positions.clear();
+        operationsCount++;
+        lastOperation = "CLEAR: all links from the head dropped";
+    }
+
+    public synchronized void resetCounters() {
+        map.resetCounters();
+        operationsCount++;
+        lastOperation = "RESET: CAS counters zeroed";
+    }
+
+    // ── Worker threads ───────────────────────────────────────────
+
+    // Hot keys send every thread at the same few predecessors, which is where CAS races happen
+    public synchronized boolean startWorkers(int count, Mode mode, boolean hotKeys) {
+        if (isRunning()) return false;
+        workers.clear();
+        threads.clear();
+        stopRequested = false;
+        int base = ThreadLocalRandom.current().nextInt(KEY_RANGE - 12);
+        for (int i = 0; i < Math.min(count, MAX_WORKERS); i++) {
+            Worker worker = new Worker(i);
+            worker.opsTotal = OPS_PER_WORKER;
+            workers.add(worker);
+            Thread thread = new Thread(() -> runWorker(worker, mode, hotKeys, base), "skiplist-worker-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        runStart = System.currentTimeMillis();
+        casAtRunStart = map.totalCasAttempts();
+        failuresAtRunStart = map.totalCasFailures();
+        runOps = 0;
+        operationsCount++;
+        lastOperation = "WORKERS: " + workers.size() + " threads, " + mode + (hotKeys ? ", hot keys " + base + ".." + (base + 11)
+                : ", keys spread over 0.." + (KEY_RANGE - 1));
+        for (Thread thread : threads) thread.start();
+        return true;
+    }
+
+    public void stopWorkers() {
+        stopRequested = true;
+    }
+
+    private void runWorker(Worker worker, Mode mode, boolean hotKeys, int base) {
+        currentWorker.set(worker);
+        Random r = ThreadLocalRandom.current();
+        for (int i = 0; i < OPS_PER_WORKER && !stopRequested; i++) {
+            int key = hotKeys ? base + r.nextInt(12) : r.nextInt(KEY_RANGE);
+            boolean insert = mode == Mode.INSERT || (mode == Mode.MIXED && r.nextBoolean());
+            if (insert && map.size() >= MAX_KEYS) insert = false;
+            worker.key = key;
+            worker.level = 0;
+            worker.phase = Phase.SEARCH;
+            worker.action = insert ? "PUT " + key : "REMOVE " + key;
+            if (insert) map.put(key, r.nextInt(1000));
+            else map.remove(key);
+            worker.opsDone = i + 1;
+            synchronized (this) {
+                runOps++;
+            }
+            pause(casDelayMillis);
+        }
+        worker.phase = Phase.DONE;
+        worker.action = "done";
+    }
+
+    private static void pause(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void recordEvent(Worker worker, CasKind kind, int key, int level, boolean pending, boolean success) {
+        events.add(new CasEvent(worker == null ? -1 : worker.id, kind, key, level, pending, success,
+                System.currentTimeMillis()));
+    }
+
+    public boolean isRunning() {
+        synchronized (this) {
+            for (Thread thread : threads) {
+                if (thread.isAlive()) return true;
+            }
+            return false;
+        }
+    }
+
+    // ── Frame update ─────────────────────────────────────────────
+
+    public synchronized void update(double deltaTime) {
+        long now = System.currentTimeMillis();
+        events.removeIf(e -> now - e.time() > EVENT_MILLIS);
+
+        if (!threads.isEmpty() && runStart != 0 && !isRunning()) {
+            runMillis = now - runStart;
+            runCas = map.totalCasAttempts() - casAtRunStart;
+            runFailures = map.totalCasFailures() - failuresAtRunStart;
+            runStart = 0;
+            justFinished = true;
+            finishTime = now;
+            lastOperation = "WORKERS DONE: " + runOps + " ops, " + runCas + " CAS, " + runFailures + " failed";
+        }
+        if (justFinished && now - finishTime > 1500) {
+            justFinished = false;
+        }
+
+        snapshot();
+        double t = Math.min(1, deltaTime * 8);
+        for (int i = 0; i < nodes.size(); i++) {
+            double target = i;
+            double[] pos = positions.computeIfAbsent(nodes.get(i).key(), k -> new double[]{target, 0});
+            pos[0] += (target - pos[0]) * t;
+            pos[1] = Math.min(1, pos[1] + deltaTime * 3);
+        }
+    }
+
+    private void snapshot() {
+        List<NodeView> views = new ArrayList<>();
+        map.forEachNode((key, value, levels, deleted) -> views.add(new NodeView(key, value, levels, deleted)));
+        List<Set<Integer>> levels = new ArrayList<>();
+        for (int level = 0; level < SHOWN_LEVELS; level++) {
+            Set<Integer> keys = new HashSet<>();
+            for (int key : map.keysAtLevel(level)) keys.add(key);
+            levels.add(keys);
+        }
+        nodes = views;
+        linked = levels;
+        Set<Integer> live = new HashSet<>();
+        for (NodeView view : views) live.add(view.key());
+        positions.keySet().retainAll(live);
+    }
+
+    // ── Getters ──────────────────────────────────────────────────
+
+    public synchronized List<NodeView> getNodes() { return nodes; }
+    public synchronized boolean isLinked(int key, int level) { return level < linked.size() && linked.get(level).contains(key); }
+    public synchronized double getColumn(int key) { double[] p = positions.get(key); return p == null ? -1 : p[0]; }
+    public synchronized double getAlpha(int key) { double[] p = positions.get(key); return p == null ? 1 : p[1]; }
+    public synchronized List<CasEvent> getEvents() { return new ArrayList<>(events); }
+    public synchronized List<Worker> getWorkers() { return new ArrayList<>(workers); }
+    public int getSize() { return map.size(); }
+    public int getHeight() { return map.height(); }
+    public long getCasAttempts(int level) { return map.casAttempts(level); }
+    public long getCasFailures(int level) { return map.casFailures(level); }
+    public long getTotalCasAttempts() { return map.totalCasAttempts(); }
+    public long getTotalCasFailures() { return map.totalCasFailures(); }
+    public long getFindRestarts() { return map.findRestarts(); }
+    public synchronized int getRunOps() { return runOps; }
+    public synchronized long getRunMillis() { return runMillis; }
+    public synchronized long getRunCas() { return runCas; }
+    public synchronized long getRunFailures() { return runFailures; }
+    public synchronized boolean wasJustFinished() { return justFinished; }
+    public int getCasDelayMillis() { return casDelayMillis; }
+    public void setCasDelayMillis(int millis) { this.casDelayMillis = millis; }
+    public int getOperationsCount() { return operationsCount; }
+    public synchronized String getLastOperation() { return lastOperation; }
+
+    public synchronized int countLinkedAt(int level) {
+        return level < linked.size() ? linked.get(level).size() : 0;
+    }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int n = map.size();
+        long totalUsed = map.memoryBytes();
+        long links = 0;
+        for (NodeView view : nodes) links += view.levels();
+        long linkBytes = 40 * links;
+        // ConcurrentSkipListMap: 24B node + two 16B boxes, plus a 24B index node for about
+        // one entry in three (p = 1/4 per level)
+        long skipListMap = 48 + n * (24L + 16 + 16) + (n / 3) * 24L;
+        long treeMap = 48 + (long) n * (40 + 16 + 16);
+        return new MemoryInfo(totalUsed, linkBytes, totalUsed - linkBytes, skipListMap, treeMap, links);
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long linkBytes,
+            long nodeBytes,
+            long skipListMap,
+            long treeMap,
+            long links
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatLinks() { return formatBytes(linkBytes); }
+        public String formatNodes() { return formatBytes(nodeBytes); }
+        public String formatSkipListMap() { return formatBytes(skipListMap); }
+        public String formatTreeMap() { return formatBytes(treeMap); }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomKey(Random random) {
+        return random.nextInt(KEY_RANGE);
+    }
+}
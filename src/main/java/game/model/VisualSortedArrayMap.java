@@ -0,0 +1,319 @@
+package game.model;
+
+import game.collections.SortedArrayIntMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntToLongFunction;
+
+// A SortedArrayIntMap drawn cell by cell: every lookup keeps the steps of its binary
+// search (lo, hi, mid, and which way the comparison sent it), every put or remove keeps
+// the run of entries it shifted. Byte counts for HashMap, TreeMap and Map.of at each size
+// follow their JDK 17 layouts with compressed oops and are the ones SmallMapBenchmark
+// measures on the heap, two 16-byte boxes per entry included (keys outside the Integer
+// cache); the crossover chart is drawn from them.
+public class VisualSortedArrayMap {
+    public static final int MAX_KEYS = 64;
+    public static final int KEY_RANGE = 1000;
+    public static final long FLASH_MILLIS = 1500;
+
+    public enum LastAction { NONE, HIT, MISS, INSERT, UPDATE, REMOVE }
+
+    // One probe of the binary search: compared keys[mid] over [lo, hi] and moved left or right
+    public record Step(int lo, int hi, int mid, int midKey, int comparison) {}
+
+    private final Random random = new Random();
+    private final SortedArrayIntMap map = new SortedArrayIntMap(Integer.MIN_VALUE);
+
+    private int lastKey = -1;
+    private LastAction lastAction = LastAction.NONE;
+    private List<Step> lastSearch = new ArrayList<>();
+    private int lastIndex = -1;
+    private int shiftFrom = -1;
+    private int shiftTo = -1;
+    private long searchTime = 0;
+    private long totalCompares = 0;
+    private long totalShifted = 0;
+    private int searches = 0;
+    private int grows = 0;
+
+    private boolean justGrew = false;
+    private long lastGrowTime = 0;
+    private int operationsCount = 0;
+    private String lastOperation = "";
+
+    // ── Operations ───────────────────────────────────────────────
+
+    public synchronized Integer put(int key, int value) {
+        int index = search(key);
+        if (index < 0 && map.size() >= MAX_KEYS) {
+            lastOperation = "PUT: view holds " + MAX_KEYS + " keys";
+            return null;
+        }
+        int capacityBefore = map.capacity();
+        int old = map.put(key, value);
+        operationsCount++;
+        if (index >= 0) {
+            lastAction = LastAction.UPDATE;
+            lastIndex = index;
+            shiftFrom = shiftTo = -1;
+            lastOperation = "PUT: " + key + " -> " + value + " (updated at [" + index + "] after "
+                    + compares() + ", nothing moves)";
+            return old;
+        }
+        int insertAt = -(index + 1);
+        int moved = map.size() - 1 - insertAt;
+        lastAction = LastAction.INSERT;
+        lastIndex = insertAt;
+        shiftFrom = insertAt + 1;
+        shiftTo = map.size() - 1;
+        totalShifted += moved;
+        lastOperation = "PUT: " + key + " -> " + value + " (" + compares() + ", inserted at [" + insertAt + "], "
+                + moved + " entr" + (moved == 1 ? "y" : "ies") + " shifted right in both arrays)";
+        if (map.capacity() != capacityBefore) {
+            grows++;
+            justGrew = true;
+            lastGrowTime = System.currentTimeMillis();
+            lastOperation += ", GROW " + capacityBefore + " -> " + map.capacity();
+        }
+        return null;
+    }
+
+    public synchronized Integer get(int key) {
+        int index = search(key);
+        operationsCount++;
+        afterLookup(index);
+        lastOperation = "GET: " + key + " -> " + (index >= 0 ? map.valueAt(index) : "null") + lookupSuffix(index);
+        return index >= 0 ? map.valueAt(index) : null;
+    }
+
+    public synchronized boolean containsKey(int key) {
+        int index = search(key);
+        operationsCount++;
+        afterLookup(index);
+        lastOperation = "CONTAINS KEY: " + key + " -> " + (index >= 0) + lookupSuffix(index);
+        return index >= 0;
+    }
+
+    public synchronized Integer remove(int key) {
+        int index = search(key);
+        operationsCount++;
+        if (index < 0) {
+            afterLookup(index);
+            lastOperation = "REMOVE: " + key + " (not found, " + compares() + ")";
+            return null;
+        }
+        int old = map.remove(key);
+        int moved = map.size() - index;
+        lastAction = LastAction.REMOVE;
+        lastIndex = index;
+        shiftFrom = index;
+        shiftTo = map.size() - 1;
+        totalShifted += moved;
+        lastOperation = "REMOVE: " + key + " (" + compares() + ", " + moved + " entr" + (moved == 1 ? "y" : "ies")
+                + " shifted left, capacity stays " + map.capacity() + ")";
+        return old;
+    }
+
+    public synchronized int putRandom(int count) {
+        int before = map.size();
+        int growsBefore = grows;
+        for (int i = 0; i < count && map.size() < MAX_KEYS; i++) {
+            put(random.nextInt(KEY_RANGE), random.nextInt(KEY_RANGE));
+        }
+        int added = map.size() - before;
+        if (count > 1) {
+            lastOperation = "PUT x" + added + ": n = " + map.size() + ", capacity " + map.capacity()
+                    + (grows > growsBefore ? " (" + (grows - growsBefore) + " grow(s))" : "");
+        }
+        return added;
+    }
+
+    public synchronized void trimToSize() {
+        int before = map.capacity();
+        map.trimToSize();
+        operationsCount++;
+        lastAction = LastAction.NONE;
+        lastSearch = new ArrayList<>();
+        shiftFrom = shiftTo = lastIndex = -1;
+        lastOperation = "TRIM TO SIZE: capacity " + before + " -> " + map.capacity() + ", "
+                + 8 * (before - map.capacity()) + " B of slack returned";
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        map.trimToSize();
+        operationsCount++;
+        lastAction = LastAction.NONE;
+        lastSearch = new ArrayList<>();
+        shiftFrom = shiftTo = lastIndex = -1;
+        lastOperation = "CLEAR: back to the shared empty array, " + map.memoryBytes() + " B";
+    }
+
+    // The same binary search as SortedArrayIntMap.indexOf, one Step per probe
+    private int search(int key) {
+        lastKey = key;
+        lastSearch = new ArrayList<>();
+        searchTime = System.currentTimeMillis();
+        int lo = 0;
+        int hi = map.size() - 1;
+        int result = -1;
+        boolean found = false;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int k = map.keyAt(mid);
+            int comparison = Integer.compare(key, k);
+            lastSearch.add(new Step(lo, hi, mid, k, comparison));
+            if (comparison > 0) lo = mid + 1;
+            else if (comparison < 0) hi = mid - 1;
+            else {
+                result = mid;
+                found = true;
+                break;
+            }
+        }
+        if (!found) result = -(lo + 1);
+        searches++;
+        totalCompares += lastSearch.size();
+        return result;
+    }
+
+    private void afterLookup(int index) {
+        lastAction = index >= 0 ? LastAction.HIT : LastAction.MISS;
+        lastIndex = index >= 0 ? index : -(index + 1);
+        shiftFrom = shiftTo = -1;
+    }
+
+    private String compares() {
+        int n = lastSearch.size();
+        return n + " compare" + (n == 1 ? "" : "s");
+    }
+
+    private String lookupSuffix(int index) {
+        if (index >= 0) return " (" + compares() + ", found at [" + index + "])";
+        return " (" + compares() + ", would insert at [" + (-(index + 1)) + "])";
+    }
+
+    public synchronized void update(double deltaTime) {
+        if (justGrew && System.currentTimeMillis() - lastGrowTime > FLASH_MILLIS) {
+            justGrew = false;
+        }
+    }
+
+    // ── Getters ──────────────────────────────────────────────────
+
+    public synchronized int getSize() { return map.size(); }
+    public synchronized int getCapacity() { return map.capacity(); }
+    public synchronized int getKeyAt(int index) { return map.keyAt(index); }
+    public synchronized int getValueAt(int index) { return map.valueAt(index); }
+    public synchronized int getLastKey() { return lastKey; }
+    public synchronized LastAction getLastAction() { return lastAction; }
+    public synchronized List<Step> getLastSearch() { return new ArrayList<>(lastSearch); }
+    public synchronized int getLastIndex() { return lastIndex; }
+    public synchronized int getShiftFrom() { return shiftFrom; }
+    public synchronized int getShiftTo() { return shiftTo; }
+    public synchronized long getSearchTime() { return searchTime; }
+    public synchronized long getTotalShifted() { return totalShifted; }
+    public synchronized int getGrows() { return grows; }
+    public synchronized double getAverageCompares() { return searches == 0 ? 0 : (double) totalCompares / searches; }
+    public boolean hasJustGrown() { return justGrew; }
+    public int getOperationsCount() { return operationsCount; }
+    public synchronized String getLastOperation() { return lastOperation; }
+
+    // Most compares a search of n keys can take
+    public static int worstCompares(int n) {
+        return 32 - Integer.numberOfLeadingZeros(n);
+    }
+
+    // ── Bytes per map of n entries ───────────────────────────────
+
+    // Built by n puts from empty, growth slack included
+    public static long sortedArrayBytes(int n) {
+        int capacity = 0;
+        while (capacity < n) capacity = SortedArrayIntMap.nextCapacity(capacity);
+        return 32 + 2 * SortedArrayIntMap.arrayBytes(capacity);
+    }
+
+    public static long trimmedBytes(int n) {
+        return 32 + 2 * SortedArrayIntMap.arrayBytes(n);
+    }
+
+    // 48 B object; the table (16 slots at least, load 0.75) only exists after the first put;
+    // a 32 B node and two boxes per entry
+    public static long hashMapBytes(int n) {
+        if (n == 0) return 48;
+        int table = 16;
+        while (n > table * 0.75) table <<= 1;
+        return 48 + 16 + 4L * table + n * (32L + 16 + 16);
+    }
+
+    // 48 B object, a 40 B entry and two boxes per entry
+    public static long treeMapBytes(int n) {
+        return 48 + n * (40L + 16 + 16);
+    }
+
+    // Map.of() is one shared instance; Map1 holds the pair in two fields; MapN keeps keys and
+    // values interleaved in an Object[] of 4n slots, so probing always finds a null soon
+    public static long mapOfBytes(int n) {
+        if (n == 0) return 0;
+        if (n == 1) return 32 + 32;
+        return 32 + 16 + 16L * n + n * (16L + 16);
+    }
+
+    // Smallest n in [0, MAX_KEYS] from which the sorted array stays strictly smaller than
+    // bytes(n), or -1 if it never does
+    public static int crossover(IntToLongFunction bytes) {
+        int from = -1;
+        for (int n = MAX_KEYS; n >= 0; n--) {
+            if (sortedArrayBytes(n) < bytes.applyAsLong(n)) from = n;
+            else break;
+        }
+        return from;
+    }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int n = map.size();
+        int capacity = map.capacity();
+        long arrayBytes = SortedArrayIntMap.arrayBytes(capacity);
+        long slack = 8L * (capacity - n);
+        return new MemoryInfo(map.memoryBytes(), 32, arrayBytes, arrayBytes, slack, trimmedBytes(n),
+                hashMapBytes(n), treeMapBytes(n), mapOfBytes(n), n, capacity);
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long objectHeader,
+            long keysArray,
+            long valuesArray,
+            long slackBytes,
+            long trimmed,
+            long hashMap,
+            long treeMap,
+            long mapOf,
+            int entries,
+            int capacity
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatTrimmed() { return formatBytes(trimmed); }
+        public String formatHashMap() { return formatBytes(hashMap); }
+        public String formatTreeMap() { return formatBytes(treeMap); }
+        public String formatMapOf() { return formatBytes(mapOf); }
+
+        public double bytesPerEntry() { return entries == 0 ? 0 : (double) totalUsed / entries; }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomKey(Random random) {
+        return random.nextInt(KEY_RANGE);
+    }
+
+    public static int generateRandomValue(Random random) {
+        return random.nextInt(KEY_RANGE);
+    }
+}
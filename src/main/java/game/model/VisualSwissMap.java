@@ -0,0 +1,195 @@
+package game.model;
+
+import game.collections.SwissIntIntMap;
+
+import java.util.Random;
+
+public class VisualSwissMap {
+    public static final int GROUP_WIDTH = SwissIntIntMap.GROUP_WIDTH;
+
+    private SwissIntIntMap map;
+    private int operationsCount = 0;
+    private long totalGroupsProbed = 0;
+    private long totalTagMatches = 0;
+    private long falseTagMatches = 0;
+    private int probedOperations = 0;
+    private boolean justRehashed = false;
+    private long lastRehashTime = 0;
+    private String lastOperation = "";
+    private long lastProbeTime = 0;
+    private int lastKey = 0;
+    private int knownRehashes = 0;
+    private int knownCleanups = 0;
+
+    public VisualSwissMap() {
+        map = new SwissIntIntMap(8, Integer.MIN_VALUE);
+    }
+
+    public synchronized Integer put(int key, int value) {
+        int old = map.put(key, value);
+        boolean updated = old != Integer.MIN_VALUE;
+        afterProbe(key);
+        lastOperation = "PUT: " + key + " -> " + value + " h2=" + hex(map.lastH2())
+                + (updated ? " (updated)" : " (group " + map.lastSlot() / GROUP_WIDTH + ", slot " + map.lastSlot() + ")");
+        if (map.rehashCount() != knownRehashes || map.cleanupCount() != knownCleanups) {
+            lastOperation += map.cleanupCount() != knownCleanups ? ", CLEANUP" : ", REHASH";
+            knownRehashes = map.rehashCount();
+            knownCleanups = map.cleanupCount();
+            justRehashed = true;
+            lastRehashTime = System.currentTimeMillis();
+        }
+        return updated ? old : null;
+    }
+
+    public synchronized Integer get(int key) {
+        int value = map.get(key);
+        afterProbe(key);
+        boolean found = value != Integer.MIN_VALUE;
+        lastOperation = "GET: " + key + " -> " + (found ? value : "null") + probeSuffix();
+        return found ? value : null;
+    }
+
+    public synchronized boolean containsKey(int key) {
+        boolean found = map.containsKey(key);
+        afterProbe(key);
+        lastOperation = "CONTAINS KEY: " + key + " -> " + found + probeSuffix();
+        return found;
+    }
+
+    public synchronized Integer remove(int key) {
+        int before = map.deleted();
+        int old = map.remove(key);
+        afterProbe(key);
+        boolean found = old != Integer.MIN_VALUE;
+        String marker = map.deleted() > before ? "DELETED" : "EMPTY";
+        lastOperation = "REMOVE: " + key + (found ? " (slot " + map.lastSlot() + " -> " + marker + ")" : " (not found)");
+        return found ? old : null;
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        operationsCount++;
+        lastProbeTime = 0;
+        lastOperation = "CLEAR: every control byte back to EMPTY";
+    }
+
+    // Counts tag hits along the probe just made, and how many of them were other keys
+    private void afterProbe(int key) {
+        operationsCount++;
+        probedOperations++;
+        lastKey = key;
+        lastProbeTime = System.currentTimeMillis();
+        totalGroupsProbed += map.lastGroupsProbed();
+        for (int step = 0; step < map.lastGroupsProbed(); step++) {
+            int group = map.probeGroup(map.lastFirstGroup(), step);
+            int matches = map.matchMask(group, map.lastH2());
+            while (matches != 0) {
+                int slot = group * GROUP_WIDTH + Integer.numberOfTrailingZeros(matches);
+                totalTagMatches++;
+                if (map.keyAt(slot) != key) falseTagMatches++;
+                matches &= matches - 1;
+            }
+        }
+    }
+
+    private String probeSuffix() {
+        int n = map.lastGroupsProbed();
+        return " (" + n + (n == 1 ? " group)" : " groups)");
+    }
+
+    static String hex(int h2) {
+        return String.format("%02X", h2);
+    }
+
+    public synchronized void update(double deltaTime) {
+        if (justRehashed && System.currentTimeMillis() - lastRehashTime > 1500) {
+            justRehashed = false;
+        }
+    }
+
+    public synchronized int getSize() { return map.size(); }
+    public synchronized int getCapacity() { return map.capacity(); }
+    public synchronized int getGroupCount() { return map.groupCount(); }
+    public synchronized int getDeleted() { return map.deleted(); }
+    public synchronized int getGrowthLeft() { return map.growthLeft(); }
+    public synchronized int getRehashCount() { return map.rehashCount(); }
+    public synchronized int getCleanupCount() { return map.cleanupCount(); }
+    public synchronized double getCurrentLoad() { return (double) map.size() / map.capacity(); }
+    public int getOperationsCount() { return operationsCount; }
+    public boolean wasJustRehashed() { return justRehashed; }
+    public String getLastOperation() { return lastOperation; }
+
+    public synchronized double getAverageGroupsPerOperation() {
+        return probedOperations == 0 ? 0 : (double) totalGroupsProbed / probedOperations;
+    }
+
+    public synchronized long getTagMatches() { return totalTagMatches; }
+    public synchronized long getFalseTagMatches() { return falseTagMatches; }
+
+    // Groups a successful lookup reads, averaged over all live keys
+    public synchronized double getAverageGroupsPerHit() {
+        if (map.size() == 0) return 0;
+        long total = 0;
+        for (int slot = 0; slot < map.capacity(); slot++) {
+            if (map.isFull(slot)) total += map.groupsProbed(slot);
+        }
+        return (double) total / map.size();
+    }
+
+    public synchronized byte getCtrlAt(int slot) { return map.ctrlAt(slot); }
+    public synchronized boolean isFull(int slot) { return map.isFull(slot); }
+    public synchronized int getKeyAt(int slot) { return map.keyAt(slot); }
+    public synchronized int getValueAt(int slot) { return map.valueAt(slot); }
+    public synchronized int getMatchMask(int group, int h2) { return map.matchMask(group, h2); }
+    public synchronized int getEmptyMask(int group) { return map.emptyMask(group); }
+    public synchronized int getProbeGroup(int step) { return map.probeGroup(map.lastFirstGroup(), step); }
+
+    // The last probe, or none after clear()
+    public synchronized int getLastGroupsProbed() { return lastProbeTime == 0 ? 0 : map.lastGroupsProbed(); }
+    public synchronized int getLastH2() { return map.lastH2(); }
+    public synchronized int getLastSlot() { return lastProbeTime == 0 ? -1 : map.lastSlot(); }
+    public synchronized int getLastKey() { return lastKey; }
+    public synchronized long getLastProbeTime() { return lastProbeTime; }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int capacity = map.capacity();
+        long mapOverhead = 64;
+        long ctrlArray = 16 + (long) capacity;
+        long keysArray = 16 + (long) capacity * 4;
+        long valuesArray = 16 + (long) capacity * 4;
+        long totalUsed = mapOverhead + ctrlArray + keysArray + valuesArray;
+
+        int n = map.size();
+        int table = 16;
+        while (table * 0.75 < n) table <<= 1;
+        long boxedHashMap = 48 + 16 + (long) table * 4 + (long) n * (32 + 16 + 16);
+
+        return new MemoryInfo(totalUsed, mapOverhead, ctrlArray, keysArray, valuesArray, boxedHashMap);
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long mapOverhead,
+            long ctrlArray,
+            long keysArray,
+            long valuesArray,
+            long boxedHashMap
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatBoxedHashMap() { return formatBytes(boxedHashMap); }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomKey(Random random) {
+        return random.nextInt(1000);
+    }
+
+    public static int generateRandomValue(Random random) {
+        return random.nextInt(1000);
+    }
+}
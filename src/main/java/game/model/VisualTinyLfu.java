@@ -0,0 +1,375 @@
+package game.model;
+
+import game.collections.TinyLfuIntCache;
+import game.collections.TinyLfuIntCache.Segment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+// Feeds a small TinyLfuIntCache from a Zipfian key stream and keeps an access-order
+// LinkedHashMap of the same capacity on the same stream, so the two hit rates can be
+// watched side by side. Every access is cache-aside (get, put on a miss); the buffered
+// reads are drained after each one so the segments on screen are exact.
+public class VisualTinyLfu {
+    public static final int CAPACITY = 20;
+    public static final int KEY_RANGE = 200;
+    public static final int SCAN_BASE = 1000;
+    public static final int[] WINDOW_PERCENTS = {5, 20, 50};
+    public static final double[] SKEWS = {0.6, 0.9, 1.2};
+    public static final int[] SPEEDS = {4, 20, 120};
+    public static final int HISTORY = 60;
+    public static final int HISTORY_BUCKET = 25;
+    public static final int MAX_DUELS = 6;
+
+    public record EntryView(int key, int frequency) {}
+
+    public record Duel(int candidate, int candidateFrequency, int victim, int victimFrequency, boolean admitted) {}
+
+    private TinyLfuIntCache cache;
+    private final LinkedHashMap<Integer, Integer> lru = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+    private final Random random = new Random();
+    private final List<Duel> duels = new ArrayList<>();
+    private final List<Duel> pendingDuels = new ArrayList<>();
+
+    private int windowPercent = 20;
+    private double skew = 0.9;
+    private int[] trace;
+    private int tracePosition = 0;
+    private int scanNext = SCAN_BASE;
+    private boolean playing = false;
+    private int speed = SPEEDS[1];
+    private double playCredit = 0;
+
+    private long lruHits = 0;
+    private long lruMisses = 0;
+    private int bucketAccesses = 0;
+    private int bucketTinyHits = 0;
+    private int bucketLruHits = 0;
+    private final List<Double> tinyHistory = new ArrayList<>();
+    private final List<Double> lruHistory = new ArrayList<>();
+
+    private int operationsCount = 0;
+    private String lastOperation = "";
+    private int lastKey = -1;
+    private boolean lastHit = false;
+    private boolean justRejected = false;
+    private long rejectTime = 0;
+
+    // Snapshot taken after every access; the panel paints from it
+    private final List<List<EntryView>> segments = new ArrayList<>();
+    private int[] sketchCounters = new int[0];
+    private int[] lastIndexes = new int[0];
+    private final Map<Integer, double[]> positions = new HashMap<>();
+
+    public VisualTinyLfu() {
+        rebuild();
+        generateTrace();
+    }
+
+    private void rebuild() {
+        cache = new TinyLfuIntCache(CAPACITY, windowPercent, -1);
+        cache.setAdmissionListener((candidate, cf, victim, vf, admitted) ->
+                pendingDuels.add(new Duel(candidate, cf, victim, vf, admitted)));
+        lru.clear();
+        duels.clear();
+        positions.clear();
+        resetCounts();
+        lastKey = -1;
+        snapshot();
+    }
+
+    private void generateTrace() {
+        trace = CacheBenchmark.zipfKeys(KEY_RANGE, skew, 4096, random.nextLong());
+        tracePosition = 0;
+    }
+
+    private void resetCounts() {
+        lruHits = 0;
+        lruMisses = 0;
+        bucketAccesses = 0;
+        bucketTinyHits = 0;
+        bucketLruHits = 0;
+        tinyHistory.clear();
+        lruHistory.clear();
+    }
+
+    // ── Operations from the control panel ────────────────────────
+
+    public synchronized boolean access(int key) {
+        boolean hit = accessOne(key);
+        operationsCount++;
+        lastOperation = describe(key, hit);
+        snapshot();
+        return hit;
+    }
+
+    public synchronized void step(int count) {
+        int hits = 0;
+        for (int i = 0; i < count; i++) {
+            if (accessOne(nextTraceKey())) hits++;
+        }
+        operationsCount++;
+        lastOperation = count == 1 ? describe(lastKey, lastHit)
+                : "ZIPF x" + count + ": " + hits + " hits, " + (count - hits) + " misses (skew " + skew + ")";
+        snapshot();
+    }
+
+    // A run of keys seen once and never again: an LRU lets them flush its hot set, TinyLFU
+    // mostly refuses to admit them past the window
+    public synchronized void scan(int count) {
+        long rejectedBefore = cache.rejections();
+        long admittedBefore = cache.admissions();
+        int lruSurvivors = 0;
+        for (int i = 0; i < count; i++) accessOne(scanNext++);
+        for (int key : lru.keySet()) if (key < SCAN_BASE) lruSurvivors++;
+        operationsCount++;
+        lastOperation = "SCAN x" + count + ": TinyLFU rejected " + (cache.rejections() - rejectedBefore)
+                + ", admitted " + (cache.admissions() - admittedBefore) + "; LRU kept " + lruSurvivors
+                + " of its Zipf keys";
+        snapshot();
+    }
+
+    public synchronized void setPlaying(boolean playing) {
+        this.playing = playing;
+        playCredit = 0;
+        lastOperation = playing ? "PLAY: " + speed + " Zipf accesses per second" : "PAUSED";
+    }
+
+    public synchronized void setSpeed(int accessesPerSecond) {
+        this.speed = accessesPerSecond;
+    }
+
+    public synchronized void setSkew(double skew) {
+        this.skew = skew;
+        generateTrace();
+        operationsCount++;
+        lastOperation = "SKEW: zipf " + skew + (skew >= 1 ? " (a few keys take most accesses)" : " (long flat tail)");
+    }
+
+    public synchronized void setWindowPercent(int windowPercent) {
+        this.windowPercent = windowPercent;
+        rebuild();
+        operationsCount++;
+        lastOperation = "WINDOW: " + windowPercent + "% -> window " + cache.windowCapacity() + ", protected "
+                + cache.protectedCapacity() + ", probation " + (CAPACITY - cache.windowCapacity() - cache.protectedCapacity())
+                + " (cache rebuilt)";
+    }
+
+    public synchronized void resetStats() {
+        cache.resetStats();
+        resetCounts();
+        operationsCount++;
+        lastOperation = "RESET: hit counters zeroed, cache contents kept";
+    }
+
+    public synchronized void clear() {
+        rebuild();
+        operationsCount++;
+        lastOperation = "CLEAR: cache, sketch and LRU emptied";
+    }
+
+    private int nextTraceKey() {
+        int key = trace[tracePosition];
+        tracePosition = (tracePosition + 1) % trace.length;
+        return key;
+    }
+
+    private boolean accessOne(int key) {
+        boolean hit = cache.get(key) != -1;
+        if (!hit) cache.put(key, key);
+        cache.cleanUp();
+
+        boolean lruHit = lru.get(key) != null;
+        if (lruHit) {
+            lruHits++;
+        } else {
+            lruMisses++;
+            lru.put(key, key);
+        }
+
+        lastKey = key;
+        lastHit = hit;
+        for (Duel duel : pendingDuels) {
+            duels.add(0, duel);
+            if (!duel.admitted()) {
+                justRejected = true;
+                rejectTime = System.currentTimeMillis();
+            }
+        }
+        pendingDuels.clear();
+        while (duels.size() > MAX_DUELS) duels.remove(duels.size() - 1);
+
+        bucketAccesses++;
+        if (hit) bucketTinyHits++;
+        if (lruHit) bucketLruHits++;
+        if (bucketAccesses == HISTORY_BUCKET) {
+            tinyHistory.add(100.0 * bucketTinyHits / HISTORY_BUCKET);
+            lruHistory.add(100.0 * bucketLruHits / HISTORY_BUCKET);
+            if (tinyHistory.size() > HISTORY) {
+                tinyHistory.remove(0);
+                lruHistory.remove(0);
+            }
+            bucketAccesses = 0;
+            bucketTinyHits = 0;
+            bucketLruHits = 0;
+        }
+        return hit;
+    }
+
+    private String describe(int key, boolean hit) {
+        if (hit) {
+            return "GET " + key + ": hit in " + segmentOf(key) + " (read buffered, replayed on drain), f=" + cache.frequency(key);
+        }
+        if (!cache.containsKey(key)) {
+            return "GET " + key + ": miss -> PUT into window -> lost admission, evicted (f=" + cache.frequency(key) + ")";
+        }
+        return "GET " + key + ": miss -> PUT into " + segmentOf(key) + ", f=" + cache.frequency(key);
+    }
+
+    private String segmentOf(int key) {
+        for (Segment segment : Segment.values()) {
+            for (EntryView view : currentSegment(segment)) {
+                if (view.key() == key) return segment.name();
+            }
+        }
+        return "?";
+    }
+
+    private List<EntryView> currentSegment(Segment segment) {
+        List<EntryView> views = new ArrayList<>();
+        cache.forEach(segment, (k, v, f) -> views.add(new EntryView(k, f)));
+        return views;
+    }
+
+    // ── Frame update ─────────────────────────────────────────────
+
+    public synchronized void update(double deltaTime) {
+        long now = System.currentTimeMillis();
+        if (playing) {
+            playCredit += deltaTime * speed;
+            int steps = (int) playCredit;
+            if (steps > 0) {
+                playCredit -= steps;
+                for (int i = 0; i < steps; i++) accessOne(nextTraceKey());
+                lastOperation = describe(lastKey, lastHit);
+                snapshot();
+            }
+        }
+        if (justRejected && now - rejectTime > 1500) {
+            justRejected = false;
+        }
+
+        double t = Math.min(1, deltaTime * 8);
+        for (int row = 0; row < segments.size(); row++) {
+            List<EntryView> views = segments.get(row);
+            for (int col = 0; col < views.size(); col++) {
+                int targetRow = row;
+                int targetCol = col;
+                double[] pos = positions.computeIfAbsent(views.get(col).key(), k -> new double[]{targetRow, targetCol, 0});
+                pos[0] += (targetRow - pos[0]) * t;
+                pos[1] += (targetCol - pos[1]) * t;
+                pos[2] = Math.min(1, pos[2] + deltaTime * 3);
+            }
+        }
+    }
+
+    private void snapshot() {
+        segments.clear();
+        Set<Integer> live = new HashSet<>();
+        for (Segment segment : Segment.values()) {
+            List<EntryView> views = currentSegment(segment);
+            for (EntryView view : views) live.add(view.key());
+            segments.add(views);
+        }
+        positions.keySet().retainAll(live);
+        sketchCounters = cache.sketchCounters();
+        lastIndexes = lastKey < 0 ? new int[0] : cache.sketchIndexes(lastKey);
+    }
+
+    // ── Getters ──────────────────────────────────────────────────
+
+    public synchronized List<EntryView> getSegment(Segment segment) {
+        return segments.isEmpty() ? List.of() : new ArrayList<>(segments.get(segment.ordinal()));
+    }
+    public synchronized double getRow(int key) { double[] p = positions.get(key); return p == null ? -1 : p[0]; }
+    public synchronized double getColumn(int key) { double[] p = positions.get(key); return p == null ? -1 : p[1]; }
+    public synchronized double getAlpha(int key) { double[] p = positions.get(key); return p == null ? 1 : p[2]; }
+    public synchronized int[] getSketchCounters() { return sketchCounters; }
+    public synchronized int[] getLastIndexes() { return lastIndexes; }
+    public synchronized List<Duel> getDuels() { return new ArrayList<>(duels); }
+    public synchronized List<Double> getTinyHistory() { return new ArrayList<>(tinyHistory); }
+    public synchronized List<Double> getLruHistory() { return new ArrayList<>(lruHistory); }
+    public synchronized int getLastKey() { return lastKey; }
+    public synchronized boolean wasLastHit() { return lastHit; }
+    public synchronized boolean wasJustRejected() { return justRejected; }
+    public synchronized boolean isPlaying() { return playing; }
+    public synchronized int getSpeed() { return speed; }
+    public synchronized double getSkew() { return skew; }
+    public synchronized int getWindowPercent() { return windowPercent; }
+    public synchronized int getSize() { return cache.size(); }
+    public synchronized int getWindowCapacity() { return cache.windowCapacity(); }
+    public synchronized int getProtectedCapacity() { return cache.protectedCapacity(); }
+    public synchronized int getProbationCapacity() { return CAPACITY - cache.windowCapacity() - cache.protectedCapacity(); }
+    public synchronized long getHits() { return cache.hits(); }
+    public synchronized long getMisses() { return cache.misses(); }
+    public synchronized double getHitRate() { return cache.hitRate(); }
+    public synchronized long getAdmissions() { return cache.admissions(); }
+    public synchronized long getRejections() { return cache.rejections(); }
+    public synchronized long getEvictions() { return cache.evictions(); }
+    public synchronized int getSketchResets() { return cache.sketchResets(); }
+    public synchronized int getSketchAdditions() { return cache.sketchAdditions(); }
+    public synchronized int getSketchSampleSize() { return cache.sketchSampleSize(); }
+    public synchronized long getLruHits() { return lruHits; }
+    public synchronized long getLruMisses() { return lruMisses; }
+    public synchronized double getLruHitRate() { return lruHits + lruMisses == 0 ? 0 : (double) lruHits / (lruHits + lruMisses); }
+    public int getOperationsCount() { return operationsCount; }
+    public synchronized String getLastOperation() { return lastOperation; }
+
+    public synchronized MemoryInfo getMemoryInfo() {
+        int n = cache.size();
+        long totalUsed = cache.memoryBytes();
+        long sketch = cache.sketchBytes();
+        long buffers = cache.readBufferBytes();
+        // LinkedHashMap: 40B entry (hash node plus before/after links) and two 16B boxes,
+        // 4B table slots at load 0.75, plus the map header
+        int table = Integer.highestOneBit(Math.max(1, (int) (n / 0.75f)) * 2 - 1);
+        long linkedHashMap = 56 + 16 + 4L * Math.max(16, table) + n * (40L + 16 + 16);
+        return new MemoryInfo(totalUsed, totalUsed - sketch - buffers, sketch, buffers, linkedHashMap, n);
+    }
+
+    public record MemoryInfo(
+            long totalUsed,
+            long entryBytes,
+            long sketchBytes,
+            long bufferBytes,
+            long linkedHashMap,
+            int entries
+    ) {
+        public String formatTotal() { return formatBytes(totalUsed); }
+        public String formatEntries() { return formatBytes(entryBytes); }
+        public String formatSketch() { return formatBytes(sketchBytes); }
+        public String formatBuffers() { return formatBytes(bufferBytes); }
+        public String formatLinkedHashMap() { return formatBytes(linkedHashMap); }
+
+        private static String formatBytes(long bytes) {
+            if (bytes < 1024) return bytes + " B";
+            if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+            return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        }
+    }
+
+    public static int generateRandomKey(Random random) {
+        return random.nextInt(KEY_RANGE);
+    }
+}
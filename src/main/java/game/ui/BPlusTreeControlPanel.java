@@ -0,0 +1,368 @@
+package game.ui;
+
+import game.model.VisualBPlusTree;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class BPlusTreeControlPanel extends JPanel {
+    private VisualBPlusTree tree;
+    private Random random = new Random();
+    private JTextField keyField;
+    private JTextField valueField;
+    private JTextField toField;
+    private JComboBox<String> fanoutCombo;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(130, 190, 255);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public BPlusTreeControlPanel(VisualBPlusTree tree) {
+        this.tree = tree;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("FANOUT"));
+        add(Box.createVerticalStrut(6));
+
+        String[] fanouts = new String[VisualBPlusTree.FANOUTS.length];
+        for (int i = 0; i < fanouts.length; i++) {
+            fanouts[i] = VisualBPlusTree.FANOUTS[i] + " keys per node";
+        }
+        fanoutCombo = new JComboBox<>(fanouts);
+        styleComboBox(fanoutCombo);
+        fanoutCombo.addActionListener(e -> {
+            int fanout = VisualBPlusTree.FANOUTS[fanoutCombo.getSelectedIndex()];
+            if (fanout == tree.getFanout()) return;
+            tree.setFanout(fanout);
+            updateStatus("Rebuilt, height " + tree.getHeight(), SUCCESS_COLOR);
+        });
+        add(fanoutCombo);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("ENTRY"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("KEY (0..999):"));
+        keyField = new JTextField();
+        styleTextField(keyField);
+        add(keyField);
+        add(Box.createVerticalStrut(6));
+
+        add(createLabel("VALUE:"));
+        valueField = new JTextField();
+        styleTextField(valueField);
+        add(valueField);
+        add(Box.createVerticalStrut(8));
+
+        JPanel opPanel = new JPanel(new GridLayout(1, 3, 4, 4));
+        opPanel.setBackground(BG_COLOR);
+        opPanel.setMaximumSize(new Dimension(230, 26));
+        opPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton putBtn = createSmallButton("put", new Color(150, 230, 150));
+        putBtn.addActionListener(e -> doPut());
+        opPanel.add(putBtn);
+
+        JButton getBtn = createSmallButton("get", new Color(255, 230, 100));
+        getBtn.addActionListener(e -> {
+            Integer key = parse(keyField);
+            if (key == null) return;
+            Integer value = tree.get(key);
+            updateStatus(value != null ? "get(" + key + ") = " + value : key + " not found",
+                    value != null ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        opPanel.add(getBtn);
+
+        JButton removeBtn = createSmallButton("remove", new Color(255, 120, 120));
+        removeBtn.addActionListener(e -> {
+            Integer key = parse(keyField);
+            if (key == null) return;
+            if (tree.remove(key)) updateStatus("Removed " + key, SUCCESS_COLOR);
+            else updateStatus(key + " not found", WARN_COLOR);
+        });
+        opPanel.add(removeBtn);
+        add(opPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("RANGE SCAN"));
+        add(Box.createVerticalStrut(6));
+
+        add(createLabel("FROM KEY field, TO (exclusive):"));
+        toField = new JTextField();
+        styleTextField(toField);
+        add(toField);
+        add(Box.createVerticalStrut(6));
+
+        JButton rangeBtn = createStyledButton("range(from, to)", new Color(255, 150, 90));
+        rangeBtn.addActionListener(e -> {
+            Integer from = parse(keyField);
+            Integer to = parse(toField);
+            if (from == null || to == null) return;
+            if (from >= to) {
+                updateStatus("From must be below to", ERROR_COLOR);
+                return;
+            }
+            int count = tree.range(from, to);
+            updateStatus(count + " entries in range", SUCCESS_COLOR);
+        });
+        add(rangeBtn);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("BULK"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel bulkPanel = new JPanel(new GridLayout(1, 3, 4, 4));
+        bulkPanel.setBackground(BG_COLOR);
+        bulkPanel.setMaximumSize(new Dimension(230, 26));
+        bulkPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton oneBtn = createSmallButton("+1", new Color(150, 230, 150));
+        oneBtn.addActionListener(e -> addRandom(1));
+        bulkPanel.add(oneBtn);
+
+        JButton tenBtn = createSmallButton("+10", new Color(120, 255, 140));
+        tenBtn.addActionListener(e -> addRandom(10));
+        bulkPanel.add(tenBtn);
+
+        JButton shrinkBtn = createSmallButton("-5", new Color(255, 110, 130));
+        shrinkBtn.addActionListener(e -> {
+            int removed = tree.removeRandom(5);
+            updateStatus("-" + removed + ", height " + tree.getHeight(), removed > 0 ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        bulkPanel.add(shrinkBtn);
+        add(bulkPanel);
+        add(Box.createVerticalStrut(10));
+
+        JButton clearBtn = createStyledButton("clear()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            tree.clear();
+            updateStatus("Tree cleared", WARN_COLOR);
+        });
+        add(clearBtn);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    private void doPut() {
+        Integer key = parse(keyField);
+        if (key == null) return;
+        int value;
+        try {
+            value = valueField.getText().trim().isEmpty() ? random.nextInt(1000) : Integer.parseInt(valueField.getText().trim());
+        } catch (NumberFormatException ex) {
+            updateStatus("Invalid value", ERROR_COLOR);
+            return;
+        }
+        if (tree.put(key, value)) updateStatus("put(" + key + ", " + value + ")", SUCCESS_COLOR);
+        else updateStatus("Tree full (" + VisualBPlusTree.MAX_KEYS + " keys)", WARN_COLOR);
+    }
+
+    private void addRandom(int count) {
+        int added = tree.addRandom(count);
+        if (added > 0) updateStatus("+" + added + ", height " + tree.getHeight(), SUCCESS_COLOR);
+        else updateStatus("Tree full (" + VisualBPlusTree.MAX_KEYS + " keys)", WARN_COLOR);
+    }
+
+    private Integer parse(JTextField field) {
+        try {
+            int key = Integer.parseInt(field.getText().trim());
+            if (key < 0 || key > 999) {
+                updateStatus("Key must be 0..999", ERROR_COLOR);
+                return null;
+            }
+            return key;
+        } catch (NumberFormatException ex) {
+            updateStatus("Invalid key", ERROR_COLOR);
+            return null;
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleComboBox(JComboBox<String> combo) {
+        combo.setBackground(BUTTON_BG);
+        combo.setForeground(TEXT_COLOR);
+        combo.setFont(new Font("Consolas", Font.PLAIN, 13));
+        combo.setMaximumSize(new Dimension(250, 26));
+        combo.setAlignmentX(LEFT_ALIGNMENT);
+        combo.setBorder(BorderFactory.createLineBorder(ACCENT.darker(), 1));
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("B+TREE INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "Lookup: O(log_f n) nodes",
+                "Full leaf splits in half",
+                "Underfull: borrow or merge",
+                "Values only in leaves",
+                "Range: 1 descent + next links"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(180, 205, 235));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
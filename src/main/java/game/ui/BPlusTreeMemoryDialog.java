@@ -0,0 +1,181 @@
+package game.ui;
+
+import game.model.VisualBPlusTree;
+import game.model.VisualBPlusTree.NodeBox;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.List;
+import game.ui.ThemeManager;
+
+public class BPlusTreeMemoryDialog extends JDialog {
+    private VisualBPlusTree tree;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(130, 190, 255);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public BPlusTreeMemoryDialog(Frame parent, VisualBPlusTree tree) {
+        super(parent, "B+Tree Memory Analysis", true);
+        this.tree = tree;
+
+        setSize(650, 660);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createLevelsPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualBPlusTree.MemoryInfo mem = tree.getMemoryInfo();
+        int n = tree.getSize();
+
+        String[] lines = {
+                "Total heap used: " + mem.formatTotal(),
+                "",
+                "Entries:      " + n + " in " + mem.nodes() + " nodes, height " + mem.height(),
+                "Keys+values:  " + mem.formatEntries() + " (two ints per entry)",
+                "Overhead:     " + mem.formatOverhead() + " (node headers, separators, free slots)",
+                "",
+                String.format("Leaf fill: %.0f%%", tree.getLeafFill() * 100),
+                String.format("Bytes per entry: %.1f", n == 0 ? 0.0 : (double) mem.totalUsed() / n)
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            boolean highlight = line.contains("Total") || line.startsWith("Bytes per");
+            label.setForeground(highlight ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", highlight ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createLevelsPanel() {
+        JPanel panel = createSection("LEVELS");
+
+        int height = tree.getHeight();
+        int fanout = tree.getFanout();
+        int[] nodes = new int[height];
+        int[] keys = new int[height];
+        List<NodeBox> layout = tree.getLayout();
+        for (NodeBox box : layout) {
+            nodes[box.level]++;
+            keys[box.level] += box.node.keyCount();
+        }
+        for (int level = 0; level < height; level++) {
+            String kind = level == height - 1 ? "leaves" : level == 0 ? "root" : "inner";
+            String line = String.format("level %d  %-6s  %3d nodes  %4d keys  %3.0f%% full",
+                    level, kind, nodes[level], keys[level], 100.0 * keys[level] / (nodes[level] * fanout));
+            JLabel label = new JLabel(line);
+            label.setForeground(TEXT_COLOR);
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        String[] notes = {
+                "",
+                "leaf  -> [ header ] [ int keys[f+1] ] [ int values[f+1] ] [ next ]",
+                "inner -> [ header ] [ int keys[f] ] [ Node children[f+1] ]",
+                "Arrays hold one spare slot so a node can overflow before it splits.",
+                "A split leaves both halves about half full; random inserts settle near 70%."
+        };
+        for (String line : notes) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("[") ? ACCENT : new Color(180, 205, 235));
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("B+TREE vs TREEMAP");
+
+        VisualBPlusTree.MemoryInfo mem = tree.getMemoryInfo();
+        int n = tree.getSize();
+        double perTree = n == 0 ? 0 : (double) mem.totalUsed() / n;
+        double perTreeMap = n == 0 ? 0 : (double) mem.treeMap() / n;
+
+        String[] lines = {
+                "For the current " + n + " entries:",
+                "",
+                String.format("B+tree (int keys):          %s  (%.1f B/entry)", mem.formatTotal(), perTree),
+                "  - keys packed in arrays, one node per cache-friendly block",
+                "  - lookup touches height nodes, not log2(n)",
+                "",
+                String.format("TreeMap<Integer,Integer>:   %s  (%.1f B/entry)", mem.formatTreeMap(), perTreeMap),
+                "  - 40B entry + two 16B boxes per mapping",
+                "  - every step down is a pointer chase to a new object",
+                "",
+                "Choose a B+tree when:",
+                "  - Maps are large and keys are primitive",
+                "  - Range scans over sorted keys are hot"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("B+tree (") || line.startsWith("TreeMap<")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(180, 205, 235);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
@@ -0,0 +1,422 @@
+package game.ui;
+
+import game.collections.BPlusTreeIntMap.Inner;
+import game.collections.BPlusTreeIntMap.Leaf;
+import game.collections.BPlusTreeIntMap.Node;
+import game.model.VisualBPlusTree;
+import game.model.VisualBPlusTree.Event;
+import game.model.VisualBPlusTree.NodeBox;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import game.ui.ThemeManager;
+
+public class BPlusTreePanel extends JPanel {
+    private VisualBPlusTree tree;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+    private Dimension lastPreferredSize = new Dimension();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(130, 190, 255);
+    private static final Color INNER_COLOR = new Color(170, 150, 255);
+    private static final Color LEAF_COLOR = new Color(100, 220, 180);
+    private static final Color LINK_COLOR = new Color(90, 160, 140);
+    private static final Color SEARCH_COLOR = new Color(255, 230, 100);
+    private static final Color RANGE_COLOR = new Color(255, 150, 90);
+    private static final Color SPLIT_COLOR = new Color(120, 255, 140);
+    private static final Color MERGE_COLOR = new Color(255, 110, 130);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    private static final int STATS_WIDTH = 260;
+
+    public BPlusTreePanel(VisualBPlusTree tree) {
+        this.tree = tree;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            tree.update(delta);
+            // The tree widens as leaves split, so let the scroll pane know
+            Dimension size = getPreferredSize();
+            if (!size.equals(lastPreferredSize)) {
+                lastPreferredSize = size;
+                revalidate();
+            }
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            BPlusTreeMemoryDialog dialog = new BPlusTreeMemoryDialog((Frame) window, tree);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int right = 700;
+        for (NodeBox box : tree.getLayout()) {
+            right = Math.max(right, (int) box.x + box.width(tree.getFanout()));
+        }
+        int height = VisualBPlusTree.TOP_Y + tree.getHeight() * VisualBPlusTree.LEVEL_HEIGHT + 80;
+        return new Dimension(right + STATS_WIDTH + 20, Math.max(640, height));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        drawBackground(g2d);
+        List<NodeBox> layout = tree.getLayout();
+        if (layout.isEmpty()) {
+            drawEmptyMessage(g2d);
+        } else {
+            drawEdges(g2d, layout);
+            drawLeafLinks(g2d);
+            drawNodes(g2d, layout);
+        }
+        drawLegend(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(16, 22, 36)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    private void drawEmptyMessage(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 14));
+        g2d.setColor(new Color(150, 170, 200));
+        g2d.drawString("Empty tree - put a key or add random keys", 40, VisualBPlusTree.TOP_Y + 40);
+    }
+
+    // ── Tree ─────────────────────────────────────────────────────
+
+    // Child pointer i leaves an inner node at the boundary before key i
+    private void drawEdges(Graphics2D g2d, List<NodeBox> layout) {
+        List<Node> path = tree.getSearchPath();
+        boolean showPath = System.currentTimeMillis() - tree.getLastSearchTime() < 3000;
+        g2d.setStroke(new BasicStroke(1.3f));
+        for (NodeBox box : layout) {
+            if (box.node.isLeaf()) continue;
+            Inner inner = (Inner) box.node;
+            for (int i = 0; i <= inner.keyCount(); i++) {
+                Node child = inner.child(i);
+                NodeBox childBox = tree.boxOf(child);
+                if (childBox == null) continue;
+                int fromX = (int) box.x + 4 + i * VisualBPlusTree.CELL_WIDTH;
+                int fromY = (int) box.y + VisualBPlusTree.NODE_HEIGHT;
+                int toX = (int) childBox.x + childBox.width(tree.getFanout()) / 2;
+                int toY = (int) childBox.y;
+                boolean onPath = showPath && path.contains(box.node) && path.contains(child);
+                g2d.setColor(onPath ? SEARCH_COLOR : new Color(110, 110, 150, (int) (160 * childBox.alpha)));
+                g2d.setStroke(new BasicStroke(onPath ? 2.5f : 1.3f));
+                g2d.drawLine(fromX, fromY, toX, toY);
+                g2d.fillOval(fromX - 2, fromY - 2, 5, 5);
+            }
+        }
+    }
+
+    // The next pointers a range scan follows instead of climbing back up the tree
+    private void drawLeafLinks(Graphics2D g2d) {
+        List<Leaf> scanned = tree.getRangeLeaves();
+        boolean showRange = System.currentTimeMillis() - tree.getLastRangeTime() < 4000;
+        int fanout = tree.getFanout();
+        for (Leaf leaf = tree.getFirstLeaf(); leaf != null && leaf.next() != null; leaf = leaf.next()) {
+            NodeBox from = tree.boxOf(leaf);
+            NodeBox to = tree.boxOf(leaf.next());
+            if (from == null || to == null) continue;
+            int x1 = (int) from.x + from.width(fanout);
+            int x2 = (int) to.x;
+            int y = (int) from.y + VisualBPlusTree.NODE_HEIGHT / 2;
+            boolean hop = showRange && scanned.contains(leaf) && scanned.contains(leaf.next());
+            g2d.setColor(hop ? RANGE_COLOR : LINK_COLOR);
+            g2d.setStroke(new BasicStroke(hop ? 2.5f : 1.2f));
+            g2d.drawLine(x1, y, x2 - 3, y);
+            g2d.fillPolygon(new int[]{x2, x2 - 6, x2 - 6}, new int[]{y, y - 4, y + 4}, 3);
+        }
+    }
+
+    private void drawNodes(Graphics2D g2d, List<NodeBox> layout) {
+        int fanout = tree.getFanout();
+        long now = System.currentTimeMillis();
+        List<Node> path = tree.getSearchPath();
+        List<Integer> slots = tree.getSearchSlots();
+        boolean showPath = now - tree.getLastSearchTime() < 3000;
+        List<Leaf> scanned = tree.getRangeLeaves();
+        boolean showRange = now - tree.getLastRangeTime() < 4000;
+        List<Node> changed = tree.getChangedNodes();
+        boolean flashing = tree.wasJustChanged();
+        Color eventColor = eventColor(tree.getLastEvent());
+
+        for (NodeBox box : layout) {
+            Node node = box.node;
+            int x = (int) box.x;
+            int y = (int) box.y;
+            int width = box.width(fanout);
+            int alpha = (int) (255 * box.alpha);
+            Color base = node.isLeaf() ? LEAF_COLOR : INNER_COLOR;
+
+            g2d.setColor(new Color(24, 30, 46, Math.min(235, alpha)));
+            g2d.fillRoundRect(x, y, width, VisualBPlusTree.NODE_HEIGHT, 8, 8);
+
+            int pathIndex = showPath ? indexOf(path, node) : -1;
+            boolean inRange = showRange && node.isLeaf() && scanned.contains(node);
+
+            // Key cells, empty ones dimmed so free space in the node is visible
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+            FontMetrics fm = g2d.getFontMetrics();
+            for (int i = 0; i < fanout; i++) {
+                int cx = x + 4 + i * VisualBPlusTree.CELL_WIDTH;
+                int cy = y + 5;
+                int ch = VisualBPlusTree.NODE_HEIGHT - (node.isLeaf() ? 16 : 10);
+                if (i < node.keyCount()) {
+                    int key = node.key(i);
+                    boolean keyInRange = inRange && key >= tree.getRangeFrom() && key < tree.getRangeTo();
+                    Color fill = keyInRange ? RANGE_COLOR : base;
+                    g2d.setColor(new Color(fill.getRed(), fill.getGreen(), fill.getBlue(), Math.min(alpha, keyInRange ? 130 : 60)));
+                    g2d.fillRect(cx + 1, cy, VisualBPlusTree.CELL_WIDTH - 2, ch);
+                    g2d.setColor(new Color(TEXT_COLOR.getRed(), TEXT_COLOR.getGreen(), TEXT_COLOR.getBlue(), alpha));
+                    String label = String.valueOf(key);
+                    g2d.drawString(label, cx + (VisualBPlusTree.CELL_WIDTH - fm.stringWidth(label)) / 2, cy + ch / 2 + 4);
+                } else {
+                    g2d.setColor(new Color(60, 66, 90, Math.min(alpha, 120)));
+                    g2d.drawRect(cx + 1, cy, VisualBPlusTree.CELL_WIDTH - 2, ch);
+                }
+            }
+
+            // Slot chosen on the way down
+            if (pathIndex >= 0) {
+                int slot = slots.get(pathIndex);
+                int sx = x + 4 + slot * VisualBPlusTree.CELL_WIDTH;
+                g2d.setColor(SEARCH_COLOR);
+                g2d.setStroke(new BasicStroke(2f));
+                if (node.isLeaf() && slot < node.keyCount()) {
+                    g2d.drawRect(sx + 1, y + 5, VisualBPlusTree.CELL_WIDTH - 2, VisualBPlusTree.NODE_HEIGHT - 16);
+                } else {
+                    g2d.drawLine(sx, y + 2, sx, y + VisualBPlusTree.NODE_HEIGHT - 2);
+                }
+            }
+
+            if (node.isLeaf()) {
+                g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+                g2d.setColor(new Color(150, 170, 190, alpha));
+                g2d.drawString(node.keyCount() + "/" + fanout, x + 5, y + VisualBPlusTree.NODE_HEIGHT - 3);
+            }
+
+            // Outline: pulse for the nodes the last split or merge touched
+            Color outline = base;
+            float stroke = 1.3f;
+            if (flashing && changed.contains(node)) {
+                float pulse = (float) (0.5 + 0.5 * Math.sin(glowPhase * 10));
+                outline = new Color(eventColor.getRed(), eventColor.getGreen(), eventColor.getBlue(), (int) (120 + 135 * pulse));
+                stroke = 3f;
+            } else if (pathIndex >= 0) {
+                outline = SEARCH_COLOR;
+                stroke = 2.2f;
+            } else if (inRange) {
+                outline = RANGE_COLOR;
+                stroke = 2.2f;
+            }
+            g2d.setColor(new Color(outline.getRed(), outline.getGreen(), outline.getBlue(),
+                    Math.min(alpha, outline.getAlpha())));
+            g2d.setStroke(new BasicStroke(stroke));
+            g2d.drawRoundRect(x, y, width, VisualBPlusTree.NODE_HEIGHT, 8, 8);
+        }
+
+        // Level labels on the left margin
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(140, 150, 180));
+        for (int level = 0; level < tree.getHeight(); level++) {
+            String label = level == tree.getHeight() - 1 ? "leaves" : level == 0 ? "root" : "inner";
+            g2d.drawString(label, 2, VisualBPlusTree.TOP_Y + level * VisualBPlusTree.LEVEL_HEIGHT - 4);
+        }
+    }
+
+    private static int indexOf(List<Node> nodes, Node node) {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (nodes.get(i) == node) return i;
+        }
+        return -1;
+    }
+
+    private static Color eventColor(Event event) {
+        switch (event) {
+            case MERGE:
+            case ROOT_COLLAPSE:
+                return MERGE_COLOR;
+            case BORROW:
+                return SEARCH_COLOR;
+            default:
+                return SPLIT_COLOR;
+        }
+    }
+
+    private static String eventText(Event event) {
+        switch (event) {
+            case LEAF_SPLIT:    return "LEAF SPLIT: half the keys move right";
+            case INNER_SPLIT:   return "INNER SPLIT: middle key moves up";
+            case NEW_ROOT:      return "NEW ROOT: tree grows one level";
+            case BORROW:        return "BORROW: sibling lends a key";
+            case MERGE:         return "MERGE: underfull node joins sibling";
+            case ROOT_COLLAPSE: return "ROOT COLLAPSE: tree shrinks a level";
+            default:            return "";
+        }
+    }
+
+    private void drawLegend(Graphics2D g2d) {
+        int y = getHeight() - 30;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        Object[][] items = {
+                {INNER_COLOR, "inner: separator keys"},
+                {LEAF_COLOR, "leaf: keys and values"},
+                {LINK_COLOR, "next link"},
+                {SEARCH_COLOR, "lookup path"},
+                {RANGE_COLOR, "range scan"},
+                {SPLIT_COLOR, "split"},
+                {MERGE_COLOR, "merge"}
+        };
+        for (Object[] item : items) {
+            g2d.setColor((Color) item[0]);
+            g2d.fillRect(x, y, 10, 10);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) item[1], x + 14, y + 9);
+            x += g2d.getFontMetrics().stringWidth((String) item[1]) + 30;
+        }
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("B+TREE VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ fanout " + tree.getFanout() + ": values live only in leaves, leaves are chained for range scans ]", 20, 55);
+
+        g2d.setColor(new Color(180, 200, 230));
+        g2d.drawString(tree.getLastOperation(), 20, 80);
+
+        if (tree.wasJustChanged()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            Color color = eventColor(tree.getLastEvent());
+            g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString(eventText(tree.getLastEvent()), 300, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 175;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("TREE STATUS", panelX + 15, panelY + 20);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Size: " + tree.getSize() + " / " + VisualBPlusTree.MAX_KEYS, panelX + 15, y);
+        y += 15;
+        g2d.drawString("Fanout: " + tree.getFanout() + "   Height: " + tree.getHeight(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Nodes: " + tree.getNodeCount(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(ACCENT);
+        g2d.drawString(String.format("Leaf fill: %.0f%%", tree.getLeafFill() * 100), panelX + 15, y);
+        y += 15;
+        g2d.setColor(SPLIT_COLOR);
+        g2d.drawString("Splits: leaf " + tree.getLeafSplits() + ", inner " + tree.getInnerSplits(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(MERGE_COLOR);
+        g2d.drawString("Merges: " + tree.getMerges() + "  Borrows: " + tree.getBorrows(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Lookup cost: " + tree.getHeight() + " nodes", panelX + 15, y);
+        y += 15;
+        g2d.drawString("Operations: " + tree.getOperationsCount(), panelX + 15, y);
+
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 10);
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualBPlusTree.MemoryInfo mem = tree.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total: " + mem.formatTotal(), x + 15, y + 35);
+        g2d.drawString("Entries (int,int): " + mem.formatEntries(), x + 15, y + 50);
+        g2d.drawString("TreeMap<Integer,Integer>: " + mem.formatTreeMap(), x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(180, 200, 230));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(20, 26, 42, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
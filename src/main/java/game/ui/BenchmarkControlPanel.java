@@ -2,11 +2,15 @@ package game.ui;
 
 import game.model.BenchmarkModel;
 import game.model.BenchmarkModel.BenchmarkResult;
+import game.model.BenchmarkModel.Family;
 import game.model.BenchmarkModel.Operation;
+import game.model.KeyTypeBenchmark.KeyType;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
+import java.io.File;
+import java.io.IOException;
 import java.util.*;
 import java.util.List;
 
@@ -21,10 +25,18 @@ public class BenchmarkControlPanel extends JPanel {
     private BenchmarkModel model;
     private BenchmarkPanel benchmarkPanel;
 
+    private JComboBox<String> familyCombo;
     private JCheckBox addCheckbox;
     private JCheckBox getCheckbox;
     private JCheckBox removeCheckbox;
     private JComboBox<String> countCombo;
+    private JComboBox<String> keyTypeCombo;
+    private JComboBox<String> heapCombo;
+    private JComboBox<String> ballastCombo;
+    private JComboBox<String> samplesCombo;
+    private JComboBox<String> soakCombo;
+    private JButton traceButton;
+    private JLabel traceLabel;
     private JButton runButton;
     private JLabel statusLabel;
     private JLabel progressLabel;
@@ -34,7 +46,7 @@ public class BenchmarkControlPanel extends JPanel {
         this.model = model;
         this.benchmarkPanel = panel;
         setBackground(BG_COLOR);
-        setPreferredSize(new Dimension(260, 700));
+        setPreferredSize(new Dimension(260, 860));
         setBorder(new EmptyBorder(15, 15, 15, 15));
         setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
 
@@ -43,6 +55,18 @@ public class BenchmarkControlPanel extends JPanel {
     }
 
     private void initComponents() {
+        // ── FAMILY section ────────────────────────────────────
+        add(createTitle("FAMILY"));
+        add(Box.createVerticalStrut(8));
+
+        String[] familyNames = new String[Family.values().length];
+        for (int i = 0; i < familyNames.length; i++) familyNames[i] = Family.values()[i].getDisplayName();
+        familyCombo = new JComboBox<>(familyNames);
+        styleComboBox(familyCombo);
+        familyCombo.addActionListener(e -> updateOperationCheckboxes());
+        add(familyCombo);
+        add(Box.createVerticalStrut(14));
+
         // ── OPERATIONS section ────────────────────────────────
         add(createTitle("OPERATIONS"));
         add(Box.createVerticalStrut(8));
@@ -57,6 +81,75 @@ public class BenchmarkControlPanel extends JPanel {
         add(removeCheckbox);
         add(Box.createVerticalStrut(14));
 
+        // ── KEY TYPE section ──────────────────────────────────
+        add(createTitle("KEY TYPE"));
+        add(Box.createVerticalStrut(8));
+
+        String[] keyTypeNames = new String[KeyType.values().length];
+        for (int i = 0; i < keyTypeNames.length; i++) keyTypeNames[i] = KeyType.values()[i].getDisplayName();
+        keyTypeCombo = new JComboBox<>(keyTypeNames);
+        styleComboBox(keyTypeCombo);
+        keyTypeCombo.addActionListener(e -> model.setKeyType(KeyType.values()[keyTypeCombo.getSelectedIndex()]));
+        add(keyTypeCombo);
+        add(Box.createVerticalStrut(14));
+
+        // ── FORKED JVM section ────────────────────────────────
+        add(createTitle("FORKED JVM"));
+        add(Box.createVerticalStrut(8));
+
+        int[] heapSizes = {64, 128, 256};
+        heapCombo = new JComboBox<>(new String[]{"Heap 64 MB", "Heap 128 MB", "Heap 256 MB"});
+        styleComboBox(heapCombo);
+        heapCombo.setSelectedIndex(1);
+        heapCombo.addActionListener(e -> model.setForkedHeapMb(heapSizes[heapCombo.getSelectedIndex()]));
+        add(heapCombo);
+        add(Box.createVerticalStrut(4));
+
+        int[] ballastCeilings = {60, 70, 80, 90};
+        ballastCombo = new JComboBox<>(new String[]{"Ballast up to 60%", "Ballast up to 70%",
+                "Ballast up to 80%", "Ballast up to 90%"});
+        styleComboBox(ballastCombo);
+        ballastCombo.setSelectedIndex(2);
+        ballastCombo.addActionListener(e -> model.setMaxBallastPercent(ballastCeilings[ballastCombo.getSelectedIndex()]));
+        add(ballastCombo);
+        add(Box.createVerticalStrut(4));
+
+        int[] sampleCounts = {3, 5, 9, 15};
+        samplesCombo = new JComboBox<>(new String[]{"Median of 3 JVMs", "Median of 5 JVMs",
+                "Median of 9 JVMs", "Median of 15 JVMs"});
+        styleComboBox(samplesCombo);
+        samplesCombo.setSelectedIndex(1);
+        samplesCombo.addActionListener(e -> model.setColdStartSamples(sampleCounts[samplesCombo.getSelectedIndex()]));
+        add(samplesCombo);
+        add(Box.createVerticalStrut(4));
+
+        int[] soakDurations = {10, 30, 60, 300, 1800, 3600};
+        soakCombo = new JComboBox<>(new String[]{"Soak 10 s / structure", "Soak 30 s / structure",
+                "Soak 1 min / structure", "Soak 5 min / structure", "Soak 30 min / structure", "Soak 1 h / structure"});
+        styleComboBox(soakCombo);
+        soakCombo.setSelectedIndex(1);
+        soakCombo.addActionListener(e -> model.setSoakSeconds(soakDurations[soakCombo.getSelectedIndex()]));
+        add(soakCombo);
+        add(Box.createVerticalStrut(14));
+
+        // ── TRACE section ─────────────────────────────────────
+        add(createTitle("TRACE"));
+        add(Box.createVerticalStrut(8));
+
+        traceButton = createStyledButton("CHOOSE TRACE FILE", ACCENT);
+        traceButton.setMaximumSize(new Dimension(250, 30));
+        traceButton.addActionListener(e -> chooseTrace());
+        add(traceButton);
+        add(Box.createVerticalStrut(4));
+
+        traceLabel = new JLabel("No trace (CSV or binary)");
+        traceLabel.setFont(new Font("Consolas", Font.PLAIN, 10));
+        traceLabel.setForeground(TEXT_COLOR);
+        traceLabel.setAlignmentX(LEFT_ALIGNMENT);
+        traceLabel.setMaximumSize(new Dimension(230, 16));
+        add(traceLabel);
+        add(Box.createVerticalStrut(14));
+
         // ── ELEMENT COUNT section ─────────────────────────────
         add(createTitle("ELEMENT COUNT"));
         add(Box.createVerticalStrut(8));
@@ -73,6 +166,12 @@ public class BenchmarkControlPanel extends JPanel {
         runButton.setMaximumSize(new Dimension(250, 40));
         runButton.addActionListener(e -> runBenchmark());
         add(runButton);
+        add(Box.createVerticalStrut(6));
+
+        JButton exportButton = createStyledButton("EXPORT CSV", ACCENT);
+        exportButton.setMaximumSize(new Dimension(250, 30));
+        exportButton.addActionListener(e -> exportResults());
+        add(exportButton);
         add(Box.createVerticalStrut(8));
 
         // ── Status + progress ─────────────────────────────────
@@ -112,6 +211,8 @@ public class BenchmarkControlPanel extends JPanel {
 
         // ── INFO panel ────────────────────────────────────────
         add(createInfoPanel());
+
+        updateOperationCheckboxes();
     }
 
     private void runBenchmark() {
@@ -124,17 +225,24 @@ public class BenchmarkControlPanel extends JPanel {
             return;
         }
 
+        Family family = selectedFamily();
         Set<Operation> ops = EnumSet.noneOf(Operation.class);
         if (addCheckbox.isSelected()) ops.add(Operation.ADD);
         if (getCheckbox.isSelected()) ops.add(Operation.GET);
         if (removeCheckbox.isSelected()) ops.add(Operation.REMOVE);
 
-        if (ops.isEmpty()) {
+        if (family.usesOperations() && ops.isEmpty()) {
             statusLabel.setText("Select at least one operation!");
             statusLabel.setForeground(ThemeManager.get().getErrorColor());
             return;
         }
 
+        if (family == Family.TRACE_REPLAY && model.getTracePath() == null) {
+            statusLabel.setText("Choose a trace file first!");
+            statusLabel.setForeground(ThemeManager.get().getErrorColor());
+            return;
+        }
+
         String countStr = (String) countCombo.getSelectedItem();
         int count = Integer.parseInt(countStr.replace(",", ""));
 
@@ -143,15 +251,20 @@ public class BenchmarkControlPanel extends JPanel {
         statusLabel.setForeground(ACCENT);
         benchmarkPanel.setShowProgress(true);
 
-        model.runBenchmarks(count, ops,
+        model.runBenchmarks(family, count, ops,
             progress -> SwingUtilities.invokeLater(() -> {
                 benchmarkPanel.setProgress(progress);
                 progressLabel.setText(String.format("Progress: %.0f%%", progress * 100));
             }),
             () -> SwingUtilities.invokeLater(() -> {
                 runButton.setText("RUN BENCHMARK");
-                statusLabel.setText("Done! " + model.getResults().size() + " benchmarks");
-                statusLabel.setForeground(ThemeManager.get().getSuccessColor());
+                if (model.getLastError() != null) {
+                    statusLabel.setText("Failed: " + model.getLastError());
+                    statusLabel.setForeground(ThemeManager.get().getErrorColor());
+                } else {
+                    statusLabel.setText("Done! " + model.getResults().size() + " benchmarks");
+                    statusLabel.setForeground(ThemeManager.get().getSuccessColor());
+                }
                 progressLabel.setText(" ");
                 benchmarkPanel.setShowProgress(false);
                 benchmarkPanel.onResultsUpdated();
@@ -160,6 +273,53 @@ public class BenchmarkControlPanel extends JPanel {
         );
     }
 
+    private void chooseTrace() {
+        JFileChooser chooser = new JFileChooser();
+        if (model.getTracePath() != null) chooser.setSelectedFile(model.getTracePath().toFile());
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        model.setTracePath(chooser.getSelectedFile().toPath());
+        traceLabel.setText(chooser.getSelectedFile().getName());
+        traceLabel.setToolTipText(chooser.getSelectedFile().getAbsolutePath());
+    }
+
+    private void exportResults() {
+        if (model.getResults().isEmpty()) {
+            statusLabel.setText("Nothing to export yet");
+            statusLabel.setForeground(ThemeManager.get().getWarnColor());
+            return;
+        }
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("benchmark-" + selectedFamily().name().toLowerCase() + ".csv"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        try {
+            model.exportCsv(chooser.getSelectedFile().toPath());
+            statusLabel.setText("Exported " + model.getResults().size() + " rows");
+            statusLabel.setForeground(ThemeManager.get().getSuccessColor());
+        } catch (IOException ex) {
+            statusLabel.setText("Export failed: " + ex.getMessage());
+            statusLabel.setForeground(ThemeManager.get().getErrorColor());
+        }
+    }
+
+    private Family selectedFamily() {
+        return Family.values()[familyCombo.getSelectedIndex()];
+    }
+
+    private void updateOperationCheckboxes() {
+        boolean enabled = selectedFamily().usesOperations();
+        addCheckbox.setEnabled(enabled);
+        getCheckbox.setEnabled(enabled);
+        removeCheckbox.setEnabled(enabled);
+        keyTypeCombo.setEnabled(selectedFamily().usesKeyType());
+        boolean pressure = selectedFamily() == Family.MEMORY_PRESSURE;
+        heapCombo.setEnabled(pressure || selectedFamily() == Family.MAPPED_LIST);
+        ballastCombo.setEnabled(pressure);
+        samplesCombo.setEnabled(selectedFamily() == Family.COLD_START);
+        countCombo.setEnabled(selectedFamily() != Family.COLD_START && selectedFamily() != Family.MAPPED_LIST);
+        traceButton.setEnabled(selectedFamily() == Family.TRACE_REPLAY);
+        soakCombo.setEnabled(selectedFamily() == Family.SOAK);
+    }
+
     private void updateSummary() {
         summaryPanel.removeAll();
 
@@ -170,7 +330,7 @@ public class BenchmarkControlPanel extends JPanel {
 
         for (Map.Entry<String, List<BenchmarkResult>> entry : byOp.entrySet()) {
             List<BenchmarkResult> sorted = new ArrayList<>(entry.getValue());
-            sorted.sort(Comparator.comparingDouble(BenchmarkResult::getTimeMs));
+            sorted.sort(BenchmarkPanel::compareBestFirst);
 
             BenchmarkResult fastest = sorted.get(0);
             BenchmarkResult slowest = sorted.get(sorted.size() - 1);
@@ -182,20 +342,22 @@ public class BenchmarkControlPanel extends JPanel {
             summaryPanel.add(opLabel);
 
             JLabel fastLabel = new JLabel("Best: " + fastest.getDataStructureName()
-                    + " (" + formatTime(fastest.getTimeMs()) + ")");
+                    + " (" + BenchmarkPanel.formatValue(fastest) + ")");
             fastLabel.setFont(new Font("Consolas", Font.PLAIN, 10));
             fastLabel.setForeground(ThemeManager.get().getSuccessColor());
             fastLabel.setAlignmentX(LEFT_ALIGNMENT);
             summaryPanel.add(fastLabel);
 
             JLabel slowLabel = new JLabel("Slow: " + slowest.getDataStructureName()
-                    + " (" + formatTime(slowest.getTimeMs()) + ")");
+                    + " (" + BenchmarkPanel.formatValue(slowest) + ")");
             slowLabel.setFont(new Font("Consolas", Font.PLAIN, 10));
             slowLabel.setForeground(ThemeManager.get().getErrorColor());
             slowLabel.setAlignmentX(LEFT_ALIGNMENT);
             summaryPanel.add(slowLabel);
 
-            double ratio = slowest.getTimeMs() / Math.max(0.001, fastest.getTimeMs());
+            double ratio = fastest.isLowerBetter()
+                    ? slowest.getValue() / Math.max(0.001, fastest.getValue())
+                    : fastest.getValue() / Math.max(0.001, slowest.getValue());
             JLabel ratioLabel = new JLabel(String.format("Ratio: %.1fx", ratio));
             ratioLabel.setFont(new Font("Consolas", Font.PLAIN, 10));
             ratioLabel.setForeground(new Color(200, 180, 150));
@@ -209,13 +371,6 @@ public class BenchmarkControlPanel extends JPanel {
         summaryPanel.repaint();
     }
 
-    private String formatTime(double ms) {
-        if (ms < 1) return String.format("%.2f ms", ms);
-        if (ms < 100) return String.format("%.1f ms", ms);
-        if (ms < 1000) return String.format("%.0f ms", ms);
-        return String.format("%.1f s", ms / 1000);
-    }
-
     private JCheckBox createStyledCheckbox(String text, boolean selected) {
         JCheckBox cb = new JCheckBox(text, selected) {
             @Override
@@ -241,7 +396,8 @@ public class BenchmarkControlPanel extends JPanel {
                     g2d.drawLine(9, boxY + 12, 15, boxY + 4);
                 }
 
-                g2d.setColor(TEXT_COLOR);
+                g2d.setColor(isEnabled() ? TEXT_COLOR
+                        : new Color(TEXT_COLOR.getRed(), TEXT_COLOR.getGreen(), TEXT_COLOR.getBlue(), 90));
                 g2d.setFont(getFont());
                 FontMetrics fm = g2d.getFontMetrics();
                 g2d.drawString(getText(), boxSize + 8, (getHeight() + fm.getAscent() - fm.getDescent()) / 2);
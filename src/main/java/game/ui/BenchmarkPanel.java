@@ -19,7 +19,7 @@ public class BenchmarkPanel extends JPanel {
     private static final int BAR_HEIGHT = 28;
     private static final int BAR_GAP = 6;
     private static final int LABEL_WIDTH = 155;
-    private static final int TIME_WIDTH = 80;
+    private static final int TIME_WIDTH = 170;
     private static final int SECTION_GAP = 30;
     private static final double BAR_ANIM_SPEED = 2.5;
 
@@ -217,7 +217,7 @@ public class BenchmarkPanel extends JPanel {
         for (Map.Entry<String, List<BenchmarkResult>> entry : groups.entrySet()) {
             String opName = entry.getKey();
             List<BenchmarkResult> opResults = new ArrayList<>(entry.getValue());
-            opResults.sort(Comparator.comparingDouble(BenchmarkResult::getTimeMs));
+            opResults.sort(BenchmarkPanel::compareBestFirst);
 
             int count = opResults.isEmpty() ? 0 : opResults.get(0).getElementCount();
             String sectionTitle = opName + "  (" + formatCount(count) + " elements)";
@@ -234,12 +234,12 @@ public class BenchmarkPanel extends JPanel {
             g2d.drawLine(marginX, yOffset, getWidth() - marginX, yOffset);
             yOffset += 12;
 
-            double maxTime = opResults.stream().mapToDouble(BenchmarkResult::getTimeMs).max().orElse(1);
+            double maxValue = opResults.stream().mapToDouble(BenchmarkResult::getValue).max().orElse(1);
 
             for (int i = 0; i < opResults.size(); i++) {
                 BenchmarkResult r = opResults.get(i);
                 int barY = yOffset + i * (BAR_HEIGHT + BAR_GAP);
-                Color dsColor = BenchmarkModel.DS_COLORS.getOrDefault(r.getDataStructureName(), ACCENT);
+                Color dsColor = BenchmarkModel.colorOf(r.getDataStructureName(), ACCENT);
 
                 String animKey = r.getDataStructureName() + "|" + r.getOperationName();
                 double animProgress = barAnimProgress.getOrDefault(animKey, 1.0);
@@ -258,7 +258,7 @@ public class BenchmarkPanel extends JPanel {
                 g2d.fillRoundRect(barX, barY, availableBarWidth, BAR_HEIGHT, 6, 6);
 
                 // Filled bar
-                double targetWidth = (r.getTimeMs() / maxTime) * availableBarWidth;
+                double targetWidth = maxValue > 0 ? (r.getValue() / maxValue) * availableBarWidth : 0;
                 int fillW = (int) (targetWidth * animProgress);
                 if (fillW > 0) {
                     GradientPaint gp = new GradientPaint(barX, barY, dsColor.darker().darker(),
@@ -272,19 +272,44 @@ public class BenchmarkPanel extends JPanel {
                 g2d.setStroke(new BasicStroke(1));
                 g2d.drawRoundRect(barX, barY, availableBarWidth, BAR_HEIGHT, 6, 6);
 
+                // Drift over time, as a sparkline over the left part of the bar
+                double[] series = r.getSeries();
+                if (series != null && series.length > 1) {
+                    drawSparkline(g2d, series, barX + 6, barY + 3, availableBarWidth * 2 / 5, BAR_HEIGHT - 6);
+                }
+
+                // Family-specific metrics, right-aligned inside the bar
+                String metricsStr = formatMetrics(r);
+                if (!metricsStr.isEmpty()) {
+                    g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+                    FontMetrics mfm = g2d.getFontMetrics();
+                    g2d.setColor(new Color(TEXT_COLOR.getRed(), TEXT_COLOR.getGreen(), TEXT_COLOR.getBlue(), 200));
+                    g2d.drawString(metricsStr, barX + availableBarWidth - mfm.stringWidth(metricsStr) - 8, labelY);
+                }
+
                 // Time label
                 g2d.setFont(new Font("Consolas", Font.BOLD, 11));
-                String timeStr = formatTime(r.getTimeMs());
+                String timeStr = formatValue(r);
                 fm = g2d.getFontMetrics();
                 int timeX = barX + availableBarWidth + 8;
                 g2d.setColor(TEXT_COLOR);
                 g2d.drawString(timeStr, timeX, labelY);
 
                 // Fastest badge
+                int badgeX = timeX + fm.stringWidth(timeStr) + 6;
                 if (i == 0 && opResults.size() > 1) {
+                    String badge = r.getPrimaryMetric() == null ? "FASTEST" : "BEST";
                     g2d.setFont(new Font("Consolas", Font.BOLD, 9));
                     g2d.setColor(new Color(100, 255, 150));
-                    g2d.drawString("FASTEST", timeX + fm.stringWidth(timeStr) + 6, labelY);
+                    g2d.drawString(badge, badgeX, labelY);
+                    badgeX += g2d.getFontMetrics().stringWidth(badge) + 6;
+                }
+
+                // Warning flag set by the family, e.g. OOM or GC thrash
+                if (r.getNote() != null) {
+                    g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+                    g2d.setColor(new Color(255, 90, 90));
+                    g2d.drawString(r.getNote(), badgeX, labelY);
                 }
             }
 
@@ -292,13 +317,56 @@ public class BenchmarkPanel extends JPanel {
         }
     }
 
-    private String formatTime(double ms) {
+    private void drawSparkline(Graphics2D g2d, double[] series, int x, int y, int w, int h) {
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (double v : series) { min = Math.min(min, v); max = Math.max(max, v); }
+        // Flat-ish series stay flat instead of magnifying noise to full height
+        double range = Math.max(max - min, Math.abs(max) * 0.05);
+        if (range == 0) range = 1;
+
+        int[] xs = new int[series.length];
+        int[] ys = new int[series.length];
+        for (int i = 0; i < series.length; i++) {
+            xs[i] = x + i * w / (series.length - 1);
+            ys[i] = y + h - (int) ((series[i] - min) / range * h);
+        }
+        g2d.setColor(new Color(TEXT_COLOR.getRed(), TEXT_COLOR.getGreen(), TEXT_COLOR.getBlue(), 220));
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawPolyline(xs, ys, series.length);
+    }
+
+    static String formatTime(double ms) {
         if (ms < 1) return String.format("%.2f ms", ms);
         if (ms < 100) return String.format("%.1f ms", ms);
         if (ms < 1000) return String.format("%.0f ms", ms);
         return String.format("%.1f s", ms / 1000);
     }
 
+    static int compareBestFirst(BenchmarkResult a, BenchmarkResult b) {
+        int cmp = Double.compare(a.getValue(), b.getValue());
+        return a.isLowerBetter() ? cmp : -cmp;
+    }
+
+    static String formatValue(BenchmarkResult r) {
+        if (r.getPrimaryMetric() == null) return formatTime(r.getTimeMs());
+        return formatNumber(r.getValue()) + " " + r.getPrimaryMetric();
+    }
+
+    private String formatMetrics(BenchmarkResult r) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Double> m : r.getMetrics().entrySet()) {
+            if (m.getKey().equals(r.getPrimaryMetric())) continue;
+            if (sb.length() > 0) sb.append("  |  ");
+            sb.append(formatNumber(m.getValue())).append(' ').append(m.getKey());
+        }
+        return sb.toString();
+    }
+
+    private static String formatNumber(double v) {
+        return Math.abs(v) >= 100 ? String.format("%,.0f", v) : String.format("%.1f", v);
+    }
+
     private String formatCount(int count) {
         if (count >= 1_000_000) return String.format("%,d", count);
         if (count >= 1_000) return String.format("%,d", count);
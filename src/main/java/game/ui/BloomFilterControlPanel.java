@@ -0,0 +1,367 @@
+package game.ui;
+
+import game.model.VisualBloomFilter;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class BloomFilterControlPanel extends JPanel {
+    private VisualBloomFilter bloom;
+    private Random random = new Random();
+    private JTextField keyField;
+    private JComboBox<String> bitsCombo;
+    private JComboBox<String> hashCombo;
+    private JComboBox<String> layoutCombo;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(255, 140, 170);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public BloomFilterControlPanel(VisualBloomFilter bloom) {
+        this.bloom = bloom;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("OPERATIONS"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("KEY (0.." + (VisualBloomFilter.KEY_RANGE - 1) + "):"));
+        keyField = new JTextField();
+        styleTextField(keyField);
+        add(keyField);
+        add(Box.createVerticalStrut(8));
+
+        JPanel opPanel = new JPanel(new GridLayout(1, 3, 4, 4));
+        opPanel.setBackground(BG_COLOR);
+        opPanel.setMaximumSize(new Dimension(230, 26));
+        opPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton addBtn = createSmallButton("add", new Color(120, 230, 150));
+        addBtn.addActionListener(e -> {
+            Integer key = parseKey();
+            if (key == null) return;
+            boolean added = bloom.add(key);
+            updateStatus(added ? "Added: " + key : "Not added: " + key, added ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        opPanel.add(addBtn);
+
+        JButton containsBtn = createSmallButton("contains", new Color(255, 230, 90));
+        containsBtn.addActionListener(e -> {
+            Integer key = parseKey();
+            if (key == null) return;
+            bloom.contains(key);
+            showQueryResult(key);
+        });
+        opPanel.add(containsBtn);
+
+        JButton removeBtn = createSmallButton("remove", new Color(255, 120, 120));
+        removeBtn.addActionListener(e -> {
+            Integer key = parseKey();
+            if (key == null) return;
+            boolean removed = bloom.remove(key);
+            updateStatus(removed ? "Removed, bits stay" : "Not found: " + key, removed ? WARN_COLOR : ERROR_COLOR);
+        });
+        opPanel.add(removeBtn);
+        add(opPanel);
+        add(Box.createVerticalStrut(6));
+
+        JPanel randomPanel = new JPanel(new GridLayout(1, 2, 4, 4));
+        randomPanel.setBackground(BG_COLOR);
+        randomPanel.setMaximumSize(new Dimension(230, 26));
+        randomPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton randomAddBtn = createSmallButton("+10 random", ACCENT);
+        randomAddBtn.addActionListener(e -> {
+            int added = bloom.addRandom(10);
+            updateStatus("Added " + added + " keys", added > 0 ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        randomPanel.add(randomAddBtn);
+
+        JButton randomQueryBtn = createSmallButton("random query", new Color(150, 200, 255));
+        randomQueryBtn.addActionListener(e -> {
+            int key = VisualBloomFilter.generateRandomKey(random);
+            bloom.contains(key);
+            showQueryResult(key);
+        });
+        randomPanel.add(randomQueryBtn);
+        add(randomPanel);
+        add(Box.createVerticalStrut(6));
+
+        JButton probeBtn = createStyledButton("query 500 absent keys", new Color(255, 80, 80));
+        probeBtn.addActionListener(e -> {
+            double observed = bloom.probeAbsent(500);
+            updateStatus(String.format("Observed FPR %.1f%%", 100 * observed), observed > bloom.getPredictedFpr() * 1.5
+                    ? WARN_COLOR : SUCCESS_COLOR);
+        });
+        add(probeBtn);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("FILTER SHAPE"));
+        add(Box.createVerticalStrut(6));
+
+        String[] bitNames = new String[VisualBloomFilter.BIT_OPTIONS.length];
+        for (int i = 0; i < bitNames.length; i++) bitNames[i] = "m = " + VisualBloomFilter.BIT_OPTIONS[i] + " bits";
+        bitsCombo = new JComboBox<>(bitNames);
+        styleComboBox(bitsCombo);
+        bitsCombo.setSelectedIndex(1);
+        bitsCombo.addActionListener(e -> reconfigure());
+        add(bitsCombo);
+        add(Box.createVerticalStrut(4));
+
+        String[] hashNames = new String[VisualBloomFilter.MAX_HASHES];
+        for (int i = 0; i < hashNames.length; i++) hashNames[i] = "k = " + (i + 1) + " hash" + (i == 0 ? "" : "es");
+        hashCombo = new JComboBox<>(hashNames);
+        styleComboBox(hashCombo);
+        hashCombo.setSelectedIndex(2);
+        hashCombo.addActionListener(e -> reconfigure());
+        add(hashCombo);
+        add(Box.createVerticalStrut(4));
+
+        layoutCombo = new JComboBox<>(new String[]{"classic: probes anywhere", "blocked: one 512-bit block"});
+        styleComboBox(layoutCombo);
+        layoutCombo.addActionListener(e -> reconfigure());
+        add(layoutCombo);
+        add(Box.createVerticalStrut(6));
+
+        JPanel resetPanel = new JPanel(new GridLayout(1, 2, 4, 4));
+        resetPanel.setBackground(BG_COLOR);
+        resetPanel.setMaximumSize(new Dimension(230, 26));
+        resetPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton rebuildBtn = createSmallButton("rebuild()", new Color(200, 150, 255));
+        rebuildBtn.addActionListener(e -> {
+            bloom.rebuild();
+            updateStatus("Filter rebuilt", SUCCESS_COLOR);
+        });
+        resetPanel.add(rebuildBtn);
+
+        JButton clearBtn = createSmallButton("clear()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            bloom.clear();
+            updateStatus("Set and filter cleared", WARN_COLOR);
+        });
+        resetPanel.add(clearBtn);
+        add(resetPanel);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    private void reconfigure() {
+        int bits = VisualBloomFilter.BIT_OPTIONS[bitsCombo.getSelectedIndex()];
+        int hashes = hashCombo.getSelectedIndex() + 1;
+        boolean blocked = layoutCombo.getSelectedIndex() == 1;
+        bloom.configure(bits, hashes, blocked);
+        updateStatus("Filter rebuilt: m=" + bloom.getBitCount() + ", k=" + hashes, WARN_COLOR);
+    }
+
+    private void showQueryResult(int key) {
+        switch (bloom.getLastResult()) {
+            case DEFINITELY_ABSENT -> updateStatus("Absent (filter): " + key, SUCCESS_COLOR);
+            case PRESENT -> updateStatus("Present: " + key, SUCCESS_COLOR);
+            case FALSE_POSITIVE -> updateStatus("False positive: " + key, ERROR_COLOR);
+            default -> updateStatus(" ", TEXT_COLOR);
+        }
+    }
+
+    private Integer parseKey() {
+        try {
+            int key = Integer.parseInt(keyField.getText().trim());
+            if (key < 0 || key >= VisualBloomFilter.KEY_RANGE) {
+                updateStatus("Key must be 0.." + (VisualBloomFilter.KEY_RANGE - 1), ERROR_COLOR);
+                return null;
+            }
+            return key;
+        } catch (NumberFormatException ex) {
+            updateStatus("Invalid key", ERROR_COLOR);
+            return null;
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleComboBox(JComboBox<String> combo) {
+        combo.setBackground(BUTTON_BG);
+        combo.setForeground(TEXT_COLOR);
+        combo.setFont(new Font("Consolas", Font.PLAIN, 13));
+        combo.setMaximumSize(new Dimension(250, 26));
+        combo.setAlignmentX(LEFT_ALIGNMENT);
+        combo.setBorder(BorderFactory.createLineBorder(ACCENT.darker(), 1));
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("BLOOM INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "add: set k bits",
+                "Any 0 bit: surely absent",
+                "All 1s: maybe, ask the set",
+                "~10 bits/key gives ~1% FPR",
+                "No removal, only rebuild"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(240, 200, 215));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
@@ -0,0 +1,176 @@
+package game.ui;
+
+import game.model.VisualBloomFilter;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import game.ui.ThemeManager;
+
+public class BloomFilterMemoryDialog extends JDialog {
+    private VisualBloomFilter bloom;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(255, 140, 170);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public BloomFilterMemoryDialog(Frame parent, VisualBloomFilter bloom) {
+        super(parent, "Bloom Filter Memory Analysis", true);
+        this.bloom = bloom;
+
+        setSize(650, 660);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createSizingPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualBloomFilter.MemoryInfo mem = bloom.getMemoryInfo();
+        int n = mem.entries();
+
+        String[] lines = {
+                "Total heap used: " + mem.formatTotal(),
+                "",
+                "Filter:  " + mem.formatFilter() + " (" + bloom.getBitCount() + " bits in a long[] + header)",
+                "HashSet: " + mem.formatHashSet() + " (" + n + " entries, 32B node + 16B Integer each)",
+                "",
+                String.format("Filter bits per key: %.1f", mem.bitsPerEntry()),
+                String.format("Filter share of total: %.1f%%", mem.totalUsed() == 0 ? 0.0 : 100.0 * mem.filterBytes() / mem.totalUsed())
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            boolean highlight = line.contains("Total") || line.startsWith("Filter bits");
+            label.setForeground(highlight ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", highlight ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSizingPanel() {
+        JPanel panel = createSection("SIZING");
+
+        int n = Math.max(1, bloom.getSize());
+        String[] lines = {
+                String.format("now: m = %d, k = %d, n = %d -> predicted %.2f%%, best k %.1f",
+                        bloom.getBitCount(), bloom.getHashCount(), bloom.getSize(), 100 * bloom.getPredictedFpr(),
+                        bloom.getOptimalHashCount()),
+                "",
+                "bits per key for a target rate, k = bits * ln 2:",
+                String.format("  10%%   %.1f bits/key, k = 3      %s for %d keys", bitsFor(0.10), bytesFor(0.10, n), n),
+                String.format("   1%%   %.1f bits/key, k = 7      %s for %d keys", bitsFor(0.01), bytesFor(0.01, n), n),
+                String.format("  0.1%%  %.1f bits/key, k = 10     %s for %d keys", bitsFor(0.001), bytesFor(0.001, n), n),
+                "",
+                "[ long[] bits ]  each key: k positions h1 + i * h2, scaled to [0, m)",
+                "Every 10x fewer false positives costs about 4.8 more bits per key.",
+                "The blocked layout keeps all k bits in one 64-byte cache line."
+        };
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("[") ? ACCENT : line.startsWith("Every ") || line.startsWith("The ")
+                    ? new Color(240, 200, 215) : TEXT_COLOR);
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private static double bitsFor(double rate) {
+        return -Math.log(rate) / (Math.log(2) * Math.log(2));
+    }
+
+    private static String bytesFor(double rate, int n) {
+        long bytes = (long) Math.ceil(bitsFor(rate) * n / 8);
+        return bytes < 1024 ? bytes + " B" : String.format("%.1f KB", bytes / 1024.0);
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("BLOOM + HASHSET vs BARE HASHSET");
+
+        VisualBloomFilter.MemoryInfo mem = bloom.getMemoryInfo();
+        int n = mem.entries();
+        double perFilter = n == 0 ? 0 : (double) mem.filterBytes() / n;
+        double perSet = n == 0 ? 0 : (double) mem.hashSetBytes() / n;
+
+        String[] lines = {
+                "For the current " + n + " keys:",
+                "",
+                String.format("Bloom filter:  %s  (%.1f B/key)", mem.formatFilter(), perFilter),
+                "  - answers most absent keys alone, reading k bits at most",
+                "  - small enough to stay in cache while the set does not",
+                "",
+                String.format("HashSet:       %s  (%.1f B/key)", mem.formatHashSet(), perSet),
+                "  - still needed for 'maybe' answers and for iteration",
+                "  - a miss costs a table read and often a node and key read",
+                "",
+                "Put a filter in front of a set when:",
+                "  - Most lookups are for absent keys",
+                "  - The set's own lookup is slow: large, tree-based, or off-heap"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("Bloom filter:") || line.startsWith("HashSet:")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(240, 200, 215);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
@@ -0,0 +1,428 @@
+package game.ui;
+
+import game.collections.BloomFilter;
+import game.model.VisualBloomFilter;
+import game.model.VisualBloomFilter.FprSample;
+import game.model.VisualBloomFilter.QueryResult;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.geom.Path2D;
+import java.util.List;
+import game.ui.ThemeManager;
+
+public class BloomFilterPanel extends JPanel {
+    private VisualBloomFilter bloom;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(255, 140, 170);
+    private static final Color BIT_COLOR = new Color(255, 140, 170);
+    private static final Color CLEAR_COLOR = new Color(50, 34, 42);
+    private static final Color PROBE_SET_COLOR = new Color(120, 230, 150);
+    private static final Color PROBE_CLEAR_COLOR = new Color(255, 230, 90);
+    private static final Color FALSE_POSITIVE_COLOR = new Color(255, 80, 80);
+    private static final Color PREDICTED_COLOR = new Color(150, 200, 255);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    private static final int GRID_X = 20;
+    private static final int GRID_Y = 110;
+    private static final int COLUMNS = 64;
+    private static final int CELL = 15;
+    private static final int MAX_ROWS = 1024 / COLUMNS;
+    private static final int CHART_WIDTH = 520;
+    private static final int CHART_HEIGHT = 190;
+
+    public BloomFilterPanel(VisualBloomFilter bloom) {
+        this.bloom = bloom;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            bloom.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            BloomFilterMemoryDialog dialog = new BloomFilterMemoryDialog((Frame) window, bloom);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = GRID_X + COLUMNS * CELL + 20 + 260;
+        int height = lowerY(MAX_ROWS) + CHART_HEIGHT + 80;
+        return new Dimension(width, Math.max(640, height));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        int rows = (bloom.getBitCount() + COLUMNS - 1) / COLUMNS;
+        drawBackground(g2d);
+        drawBits(g2d);
+        drawProbeList(g2d, GRID_Y + rows * CELL + 20);
+        drawFprChart(g2d, GRID_X, lowerY(rows));
+        drawOutcomes(g2d, GRID_X + CHART_WIDTH + 30, lowerY(rows));
+        drawLegend(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(38, 20, 28)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    // The probe list and charts sit right under however many rows the bit array has
+    private static int lowerY(int rows) {
+        return GRID_Y + rows * CELL + 66;
+    }
+
+    private static int cellX(int bit) {
+        return GRID_X + (bit % COLUMNS) * CELL;
+    }
+
+    private static int cellY(int bit) {
+        return GRID_Y + (bit / COLUMNS) * CELL;
+    }
+
+    // ── Bit array ────────────────────────────────────────────────
+
+    private void drawBits(Graphics2D g2d) {
+        int bits = bloom.getBitCount();
+        int rows = (bits + COLUMNS - 1) / COLUMNS;
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("BIT ARRAY  m = " + bits + "  (" + COLUMNS + " per row)", GRID_X, GRID_Y - 8);
+
+        for (int bit = 0; bit < bits; bit++) {
+            int x = cellX(bit);
+            int y = cellY(bit);
+            g2d.setColor(bloom.isBitSet(bit) ? BIT_COLOR : CLEAR_COLOR);
+            g2d.fillRect(x + 1, y + 1, CELL - 2, CELL - 2);
+        }
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+        g2d.setColor(new Color(180, 150, 160));
+        for (int row = 0; row < rows; row++) {
+            g2d.drawString(String.valueOf(row * COLUMNS), GRID_X + COLUMNS * CELL + 4, GRID_Y + row * CELL + 11);
+        }
+
+        // Blocked layout: one 512-bit block is 8 rows; outline them and the one the key picked
+        int[] probes = bloom.getLastProbes();
+        if (bloom.isBlocked()) {
+            int blockRows = BloomFilter.BLOCK_BITS / COLUMNS;
+            for (int block = 0; block * blockRows < rows; block++) {
+                boolean picked = probes.length > 0 && probes[0] / BloomFilter.BLOCK_BITS == block;
+                g2d.setColor(picked ? PROBE_SET_COLOR : new Color(200, 160, 180));
+                g2d.setStroke(new BasicStroke(picked ? 2f : 1f));
+                g2d.drawRect(GRID_X - 1, GRID_Y + block * blockRows * CELL - 1, COLUMNS * CELL + 1, blockRows * CELL + 1);
+            }
+        }
+
+        boolean[] wasSet = bloom.getLastProbeWasSet();
+        int stoppedAt = bloom.getStoppedAt();
+        boolean falsePositive = bloom.getLastResult() == QueryResult.FALSE_POSITIVE;
+        float pulse = (float) (0.6 + 0.4 * Math.sin(glowPhase * 6));
+        g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+        for (int i = 0; i < probes.length; i++) {
+            int x = cellX(probes[i]);
+            int y = cellY(probes[i]);
+            Color color = !wasSet[i] ? PROBE_CLEAR_COLOR : falsePositive ? FALSE_POSITIVE_COLOR : PROBE_SET_COLOR;
+            boolean skipped = stoppedAt >= 0 && i > stoppedAt;
+            g2d.setColor(skipped ? new Color(color.getRed(), color.getGreen(), color.getBlue(), 90) : color);
+            g2d.setStroke(new BasicStroke(i == stoppedAt ? 1.5f + pulse : 2f));
+            g2d.drawRect(x, y, CELL, CELL);
+            g2d.setColor(Color.WHITE);
+            g2d.drawString(String.valueOf(i + 1), x + 4, y + 11);
+        }
+    }
+
+    private void drawProbeList(Graphics2D g2d, int y) {
+        int[] probes = bloom.getLastProbes();
+        boolean[] wasSet = bloom.getLastProbeWasSet();
+        int stoppedAt = bloom.getStoppedAt();
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        String heading = probes.length == 0 ? "PROBES: add or query a key"
+                : "PROBES FOR " + bloom.getLastKey() + (bloom.getLastResult() == QueryResult.ADDED ? " (add)" : " (contains)");
+        g2d.drawString(heading, GRID_X, y);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = GRID_X;
+        for (int i = 0; i < probes.length; i++) {
+            boolean skipped = stoppedAt >= 0 && i > stoppedAt;
+            String text = "#" + (i + 1) + " bit " + probes[i] + (skipped ? ": skipped" : wasSet[i] ? ": 1" : ": 0");
+            g2d.setColor(skipped ? new Color(140, 120, 130) : wasSet[i] ? PROBE_SET_COLOR : PROBE_CLEAR_COLOR);
+            g2d.drawString(text, x, y + 18);
+            x += g2d.getFontMetrics().stringWidth(text) + 14;
+        }
+        if (probes.length > 0) {
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString("position i = h1 + i * h2, scaled to [0, m)" + (bloom.isBlocked() ? " inside one 512-bit block" : "")
+                    + "; lookups stop at the first 0", x + 10, y + 18);
+        }
+    }
+
+    // ── False-positive rate, predicted vs observed ───────────────
+
+    private void drawFprChart(Graphics2D g2d, int x, int y) {
+        drawBox(g2d, x, y, CHART_WIDTH, CHART_HEIGHT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("FALSE-POSITIVE RATE vs SIZE  (m = " + bloom.getBitCount() + ", k = " + bloom.getHashCount() + ")",
+                x + 12, y + 18);
+
+        int plotX = x + 45;
+        int plotY = y + 30;
+        int plotWidth = CHART_WIDTH - 65;
+        int plotHeight = CHART_HEIGHT - 55;
+        g2d.setColor(new Color(90, 60, 75));
+        g2d.setStroke(new BasicStroke(1f));
+        g2d.drawRect(plotX, plotY, plotWidth, plotHeight);
+
+        // The y axis tops out at whichever is bigger of 10% and the worst rate in view
+        List<FprSample> samples = bloom.getSamples();
+        double top = Math.max(0.10, bloom.predictedFprAt(VisualBloomFilter.MAX_KEYS));
+        for (FprSample sample : samples) top = Math.max(top, sample.observed());
+        top = Math.min(1.0, Math.ceil(top * 10) / 10);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        for (int i = 0; i <= 4; i++) {
+            int gy = plotY + plotHeight - i * plotHeight / 4;
+            g2d.setColor(new Color(70, 48, 60));
+            g2d.drawLine(plotX + 1, gy, plotX + plotWidth - 1, gy);
+            g2d.setColor(new Color(190, 160, 175));
+            g2d.drawString(String.format(top < 0.4 ? "%.1f%%" : "%.0f%%", 100 * top * i / 4), x + 6, gy + 3);
+        }
+        for (int n = 0; n <= VisualBloomFilter.MAX_KEYS; n += 50) {
+            int gx = plotX + n * plotWidth / VisualBloomFilter.MAX_KEYS;
+            g2d.drawString(String.valueOf(n), gx - 6, plotY + plotHeight + 12);
+        }
+        g2d.drawString("keys in set", plotX + plotWidth - 60, plotY + plotHeight + 22);
+
+        Path2D curve = new Path2D.Double();
+        for (int n = 0; n <= VisualBloomFilter.MAX_KEYS; n += 2) {
+            double px = plotX + (double) n * plotWidth / VisualBloomFilter.MAX_KEYS;
+            double py = plotY + plotHeight - Math.min(1, bloom.predictedFprAt(n) / top) * plotHeight;
+            if (n == 0) curve.moveTo(px, py);
+            else curve.lineTo(px, py);
+        }
+        g2d.setColor(PREDICTED_COLOR);
+        g2d.setStroke(new BasicStroke(2f));
+        g2d.draw(curve);
+
+        for (FprSample sample : samples) {
+            int px = plotX + sample.size() * plotWidth / VisualBloomFilter.MAX_KEYS;
+            int py = plotY + plotHeight - (int) (Math.min(1, sample.observed() / top) * plotHeight);
+            g2d.setColor(FALSE_POSITIVE_COLOR);
+            g2d.fillOval(px - 3, py - 3, 7, 7);
+        }
+
+        int nowX = plotX + bloom.getSize() * plotWidth / VisualBloomFilter.MAX_KEYS;
+        g2d.setColor(new Color(255, 255, 255, 120));
+        g2d.setStroke(new BasicStroke(1f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10, new float[]{3, 3}, 0));
+        g2d.drawLine(nowX, plotY, nowX, plotY + plotHeight);
+    }
+
+    private void drawOutcomes(Graphics2D g2d, int x, int y) {
+        int width = COLUMNS * CELL - CHART_WIDTH - 30;
+        drawBox(g2d, x, y, width, CHART_HEIGHT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("LOOKUP OUTCOMES", x + 12, y + 18);
+
+        long filtered = bloom.getFilteredLookups();
+        long falsePositives = bloom.getFalsePositives();
+        long present = bloom.getPassedLookups() - falsePositives;
+        long total = filtered + falsePositives + present;
+        Object[][] rows = {
+                {PROBE_CLEAR_COLOR, "answered by filter", filtered},
+                {FALSE_POSITIVE_COLOR, "false positive -> set", falsePositives},
+                {PROBE_SET_COLOR, "present -> set", present}
+        };
+        int barX = x + 12;
+        int barWidth = width - 24;
+        int rowY = y + 38;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        for (Object[] row : rows) {
+            long count = (Long) row[2];
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString(row[1] + ": " + count, barX, rowY);
+            g2d.setColor(new Color(60, 40, 50));
+            g2d.fillRect(barX, rowY + 4, barWidth, 8);
+            g2d.setColor((Color) row[0]);
+            g2d.fillRect(barX, rowY + 4, total == 0 ? 0 : (int) (barWidth * count / total), 8);
+            rowY += 30;
+        }
+
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString(String.format("Set lookups avoided: %.0f%%", total == 0 ? 0.0 : 100.0 * filtered / total), barX, rowY + 2);
+        g2d.setColor(new Color(220, 180, 195));
+        g2d.drawString("Only filter 'maybe' reaches the HashSet", barX, rowY + 18);
+    }
+
+    private void drawLegend(Graphics2D g2d) {
+        int y = getHeight() - 30;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        Object[][] items = {
+                {BIT_COLOR, "bit set"},
+                {PROBE_SET_COLOR, "probe hit a 1"},
+                {PROBE_CLEAR_COLOR, "probe hit a 0 (definitely absent)"},
+                {FALSE_POSITIVE_COLOR, "false positive / observed FPR"},
+                {PREDICTED_COLOR, "predicted (1 - e^(-kn/m))^k"}
+        };
+        for (Object[] item : items) {
+            g2d.setColor((Color) item[0]);
+            g2d.fillRect(x, y, 10, 10);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) item[1], x + 14, y + 9);
+            x += g2d.getFontMetrics().stringWidth((String) item[1]) + 30;
+        }
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("BLOOM FILTER VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ k bits per key in front of a HashSet: any 0 among them means absent without touching the set ]", 20, 55);
+
+        g2d.setColor(new Color(240, 200, 215));
+        g2d.drawString(bloom.getLastOperation(), 20, 80);
+
+        if (bloom.wasJustFalsePositive()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(255, 80, 80, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("FALSE POSITIVE", 400, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 235;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("FILTER STATUS", panelX + 15, panelY + 20);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("m = " + bloom.getBitCount() + " bits   k = " + bloom.getHashCount()
+                + (bloom.isBlocked() ? "   blocked" : ""), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Keys: " + bloom.getSize() + " / " + VisualBloomFilter.MAX_KEYS, panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Bits set: %d (%.1f%%)", bloom.getSetBits(), 100 * bloom.getFillRatio()), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Best k for this n: %.1f", bloom.getOptimalHashCount()), panelX + 15, y);
+        y += 20;
+        g2d.setColor(ACCENT);
+        g2d.drawString("FALSE-POSITIVE RATE", panelX + 15, y);
+        y += 15;
+        g2d.setColor(PREDICTED_COLOR);
+        g2d.drawString(String.format("Predicted:  %.2f%%", 100 * bloom.getPredictedFpr()), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("From fill:  %.2f%%", 100 * bloom.getFillBasedFpr()), panelX + 15, y);
+        y += 15;
+        g2d.setColor(FALSE_POSITIVE_COLOR);
+        long negatives = bloom.getFilteredLookups() + bloom.getFalsePositives();
+        g2d.drawString(String.format("Observed:   %.2f%% (%d/%d)", 100 * bloom.getObservedFpr(), bloom.getFalsePositives(), negatives),
+                panelX + 15, y);
+        y += 20;
+        g2d.setColor(bloom.getStaleRemovals() > 0 ? PROBE_CLEAR_COLOR : TEXT_COLOR);
+        g2d.drawString("Stale removals: " + bloom.getStaleRemovals(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(new Color(220, 180, 195));
+        g2d.drawString("Bits cannot be unset; rebuild() clears", panelX + 15, y);
+
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 10);
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualBloomFilter.MemoryInfo mem = bloom.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Filter: " + mem.formatFilter() + String.format(" (%.1f bits/key)", mem.bitsPerEntry()), x + 15, y + 35);
+        g2d.drawString("HashSet behind it: " + mem.formatHashSet(), x + 15, y + 50);
+        g2d.drawString("Total: " + mem.formatTotal(), x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(240, 200, 215));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(40, 22, 30, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
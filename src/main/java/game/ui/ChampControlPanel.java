@@ -0,0 +1,334 @@
+package game.ui;
+
+import game.model.VisualChamp;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class ChampControlPanel extends JPanel {
+    private VisualChamp champ;
+    private Random random = new Random();
+    private JTextField keyField;
+    private JTextField valueField;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(230, 170, 255);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public ChampControlPanel(VisualChamp champ) {
+        this.champ = champ;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("NEW VERSION"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("KEY (0.." + (VisualChamp.KEY_RANGE - 1) + "):"));
+        keyField = new JTextField();
+        styleTextField(keyField);
+        add(keyField);
+        add(Box.createVerticalStrut(6));
+
+        add(createLabel("VALUE:"));
+        valueField = new JTextField("1");
+        styleTextField(valueField);
+        add(valueField);
+        add(Box.createVerticalStrut(8));
+
+        JButton putBtn = createStyledButton("put(key, value)", new Color(255, 170, 80));
+        putBtn.addActionListener(e -> {
+            Integer key = parseKey();
+            if (key == null) return;
+            int value;
+            try {
+                value = Integer.parseInt(valueField.getText().trim());
+            } catch (NumberFormatException ex) {
+                updateStatus("Invalid value", ERROR_COLOR);
+                return;
+            }
+            if (champ.put(key, value)) {
+                updateStatus("Copied " + champ.getCopiedNodes() + " nodes", SUCCESS_COLOR);
+            } else {
+                updateStatus("Map full", WARN_COLOR);
+            }
+        });
+        add(putBtn);
+        add(Box.createVerticalStrut(6));
+
+        JButton removeBtn = createStyledButton("remove(key)", new Color(255, 120, 120));
+        removeBtn.addActionListener(e -> {
+            Integer key = parseKey();
+            if (key == null) return;
+            boolean removed = champ.remove(key);
+            updateStatus(removed ? "Removed: " + key : "Not found: " + key, removed ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        add(removeBtn);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("READ"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel readPanel = new JPanel(new GridLayout(1, 2, 4, 4));
+        readPanel.setBackground(BG_COLOR);
+        readPanel.setMaximumSize(new Dimension(230, 26));
+        readPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton getBtn = createSmallButton("get(key)", new Color(255, 235, 100));
+        getBtn.addActionListener(e -> {
+            Integer key = parseKey();
+            if (key == null) return;
+            Integer value = champ.get(key);
+            updateStatus(value != null ? "Found: " + key + " -> " + value : "Not found: " + key,
+                    value != null ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        readPanel.add(getBtn);
+
+        JButton randomGetBtn = createSmallButton("random get", new Color(120, 180, 255));
+        randomGetBtn.addActionListener(e -> {
+            int key = VisualChamp.generateRandomKey(random);
+            Integer value = champ.get(key);
+            updateStatus(value != null ? "Found: " + key : "Not found: " + key, value != null ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        readPanel.add(randomGetBtn);
+        add(readPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("BULK"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel bulkPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        bulkPanel.setBackground(BG_COLOR);
+        bulkPanel.setMaximumSize(new Dimension(230, 56));
+        bulkPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        int[] counts = {1, 8, 32};
+        for (int count : counts) {
+            JButton addBtn = createSmallButton("+" + count + " random", ACCENT);
+            addBtn.addActionListener(e -> {
+                int added = champ.addRandom(count);
+                updateStatus("Added " + added + " keys", added > 0 ? SUCCESS_COLOR : WARN_COLOR);
+            });
+            bulkPanel.add(addBtn);
+        }
+
+        JButton undoBtn = createSmallButton("undo", new Color(150, 220, 255));
+        undoBtn.addActionListener(e -> {
+            boolean undone = champ.undo();
+            updateStatus(undone ? "Back to v" + champ.getVersionNumber() : "No older version", undone ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        bulkPanel.add(undoBtn);
+        add(bulkPanel);
+        add(Box.createVerticalStrut(8));
+
+        JButton clearBtn = createStyledButton("clear()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            champ.clear();
+            updateStatus("History cleared", WARN_COLOR);
+        });
+        add(clearBtn);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    private Integer parseKey() {
+        try {
+            int key = Integer.parseInt(keyField.getText().trim());
+            if (key < 0 || key >= VisualChamp.KEY_RANGE) {
+                updateStatus("Key must be 0.." + (VisualChamp.KEY_RANGE - 1), ERROR_COLOR);
+                return null;
+            }
+            return key;
+        } catch (NumberFormatException ex) {
+            updateStatus("Invalid key", ERROR_COLOR);
+            return null;
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleComboBox(JComboBox<String> combo) {
+        combo.setBackground(BUTTON_BG);
+        combo.setForeground(TEXT_COLOR);
+        combo.setFont(new Font("Consolas", Font.PLAIN, 13));
+        combo.setMaximumSize(new Dimension(250, 26));
+        combo.setAlignmentX(LEFT_ALIGNMENT);
+        combo.setBorder(BorderFactory.createLineBorder(ACCENT.darker(), 1));
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("CHAMP INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "5 hash bits per level",
+                "dataMap + nodeMap bitmaps",
+                "Index = popcount below bit",
+                "put copies one path: O(depth)",
+                "Old versions never change"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(220, 200, 240));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
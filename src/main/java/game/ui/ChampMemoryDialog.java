@@ -0,0 +1,174 @@
+package game.ui;
+
+import game.model.VisualChamp;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import game.ui.ThemeManager;
+
+public class ChampMemoryDialog extends JDialog {
+    private VisualChamp champ;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(230, 170, 255);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public ChampMemoryDialog(Frame parent, VisualChamp champ) {
+        super(parent, "CHAMP Persistent Map Memory Analysis", true);
+        this.champ = champ;
+
+        setSize(650, 660);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createSharingPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualChamp.MemoryInfo mem = champ.getMemoryInfo();
+        int n = mem.entries();
+
+        String[] lines = {
+                "Current version: " + mem.formatTotal(),
+                "",
+                "Entries: " + n + "   nodes: " + champ.getNodeCount() + "   depth: " + champ.getDepth(),
+                "Node:    24B header with two int bitmaps",
+                "         + int[] of key, value pairs (16B + 8B per entry)",
+                "         + Node[] of children (16B + 4B per child)",
+                "",
+                String.format("Bytes per entry: %.1f", n == 0 ? 0.0 : (double) mem.totalUsed() / n)
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            boolean highlight = line.startsWith("Current") || line.startsWith("Bytes per");
+            label.setForeground(highlight ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", highlight ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSharingPanel() {
+        JPanel panel = createSection("STRUCTURAL SHARING");
+
+        VisualChamp.MemoryInfo mem = champ.getMemoryInfo();
+        long shared = champ.getSharedBytes();
+        long copied = champ.getCopiedBytes();
+
+        String[] lines = {
+                "Last new version: copied " + champ.getCopiedNodes() + " nodes (" + copied + " B), shared "
+                        + champ.getSharedNodes() + " nodes (" + shared + " B)",
+                "",
+                "All " + mem.versions() + " kept versions, shared nodes counted once: " + mem.formatAllVersions(),
+                "Same versions as HashMap copies:  " + mem.formatHashMapVersions(),
+                "Same versions as Map.copyOf:      " + mem.formatCopyOfVersions(),
+                "",
+                "root' -> [ copied node ] -> ... -> [ copied node with the new entry ]",
+                "Each copied node points at the old version's other children unchanged.",
+                "A reader holding the old root sees none of this."
+        };
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("[") ? ACCENT : line.startsWith("Each ") || line.startsWith("A reader")
+                    ? new Color(220, 200, 240) : TEXT_COLOR);
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("CHAMP vs COPY-ON-WRITE HASHMAP vs MAP.COPYOF");
+
+        VisualChamp.MemoryInfo mem = champ.getMemoryInfo();
+        int n = mem.entries();
+        double perChamp = n == 0 ? 0 : (double) mem.totalUsed() / n;
+        double perHashMap = n == 0 ? 0 : (double) mem.hashMap() / n;
+        double perCopyOf = n == 0 ? 0 : (double) mem.copyOf() / n;
+
+        String[] lines = {
+                "For the current " + n + " entries:",
+                "",
+                String.format("ChampIntMap:  %s  (%.1f B/entry)", mem.formatTotal(), perChamp),
+                "  - primitive ints inline, no boxes",
+                "  - update copies O(log32 n) nodes, old version kept for free",
+                "",
+                String.format("HashMap:      %s  (%.1f B/entry)", mem.formatHashMap(), perHashMap),
+                "  - 32B node + two 16B boxes per entry",
+                "  - copy-on-write: every update copies the whole table and all nodes",
+                "",
+                String.format("Map.copyOf:   %s  (%.1f B/entry)", mem.formatCopyOf(), perCopyOf),
+                "  - no nodes, keys and values in one probed array",
+                "  - still a full O(n) rebuild per new version",
+                "",
+                "Choose a persistent trie when:",
+                "  - Readers need stable snapshots without locks",
+                "  - Updates are frequent and the map is more than a few dozen entries"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("ChampIntMap:") || line.startsWith("HashMap:") || line.startsWith("Map.copyOf:")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(220, 200, 240);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
@@ -0,0 +1,395 @@
+package game.ui;
+
+import game.collections.ChampIntMap;
+import game.model.VisualChamp;
+import game.model.VisualChamp.NodeInfo;
+import game.model.VisualChamp.VersionInfo;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import game.ui.ThemeManager;
+
+public class ChampPanel extends JPanel {
+    private VisualChamp champ;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(230, 170, 255);
+    private static final Color DATA_COLOR = new Color(120, 220, 160);
+    private static final Color CHILD_COLOR = new Color(230, 170, 255);
+    private static final Color COPIED_COLOR = new Color(255, 170, 80);
+    private static final Color SHARED_COLOR = new Color(120, 110, 150);
+    private static final Color LOOKUP_COLOR = new Color(255, 235, 100);
+    private static final Color EMPTY_COLOR = new Color(45, 38, 60);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    private static final int ROOT_X = 20;
+    private static final int ROOT_Y = 115;
+    private static final int SLOT_WIDTH = 34;
+    private static final int SLOT_HEIGHT = 30;
+    private static final int SUB_Y = ROOT_Y + SLOT_HEIGHT + 40;
+    private static final int ROW_HEIGHT = 11;
+    private static final int BITMAP_HEIGHT = 7;
+    private static final int NODE_GAP = 8;
+
+    public ChampPanel(VisualChamp champ) {
+        this.champ = champ;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            champ.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            ChampMemoryDialog dialog = new ChampMemoryDialog((Frame) window, champ);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = ROOT_X + ChampIntMap.FANOUT * SLOT_WIDTH + 20 + 260;
+        int height = 0;
+        for (int bottom : columnBottoms(champ.getNodes()).values()) height = Math.max(height, bottom);
+        return new Dimension(width, Math.max(640, height + 70));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        drawBackground(g2d);
+        List<NodeInfo> nodes = champ.getNodes();
+        drawRoot(g2d, nodes.get(0));
+        drawSubTrees(g2d, nodes);
+        drawLegend(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(30, 20, 38)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    private Color nodeColor(NodeInfo node) {
+        if (champ.isOnLookupPath(node.id())) return LOOKUP_COLOR;
+        return node.copied() ? COPIED_COLOR : SHARED_COLOR;
+    }
+
+    private static int height(NodeInfo node) {
+        return BITMAP_HEIGHT + 4 + ROW_HEIGHT * (node.dataArity() + node.nodeArity()) + 3;
+    }
+
+    // Bottom edge of each root slot's column of sub-nodes, keyed by root slot
+    private static Map<Integer, Integer> columnBottoms(List<NodeInfo> nodes) {
+        Map<Integer, Integer> bottoms = new HashMap<>();
+        Map<Integer, Integer> rootSlot = new HashMap<>();
+        for (NodeInfo node : nodes) {
+            if (node.depth() == 0) continue;
+            int column = node.depth() == 1 ? node.slot() : rootSlot.get(node.parentId());
+            rootSlot.put(node.id(), column);
+            bottoms.merge(column, SUB_Y + height(node) + NODE_GAP, (a, b) -> a + height(node) + NODE_GAP);
+        }
+        return bottoms;
+    }
+
+    // ── Root node ────────────────────────────────────────────────
+
+    private void drawRoot(Graphics2D g2d, NodeInfo root) {
+        Color border = nodeColor(root);
+        int width = ChampIntMap.FANOUT * SLOT_WIDTH;
+        g2d.setColor(new Color(border.getRed(), border.getGreen(), border.getBlue(), root.copied() || champ.isOnLookupPath(root.id()) ? 50 : 18));
+        g2d.fillRoundRect(ROOT_X - 4, ROOT_Y - 18, width + 8, SLOT_HEIGHT + 40, 8, 8);
+        g2d.setColor(border);
+        g2d.setStroke(new BasicStroke(copyStroke(root)));
+        g2d.drawRoundRect(ROOT_X - 4, ROOT_Y - 18, width + 8, SLOT_HEIGHT + 40, 8, 8);
+
+        int lastSlot = champ.getLastKey() >= 0 ? ChampIntMap.slotOf(champ.getLastKey(), 0) : -1;
+        int dataIndex = 0;
+        for (int s = 0; s < ChampIntMap.FANOUT; s++) {
+            int x = ROOT_X + s * SLOT_WIDTH;
+            int bit = 1 << s;
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+            g2d.setColor(s == lastSlot ? Color.WHITE : new Color(150, 140, 170));
+            g2d.drawString(String.valueOf(s), x + 2, ROOT_Y - 6);
+
+            Color fill = EMPTY_COLOR;
+            String label = "";
+            if ((root.dataMap() & bit) != 0) {
+                fill = DATA_COLOR.darker().darker();
+                label = String.valueOf(root.keys()[dataIndex++]);
+            } else if ((root.nodeMap() & bit) != 0) {
+                fill = CHILD_COLOR.darker().darker();
+                label = "v";
+            }
+            g2d.setColor(fill);
+            g2d.fillRect(x + 1, ROOT_Y, SLOT_WIDTH - 2, SLOT_HEIGHT);
+            g2d.setColor(s == lastSlot ? Color.WHITE : new Color(80, 70, 100));
+            g2d.setStroke(new BasicStroke(s == lastSlot ? 1.5f : 1f));
+            g2d.drawRect(x + 1, ROOT_Y, SLOT_WIDTH - 2, SLOT_HEIGHT);
+
+            g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+            g2d.setColor(TEXT_COLOR);
+            FontMetrics fm = g2d.getFontMetrics();
+            g2d.drawString(label, x + (SLOT_WIDTH - fm.stringWidth(label)) / 2, ROOT_Y + 19);
+        }
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(DATA_COLOR);
+        g2d.drawString(String.format("dataMap %08X (%d entries)", root.dataMap(), root.dataArity()), ROOT_X, ROOT_Y + SLOT_HEIGHT + 13);
+        g2d.setColor(CHILD_COLOR);
+        g2d.drawString(String.format("nodeMap %08X (%d children)", root.nodeMap(), root.nodeArity()), ROOT_X + 220, ROOT_Y + SLOT_HEIGHT + 13);
+        g2d.setColor(nodeColor(root));
+        g2d.drawString("root: " + (champ.isOnLookupPath(root.id()) ? "read" : root.copied() ? "copied" : "shared")
+                + ", " + root.bytes() + " B", ROOT_X + 460, ROOT_Y + SLOT_HEIGHT + 13);
+    }
+
+    private float copyStroke(NodeInfo node) {
+        if (node.copied() && champ.wasJustCopied()) return (float) (2 + Math.sin(glowPhase * 8));
+        return node.copied() || champ.isOnLookupPath(node.id()) ? 2f : 1f;
+    }
+
+    // ── Sub-nodes, stacked in preorder under their root slot ─────
+
+    private void drawSubTrees(Graphics2D g2d, List<NodeInfo> nodes) {
+        Map<Integer, Integer> columnY = new HashMap<>();
+        Map<Integer, Integer> rootSlot = new HashMap<>();
+        Map<Integer, Integer> nodeY = new HashMap<>();
+        for (NodeInfo node : nodes) {
+            if (node.depth() == 0) continue;
+            int column = node.depth() == 1 ? node.slot() : rootSlot.get(node.parentId());
+            rootSlot.put(node.id(), column);
+            int x = ROOT_X + column * SLOT_WIDTH + 1;
+            int y = columnY.getOrDefault(column, SUB_Y);
+            nodeY.put(node.id(), y);
+            columnY.put(column, y + height(node) + NODE_GAP);
+
+            // Pointer down from the root slot, or from the parent's box higher in the column
+            g2d.setColor(nodeColor(node));
+            g2d.setStroke(new BasicStroke(1f));
+            int pointerX = node.depth() == 1 ? x + SLOT_WIDTH / 2 - 1 : x + SLOT_WIDTH - 6 - 3 * (node.depth() - 2);
+            int fromY = node.depth() == 1 ? ROOT_Y + SLOT_HEIGHT + 1 : nodeY.get(node.parentId()) + BITMAP_HEIGHT + 3;
+            g2d.drawLine(pointerX, fromY, pointerX, y - 1);
+            drawNode(g2d, node, x, y);
+        }
+    }
+
+    private void drawNode(Graphics2D g2d, NodeInfo node, int x, int y) {
+        int width = SLOT_WIDTH - 2;
+        Color border = nodeColor(node);
+        g2d.setColor(new Color(border.getRed(), border.getGreen(), border.getBlue(), node.copied() || champ.isOnLookupPath(node.id()) ? 60 : 22));
+        g2d.fillRect(x, y, width, height(node));
+        g2d.setColor(border);
+        g2d.setStroke(new BasicStroke(copyStroke(node)));
+        g2d.drawRect(x, y, width, height(node));
+
+        // The two 32-bit bitmaps, one pixel per slot
+        for (int s = 0; s < ChampIntMap.FANOUT; s++) {
+            int bit = 1 << s;
+            g2d.setColor((node.dataMap() & bit) != 0 ? DATA_COLOR : (node.nodeMap() & bit) != 0 ? CHILD_COLOR : EMPTY_COLOR);
+            g2d.fillRect(x + s, y + 2, 1, BITMAP_HEIGHT);
+        }
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        int lastKey = champ.getLastKey();
+        int rowY = y + BITMAP_HEIGHT + 4 + 9;
+        int dataIndex = 0;
+        for (int s = 0; s < ChampIntMap.FANOUT; s++) {
+            int bit = 1 << s;
+            if ((node.dataMap() & bit) != 0) {
+                int key = node.keys()[dataIndex++];
+                g2d.setColor(key == lastKey ? Color.WHITE : DATA_COLOR);
+                g2d.drawString(String.valueOf(key), x + 2, rowY);
+                rowY += ROW_HEIGHT;
+            } else if ((node.nodeMap() & bit) != 0) {
+                g2d.setColor(CHILD_COLOR);
+                g2d.drawString(">" + s, x + 2, rowY);
+                rowY += ROW_HEIGHT;
+            }
+        }
+    }
+
+    private void drawLegend(Graphics2D g2d) {
+        int y = getHeight() - 30;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        Object[][] items = {
+                {COPIED_COLOR, "copied by last update"},
+                {SHARED_COLOR, "shared with previous version"},
+                {LOOKUP_COLOR, "read by last get"},
+                {DATA_COLOR, "dataMap bit / entry"},
+                {CHILD_COLOR, "nodeMap bit / child (>slot)"}
+        };
+        for (Object[] item : items) {
+            g2d.setColor((Color) item[0]);
+            g2d.fillRect(x, y, 10, 10);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) item[1], x + 14, y + 9);
+            x += g2d.getFontMetrics().stringWidth((String) item[1]) + 30;
+        }
+        g2d.setColor(new Color(200, 180, 220));
+        g2d.drawString("sub-nodes stack under the root slot they hang from, in preorder", x, y + 9);
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("CHAMP PERSISTENT MAP VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ 32 hash slots per node, split by two bitmaps; put copies only the root-to-slot path and shares every other node ]", 20, 55);
+
+        g2d.setColor(new Color(220, 200, 240));
+        g2d.drawString(champ.getLastOperation(), 20, 80);
+
+        if (champ.wasJustCopied()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(255, 170, 80, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("NEW VERSION v" + champ.getVersionNumber(), 480, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 160;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("TRIE STATUS", panelX + 15, panelY + 20);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Size: " + champ.getSize() + " / " + VisualChamp.MAX_KEYS + "   version v" + champ.getVersionNumber(),
+                panelX + 15, y);
+        y += 15;
+        g2d.drawString("Nodes: " + champ.getNodeCount() + "   depth: " + champ.getDepth(), panelX + 15, y);
+        y += 20;
+        g2d.setColor(ACCENT);
+        g2d.drawString("LAST NEW VERSION", panelX + 15, y);
+        y += 15;
+        g2d.setColor(COPIED_COLOR);
+        g2d.drawString("Copied: " + champ.getCopiedNodes() + " nodes, " + champ.getCopiedBytes() + " B", panelX + 15, y);
+        y += 15;
+        g2d.setColor(SHARED_COLOR.brighter());
+        g2d.drawString("Shared: " + champ.getSharedNodes() + " nodes, " + champ.getSharedBytes() + " B", panelX + 15, y);
+        y += 15;
+        long total = champ.getCopiedBytes() + champ.getSharedBytes();
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString(String.format("New bytes: %.0f%% of a full copy", total == 0 ? 0.0 : 100.0 * champ.getCopiedBytes() / total),
+                panelX + 15, y);
+        y += 20;
+        g2d.setColor(new Color(200, 180, 220));
+        g2d.drawString("Keys 0.." + (VisualChamp.KEY_RANGE - 1) + ", hashed with IntHashing.mix", panelX + 15, y);
+
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 10);
+        drawVersions(g2d, panelX, panelY + panelHeight + 110);
+    }
+
+    private void drawVersions(Graphics2D g2d, int x, int y) {
+        List<VersionInfo> versions = champ.getVersions();
+        int width = 220;
+        int height = 30 + 15 * VisualChamp.MAX_VERSIONS;
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("VERSIONS KEPT (" + versions.size() + "/" + VisualChamp.MAX_VERSIONS + ")", x + 15, y + 18);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int rowY = y + 35;
+        for (int i = versions.size() - 1; i >= 0; i--) {
+            VersionInfo version = versions.get(i);
+            g2d.setColor(i == versions.size() - 1 ? COPIED_COLOR : TEXT_COLOR);
+            g2d.drawString(String.format("v%-4d size %-3d +%d nodes %d B", version.number(), version.size(),
+                    version.newNodes(), version.newBytes()), x + 15, rowY);
+            rowY += 15;
+        }
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualChamp.MemoryInfo mem = champ.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Current version: " + mem.formatTotal(), x + 15, y + 35);
+        g2d.drawString("All " + mem.versions() + " versions: " + mem.formatAllVersions(), x + 15, y + 50);
+        g2d.drawString("As HashMap copies: " + mem.formatHashMapVersions(), x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(220, 200, 240));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(30, 22, 40, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
@@ -0,0 +1,329 @@
+package game.ui;
+
+import game.model.VisualCompressedList;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class CompressedListControlPanel extends JPanel {
+    private VisualCompressedList list;
+    private Random random = new Random();
+    private JTextField valueField;
+    private JTextField fromField;
+    private JTextField toField;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(100, 220, 210);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public CompressedListControlPanel(VisualCompressedList list) {
+        this.list = list;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("VALUE"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("INT VALUE:"));
+        valueField = new JTextField();
+        styleTextField(valueField);
+        add(valueField);
+        add(Box.createVerticalStrut(8));
+
+        JPanel opPanel = new JPanel(new GridLayout(1, 2, 4, 4));
+        opPanel.setBackground(BG_COLOR);
+        opPanel.setMaximumSize(new Dimension(230, 26));
+        opPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton addBtn = createSmallButton("add(v)", new Color(150, 230, 150));
+        addBtn.addActionListener(e -> addValue());
+        opPanel.add(addBtn);
+
+        JButton containsBtn = createSmallButton("contains(v)", new Color(255, 220, 100));
+        containsBtn.addActionListener(e -> containsValue());
+        opPanel.add(containsBtn);
+        add(opPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("RANGE [FROM, TO)"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel rangeFields = new JPanel(new GridLayout(1, 2, 4, 4));
+        rangeFields.setBackground(BG_COLOR);
+        rangeFields.setMaximumSize(new Dimension(230, 26));
+        rangeFields.setAlignmentX(LEFT_ALIGNMENT);
+        fromField = new JTextField();
+        styleTextField(fromField);
+        rangeFields.add(fromField);
+        toField = new JTextField();
+        styleTextField(toField);
+        rangeFields.add(toField);
+        add(rangeFields);
+        add(Box.createVerticalStrut(6));
+
+        JButton rangeBtn = createStyledButton("forEachInRange", new Color(200, 150, 255));
+        rangeBtn.addActionListener(e -> rangeScan());
+        add(rangeBtn);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("BULK"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel bulkPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        bulkPanel.setBackground(BG_COLOR);
+        bulkPanel.setMaximumSize(new Dimension(230, 56));
+        bulkPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        // Small gaps encode in one byte, wide gaps in two
+        JButton denseBtn = createSmallButton("Append x16", new Color(100, 230, 150));
+        denseBtn.addActionListener(e -> {
+            int added = list.addRandom(16, 8);
+            updateStatus("Appended " + added + " dense values", added > 0 ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        bulkPanel.add(denseBtn);
+
+        JButton sparseBtn = createSmallButton("Sparse x16", new Color(255, 160, 80));
+        sparseBtn.addActionListener(e -> {
+            int added = list.addRandom(16, 300);
+            updateStatus("Appended " + added + " sparse values", added > 0 ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        bulkPanel.add(sparseBtn);
+
+        JButton insertBtn = createSmallButton("Insert x10", new Color(255, 200, 100));
+        insertBtn.addActionListener(e -> {
+            int added = list.insertRandom(10);
+            updateStatus("Inserted " + added + ", splits " + list.getSplitCount(), added > 0 ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        bulkPanel.add(insertBtn);
+
+        JButton mergeBtn = createSmallButton("Merge x32", ACCENT);
+        mergeBtn.addActionListener(e -> {
+            int added = list.mergeRandom(32);
+            updateStatus("Merged, " + added + " new values", added > 0 ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        bulkPanel.add(mergeBtn);
+        add(bulkPanel);
+        add(Box.createVerticalStrut(10));
+
+        JButton clearBtn = createStyledButton("clear()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            list.clear();
+            updateStatus("List cleared", WARN_COLOR);
+        });
+        add(clearBtn);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    private void addValue() {
+        String text = valueField.getText().trim();
+        try {
+            int value = text.isEmpty() ? VisualCompressedList.generateRandomValue(random) : Integer.parseInt(text);
+            if (list.add(value)) updateStatus("Added " + value, SUCCESS_COLOR);
+            else updateStatus(value + " not added", WARN_COLOR);
+        } catch (NumberFormatException ex) {
+            updateStatus("Value is an int", ERROR_COLOR);
+        }
+    }
+
+    private void containsValue() {
+        String text = valueField.getText().trim();
+        try {
+            int value = text.isEmpty() ? VisualCompressedList.generateRandomValue(random) : Integer.parseInt(text);
+            boolean found = list.contains(value);
+            updateStatus("contains(" + value + ") = " + found, found ? SUCCESS_COLOR : WARN_COLOR);
+        } catch (NumberFormatException ex) {
+            updateStatus("Value is an int", ERROR_COLOR);
+        }
+    }
+
+    private void rangeScan() {
+        try {
+            int from = fromField.getText().trim().isEmpty() ? list.getFirst() : Integer.parseInt(fromField.getText().trim());
+            int to = toField.getText().trim().isEmpty() ? from + 100 : Integer.parseInt(toField.getText().trim());
+            int count = list.range(from, to);
+            updateStatus("[" + from + ", " + to + "): " + count + " values", count > 0 ? SUCCESS_COLOR : WARN_COLOR);
+        } catch (NumberFormatException ex) {
+            updateStatus("Bounds are ints", ERROR_COLOR);
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("COMPRESSED LIST INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "Gaps stored as 1-5 byte varints",
+                "Skip index: first value/block",
+                "contains: search index, decode 1",
+                "Appends are cheap, inserts split",
+                "Merge is one linear pass"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(180, 215, 210));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
@@ -0,0 +1,171 @@
+package game.ui;
+
+import game.model.VisualCompressedList;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import game.ui.ThemeManager;
+
+public class CompressedListMemoryDialog extends JDialog {
+    private VisualCompressedList list;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(100, 220, 210);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public CompressedListMemoryDialog(Frame parent, VisualCompressedList list) {
+        super(parent, "Compressed Sorted List Memory Analysis", true);
+        this.list = list;
+
+        setSize(650, 640);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createLayoutPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualCompressedList.MemoryInfo mem = list.getMemoryInfo();
+
+        String[] lines = {
+                "Total heap used: " + mem.formatTotal(),
+                "",
+                "Values:       " + list.getSize() + " in " + list.getBlockCount() + " blocks of up to "
+                        + VisualCompressedList.BLOCK_SIZE,
+                "Skip index:   " + mem.skipIndex() + " bytes (first, offset, count per block)",
+                "Delta bytes:  " + mem.data() + String.format(" bytes (%.2f per delta)", list.getAverageDeltaBytes()),
+                "Slack:        " + mem.slack() + " bytes (object headers, spare capacity)",
+                "",
+                String.format("Bytes per element: %.2f", list.getBytesPerElement())
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            boolean highlight = line.contains("Total") || line.startsWith("Bytes per");
+            label.setForeground(highlight ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", highlight ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createLayoutPanel() {
+        JPanel panel = createSection("BLOCK LAYOUT");
+
+        String[] diagram = {
+                "index:  firsts [ 100 | 412 | 977 ]   offsets [ 0 | 15 | 31 ]",
+                "data:   [ +3 | +1 | +200 ... | +2 | +5 ... | ... ]",
+                "",
+                "varint: 7 bits per byte, high bit set = more bytes follow",
+                "  gap < 128       -> 1 byte",
+                "  gap < 16384     -> 2 bytes",
+                "  gap < 2097152   -> 3 bytes",
+                "",
+                "contains(v) binary-searches the index for the last block",
+                "starting at or below v, then decodes that block only.",
+                "An insert re-encodes one block and shifts the bytes after",
+                "it; a block over " + VisualCompressedList.BLOCK_SIZE + " values splits in two."
+        };
+
+        for (String line : diagram) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("[") ? ACCENT : new Color(180, 215, 210));
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("COMPRESSED vs TREESET vs INT[]");
+
+        VisualCompressedList.MemoryInfo mem = list.getMemoryInfo();
+        int n = list.getSize();
+        double perTree = n == 0 ? 0 : (double) mem.treeSet() / n;
+        double perArray = n == 0 ? 0 : (double) mem.sortedArray() / n;
+
+        String[] lines = {
+                "For the current " + n + " values:",
+                "",
+                String.format("Compressed list:    %s  (%.2f B/elem)", mem.formatTotal(), list.getBytesPerElement()),
+                "  - 1-2 bytes per value on dense IDs",
+                "  - lookups decode up to one block",
+                "",
+                String.format("TreeSet<Integer>:   %s  (%.1f B/elem)", mem.formatTreeSet(), perTree),
+                "  - 40B entry + 16B boxed Integer per value",
+                "  - O(log n) pointer chasing per lookup",
+                "",
+                String.format("Sorted int[]:       %s  (%.1f B/elem)", mem.formatSortedArray(), perArray),
+                "  - 4 bytes per value, binary search",
+                "  - inserts shift the whole tail",
+                "",
+                "Choose a compressed list when:",
+                "  - Sets are large and values clustered",
+                "  - Scans and merges dominate point inserts"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("Compressed list:") || line.startsWith("TreeSet<") || line.startsWith("Sorted int[]")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(180, 215, 210);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
@@ -0,0 +1,356 @@
+package game.ui;
+
+import game.collections.CompressedSortedIntList;
+import game.model.VisualCompressedList;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import game.ui.ThemeManager;
+
+public class CompressedListPanel extends JPanel {
+    private VisualCompressedList list;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(100, 220, 210);
+    private static final Color SEARCH_COLOR = new Color(255, 220, 100);
+    private static final Color RANGE_COLOR = new Color(200, 150, 255);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    // Varint length 1..5 bytes
+    private static final Color[] LENGTH_COLORS = {
+            new Color(100, 230, 150), new Color(230, 220, 100), new Color(255, 160, 80),
+            new Color(255, 100, 100), new Color(220, 80, 160)
+    };
+
+    private static final int INDEX_X = 40;
+    private static final int INDEX_WIDTH = 70;
+    private static final int HEADER_X = 140;
+    private static final int HEADER_WIDTH = 118;
+    private static final int BYTES_X = 270;
+    private static final int BYTE_WIDTH = 13;
+    private static final int ROW_HEIGHT = 24;
+    private static final int ROW_GAP = 14;
+    private static final int START_Y = 110;
+    private static final int SEARCH_STEP_MS = 300;
+    private static final int DECODE_STEP_MS = 90;
+    private static final int RANGE_SHOW_MS = 3000;
+
+    public CompressedListPanel(VisualCompressedList list) {
+        this.list = list;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            list.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            CompressedListMemoryDialog dialog = new CompressedListMemoryDialog((Frame) window, list);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int rows = Math.max(1, list.getBlockCount());
+        int width = Math.max(1000, BYTES_X + VisualCompressedList.BLOCK_SIZE * 2 * BYTE_WIDTH + 280);
+        int height = Math.max(640, START_Y + rows * (ROW_HEIGHT + ROW_GAP) + 80);
+        return new Dimension(width, height);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        drawBackground(g2d);
+        drawBlocks(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(14, 30, 32)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    private int rowY(int block) { return START_Y + 16 + block * (ROW_HEIGHT + ROW_GAP); }
+
+    // ── Skip index and blocks ────────────────────────────────────
+
+    private void drawBlocks(Graphics2D g2d) {
+        int blocks = list.getBlockCount();
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("SKIP INDEX", INDEX_X, START_Y);
+        g2d.drawString("BLOCK", HEADER_X, START_Y);
+        g2d.drawString("DELTA BYTES (varint)", BYTES_X, START_Y);
+
+        if (blocks == 0) {
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 12));
+            g2d.setColor(new Color(150, 180, 180));
+            g2d.drawString("Empty: append values to start the first block", INDEX_X, START_Y + 40);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        long sinceLookup = list.getLastLookupTime() == 0 ? Long.MAX_VALUE : now - list.getLastLookupTime();
+        List<Integer> path = list.getLastSearchPath();
+        int shownSteps = (int) Math.min(path.size(), sinceLookup / SEARCH_STEP_MS + 1);
+        long decodeStart = (long) path.size() * SEARCH_STEP_MS;
+        int decodedShown = sinceLookup < decodeStart ? 0
+                : (int) Math.min(list.getLastDecoded(), (sinceLookup - decodeStart) / DECODE_STEP_MS + 1);
+        boolean lookupLive = sinceLookup < decodeStart + list.getLastDecoded() * DECODE_STEP_MS + 2500;
+        boolean rangeLive = list.getLastRangeTime() != 0 && now - list.getLastRangeTime() < RANGE_SHOW_MS;
+
+        for (int block = 0; block < blocks; block++) {
+            int stepIndex = lookupLive ? path.subList(0, shownSteps).indexOf(block) : -1;
+            boolean onPath = stepIndex >= 0;
+            boolean target = lookupLive && block == list.getLastBlock() && shownSteps == path.size();
+            boolean inRange = rangeLive && block >= list.getRangeFirstBlock() && block <= list.getRangeLastBlock();
+            drawIndexEntry(g2d, block, onPath, stepIndex, target);
+            drawBlockRow(g2d, block, target ? decodedShown : 0, inRange);
+        }
+    }
+
+    private void drawIndexEntry(Graphics2D g2d, int block, boolean onPath, int step, boolean target) {
+        int y = rowY(block);
+        Color border = target ? SEARCH_COLOR : onPath ? SEARCH_COLOR.darker() : ACCENT.darker();
+        g2d.setColor(onPath ? new Color(60, 55, 25) : new Color(20, 38, 40));
+        g2d.fillRoundRect(INDEX_X, y, INDEX_WIDTH, ROW_HEIGHT, 6, 6);
+        g2d.setColor(border);
+        g2d.setStroke(new BasicStroke(target ? 2f : 1f));
+        g2d.drawRoundRect(INDEX_X, y, INDEX_WIDTH, ROW_HEIGHT, 6, 6);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString(String.valueOf(list.getBlockFirst(block)), INDEX_X + 6, y + 16);
+        if (onPath) {
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+            g2d.setColor(SEARCH_COLOR);
+            g2d.drawString("#" + (step + 1), INDEX_X + INDEX_WIDTH - 16, y + 10);
+        }
+
+        // Skip pointer into the block's data
+        g2d.setColor(onPath ? SEARCH_COLOR : new Color(80, 140, 140));
+        g2d.setStroke(new BasicStroke(1.2f));
+        int ax = INDEX_X + INDEX_WIDTH;
+        int ay = y + ROW_HEIGHT / 2;
+        g2d.drawLine(ax, ay, HEADER_X - 4, ay);
+        g2d.fillPolygon(new int[]{HEADER_X - 4, HEADER_X - 9, HEADER_X - 9}, new int[]{ay, ay - 3, ay + 3}, 3);
+    }
+
+    private void drawBlockRow(Graphics2D g2d, int block, int decodedShown, boolean inRange) {
+        int y = rowY(block);
+        int count = list.getBlockValueCount(block);
+        int offset = list.getBlockOffset(block);
+        int bytes = list.getBlockBytes(block);
+
+        g2d.setColor(new Color(20, 38, 40));
+        g2d.fillRoundRect(HEADER_X, y, HEADER_WIDTH, ROW_HEIGHT, 6, 6);
+        g2d.setColor(inRange ? RANGE_COLOR : ACCENT);
+        g2d.setStroke(new BasicStroke(inRange ? 2f : 1f));
+        g2d.drawRoundRect(HEADER_X, y, HEADER_WIDTH, ROW_HEIGHT, 6, 6);
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("B" + block + " n=" + count + "/" + VisualCompressedList.BLOCK_SIZE, HEADER_X + 5, y + 10);
+        g2d.drawString("@" + offset + ", " + bytes + " B", HEADER_X + 5, y + 20);
+
+        // Fill level against the block size; a full block splits on the next insert
+        int fillWidth = (HEADER_WIDTH - 10) * count / VisualCompressedList.BLOCK_SIZE;
+        g2d.setColor(count == VisualCompressedList.BLOCK_SIZE ? new Color(255, 160, 80) : ACCENT.darker());
+        g2d.fillRect(HEADER_X + 5, y + ROW_HEIGHT - 3, fillWidth, 2);
+
+        int[] values = list.decodeBlock(block);
+        int x = BYTES_X;
+        int valueIndex = 1;
+        int pos = offset;
+        while (pos < offset + bytes && valueIndex < values.length) {
+            int delta = values[valueIndex] - values[valueIndex - 1];
+            int length = CompressedSortedIntList.varintLength(delta);
+            Color color = LENGTH_COLORS[Math.min(length, LENGTH_COLORS.length) - 1];
+            boolean decoded = valueIndex < decodedShown;
+            int groupWidth = length * BYTE_WIDTH;
+
+            g2d.setColor(decoded ? new Color(70, 60, 20) : new Color(color.getRed() / 5, color.getGreen() / 5, color.getBlue() / 5 + 8));
+            g2d.fillRect(x, y, groupWidth - 1, ROW_HEIGHT);
+            for (int b = 0; b < length; b++) {
+                boolean continues = list.getDataAt(pos + b) < 0;
+                g2d.setColor(decoded ? SEARCH_COLOR : color);
+                g2d.setStroke(new BasicStroke(1f));
+                g2d.drawRect(x + b * BYTE_WIDTH, y, BYTE_WIDTH - 2, ROW_HEIGHT);
+                if (continues) g2d.fillRect(x + b * BYTE_WIDTH + 2, y + 2, BYTE_WIDTH - 6, 2);
+            }
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+            g2d.setColor(TEXT_COLOR);
+            String label = "+" + delta;
+            FontMetrics fm = g2d.getFontMetrics();
+            if (fm.stringWidth(label) <= groupWidth) {
+                g2d.drawString(label, x + (groupWidth - fm.stringWidth(label)) / 2 - 1, y + 16);
+            }
+            if (decoded || valueIndex == decodedShown - 1) {
+                g2d.setColor(SEARCH_COLOR);
+                g2d.drawString(String.valueOf(values[valueIndex]), x, y + ROW_HEIGHT + 10);
+            }
+
+            x += groupWidth + 2;
+            pos += length;
+            valueIndex++;
+        }
+
+        if (inRange) {
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+            g2d.setColor(RANGE_COLOR);
+            g2d.drawString("range [" + list.getRangeFrom() + ", " + list.getRangeTo() + ")", x + 6, y + 15);
+        }
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("COMPRESSED SORTED LIST VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ blocks of " + VisualCompressedList.BLOCK_SIZE
+                + " ints: first value in the skip index, the rest as delta + varint bytes ]", 20, 55);
+
+        g2d.setColor(new Color(170, 210, 205));
+        g2d.drawString(list.getLastOperation(), 20, 80);
+
+        if (list.wasJustSplit()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(255, 160, 80, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("BLOCK SPLIT!", 480, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 190;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("LIST STATUS", panelX + 15, panelY + 20);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Size: " + list.getSize() + " / " + VisualCompressedList.MAX_VALUES, panelX + 15, y);
+        y += 15;
+        g2d.drawString("Blocks: " + list.getBlockCount() + "  Splits: " + list.getSplitCount(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Range: " + list.getFirst() + " .. " + list.getLast(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Delta bytes: " + list.getDataBytes(), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Avg bytes/delta: %.2f", list.getAverageDeltaBytes()), panelX + 15, y);
+        y += 15;
+        g2d.setColor(ACCENT);
+        g2d.drawString(String.format("Bytes/element: %.2f", list.getBytesPerElement()), panelX + 15, y);
+        y += 15;
+        VisualCompressedList.MemoryInfo mem = list.getMemoryInfo();
+        int n = Math.max(1, list.getSize());
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString(String.format("TreeSet: %.1f  int[]: %.1f", (double) mem.treeSet() / n,
+                (double) mem.sortedArray() / n), panelX + 15, y);
+
+        // Varint length legend
+        y += 20;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        int lx = panelX + 15;
+        for (int i = 0; i < 3; i++) {
+            g2d.setColor(LENGTH_COLORS[i]);
+            g2d.fillRect(lx, y - 8, 9, 9);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((i + 1) + "B", lx + 12, y);
+            lx += 40;
+        }
+        g2d.setColor(LENGTH_COLORS[3]);
+        g2d.fillRect(lx, y - 8, 9, 9);
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("4-5B", lx + 12, y);
+
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 10);
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualCompressedList.MemoryInfo mem = list.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total: " + mem.formatTotal(), x + 15, y + 35);
+        g2d.drawString("TreeSet<Integer>: " + mem.formatTreeSet(), x + 15, y + 50);
+        g2d.drawString("Sorted int[]: " + mem.formatSortedArray(), x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(170, 210, 205));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(16, 34, 36, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
@@ -0,0 +1,397 @@
+package game.ui;
+
+import game.model.VisualCuckoo;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class CuckooControlPanel extends JPanel {
+    private VisualCuckoo cuckoo;
+    private Random random = new Random();
+    private JTextField keyField;
+    private JTextField valueField;
+    private JComboBox<String> loadCombo;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(255, 215, 110);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public CuckooControlPanel(VisualCuckoo cuckoo) {
+        this.cuckoo = cuckoo;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("PUT ENTRY"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("KEY (int, empty = random):"));
+        keyField = new JTextField();
+        styleTextField(keyField);
+        add(keyField);
+        add(Box.createVerticalStrut(6));
+
+        add(createLabel("VALUE (int):"));
+        valueField = new JTextField();
+        styleTextField(valueField);
+        add(valueField);
+        add(Box.createVerticalStrut(8));
+
+        JButton putBtn = createStyledButton("PUT", ACCENT);
+        putBtn.addActionListener(e -> putEntry());
+        add(putBtn);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("METHODS"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel methodPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        methodPanel.setBackground(BG_COLOR);
+        methodPanel.setMaximumSize(new Dimension(230, 56));
+        methodPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton getBtn = createSmallButton("get(key)", new Color(150, 255, 200));
+        getBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            Integer value = cuckoo.get(key);
+            updateStatus("get = " + (value != null ? value : "null"), value != null ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        methodPanel.add(getBtn);
+
+        JButton containsBtn = createSmallButton("containsKey", new Color(150, 200, 255));
+        containsBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            boolean found = cuckoo.containsKey(key);
+            updateStatus("containsKey = " + found, found ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        methodPanel.add(containsBtn);
+
+        JButton sizeBtn = createSmallButton("size()", new Color(150, 200, 255));
+        sizeBtn.addActionListener(e -> updateStatus("size() = " + cuckoo.getSize(), TEXT_COLOR));
+        methodPanel.add(sizeBtn);
+
+        JButton removeBtn = createSmallButton("remove()", ERROR_COLOR);
+        removeBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            Integer removed = cuckoo.remove(key);
+            if (removed != null) {
+                updateStatus("Removed: " + key, SUCCESS_COLOR);
+                keyField.setText("");
+            } else {
+                updateStatus("Key not found", ERROR_COLOR);
+            }
+        });
+        methodPanel.add(removeBtn);
+        add(methodPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("OPERATIONS"));
+        add(Box.createVerticalStrut(6));
+
+        // Growing later packs the tables tighter: longer chains, then cycles and rehashes
+        add(createLabel("GROW AT LOAD:"));
+        loadCombo = new JComboBox<>();
+        for (double load : VisualCuckoo.MAX_LOAD_OPTIONS) loadCombo.addItem(String.format("%.0f%%", 100 * load));
+        styleComboBox(loadCombo);
+        loadCombo.addActionListener(e -> {
+            double load = VisualCuckoo.MAX_LOAD_OPTIONS[loadCombo.getSelectedIndex()];
+            cuckoo.configure(load);
+            updateStatus(String.format("Grows at %.0f%% load", 100 * load), load > 0.5 ? WARN_COLOR : SUCCESS_COLOR);
+        });
+        add(loadCombo);
+        add(Box.createVerticalStrut(8));
+
+        JPanel autoPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        autoPanel.setBackground(BG_COLOR);
+        autoPanel.setMaximumSize(new Dimension(230, 56));
+        autoPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton fill5Btn = createSmallButton("Fill x5", new Color(230, 190, 100));
+        fill5Btn.addActionListener(e -> autoFill(5));
+        autoPanel.add(fill5Btn);
+
+        JButton fillMaxBtn = createSmallButton("Fill to " + VisualCuckoo.MAX_KEYS, new Color(250, 210, 130));
+        fillMaxBtn.addActionListener(e -> autoFill(VisualCuckoo.MAX_KEYS - cuckoo.getSize()));
+        autoPanel.add(fillMaxBtn);
+
+        // Same residue mod the slot count: one long chain for key % n, nothing for cuckoo
+        JButton collidingBtn = createSmallButton("Colliding x5", new Color(255, 120, 100));
+        collidingBtn.addActionListener(e -> {
+            int added = cuckoo.putColliding(5);
+            updateStatus(added == 0 ? "Table is at the view limit" : "Added " + added + " colliding keys",
+                    added == 0 ? WARN_COLOR : SUCCESS_COLOR);
+        });
+        autoPanel.add(collidingBtn);
+
+        JButton rehashBtn = createSmallButton("rehash()", new Color(200, 150, 255));
+        rehashBtn.addActionListener(e -> {
+            cuckoo.rehash();
+            updateStatus("New seeds, every key re-placed", SUCCESS_COLOR);
+        });
+        autoPanel.add(rehashBtn);
+        add(autoPanel);
+        add(Box.createVerticalStrut(8));
+
+        JButton loadTestBtn = createStyledButton("Run load test", new Color(255, 90, 90));
+        loadTestBtn.addActionListener(e -> {
+            cuckoo.runLoadTest();
+            updateStatus(String.format("First failure at %.0f%% load on avg", 100 * cuckoo.getLoadTestAverage()), WARN_COLOR);
+        });
+        add(loadTestBtn);
+        add(Box.createVerticalStrut(8));
+
+        JButton clearBtn = createStyledButton("clear()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            cuckoo.clear();
+            updateStatus("Cleared all entries", WARN_COLOR);
+        });
+        add(clearBtn);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    // One put per tick, so each kick-out chain gets its replay
+    private void autoFill(int count) {
+        if (count <= 0) {
+            updateStatus("Table is at the view limit", WARN_COLOR);
+            return;
+        }
+        Timer timer = new Timer(400, null);
+        final int[] added = {0};
+        timer.addActionListener(evt -> {
+            if (added[0] < count && cuckoo.getSize() < VisualCuckoo.MAX_KEYS) {
+                cuckoo.put(VisualCuckoo.generateRandomKey(random), VisualCuckoo.generateRandomValue(random));
+                added[0]++;
+                updateStatus("Adding... " + added[0] + "/" + count, SUCCESS_COLOR);
+            } else {
+                timer.stop();
+                updateStatus("Added " + added[0] + " entries", SUCCESS_COLOR);
+            }
+        });
+        timer.start();
+    }
+
+    private void putEntry() {
+        String keyText = keyField.getText().trim();
+        String valueText = valueField.getText().trim();
+        try {
+            int key = keyText.isEmpty() ? VisualCuckoo.generateRandomKey(random) : Integer.parseInt(keyText);
+            int value = valueText.isEmpty() ? VisualCuckoo.generateRandomValue(random) : Integer.parseInt(valueText);
+            // The map reports "no mapping" as Integer.MIN_VALUE
+            if (value == Integer.MIN_VALUE) {
+                updateStatus("Value reserved as missing marker", ERROR_COLOR);
+                return;
+            }
+            cuckoo.put(key, value);
+            updateStatus("Put: " + key + " -> " + value, SUCCESS_COLOR);
+            keyField.setText("");
+            valueField.setText("");
+        } catch (NumberFormatException ex) {
+            updateStatus("Keys and values are int", ERROR_COLOR);
+        }
+    }
+
+    private Integer readKey() {
+        String keyText = keyField.getText().trim();
+        if (keyText.isEmpty()) {
+            updateStatus("Enter key first", WARN_COLOR);
+            return null;
+        }
+        try {
+            return Integer.parseInt(keyText);
+        } catch (NumberFormatException ex) {
+            updateStatus("Keys are int", ERROR_COLOR);
+            return null;
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleComboBox(JComboBox<String> combo) {
+        combo.setBackground(BUTTON_BG);
+        combo.setForeground(TEXT_COLOR);
+        combo.setFont(new Font("Consolas", Font.PLAIN, 13));
+        combo.setMaximumSize(new Dimension(250, 26));
+        combo.setAlignmentX(LEFT_ALIGNMENT);
+        combo.setBorder(BorderFactory.createLineBorder(ACCENT.darker(), 1));
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("CUCKOO INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "Two tables, two hashes",
+                "Lookup: at most 2 slots",
+                "Full slot: evict, move on",
+                "Cycle: rehash, new seeds",
+                "Past ~50% load: cycles"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(240, 220, 170));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
@@ -0,0 +1,177 @@
+package game.ui;
+
+import game.model.VisualCuckoo;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import game.ui.ThemeManager;
+
+public class CuckooMemoryDialog extends JDialog {
+    private VisualCuckoo cuckoo;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(255, 215, 110);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public CuckooMemoryDialog(Frame parent, VisualCuckoo cuckoo) {
+        super(parent, "Cuckoo Hash Memory Analysis", true);
+        this.cuckoo = cuckoo;
+
+        setSize(650, 660);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createOccupancyPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualCuckoo.MemoryInfo mem = cuckoo.getMemoryInfo();
+        int n = cuckoo.getSize();
+
+        String[] lines = {
+                "Total heap used: " + mem.formatTotal(),
+                "",
+                "Map object:    " + mem.mapOverhead() + " B (seeds, counters, limits)",
+                "keys[]:        " + mem.keysArray() + " B (" + mem.capacity() + " x 4 B, both tables)",
+                "values[]:      " + mem.valuesArray() + " B (" + mem.capacity() + " x 4 B)",
+                "full[]:        " + mem.fullArray() + " B (" + mem.capacity() + " x 1 B occupancy)",
+                "Chain buffers: " + mem.chainBuffers() + " B (last kick-out chain, for the view)",
+                "",
+                "Entries:       " + n + " in 2 x " + cuckoo.getTableSize() + " slots",
+                String.format("Bytes per entry: %.1f", mem.bytesPerEntry())
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            boolean highlight = line.contains("Total") || line.startsWith("Bytes per");
+            label.setForeground(highlight ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", highlight ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createOccupancyPanel() {
+        JPanel panel = createSection("OCCUPANCY LIMITS");
+
+        VisualCuckoo.MemoryInfo mem = cuckoo.getMemoryInfo();
+        String[] lines = {
+                String.format("Current load:        %.1f%% of %d slots", 100 * cuckoo.getCurrentLoad(), cuckoo.getCapacity()),
+                String.format("Grows at:            %.0f%%", 100 * cuckoo.getMaxLoad()),
+                "Inserts start failing near 50% with two one-slot tables;",
+                "past that, kick-out chains close into cycles and every rehash",
+                "under new seeds is likely to fail again.",
+                cuckoo.getLoadTestTableSize() == 0 ? "Load test: not run yet"
+                        : String.format("Load test (2 x %d):  first failure at %.0f%% on average, earliest %.0f%%",
+                        cuckoo.getLoadTestTableSize(), 100 * cuckoo.getLoadTestAverage(), 100 * cuckoo.getLoadTestMin()),
+                "",
+                "Empty slots cost:    " + mem.emptySlotBytes() + " B (9 B per slot: key, value, flag)",
+                "Four-slot buckets or a small stash push the limit past 90%,",
+                "at the cost of reading up to eight slots per lookup."
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.startsWith("Load test") || line.startsWith("Current") ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("CUCKOO vs LINEAR PROBING vs HASHMAP");
+
+        VisualCuckoo.MemoryInfo mem = cuckoo.getMemoryInfo();
+        int n = cuckoo.getSize();
+        // Linear probing at 0.75: same 9 B per slot, but a table half the size
+        int probingSlots = 16;
+        while (probingSlots * 0.75 < n) probingSlots <<= 1;
+        long probing = 64 + 3 * 16 + 9L * probingSlots;
+        double perCuckoo = n == 0 ? 0 : (double) mem.totalUsed() / n;
+        double perProbing = n == 0 ? 0 : (double) probing / n;
+        double perHashMap = n == 0 ? 0 : (double) mem.boxedHashMap() / n;
+
+        String[] lines = {
+                "For the current " + n + " entries:",
+                "",
+                String.format("Cuckoo (2 tables):        %s  (%.1f B/entry)", mem.formatTotal(), perCuckoo),
+                "  - lookups read at most 2 slots, hit or miss",
+                "  - kept under half full, so about twice the slots",
+                "",
+                String.format("Linear probing (0.75):    %d B  (%.1f B/entry)", probing, perProbing),
+                "  - denser, but runs grow with load and clustering",
+                "",
+                String.format("HashMap<Integer,Integer>: %s  (%.1f B/entry)", mem.formatBoxedHashMap(), perHashMap),
+                "  - chains (trees past 8) that colliding keys can grow",
+                "",
+                "Choose cuckoo hashing when:",
+                "  - Lookup latency must be bounded, not just fast on average",
+                "  - Reads far outnumber inserts, which pay for the bound"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("Cuckoo") || line.startsWith("Linear") || line.startsWith("HashMap<")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(240, 220, 170);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
@@ -0,0 +1,572 @@
+package game.ui;
+
+import game.model.VisualCuckoo;
+import game.model.VisualCuckoo.LookupResult;
+import game.model.VisualCuckoo.Move;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.geom.QuadCurve2D;
+import java.util.List;
+import game.ui.ThemeManager;
+
+public class CuckooPanel extends JPanel {
+    private VisualCuckoo cuckoo;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(255, 215, 110);
+    private static final Color TABLE0_COLOR = new Color(110, 190, 255);
+    private static final Color TABLE1_COLOR = new Color(200, 150, 255);
+    private static final Color CANDIDATE_COLOR = new Color(255, 215, 110);
+    private static final Color FOUND_COLOR = new Color(100, 255, 150);
+    private static final Color KICK_COLOR = new Color(255, 150, 80);
+    private static final Color CYCLE_COLOR = new Color(255, 80, 80);
+    private static final Color CHAIN_COLOR = new Color(170, 170, 190);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    private static final int START_X = 70;
+    private static final int TABLE_Y = 125;
+    private static final int PER_ROW = 32;
+    private static final int CELL = 32;
+    private static final int CELL_GAP = 2;
+    private static final int CELL_HEIGHT = 34;
+    private static final int ROW_HEIGHT = 40;
+    private static final int TABLE_GAP = 70;
+    private static final int CONTENT_WIDTH = PER_ROW * (CELL + CELL_GAP) - CELL_GAP;
+    private static final int BOX_HEIGHT = 190;
+    // How long each kick stays the newest one in the replay
+    private static final int KICK_STEP_MS = 350;
+
+    public CuckooPanel(VisualCuckoo cuckoo) {
+        this.cuckoo = cuckoo;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            cuckoo.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            CuckooMemoryDialog dialog = new CuckooMemoryDialog((Frame) window, cuckoo);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = START_X + CONTENT_WIDTH + 20 + 260;
+        int height = lowerY(cuckoo.getTableSize()) + BOX_HEIGHT + 60;
+        return new Dimension(width, Math.max(640, height));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        int tableSize = cuckoo.getTableSize();
+        drawBackground(g2d);
+        drawTables(g2d, tableSize);
+        drawKicks(g2d, tableSize);
+        drawChainStrip(g2d, chainY(tableSize));
+        int y = lowerY(tableSize);
+        int boxWidth = (CONTENT_WIDTH + START_X - 20 - 2 * 20) / 3;
+        drawKickHistogram(g2d, 20, y, boxWidth);
+        drawLoadTest(g2d, 20 + boxWidth + 20, y, boxWidth);
+        drawLookupCost(g2d, 20 + 2 * (boxWidth + 20), y, boxWidth);
+        drawLegend(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(36, 30, 16)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    // ── Layout ───────────────────────────────────────────────────
+    // Table 0 on top, table 1 below it, kick arrows in the gap between them
+
+    private static int rows(int tableSize) {
+        return (tableSize + PER_ROW - 1) / PER_ROW;
+    }
+
+    private static int tableY(int table, int tableSize) {
+        return TABLE_Y + table * (rows(tableSize) * ROW_HEIGHT + TABLE_GAP);
+    }
+
+    private static int chainY(int tableSize) {
+        return tableY(1, tableSize) + rows(tableSize) * ROW_HEIGHT + 25;
+    }
+
+    private static int lowerY(int tableSize) {
+        return chainY(tableSize) + 75;
+    }
+
+    private static int cellX(int index) {
+        return START_X + (index % PER_ROW) * (CELL + CELL_GAP);
+    }
+
+    private static int cellY(int table, int index, int tableSize) {
+        return tableY(table, tableSize) + (index / PER_ROW) * ROW_HEIGHT;
+    }
+
+    // ── Tables ───────────────────────────────────────────────────
+
+    private void drawTables(Graphics2D g2d, int tableSize) {
+        int slot0 = cuckoo.getLastSlot0();
+        int slot1 = cuckoo.getLastSlot1();
+        int found = cuckoo.getLastFoundSlot();
+        LookupResult lookup = cuckoo.getLastLookup();
+        float pulse = (float) (0.6 + 0.4 * Math.sin(glowPhase * 6));
+
+        for (int table = 0; table < 2; table++) {
+            Color tableColor = table == 0 ? TABLE0_COLOR : TABLE1_COLOR;
+            int y = tableY(table, tableSize);
+            g2d.setFont(new Font("Consolas", Font.BOLD, 12));
+            g2d.setColor(tableColor);
+            g2d.drawString("T" + table, 20, y + 16);
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+            g2d.drawString("hash" + table, 20, y + 28);
+
+            for (int index = 0; index < tableSize; index++) {
+                int slot = table * tableSize + index;
+                int x = cellX(index);
+                int cy = cellY(table, index, tableSize);
+                boolean full = cuckoo.isFull(slot);
+
+                g2d.setColor(full ? new Color(tableColor.getRed() / 4, tableColor.getGreen() / 4, tableColor.getBlue() / 4)
+                        : new Color(34, 30, 26));
+                g2d.fillRoundRect(x, cy, CELL, CELL_HEIGHT, 6, 6);
+
+                Color border = full ? tableColor.darker() : new Color(80, 70, 55);
+                float stroke = 1f;
+                if (slot == found) {
+                    border = FOUND_COLOR;
+                    stroke = 1.5f + pulse;
+                } else if (slot == slot0 || slot == slot1) {
+                    // The only two places this key may be: a lookup reads nothing else
+                    border = lookup == LookupResult.ABSENT ? CYCLE_COLOR : CANDIDATE_COLOR;
+                    stroke = 2f;
+                }
+                g2d.setColor(border);
+                g2d.setStroke(new BasicStroke(stroke));
+                g2d.drawRoundRect(x, cy, CELL, CELL_HEIGHT, 6, 6);
+
+                g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+                g2d.setColor(new Color(150, 140, 120));
+                g2d.drawString(String.valueOf(index), x + 2, cy + CELL_HEIGHT + 9);
+                if (!full) continue;
+
+                g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+                g2d.setColor(TEXT_COLOR);
+                String key = String.valueOf(cuckoo.getKeyAt(slot));
+                FontMetrics fm = g2d.getFontMetrics();
+                g2d.drawString(key, x + (CELL - fm.stringWidth(key)) / 2, cy + 14);
+                g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+                g2d.setColor(new Color(200, 190, 160));
+                String value = String.valueOf(cuckoo.getValueAt(slot));
+                fm = g2d.getFontMetrics();
+                g2d.drawString(value, x + (CELL - fm.stringWidth(value)) / 2, cy + 27);
+            }
+        }
+    }
+
+    // Each kick as an arrow from the slot the evicted key left to the slot it moved into
+    private void drawKicks(Graphics2D g2d, int tableSize) {
+        List<Move> chain = cuckoo.getLastChain();
+        if (chain.size() < 2) return;
+        long elapsed = System.currentTimeMillis() - cuckoo.getChainTime();
+        int visible = (int) Math.min(chain.size() - 1, elapsed / KICK_STEP_MS + 1);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+        for (int i = 0; i < visible; i++) {
+            Move from = chain.get(i);
+            Move to = chain.get(i + 1);
+            int x1 = cellX(from.index()) + CELL / 2;
+            int x2 = cellX(to.index()) + CELL / 2;
+            // Leave table 0 from the bottom edge, table 1 from the top, and arrive likewise
+            int y1 = cellY(from.table(), from.index(), tableSize) + (from.table() == 0 ? CELL_HEIGHT + 2 : -2);
+            int y2 = cellY(to.table(), to.index(), tableSize) + (to.table() == 0 ? CELL_HEIGHT + 2 : -2);
+            double cx = (x1 + x2) / 2.0 + (i % 2 == 0 ? 18 : -18);
+            double cy = (y1 + y2) / 2.0;
+
+            boolean newest = i == visible - 1;
+            g2d.setColor(newest ? KICK_COLOR : new Color(KICK_COLOR.getRed(), KICK_COLOR.getGreen(), KICK_COLOR.getBlue(), 150));
+            g2d.setStroke(new BasicStroke(newest ? 2.2f : 1.5f));
+            g2d.draw(new QuadCurve2D.Double(x1, y1, cx, cy, x2, y2));
+            drawArrowHead(g2d, cx, cy, x2, y2);
+
+            int lx = (int) ((x1 + 2 * cx + x2) / 4);
+            int ly = (int) ((y1 + 2 * cy + y2) / 4);
+            g2d.setColor(new Color(60, 40, 20));
+            g2d.fillOval(lx - 7, ly - 7, 14, 14);
+            g2d.setColor(KICK_COLOR);
+            g2d.drawOval(lx - 7, ly - 7, 14, 14);
+            String label = String.valueOf(i + 1);
+            g2d.drawString(label, lx - g2d.getFontMetrics().stringWidth(label) / 2, ly + 3);
+        }
+    }
+
+    private static void drawArrowHead(Graphics2D g2d, double fromX, double fromY, double x, double y) {
+        double angle = Math.atan2(y - fromY, x - fromX);
+        int size = 7;
+        Polygon head = new Polygon();
+        head.addPoint((int) x, (int) y);
+        head.addPoint((int) (x - size * Math.cos(angle - 0.4)), (int) (y - size * Math.sin(angle - 0.4)));
+        head.addPoint((int) (x - size * Math.cos(angle + 0.4)), (int) (y - size * Math.sin(angle + 0.4)));
+        g2d.fill(head);
+    }
+
+    // The chain as a sequence of moves, or the one that gave up if this put forced a rehash
+    private void drawChainStrip(Graphics2D g2d, int y) {
+        List<Move> failed = cuckoo.getFailedChain();
+        List<Move> chain = failed.isEmpty() ? cuckoo.getLastChain() : failed;
+        boolean cycle = !failed.isEmpty();
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(cycle ? CYCLE_COLOR : ACCENT);
+        String heading;
+        if (cycle) {
+            heading = "KICK-OUT CHAIN GAVE UP after " + chain.size() + " moves, going round a cycle:"
+                    + " every key rehashed under new seeds";
+        } else if (chain.isEmpty()) {
+            heading = "KICK-OUT CHAIN: put a key whose two slots are both taken";
+        } else if (chain.size() == 1) {
+            heading = "KICK-OUT CHAIN: none, " + chain.get(0).key() + " found a free slot";
+        } else {
+            heading = "KICK-OUT CHAIN: " + (chain.size() - 1) + " kick" + (chain.size() == 2 ? "" : "s");
+        }
+        g2d.drawString(heading, 20, y);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        int rowY = y + 18;
+        for (int i = 0; i < chain.size(); i++) {
+            Move move = chain.get(i);
+            String text = move.key() + " -> T" + move.table() + "[" + move.index() + "]";
+            int width = g2d.getFontMetrics().stringWidth(text) + 10;
+            if (x + width + 40 > START_X + CONTENT_WIDTH) {
+                if (rowY > y + 30) {
+                    g2d.setColor(CHAIN_COLOR);
+                    g2d.drawString("...", x, rowY);
+                    break;
+                }
+                x = 20;
+                rowY += 18;
+            }
+            Color color = cycle ? CYCLE_COLOR : i == 0 ? CANDIDATE_COLOR : KICK_COLOR;
+            g2d.setColor(new Color(color.getRed() / 5, color.getGreen() / 5, color.getBlue() / 5));
+            g2d.fillRoundRect(x, rowY - 11, width, 15, 6, 6);
+            g2d.setColor(color);
+            g2d.drawRoundRect(x, rowY - 11, width, 15, 6, 6);
+            g2d.drawString(text, x + 5, rowY);
+            x += width;
+            if (i < chain.size() - 1) {
+                g2d.setColor(CHAIN_COLOR);
+                g2d.drawString(" evicts ", x, rowY);
+                x += g2d.getFontMetrics().stringWidth(" evicts ");
+            }
+        }
+    }
+
+    // ── Lower boxes ──────────────────────────────────────────────
+
+    private void drawKickHistogram(Graphics2D g2d, int x, int y, int width) {
+        drawBox(g2d, x, y, width, BOX_HEIGHT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("KICKS PER INSERT", x + 12, y + 18);
+
+        int[] histogram = cuckoo.getKickHistogram();
+        int max = 1;
+        for (int count : histogram) max = Math.max(max, count);
+        int plotX = x + 15;
+        int plotY = y + 35;
+        int plotHeight = BOX_HEIGHT - 80;
+        int barWidth = (width - 30) / histogram.length;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        for (int i = 0; i < histogram.length; i++) {
+            int h = histogram[i] * plotHeight / max;
+            int bx = plotX + i * barWidth;
+            g2d.setColor(i == 0 ? FOUND_COLOR : KICK_COLOR);
+            g2d.fillRect(bx + 2, plotY + plotHeight - h, barWidth - 4, h);
+            g2d.setColor(TEXT_COLOR);
+            String label = i == histogram.length - 1 ? i + "+" : String.valueOf(i);
+            g2d.drawString(label, bx + (barWidth - g2d.getFontMetrics().stringWidth(label)) / 2, plotY + plotHeight + 12);
+            if (histogram[i] > 0) {
+                String count = String.valueOf(histogram[i]);
+                g2d.drawString(count, bx + (barWidth - g2d.getFontMetrics().stringWidth(count)) / 2, plotY + plotHeight - h - 3);
+            }
+        }
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Longest chain: " + cuckoo.getLongestChain() + "   limit: " + cuckoo.getMaxKicks(), x + 12, y + BOX_HEIGHT - 24);
+        g2d.setColor(cuckoo.getCycles() > 0 ? CYCLE_COLOR : TEXT_COLOR);
+        g2d.drawString("Cycles -> full rehash: " + cuckoo.getCycles(), x + 12, y + BOX_HEIGHT - 10);
+    }
+
+    private void drawLoadTest(Graphics2D g2d, int x, int y, int width) {
+        drawBox(g2d, x, y, width, BOX_HEIGHT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        int testSize = cuckoo.getLoadTestTableSize();
+        g2d.drawString("LOAD AT FIRST FAILED INSERT" + (testSize > 0 ? "  (2 x " + testSize + ")" : ""), x + 12, y + 18);
+
+        int plotX = x + 15;
+        int plotY = y + 35;
+        int plotWidth = width - 30;
+        int plotHeight = BOX_HEIGHT - 80;
+        g2d.setColor(new Color(90, 80, 60));
+        g2d.setStroke(new BasicStroke(1f));
+        g2d.drawLine(plotX, plotY + plotHeight, plotX + plotWidth, plotY + plotHeight);
+
+        int[] histogram = cuckoo.getLoadTestHistogram();
+        int max = 1;
+        for (int count : histogram) max = Math.max(max, count);
+        int barWidth = plotWidth / histogram.length;
+        for (int i = 0; i < histogram.length; i++) {
+            int h = histogram[i] * plotHeight / max;
+            g2d.setColor(CYCLE_COLOR);
+            g2d.fillRect(plotX + i * barWidth + 1, plotY + plotHeight - h, barWidth - 2, h);
+        }
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        for (int pct = 0; pct <= 100; pct += 25) {
+            int gx = plotX + pct * plotWidth / 100;
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString(pct + "%", gx - 8, plotY + plotHeight + 12);
+        }
+        drawLoadMarker(g2d, plotX, plotY, plotWidth, plotHeight, 0.5, new Color(255, 255, 255, 150), "1/2");
+        drawLoadMarker(g2d, plotX, plotY, plotWidth, plotHeight, cuckoo.getMaxLoad(), CANDIDATE_COLOR, "grow");
+        drawLoadMarker(g2d, plotX, plotY, plotWidth, plotHeight, cuckoo.getCurrentLoad(), FOUND_COLOR, "now");
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        if (testSize == 0) {
+            g2d.drawString("Run the load test: fill fresh tables", x + 12, y + BOX_HEIGHT - 24);
+            g2d.drawString("until the first insert has to rehash", x + 12, y + BOX_HEIGHT - 10);
+        } else {
+            g2d.drawString(String.format("Avg %.0f%%, earliest %.0f%% of %d fills", 100 * cuckoo.getLoadTestAverage(),
+                    100 * cuckoo.getLoadTestMin(), VisualCuckoo.LOAD_TEST_TRIALS), x + 12, y + BOX_HEIGHT - 24);
+            g2d.drawString("Two 1-slot tables fail near 50% as n grows", x + 12, y + BOX_HEIGHT - 10);
+        }
+    }
+
+    private static void drawLoadMarker(Graphics2D g2d, int plotX, int plotY, int plotWidth, int plotHeight,
+                                       double load, Color color, String label) {
+        int gx = plotX + (int) (Math.min(1, load) * plotWidth);
+        g2d.setColor(color);
+        g2d.setStroke(new BasicStroke(1f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10, new float[]{3, 3}, 0));
+        g2d.drawLine(gx, plotY, gx, plotY + plotHeight);
+        g2d.setStroke(new BasicStroke(1f));
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        // One row per label, since the three lines can sit a pixel apart
+        int row = label.equals("now") ? 20 : label.equals("grow") ? 32 : 8;
+        g2d.drawString(label, gx + 2, plotY + row);
+    }
+
+    // Reads per lookup against a chained table holding the same keys in as many buckets
+    private void drawLookupCost(Graphics2D g2d, int x, int y, int width) {
+        drawBox(g2d, x, y, width, BOX_HEIGHT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("LOOKUP COST vs CHAINING", x + 12, y + 18);
+
+        int[] chains = cuckoo.getChainLengths();
+        int longest = cuckoo.getChainedMaxChain();
+        int top = Math.max(4, longest);
+        int plotX = x + 15;
+        int plotY = y + 35;
+        int plotWidth = width - 30;
+        int plotHeight = BOX_HEIGHT - 110;
+        double barWidth = (double) plotWidth / chains.length;
+        for (int i = 0; i < chains.length; i++) {
+            int h = chains[i] * plotHeight / top;
+            g2d.setColor(chains[i] > 2 ? CYCLE_COLOR : CHAIN_COLOR);
+            g2d.fillRect(plotX + (int) (i * barWidth), plotY + plotHeight - h, Math.max(1, (int) barWidth - 1), h);
+        }
+        // Cuckoo's bound: never more than two reads, however the keys fall
+        int boundY = plotY + plotHeight - 2 * plotHeight / top;
+        g2d.setColor(FOUND_COLOR);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawLine(plotX, boundY, plotX + plotWidth, boundY);
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.drawString("cuckoo: 2", plotX + plotWidth - 50, boundY - 3);
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("bucket = key % " + chains.length, plotX, plotY + plotHeight + 12);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int ty = y + BOX_HEIGHT - 52;
+        g2d.setColor(FOUND_COLOR);
+        g2d.drawString(String.format("Cuckoo   worst 2   avg hit %.2f", cuckoo.getCuckooAverageHit()), x + 12, ty);
+        g2d.setColor(longest > 2 ? CYCLE_COLOR : TEXT_COLOR);
+        g2d.drawString(String.format("Chained  worst %-3d avg hit %.2f", longest, cuckoo.getChainedAverageHit()), x + 12, ty + 15);
+        g2d.setColor(new Color(220, 200, 160));
+        g2d.drawString("Try 'Colliding x5': one chain grows,", x + 12, ty + 32);
+        g2d.drawString("cuckoo's seeded hashes scatter them", x + 12, ty + 46);
+    }
+
+    private void drawLegend(Graphics2D g2d) {
+        int y = getHeight() - 30;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        Object[][] items = {
+                {TABLE0_COLOR, "table 0"},
+                {TABLE1_COLOR, "table 1"},
+                {CANDIDATE_COLOR, "the key's 2 candidate slots"},
+                {FOUND_COLOR, "found / placed"},
+                {KICK_COLOR, "kick: evicted key moves to its other slot"},
+                {CYCLE_COLOR, "miss / cycle"}
+        };
+        for (Object[] item : items) {
+            g2d.setColor((Color) item[0]);
+            g2d.fillRect(x, y, 10, 10);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) item[1], x + 14, y + 9);
+            x += g2d.getFontMetrics().stringWidth((String) item[1]) + 30;
+        }
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("CUCKOO HASH VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ two tables, two seeded hashes: every key sits in one of exactly two slots, so a lookup reads at most two ]", 20, 55);
+
+        g2d.setColor(new Color(230, 210, 160));
+        g2d.drawString(cuckoo.getLastOperation(), 20, 80);
+
+        if (cuckoo.wasJustRehashed()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            boolean cycle = !cuckoo.getFailedChain().isEmpty();
+            g2d.setColor(cycle ? new Color(255, 80, 80, (int) (255 * flash)) : new Color(255, 215, 110, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString(cycle ? "CYCLE -> REHASH!" : "REHASH!", 400, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 220;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("TABLE STATUS", panelX + 15, panelY + 20);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Size: " + cuckoo.getSize() + " / " + VisualCuckoo.MAX_KEYS + " (view limit)", panelX + 15, y);
+        y += 15;
+        g2d.drawString("Tables: 2 x " + cuckoo.getTableSize() + " = " + cuckoo.getCapacity() + " slots", panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Load: %.1f%% (grows at %.0f%%)", 100 * cuckoo.getCurrentLoad(), 100 * cuckoo.getMaxLoad()),
+                panelX + 15, y);
+        y += 15;
+        g2d.setColor(TABLE1_COLOR);
+        g2d.drawString(String.format("Keys in T1: %.0f%% (2nd read)", 100 * cuckoo.getSecondTableShare()), panelX + 15, y);
+        y += 20;
+        g2d.setColor(ACCENT);
+        g2d.drawString("INSERTS", panelX + 15, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total kicks: " + cuckoo.getTotalKicks(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Kick limit: " + cuckoo.getMaxKicks(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(cuckoo.getRehashCount() > 0 ? CYCLE_COLOR : TEXT_COLOR);
+        g2d.drawString("Rehashes (new seeds): " + cuckoo.getRehashCount(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Grows: " + cuckoo.getGrowCount(), panelX + 15, y);
+        y += 20;
+        g2d.setColor(FOUND_COLOR);
+        g2d.drawString("Lookup: 1-2 slots, always", panelX + 15, y);
+
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 10);
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualCuckoo.MemoryInfo mem = cuckoo.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total: " + mem.formatTotal() + String.format(" (%.1f B/entry)", mem.bytesPerEntry()), x + 15, y + 35);
+        g2d.drawString("Empty slots: " + mem.emptySlotBytes() + " B", x + 15, y + 50);
+        g2d.drawString("HashMap<Integer,Integer>: " + mem.formatBoxedHashMap(), x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(230, 210, 160));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(40, 32, 18, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
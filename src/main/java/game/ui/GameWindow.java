@@ -21,6 +21,20 @@ public class GameWindow extends JFrame {
     private VisualHashtable hashtable;
     private VisualPriorityQueue priorityQueue;
     private VisualConcurrentHashMap concurrentHashMap;
+    private VisualOpenHashMap openHashMap;
+    private VisualSwissMap swissMap;
+    private VisualMappedList mappedList;
+    private VisualCompressedList compressedList;
+    private VisualRoaringSet roaringSet;
+    private VisualBPlusTree bPlusTree;
+    private VisualSkipList skipList;
+    private VisualTinyLfu tinyLfu;
+    private VisualChamp champ;
+    private VisualBloomFilter bloomFilter;
+    private VisualCuckoo cuckoo;
+    private VisualSortedArrayMap sortedArrayMap;
+    private VisualImmutableCollection immutableCollection;
+    private VisualIdentityHashMap identityHashMap;
     private BenchmarkModel benchmarkModel;
 
     private JPanel mainContainer;
@@ -46,6 +60,20 @@ public class GameWindow extends JFrame {
         this.hashtable = new VisualHashtable();
         this.priorityQueue = new VisualPriorityQueue();
         this.concurrentHashMap = new VisualConcurrentHashMap();
+        this.openHashMap = new VisualOpenHashMap();
+        this.swissMap = new VisualSwissMap();
+        this.mappedList = new VisualMappedList();
+        this.compressedList = new VisualCompressedList();
+        this.roaringSet = new VisualRoaringSet();
+        this.bPlusTree = new VisualBPlusTree();
+        this.skipList = new VisualSkipList();
+        this.tinyLfu = new VisualTinyLfu();
+        this.champ = new VisualChamp();
+        this.bloomFilter = new VisualBloomFilter();
+        this.cuckoo = new VisualCuckoo();
+        this.sortedArrayMap = new VisualSortedArrayMap();
+        this.immutableCollection = new VisualImmutableCollection();
+        this.identityHashMap = new VisualIdentityHashMap();
         this.benchmarkModel = new BenchmarkModel();
 
         initUI();
@@ -83,6 +111,20 @@ public class GameWindow extends JFrame {
         mainContainer.add(wrapInScrollPane(new TreeMapPanel(treeMap)), "TREEMAP");
         mainContainer.add(wrapInScrollPane(new HashtablePanel(hashtable)), "HASHTABLE");
         mainContainer.add(wrapInScrollPane(new ConcurrentHashMapPanel(concurrentHashMap)), "CONCURRENTHASHMAP");
+        mainContainer.add(wrapInScrollPane(new OpenHashMapPanel(openHashMap)), "OPENHASHMAP");
+        mainContainer.add(wrapInScrollPane(new SwissMapPanel(swissMap)), "SWISSMAP");
+        mainContainer.add(wrapInScrollPane(new MappedListPanel(mappedList)), "MAPPEDLIST");
+        mainContainer.add(wrapInScrollPane(new CompressedListPanel(compressedList)), "COMPRESSEDLIST");
+        mainContainer.add(wrapInScrollPane(new RoaringSetPanel(roaringSet)), "ROARING");
+        mainContainer.add(wrapInScrollPane(new BPlusTreePanel(bPlusTree)), "BPLUSTREE");
+        mainContainer.add(wrapInScrollPane(new SkipListPanel(skipList)), "SKIPLIST");
+        mainContainer.add(wrapInScrollPane(new TinyLfuPanel(tinyLfu)), "TINYLFU");
+        mainContainer.add(wrapInScrollPane(new ChampPanel(champ)), "CHAMP");
+        mainContainer.add(wrapInScrollPane(new BloomFilterPanel(bloomFilter)), "BLOOM");
+        mainContainer.add(wrapInScrollPane(new CuckooPanel(cuckoo)), "CUCKOO");
+        mainContainer.add(wrapInScrollPane(new SortedArrayMapPanel(sortedArrayMap)), "SORTEDARRAYMAP");
+        mainContainer.add(wrapInScrollPane(new ImmutableCollectionPanel(immutableCollection)), "IMMUTABLE");
+        mainContainer.add(wrapInScrollPane(new IdentityHashMapPanel(identityHashMap)), "IDENTITYMAP");
 
         BenchmarkPanel benchmarkPanel = new BenchmarkPanel(benchmarkModel);
         mainContainer.add(wrapInScrollPane(benchmarkPanel), "BENCHMARK");
@@ -105,6 +147,20 @@ public class GameWindow extends JFrame {
         controlContainer.add(new TreeMapControlPanel(treeMap), "TREEMAP");
         controlContainer.add(new HashtableControlPanel(hashtable), "HASHTABLE");
         controlContainer.add(new ConcurrentHashMapControlPanel(concurrentHashMap), "CONCURRENTHASHMAP");
+        controlContainer.add(new OpenHashMapControlPanel(openHashMap), "OPENHASHMAP");
+        controlContainer.add(new SwissMapControlPanel(swissMap), "SWISSMAP");
+        controlContainer.add(new MappedListControlPanel(mappedList), "MAPPEDLIST");
+        controlContainer.add(new CompressedListControlPanel(compressedList), "COMPRESSEDLIST");
+        controlContainer.add(new RoaringSetControlPanel(roaringSet), "ROARING");
+        controlContainer.add(new BPlusTreeControlPanel(bPlusTree), "BPLUSTREE");
+        controlContainer.add(new SkipListControlPanel(skipList), "SKIPLIST");
+        controlContainer.add(new TinyLfuControlPanel(tinyLfu), "TINYLFU");
+        controlContainer.add(new ChampControlPanel(champ), "CHAMP");
+        controlContainer.add(new BloomFilterControlPanel(bloomFilter), "BLOOM");
+        controlContainer.add(new CuckooControlPanel(cuckoo), "CUCKOO");
+        controlContainer.add(new SortedArrayMapControlPanel(sortedArrayMap), "SORTEDARRAYMAP");
+        controlContainer.add(new ImmutableCollectionControlPanel(immutableCollection), "IMMUTABLE");
+        controlContainer.add(new IdentityHashMapControlPanel(identityHashMap), "IDENTITYMAP");
         controlContainer.add(new BenchmarkControlPanel(benchmarkModel, benchmarkPanel), "BENCHMARK");
 
         JScrollPane controlScrollPane = new JScrollPane(controlContainer);
@@ -138,8 +194,13 @@ public class GameWindow extends JFrame {
                 g2d.drawLine(0, getHeight() - 1, getWidth(), getHeight() - 1);
             }
         };
-        header.setLayout(new FlowLayout(FlowLayout.CENTER, 6, 10));
-        header.setPreferredSize(new Dimension(0, 55));
+        // java.util structures on the first row, specialised implementations on the second
+        header.setLayout(new GridLayout(2, 1));
+        header.setPreferredSize(new Dimension(0, 90));
+        JPanel structuresRow = createHeaderRow();
+        JPanel specialisedRow = createHeaderRow();
+        header.add(structuresRow);
+        header.add(specialisedRow);
 
         // List structures
         JButton arrayListBtn = createTabButton("ArrayList", new Color(0, 200, 255), true);
@@ -167,6 +228,34 @@ public class GameWindow extends JFrame {
 
         // Concurrent
         JButton concurrentHashMapBtn = createTabButton("CncHashMap", new Color(100, 150, 220), false);
+        JButton skipListBtn = createTabButton("SkipList", new Color(110, 230, 230), false);
+
+        // Hashing
+        JButton openHashMapBtn = createTabButton("OpenAddr", new Color(120, 220, 255), false);
+        JButton swissMapBtn = createTabButton("SwissTable", new Color(255, 130, 90), false);
+        JButton cuckooBtn = createTabButton("Cuckoo", new Color(255, 215, 110), false);
+        JButton identityMapBtn = createTabButton("IdentityMap", new Color(120, 220, 220), false);
+
+        // Off-heap
+        JButton mappedListBtn = createTabButton("MappedList", new Color(170, 230, 120), false);
+
+        // Sorted
+        JButton compressedListBtn = createTabButton("Compressed", new Color(100, 220, 210), false);
+        JButton roaringBtn = createTabButton("Roaring", new Color(240, 130, 200), false);
+        JButton bPlusTreeBtn = createTabButton("B+Tree", new Color(130, 190, 255), false);
+
+        // Caches
+        JButton tinyLfuBtn = createTabButton("TinyLFU", new Color(150, 230, 120), false);
+
+        // Persistent
+        JButton champBtn = createTabButton("CHAMP", new Color(230, 170, 255), false);
+
+        // Filters
+        JButton bloomBtn = createTabButton("Bloom", new Color(255, 140, 170), false);
+
+        // Compact
+        JButton sortedArrayMapBtn = createTabButton("SmallMap", new Color(140, 210, 255), false);
+        JButton immutableBtn = createTabButton("Set.of", new Color(200, 200, 120), false);
 
         // Benchmark
         JButton benchmarkBtn = createTabButton("Benchmark", new Color(240, 200, 40), false);
@@ -185,6 +274,20 @@ public class GameWindow extends JFrame {
         tabButtons.add(treeMapBtn);
         tabButtons.add(hashtableBtn);
         tabButtons.add(concurrentHashMapBtn);
+        tabButtons.add(skipListBtn);
+        tabButtons.add(openHashMapBtn);
+        tabButtons.add(swissMapBtn);
+        tabButtons.add(cuckooBtn);
+        tabButtons.add(identityMapBtn);
+        tabButtons.add(mappedListBtn);
+        tabButtons.add(compressedListBtn);
+        tabButtons.add(roaringBtn);
+        tabButtons.add(bPlusTreeBtn);
+        tabButtons.add(tinyLfuBtn);
+        tabButtons.add(champBtn);
+        tabButtons.add(bloomBtn);
+        tabButtons.add(sortedArrayMapBtn);
+        tabButtons.add(immutableBtn);
         tabButtons.add(benchmarkBtn);
 
         arrayListBtn.addActionListener(e -> switchTo("ARRAYLIST", arrayListBtn));
@@ -200,6 +303,20 @@ public class GameWindow extends JFrame {
         treeMapBtn.addActionListener(e -> switchTo("TREEMAP", treeMapBtn));
         hashtableBtn.addActionListener(e -> switchTo("HASHTABLE", hashtableBtn));
         concurrentHashMapBtn.addActionListener(e -> switchTo("CONCURRENTHASHMAP", concurrentHashMapBtn));
+        skipListBtn.addActionListener(e -> switchTo("SKIPLIST", skipListBtn));
+        openHashMapBtn.addActionListener(e -> switchTo("OPENHASHMAP", openHashMapBtn));
+        swissMapBtn.addActionListener(e -> switchTo("SWISSMAP", swissMapBtn));
+        cuckooBtn.addActionListener(e -> switchTo("CUCKOO", cuckooBtn));
+        identityMapBtn.addActionListener(e -> switchTo("IDENTITYMAP", identityMapBtn));
+        mappedListBtn.addActionListener(e -> switchTo("MAPPEDLIST", mappedListBtn));
+        compressedListBtn.addActionListener(e -> switchTo("COMPRESSEDLIST", compressedListBtn));
+        roaringBtn.addActionListener(e -> switchTo("ROARING", roaringBtn));
+        bPlusTreeBtn.addActionListener(e -> switchTo("BPLUSTREE", bPlusTreeBtn));
+        tinyLfuBtn.addActionListener(e -> switchTo("TINYLFU", tinyLfuBtn));
+        champBtn.addActionListener(e -> switchTo("CHAMP", champBtn));
+        bloomBtn.addActionListener(e -> switchTo("BLOOM", bloomBtn));
+        sortedArrayMapBtn.addActionListener(e -> switchTo("SORTEDARRAYMAP", sortedArrayMapBtn));
+        immutableBtn.addActionListener(e -> switchTo("IMMUTABLE", immutableBtn));
         benchmarkBtn.addActionListener(e -> switchTo("BENCHMARK", benchmarkBtn));
 
         // Category labels
@@ -211,45 +328,79 @@ public class GameWindow extends JFrame {
         JLabel legacyLabel = createCategoryLabel("LEGACY:");
         JLabel concLabel = createCategoryLabel("CONC:");
 
-        header.add(listLabel);
-        header.add(arrayListBtn);
-        header.add(linkedListBtn);
-        header.add(arrayBtn);
-        header.add(Box.createHorizontalStrut(4));
-        header.add(dequeLabel);
-        header.add(arrayDequeBtn);
-        header.add(Box.createHorizontalStrut(4));
-        header.add(queueLabel);
-        header.add(priorityQueueBtn);
-        header.add(Box.createHorizontalStrut(4));
-        header.add(setLabel);
-        header.add(hashSetBtn);
-        header.add(linkedHashSetBtn);
-        header.add(treeSetBtn);
-        header.add(Box.createHorizontalStrut(4));
-        header.add(mapLabel);
-        header.add(hashMapBtn);
-        header.add(linkedHashMapBtn);
-        header.add(treeMapBtn);
-        header.add(Box.createHorizontalStrut(4));
-        header.add(legacyLabel);
-        header.add(hashtableBtn);
-        header.add(Box.createHorizontalStrut(4));
-        header.add(concLabel);
-        header.add(concurrentHashMapBtn);
-        header.add(Box.createHorizontalStrut(4));
+        structuresRow.add(listLabel);
+        structuresRow.add(arrayListBtn);
+        structuresRow.add(linkedListBtn);
+        structuresRow.add(arrayBtn);
+        structuresRow.add(Box.createHorizontalStrut(4));
+        structuresRow.add(dequeLabel);
+        structuresRow.add(arrayDequeBtn);
+        structuresRow.add(Box.createHorizontalStrut(4));
+        structuresRow.add(queueLabel);
+        structuresRow.add(priorityQueueBtn);
+        structuresRow.add(Box.createHorizontalStrut(4));
+        structuresRow.add(setLabel);
+        structuresRow.add(hashSetBtn);
+        structuresRow.add(linkedHashSetBtn);
+        structuresRow.add(treeSetBtn);
+        structuresRow.add(Box.createHorizontalStrut(4));
+        structuresRow.add(mapLabel);
+        structuresRow.add(hashMapBtn);
+        structuresRow.add(linkedHashMapBtn);
+        structuresRow.add(treeMapBtn);
+        structuresRow.add(Box.createHorizontalStrut(4));
+        structuresRow.add(legacyLabel);
+        structuresRow.add(hashtableBtn);
+        structuresRow.add(Box.createHorizontalStrut(4));
+        structuresRow.add(concLabel);
+        structuresRow.add(concurrentHashMapBtn);
+        structuresRow.add(skipListBtn);
+        structuresRow.add(Box.createHorizontalStrut(4));
         JLabel benchLabel = createCategoryLabel("BENCH:");
-        header.add(benchLabel);
-        header.add(benchmarkBtn);
-        header.add(Box.createHorizontalStrut(8));
+        structuresRow.add(benchLabel);
+        structuresRow.add(benchmarkBtn);
+        structuresRow.add(Box.createHorizontalStrut(8));
 
         // Theme toggle button
         themeToggleBtn = createThemeToggleButton();
-        header.add(themeToggleBtn);
+        structuresRow.add(themeToggleBtn);
+
+        specialisedRow.add(createCategoryLabel("HASHING:"));
+        specialisedRow.add(openHashMapBtn);
+        specialisedRow.add(swissMapBtn);
+        specialisedRow.add(cuckooBtn);
+        specialisedRow.add(identityMapBtn);
+        specialisedRow.add(Box.createHorizontalStrut(4));
+        specialisedRow.add(createCategoryLabel("OFF-HEAP:"));
+        specialisedRow.add(mappedListBtn);
+        specialisedRow.add(Box.createHorizontalStrut(4));
+        specialisedRow.add(createCategoryLabel("SORTED:"));
+        specialisedRow.add(compressedListBtn);
+        specialisedRow.add(roaringBtn);
+        specialisedRow.add(bPlusTreeBtn);
+        specialisedRow.add(Box.createHorizontalStrut(4));
+        specialisedRow.add(createCategoryLabel("CACHES:"));
+        specialisedRow.add(tinyLfuBtn);
+        specialisedRow.add(Box.createHorizontalStrut(4));
+        specialisedRow.add(createCategoryLabel("PERSISTENT:"));
+        specialisedRow.add(champBtn);
+        specialisedRow.add(Box.createHorizontalStrut(4));
+        specialisedRow.add(createCategoryLabel("FILTERS:"));
+        specialisedRow.add(bloomBtn);
+        specialisedRow.add(Box.createHorizontalStrut(4));
+        specialisedRow.add(createCategoryLabel("COMPACT:"));
+        specialisedRow.add(sortedArrayMapBtn);
+        specialisedRow.add(immutableBtn);
 
         return header;
     }
 
+    private JPanel createHeaderRow() {
+        JPanel row = new JPanel(new FlowLayout(FlowLayout.CENTER, 6, 8));
+        row.setOpaque(false);
+        return row;
+    }
+
     private JButton createThemeToggleButton() {
         JButton button = new JButton(ThemeManager.get().isDark() ? "LIGHT" : "DARK") {
             @Override
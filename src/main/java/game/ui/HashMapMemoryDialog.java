@@ -1,5 +1,6 @@
 package game.ui;
 
+import game.collections.OffHeapLongLongMap;
 import game.model.VisualHashMap;
 
 import javax.swing.*;
@@ -43,6 +44,8 @@ public class HashMapMemoryDialog extends JDialog {
         panel.add(createKeyValuePanel());
         panel.add(Box.createVerticalStrut(15));
         panel.add(createComparisonPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createOffHeapPanel());
 
         return panel;
     }
@@ -182,6 +185,68 @@ public class HashMapMemoryDialog extends JDialog {
         return panel;
     }
 
+    private JPanel createOffHeapPanel() {
+        JPanel panel = createSection("ON-HEAP vs OFF-HEAP (long -> long)");
+
+        int n = Math.max(hashMap.getSize(), 10);
+        int large = 50_000_000;
+
+        String[] lines = {
+                "For " + n + " long->long entries:",
+                "",
+                "HashMap<Long,Long>:  " + formatBytes(boxedLongMapBytes(n)) + " heap, 0 B off-heap",
+                "  - " + (3L * n + 2) + " objects the GC marks on every full collection",
+                "OffHeapLongLongMap:  " + formatBytes(OffHeapLongLongMap.onHeapBytesFor(n)) + " heap, "
+                        + formatBytes(OffHeapLongLongMap.offHeapBytesFor(n)) + " off-heap",
+                "  - 16 B slots in direct buffers, invisible to the GC",
+                "",
+                "At 50,000,000 entries:",
+                "",
+                "HashMap<Long,Long>:  " + formatBytes(boxedLongMapBytes(large)) + " heap",
+                "OffHeapLongLongMap:  " + formatBytes(OffHeapLongLongMap.onHeapBytesFor(large)) + " heap, "
+                        + formatBytes(OffHeapLongLongMap.offHeapBytesFor(large)) + " off-heap",
+                "",
+                "Off-heap bytes still count toward the process, but not",
+                "toward -Xmx, marking or evacuation. Size them with",
+                "-XX:MaxDirectMemorySize; the Benchmark tab's GC Impact",
+                "family measures the pauses both maps cause.",
+                "",
+                "Benchmarks close each off-heap map after measuring it,",
+                "but the native memory is only released once the GC",
+                "collects the buffers behind it."
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("HashMap<") || line.startsWith("OffHeapLongLongMap:")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(200, 190, 150);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    // Table at load factor 0.75, then Node 32B + Long key 16B + Long value 16B per entry
+    private static long boxedLongMapBytes(int n) {
+        long table = 16;
+        while (table * 0.75 < n) table <<= 1;
+        return 48 + 16 + table * 4 + (long) n * (32 + 16 + 16);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format("%.1f KB", bytes / 1024.0);
+        if (bytes < 1024L * 1024 * 1024) return String.format("%.2f MB", bytes / (1024.0 * 1024));
+        return String.format("%.2f GB", bytes / (1024.0 * 1024 * 1024));
+    }
+
     private JPanel createSection(String title) {
         JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
@@ -0,0 +1,351 @@
+package game.ui;
+
+import game.model.VisualIdentityHashMap;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class IdentityHashMapControlPanel extends JPanel {
+    private VisualIdentityHashMap identityMap;
+    private Random random = new Random();
+    private JTextField keyField;
+    private JTextField valueField;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(120, 220, 220);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public IdentityHashMapControlPanel(VisualIdentityHashMap identityMap) {
+        this.identityMap = identityMap;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("PUT NODE"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("NODE ID (int, empty = random):"));
+        keyField = new JTextField();
+        styleTextField(keyField);
+        add(keyField);
+        add(Box.createVerticalStrut(6));
+
+        add(createLabel("VALUE (int, empty = random):"));
+        valueField = new JTextField();
+        styleTextField(valueField);
+        add(valueField);
+        add(Box.createVerticalStrut(8));
+
+        JButton putBtn = createStyledButton("PUT", ACCENT);
+        putBtn.addActionListener(e -> putNode(false));
+        add(putBtn);
+        add(Box.createVerticalStrut(6));
+
+        // A new object equal to the one already in the map
+        JButton twinBtn = createStyledButton("PUT TWIN (equal, not ==)", new Color(255, 130, 200));
+        twinBtn.addActionListener(e -> putNode(true));
+        add(twinBtn);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("METHODS"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel methodPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        methodPanel.setBackground(BG_COLOR);
+        methodPanel.setMaximumSize(new Dimension(230, 56));
+        methodPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton getBtn = createSmallButton("get(node)", new Color(150, 255, 200));
+        getBtn.addActionListener(e -> {
+            Integer id = readKey();
+            if (id == null) return;
+            Object value = identityMap.get(id);
+            updateStatus("get = " + (value != null ? value : "null") + " (" + identityMap.getLastPath().size() + " reads)",
+                    value != null ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        methodPanel.add(getBtn);
+
+        JButton copyBtn = createSmallButton("get(copy)", new Color(255, 130, 200));
+        copyBtn.addActionListener(e -> {
+            Integer id = readKey();
+            if (id == null) return;
+            Object value = identityMap.getWithCopy(id);
+            updateStatus("Equal copy -> " + (value != null ? value : "null, not =="), WARN_COLOR);
+        });
+        methodPanel.add(copyBtn);
+
+        JButton removeBtn = createSmallButton("remove", ERROR_COLOR);
+        removeBtn.addActionListener(e -> {
+            Integer id = readKey();
+            if (id == null) return;
+            Object old = identityMap.remove(id);
+            if (old != null) {
+                int moved = identityMap.getLastMoves().size();
+                updateStatus("Removed, " + moved + " key" + (moved == 1 ? "" : "s") + " moved back", SUCCESS_COLOR);
+                keyField.setText("");
+            } else {
+                updateStatus("Node not found", ERROR_COLOR);
+            }
+        });
+        methodPanel.add(removeBtn);
+
+        JButton sizeBtn = createSmallButton("size()", new Color(150, 200, 255));
+        sizeBtn.addActionListener(e -> updateStatus("size = " + identityMap.getSize() + " in "
+                + identityMap.getCapacity() + " pairs", TEXT_COLOR));
+        methodPanel.add(sizeBtn);
+        add(methodPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("OPERATIONS"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel autoPanel = new JPanel(new GridLayout(1, 2, 4, 4));
+        autoPanel.setBackground(BG_COLOR);
+        autoPanel.setMaximumSize(new Dimension(230, 26));
+        autoPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton fill8Btn = createSmallButton("Random x8", new Color(120, 220, 220));
+        fill8Btn.addActionListener(e -> fill(identityMap.putRandom(8)));
+        autoPanel.add(fill8Btn);
+
+        JButton fillMaxBtn = createSmallButton("Random to " + VisualIdentityHashMap.MAX_KEYS, new Color(150, 240, 240));
+        fillMaxBtn.addActionListener(e -> fill(identityMap.putRandom(VisualIdentityHashMap.MAX_KEYS * 4)));
+        autoPanel.add(fillMaxBtn);
+        add(autoPanel);
+        add(Box.createVerticalStrut(8));
+
+        JButton clearBtn = createStyledButton("CLEAR", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            identityMap.clear();
+            updateStatus("Cleared, table length kept", WARN_COLOR);
+        });
+        add(clearBtn);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    private void fill(int added) {
+        if (added == 0) {
+            updateStatus("Map is at the view limit", WARN_COLOR);
+        } else {
+            updateStatus("Put " + added + " new nodes", SUCCESS_COLOR);
+        }
+    }
+
+    private void putNode(boolean twin) {
+        String keyText = keyField.getText().trim();
+        String valueText = valueField.getText().trim();
+        try {
+            int id = keyText.isEmpty() ? VisualIdentityHashMap.generateRandomKey(random) : Integer.parseInt(keyText);
+            int value = valueText.isEmpty() ? VisualIdentityHashMap.generateRandomValue(random) : Integer.parseInt(valueText);
+            int before = identityMap.getSize();
+            int operations = identityMap.getOperationsCount();
+            if (twin) {
+                identityMap.putTwin(id, value);
+            } else {
+                identityMap.put(id, value);
+            }
+            if (identityMap.getOperationsCount() == operations) {
+                updateStatus("Map is at the view limit", WARN_COLOR);
+                return;
+            }
+            updateStatus(identityMap.getSize() > before ? "Put n" + id + " at pair " + identityMap.getLastPair()
+                    : "Value of n" + id + " replaced", SUCCESS_COLOR);
+            keyField.setText("");
+            valueField.setText("");
+        } catch (NumberFormatException ex) {
+            updateStatus("Ids and values are int", ERROR_COLOR);
+        }
+    }
+
+    private Integer readKey() {
+        String keyText = keyField.getText().trim();
+        if (keyText.isEmpty()) {
+            updateStatus("Enter node id first", WARN_COLOR);
+            return null;
+        }
+        try {
+            return Integer.parseInt(keyText);
+        } catch (NumberFormatException ex) {
+            updateStatus("Node ids are int", ERROR_COLOR);
+            return null;
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("IDENTITYHASHMAP INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "Keys compared with ==",
+                "Key, value side by side",
+                "Linear probing, no nodes",
+                "Resizes past 2/3 full",
+                "Remove shifts, no tombstone"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(190, 240, 240));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
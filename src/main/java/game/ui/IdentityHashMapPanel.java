@@ -0,0 +1,579 @@
+package game.ui;
+
+import game.model.VisualIdentityHashMap;
+import game.model.VisualIdentityHashMap.LastAction;
+import game.model.VisualIdentityHashMap.Node;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import game.ui.ThemeManager;
+
+public class IdentityHashMapPanel extends JPanel {
+    private VisualIdentityHashMap identityMap;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(120, 220, 220);
+    private static final Color KEY_COLOR = new Color(120, 220, 220);
+    private static final Color VALUE_COLOR = new Color(190, 170, 255);
+    private static final Color TWIN_COLOR = new Color(255, 130, 200);
+    private static final Color DISPLACED_COLOR = new Color(255, 150, 80);
+    private static final Color PROBE_COLOR = new Color(255, 215, 110);
+    private static final Color FOUND_COLOR = new Color(100, 255, 150);
+    private static final Color MISS_COLOR = new Color(255, 90, 90);
+    private static final Color MOVE_COLOR = new Color(220, 140, 255);
+    private static final Color EMPTY_COLOR = new Color(110, 120, 140);
+    private static final Color HASH_MAP_COLOR = new Color(255, 200, 80);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    private static final int START_X = 90;
+    private static final int TABLE_Y = 135;
+    private static final int PAIRS_PER_ROW = 16;
+    private static final int KEY_CELL = 30;
+    private static final int VALUE_CELL = 26;
+    private static final int PAIR_GAP = 5;
+    private static final int PAIR_WIDTH = KEY_CELL + 1 + VALUE_CELL;
+    private static final int CELL_HEIGHT = 26;
+    private static final int ROW_HEIGHT = 72;
+    private static final int CONTENT_WIDTH = PAIRS_PER_ROW * (PAIR_WIDTH + PAIR_GAP) - PAIR_GAP;
+    private static final int BOX_HEIGHT = 210;
+    // How long each key slot read stays the newest one in the replay
+    private static final int STEP_MS = 300;
+
+    public IdentityHashMapPanel(VisualIdentityHashMap identityMap) {
+        this.identityMap = identityMap;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            identityMap.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            IdentityHashMapMemoryDialog dialog = new IdentityHashMapMemoryDialog((Frame) window, identityMap);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = START_X + CONTENT_WIDTH + 20 + 260;
+        int height = lowerY() + BOX_HEIGHT + 60;
+        return new Dimension(width, Math.max(640, height));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        drawBackground(g2d);
+        drawTable(g2d);
+        drawProbeStrip(g2d, stripY());
+        int y = lowerY();
+        int lowerWidth = START_X + CONTENT_WIDTH - 20;
+        int half = (lowerWidth - 20) / 2;
+        drawProbeBox(g2d, 20, y, half);
+        drawFootprintBox(g2d, 20 + half + 20, y, lowerWidth - half - 20);
+        drawLegend(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(16, 34, 36)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    // ── Layout ───────────────────────────────────────────────────
+    // The Object[] as it is: key slot then value slot, PAIRS_PER_ROW pairs to a row
+
+    private int rows() {
+        return Math.max(1, (identityMap.getCapacity() + PAIRS_PER_ROW - 1) / PAIRS_PER_ROW);
+    }
+
+    private int stripY() {
+        return TABLE_Y + rows() * ROW_HEIGHT + 10;
+    }
+
+    private int lowerY() {
+        return stripY() + 70;
+    }
+
+    private static int pairX(int pair) {
+        return START_X + (pair % PAIRS_PER_ROW) * (PAIR_WIDTH + PAIR_GAP);
+    }
+
+    private static int pairY(int pair) {
+        return TABLE_Y + (pair / PAIRS_PER_ROW) * ROW_HEIGHT;
+    }
+
+    // ── Table ────────────────────────────────────────────────────
+
+    private void drawTable(Graphics2D g2d) {
+        int pairs = identityMap.getCapacity();
+        List<Integer> path = identityMap.getLastPath();
+        int visible = visibleReads(path);
+        boolean done = visible == path.size();
+        LastAction action = identityMap.getLastAction();
+        int lastPair = identityMap.getLastPair();
+        List<int[]> moves = identityMap.getLastMoves();
+        float pulse = (float) (0.6 + 0.4 * Math.sin(glowPhase * 6));
+
+        for (int row = 0; row < rows(); row++) {
+            int y = TABLE_Y + row * ROW_HEIGHT;
+            g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+            g2d.setColor(KEY_COLOR);
+            g2d.drawString("table[]", 20, y + 17);
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+            g2d.setColor(new Color(130, 140, 160));
+            int first = row * PAIRS_PER_ROW * 2;
+            g2d.drawString(first + ".." + (first + PAIRS_PER_ROW * 2 - 1), 20, y + 30);
+        }
+
+        for (int pair = 0; pair < pairs; pair++) {
+            int x = pairX(pair);
+            int y = pairY(pair);
+            Node key = identityMap.getKeyAt(pair);
+            boolean used = key != null;
+            int displacement = used ? identityMap.getDisplacement(pair) : 0;
+            boolean read = path.subList(0, visible).contains(pair);
+            boolean movedHere = false;
+            for (int[] move : moves) if (move[1] == pair) movedHere = true;
+
+            Color border;
+            float stroke = 1f;
+            if (done && pair == lastPair && (action == LastAction.HIT || action == LastAction.INSERT
+                    || action == LastAction.UPDATE)) {
+                border = FOUND_COLOR;
+                stroke = 1.5f + pulse;
+            } else if (done && pair == lastPair && (action == LastAction.MISS || action == LastAction.REMOVE)) {
+                border = MISS_COLOR;
+                stroke = 1.5f + pulse;
+            } else if (movedHere) {
+                border = MOVE_COLOR;
+                stroke = 2f;
+            } else if (read) {
+                border = PROBE_COLOR;
+                stroke = 2.2f;
+            } else if (!used) {
+                border = EMPTY_COLOR;
+            } else {
+                border = displacement == 0 ? KEY_COLOR.darker() : DISPLACED_COLOR.darker();
+            }
+
+            Color keyFill = !used ? null : key.getCopy() > 0 ? new Color(64, 26, 52)
+                    : displacement == 0 ? new Color(18, 52, 54) : new Color(60, 40, 24);
+            drawCell(g2d, x, y, KEY_CELL, used, keyFill, border, stroke, used ? key.label() : null, Font.BOLD,
+                    used && key.getCopy() > 0 ? TWIN_COLOR : TEXT_COLOR);
+            Object value = identityMap.getValueAt(pair);
+            drawCell(g2d, x + KEY_CELL + 1, y, VALUE_CELL, used, used ? new Color(40, 32, 66) : null,
+                    border == KEY_COLOR.darker() || border == DISPLACED_COLOR.darker() ? VALUE_COLOR.darker() : border,
+                    stroke, used ? String.valueOf(value) : null, Font.PLAIN, TEXT_COLOR);
+
+            int labelY = y + CELL_HEIGHT + 11;
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+            g2d.setColor(new Color(130, 140, 160));
+            g2d.drawString(String.valueOf(2 * pair), x + 1, labelY);
+            g2d.drawString(String.valueOf(2 * pair + 1), x + KEY_CELL + 2, labelY);
+            if (movedHere && done) {
+                g2d.setColor(MOVE_COLOR);
+                g2d.drawString("<- moved", x + 1, labelY + 10);
+            } else if (used && displacement > 0) {
+                g2d.setColor(DISPLACED_COLOR);
+                g2d.drawString("+" + displacement + " pair" + (displacement == 1 ? "" : "s"), x + 1, labelY + 10);
+            }
+        }
+
+        // Read numbers over the key slots the probe visited, home first
+        g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+        for (int i = 0; i < visible; i++) {
+            int pair = path.get(i);
+            int x = pairX(pair) + KEY_CELL / 2;
+            int y = pairY(pair) - 9;
+            boolean last = done && i == path.size() - 1;
+            Color color = !last ? PROBE_COLOR : action == LastAction.MISS || action == LastAction.REMOVE ? MISS_COLOR : FOUND_COLOR;
+            g2d.setColor(new Color(color.getRed() / 5, color.getGreen() / 5, color.getBlue() / 5));
+            g2d.fillOval(x - 6, y - 6, 12, 12);
+            g2d.setColor(color);
+            g2d.drawOval(x - 6, y - 6, 12, 12);
+            String label = String.valueOf(i + 1);
+            g2d.drawString(label, x - g2d.getFontMetrics().stringWidth(label) / 2, y + 3);
+        }
+    }
+
+    private void drawCell(Graphics2D g2d, int x, int y, int width, boolean used, Color fill, Color border,
+                          float stroke, String text, int style, Color textColor) {
+        if (used) {
+            g2d.setColor(fill);
+            g2d.fillRoundRect(x, y, width, CELL_HEIGHT, 5, 5);
+            g2d.setStroke(new BasicStroke(stroke));
+        } else {
+            g2d.setColor(new Color(24, 28, 36));
+            g2d.fillRoundRect(x, y, width, CELL_HEIGHT, 5, 5);
+            g2d.setStroke(new BasicStroke(stroke, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10, new float[]{3, 3}, 0));
+        }
+        g2d.setColor(border);
+        g2d.drawRoundRect(x, y, width, CELL_HEIGHT, 5, 5);
+        g2d.setStroke(new BasicStroke(1f));
+        if (text == null) return;
+        g2d.setFont(new Font("Consolas", style, text.length() > 4 ? 8 : 9));
+        g2d.setColor(textColor);
+        FontMetrics fm = g2d.getFontMetrics();
+        g2d.drawString(text, x + (width - fm.stringWidth(text)) / 2, y + (CELL_HEIGHT + fm.getAscent() - fm.getDescent()) / 2);
+    }
+
+    private int visibleReads(List<Integer> path) {
+        long elapsed = System.currentTimeMillis() - identityMap.getLookupTime();
+        return (int) Math.min(path.size(), elapsed / STEP_MS + 1);
+    }
+
+    // The key slots of the last probe, one chip each, then what closeDeletion moved
+    private void drawProbeStrip(Graphics2D g2d, int y) {
+        List<Integer> path = identityMap.getLastPath();
+        Node key = identityMap.getLastKey();
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        if (key == null || path.isEmpty()) {
+            g2d.drawString("PROBE: put, get or remove a node to replay the key slots it reads", 20, y);
+            return;
+        }
+        g2d.drawString("PROBE for " + key.label() + String.format(" (identityHashCode %08x)", System.identityHashCode(key))
+                + ": home pair " + path.get(0) + ", step 2 slots, compare with ==", 20, y);
+
+        int visible = visibleReads(path);
+        boolean done = visible == path.size();
+        LastAction action = identityMap.getLastAction();
+        boolean found = action != LastAction.MISS;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        int rowY = y + 18;
+        for (int i = 0; i < visible; i++) {
+            int pair = path.get(i);
+            boolean last = i == path.size() - 1;
+            String text;
+            Color color;
+            if (last && found) {
+                text = "slot " + 2 * pair + ": " + key.label() + " ==";
+                color = action == LastAction.REMOVE ? MISS_COLOR : FOUND_COLOR;
+            } else if (last) {
+                text = "slot " + 2 * pair + ": null, stop";
+                color = MISS_COLOR;
+            } else {
+                Node other = identityMap.getKeyAt(pair);
+                // On a remove the key has already gone, so its own slot reads as null here
+                text = "slot " + 2 * pair + ": " + (other == null ? "-" : other.label()) + " !=";
+                color = other != null && other.equals(key) ? TWIN_COLOR : PROBE_COLOR;
+            }
+            x = drawChip(g2d, text, color, x, rowY);
+            if (x < 0) {
+                x = 20;
+                rowY += 18;
+                x = drawChip(g2d, text, color, x, rowY);
+            }
+        }
+        if (done && action == LastAction.REMOVE) {
+            List<int[]> moves = identityMap.getLastMoves();
+            String text = moves.isEmpty() ? "no key behind it needed moving"
+                    : "closeDeletion moved " + moves.size() + " back:";
+            int width = g2d.getFontMetrics().stringWidth(text) + 6;
+            if (x + width > START_X + CONTENT_WIDTH) {
+                x = 20;
+                rowY += 18;
+            }
+            g2d.setColor(MOVE_COLOR);
+            g2d.drawString(text, x, rowY);
+            x += width;
+            for (int[] move : moves) {
+                Node moved = identityMap.getKeyAt(move[1]);
+                String chip = (moved == null ? "?" : moved.label()) + ": pair " + move[0] + " -> " + move[1];
+                int next = drawChip(g2d, chip, MOVE_COLOR, x, rowY);
+                if (next < 0) {
+                    rowY += 18;
+                    next = drawChip(g2d, chip, MOVE_COLOR, 20, rowY);
+                }
+                x = next;
+            }
+        }
+    }
+
+    // Draws a chip and returns where the next one starts, or -1 if it would not fit on the row
+    private int drawChip(Graphics2D g2d, String text, Color color, int x, int y) {
+        int width = g2d.getFontMetrics().stringWidth(text) + 10;
+        if (x + width > START_X + CONTENT_WIDTH) return -1;
+        g2d.setColor(new Color(color.getRed() / 5, color.getGreen() / 5, color.getBlue() / 5));
+        g2d.fillRoundRect(x, y - 11, width, 15, 6, 6);
+        g2d.setColor(color);
+        g2d.drawRoundRect(x, y - 11, width, 15, 6, 6);
+        g2d.drawString(text, x + 5, y);
+        return x + width + 6;
+    }
+
+    // ── Lower boxes ──────────────────────────────────────────────
+
+    private void drawProbeBox(Graphics2D g2d, int x, int y, int width) {
+        drawBox(g2d, x, y, width, BOX_HEIGHT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("DISPLACEMENT FROM HOME PAIR", x + 12, y + 18);
+
+        int[] histogram = identityMap.getDisplacementHistogram();
+        int max = 1;
+        for (int count : histogram) max = Math.max(max, count);
+        int plotX = x + 20;
+        int plotBottom = y + 120;
+        int barWidth = (width - 40) / histogram.length - 6;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        for (int i = 0; i < histogram.length; i++) {
+            int bx = plotX + i * (barWidth + 6);
+            int h = histogram[i] * 80 / max;
+            g2d.setColor(i == 0 ? KEY_COLOR : DISPLACED_COLOR);
+            g2d.fillRect(bx, plotBottom - h, barWidth, h);
+            g2d.setColor(TEXT_COLOR);
+            String count = String.valueOf(histogram[i]);
+            g2d.drawString(count, bx + (barWidth - g2d.getFontMetrics().stringWidth(count)) / 2, plotBottom - h - 3);
+            String label = i == histogram.length - 1 ? "+" + i + "+" : i == 0 ? "home" : "+" + i;
+            g2d.drawString(label, bx + (barWidth - g2d.getFontMetrics().stringWidth(label)) / 2, plotBottom + 12);
+        }
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int ty = plotBottom + 32;
+        g2d.setColor(FOUND_COLOR);
+        g2d.drawString(String.format("Hit: %.2f key slots read on average", identityMap.getAverageHitProbes()), x + 12, ty);
+        g2d.setColor(MISS_COLOR);
+        g2d.drawString(String.format("Miss: %.2f, read on to the next null", identityMap.getAverageMissProbes()),
+                x + 12, ty + 15);
+        g2d.setColor(DISPLACED_COLOR);
+        g2d.drawString("Longest run of full pairs: " + identityMap.getLongestRun() + " of " + identityMap.getCapacity(),
+                x + 12, ty + 30);
+        g2d.setColor(new Color(200, 220, 240));
+        g2d.drawString("Load stays under 2/3; the hash is identityHashCode * -127", x + 12, ty + 45);
+    }
+
+    // Bytes against a HashMap holding the same key and value objects
+    private void drawFootprintBox(Graphics2D g2d, int x, int y, int width) {
+        drawBox(g2d, x, y, width, BOX_HEIGHT);
+        VisualIdentityHashMap.MemoryInfo mem = identityMap.getMemoryInfo();
+        int n = mem.entries();
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("FOOTPRINT OF n = " + n + " vs HashMap  (keys, values not counted)", x + 12, y + 18);
+
+        // Object, table, nodes: one row per map, colour then bytes
+        Object[][] parts = {
+                {ACCENT, mem.objectBytes(), HASH_MAP_COLOR, mem.hashMapObject()},
+                {ACCENT, mem.tableBytes(), HASH_MAP_COLOR, mem.hashMapTable()},
+                {ACCENT, 0L, HASH_MAP_COLOR, mem.hashMapNodes()}
+        };
+        long max = Math.max(1, Math.max(mem.totalUsed(), mem.hashMapTotal()));
+        int barX = x + 12;
+        int barMax = width - 24;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        for (int row = 0; row < 2; row++) {
+            int by = y + 36 + row * 46;
+            int bx = barX;
+            long total = row == 0 ? mem.totalUsed() : mem.hashMapTotal();
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((row == 0 ? "IdentityHashMap" : "HashMap") + ": " + total + " B"
+                    + (n > 0 ? String.format(" (%.1f B/entry)", (double) total / n) : ""), barX, by);
+            for (int part = 0; part < parts.length; part++) {
+                long bytes = (Long) parts[part][row * 2 + 1];
+                int w = (int) (bytes * barMax / max);
+                if (w <= 0) continue;
+                Color color = (Color) parts[part][row * 2];
+                int shade = part * 35;
+                g2d.setColor(new Color(Math.max(0, color.getRed() - shade), Math.max(0, color.getGreen() - shade),
+                        Math.max(0, color.getBlue() - shade / 2)));
+                g2d.fillRect(bx, by + 6, w, 16);
+                g2d.setColor(new Color(20, 20, 20));
+                g2d.drawRect(bx, by + 6, w, 16);
+                bx += w;
+            }
+        }
+
+        int ty = y + 140;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        if (n == 0) {
+            g2d.drawString("Empty, IdentityHashMap already holds its " + mem.pairs() + "-pair table", x + 12, ty);
+        } else {
+            g2d.drawString(String.format("%s vs %s, %.0f%% %s", mem.formatTotal(), mem.formatHashMapTotal(),
+                    Math.abs(mem.savedPercent()), mem.savedPercent() >= 0 ? "smaller" : "larger"), x + 12, ty);
+        }
+        g2d.setColor(new Color(200, 220, 240));
+        g2d.drawString("No 32 B node per entry: key and value are two slots", x + 12, ty + 16);
+        g2d.drawString("of the table; a lookup reads one array, not a chain", x + 12, ty + 30);
+        g2d.setColor(EMPTY_COLOR);
+        g2d.drawString("Segments: object, table, nodes", x + 12, ty + 50);
+    }
+
+    private void drawLegend(Graphics2D g2d) {
+        int y = getHeight() - 30;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        Object[][] items = {
+                {KEY_COLOR, "key slot, at home"},
+                {VALUE_COLOR, "value slot"},
+                {DISPLACED_COLOR, "displaced (+pairs)"},
+                {TWIN_COLOR, "twin: equal, not =="},
+                {PROBE_COLOR, "read by probe"},
+                {FOUND_COLOR, "found / placed"},
+                {MISS_COLOR, "null stop / removed"},
+                {MOVE_COLOR, "moved back on remove"}
+        };
+        for (Object[] item : items) {
+            g2d.setColor((Color) item[0]);
+            g2d.fillRect(x, y, 10, 10);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) item[1], x + 14, y + 9);
+            x += g2d.getFontMetrics().stringWidth((String) item[1]) + 26;
+        }
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("IDENTITYHASHMAP VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ one Object[]: key, value, key, value ... keys compared with ==, linear probing two slots at a time, no nodes ]",
+                20, 55);
+
+        g2d.setColor(new Color(200, 220, 240));
+        g2d.drawString(identityMap.getLastOperation(), 20, 80);
+
+        if (identityMap.hasJustResized()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(120, 220, 220, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("RESIZE!", 400, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 220;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MAP STATUS", panelX + 15, panelY + 20);
+
+        int size = identityMap.getSize();
+        int capacity = identityMap.getCapacity();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Size: " + size + " / " + VisualIdentityHashMap.MAX_KEYS + " (view limit)", panelX + 15, y);
+        y += 15;
+        g2d.drawString("Pairs: " + capacity + ", slots: " + identityMap.getLength(), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Load: %.2f, resize at n = %d", (double) size / capacity, identityMap.getResizeAt()),
+                panelX + 15, y);
+        y += 15;
+        g2d.drawString("Resizes: " + identityMap.getResizes(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(TWIN_COLOR);
+        g2d.drawString("Twins added: " + identityMap.getTwins(), panelX + 15, y);
+        y += 20;
+        g2d.setColor(ACCENT);
+        g2d.drawString("PROBING", panelX + 15, y);
+        y += 15;
+        g2d.setColor(PROBE_COLOR);
+        int reads = identityMap.getLastPath().size();
+        g2d.drawString("Last probe: " + reads + " key slot" + (reads == 1 ? "" : "s"), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Average so far: %.2f", identityMap.getAverageProbes()), panelX + 15, y);
+        y += 15;
+        g2d.setColor(DISPLACED_COLOR);
+        g2d.drawString("Longest run: " + identityMap.getLongestRun(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(MOVE_COLOR);
+        g2d.drawString("Keys moved by removes: " + identityMap.getMovedTotal(), panelX + 15, y);
+        y += 20;
+        g2d.setColor(FOUND_COLOR);
+        g2d.drawString("Reads: object, one Object[]", panelX + 15, y);
+
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 10);
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualIdentityHashMap.MemoryInfo mem = identityMap.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total: " + mem.formatTotal() + String.format(" (%.1f B/entry)", mem.bytesPerEntry()), x + 15, y + 35);
+        g2d.drawString("HashMap: " + mem.formatHashMapTotal() + String.format(" (%.1f B/entry)", mem.hashMapBytesPerEntry()),
+                x + 15, y + 50);
+        g2d.drawString("Empty pairs: " + (mem.pairs() - mem.entries()) + ", " + mem.emptyPairBytes() + " B", x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(200, 220, 240));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(16, 38, 40, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
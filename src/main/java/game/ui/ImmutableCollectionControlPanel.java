@@ -0,0 +1,386 @@
+package game.ui;
+
+import game.model.VisualImmutableCollection;
+import game.model.VisualImmutableCollection.Kind;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class ImmutableCollectionControlPanel extends JPanel {
+    private VisualImmutableCollection collection;
+    private Random random = new Random();
+    private JComboBox<String> kindCombo;
+    private JTextField keyField;
+    private JTextField valueField;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(200, 200, 120);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public ImmutableCollectionControlPanel(VisualImmutableCollection collection) {
+        this.collection = collection;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("COLLECTION"));
+        add(Box.createVerticalStrut(6));
+
+        kindCombo = new JComboBox<>(new String[]{"Set.of (SetN)", "Map.of (MapN)"});
+        styleComboBox(kindCombo);
+        kindCombo.addActionListener(e -> {
+            Kind kind = kindCombo.getSelectedIndex() == 0 ? Kind.SET : Kind.MAP;
+            collection.setKind(kind);
+            valueField.setEnabled(kind == Kind.MAP);
+            updateStatus("Rebuilt as " + collection.getLayout(), SUCCESS_COLOR);
+        });
+        add(kindCombo);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("COPY WITH ELEMENT"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("KEY (int, empty = random):"));
+        keyField = new JTextField();
+        styleTextField(keyField);
+        add(keyField);
+        add(Box.createVerticalStrut(6));
+
+        add(createLabel("VALUE (Map.of only):"));
+        valueField = new JTextField();
+        styleTextField(valueField);
+        valueField.setEnabled(false);
+        add(valueField);
+        add(Box.createVerticalStrut(8));
+
+        JButton addBtn = createStyledButton("ADD (new copy)", ACCENT);
+        addBtn.addActionListener(e -> addElement());
+        add(addBtn);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("METHODS"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel methodPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        methodPanel.setBackground(BG_COLOR);
+        methodPanel.setMaximumSize(new Dimension(230, 56));
+        methodPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton containsBtn = createSmallButton("contains", new Color(150, 200, 255));
+        containsBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            boolean found = collection.contains(key);
+            updateStatus("contains = " + found + " (" + collection.getLastPath().size() + " reads)",
+                    found ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        methodPanel.add(containsBtn);
+
+        JButton getBtn = createSmallButton("get(key)", new Color(150, 255, 200));
+        getBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            if (collection.getKind() == Kind.SET) {
+                updateStatus("Set.of has no get: use contains", WARN_COLOR);
+                return;
+            }
+            Integer value = collection.get(key);
+            updateStatus("get = " + (value != null ? value : "null"), value != null ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        methodPanel.add(getBtn);
+
+        // A lookup of a key nobody added, to show how far a miss has to read
+        JButton missBtn = createSmallButton("random miss", new Color(255, 150, 120));
+        missBtn.addActionListener(e -> {
+            int key;
+            do {
+                key = random.nextInt(10 * VisualImmutableCollection.KEY_RANGE);
+            } while (collection.getKeys().contains(key));
+            collection.contains(key);
+            updateStatus("Miss on " + key + ": " + collection.getLastPath().size() + " reads", WARN_COLOR);
+        });
+        methodPanel.add(missBtn);
+
+        JButton removeBtn = createSmallButton("remove (copy)", ERROR_COLOR);
+        removeBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            boolean present = collection.getKeys().contains(key);
+            collection.remove(key);
+            if (present) {
+                updateStatus("Copied without " + key, SUCCESS_COLOR);
+                keyField.setText("");
+            } else {
+                updateStatus("Key not found", ERROR_COLOR);
+            }
+        });
+        methodPanel.add(removeBtn);
+        add(methodPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("OPERATIONS"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel autoPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        autoPanel.setBackground(BG_COLOR);
+        autoPanel.setMaximumSize(new Dimension(230, 56));
+        autoPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton fill8Btn = createSmallButton("Random x8", new Color(200, 200, 120));
+        fill8Btn.addActionListener(e -> fill(collection.fillRandom(8), "random"));
+        autoPanel.add(fill8Btn);
+
+        JButton fillMaxBtn = createSmallButton("Random to " + VisualImmutableCollection.MAX_KEYS, new Color(220, 220, 150));
+        fillMaxBtn.addActionListener(e -> fill(collection.fillRandom(VisualImmutableCollection.MAX_KEYS * 4), "random"));
+        autoPanel.add(fillMaxBtn);
+
+        // Small consecutive ints: the run that makes misses read far
+        JButton sequentialBtn = createSmallButton("0, 1, 2 ... x16", new Color(255, 150, 80));
+        sequentialBtn.addActionListener(e -> fill(collection.fillSequential(16), "sequential"));
+        autoPanel.add(sequentialBtn);
+
+        JButton clusteredBtn = createSmallButton("Same home x6", new Color(255, 110, 110));
+        clusteredBtn.addActionListener(e -> fill(collection.fillClustered(6), "colliding"));
+        autoPanel.add(clusteredBtn);
+        add(autoPanel);
+        add(Box.createVerticalStrut(8));
+
+        JButton clearBtn = createStyledButton("Set.of() / Map.of()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            collection.clear();
+            updateStatus("Back to the shared empty instance", WARN_COLOR);
+        });
+        add(clearBtn);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    private void fill(int added, String what) {
+        if (added == 0) {
+            updateStatus("Collection is at the view limit", WARN_COLOR);
+        } else {
+            updateStatus("Added " + added + " " + what + " keys", SUCCESS_COLOR);
+        }
+    }
+
+    private void addElement() {
+        String keyText = keyField.getText().trim();
+        String valueText = valueField.getText().trim();
+        try {
+            int key = keyText.isEmpty() ? VisualImmutableCollection.generateRandomKey(random) : Integer.parseInt(keyText);
+            int value = valueText.isEmpty() ? VisualImmutableCollection.generateRandomValue(random) : Integer.parseInt(valueText);
+            boolean present = collection.getKeys().contains(key);
+            collection.add(key, value);
+            if (present && collection.getKind() == Kind.SET) {
+                updateStatus("Duplicate: Set.of would throw", ERROR_COLOR);
+                return;
+            }
+            updateStatus("New copy with " + key, SUCCESS_COLOR);
+            keyField.setText("");
+            valueField.setText("");
+        } catch (NumberFormatException ex) {
+            updateStatus("Keys and values are int", ERROR_COLOR);
+        }
+    }
+
+    private Integer readKey() {
+        String keyText = keyField.getText().trim();
+        if (keyText.isEmpty()) {
+            updateStatus("Enter key first", WARN_COLOR);
+            return null;
+        }
+        try {
+            return Integer.parseInt(keyText);
+        } catch (NumberFormatException ex) {
+            updateStatus("Keys are int", ERROR_COLOR);
+            return null;
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleComboBox(JComboBox<String> combo) {
+        combo.setBackground(BUTTON_BG);
+        combo.setForeground(TEXT_COLOR);
+        combo.setFont(new Font("Consolas", Font.PLAIN, 13));
+        combo.setMaximumSize(new Dimension(250, 26));
+        combo.setAlignmentX(LEFT_ALIGNMENT);
+        combo.setBorder(BorderFactory.createLineBorder(ACCENT.darker(), 1));
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("SET.OF / MAP.OF INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "One Object[], always half full",
+                "Linear probing, hash unmixed",
+                "No nodes: about half the heap",
+                "Any change means a new copy",
+                "SALT only shuffles iteration"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(230, 230, 190));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
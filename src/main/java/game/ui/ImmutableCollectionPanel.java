@@ -0,0 +1,602 @@
+package game.ui;
+
+import game.model.VisualImmutableCollection;
+import game.model.VisualImmutableCollection.Kind;
+import game.model.VisualImmutableCollection.LastAction;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import game.ui.ThemeManager;
+
+public class ImmutableCollectionPanel extends JPanel {
+    private VisualImmutableCollection collection;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(200, 200, 120);
+    private static final Color KEY_COLOR = new Color(200, 200, 120);
+    private static final Color VALUE_COLOR = new Color(190, 170, 255);
+    private static final Color HOME_COLOR = new Color(100, 200, 255);
+    private static final Color DISPLACED_COLOR = new Color(255, 150, 80);
+    private static final Color PROBE_COLOR = new Color(255, 215, 110);
+    private static final Color FOUND_COLOR = new Color(100, 255, 150);
+    private static final Color MISS_COLOR = new Color(255, 90, 90);
+    private static final Color ORDER_COLOR = new Color(220, 140, 255);
+    private static final Color EMPTY_COLOR = new Color(110, 120, 140);
+    private static final Color HASH_COLOR = new Color(255, 200, 80);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    private static final int START_X = 90;
+    private static final int TABLE_Y = 135;
+    private static final int PER_ROW = 32;
+    private static final int CELL = 28;
+    private static final int CELL_GAP = 2;
+    private static final int KEY_HEIGHT = 26;
+    private static final int VALUE_HEIGHT = 20;
+    private static final int CONTENT_WIDTH = PER_ROW * (CELL + CELL_GAP) - CELL_GAP;
+    private static final int BOX_HEIGHT = 210;
+    // How long each bucket read stays the newest one in the replay
+    private static final int STEP_MS = 300;
+
+    public ImmutableCollectionPanel(VisualImmutableCollection collection) {
+        this.collection = collection;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            collection.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            ImmutableCollectionMemoryDialog dialog = new ImmutableCollectionMemoryDialog((Frame) window, collection);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = START_X + CONTENT_WIDTH + 20 + 260;
+        int height = lowerY() + BOX_HEIGHT + 60;
+        return new Dimension(width, Math.max(640, height));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        drawBackground(g2d);
+        if (collection.hasTable()) {
+            drawTable(g2d);
+        } else {
+            drawFields(g2d);
+        }
+        drawOrderStrip(g2d, stripY());
+        int y = lowerY();
+        int lowerWidth = START_X + CONTENT_WIDTH - 20;
+        int half = (lowerWidth - 20) / 2;
+        drawProbeBox(g2d, 20, y, half);
+        drawFootprintBox(g2d, 20 + half + 20, y, lowerWidth - half - 20);
+        drawLegend(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(30, 30, 22)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    // ── Layout ───────────────────────────────────────────────────
+    // One cell per bucket, PER_ROW buckets to a row; a map bucket shows its value slot under the key
+
+    private int rowHeight() {
+        return collection.getKind() == Kind.MAP ? 108 : 86;
+    }
+
+    private int rows() {
+        return Math.max(1, (collection.getBuckets() + PER_ROW - 1) / PER_ROW);
+    }
+
+    private int stripY() {
+        return TABLE_Y + rows() * rowHeight() + 10;
+    }
+
+    private int lowerY() {
+        return stripY() + 60;
+    }
+
+    private static int cellX(int bucket) {
+        return START_X + (bucket % PER_ROW) * (CELL + CELL_GAP);
+    }
+
+    private int cellY(int bucket) {
+        return TABLE_Y + (bucket / PER_ROW) * rowHeight();
+    }
+
+    // ── Table ────────────────────────────────────────────────────
+
+    private void drawTable(Graphics2D g2d) {
+        int buckets = collection.getBuckets();
+        boolean map = collection.getKind() == Kind.MAP;
+        List<Integer> path = collection.getLastPath();
+        int visible = visibleReads(path);
+        boolean done = visible == path.size();
+        LastAction action = collection.getLastAction();
+        int lastBucket = collection.getLastBucket();
+        float pulse = (float) (0.6 + 0.4 * Math.sin(glowPhase * 6));
+
+        for (int row = 0; row < rows(); row++) {
+            int y = TABLE_Y + row * rowHeight();
+            g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+            g2d.setColor(KEY_COLOR);
+            g2d.drawString(map ? "keys" : "table[]", 20, y + 17);
+            if (map) {
+                g2d.setColor(VALUE_COLOR);
+                g2d.drawString("values", 20, y + KEY_HEIGHT + 16);
+            }
+        }
+
+        int valueHeight = map ? VALUE_HEIGHT + 2 : 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            int x = cellX(bucket);
+            int y = cellY(bucket);
+            Integer key = collection.getKeyAt(bucket);
+            boolean used = key != null;
+            int displacement = used ? collection.getDisplacement(bucket) : 0;
+            int read = path.subList(0, visible).indexOf(bucket);
+
+            Color border;
+            float stroke = 1f;
+            if (done && bucket == lastBucket && (action == LastAction.HIT || action == LastAction.REBUILD)) {
+                border = FOUND_COLOR;
+                stroke = 1.5f + pulse;
+            } else if (done && bucket == lastBucket && action == LastAction.MISS) {
+                border = MISS_COLOR;
+                stroke = 1.5f + pulse;
+            } else if (read >= 0) {
+                border = PROBE_COLOR;
+                stroke = 2.2f;
+            } else if (!used) {
+                border = EMPTY_COLOR;
+            } else {
+                border = displacement == 0 ? HOME_COLOR.darker() : DISPLACED_COLOR.darker();
+            }
+
+            Color fill = !used ? null : displacement == 0 ? new Color(30, 44, 60) : new Color(60, 40, 24);
+            drawCell(g2d, x, y, KEY_HEIGHT, used, fill, border, stroke, used ? String.valueOf(key) : null, Font.BOLD, 10);
+            if (map) {
+                Integer value = collection.getValueAt(bucket);
+                drawCell(g2d, x, y + KEY_HEIGHT + 2, VALUE_HEIGHT, used, used ? new Color(40, 32, 66) : null,
+                        used && read < 0 && border != FOUND_COLOR ? VALUE_COLOR.darker() : border, stroke,
+                        used ? String.valueOf(value) : null, Font.PLAIN, 9);
+            }
+
+            int labelY = y + KEY_HEIGHT + valueHeight + 12;
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+            g2d.setColor(new Color(130, 140, 160));
+            g2d.drawString(String.valueOf(bucket), x + 2, labelY);
+            if (used && displacement > 0) {
+                g2d.setColor(DISPLACED_COLOR);
+                String d = "+" + displacement;
+                g2d.drawString(d, x + CELL - g2d.getFontMetrics().stringWidth(d) - 1, labelY);
+            }
+
+            // Position in this JVM's iteration order
+            int rank = used ? collection.getIterationRank(bucket) : -1;
+            if (rank >= 0) {
+                g2d.setColor(ORDER_COLOR);
+                g2d.drawString("#" + (rank + 1), x + 2, labelY + 10);
+            }
+        }
+
+        // Where the SALT starts the walk, under the labels, and which way it goes
+        int start = collection.getIterationStart();
+        if (start >= 0) {
+            int x = cellX(start) + CELL / 2;
+            int y = cellY(start) + KEY_HEIGHT + valueHeight + 26;
+            g2d.setColor(ORDER_COLOR);
+            Polygon marker = new Polygon(new int[]{x - 5, x + 5, x}, new int[]{y + 7, y + 7, y}, 3);
+            g2d.fillPolygon(marker);
+            g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+            String label = collection.isAscending() ? "start ->" : "<- start";
+            int lx = collection.isAscending() ? x + 7 : x - 7 - g2d.getFontMetrics().stringWidth(label);
+            g2d.drawString(label, lx, y + 8);
+        }
+
+        // Read numbers over the buckets the lookup visited, home first
+        g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+        for (int i = 0; i < visible; i++) {
+            int bucket = path.get(i);
+            int x = cellX(bucket) + CELL / 2;
+            int y = cellY(bucket) - 18;
+            boolean last = done && i == path.size() - 1;
+            Color color = last ? (action == LastAction.HIT ? FOUND_COLOR : MISS_COLOR) : PROBE_COLOR;
+            g2d.setColor(new Color(color.getRed() / 5, color.getGreen() / 5, color.getBlue() / 5));
+            g2d.fillOval(x - 6, y - 6, 12, 12);
+            g2d.setColor(color);
+            g2d.drawOval(x - 6, y - 6, 12, 12);
+            String label = String.valueOf(i + 1);
+            g2d.drawString(label, x - g2d.getFontMetrics().stringWidth(label) / 2, y + 3);
+        }
+    }
+
+    // Empty, Set12 and Map1 keep no table: a shared instance, or the elements in fields
+    private void drawFields(Graphics2D g2d) {
+        String layout = collection.getLayout();
+        List<Integer> keys = collection.getKeys();
+        List<Integer> values = collection.getValues();
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(KEY_COLOR);
+        g2d.drawString(layout, 20, TABLE_Y + 17);
+
+        int x = START_X;
+        int y = TABLE_Y;
+        if (keys.isEmpty()) {
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+            g2d.setColor(EMPTY_COLOR);
+            g2d.drawString("(one shared instance for the whole JVM: no allocation, every lookup is a miss)", x, y + 17);
+            return;
+        }
+        String[] names = collection.getKind() == Kind.SET ? new String[]{"e0", "e1"} : new String[]{"k0", "v0"};
+        String[] texts = collection.getKind() == Kind.SET
+                ? new String[]{String.valueOf(keys.get(0)), keys.size() > 1 ? String.valueOf(keys.get(1)) : "EMPTY"}
+                : new String[]{String.valueOf(keys.get(0)), String.valueOf(values.get(0))};
+        for (int i = 0; i < 2; i++) {
+            boolean hit = collection.getLastAction() == LastAction.HIT && texts[i].equals(String.valueOf(collection.getLastKey()));
+            drawBox(g2d, x, y, 110, 34);
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+            g2d.setColor(new Color(130, 140, 160));
+            g2d.drawString(names[i], x + 8, y + 21);
+            g2d.setFont(new Font("Consolas", Font.BOLD, 12));
+            g2d.setColor(hit ? FOUND_COLOR : i == 1 && collection.getKind() == Kind.MAP ? VALUE_COLOR : KEY_COLOR);
+            g2d.drawString(texts[i], x + 36, y + 22);
+            x += 124;
+        }
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString(collection.getKind() == Kind.SET
+                ? "contains(o): o.equals(e0) || o.equals(e1); no hashing at all. The table starts at 3 elements."
+                : "get(o): o.equals(k0) ? v0 : null; no hashing at all. The table starts at 2 entries.", START_X, y + 56);
+    }
+
+    private void drawCell(Graphics2D g2d, int x, int y, int height, boolean used, Color fill, Color border,
+                          float stroke, String text, int style, int fontSize) {
+        if (used) {
+            g2d.setColor(fill);
+            g2d.fillRoundRect(x, y, CELL, height, 5, 5);
+            g2d.setStroke(new BasicStroke(stroke));
+        } else {
+            g2d.setColor(new Color(24, 28, 36));
+            g2d.fillRoundRect(x, y, CELL, height, 5, 5);
+            g2d.setStroke(new BasicStroke(stroke == 1f ? 1f : stroke, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10,
+                    new float[]{3, 3}, 0));
+        }
+        g2d.setColor(border);
+        g2d.drawRoundRect(x, y, CELL, height, 5, 5);
+        g2d.setStroke(new BasicStroke(1f));
+        if (text == null) return;
+        g2d.setFont(new Font("Consolas", style, fontSize));
+        g2d.setColor(TEXT_COLOR);
+        FontMetrics fm = g2d.getFontMetrics();
+        g2d.drawString(text, x + (CELL - fm.stringWidth(text)) / 2, y + (height + fm.getAscent() - fm.getDescent()) / 2);
+    }
+
+    private int visibleReads(List<Integer> path) {
+        long elapsed = System.currentTimeMillis() - collection.getLookupTime();
+        return (int) Math.min(path.size(), elapsed / STEP_MS + 1);
+    }
+
+    // Iteration order from the real instance next to the order the elements went in
+    private void drawOrderStrip(Graphics2D g2d, int y) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ORDER_COLOR);
+        String title = "ITERATION ORDER (this JVM)";
+        g2d.drawString(title + ":", 20, y);
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("INSERTION ORDER:", 20, y + 18);
+
+        int x = 20 + g2d.getFontMetrics().stringWidth(title + ":  ");
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int limit = START_X + CONTENT_WIDTH;
+        g2d.setColor(ORDER_COLOR);
+        g2d.drawString(clip(g2d, collection.getRealOrder().toString(), limit - x), x, y);
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString(clip(g2d, collection.getKeys().toString(), limit - x), x, y + 18);
+
+        if (collection.hasTable()) {
+            g2d.setColor(collection.isOrderMatched() ? new Color(200, 220, 240) : MISS_COLOR);
+            g2d.drawString(collection.isOrderMatched()
+                    ? "The SALT picked the start bucket " + collection.getIterationStart() + " and walks "
+                    + (collection.isAscending() ? "up" : "down") + " the table, wrapping; another JVM run picks again. "
+                    + "Lookups never use the SALT."
+                    : "Iteration order did not match a table walk on this JVM", 20, y + 36);
+        }
+    }
+
+    private static String clip(Graphics2D g2d, String text, int width) {
+        FontMetrics fm = g2d.getFontMetrics();
+        if (fm.stringWidth(text) <= width) return text;
+        while (text.length() > 4 && fm.stringWidth(text + "...") > width) text = text.substring(0, text.length() - 1);
+        return text + "...";
+    }
+
+    // ── Lower boxes ──────────────────────────────────────────────
+
+    // How far keys sit from home, and what a hit and a miss cost on average
+    private void drawProbeBox(Graphics2D g2d, int x, int y, int width) {
+        drawBox(g2d, x, y, width, BOX_HEIGHT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("DISPLACEMENT FROM HOME BUCKET", x + 12, y + 18);
+
+        int[] histogram = collection.getDisplacementHistogram();
+        int max = 1;
+        for (int count : histogram) max = Math.max(max, count);
+        int plotX = x + 20;
+        int plotBottom = y + 120;
+        int barWidth = (width - 40) / histogram.length - 6;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        for (int i = 0; i < histogram.length; i++) {
+            int bx = plotX + i * (barWidth + 6);
+            int h = histogram[i] * 80 / max;
+            g2d.setColor(i == 0 ? HOME_COLOR : DISPLACED_COLOR);
+            g2d.fillRect(bx, plotBottom - h, barWidth, h);
+            g2d.setColor(TEXT_COLOR);
+            String count = String.valueOf(histogram[i]);
+            g2d.drawString(count, bx + (barWidth - g2d.getFontMetrics().stringWidth(count)) / 2, plotBottom - h - 3);
+            String label = i == histogram.length - 1 ? "+" + i + "+" : i == 0 ? "home" : "+" + i;
+            g2d.drawString(label, bx + (barWidth - g2d.getFontMetrics().stringWidth(label)) / 2, plotBottom + 12);
+        }
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int ty = plotBottom + 32;
+        if (!collection.hasTable()) {
+            g2d.setColor(EMPTY_COLOR);
+            g2d.drawString("No table at this size: lookups compare fields", x + 12, ty);
+            return;
+        }
+        g2d.setColor(FOUND_COLOR);
+        g2d.drawString(String.format("Hit: %.2f bucket reads on average", collection.getAverageHitProbes()), x + 12, ty);
+        g2d.setColor(MISS_COLOR);
+        g2d.drawString(String.format("Miss: %.2f, read on to the next empty bucket", collection.getAverageMissProbes()),
+                x + 12, ty + 15);
+        g2d.setColor(DISPLACED_COLOR);
+        g2d.drawString("Longest run of full buckets: " + collection.getLongestRun() + " of " + collection.getBuckets(),
+                x + 12, ty + 30);
+        g2d.setColor(new Color(200, 220, 240));
+        g2d.drawString("Load is always 1/2; hashCode is used as is, unmixed", x + 12, ty + 45);
+    }
+
+    // Bytes against the hash collection holding the same elements
+    private void drawFootprintBox(Graphics2D g2d, int x, int y, int width) {
+        drawBox(g2d, x, y, width, BOX_HEIGHT);
+        VisualImmutableCollection.MemoryInfo mem = collection.getMemoryInfo();
+        int n = mem.entries();
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("FOOTPRINT OF n = " + n + " vs " + mem.hashName(), x + 12, y + 18);
+
+        // Object, table, nodes, boxes: one row per collection, colour then bytes
+        Object[][] parts = {
+                {ACCENT, mem.objectBytes(), HASH_COLOR, mem.hashObjects()},
+                {ACCENT, mem.tableBytes(), HASH_COLOR, mem.hashTable()},
+                {ACCENT, 0L, HASH_COLOR, mem.hashNodes()},
+                {ACCENT, mem.boxBytes(), HASH_COLOR, mem.hashBoxes()}
+        };
+        long max = Math.max(1, Math.max(mem.totalUsed(), mem.hashTotal()));
+        int barX = x + 12;
+        int barMax = width - 24;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        // Two stacked bars, one segment per part
+        for (int row = 0; row < 2; row++) {
+            int by = y + 36 + row * 46;
+            int bx = barX;
+            long total = row == 0 ? mem.totalUsed() : mem.hashTotal();
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((row == 0 ? mem.layout() : mem.hashName()) + ": " + total + " B"
+                    + (n > 0 ? String.format(" (%.1f B/elem)", (double) total / n) : ""), barX, by);
+            for (int part = 0; part < parts.length; part++) {
+                long bytes = (Long) parts[part][row * 2 + 1];
+                int w = (int) (bytes * barMax / max);
+                if (w <= 0) continue;
+                Color color = (Color) parts[part][row * 2];
+                int shade = part * 30;
+                g2d.setColor(new Color(Math.max(0, color.getRed() - shade), Math.max(0, color.getGreen() - shade),
+                        Math.max(0, color.getBlue() - shade / 2)));
+                g2d.fillRect(bx, by + 6, w, 16);
+                g2d.setColor(new Color(20, 20, 20));
+                g2d.drawRect(bx, by + 6, w, 16);
+                bx += w;
+            }
+        }
+
+        int ty = y + 140;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        if (n == 0) {
+            g2d.drawString("Both empty: the immutable one is a shared singleton", x + 12, ty);
+            return;
+        }
+        g2d.drawString(String.format("%s: %s vs %s, %.0f%% smaller", mem.layout(), mem.formatTotal(),
+                mem.formatHashTotal(), mem.savedPercent()), x + 12, ty);
+        g2d.setColor(new Color(200, 220, 240));
+        g2d.drawString("No nodes, no cached hashes, no modCount or resize slack:", x + 12, ty + 16);
+        g2d.drawString(mem.slots() > 0 ? "the keys themselves sit in a half-empty Object[]"
+                : "the elements sit in the object's own fields", x + 12, ty + 30);
+        g2d.setColor(EMPTY_COLOR);
+        g2d.drawString("Segments: object, table, nodes, boxes", x + 12, ty + 50);
+    }
+
+    private void drawLegend(Graphics2D g2d) {
+        int y = getHeight() - 30;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        Object[][] items = {
+                {HOME_COLOR, "in its home bucket"},
+                {DISPLACED_COLOR, "displaced (+buckets)"},
+                {PROBE_COLOR, "bucket read by lookup"},
+                {FOUND_COLOR, "found / placed"},
+                {MISS_COLOR, "miss: empty bucket"},
+                {ORDER_COLOR, "iteration order, SALT start"},
+                {EMPTY_COLOR, "empty bucket"}
+        };
+        for (Object[] item : items) {
+            g2d.setColor((Color) item[0]);
+            g2d.fillRect(x, y, 10, 10);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) item[1], x + 14, y + 9);
+            x += g2d.getFontMetrics().stringWidth((String) item[1]) + 30;
+        }
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("SET.OF / MAP.OF LAYOUT VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString(collection.getKind() == Kind.SET
+                ? "[ SetN: one Object[] of 2n slots, home = hashCode mod 2n, linear probing to the next null ]"
+                : "[ MapN: one Object[] of 4n slots, key and value side by side, home = hashCode mod 2n, linear probing ]",
+                20, 55);
+
+        g2d.setColor(new Color(200, 220, 240));
+        g2d.drawString(collection.getLastOperation(), 20, 80);
+
+        if (collection.hasJustRebuilt()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(200, 200, 120, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("NEW COPY!", 480, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 220;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("COLLECTION STATUS", panelX + 15, panelY + 20);
+
+        int size = collection.getSize();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Class: " + collection.getLayout(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Size: " + size + " / " + VisualImmutableCollection.MAX_KEYS + " (view limit)", panelX + 15, y);
+        y += 15;
+        g2d.drawString(collection.hasTable()
+                ? "Buckets: " + collection.getBuckets() + ", slots: " + collection.getSlots()
+                : "Buckets: none, fields only", panelX + 15, y);
+        y += 15;
+        g2d.drawString("Copies built: " + collection.getRebuilds(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Elements copied: " + collection.getCopied(), panelX + 15, y);
+        y += 20;
+        g2d.setColor(ACCENT);
+        g2d.drawString("PROBING", panelX + 15, y);
+        y += 15;
+        g2d.setColor(PROBE_COLOR);
+        int reads = collection.getLastPath().size();
+        g2d.drawString("Last lookup: " + reads + " bucket read" + (reads == 1 ? "" : "s"), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Average so far: %.2f", collection.getAverageProbes()), panelX + 15, y);
+        y += 15;
+        g2d.setColor(DISPLACED_COLOR);
+        g2d.drawString("Longest run: " + collection.getLongestRun(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(ORDER_COLOR);
+        g2d.drawString(collection.getIterationStart() >= 0
+                ? "Iteration: from " + collection.getIterationStart() + ", " + (collection.isAscending() ? "up" : "down")
+                : "Iteration: SALT picks e0/e1 order", panelX + 15, y);
+        y += 20;
+        g2d.setColor(FOUND_COLOR);
+        g2d.drawString("Read-only: every change is a copy", panelX + 15, y);
+
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 10);
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualImmutableCollection.MemoryInfo mem = collection.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total: " + mem.formatTotal() + String.format(" (%.1f B/elem)", mem.bytesPerEntry()), x + 15, y + 35);
+        g2d.drawString(mem.hashName() + ": " + mem.formatHashTotal() + String.format(" (%.1f B/elem)", mem.hashBytesPerEntry()),
+                x + 15, y + 50);
+        g2d.drawString(String.format("Saved: %.0f%%", mem.savedPercent()), x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(200, 220, 240));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(34, 34, 24, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
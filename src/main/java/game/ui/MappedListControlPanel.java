@@ -0,0 +1,338 @@
+package game.ui;
+
+import game.model.VisualMappedList;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class MappedListControlPanel extends JPanel {
+    private VisualMappedList list;
+    private Random random = new Random();
+    private JTextField indexField;
+    private JComboBox<String> budgetCombo;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(170, 230, 120);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    private static final int[] BUDGETS = {8, 16, 32, 64};
+
+    public MappedListControlPanel(VisualMappedList list) {
+        this.list = list;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("RAM BUDGET"));
+        add(Box.createVerticalStrut(6));
+
+        String[] budgetNames = new String[BUDGETS.length];
+        for (int i = 0; i < BUDGETS.length; i++) {
+            budgetNames[i] = BUDGETS[i] + " pages (" + BUDGETS[i] * VisualMappedList.PAGE_BYTES / 1024 + " KB)";
+        }
+        budgetCombo = new JComboBox<>(budgetNames);
+        styleComboBox(budgetCombo);
+        budgetCombo.setSelectedIndex(1);
+        budgetCombo.addActionListener(e -> {
+            list.setBudgetPages(BUDGETS[budgetCombo.getSelectedIndex()]);
+            updateStatus("Budget: " + list.getBudgetPages() + " pages", SUCCESS_COLOR);
+        });
+        add(budgetCombo);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("APPEND"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel appendPanel = new JPanel(new GridLayout(1, 3, 4, 4));
+        appendPanel.setBackground(BG_COLOR);
+        appendPanel.setMaximumSize(new Dimension(230, 26));
+        appendPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        int[] appendCounts = {16, 256, 1024};
+        for (int count : appendCounts) {
+            JButton appendBtn = createSmallButton("+" + count, new Color(150, 230, 150));
+            appendBtn.addActionListener(e -> {
+                if (list.append(count)) updateStatus("Appended " + count + ", size " + list.getSize(), SUCCESS_COLOR);
+                else updateStatus("View holds " + VisualMappedList.MAX_RECORDS + " records", WARN_COLOR);
+            });
+            appendPanel.add(appendBtn);
+        }
+        add(appendPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("RANDOM ACCESS"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("INDEX:"));
+        indexField = new JTextField();
+        styleTextField(indexField);
+        add(indexField);
+        add(Box.createVerticalStrut(8));
+
+        JPanel getPanel = new JPanel(new GridLayout(1, 2, 4, 4));
+        getPanel.setBackground(BG_COLOR);
+        getPanel.setMaximumSize(new Dimension(230, 26));
+        getPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton getBtn = createSmallButton("get(index)", new Color(150, 255, 200));
+        getBtn.addActionListener(e -> getRecord());
+        getPanel.add(getBtn);
+
+        JButton randomBtn = createSmallButton("Random x20", new Color(100, 200, 255));
+        randomBtn.addActionListener(e -> {
+            list.randomGets(20);
+            updateStatus("Faults so far: " + list.getFaults(), list.getSize() > 0 ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        getPanel.add(randomBtn);
+        add(getPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("SEQUENTIAL SCAN"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel scanPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        scanPanel.setBackground(BG_COLOR);
+        scanPanel.setMaximumSize(new Dimension(230, 56));
+        scanPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton scanBtn = createSmallButton("Scan", ACCENT);
+        scanBtn.addActionListener(e -> {
+            list.startScan();
+            updateStatus(list.isScanning() ? "Scanning with readahead" : "Append records first",
+                    list.isScanning() ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        scanPanel.add(scanBtn);
+
+        JButton stopBtn = createSmallButton("Stop", new Color(255, 200, 100));
+        stopBtn.addActionListener(e -> {
+            list.stopScan();
+            updateStatus("Scan stopped", WARN_COLOR);
+        });
+        scanPanel.add(stopBtn);
+
+        // Memory pressure from elsewhere: the simulated page cache forgets everything
+        JButton evictBtn = createSmallButton("Evict all", new Color(255, 110, 80));
+        evictBtn.addActionListener(e -> {
+            list.evictAll();
+            updateStatus("Page cache dropped", WARN_COLOR);
+        });
+        scanPanel.add(evictBtn);
+
+        JButton osBtn = createSmallButton("OS check", new Color(200, 170, 255));
+        osBtn.addActionListener(e -> {
+            list.checkOsResidency();
+            updateStatus("OS: " + list.getOsResidentCount() + "/" + list.getPageCount() + " loaded", TEXT_COLOR);
+        });
+        scanPanel.add(osBtn);
+        add(scanPanel);
+        add(Box.createVerticalStrut(10));
+
+        JButton clearBtn = createStyledButton("clear()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            list.clear();
+            updateStatus("File truncated", WARN_COLOR);
+        });
+        add(clearBtn);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    private void getRecord() {
+        String text = indexField.getText().trim();
+        try {
+            long index = text.isEmpty() ? VisualMappedList.generateRandomIndex(random, list.getSize()) : Long.parseLong(text);
+            Long value = list.get(index);
+            if (value != null) updateStatus("get(" + index + ") = " + value, SUCCESS_COLOR);
+            else updateStatus("Index out of bounds", ERROR_COLOR);
+        } catch (NumberFormatException ex) {
+            updateStatus("Index is a long", ERROR_COLOR);
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleComboBox(JComboBox<String> combo) {
+        combo.setBackground(BUTTON_BG);
+        combo.setForeground(TEXT_COLOR);
+        combo.setFont(new Font("Consolas", Font.PLAIN, 13));
+        combo.setMaximumSize(new Dimension(250, 26));
+        combo.setAlignmentX(LEFT_ALIGNMENT);
+        combo.setBorder(BorderFactory.createLineBorder(ACCENT.darker(), 1));
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("MAPPED LIST INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "Records live in a file",
+                "Heap holds one buffer/segment",
+                "The OS pages data in on fault",
+                "Scans get readahead",
+                "Random gets fault page by page"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(190, 210, 190));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
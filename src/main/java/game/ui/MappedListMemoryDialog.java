@@ -0,0 +1,168 @@
+package game.ui;
+
+import game.model.VisualMappedList;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import game.ui.ThemeManager;
+
+public class MappedListMemoryDialog extends JDialog {
+    private VisualMappedList list;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(170, 230, 120);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public MappedListMemoryDialog(Frame parent, VisualMappedList list) {
+        super(parent, "Memory-Mapped List Memory Analysis", true);
+        this.list = list;
+
+        setSize(650, 620);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createLayoutPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualMappedList.MemoryInfo mem = list.getMemoryInfo();
+
+        String[] lines = {
+                "Java heap used: " + mem.formatHeap(),
+                "",
+                "Records:             " + list.getSize() + " x " + VisualMappedList.RECORD_BYTES + " bytes",
+                "Record data:         " + mem.formatData() + " (in the file)",
+                "Mapped address space:" + " " + mem.formatMapped() + " (" + list.getSegmentCount() + " segments)",
+                "Unused segment tail: " + (mem.mappedBytes() - mem.dataBytes()) + " bytes",
+                "",
+                "Resident (simulated): " + mem.formatResident() + " of " + list.getBudgetPages() + " page budget",
+                list.getOsCheckTime() == 0 ? "Resident (OS):        run OS check"
+                        : "Resident (OS):        " + list.getOsResidentCount() + " of " + list.getPageCount() + " pages"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("Java heap") ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", line.contains("Java heap") ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createLayoutPanel() {
+        JPanel panel = createSection("FILE LAYOUT");
+
+        String[] diagram = {
+                "file:     [ r0 | r1 | r2 | ... ]   records back to back",
+                "segment:  [ " + VisualMappedList.SEGMENT_BYTES / 1024 + " KB MappedByteBuffer ]   one per "
+                        + VisualMappedList.SEGMENT_BYTES / VisualMappedList.RECORD_BYTES + " records",
+                "page:     [ 4 KB ]   " + VisualMappedList.RECORDS_PER_PAGE + " records",
+                "",
+                "record i sits at file offset i * " + VisualMappedList.RECORD_BYTES + ";",
+                "get(i) picks segment i / perSegment, then reads a long.",
+                "",
+                "The heap holds the buffer objects, not the bytes. A",
+                "first touch of a page that is not in RAM is a page fault:",
+                "the thread stalls while the kernel reads it from disk.",
+                "Sequential faults trigger readahead, random ones do not."
+        };
+
+        for (String line : diagram) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("[") ? ACCENT : new Color(190, 210, 190));
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("MAPPED LIST vs ARRAYLIST");
+
+        VisualMappedList.MemoryInfo mem = list.getMemoryInfo();
+        long n = list.getSize();
+        double perRecordHeap = n == 0 ? 0 : (double) mem.heapBytes() / n;
+        double perRecordList = n == 0 ? 0 : (double) mem.arrayListBytes() / n;
+
+        String[] lines = {
+                "For the current " + n + " records of " + VisualMappedList.RECORD_BYTES + " bytes:",
+                "",
+                String.format("Mapped list:        %s heap  (%.1f B/record)", mem.formatHeap(), perRecordHeap),
+                "  - data in the page cache, outside -Xmx",
+                "  - survives the JVM; the file is the storage",
+                "",
+                String.format("ArrayList<long[]>:  %s heap  (%.1f B/record)", mem.formatArrayList(), perRecordList),
+                "  - array header 16B + payload + 4B reference",
+                "  - every record traced by the GC",
+                "",
+                "Choose a mapped list when:",
+                "  - The dataset outgrows the heap",
+                "  - Access is mostly sequential or has hot pages",
+                "  - Records have a fixed size"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("Mapped list:") || line.startsWith("ArrayList<")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(190, 210, 190);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
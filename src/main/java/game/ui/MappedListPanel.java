@@ -0,0 +1,340 @@
+package game.ui;
+
+import game.model.VisualMappedList;
+import game.model.VisualMappedList.PageState;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import game.ui.ThemeManager;
+
+public class MappedListPanel extends JPanel {
+    private VisualMappedList list;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(170, 230, 120);
+    private static final Color RESIDENT_COLOR = new Color(100, 200, 255);
+    private static final Color PREFETCH_COLOR = new Color(200, 170, 255);
+    private static final Color FAULT_COLOR = new Color(255, 110, 80);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    // One row is one mapped segment
+    private static final int COLS = VisualMappedList.SEGMENT_BYTES / VisualMappedList.PAGE_BYTES;
+    private static final int CELL_WIDTH = 34;
+    private static final int CELL_HEIGHT = 28;
+    private static final int CELL_GAP = 4;
+    private static final int START_X = 80;
+    private static final int START_Y = 110;
+    private static final int FAULT_FLASH_MS = 700;
+    private static final int HIT_FLASH_MS = 250;
+
+    public MappedListPanel(VisualMappedList list) {
+        this.list = list;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            list.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            MappedListMemoryDialog dialog = new MappedListMemoryDialog((Frame) window, list);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int rows = Math.max(1, list.getSegmentCount());
+        int width = Math.max(900, START_X + COLS * (CELL_WIDTH + CELL_GAP) + 270);
+        int height = Math.max(640, START_Y + rows * (CELL_HEIGHT + CELL_GAP) + 110);
+        return new Dimension(width, height);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        drawBackground(g2d);
+        drawPages(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(18, 30, 22)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    private int pageX(int page) { return START_X + (page % COLS) * (CELL_WIDTH + CELL_GAP); }
+    private int pageY(int page) { return START_Y + (page / COLS) * (CELL_HEIGHT + CELL_GAP); }
+
+    // ── Page grid ────────────────────────────────────────────────
+
+    private void drawPages(Graphics2D g2d) {
+        int pages = list.getPageCount();
+        int mapped = list.getMappedPageCount();
+        long now = System.currentTimeMillis();
+
+        if (mapped == 0) {
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 12));
+            g2d.setColor(new Color(150, 170, 150));
+            g2d.drawString("No segments mapped yet: append records to grow the file", START_X, START_Y + 20);
+            return;
+        }
+
+        for (int segment = 0; segment * COLS < mapped; segment++) {
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+            g2d.setColor(new Color(150, 170, 150));
+            g2d.drawString("seg " + segment, 30, pageY(segment * COLS) + CELL_HEIGHT / 2 + 4);
+        }
+
+        for (int page = 0; page < mapped; page++) {
+            drawPage(g2d, page, page < pages, now);
+        }
+
+        long record = list.getLastAccessedRecord();
+        if (record >= 0 && record < list.getSize()) {
+            int page = (int) (record / VisualMappedList.RECORDS_PER_PAGE);
+            float pulse = (float) (0.6 + 0.4 * Math.sin(glowPhase * 6));
+            g2d.setColor(new Color(255, 255, 255, (int) (220 * pulse)));
+            g2d.setStroke(new BasicStroke(2f));
+            g2d.drawRoundRect(pageX(page) - 2, pageY(page) - 2, CELL_WIDTH + 4, CELL_HEIGHT + 4, 8, 8);
+        }
+
+        drawLegend(g2d, START_Y + ((mapped + COLS - 1) / COLS) * (CELL_HEIGHT + CELL_GAP) + 20);
+    }
+
+    private void drawPage(Graphics2D g2d, int page, boolean hasData, long now) {
+        int x = pageX(page);
+        int y = pageY(page);
+
+        if (!hasData) {
+            // Mapped, but past the last record: the file has the bytes, nothing uses them yet
+            g2d.setColor(new Color(50, 60, 50));
+            g2d.setStroke(new BasicStroke(1f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10f, new float[]{3f, 3f}, 0f));
+            g2d.drawRoundRect(x, y, CELL_WIDTH, CELL_HEIGHT, 6, 6);
+            return;
+        }
+
+        PageState state = list.getPageState(page);
+        Color base = state == PageState.RESIDENT ? RESIDENT_COLOR
+                : state == PageState.PREFETCHED ? PREFETCH_COLOR : new Color(70, 80, 75);
+        Color fill = state == PageState.NOT_RESIDENT
+                ? new Color(24, 30, 26)
+                : new Color(base.getRed() / 4, base.getGreen() / 4, base.getBlue() / 4 + 10);
+
+        long sinceFault = now - list.getLastFaultTime(page);
+        long sinceHit = now - list.getLastHitTime(page);
+        Color border = base;
+        if (sinceFault < FAULT_FLASH_MS) {
+            float t = 1f - (float) sinceFault / FAULT_FLASH_MS;
+            fill = blend(fill, FAULT_COLOR, t * 0.8f);
+            border = FAULT_COLOR;
+        } else if (sinceHit < HIT_FLASH_MS) {
+            float t = 1f - (float) sinceHit / HIT_FLASH_MS;
+            fill = blend(fill, base, t * 0.5f);
+        }
+
+        g2d.setColor(fill);
+        g2d.fillRoundRect(x, y, CELL_WIDTH, CELL_HEIGHT, 6, 6);
+        g2d.setColor(border);
+        g2d.setStroke(new BasicStroke(1f));
+        g2d.drawRoundRect(x, y, CELL_WIDTH, CELL_HEIGHT, 6, 6);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+        g2d.setColor(new Color(170, 190, 175));
+        g2d.drawString(String.valueOf(page), x + 3, y + 10);
+
+        // Fill level of the last page with data
+        long firstRecord = (long) page * VisualMappedList.RECORDS_PER_PAGE;
+        long used = Math.min(VisualMappedList.RECORDS_PER_PAGE, list.getSize() - firstRecord);
+        int barWidth = (int) ((CELL_WIDTH - 6) * used / VisualMappedList.RECORDS_PER_PAGE);
+        g2d.setColor(new Color(base.getRed(), base.getGreen(), base.getBlue(), 160));
+        g2d.fillRect(x + 3, y + CELL_HEIGHT - 6, barWidth, 3);
+
+        if (list.isOsResident(page)) {
+            g2d.setColor(ACCENT);
+            g2d.fillOval(x + CELL_WIDTH - 8, y + 3, 5, 5);
+        }
+    }
+
+    private void drawLegend(Graphics2D g2d, int y) {
+        Object[][] entries = {
+                {RESIDENT_COLOR, "resident"},
+                {PREFETCH_COLOR, "read ahead, not touched"},
+                {new Color(70, 80, 75), "not resident"},
+                {FAULT_COLOR, "faulting in"},
+                {ACCENT, "OS says loaded (dot)"}
+        };
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = START_X;
+        for (Object[] entry : entries) {
+            g2d.setColor((Color) entry[0]);
+            g2d.fillRoundRect(x, y - 9, 12, 10, 3, 3);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) entry[1], x + 17, y);
+            x += 17 + g2d.getFontMetrics().stringWidth((String) entry[1]) + 16;
+        }
+
+        g2d.setColor(new Color(150, 170, 150));
+        g2d.drawString(VisualMappedList.RECORDS_PER_PAGE + " records of " + VisualMappedList.RECORD_BYTES
+                + " B per 4 KB page; dashed = mapped but not yet written", START_X, y + 18);
+    }
+
+    private static Color blend(Color a, Color b, float t) {
+        return new Color(
+                (int) (a.getRed() + (b.getRed() - a.getRed()) * t),
+                (int) (a.getGreen() + (b.getGreen() - a.getGreen()) * t),
+                (int) (a.getBlue() + (b.getBlue() - a.getBlue()) * t));
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY-MAPPED LIST VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ fixed " + VisualMappedList.RECORD_BYTES + " B records in a file, MappedByteBuffer per "
+                + VisualMappedList.SEGMENT_BYTES / 1024 + " KB segment ]", 20, 55);
+
+        g2d.setColor(new Color(190, 210, 190));
+        g2d.drawString(list.getLastOperation(), 20, 80);
+
+        if (list.isScanning()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(170, 230, 120, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("SCANNING " + list.getScanPosition() + "/" + list.getSize(), 420, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 225;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("PAGE CACHE STATUS", panelX + 15, panelY + 20);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Records: " + list.getSize() + " / " + VisualMappedList.MAX_RECORDS, panelX + 15, y);
+        y += 15;
+        g2d.drawString("Pages: " + list.getPageCount() + "  Segments: " + list.getSegmentCount(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Resident: " + list.getResidentCount() + " / " + list.getBudgetPages() + " budget",
+                panelX + 15, y);
+        y += 15;
+        g2d.setColor(list.getFaults() > 0 ? FAULT_COLOR : TEXT_COLOR);
+        g2d.drawString("Page faults: " + list.getFaults(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Hits: " + list.getHits(), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Hit ratio: %.1f%%", list.getHitRatio() * 100), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Evictions: " + list.getEvictions(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(PREFETCH_COLOR);
+        g2d.drawString("Read ahead: " + list.getReadaheadPages() + " pages", panelX + 15, y);
+        y += 15;
+        g2d.setColor(ACCENT);
+        g2d.drawString(list.getOsCheckTime() == 0 ? "OS loaded: not checked"
+                : "OS loaded: " + list.getOsResidentCount() + " / " + list.getPageCount() + " pages", panelX + 15, y);
+
+        // Resident share of the budget
+        int barX = panelX + 15;
+        int barY = panelY + panelHeight - 22;
+        int barWidth = panelWidth - 30;
+        int barHeight = 10;
+        g2d.setColor(new Color(24, 30, 26));
+        g2d.fillRoundRect(barX, barY, barWidth, barHeight, 4, 4);
+        int residentWidth = (int) (barWidth * (double) list.getResidentCount() / Math.max(1, list.getBudgetPages()));
+        g2d.setColor(RESIDENT_COLOR);
+        g2d.fillRect(barX, barY, residentWidth, barHeight);
+
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 10);
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualMappedList.MemoryInfo mem = list.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Java heap: " + mem.formatHeap(), x + 15, y + 35);
+        g2d.drawString("Mapped file: " + mem.formatMapped(), x + 15, y + 50);
+        g2d.drawString("ArrayList<long[]>: " + mem.formatArrayList(), x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(190, 210, 190));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(20, 34, 24, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
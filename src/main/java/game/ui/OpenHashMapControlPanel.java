@@ -0,0 +1,419 @@
+package game.ui;
+
+import game.collections.ProbingIntIntMap.Mode;
+import game.model.VisualOpenHashMap;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class OpenHashMapControlPanel extends JPanel {
+    private VisualOpenHashMap map;
+    private Random random = new Random();
+    private JTextField keyField;
+    private JTextField valueField;
+    private JComboBox<String> modeCombo;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(120, 220, 255);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public OpenHashMapControlPanel(VisualOpenHashMap map) {
+        this.map = map;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("PROBING MODE"));
+        add(Box.createVerticalStrut(6));
+
+        modeCombo = new JComboBox<>(new String[]{Mode.LINEAR.getDisplayName(), Mode.ROBIN_HOOD.getDisplayName()});
+        styleComboBox(modeCombo);
+        modeCombo.addActionListener(e -> {
+            Mode mode = modeCombo.getSelectedIndex() == 0 ? Mode.LINEAR : Mode.ROBIN_HOOD;
+            map.setMode(mode);
+            updateStatus("Rebuilt as " + mode.getDisplayName(), SUCCESS_COLOR);
+        });
+        add(modeCombo);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("PUT ENTRY"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("KEY (int):"));
+        keyField = new JTextField();
+        styleTextField(keyField);
+        add(keyField);
+        add(Box.createVerticalStrut(6));
+
+        add(createLabel("VALUE (int):"));
+        valueField = new JTextField();
+        styleTextField(valueField);
+        add(valueField);
+        add(Box.createVerticalStrut(8));
+
+        JButton putBtn = createStyledButton("PUT", ACCENT);
+        putBtn.addActionListener(e -> putEntry());
+        add(putBtn);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("METHODS"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel methodPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        methodPanel.setBackground(BG_COLOR);
+        methodPanel.setMaximumSize(new Dimension(230, 56));
+        methodPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton getBtn = createSmallButton("get(key)", new Color(150, 255, 200));
+        getBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            Integer value = map.get(key);
+            updateStatus("get = " + (value != null ? value : "null"), value != null ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        methodPanel.add(getBtn);
+
+        JButton containsBtn = createSmallButton("containsKey", new Color(150, 200, 255));
+        containsBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            boolean found = map.containsKey(key);
+            updateStatus("containsKey = " + found, found ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        methodPanel.add(containsBtn);
+
+        JButton sizeBtn = createSmallButton("size()", new Color(150, 200, 255));
+        sizeBtn.addActionListener(e -> updateStatus("size() = " + map.getSize(), TEXT_COLOR));
+        methodPanel.add(sizeBtn);
+
+        JButton removeBtn = createSmallButton("remove()", ERROR_COLOR);
+        removeBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            Integer removed = map.remove(key);
+            if (removed != null) {
+                updateStatus("Removed: " + key + " (tombstone)", SUCCESS_COLOR);
+                keyField.setText("");
+            } else {
+                updateStatus("Key not found", ERROR_COLOR);
+            }
+        });
+        methodPanel.add(removeBtn);
+        add(methodPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("OPERATIONS"));
+        add(Box.createVerticalStrut(6));
+
+        JButton clearBtn = createStyledButton("clear()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            map.clear();
+            updateStatus("Cleared all entries", WARN_COLOR);
+        });
+        add(clearBtn);
+        add(Box.createVerticalStrut(8));
+
+        JPanel autoPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        autoPanel.setBackground(BG_COLOR);
+        autoPanel.setMaximumSize(new Dimension(230, 56));
+        autoPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton fill10Btn = createSmallButton("Fill x10", new Color(100, 200, 230));
+        fill10Btn.addActionListener(e -> autoFill(10));
+        autoPanel.add(fill10Btn);
+
+        JButton fill20Btn = createSmallButton("Fill x20", new Color(120, 220, 250));
+        fill20Btn.addActionListener(e -> autoFill(20));
+        autoPanel.add(fill20Btn);
+
+        JButton removeRandomBtn = createSmallButton("Remove x5", new Color(150, 110, 170));
+        removeRandomBtn.addActionListener(e -> removeRandom(5));
+        autoPanel.add(removeRandomBtn);
+
+        // Remove-then-insert at a steady size: the workload that piles up tombstones
+        JButton churnBtn = createSmallButton("Churn x20", new Color(200, 150, 230));
+        churnBtn.addActionListener(e -> churn(20));
+        autoPanel.add(churnBtn);
+        add(autoPanel);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    private void autoFill(int count) {
+        Timer timer = new Timer(150, null);
+        final int[] added = {0};
+        timer.addActionListener(evt -> {
+            if (added[0] < count) {
+                map.put(VisualOpenHashMap.generateRandomKey(random), VisualOpenHashMap.generateRandomValue(random));
+                added[0]++;
+                updateStatus("Adding... " + added[0] + "/" + count, SUCCESS_COLOR);
+            } else {
+                timer.stop();
+                updateStatus("Added " + count + " entries", SUCCESS_COLOR);
+            }
+        });
+        timer.start();
+    }
+
+    private void removeRandom(int count) {
+        int removed = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = randomFullSlot();
+            if (slot < 0) break;
+            map.remove(map.getKeyAt(slot));
+            removed++;
+        }
+        updateStatus("Removed " + removed + ", tombstones: " + map.getTombstones(), removed > 0 ? SUCCESS_COLOR : WARN_COLOR);
+    }
+
+    private void churn(int count) {
+        Timer timer = new Timer(120, null);
+        final int[] done = {0};
+        timer.addActionListener(evt -> {
+            int slot = randomFullSlot();
+            if (done[0] < count && slot >= 0) {
+                map.remove(map.getKeyAt(slot));
+                map.put(VisualOpenHashMap.generateRandomKey(random), VisualOpenHashMap.generateRandomValue(random));
+                done[0]++;
+                updateStatus("Churn " + done[0] + "/" + count + ", tombstones: " + map.getTombstones(), SUCCESS_COLOR);
+            } else {
+                timer.stop();
+                updateStatus(done[0] == 0 ? "Fill the table first" : "Churned " + done[0] + " entries",
+                        done[0] == 0 ? WARN_COLOR : SUCCESS_COLOR);
+            }
+        });
+        timer.start();
+    }
+
+    private int randomFullSlot() {
+        int capacity = map.getCapacity();
+        if (map.getSize() == 0) return -1;
+        int start = random.nextInt(capacity);
+        for (int i = 0; i < capacity; i++) {
+            int slot = (start + i) % capacity;
+            if (map.isFull(slot)) return slot;
+        }
+        return -1;
+    }
+
+    private void putEntry() {
+        String keyText = keyField.getText().trim();
+        String valueText = valueField.getText().trim();
+        try {
+            int key = keyText.isEmpty() ? VisualOpenHashMap.generateRandomKey(random) : Integer.parseInt(keyText);
+            int value = valueText.isEmpty() ? VisualOpenHashMap.generateRandomValue(random) : Integer.parseInt(valueText);
+            // The map reports "no mapping" as Integer.MIN_VALUE
+            if (value == Integer.MIN_VALUE) {
+                updateStatus("Value reserved as missing marker", ERROR_COLOR);
+                return;
+            }
+            map.put(key, value);
+            updateStatus("Put: " + key + " -> " + value, SUCCESS_COLOR);
+            keyField.setText("");
+            valueField.setText("");
+        } catch (NumberFormatException ex) {
+            updateStatus("Keys and values are int", ERROR_COLOR);
+        }
+    }
+
+    private Integer readKey() {
+        String keyText = keyField.getText().trim();
+        if (keyText.isEmpty()) {
+            updateStatus("Enter key first", WARN_COLOR);
+            return null;
+        }
+        try {
+            return Integer.parseInt(keyText);
+        } catch (NumberFormatException ex) {
+            updateStatus("Keys are int", ERROR_COLOR);
+            return null;
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleComboBox(JComboBox<String> combo) {
+        combo.setBackground(BUTTON_BG);
+        combo.setForeground(TEXT_COLOR);
+        combo.setFont(new Font("Consolas", Font.PLAIN, 13));
+        combo.setMaximumSize(new Dimension(250, 26));
+        combo.setAlignmentX(LEFT_ALIGNMENT);
+        combo.setBorder(BorderFactory.createLineBorder(ACCENT.darker(), 1));
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("OPEN ADDRESSING INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "No nodes, no boxing",
+                "Probes walk adjacent slots",
+                "Robin Hood: rich give way",
+                "Removes leave tombstones",
+                "Load factor: 0.85"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(170, 200, 215));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
@@ -0,0 +1,170 @@
+package game.ui;
+
+import game.collections.OffHeapLongLongMap;
+import game.model.VisualOpenHashMap;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import game.ui.ThemeManager;
+
+public class OpenHashMapMemoryDialog extends JDialog {
+    private VisualOpenHashMap map;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(120, 220, 255);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public OpenHashMapMemoryDialog(Frame parent, VisualOpenHashMap map) {
+        super(parent, "Open Addressing Memory Analysis", true);
+        this.map = map;
+
+        setSize(650, 600);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createLayoutPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualOpenHashMap.MemoryInfo mem = map.getMemoryInfo();
+
+        String[] lines = {
+                "Total Memory Used: " + mem.formatTotal(),
+                "",
+                "Map object:          " + mem.mapOverhead() + " bytes",
+                "int[] keys:          " + mem.keysArray() + " bytes",
+                "int[] values:        " + mem.valuesArray() + " bytes",
+                "byte[] states:       " + mem.statesArray() + " bytes",
+                "",
+                "Held by tombstones:  " + mem.tombstoneBytes() + " bytes (" + map.getTombstones() + " slots)"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("Total") ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", line.contains("Total") ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createLayoutPanel() {
+        JPanel panel = createSection("SLOT LAYOUT (9 bytes per slot)");
+
+        String[] diagram = {
+                "keys:   [ k0 | k1 | k2 | k3 | ... ]   4 bytes each",
+                "values: [ v0 | v1 | v2 | v3 | ... ]   4 bytes each",
+                "states: [ F  | T  | -  | F  | ... ]   1 byte each",
+                "",
+                "F = full, T = tombstone, - = free",
+                "",
+                "Slot i holds keys[i] -> values[i]: no Node, no Integer.",
+                "A probe reads neighbouring ints, 16 per cache line,",
+                "where a HashMap chain follows a pointer per entry.",
+                "",
+                "Every slot costs 9 bytes whether full or not,",
+                "so empty and tombstone slots are paid for too."
+        };
+
+        for (String line : diagram) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("[") ? ACCENT : new Color(170, 200, 215));
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("OPEN ADDRESSING vs HASHMAP");
+
+        VisualOpenHashMap.MemoryInfo mem = map.getMemoryInfo();
+        int n = map.getSize();
+        double perEntryOpen = n == 0 ? 0 : (double) mem.totalUsed() / n;
+        double perEntryBoxed = n == 0 ? 0 : (double) mem.boxedHashMap() / n;
+
+        String[] lines = {
+                "For the current " + n + " int->int entries:",
+                "",
+                String.format("Open addressing:           %s  (%.1f B/entry)", mem.formatTotal(), perEntryOpen),
+                "  - flat arrays, load factor " + map.getLoadFactor(),
+                "",
+                String.format("HashMap<Integer,Integer>:  %s  (%.1f B/entry)", mem.formatBoxedHashMap(), perEntryBoxed),
+                "  - Node 32B + Integer key 16B + Integer value 16B",
+                "  - Integer cache covers -128..127 only",
+                "",
+                String.format("Off-heap (long->long):     %d B heap + %d B native",
+                        OffHeapLongLongMap.onHeapBytesFor(n), OffHeapLongLongMap.offHeapBytesFor(n)),
+                "  - same probing, slots in direct buffers the GC never scans",
+                "",
+                "Choose open addressing when:",
+                "  - Keys and values are primitives",
+                "  - Lookups dominate and latency matters",
+                "  - Removes are rare, or the table is rebuilt"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("Open addressing:") || line.startsWith("HashMap<") || line.startsWith("Off-heap")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(170, 200, 215);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
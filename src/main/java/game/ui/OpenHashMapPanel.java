@@ -0,0 +1,384 @@
+package game.ui;
+
+import game.model.VisualOpenHashMap;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import game.ui.ThemeManager;
+
+public class OpenHashMapPanel extends JPanel {
+    private VisualOpenHashMap map;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(120, 220, 255);
+    private static final Color TOMBSTONE_COLOR = new Color(150, 110, 170);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    private static final int COLS = 8;
+    private static final int CELL_WIDTH = 64;
+    private static final int CELL_HEIGHT = 52;
+    private static final int CELL_GAP = 6;
+    private static final int START_X = 40;
+    private static final int START_Y = 110;
+    // How long each slot of the last probe run takes to light up
+    private static final int PROBE_STEP_MS = 110;
+
+    public OpenHashMapPanel(VisualOpenHashMap map) {
+        this.map = map;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            map.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            OpenHashMapMemoryDialog dialog = new OpenHashMapMemoryDialog((Frame) window, map);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int rows = (map.getCapacity() + COLS - 1) / COLS;
+        int width = Math.max(900, START_X + COLS * (CELL_WIDTH + CELL_GAP) + 260);
+        int height = Math.max(640, START_Y + rows * (CELL_HEIGHT + CELL_GAP) + 60);
+        return new Dimension(width, height);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        drawBackground(g2d);
+        drawSlots(g2d);
+        drawProbeRun(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(15, 28, 38)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    private int slotX(int slot) { return START_X + (slot % COLS) * (CELL_WIDTH + CELL_GAP); }
+    private int slotY(int slot) { return START_Y + (slot / COLS) * (CELL_HEIGHT + CELL_GAP); }
+
+    // ── Slot array ───────────────────────────────────────────────
+
+    private void drawSlots(Graphics2D g2d) {
+        int capacity = map.getCapacity();
+        for (int i = 0; i < capacity; i++) {
+            drawSlot(g2d, i, slotX(i), slotY(i));
+        }
+    }
+
+    private void drawSlot(Graphics2D g2d, int slot, int x, int y) {
+        boolean full = map.isFull(slot);
+        boolean tombstone = map.isTombstone(slot);
+
+        Color fill;
+        Color border;
+        if (full) {
+            Color d = displacementColor(map.getDisplacement(slot));
+            fill = new Color(d.getRed() / 4, d.getGreen() / 4, d.getBlue() / 4 + 10);
+            border = d;
+        } else if (tombstone) {
+            fill = new Color(40, 30, 45);
+            border = TOMBSTONE_COLOR;
+        } else {
+            fill = new Color(22, 32, 40);
+            border = new Color(50, 70, 85);
+        }
+
+        g2d.setColor(fill);
+        g2d.fillRoundRect(x, y, CELL_WIDTH, CELL_HEIGHT, 8, 8);
+        g2d.setColor(border);
+        g2d.setStroke(new BasicStroke(1f));
+        g2d.drawRoundRect(x, y, CELL_WIDTH, CELL_HEIGHT, 8, 8);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+        g2d.setColor(new Color(130, 150, 165));
+        g2d.drawString("[" + slot + "]", x + 4, y + 10);
+
+        if (!full && !tombstone) return;
+
+        String key = String.valueOf(map.getKeyAt(slot));
+        String value = String.valueOf(map.getValueAt(slot));
+        int displacement = map.getDisplacement(slot);
+        FontMetrics fm;
+
+        if (tombstone) {
+            g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+            g2d.setColor(TOMBSTONE_COLOR);
+            fm = g2d.getFontMetrics();
+            g2d.drawString("RIP", x + CELL_WIDTH - fm.stringWidth("RIP") - 4, y + 10);
+            g2d.setColor(new Color(TOMBSTONE_COLOR.getRed(), TOMBSTONE_COLOR.getGreen(), TOMBSTONE_COLOR.getBlue(), 140));
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+            fm = g2d.getFontMetrics();
+            int kx = x + (CELL_WIDTH - fm.stringWidth(key)) / 2;
+            g2d.drawString(key, kx, y + 28);
+            g2d.drawLine(kx - 2, y + 24, kx + fm.stringWidth(key) + 2, y + 24);
+            return;
+        }
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 12));
+        g2d.setColor(TEXT_COLOR);
+        fm = g2d.getFontMetrics();
+        g2d.drawString(key, x + (CELL_WIDTH - fm.stringWidth(key)) / 2, y + 27);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(new Color(180, 200, 210));
+        fm = g2d.getFontMetrics();
+        g2d.drawString(value, x + (CELL_WIDTH - fm.stringWidth(value)) / 2, y + 40);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 8));
+        g2d.setColor(displacementColor(displacement));
+        String d = "d" + displacement;
+        fm = g2d.getFontMetrics();
+        g2d.drawString(d, x + CELL_WIDTH - fm.stringWidth(d) - 4, y + CELL_HEIGHT - 4);
+    }
+
+    // Green at home, through yellow, to red for entries far from their home slot
+    private static Color displacementColor(int displacement) {
+        double t = Math.min(1.0, displacement / 6.0);
+        int r = (int) (100 + 155 * Math.min(1.0, t * 2));
+        int g = (int) (255 - 155 * Math.max(0.0, t * 2 - 1));
+        return new Color(r, g, 120);
+    }
+
+    // ── Last probe run ───────────────────────────────────────────
+
+    private void drawProbeRun(Graphics2D g2d) {
+        int length = map.getLastProbeLength();
+        if (length == 0) return;
+
+        int start = map.getLastProbeStart();
+        int capacity = map.getCapacity();
+        long elapsed = System.currentTimeMillis() - map.getLastProbeTime();
+        int visible = (int) Math.min(length, elapsed / PROBE_STEP_MS + 1);
+        boolean finished = visible == length;
+
+        // Home slot marker
+        int hx = slotX(start);
+        int hy = slotY(start);
+        g2d.setColor(ACCENT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+        g2d.drawString("HOME", hx + 2, hy - 3);
+
+        for (int step = 0; step < visible; step++) {
+            int slot = (start + step) % capacity;
+            int x = slotX(slot);
+            int y = slotY(slot);
+            boolean last = step == length - 1;
+
+            Color color = ACCENT;
+            if (finished && last) {
+                color = map.getLastSlot() >= 0 ? new Color(100, 255, 150) : new Color(255, 100, 100);
+            }
+            float pulse = (float) (0.6 + 0.4 * Math.sin(glowPhase * 6));
+            g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (255 * (last ? pulse : 0.8f))));
+            g2d.setStroke(new BasicStroke(last ? 2.5f : 1.8f));
+            g2d.drawRoundRect(x - 2, y - 2, CELL_WIDTH + 4, CELL_HEIGHT + 4, 10, 10);
+
+            g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+            g2d.drawString(String.valueOf(step + 1), x + 4, y + CELL_HEIGHT - 4);
+        }
+
+        // A Robin Hood insert can leave the new key before the end of its run
+        int slot = map.getLastSlot();
+        if (finished && slot >= 0 && slot != (start + length - 1) % capacity) {
+            g2d.setColor(new Color(100, 255, 150));
+            g2d.setStroke(new BasicStroke(2.5f));
+            g2d.drawRoundRect(slotX(slot) - 4, slotY(slot) - 4, CELL_WIDTH + 8, CELL_HEIGHT + 8, 12, 12);
+        }
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("OPEN ADDRESSING VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ int[] keys / int[] values, " + map.getMode().getDisplayName() + ", tombstone deletes ]", 20, 55);
+
+        g2d.setColor(new Color(180, 200, 210));
+        g2d.drawString(map.getLastOperation(), 20, 80);
+
+        if (map.wasJustRehashed()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(120, 220, 255, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("REHASH!", 370, 35);
+        }
+    }
+
+    // ── Stats, histogram, memory ─────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 190;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("TABLE STATUS", panelX + 15, panelY + 20);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Mode: " + map.getMode().getDisplayName(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Size: " + map.getSize() + " / Capacity: " + map.getCapacity(), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Load: %.1f%% (max %.0f%%)", map.getCurrentLoad() * 100, map.getLoadFactor() * 100),
+                panelX + 15, y);
+        y += 15;
+        g2d.setColor(map.getTombstones() > 0 ? TOMBSTONE_COLOR : TEXT_COLOR);
+        g2d.drawString(String.format("Tombstones: %d (%.1f%%)", map.getTombstones(), map.getTombstoneLoad() * 100),
+                panelX + 15, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Rehashes: " + map.getRehashCount() + "  Cleanups: " + map.getCleanupCount(), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Avg probe (hit): %.2f", map.getAverageProbeLength()), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Avg probes/op:   %.2f", map.getAverageProbesPerOperation()), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Max displacement: " + map.getMaxDisplacement(), panelX + 15, y);
+
+        // Live / tombstone / free share of the slot array
+        int barX = panelX + 15;
+        int barY = panelY + panelHeight - 22;
+        int barWidth = panelWidth - 30;
+        int barHeight = 10;
+        g2d.setColor(new Color(22, 32, 40));
+        g2d.fillRoundRect(barX, barY, barWidth, barHeight, 4, 4);
+        int liveWidth = (int) (barWidth * map.getCurrentLoad());
+        int tombWidth = (int) (barWidth * map.getTombstoneLoad());
+        g2d.setColor(new Color(100, 255, 150));
+        g2d.fillRect(barX, barY, liveWidth, barHeight);
+        g2d.setColor(TOMBSTONE_COLOR);
+        g2d.fillRect(barX + liveWidth, barY, tombWidth, barHeight);
+        int limitX = barX + (int) (barWidth * map.getLoadFactor());
+        g2d.setColor(new Color(255, 100, 100));
+        g2d.drawLine(limitX, barY - 3, limitX, barY + barHeight + 3);
+
+        int histogramY = panelY + panelHeight + 10;
+        drawHistogram(g2d, panelX, histogramY);
+        drawMemoryPanel(g2d, panelX, histogramY + 150);
+    }
+
+    private void drawHistogram(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 140;
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("DISPLACEMENT HISTOGRAM", x + 15, y + 20);
+
+        int[] histogram = map.getDisplacementHistogram();
+        int max = 1;
+        for (int c : histogram) max = Math.max(max, c);
+
+        int chartX = x + 15;
+        int chartBottom = y + height - 22;
+        int chartHeight = height - 55;
+        int barWidth = (width - 30) / histogram.length;
+        for (int i = 0; i < histogram.length; i++) {
+            int barHeight = (int) ((double) histogram[i] / max * chartHeight);
+            int bx = chartX + i * barWidth;
+            g2d.setColor(displacementColor(i));
+            g2d.fillRect(bx + 2, chartBottom - barHeight, barWidth - 4, barHeight);
+
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+            g2d.setColor(TEXT_COLOR);
+            String count = String.valueOf(histogram[i]);
+            FontMetrics fm = g2d.getFontMetrics();
+            if (histogram[i] > 0) {
+                g2d.drawString(count, bx + (barWidth - fm.stringWidth(count)) / 2, chartBottom - barHeight - 2);
+            }
+            String label = i == histogram.length - 1 ? i + "+" : String.valueOf(i);
+            g2d.drawString(label, bx + (barWidth - fm.stringWidth(label)) / 2, chartBottom + 11);
+        }
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 75;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualOpenHashMap.MemoryInfo mem = map.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total: " + mem.formatTotal(), x + 15, y + 35);
+        g2d.drawString("HashMap<Integer,Integer>: " + mem.formatBoxedHashMap(), x + 15, y + 50);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(170, 200, 215));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 66);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(18, 32, 42, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
@@ -0,0 +1,350 @@
+package game.ui;
+
+import game.model.VisualRoaringSet;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import java.util.function.IntConsumer;
+import game.ui.ThemeManager;
+
+public class RoaringSetControlPanel extends JPanel {
+    private VisualRoaringSet set;
+    private Random random = new Random();
+    private JTextField valueField;
+    private JComboBox<String> chunkCombo;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(240, 130, 200);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public RoaringSetControlPanel(VisualRoaringSet set) {
+        this.set = set;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("VALUE"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("INT (0.." + (VisualRoaringSet.CHUNKS * VisualRoaringSet.CHUNK_VALUES - 1) + "):"));
+        valueField = new JTextField();
+        styleTextField(valueField);
+        add(valueField);
+        add(Box.createVerticalStrut(8));
+
+        JPanel opPanel = new JPanel(new GridLayout(1, 3, 4, 4));
+        opPanel.setBackground(BG_COLOR);
+        opPanel.setMaximumSize(new Dimension(230, 26));
+        opPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton addBtn = createSmallButton("add", new Color(150, 230, 150));
+        addBtn.addActionListener(e -> withValue(v -> {
+            if (set.add(v)) updateStatus("Added " + v, SUCCESS_COLOR);
+            else updateStatus(v + " not added", WARN_COLOR);
+        }));
+        opPanel.add(addBtn);
+
+        JButton removeBtn = createSmallButton("remove", new Color(255, 120, 120));
+        removeBtn.addActionListener(e -> withValue(v -> {
+            if (set.remove(v)) updateStatus("Removed " + v, SUCCESS_COLOR);
+            else updateStatus(v + " not present", WARN_COLOR);
+        }));
+        opPanel.add(removeBtn);
+
+        JButton containsBtn = createSmallButton("contains", new Color(255, 230, 100));
+        containsBtn.addActionListener(e -> withValue(v -> {
+            boolean found = set.contains(v);
+            updateStatus("contains(" + v + ") = " + found, found ? SUCCESS_COLOR : WARN_COLOR);
+        }));
+        opPanel.add(containsBtn);
+        add(opPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("DENSITY"));
+        add(Box.createVerticalStrut(6));
+
+        String[] chunkNames = new String[VisualRoaringSet.CHUNKS];
+        for (int c = 0; c < chunkNames.length; c++) {
+            chunkNames[c] = "chunk " + c + " (" + c * VisualRoaringSet.CHUNK_VALUES + "..)";
+        }
+        chunkCombo = new JComboBox<>(chunkNames);
+        styleComboBox(chunkCombo);
+        add(chunkCombo);
+        add(Box.createVerticalStrut(6));
+
+        JPanel densityPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        densityPanel.setBackground(BG_COLOR);
+        densityPanel.setMaximumSize(new Dimension(230, 56));
+        densityPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        // Eight presses push an array past 4096 values and into a bitmap
+        JButton sprinkleBtn = createSmallButton("+600 random", new Color(120, 220, 150));
+        sprinkleBtn.addActionListener(e -> {
+            int added = set.addRandom(chunk(), 600);
+            updateStatus("+" + added + ", chunk holds " + set.cardinalityOf(chunk()), SUCCESS_COLOR);
+        });
+        densityPanel.add(sprinkleBtn);
+
+        JButton thinBtn = createSmallButton("-1500 random", new Color(255, 170, 80));
+        thinBtn.addActionListener(e -> {
+            int removed = set.removeRandom(chunk(), 1500);
+            updateStatus("-" + removed + ", chunk holds " + set.cardinalityOf(chunk()), removed > 0 ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        densityPanel.add(thinBtn);
+
+        JButton runBtn = createSmallButton("+8000 run", new Color(170, 140, 255));
+        runBtn.addActionListener(e -> {
+            int added = set.addRun(chunk(), 8000);
+            updateStatus("+" + added + " consecutive", SUCCESS_COLOR);
+        });
+        densityPanel.add(runBtn);
+
+        JButton optimizeBtn = createSmallButton("runOptimize", ACCENT);
+        optimizeBtn.addActionListener(e -> {
+            int changed = set.runOptimize();
+            updateStatus(changed + " containers re-encoded", changed > 0 ? SUCCESS_COLOR : TEXT_COLOR);
+        });
+        densityPanel.add(optimizeBtn);
+        add(densityPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("SET ALGEBRA"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel algebraPanel = new JPanel(new GridLayout(1, 3, 4, 4));
+        algebraPanel.setBackground(BG_COLOR);
+        algebraPanel.setMaximumSize(new Dimension(230, 26));
+        algebraPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton operandBtn = createSmallButton("New B", new Color(100, 180, 255));
+        operandBtn.addActionListener(e -> {
+            set.newOperand();
+            updateStatus("B has " + set.getOperandSize() + " values", SUCCESS_COLOR);
+        });
+        algebraPanel.add(operandBtn);
+
+        JButton orBtn = createSmallButton("A or B", new Color(150, 230, 150));
+        orBtn.addActionListener(e -> {
+            set.union();
+            updateStatus("Union: " + set.getSize() + " values", SUCCESS_COLOR);
+        });
+        algebraPanel.add(orBtn);
+
+        JButton andBtn = createSmallButton("A and B", new Color(255, 200, 100));
+        andBtn.addActionListener(e -> {
+            set.intersect();
+            updateStatus("Intersection: " + set.getSize() + " values", SUCCESS_COLOR);
+        });
+        algebraPanel.add(andBtn);
+        add(algebraPanel);
+        add(Box.createVerticalStrut(10));
+
+        JButton clearBtn = createStyledButton("clear()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            set.clear();
+            updateStatus("Set cleared", WARN_COLOR);
+        });
+        add(clearBtn);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    private int chunk() {
+        return chunkCombo.getSelectedIndex();
+    }
+
+    private void withValue(IntConsumer action) {
+        String text = valueField.getText().trim();
+        try {
+            action.accept(text.isEmpty() ? VisualRoaringSet.generateRandomValue(random) : Integer.parseInt(text));
+        } catch (NumberFormatException ex) {
+            updateStatus("Value is an int", ERROR_COLOR);
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleComboBox(JComboBox<String> combo) {
+        combo.setBackground(BUTTON_BG);
+        combo.setForeground(TEXT_COLOR);
+        combo.setFont(new Font("Consolas", Font.PLAIN, 13));
+        combo.setMaximumSize(new Dimension(250, 26));
+        combo.setAlignmentX(LEFT_ALIGNMENT);
+        combo.setBorder(BorderFactory.createLineBorder(ACCENT.darker(), 1));
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("ROARING INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "High 16 bits pick a container",
+                "Array up to 4096, then bitmap",
+                "Runs for consecutive values",
+                "OR/AND work chunk by chunk",
+                "Bitmap AND/OR: 1024 word ops"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(220, 190, 210));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
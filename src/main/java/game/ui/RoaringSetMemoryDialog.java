@@ -0,0 +1,172 @@
+package game.ui;
+
+import game.model.VisualRoaringSet;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import game.ui.ThemeManager;
+
+public class RoaringSetMemoryDialog extends JDialog {
+    private VisualRoaringSet set;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(240, 130, 200);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public RoaringSetMemoryDialog(Frame parent, VisualRoaringSet set) {
+        super(parent, "Roaring Bitmap Memory Analysis", true);
+        this.set = set;
+
+        setSize(650, 660);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createContainersPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualRoaringSet.MemoryInfo mem = set.getMemoryInfo();
+
+        String[] lines = {
+                "Total heap used: " + mem.formatTotal(),
+                "",
+                "Values:       " + set.getSize() + " in " + set.getContainerCount() + " containers",
+                "Payload:      " + mem.formatPayload() + " (values, bits or runs)",
+                "Overhead:     " + mem.formatOverhead() + " (key array, container objects, spare capacity)",
+                "",
+                String.format("Bytes per element: %.2f", set.getBytesPerElement())
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            boolean highlight = line.contains("Total") || line.startsWith("Bytes per");
+            label.setForeground(highlight ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", highlight ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createContainersPanel() {
+        JPanel panel = createSection("CONTAINERS");
+
+        for (int chunk = 0; chunk < VisualRoaringSet.CHUNKS; chunk++) {
+            if (set.typeOf(chunk) == null) continue;
+            int card = set.cardinalityOf(chunk);
+            String line = String.format("key %d  %-6s  %6d values  %6d B  (array %s, bitmap 8192, run %d)",
+                    chunk, set.typeOf(chunk), card, set.bytesOf(chunk),
+                    card <= 4096 ? String.valueOf(2 * card) : "-", 2 + 4 * set.runsOf(chunk));
+            JLabel label = new JLabel(line);
+            label.setForeground(TEXT_COLOR);
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        String[] notes = {
+                "",
+                "value -> [ high 16 bits: key ] [ low 16 bits: stored in the container ]",
+                "ARRAY costs 2 B/value, BITMAP a flat 8 KB: they cross at 4096 values.",
+                "RUN costs 4 B per stretch of consecutive values, whatever its length."
+        };
+        for (String line : notes) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("[") ? ACCENT : new Color(220, 190, 210));
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("ROARING vs HASHSET vs TREESET");
+
+        VisualRoaringSet.MemoryInfo mem = set.getMemoryInfo();
+        int n = set.getSize();
+        double perHash = n == 0 ? 0 : (double) mem.hashSet() / n;
+        double perTree = n == 0 ? 0 : (double) mem.treeSet() / n;
+
+        String[] lines = {
+                "For the current " + n + " values:",
+                "",
+                String.format("Roaring bitmap:     %s  (%.2f B/elem)", mem.formatTotal(), set.getBytesPerElement()),
+                "  - 0.125 to 2 bytes per value, less for runs",
+                "  - OR/AND on whole words, 64 values at a time",
+                "",
+                String.format("HashSet<Integer>:   %s  (%.1f B/elem)", mem.formatHashSet(), perHash),
+                "  - 32B node + 16B Integer + table slot per value",
+                "  - set algebra is a lookup per element",
+                "",
+                String.format("TreeSet<Integer>:   %s  (%.1f B/elem)", mem.formatTreeSet(), perTree),
+                "  - 40B entry + 16B Integer per value",
+                "",
+                "Choose a Roaring bitmap when:",
+                "  - Sets of ints are large or dense",
+                "  - Unions and intersections are hot"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("Roaring bitmap:") || line.startsWith("HashSet<") || line.startsWith("TreeSet<")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(220, 190, 210);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
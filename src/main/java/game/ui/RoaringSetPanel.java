@@ -0,0 +1,373 @@
+package game.ui;
+
+import game.collections.RoaringIntSet;
+import game.collections.RoaringIntSet.ContainerType;
+import game.model.VisualRoaringSet;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import game.ui.ThemeManager;
+
+public class RoaringSetPanel extends JPanel {
+    private VisualRoaringSet set;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(240, 130, 200);
+    private static final Color ARRAY_COLOR = new Color(120, 220, 150);
+    private static final Color BITMAP_COLOR = new Color(255, 170, 80);
+    private static final Color RUN_COLOR = new Color(170, 140, 255);
+    private static final Color OPERAND_COLOR = new Color(100, 180, 255);
+    private static final Color SEARCH_COLOR = new Color(255, 230, 100);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    private static final int LABEL_X = 20;
+    private static final int LABEL_WIDTH = 150;
+    private static final int STRIP_X = 185;
+    private static final int CELL_WIDTH = 4;
+    private static final int STRIP_WIDTH = VisualRoaringSet.BUCKETS * CELL_WIDTH;
+    private static final int COST_X = STRIP_X + STRIP_WIDTH + 15;
+    private static final int COST_WIDTH = 150;
+    private static final int START_Y = 110;
+    private static final int ROW_HEIGHT = 46;
+    private static final int ROW_GAP = 10;
+    private static final int BITMAP_BYTES = 8192;
+
+    public RoaringSetPanel(VisualRoaringSet set) {
+        this.set = set;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            set.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            RoaringSetMemoryDialog dialog = new RoaringSetMemoryDialog((Frame) window, set);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int height = START_Y + VisualRoaringSet.CHUNKS * (ROW_HEIGHT + ROW_GAP) + 80;
+        return new Dimension(COST_X + COST_WIDTH + 270, Math.max(640, height));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        drawBackground(g2d);
+        drawChunks(g2d);
+        drawLegend(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(30, 16, 30)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    private static Color colorOf(ContainerType type) {
+        if (type == null) return new Color(90, 90, 110);
+        switch (type) {
+            case ARRAY:  return ARRAY_COLOR;
+            case BITMAP: return BITMAP_COLOR;
+            default:     return RUN_COLOR;
+        }
+    }
+
+    // ── Chunk rows ───────────────────────────────────────────────
+
+    private void drawChunks(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("HIGH 16 BITS -> CONTAINER", LABEL_X, START_Y - 8);
+        g2d.drawString("LOW 16 BITS: DENSITY PER " + VisualRoaringSet.BUCKET_VALUES + " VALUES (A above, B below)",
+                STRIP_X, START_Y - 8);
+        g2d.drawString("PAYLOAD IF ENCODED AS", COST_X, START_Y - 8);
+
+        for (int chunk = 0; chunk < VisualRoaringSet.CHUNKS; chunk++) {
+            int y = START_Y + chunk * (ROW_HEIGHT + ROW_GAP);
+            drawChunkLabel(g2d, chunk, y);
+            drawDensityStrip(g2d, chunk, y);
+            drawEncodingCosts(g2d, chunk, y);
+        }
+    }
+
+    private void drawChunkLabel(Graphics2D g2d, int chunk, int y) {
+        ContainerType type = set.typeOf(chunk);
+        ContainerType previous = set.getPreviousType(chunk);
+        Color color = colorOf(type);
+
+        g2d.setColor(new Color(34, 22, 36));
+        g2d.fillRoundRect(LABEL_X, y, LABEL_WIDTH, ROW_HEIGHT, 8, 8);
+        if (previous != null) {
+            float pulse = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (120 + 135 * pulse)));
+            g2d.setStroke(new BasicStroke(3f));
+        } else {
+            g2d.setColor(type == null ? new Color(70, 60, 80) : color.darker());
+            g2d.setStroke(new BasicStroke(1.2f));
+        }
+        g2d.drawRoundRect(LABEL_X, y, LABEL_WIDTH, ROW_HEIGHT, 8, 8);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("key " + chunk, LABEL_X + 8, y + 15);
+        g2d.setColor(color);
+        String badge = type == null ? "-" : type.name();
+        if (previous != null) badge = previous.name() + ">" + badge;
+        g2d.drawString(badge, LABEL_X + 56, y + 15);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(TEXT_COLOR);
+        int card = set.cardinalityOf(chunk);
+        g2d.drawString(card + " values, " + set.bytesOf(chunk) + " B", LABEL_X + 8, y + 29);
+
+        // Array fill toward the 4096 switch point
+        if (type == ContainerType.ARRAY) {
+            int width = (LABEL_WIDTH - 16) * Math.min(card, RoaringIntSet.ARRAY_MAX) / RoaringIntSet.ARRAY_MAX;
+            g2d.setColor(new Color(60, 50, 70));
+            g2d.fillRect(LABEL_X + 8, y + 36, LABEL_WIDTH - 16, 4);
+            g2d.setColor(card > RoaringIntSet.ARRAY_MAX * 3 / 4 ? BITMAP_COLOR : ARRAY_COLOR);
+            g2d.fillRect(LABEL_X + 8, y + 36, width, 4);
+        } else if (type == ContainerType.RUN) {
+            g2d.setColor(RUN_COLOR);
+            g2d.drawString(set.runsOf(chunk) + " runs", LABEL_X + 8, y + 41);
+        }
+    }
+
+    private void drawDensityStrip(Graphics2D g2d, int chunk, int y) {
+        ContainerType type = set.typeOf(chunk);
+        Color color = colorOf(type);
+        int stripHeight = ROW_HEIGHT - 14;
+
+        g2d.setColor(new Color(24, 18, 28));
+        g2d.fillRect(STRIP_X, y, STRIP_WIDTH, ROW_HEIGHT);
+        for (int bucket = 0; bucket < VisualRoaringSet.BUCKETS; bucket++) {
+            int count = set.getDensity(chunk, bucket);
+            int x = STRIP_X + bucket * CELL_WIDTH;
+            if (count > 0) {
+                // Square root so a sprinkle of values is still visible next to a full bucket
+                double fill = Math.sqrt((double) count / VisualRoaringSet.BUCKET_VALUES);
+                int h = Math.max(2, (int) (stripHeight * fill));
+                g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), (int) (90 + 165 * fill)));
+                g2d.fillRect(x, y + stripHeight - h, CELL_WIDTH - 1, h);
+            }
+            int operand = set.getOperandDensity(chunk, bucket);
+            if (operand > 0) {
+                double fill = Math.sqrt((double) operand / VisualRoaringSet.BUCKET_VALUES);
+                g2d.setColor(new Color(OPERAND_COLOR.getRed(), OPERAND_COLOR.getGreen(), OPERAND_COLOR.getBlue(),
+                        (int) (60 + 195 * fill)));
+                g2d.fillRect(x, y + stripHeight + 4, CELL_WIDTH - 1, 8);
+            }
+        }
+        g2d.setColor(new Color(80, 60, 90));
+        g2d.setStroke(new BasicStroke(1f));
+        g2d.drawRect(STRIP_X, y, STRIP_WIDTH, ROW_HEIGHT);
+        g2d.drawLine(STRIP_X, y + stripHeight + 2, STRIP_X + STRIP_WIDTH, y + stripHeight + 2);
+
+        // Last contains() probe
+        long since = System.currentTimeMillis() - set.getLastLookupTime();
+        int value = set.getLastValue();
+        if (set.getLastLookupTime() != 0 && since < 2500 && value >>> 16 == chunk) {
+            int x = STRIP_X + (value & 0xFFFF) / VisualRoaringSet.BUCKET_VALUES * CELL_WIDTH + CELL_WIDTH / 2;
+            g2d.setColor(set.wasLastFound() ? SEARCH_COLOR : new Color(255, 100, 100));
+            g2d.setStroke(new BasicStroke(2f));
+            g2d.drawLine(x, y - 3, x, y + ROW_HEIGHT + 3);
+            g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+            g2d.drawString((set.wasLastFound() ? "hit " : "miss ") + (value & 0xFFFF), x + 4, y + 10);
+        }
+    }
+
+    // What this chunk would cost as each encoding; the smallest one is what runOptimize picks
+    private void drawEncodingCosts(Graphics2D g2d, int chunk, int y) {
+        int card = set.cardinalityOf(chunk);
+        if (card == 0) return;
+        int arrayBytes = 2 * card;
+        int runBytes = 2 + 4 * set.runsOf(chunk);
+        int[] costs = {card <= RoaringIntSet.ARRAY_MAX ? arrayBytes : -1, BITMAP_BYTES, runBytes};
+        ContainerType[] types = ContainerType.values();
+        ContainerType current = set.typeOf(chunk);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        int barMax = COST_WIDTH - 60;
+        for (int i = 0; i < 3; i++) {
+            int by = y + 4 + i * 14;
+            Color color = colorOf(types[i]);
+            g2d.setColor(types[i] == current ? color : color.darker().darker());
+            g2d.drawString(types[i].name().charAt(0) + "", COST_X, by + 9);
+            if (costs[i] < 0) {
+                g2d.drawString("> 4096", COST_X + 12, by + 9);
+                continue;
+            }
+            // Log scale: 2 bytes to 128 KB of runs
+            int width = (int) (barMax * Math.log(costs[i]) / Math.log(131072));
+            g2d.fillRect(COST_X + 12, by + 1, Math.max(2, Math.min(barMax, width)), 9);
+            g2d.drawString(costs[i] + "B", COST_X + 16 + Math.min(barMax, width), by + 9);
+        }
+    }
+
+    private void drawLegend(Graphics2D g2d) {
+        int y = START_Y + VisualRoaringSet.CHUNKS * (ROW_HEIGHT + ROW_GAP) + 10;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = LABEL_X;
+        Object[][] items = {
+                {ARRAY_COLOR, "ARRAY: sorted char[], <= 4096 values"},
+                {BITMAP_COLOR, "BITMAP: 1024 longs, fixed 8 KB"},
+                {RUN_COLOR, "RUN: (start, length) pairs"},
+                {OPERAND_COLOR, "operand B"}
+        };
+        for (Object[] item : items) {
+            g2d.setColor((Color) item[0]);
+            g2d.fillRect(x, y, 10, 10);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) item[1], x + 14, y + 9);
+            x += g2d.getFontMetrics().stringWidth((String) item[1]) + 34;
+        }
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("ROARING BITMAP VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ int split on its high 16 bits; each 65536-value chunk picks array, bitmap or runs ]", 20, 55);
+
+        g2d.setColor(new Color(220, 180, 210));
+        g2d.drawString(set.getLastOperation(), 20, 80);
+
+        if (set.wasJustTransitioned()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(255, 200, 120, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("CONTAINER SWITCH: " + set.getLastTransition(), 380, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 175;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("SET STATUS", panelX + 15, panelY + 20);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Size (A): " + set.getSize(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Containers: " + set.getContainerCount(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(ARRAY_COLOR);
+        g2d.drawString("array " + set.countOf(ContainerType.ARRAY), panelX + 15, y);
+        g2d.setColor(BITMAP_COLOR);
+        g2d.drawString("bitmap " + set.countOf(ContainerType.BITMAP), panelX + 80, y);
+        g2d.setColor(RUN_COLOR);
+        g2d.drawString("run " + set.countOf(ContainerType.RUN), panelX + 155, y);
+        y += 15;
+        g2d.setColor(ACCENT);
+        g2d.drawString(String.format("Bytes/element: %.2f", set.getBytesPerElement()), panelX + 15, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Operand B: " + set.getOperandSize(), panelX + 15, y);
+        y += 15;
+        if (set.getLastAlgebraTime() != 0) {
+            g2d.drawString(set.getLastAlgebra() + ": " + set.getLastAlgebraNanos() / 1000 + " us", panelX + 15, y);
+        } else {
+            g2d.drawString("OR / AND: not run yet", panelX + 15, y);
+        }
+        y += 15;
+        VisualRoaringSet.MemoryInfo mem = set.getMemoryInfo();
+        int n = Math.max(1, set.getSize());
+        g2d.drawString(String.format("HashSet: %.0f  TreeSet: %.0f B/e", (double) mem.hashSet() / n,
+                (double) mem.treeSet() / n), panelX + 15, y);
+
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 10);
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualRoaringSet.MemoryInfo mem = set.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total: " + mem.formatTotal(), x + 15, y + 35);
+        g2d.drawString("HashSet<Integer>: " + mem.formatHashSet(), x + 15, y + 50);
+        g2d.drawString("TreeSet<Integer>: " + mem.formatTreeSet(), x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(220, 180, 210));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(36, 20, 36, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
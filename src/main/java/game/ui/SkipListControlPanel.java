@@ -0,0 +1,379 @@
+package game.ui;
+
+import game.model.VisualSkipList;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class SkipListControlPanel extends JPanel {
+    private VisualSkipList list;
+    private Random random = new Random();
+    private JTextField keyField;
+    private JTextField valueField;
+    private JComboBox<String> threadCombo;
+    private JComboBox<String> modeCombo;
+    private JComboBox<String> keysCombo;
+    private JComboBox<String> delayCombo;
+    private JLabel statusLabel;
+
+    private static final int[] THREAD_COUNTS = {2, 3, 4, 6};
+    private static final int[] DELAYS = {250, 120, 40, 0};
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(110, 230, 230);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public SkipListControlPanel(VisualSkipList list) {
+        this.list = list;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("ENTRY"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("KEY (0.." + (VisualSkipList.KEY_RANGE - 1) + "):"));
+        keyField = new JTextField();
+        styleTextField(keyField);
+        add(keyField);
+        add(Box.createVerticalStrut(6));
+
+        add(createLabel("VALUE:"));
+        valueField = new JTextField();
+        styleTextField(valueField);
+        add(valueField);
+        add(Box.createVerticalStrut(8));
+
+        JPanel opPanel = new JPanel(new GridLayout(1, 3, 4, 4));
+        opPanel.setBackground(BG_COLOR);
+        opPanel.setMaximumSize(new Dimension(230, 26));
+        opPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton putBtn = createSmallButton("put", new Color(150, 230, 150));
+        putBtn.addActionListener(e -> doPut());
+        opPanel.add(putBtn);
+
+        JButton getBtn = createSmallButton("get", new Color(255, 230, 100));
+        getBtn.addActionListener(e -> {
+            Integer key = parseKey();
+            if (key == null) return;
+            Integer value = list.get(key);
+            updateStatus(value != null ? "get(" + key + ") = " + value : key + " not found",
+                    value != null ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        opPanel.add(getBtn);
+
+        JButton removeBtn = createSmallButton("remove", new Color(255, 120, 120));
+        removeBtn.addActionListener(e -> {
+            Integer key = parseKey();
+            if (key == null) return;
+            if (list.remove(key)) updateStatus("Removed " + key, SUCCESS_COLOR);
+            else updateStatus(key + " not found", WARN_COLOR);
+        });
+        opPanel.add(removeBtn);
+        add(opPanel);
+        add(Box.createVerticalStrut(6));
+
+        JButton randomBtn = createStyledButton("+10 random", new Color(120, 240, 170));
+        randomBtn.addActionListener(e -> {
+            int added = list.addRandom(10);
+            updateStatus("+" + added + ", height " + list.getHeight(), added > 0 ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        add(randomBtn);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("WORKER THREADS"));
+        add(Box.createVerticalStrut(6));
+
+        String[] threadNames = new String[THREAD_COUNTS.length];
+        for (int i = 0; i < threadNames.length; i++) threadNames[i] = THREAD_COUNTS[i] + " threads";
+        threadCombo = new JComboBox<>(threadNames);
+        styleComboBox(threadCombo);
+        threadCombo.setSelectedIndex(2);
+        add(threadCombo);
+        add(Box.createVerticalStrut(4));
+
+        modeCombo = new JComboBox<>(new String[]{"insert", "delete", "mixed"});
+        styleComboBox(modeCombo);
+        add(modeCombo);
+        add(Box.createVerticalStrut(4));
+
+        keysCombo = new JComboBox<>(new String[]{"hot keys (12 adjacent)", "keys spread 0..99"});
+        styleComboBox(keysCombo);
+        add(keysCombo);
+        add(Box.createVerticalStrut(4));
+
+        String[] delayNames = new String[DELAYS.length];
+        for (int i = 0; i < delayNames.length; i++) delayNames[i] = "CAS window " + DELAYS[i] + " ms";
+        delayCombo = new JComboBox<>(delayNames);
+        styleComboBox(delayCombo);
+        delayCombo.setSelectedIndex(1);
+        delayCombo.addActionListener(e -> list.setCasDelayMillis(DELAYS[delayCombo.getSelectedIndex()]));
+        add(delayCombo);
+        add(Box.createVerticalStrut(6));
+
+        JPanel runPanel = new JPanel(new GridLayout(1, 2, 4, 4));
+        runPanel.setBackground(BG_COLOR);
+        runPanel.setMaximumSize(new Dimension(230, 26));
+        runPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton startBtn = createSmallButton("start", new Color(120, 180, 255));
+        startBtn.addActionListener(e -> {
+            VisualSkipList.Mode mode = VisualSkipList.Mode.values()[modeCombo.getSelectedIndex()];
+            boolean started = list.startWorkers(THREAD_COUNTS[threadCombo.getSelectedIndex()], mode,
+                    keysCombo.getSelectedIndex() == 0);
+            if (started) updateStatus("Workers started", SUCCESS_COLOR);
+            else updateStatus("Workers still running", WARN_COLOR);
+        });
+        runPanel.add(startBtn);
+
+        JButton stopBtn = createSmallButton("stop", new Color(255, 150, 110));
+        stopBtn.addActionListener(e -> {
+            list.stopWorkers();
+            updateStatus("Workers finish their current op", WARN_COLOR);
+        });
+        runPanel.add(stopBtn);
+        add(runPanel);
+        add(Box.createVerticalStrut(10));
+
+        JPanel resetPanel = new JPanel(new GridLayout(1, 2, 4, 4));
+        resetPanel.setBackground(BG_COLOR);
+        resetPanel.setMaximumSize(new Dimension(230, 26));
+        resetPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton resetBtn = createSmallButton("reset counters", ACCENT);
+        resetBtn.addActionListener(e -> {
+            list.resetCounters();
+            updateStatus("CAS counters zeroed", TEXT_COLOR);
+        });
+        resetPanel.add(resetBtn);
+
+        JButton clearBtn = createSmallButton("clear()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            if (list.isRunning()) {
+                updateStatus("Stop the workers first", WARN_COLOR);
+                return;
+            }
+            list.clear();
+            updateStatus("List cleared", WARN_COLOR);
+        });
+        resetPanel.add(clearBtn);
+        add(resetPanel);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    private void doPut() {
+        Integer key = parseKey();
+        if (key == null) return;
+        int value;
+        try {
+            value = valueField.getText().trim().isEmpty() ? random.nextInt(1000) : Integer.parseInt(valueField.getText().trim());
+        } catch (NumberFormatException ex) {
+            updateStatus("Invalid value", ERROR_COLOR);
+            return;
+        }
+        if (list.put(key, value)) updateStatus("put(" + key + ", " + value + ")", SUCCESS_COLOR);
+        else updateStatus("List full (" + VisualSkipList.MAX_KEYS + " keys)", WARN_COLOR);
+    }
+
+    private Integer parseKey() {
+        try {
+            int key = Integer.parseInt(keyField.getText().trim());
+            if (key < 0 || key >= VisualSkipList.KEY_RANGE) {
+                updateStatus("Key must be 0.." + (VisualSkipList.KEY_RANGE - 1), ERROR_COLOR);
+                return null;
+            }
+            return key;
+        } catch (NumberFormatException ex) {
+            updateStatus("Invalid key", ERROR_COLOR);
+            return null;
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleComboBox(JComboBox<String> combo) {
+        combo.setBackground(BUTTON_BG);
+        combo.setForeground(TEXT_COLOR);
+        combo.setFont(new Font("Consolas", Font.PLAIN, 13));
+        combo.setMaximumSize(new Dimension(250, 26));
+        combo.setAlignmentX(LEFT_ALIGNMENT);
+        combo.setBorder(BorderFactory.createLineBorder(ACCENT.darker(), 1));
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("SKIP LIST INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "No locks: one CAS per link",
+                "Insert: level 0, then up",
+                "Delete: mark, then unlink",
+                "Lost CAS: re-read, retry",
+                "Reads never write or wait"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(170, 220, 225));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
@@ -0,0 +1,180 @@
+package game.ui;
+
+import game.model.VisualSkipList;
+import game.model.VisualSkipList.NodeView;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.List;
+import game.ui.ThemeManager;
+
+public class SkipListMemoryDialog extends JDialog {
+    private VisualSkipList list;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(110, 230, 230);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public SkipListMemoryDialog(Frame parent, VisualSkipList list) {
+        super(parent, "Concurrent Skip List Memory Analysis", true);
+        this.list = list;
+
+        setSize(650, 660);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createLevelsPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualSkipList.MemoryInfo mem = list.getMemoryInfo();
+        int n = list.getSize();
+
+        String[] lines = {
+                "Total heap used: " + mem.formatTotal(),
+                "",
+                "Entries:      " + n + ", height " + list.getHeight(),
+                "Links:        " + mem.links() + " (" + mem.formatLinks() + ", 40 B each)",
+                "Nodes:        " + mem.formatNodes() + " (headers, next arrays, head tower)",
+                "",
+                String.format("Links per entry: %.2f", n == 0 ? 0.0 : (double) mem.links() / n),
+                String.format("Bytes per entry: %.1f", n == 0 ? 0.0 : (double) mem.totalUsed() / n)
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            boolean highlight = line.contains("Total") || line.startsWith("Bytes per");
+            label.setForeground(highlight ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", highlight ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createLevelsPanel() {
+        JPanel panel = createSection("LEVELS");
+
+        List<NodeView> nodes = list.getNodes();
+        int n = nodes.size();
+        for (int level = 0; level < Math.max(1, list.getHeight()) && level < VisualSkipList.SHOWN_LEVELS; level++) {
+            int towers = 0;
+            for (NodeView node : nodes) if (node.levels() > level) towers++;
+            String line = String.format("level %d  %3d linked  %3d towers  expected %5.1f  CAS %d / failed %d",
+                    level, list.countLinkedAt(level), towers, n / Math.pow(2, level),
+                    list.getCasAttempts(level), list.getCasFailures(level));
+            JLabel label = new JLabel(line);
+            label.setForeground(TEXT_COLOR);
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        String[] notes = {
+                "",
+                "node -> [ header, key, value ] [ next[levels] ] -> [ AtomicMarkableReference ] -> [ Pair ]",
+                "Each level costs a reference object and an immutable (ref, mark) pair.",
+                "A node reaches level l with probability 1/2^l: about 2 links per entry.",
+                "Linked is below towers while an insert is still splicing its upper levels."
+        };
+        for (String line : notes) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("[") ? ACCENT : new Color(170, 220, 225));
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("LOCK-FREE LIST vs CONCURRENTSKIPLISTMAP vs TREEMAP");
+
+        VisualSkipList.MemoryInfo mem = list.getMemoryInfo();
+        int n = list.getSize();
+        double perList = n == 0 ? 0 : (double) mem.totalUsed() / n;
+        double perSkip = n == 0 ? 0 : (double) mem.skipListMap() / n;
+        double perTree = n == 0 ? 0 : (double) mem.treeMap() / n;
+
+        String[] lines = {
+                "For the current " + n + " entries:",
+                "",
+                String.format("This lock-free list:      %s  (%.1f B/entry)", mem.formatTotal(), perList),
+                "  - marked references: an object pair per link",
+                "  - counts every CAS and every lost race",
+                "",
+                String.format("ConcurrentSkipListMap:    %s  (%.1f B/entry)", mem.formatSkipListMap(), perSkip),
+                "  - 24B node + two 16B boxes; marker nodes instead of mark bits",
+                "  - index nodes only for 1 in 4 entries per level",
+                "",
+                String.format("TreeMap<Integer,Integer>: %s  (%.1f B/entry)", mem.formatTreeMap(), perTree),
+                "  - smaller, but needs a lock around every access",
+                "",
+                "Choose ConcurrentSkipListMap when:",
+                "  - A sorted map is shared between threads",
+                "  - Reads dominate and must never block"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("This lock-free") || line.startsWith("ConcurrentSkipListMap:") || line.startsWith("TreeMap<")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(170, 220, 225);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
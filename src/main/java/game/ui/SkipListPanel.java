@@ -0,0 +1,503 @@
+package game.ui;
+
+import game.collections.LockFreeSkipListIntMap.CasKind;
+import game.model.VisualSkipList;
+import game.model.VisualSkipList.CasEvent;
+import game.model.VisualSkipList.NodeView;
+import game.model.VisualSkipList.Phase;
+import game.model.VisualSkipList.Worker;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import game.ui.ThemeManager;
+
+public class SkipListPanel extends JPanel {
+    private VisualSkipList list;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(110, 230, 230);
+    private static final Color NODE_COLOR = new Color(90, 170, 200);
+    private static final Color LINK_COLOR = new Color(110, 150, 170);
+    private static final Color SUCCESS_COLOR = new Color(120, 255, 140);
+    private static final Color FAIL_COLOR = new Color(255, 90, 90);
+    private static final Color MARK_COLOR = new Color(255, 150, 90);
+    private static final Color SEARCH_COLOR = new Color(255, 230, 100);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static final Color[] WORKER_COLORS = {
+            new Color(255, 120, 200), new Color(120, 180, 255), new Color(255, 210, 90),
+            new Color(170, 140, 255), new Color(120, 240, 170), new Color(255, 150, 110)
+    };
+
+    private static final int HEAD_X = 20;
+    private static final int HEAD_WIDTH = 44;
+    private static final int COLUMNS_X = 90;
+    private static final int COLUMN_WIDTH = 34;
+    private static final int CELL_WIDTH = 26;
+    private static final int CELL_HEIGHT = 22;
+    private static final int ROW_HEIGHT = 32;
+    private static final int TOP_Y = 110;
+    private static final int BOTTOM_Y = TOP_Y + (VisualSkipList.SHOWN_LEVELS - 1) * ROW_HEIGHT;
+    private static final int LANES_Y = BOTTOM_Y + 80;
+    private static final int LANE_HEIGHT = 24;
+
+    public SkipListPanel(VisualSkipList list) {
+        this.list = list;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            list.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            SkipListMemoryDialog dialog = new SkipListMemoryDialog((Frame) window, list);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = COLUMNS_X + VisualSkipList.MAX_KEYS * COLUMN_WIDTH + 20 + 260;
+        int height = LANES_Y + VisualSkipList.MAX_WORKERS * LANE_HEIGHT + 70;
+        return new Dimension(width, Math.max(640, height));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        drawBackground(g2d);
+        List<NodeView> nodes = list.getNodes();
+        drawHead(g2d);
+        drawLinks(g2d, nodes);
+        drawTowers(g2d, nodes);
+        drawEvents(g2d, nodes);
+        drawWorkerLanes(g2d);
+        drawLegend(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(14, 28, 34)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    private static int levelY(int level) {
+        return BOTTOM_Y - level * ROW_HEIGHT;
+    }
+
+    private int columnX(double column) {
+        return (int) (COLUMNS_X + column * COLUMN_WIDTH);
+    }
+
+    // Where a key not (yet) in the list would sit: halfway between its neighbours
+    private int insertionX(List<NodeView> nodes, int key) {
+        int index = 0;
+        while (index < nodes.size() && nodes.get(index).key() < key) index++;
+        for (int i = 0; i < nodes.size(); i++) {
+            if (nodes.get(i).key() == key) return columnX(list.getColumn(key)) + CELL_WIDTH / 2;
+        }
+        return COLUMNS_X + index * COLUMN_WIDTH - (COLUMN_WIDTH - CELL_WIDTH) / 2 - 1;
+    }
+
+    // ── Skip list ────────────────────────────────────────────────
+
+    private void drawHead(Graphics2D g2d) {
+        int top = levelY(VisualSkipList.SHOWN_LEVELS - 1);
+        g2d.setColor(new Color(24, 40, 48));
+        g2d.fillRoundRect(HEAD_X, top - 4, HEAD_WIDTH, BOTTOM_Y - top + CELL_HEIGHT + 8, 8, 8);
+        g2d.setColor(ACCENT.darker());
+        g2d.setStroke(new BasicStroke(1.3f));
+        g2d.drawRoundRect(HEAD_X, top - 4, HEAD_WIDTH, BOTTOM_Y - top + CELL_HEIGHT + 8, 8, 8);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        for (int level = 0; level < VisualSkipList.SHOWN_LEVELS; level++) {
+            int y = levelY(level);
+            g2d.setColor(level < list.getHeight() ? ACCENT : new Color(90, 110, 120));
+            g2d.drawString("L" + level, HEAD_X + 6, y + 15);
+        }
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("head", HEAD_X + 8, BOTTOM_Y + CELL_HEIGHT + 20);
+    }
+
+    // One horizontal chain per level, built from what is actually linked on that level
+    private void drawLinks(Graphics2D g2d, List<NodeView> nodes) {
+        g2d.setStroke(new BasicStroke(1.2f));
+        for (int level = 0; level < VisualSkipList.SHOWN_LEVELS; level++) {
+            int y = levelY(level) + CELL_HEIGHT / 2;
+            int fromX = HEAD_X + HEAD_WIDTH;
+            for (NodeView node : nodes) {
+                if (!list.isLinked(node.key(), level)) continue;
+                int toX = columnX(list.getColumn(node.key()));
+                drawArrow(g2d, fromX, toX, y, node.deleted() ? MARK_COLOR : LINK_COLOR);
+                fromX = toX + CELL_WIDTH;
+            }
+            g2d.setColor(new Color(80, 100, 110));
+            g2d.fillRect(fromX + 2, y - 1, 6, 3);
+        }
+    }
+
+    private void drawArrow(Graphics2D g2d, int fromX, int toX, int y, Color color) {
+        if (toX - fromX < 4) return;
+        g2d.setColor(color);
+        g2d.drawLine(fromX, y, toX - 3, y);
+        g2d.fillPolygon(new int[]{toX, toX - 5, toX - 5}, new int[]{y, y - 3, y + 3}, 3);
+    }
+
+    private void drawTowers(Graphics2D g2d, List<NodeView> nodes) {
+        for (NodeView node : nodes) {
+            int x = columnX(list.getColumn(node.key()));
+            int alpha = (int) (255 * list.getAlpha(node.key()));
+            int shown = Math.min(node.levels(), VisualSkipList.SHOWN_LEVELS);
+            for (int level = 0; level < shown; level++) {
+                int y = levelY(level);
+                boolean linked = list.isLinked(node.key(), level);
+                Color base = node.deleted() ? MARK_COLOR : NODE_COLOR;
+                if (linked) {
+                    g2d.setColor(new Color(base.getRed(), base.getGreen(), base.getBlue(), Math.min(alpha, 90 + level * 15)));
+                    g2d.fillRoundRect(x, y, CELL_WIDTH, CELL_HEIGHT, 5, 5);
+                    g2d.setColor(new Color(base.getRed(), base.getGreen(), base.getBlue(), alpha));
+                    g2d.setStroke(new BasicStroke(1.3f));
+                } else {
+                    // Planned level the insert has not spliced in yet
+                    g2d.setColor(new Color(base.getRed(), base.getGreen(), base.getBlue(), Math.min(alpha, 160)));
+                    g2d.setStroke(new BasicStroke(1.2f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10f,
+                            new float[]{3f, 3f}, 0f));
+                }
+                g2d.drawRoundRect(x, y, CELL_WIDTH, CELL_HEIGHT, 5, 5);
+            }
+            if (node.levels() > VisualSkipList.SHOWN_LEVELS) {
+                g2d.setColor(NODE_COLOR);
+                g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+                g2d.drawString("^" + node.levels(), x + 2, levelY(VisualSkipList.SHOWN_LEVELS - 1) - 4);
+            }
+
+            g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+            FontMetrics fm = g2d.getFontMetrics();
+            String label = String.valueOf(node.key());
+            int labelX = x + (CELL_WIDTH - fm.stringWidth(label)) / 2;
+            int labelY = BOTTOM_Y + CELL_HEIGHT + 16;
+            g2d.setColor(node.deleted() ? MARK_COLOR : new Color(TEXT_COLOR.getRed(), TEXT_COLOR.getGreen(),
+                    TEXT_COLOR.getBlue(), alpha));
+            g2d.drawString(label, labelX, labelY);
+            if (node.deleted()) {
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawLine(labelX - 1, labelY - 4, labelX + fm.stringWidth(label) + 1, labelY - 4);
+            }
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+            g2d.setColor(new Color(140, 170, 180, alpha));
+            g2d.drawString(String.valueOf(node.value()), x + 2, labelY + 12);
+        }
+    }
+
+    // Pending CAS pulse in the worker's colour; finished ones leave a tick or a red cross
+    private void drawEvents(Graphics2D g2d, List<NodeView> nodes) {
+        long now = System.currentTimeMillis();
+        List<CasEvent> events = list.getEvents();
+        for (int i = 0; i < events.size(); i++) {
+            CasEvent event = events.get(i);
+            if (event.pending() && hasOutcome(events, i)) continue;
+            if (event.level() >= VisualSkipList.SHOWN_LEVELS) continue;
+            int cx = insertionX(nodes, event.key());
+            int cy = levelY(event.level()) + CELL_HEIGHT / 2;
+            float fade = 1f - (float) (now - event.time()) / VisualSkipList.EVENT_MILLIS;
+            int alpha = (int) (255 * Math.max(0, fade));
+            Color worker = event.worker() < 0 ? SEARCH_COLOR : WORKER_COLORS[event.worker() % WORKER_COLORS.length];
+
+            if (event.kind() == null) {
+                // A get(): no CAS, just the key it landed on
+                g2d.setColor(new Color(SEARCH_COLOR.getRed(), SEARCH_COLOR.getGreen(), SEARCH_COLOR.getBlue(), alpha));
+                g2d.setStroke(new BasicStroke(2f));
+                g2d.drawRect(cx - CELL_WIDTH / 2 - 2, cy - CELL_HEIGHT / 2 - 2, CELL_WIDTH + 4, CELL_HEIGHT + 4);
+                continue;
+            }
+            if (event.pending()) {
+                float pulse = (float) (0.5 + 0.5 * Math.sin(glowPhase * 12));
+                g2d.setColor(new Color(worker.getRed(), worker.getGreen(), worker.getBlue(), (int) (120 + 135 * pulse)));
+                g2d.setStroke(new BasicStroke(2.5f));
+                g2d.drawOval(cx - 13, cy - 13, 26, 26);
+                g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+                g2d.drawString(kindLabel(event.kind()), cx + 12, cy - 9);
+            } else if (event.success()) {
+                g2d.setColor(new Color(SUCCESS_COLOR.getRed(), SUCCESS_COLOR.getGreen(), SUCCESS_COLOR.getBlue(), alpha));
+                g2d.setStroke(new BasicStroke(2f));
+                g2d.drawOval(cx - 11, cy - 11, 22, 22);
+            } else {
+                g2d.setColor(new Color(FAIL_COLOR.getRed(), FAIL_COLOR.getGreen(), FAIL_COLOR.getBlue(), alpha));
+                g2d.setStroke(new BasicStroke(3f));
+                g2d.drawLine(cx - 8, cy - 8, cx + 8, cy + 8);
+                g2d.drawLine(cx - 8, cy + 8, cx + 8, cy - 8);
+                g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+                g2d.drawString("retry", cx + 10, cy - 8);
+            }
+        }
+    }
+
+    private static boolean hasOutcome(List<CasEvent> events, int pendingIndex) {
+        CasEvent pending = events.get(pendingIndex);
+        for (int i = pendingIndex + 1; i < events.size(); i++) {
+            CasEvent e = events.get(i);
+            if (!e.pending() && e.worker() == pending.worker() && e.key() == pending.key()
+                    && e.level() == pending.level() && e.kind() == pending.kind()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String kindLabel(CasKind kind) {
+        switch (kind) {
+            case LINK:  return "LINK";
+            case MARK:  return "MARK";
+            default:    return "UNLINK";
+        }
+    }
+
+    // ── Worker lanes ─────────────────────────────────────────────
+
+    private void drawWorkerLanes(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("WORKER THREADS", HEAD_X, LANES_Y - 8);
+
+        List<Worker> workers = list.getWorkers();
+        if (workers.isEmpty()) {
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+            g2d.setColor(new Color(140, 170, 180));
+            g2d.drawString("No run yet - start workers to watch threads race on the same links", HEAD_X, LANES_Y + 14);
+            return;
+        }
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        for (Worker worker : workers) {
+            int y = LANES_Y + worker.id * LANE_HEIGHT;
+            Color color = WORKER_COLORS[worker.id % WORKER_COLORS.length];
+            g2d.setColor(new Color(20, 36, 42, 220));
+            g2d.fillRoundRect(HEAD_X, y, 620, LANE_HEIGHT - 4, 6, 6);
+            g2d.setColor(color);
+            g2d.fillOval(HEAD_X + 6, y + 5, 10, 10);
+            g2d.drawString("T" + worker.id, HEAD_X + 22, y + 14);
+
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString(worker.action, HEAD_X + 50, y + 14);
+            Phase phase = worker.phase;
+            Color phaseColor = phase == Phase.RETRY ? FAIL_COLOR : phase == Phase.CAS ? color
+                    : phase == Phase.DONE ? SUCCESS_COLOR : new Color(160, 180, 190);
+            g2d.setColor(phaseColor);
+            String state = phase == Phase.CAS && worker.kind != null ? "CAS " + worker.kind + " L" + worker.level
+                    : phase == Phase.RETRY ? "lost CAS at L" + worker.level + ", re-reading" : phase.name();
+            g2d.drawString(state, HEAD_X + 150, y + 14);
+
+            g2d.setColor(worker.retries > 0 ? FAIL_COLOR : new Color(160, 180, 190));
+            g2d.drawString("retries " + worker.retries, HEAD_X + 380, y + 14);
+
+            // Progress through this worker's operations
+            int barX = HEAD_X + 470;
+            g2d.setColor(new Color(50, 70, 80));
+            g2d.fillRect(barX, y + 7, 130, 6);
+            g2d.setColor(color);
+            g2d.fillRect(barX, y + 7, 130 * worker.opsDone / Math.max(1, worker.opsTotal), 6);
+        }
+    }
+
+    private void drawLegend(Graphics2D g2d) {
+        int y = getHeight() - 30;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        Object[][] items = {
+                {NODE_COLOR, "linked level"},
+                {MARK_COLOR, "marked (logically deleted)"},
+                {WORKER_COLORS[0], "CAS in flight"},
+                {SUCCESS_COLOR, "CAS won"},
+                {FAIL_COLOR, "CAS lost -> retry"},
+                {SEARCH_COLOR, "get()"}
+        };
+        for (Object[] item : items) {
+            g2d.setColor((Color) item[0]);
+            g2d.fillRect(x, y, 10, 10);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) item[1], x + 14, y + 9);
+            x += g2d.getFontMetrics().stringWidth((String) item[1]) + 30;
+        }
+        g2d.setColor(new Color(140, 170, 180));
+        g2d.drawString("dashed: level chosen but not spliced in yet", x, y + 9);
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("CONCURRENT SKIP LIST VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ lock-free: every link change is one CAS; losers re-read and retry on the same level ]", 20, 55);
+
+        g2d.setColor(new Color(170, 220, 225));
+        g2d.drawString(list.getLastOperation(), 20, 80);
+
+        if (list.isRunning()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 6));
+            g2d.setColor(new Color(255, 200, 120, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("WORKERS RUNNING: " + list.getTotalCasFailures() + " failed CAS so far", 480, 35);
+        } else if (list.wasJustFinished()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(120, 255, 140, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("RUN FINISHED", 480, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 160;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("SKIP LIST STATUS", panelX + 15, panelY + 20);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Size: " + list.getSize() + " / " + VisualSkipList.MAX_KEYS + "   Height: " + list.getHeight(),
+                panelX + 15, y);
+        y += 15;
+        g2d.drawString("CAS: " + list.getTotalCasAttempts(), panelX + 15, y);
+        g2d.setColor(FAIL_COLOR);
+        g2d.drawString("failed: " + list.getTotalCasFailures(), panelX + 110, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Find restarts: " + list.getFindRestarts(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("CAS window: " + list.getCasDelayMillis() + " ms", panelX + 15, y);
+        y += 20;
+        g2d.setColor(ACCENT);
+        g2d.drawString("LAST RUN", panelX + 15, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        int ops = list.getRunOps();
+        if (list.getRunMillis() == 0) {
+            g2d.drawString(list.isRunning() ? "running, " + ops + " ops done" : "not run yet", panelX + 15, y);
+        } else {
+            g2d.drawString(ops + " ops in " + list.getRunMillis() + " ms", panelX + 15, y);
+            y += 15;
+            g2d.drawString(String.format("CAS/op: %.2f  failed/op: %.2f", (double) list.getRunCas() / Math.max(1, ops),
+                    (double) list.getRunFailures() / Math.max(1, ops)), panelX + 15, y);
+        }
+
+        int levelsY = panelY + panelHeight + 10;
+        drawLevelPanel(g2d, panelX, levelsY);
+        drawMemoryPanel(g2d, panelX, levelsY + 160);
+    }
+
+    // Where the CAS traffic lands: most of it on level 0, where every insert and delete ends
+    private void drawLevelPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 150;
+        drawBox(g2d, x, y, width, height);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("CAS BY LEVEL (attempts / failed)", x + 15, y + 18);
+
+        long max = 1;
+        for (int level = 0; level < VisualSkipList.SHOWN_LEVELS; level++) max = Math.max(max, list.getCasAttempts(level));
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        for (int level = 0; level < VisualSkipList.SHOWN_LEVELS; level++) {
+            int rowY = y + 32 + level * 14;
+            long attempts = list.getCasAttempts(level);
+            long failures = list.getCasFailures(level);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString("L" + level, x + 15, rowY + 8);
+            int barWidth = (int) (90 * attempts / max);
+            int failWidth = (int) (90 * failures / max);
+            g2d.setColor(NODE_COLOR);
+            g2d.fillRect(x + 38, rowY, barWidth, 9);
+            g2d.setColor(FAIL_COLOR);
+            g2d.fillRect(x + 38, rowY, Math.max(failures > 0 ? 2 : 0, failWidth), 9);
+            g2d.setColor(failures > 0 ? FAIL_COLOR : TEXT_COLOR);
+            g2d.drawString(attempts + " / " + failures, x + 135, rowY + 8);
+        }
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualSkipList.MemoryInfo mem = list.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total: " + mem.formatTotal(), x + 15, y + 35);
+        g2d.drawString("Links (" + mem.links() + "): " + mem.formatLinks(), x + 15, y + 50);
+        g2d.drawString("ConcurrentSkipListMap: " + mem.formatSkipListMap(), x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(170, 220, 225));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(16, 32, 38, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
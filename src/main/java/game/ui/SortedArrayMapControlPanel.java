@@ -0,0 +1,368 @@
+package game.ui;
+
+import game.model.VisualSortedArrayMap;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class SortedArrayMapControlPanel extends JPanel {
+    private VisualSortedArrayMap sortedMap;
+    private Random random = new Random();
+    private JTextField keyField;
+    private JTextField valueField;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(140, 210, 255);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public SortedArrayMapControlPanel(VisualSortedArrayMap sortedMap) {
+        this.sortedMap = sortedMap;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("PUT ENTRY"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("KEY (int, empty = random):"));
+        keyField = new JTextField();
+        styleTextField(keyField);
+        add(keyField);
+        add(Box.createVerticalStrut(6));
+
+        add(createLabel("VALUE (int):"));
+        valueField = new JTextField();
+        styleTextField(valueField);
+        add(valueField);
+        add(Box.createVerticalStrut(8));
+
+        JButton putBtn = createStyledButton("PUT", ACCENT);
+        putBtn.addActionListener(e -> putEntry());
+        add(putBtn);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("METHODS"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel methodPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        methodPanel.setBackground(BG_COLOR);
+        methodPanel.setMaximumSize(new Dimension(230, 56));
+        methodPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton getBtn = createSmallButton("get(key)", new Color(150, 255, 200));
+        getBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            Integer value = sortedMap.get(key);
+            updateStatus("get = " + (value != null ? value : "null"), value != null ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        methodPanel.add(getBtn);
+
+        JButton containsBtn = createSmallButton("containsKey", new Color(150, 200, 255));
+        containsBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            boolean found = sortedMap.containsKey(key);
+            updateStatus("containsKey = " + found, found ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        methodPanel.add(containsBtn);
+
+        JButton sizeBtn = createSmallButton("size()", new Color(150, 200, 255));
+        sizeBtn.addActionListener(e -> updateStatus("size() = " + sortedMap.getSize(), TEXT_COLOR));
+        methodPanel.add(sizeBtn);
+
+        JButton removeBtn = createSmallButton("remove()", ERROR_COLOR);
+        removeBtn.addActionListener(e -> {
+            Integer key = readKey();
+            if (key == null) return;
+            Integer removed = sortedMap.remove(key);
+            if (removed != null) {
+                updateStatus("Removed: " + key, SUCCESS_COLOR);
+                keyField.setText("");
+            } else {
+                updateStatus("Key not found", ERROR_COLOR);
+            }
+        });
+        methodPanel.add(removeBtn);
+        add(methodPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("OPERATIONS"));
+        add(Box.createVerticalStrut(6));
+
+        JPanel autoPanel = new JPanel(new GridLayout(2, 2, 4, 4));
+        autoPanel.setBackground(BG_COLOR);
+        autoPanel.setMaximumSize(new Dimension(230, 56));
+        autoPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton fill1Btn = createSmallButton("Fill x1", new Color(120, 190, 240));
+        fill1Btn.addActionListener(e -> autoFill(1));
+        autoPanel.add(fill1Btn);
+
+        JButton fill8Btn = createSmallButton("Fill x8", new Color(140, 210, 255));
+        fill8Btn.addActionListener(e -> autoFill(8));
+        autoPanel.add(fill8Btn);
+
+        JButton fillMaxBtn = createSmallButton("Fill to " + VisualSortedArrayMap.MAX_KEYS, new Color(170, 220, 255));
+        fillMaxBtn.addActionListener(e -> autoFill(VisualSortedArrayMap.MAX_KEYS - sortedMap.getSize()));
+        autoPanel.add(fillMaxBtn);
+
+        // Built maps that are only read afterwards can give their slack back
+        JButton trimBtn = createSmallButton("trimToSize()", new Color(100, 255, 150));
+        trimBtn.addActionListener(e -> {
+            int before = sortedMap.getCapacity();
+            sortedMap.trimToSize();
+            updateStatus("Capacity " + before + " -> " + sortedMap.getCapacity(), SUCCESS_COLOR);
+        });
+        autoPanel.add(trimBtn);
+        add(autoPanel);
+        add(Box.createVerticalStrut(8));
+
+        JButton clearBtn = createStyledButton("clear()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            sortedMap.clear();
+            updateStatus("Cleared all entries", WARN_COLOR);
+        });
+        add(clearBtn);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    // One put per tick, so each search gets its replay
+    private void autoFill(int count) {
+        if (count <= 0) {
+            updateStatus("Map is at the view limit", WARN_COLOR);
+            return;
+        }
+        if (count == 1) {
+            sortedMap.putRandom(1);
+            updateStatus("Added 1 entry", SUCCESS_COLOR);
+            return;
+        }
+        Timer timer = new Timer(count > 8 ? 150 : 400, null);
+        final int[] added = {0};
+        timer.addActionListener(evt -> {
+            if (added[0] < count && sortedMap.getSize() < VisualSortedArrayMap.MAX_KEYS) {
+                sortedMap.put(VisualSortedArrayMap.generateRandomKey(random), VisualSortedArrayMap.generateRandomValue(random));
+                added[0]++;
+                updateStatus("Adding... " + added[0] + "/" + count, SUCCESS_COLOR);
+            } else {
+                timer.stop();
+                updateStatus("Added " + added[0] + " entries", SUCCESS_COLOR);
+            }
+        });
+        timer.start();
+    }
+
+    private void putEntry() {
+        String keyText = keyField.getText().trim();
+        String valueText = valueField.getText().trim();
+        try {
+            int key = keyText.isEmpty() ? VisualSortedArrayMap.generateRandomKey(random) : Integer.parseInt(keyText);
+            int value = valueText.isEmpty() ? VisualSortedArrayMap.generateRandomValue(random) : Integer.parseInt(valueText);
+            // The map reports "no mapping" as Integer.MIN_VALUE
+            if (value == Integer.MIN_VALUE) {
+                updateStatus("Value reserved as missing marker", ERROR_COLOR);
+                return;
+            }
+            sortedMap.put(key, value);
+            updateStatus("Put: " + key + " -> " + value, SUCCESS_COLOR);
+            keyField.setText("");
+            valueField.setText("");
+        } catch (NumberFormatException ex) {
+            updateStatus("Keys and values are int", ERROR_COLOR);
+        }
+    }
+
+    private Integer readKey() {
+        String keyText = keyField.getText().trim();
+        if (keyText.isEmpty()) {
+            updateStatus("Enter key first", WARN_COLOR);
+            return null;
+        }
+        try {
+            return Integer.parseInt(keyText);
+        } catch (NumberFormatException ex) {
+            updateStatus("Keys are int", ERROR_COLOR);
+            return null;
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("SORTED ARRAY MAP INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "Sorted int[] keys + int[] values",
+                "get: binary search, O(log n)",
+                "put/remove: shift, O(n)",
+                "Empty map: 32 B, no arrays",
+                "Best for many maps of 1-64"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(190, 220, 245));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
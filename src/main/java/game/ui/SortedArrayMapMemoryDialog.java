@@ -0,0 +1,192 @@
+package game.ui;
+
+import game.model.VisualSortedArrayMap;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.function.IntToLongFunction;
+import game.ui.ThemeManager;
+
+public class SortedArrayMapMemoryDialog extends JDialog {
+    private VisualSortedArrayMap sortedMap;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(140, 210, 255);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public SortedArrayMapMemoryDialog(Frame parent, VisualSortedArrayMap sortedMap) {
+        super(parent, "Sorted Array Map Memory Analysis", true);
+        this.sortedMap = sortedMap;
+
+        setSize(650, 660);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createCrossoverPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualSortedArrayMap.MemoryInfo mem = sortedMap.getMemoryInfo();
+        int n = mem.entries();
+
+        String[] lines = {
+                "Total heap used: " + mem.formatTotal(),
+                "",
+                "Map object:    " + mem.objectHeader() + " B (header, 2 array refs, size, missing value)",
+                "keys[]:        " + mem.keysArray() + " B (" + mem.capacity() + " x 4 B, sorted)",
+                "values[]:      " + mem.valuesArray() + " B (" + mem.capacity() + " x 4 B, same index as the key)",
+                "Growth slack:  " + mem.slackBytes() + " B (" + (mem.capacity() - n) + " unused cells in each array)",
+                "",
+                "Entries:       " + n + " in a capacity of " + mem.capacity(),
+                "After trimToSize(): " + mem.formatTrimmed(),
+                String.format("Bytes per entry: %.1f", mem.bytesPerEntry())
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            boolean highlight = line.contains("Total") || line.startsWith("Bytes per");
+            label.setForeground(highlight ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", highlight ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("SORTED ARRAY vs HASHMAP vs TREEMAP vs MAP.OF");
+
+        VisualSortedArrayMap.MemoryInfo mem = sortedMap.getMemoryInfo();
+        int n = mem.entries();
+
+        String[] lines = {
+                "For the current " + n + " entries (boxed maps hold two 16 B Integers per entry):",
+                "",
+                String.format("Sorted array:             %s  (%s)", mem.formatTotal(), perEntry(mem.totalUsed(), n)),
+                "  - keys and values inline, two array headers in all",
+                "",
+                String.format("Map.of / Map.copyOf:      %s  (%s)", mem.formatMapOf(), perEntry(mem.mapOf(), n)),
+                "  - Object[] of 4n slots, keys and values interleaved, read-only",
+                "",
+                String.format("TreeMap<Integer,Integer>: %s  (%s)", mem.formatTreeMap(), perEntry(mem.treeMap(), n)),
+                "  - a 40 B entry per key: key, value, 3 links, color",
+                "",
+                String.format("HashMap<Integer,Integer>: %s  (%s)", mem.formatHashMap(), perEntry(mem.hashMap(), n)),
+                "  - a 32 B node per key plus a table of 16 slots or more"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("Sorted") || line.startsWith("Map.of") || line.startsWith("TreeMap<") || line.startsWith("HashMap<")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(190, 220, 245);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createCrossoverPanel() {
+        JPanel panel = createSection("CROSSOVER POINTS (n = 0 .. " + VisualSortedArrayMap.MAX_KEYS + ")");
+
+        String[] lines = {
+                "Smallest n from which a sorted array map built by puts is smaller:",
+                "",
+                "vs HashMap:  " + describe(VisualSortedArrayMap::hashMapBytes),
+                "vs TreeMap:  " + describe(VisualSortedArrayMap::treeMapBytes),
+                "vs Map.of:   " + describe(VisualSortedArrayMap::mapOfBytes),
+                "",
+                "Map.of() is one shared empty instance and Map.of(k, v) two fields,",
+                "so for 0 and 1 entries nothing beats it; from two entries up its",
+                "4n-slot table and two boxes per entry cost more than two int[]s.",
+                "",
+                "Memory is not the whole story: binary search does about log2(n)",
+                "compares, and every insert or remove shifts the entries after it.",
+                "The Tiny Maps benchmark times get and put for n = 0 .. 64.",
+                "",
+                "Choose a sorted array map when:",
+                "  - Millions of maps hold a handful of entries each",
+                "  - Maps are built once and read often (then trimToSize)",
+                "  - Keys are primitive, so there is nothing to box"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("vs ")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(190, 220, 245);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private static String perEntry(long bytes, int n) {
+        return n == 0 ? "empty" : String.format("%.1f B/entry", (double) bytes / n);
+    }
+
+    private static String describe(IntToLongFunction other) {
+        int from = VisualSortedArrayMap.crossover(other);
+        if (from < 0) return "never within this range";
+        if (from == 0) return "smaller at every size, even empty";
+        return "smaller from n = " + from + String.format(" (%d B vs %d B there)",
+                VisualSortedArrayMap.sortedArrayBytes(from), other.applyAsLong(from));
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
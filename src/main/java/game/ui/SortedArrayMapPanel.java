@@ -0,0 +1,606 @@
+package game.ui;
+
+import game.model.VisualSortedArrayMap;
+import game.model.VisualSortedArrayMap.LastAction;
+import game.model.VisualSortedArrayMap.Step;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+import game.ui.ThemeManager;
+
+public class SortedArrayMapPanel extends JPanel {
+    private VisualSortedArrayMap sortedMap;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(140, 210, 255);
+    private static final Color KEY_COLOR = new Color(140, 210, 255);
+    private static final Color VALUE_COLOR = new Color(190, 170, 255);
+    private static final Color RANGE_COLOR = new Color(140, 210, 255, 45);
+    private static final Color MID_COLOR = new Color(255, 215, 110);
+    private static final Color FOUND_COLOR = new Color(100, 255, 150);
+    private static final Color SHIFT_COLOR = new Color(255, 150, 80);
+    private static final Color MISS_COLOR = new Color(255, 90, 90);
+    private static final Color SLACK_COLOR = new Color(110, 120, 140);
+    private static final Color HASH_MAP_COLOR = new Color(255, 200, 80);
+    private static final Color TREE_MAP_COLOR = new Color(100, 220, 180);
+    private static final Color MAP_OF_COLOR = new Color(200, 200, 120);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    private static final int START_X = 90;
+    private static final int ARRAY_Y = 125;
+    private static final int PER_ROW = 30;
+    private static final int CELL = 30;
+    private static final int CELL_GAP = 2;
+    private static final int KEY_HEIGHT = 26;
+    private static final int VALUE_HEIGHT = 20;
+    private static final int ROW_HEIGHT = 78;
+    private static final int CONTENT_WIDTH = PER_ROW * (CELL + CELL_GAP) - CELL_GAP;
+    private static final int BOX_HEIGHT = 230;
+    // How long each binary search probe stays the current one in the replay
+    private static final int STEP_MS = 450;
+
+    public SortedArrayMapPanel(VisualSortedArrayMap sortedMap) {
+        this.sortedMap = sortedMap;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            sortedMap.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            SortedArrayMapMemoryDialog dialog = new SortedArrayMapMemoryDialog((Frame) window, sortedMap);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = START_X + CONTENT_WIDTH + 20 + 260;
+        int height = lowerY(sortedMap.getCapacity()) + BOX_HEIGHT + 60;
+        return new Dimension(width, Math.max(640, height));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        int capacity = sortedMap.getCapacity();
+        drawBackground(g2d);
+        drawArrays(g2d, capacity);
+        drawSearchStrip(g2d, stripY(capacity));
+        int y = lowerY(capacity);
+        int lowerWidth = START_X + CONTENT_WIDTH - 20;
+        int chartWidth = (lowerWidth - 20) * 3 / 5;
+        drawCrossoverChart(g2d, 20, y, chartWidth);
+        drawCurrentSize(g2d, 20 + chartWidth + 20, y, lowerWidth - chartWidth - 20);
+        drawLegend(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(18, 28, 40)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    // ── Layout ───────────────────────────────────────────────────
+    // Each row shows keys[i] with values[i] right under it, PER_ROW indices at a time
+
+    private static int rows(int capacity) {
+        return Math.max(1, (capacity + PER_ROW - 1) / PER_ROW);
+    }
+
+    private static int stripY(int capacity) {
+        return ARRAY_Y + rows(capacity) * ROW_HEIGHT + 10;
+    }
+
+    private static int lowerY(int capacity) {
+        return stripY(capacity) + 85;
+    }
+
+    private static int cellX(int index) {
+        return START_X + (index % PER_ROW) * (CELL + CELL_GAP);
+    }
+
+    private static int cellY(int index) {
+        return ARRAY_Y + (index / PER_ROW) * ROW_HEIGHT;
+    }
+
+    // ── Arrays ───────────────────────────────────────────────────
+
+    private void drawArrays(Graphics2D g2d, int capacity) {
+        int size = sortedMap.getSize();
+        List<Step> steps = sortedMap.getLastSearch();
+        int visible = visibleSteps(steps);
+        Step current = visible > 0 ? steps.get(visible - 1) : null;
+        boolean searchDone = visible == steps.size();
+        LastAction action = sortedMap.getLastAction();
+        int lastIndex = sortedMap.getLastIndex();
+        int shiftFrom = sortedMap.getShiftFrom();
+        int shiftTo = sortedMap.getShiftTo();
+        float pulse = (float) (0.6 + 0.4 * Math.sin(glowPhase * 6));
+
+        for (int row = 0; row < rows(capacity); row++) {
+            int y = ARRAY_Y + row * ROW_HEIGHT;
+            g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+            g2d.setColor(KEY_COLOR);
+            g2d.drawString("keys[]", 20, y + 17);
+            g2d.setColor(VALUE_COLOR);
+            g2d.drawString("values[]", 20, y + KEY_HEIGHT + 16);
+        }
+        if (capacity == 0) {
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+            g2d.setColor(SLACK_COLOR);
+            g2d.drawString("(shared empty array: no allocation until the first put)", START_X, ARRAY_Y + 28);
+            return;
+        }
+
+        for (int index = 0; index < capacity; index++) {
+            int x = cellX(index);
+            int y = cellY(index);
+            boolean used = index < size;
+
+            // The part of the array the current probe still has to consider
+            if (current != null && index >= current.lo() && index <= current.hi()) {
+                g2d.setColor(RANGE_COLOR);
+                g2d.fillRect(x - 1, y - 3, CELL + CELL_GAP, KEY_HEIGHT + VALUE_HEIGHT + 8);
+            }
+
+            Color border;
+            float stroke = 1f;
+            if (!used) {
+                border = SLACK_COLOR;
+            } else if (searchDone && index == lastIndex
+                    && (action == LastAction.HIT || action == LastAction.INSERT || action == LastAction.UPDATE)) {
+                border = FOUND_COLOR;
+                stroke = 1.5f + pulse;
+            } else if (current != null && index == current.mid()) {
+                border = MID_COLOR;
+                stroke = 2.2f;
+            } else if (searchDone && shiftFrom >= 0 && index >= shiftFrom && index <= shiftTo) {
+                border = SHIFT_COLOR;
+                stroke = 1.6f;
+            } else {
+                border = KEY_COLOR.darker();
+            }
+
+            drawCell(g2d, x, y, KEY_HEIGHT, used, used ? new Color(22, 44, 66) : null, border, stroke,
+                    used ? String.valueOf(sortedMap.getKeyAt(index)) : null, Font.BOLD, 10);
+            drawCell(g2d, x, y + KEY_HEIGHT + 2, VALUE_HEIGHT, used, used ? new Color(40, 32, 66) : null,
+                    border == KEY_COLOR.darker() ? VALUE_COLOR.darker() : border, stroke,
+                    used ? String.valueOf(sortedMap.getValueAt(index)) : null, Font.PLAIN, 9);
+
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+            g2d.setColor(new Color(130, 140, 160));
+            g2d.drawString(String.valueOf(index), x + 2, y + KEY_HEIGHT + VALUE_HEIGHT + 12);
+            if (searchDone && shiftFrom >= 0 && index >= shiftFrom && index <= shiftTo) {
+                g2d.setColor(SHIFT_COLOR);
+                g2d.drawString(action == LastAction.REMOVE ? "<-" : "->", x + CELL - 11, y + KEY_HEIGHT + VALUE_HEIGHT + 12);
+            }
+        }
+
+        // Probe numbers over every mid visited so far
+        g2d.setFont(new Font("Consolas", Font.BOLD, 9));
+        for (int i = 0; i < visible; i++) {
+            Step step = steps.get(i);
+            int x = cellX(step.mid()) + CELL / 2;
+            int y = cellY(step.mid()) - 7;
+            boolean newest = i == visible - 1;
+            g2d.setColor(new Color(60, 48, 20));
+            g2d.fillOval(x - 6, y - 6, 12, 12);
+            g2d.setColor(newest ? MID_COLOR : new Color(MID_COLOR.getRed(), MID_COLOR.getGreen(), MID_COLOR.getBlue(), 140));
+            g2d.drawOval(x - 6, y - 6, 12, 12);
+            String label = String.valueOf(i + 1);
+            g2d.drawString(label, x - g2d.getFontMetrics().stringWidth(label) / 2, y + 3);
+        }
+
+        // A miss ends between two cells: the insertion point
+        if (searchDone && action == LastAction.MISS && lastIndex >= 0) {
+            // Left edge of the cell it would take, or right edge of the last cell when all are full
+            boolean inside = lastIndex < capacity;
+            int cell = inside ? lastIndex : lastIndex - 1;
+            int x = inside ? cellX(cell) - 1 : cellX(cell) + CELL + 1;
+            int y = cellY(cell);
+            g2d.setColor(new Color(MISS_COLOR.getRed(), MISS_COLOR.getGreen(), MISS_COLOR.getBlue(), (int) (255 * pulse)));
+            g2d.setStroke(new BasicStroke(3f));
+            g2d.drawLine(x, y - 4, x, y + KEY_HEIGHT + VALUE_HEIGHT + 6);
+        }
+    }
+
+    private void drawCell(Graphics2D g2d, int x, int y, int height, boolean used, Color fill, Color border,
+                          float stroke, String text, int style, int fontSize) {
+        if (used) {
+            g2d.setColor(fill);
+            g2d.fillRoundRect(x, y, CELL, height, 5, 5);
+            g2d.setStroke(new BasicStroke(stroke));
+        } else {
+            g2d.setColor(new Color(24, 28, 36));
+            g2d.fillRoundRect(x, y, CELL, height, 5, 5);
+            g2d.setStroke(new BasicStroke(1f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10, new float[]{3, 3}, 0));
+        }
+        g2d.setColor(border);
+        g2d.drawRoundRect(x, y, CELL, height, 5, 5);
+        g2d.setStroke(new BasicStroke(1f));
+        if (text == null) return;
+        g2d.setFont(new Font("Consolas", style, fontSize));
+        g2d.setColor(TEXT_COLOR);
+        FontMetrics fm = g2d.getFontMetrics();
+        g2d.drawString(text, x + (CELL - fm.stringWidth(text)) / 2, y + (height + fm.getAscent() - fm.getDescent()) / 2);
+    }
+
+    private int visibleSteps(List<Step> steps) {
+        long elapsed = System.currentTimeMillis() - sortedMap.getSearchTime();
+        return (int) Math.min(steps.size(), elapsed / STEP_MS + 1);
+    }
+
+    // The probes of the last search, one chip each
+    private void drawSearchStrip(Graphics2D g2d, int y) {
+        List<Step> steps = sortedMap.getLastSearch();
+        int size = sortedMap.getSize();
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        if (steps.isEmpty() && sortedMap.getLastAction() == LastAction.NONE) {
+            g2d.drawString("BINARY SEARCH: get or put a key to replay its probes", 20, y);
+            return;
+        }
+        g2d.drawString("BINARY SEARCH for " + sortedMap.getLastKey() + ": " + steps.size() + " compare"
+                + (steps.size() == 1 ? "" : "s") + " (at most " + VisualSortedArrayMap.worstCompares(size)
+                + " for n = " + size + ")", 20, y);
+
+        int visible = visibleSteps(steps);
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        int rowY = y + 18;
+        for (int i = 0; i < visible; i++) {
+            Step step = steps.get(i);
+            String direction = step.comparison() == 0 ? "found" : step.comparison() < 0 ? "go left" : "go right";
+            String sign = step.comparison() == 0 ? "==" : step.comparison() < 0 ? "<" : ">";
+            String text = (i + 1) + ": [" + step.lo() + ".." + step.hi() + "] mid " + step.mid() + ", "
+                    + sortedMap.getLastKey() + " " + sign + " " + step.midKey() + ", " + direction;
+            int width = g2d.getFontMetrics().stringWidth(text) + 10;
+            if (x + width > START_X + CONTENT_WIDTH) {
+                x = 20;
+                rowY += 18;
+            }
+            Color color = step.comparison() == 0 ? FOUND_COLOR : MID_COLOR;
+            g2d.setColor(new Color(color.getRed() / 5, color.getGreen() / 5, color.getBlue() / 5));
+            g2d.fillRoundRect(x, rowY - 11, width, 15, 6, 6);
+            g2d.setColor(color);
+            g2d.drawRoundRect(x, rowY - 11, width, 15, 6, 6);
+            g2d.drawString(text, x + 5, rowY);
+            x += width + 6;
+        }
+        if (visible == steps.size()) {
+            LastAction action = sortedMap.getLastAction();
+            String outcome = switch (action) {
+                case MISS -> "not found: lo = " + sortedMap.getLastIndex() + " is where it would go";
+                case INSERT -> "inserted at " + sortedMap.getLastIndex() + ", the "
+                        + Math.max(0, sortedMap.getShiftTo() - sortedMap.getShiftFrom() + 1) + " after it moved up one";
+                case REMOVE -> "removed, the " + Math.max(0, sortedMap.getShiftTo() - sortedMap.getShiftFrom() + 1)
+                        + " after it moved down one";
+                default -> "";
+            };
+            if (!outcome.isEmpty()) {
+                int width = g2d.getFontMetrics().stringWidth(outcome);
+                if (x + width > START_X + CONTENT_WIDTH) {
+                    x = 20;
+                    rowY += 18;
+                }
+                g2d.setColor(action == LastAction.MISS ? MISS_COLOR : SHIFT_COLOR);
+                g2d.drawString(outcome, x, rowY);
+            }
+        }
+    }
+
+    // ── Lower boxes ──────────────────────────────────────────────
+
+    // Bytes per map against n on a log scale, one line per structure, crossovers marked
+    private void drawCrossoverChart(Graphics2D g2d, int x, int y, int width) {
+        drawBox(g2d, x, y, width, BOX_HEIGHT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("BYTES PER MAP vs ENTRIES  (log scale, boxes included)", x + 12, y + 18);
+
+        int plotX = x + 50;
+        int plotY = y + 32;
+        int plotWidth = width - 70;
+        int plotHeight = BOX_HEIGHT - 95;
+        int max = VisualSortedArrayMap.MAX_KEYS;
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        for (int exp = 4; exp <= 13; exp++) {
+            int gy = chartY(1L << exp, plotY, plotHeight);
+            g2d.setColor(new Color(60, 70, 90));
+            g2d.drawLine(plotX, gy, plotX + plotWidth, gy);
+            if (exp % 2 == 0) {
+                g2d.setColor(TEXT_COLOR);
+                String label = exp >= 10 ? (1 << (exp - 10)) + " KB" : (1 << exp) + " B";
+                g2d.drawString(label, plotX - 6 - g2d.getFontMetrics().stringWidth(label), gy + 3);
+            }
+        }
+        for (int n = 0; n <= max; n += 8) {
+            int gx = plotX + n * plotWidth / max;
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString(String.valueOf(n), gx - 4, plotY + plotHeight + 12);
+        }
+
+        drawSeries(g2d, VisualSortedArrayMap::hashMapBytes, HASH_MAP_COLOR, false, plotX, plotY, plotWidth, plotHeight);
+        drawSeries(g2d, VisualSortedArrayMap::treeMapBytes, TREE_MAP_COLOR, false, plotX, plotY, plotWidth, plotHeight);
+        drawSeries(g2d, VisualSortedArrayMap::mapOfBytes, MAP_OF_COLOR, false, plotX, plotY, plotWidth, plotHeight);
+        drawSeries(g2d, VisualSortedArrayMap::trimmedBytes, ACCENT, true, plotX, plotY, plotWidth, plotHeight);
+        drawSeries(g2d, VisualSortedArrayMap::sortedArrayBytes, ACCENT, false, plotX, plotY, plotWidth, plotHeight);
+
+        // Where the sorted array starts to beat Map.of, the only one that is ever smaller
+        int crossover = VisualSortedArrayMap.crossover(VisualSortedArrayMap::mapOfBytes);
+        if (crossover > 0) {
+            int gx = plotX + crossover * plotWidth / max;
+            int gy = chartY(VisualSortedArrayMap.sortedArrayBytes(crossover), plotY, plotHeight);
+            g2d.setColor(FOUND_COLOR);
+            g2d.fillOval(gx - 4, gy - 4, 8, 8);
+            g2d.drawString("n=" + crossover, gx + 8, gy + 12);
+        }
+
+        int n = sortedMap.getSize();
+        int gx = plotX + n * plotWidth / max;
+        g2d.setColor(new Color(255, 255, 255, 150));
+        g2d.setStroke(new BasicStroke(1f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10, new float[]{3, 3}, 0));
+        g2d.drawLine(gx, plotY, gx, plotY + plotHeight);
+        g2d.setStroke(new BasicStroke(1f));
+        g2d.drawString("now", gx + 2, plotY + 8);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int ty = y + BOX_HEIGHT - 38;
+        Object[][] lines = {
+                {HASH_MAP_COLOR, "HashMap", VisualSortedArrayMap.crossover(VisualSortedArrayMap::hashMapBytes)},
+                {TREE_MAP_COLOR, "TreeMap", VisualSortedArrayMap.crossover(VisualSortedArrayMap::treeMapBytes)},
+                {MAP_OF_COLOR, "Map.of", crossover}
+        };
+        int lx = x + 12;
+        for (Object[] line : lines) {
+            int from = (Integer) line[2];
+            g2d.setColor((Color) line[0]);
+            String text = "beats " + line[1] + (from < 0 ? ": never" : from == 0 ? " at every n" : " from n=" + from);
+            g2d.drawString(text, lx, ty);
+            lx += g2d.getFontMetrics().stringWidth(text) + 18;
+        }
+        g2d.setColor(new Color(200, 220, 240));
+        g2d.drawString("Sorted array: solid as grown by puts, dashed after trimToSize()", x + 12, ty + 16);
+    }
+
+    private static void drawSeries(Graphics2D g2d, IntToLongFunction bytes, Color color, boolean dashed,
+                                   int plotX, int plotY, int plotWidth, int plotHeight) {
+        int max = VisualSortedArrayMap.MAX_KEYS;
+        g2d.setColor(color);
+        g2d.setStroke(dashed
+                ? new BasicStroke(1.5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10, new float[]{4, 4}, 0)
+                : new BasicStroke(color == ACCENT ? 2.5f : 1.8f));
+        int px = plotX;
+        int py = chartY(bytes.applyAsLong(0), plotY, plotHeight);
+        for (int n = 1; n <= max; n++) {
+            int nx = plotX + n * plotWidth / max;
+            int ny = chartY(bytes.applyAsLong(n), plotY, plotHeight);
+            g2d.drawLine(px, py, nx, ny);
+            px = nx;
+            py = ny;
+        }
+        g2d.setStroke(new BasicStroke(1f));
+    }
+
+    // 16 B at the bottom, 8 KB at the top; zero (a shared instance) sits on the axis
+    private static int chartY(long bytes, int plotY, int plotHeight) {
+        double log = Math.log(Math.max(16, bytes)) / Math.log(2);
+        return plotY + plotHeight - (int) ((log - 4) / 9 * plotHeight);
+    }
+
+    // The five layouts at the current size, side by side
+    private void drawCurrentSize(Graphics2D g2d, int x, int y, int width) {
+        drawBox(g2d, x, y, width, BOX_HEIGHT);
+        VisualSortedArrayMap.MemoryInfo mem = sortedMap.getMemoryInfo();
+        int n = mem.entries();
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("ONE MAP OF n = " + n, x + 12, y + 18);
+
+        Object[][] bars = {
+                {ACCENT, "this map", mem.totalUsed()},
+                {ACCENT.darker(), "trimmed", mem.trimmed()},
+                {MAP_OF_COLOR, "Map.of", mem.mapOf()},
+                {TREE_MAP_COLOR, "TreeMap", mem.treeMap()},
+                {HASH_MAP_COLOR, "HashMap", mem.hashMap()}
+        };
+        long max = 1;
+        for (Object[] bar : bars) max = Math.max(max, (Long) bar[2]);
+        int barX = x + 80;
+        int barMax = width - 165;
+        int by = y + 34;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        for (Object[] bar : bars) {
+            long bytes = (Long) bar[2];
+            int w = (int) (bytes * barMax / max);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) bar[1], x + 12, by + 10);
+            g2d.setColor((Color) bar[0]);
+            g2d.fillRect(barX, by, Math.max(1, w), 12);
+            g2d.setColor(TEXT_COLOR);
+            String label = bytes + " B" + (n > 0 ? String.format(" (%.0f/e)", (double) bytes / n) : "");
+            g2d.drawString(label, barX + Math.max(1, w) + 5, by + 10);
+            by += 20;
+        }
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int ty = y + BOX_HEIGHT - 52;
+        g2d.setColor(MID_COLOR);
+        g2d.drawString("Lookup: at most " + VisualSortedArrayMap.worstCompares(n) + " compares, no hashing,", x + 12, ty);
+        g2d.drawString("two arrays, no pointer chasing", x + 12, ty + 14);
+        g2d.setColor(SHIFT_COLOR);
+        g2d.drawString("Insert/remove: shift up to " + n + " entries", x + 12, ty + 32);
+    }
+
+    private void drawLegend(Graphics2D g2d) {
+        int y = getHeight() - 30;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        Object[][] items = {
+                {KEY_COLOR, "keys[] (sorted)"},
+                {VALUE_COLOR, "values[] (same index)"},
+                {MID_COLOR, "binary search probe"},
+                {FOUND_COLOR, "found / inserted"},
+                {SHIFT_COLOR, "shifted by arraycopy"},
+                {MISS_COLOR, "miss: insertion point"},
+                {SLACK_COLOR, "growth slack"}
+        };
+        for (Object[] item : items) {
+            g2d.setColor((Color) item[0]);
+            g2d.fillRect(x, y, 10, 10);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) item[1], x + 14, y + 9);
+            x += g2d.getFontMetrics().stringWidth((String) item[1]) + 30;
+        }
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("SORTED ARRAY MAP VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ sorted int[] keys, int[] values at the same index, binary search: no table, no nodes, no boxes ]", 20, 55);
+
+        g2d.setColor(new Color(200, 220, 240));
+        g2d.drawString(sortedMap.getLastOperation(), 20, 80);
+
+        if (sortedMap.hasJustGrown()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(140, 210, 255, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("GROW!", 400, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 220;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MAP STATUS", panelX + 15, panelY + 20);
+
+        int size = sortedMap.getSize();
+        int capacity = sortedMap.getCapacity();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Size: " + size + " / " + VisualSortedArrayMap.MAX_KEYS + " (view limit)", panelX + 15, y);
+        y += 15;
+        g2d.drawString("Capacity: " + capacity + " (2, 4, 8, then x1.5)", panelX + 15, y);
+        y += 15;
+        g2d.setColor(capacity > size ? SLACK_COLOR.brighter() : TEXT_COLOR);
+        g2d.drawString("Slack: " + (capacity - size) + " cell" + (capacity - size == 1 ? "" : "s") + ", "
+                + 8 * (capacity - size) + " B", panelX + 15, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Grows: " + sortedMap.getGrows(), panelX + 15, y);
+        y += 20;
+        g2d.setColor(ACCENT);
+        g2d.drawString("SEARCH AND SHIFT", panelX + 15, y);
+        y += 15;
+        g2d.setColor(MID_COLOR);
+        g2d.drawString("Last search: " + sortedMap.getLastSearch().size() + " compares", panelX + 15, y);
+        y += 15;
+        g2d.drawString("Worst at n=" + size + ": " + VisualSortedArrayMap.worstCompares(size) + " compares", panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Average so far: %.2f", sortedMap.getAverageCompares()), panelX + 15, y);
+        y += 15;
+        g2d.setColor(SHIFT_COLOR);
+        g2d.drawString("Entries shifted, total: " + sortedMap.getTotalShifted(), panelX + 15, y);
+        y += 20;
+        g2d.setColor(FOUND_COLOR);
+        g2d.drawString("Reads: object, keys[], values[]", panelX + 15, y);
+
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 10);
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualSortedArrayMap.MemoryInfo mem = sortedMap.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total: " + mem.formatTotal() + String.format(" (%.1f B/entry)", mem.bytesPerEntry()), x + 15, y + 35);
+        g2d.drawString("Trimmed: " + mem.formatTrimmed() + ", Map.of: " + mem.formatMapOf(), x + 15, y + 50);
+        g2d.drawString("HashMap<Integer,Integer>: " + mem.formatHashMap(), x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(200, 220, 240));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(20, 32, 46, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
@@ -0,0 +1,166 @@
+package game.ui;
+
+import game.model.VisualSwissMap;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import game.ui.ThemeManager;
+
+public class SwissMapMemoryDialog extends JDialog {
+    private VisualSwissMap map;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(255, 130, 90);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public SwissMapMemoryDialog(Frame parent, VisualSwissMap map) {
+        super(parent, "Swiss Table Memory Analysis", true);
+        this.map = map;
+
+        setSize(650, 600);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createLayoutPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualSwissMap.MemoryInfo mem = map.getMemoryInfo();
+
+        String[] lines = {
+                "Total Memory Used: " + mem.formatTotal(),
+                "",
+                "Map object:          " + mem.mapOverhead() + " bytes",
+                "Control bytes:       " + mem.ctrlArray() + " bytes",
+                "int[] keys:          " + mem.keysArray() + " bytes",
+                "int[] values:        " + mem.valuesArray() + " bytes",
+                "",
+                "Groups: " + map.getGroupCount() + " x 16 slots, " + map.getDeleted() + " DELETED bytes"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("Total") ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", line.contains("Total") ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createLayoutPanel() {
+        JPanel panel = createSection("GROUP LAYOUT (9 bytes per slot)");
+
+        String[] diagram = {
+                "ctrl:   [ 3A | EMP | 11 | DEL | ... x16 ]  1 byte each",
+                "keys:   [ k0 | k1  | k2 | k3  | ... x16 ]  4 bytes each",
+                "values: [ v0 | v1  | v2 | v3  | ... x16 ]  4 bytes each",
+                "",
+                "Control byte: EMPTY 0x80, DELETED 0xFE, or the",
+                "key's 7-bit H2 tag (0x00-0x7F) when the slot is full.",
+                "",
+                "A lookup XORs the group's 16 control bytes with its",
+                "tag and finds zero bytes in two 64-bit steps; only",
+                "slots with a matching tag have their key compared.",
+                "",
+                "At most 7/8 of the slots are used, so at least one",
+                "EMPTY byte ends every probe sequence."
+        };
+
+        for (String line : diagram) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("[ ") ? ACCENT : new Color(210, 180, 160));
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("SWISS TABLE vs HASHMAP");
+
+        VisualSwissMap.MemoryInfo mem = map.getMemoryInfo();
+        int n = map.getSize();
+        double perEntrySwiss = n == 0 ? 0 : (double) mem.totalUsed() / n;
+        double perEntryBoxed = n == 0 ? 0 : (double) mem.boxedHashMap() / n;
+
+        String[] lines = {
+                "For the current " + n + " int->int entries:",
+                "",
+                String.format("Swiss table:               %s  (%.1f B/entry)", mem.formatTotal(), perEntrySwiss),
+                "  - flat arrays, load factor 7/8",
+                "",
+                String.format("HashMap<Integer,Integer>:  %s  (%.1f B/entry)", mem.formatBoxedHashMap(), perEntryBoxed),
+                "  - Node 32B + Integer key 16B + Integer value 16B",
+                "  - Integer cache covers -128..127 only",
+                "",
+                "Choose a Swiss table when:",
+                "  - Keys and values are primitives",
+                "  - Lookups dominate, especially misses",
+                "  - A high load factor must stay fast"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("Swiss table:") || line.startsWith("HashMap<")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(210, 180, 160);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
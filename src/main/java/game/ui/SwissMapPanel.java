@@ -0,0 +1,355 @@
+package game.ui;
+
+import game.collections.SwissIntIntMap;
+import game.model.VisualSwissMap;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import game.ui.ThemeManager;
+
+public class SwissMapPanel extends JPanel {
+    private VisualSwissMap map;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(255, 130, 90);
+    private static final Color MATCH_COLOR = new Color(100, 255, 150);
+    private static final Color FALSE_MATCH_COLOR = new Color(255, 200, 100);
+    private static final Color EMPTY_COLOR = new Color(120, 180, 255);
+    private static final Color DELETED_COLOR = new Color(170, 120, 190);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    private static final int CELL_WIDTH = 40;
+    private static final int CELL_GAP = 2;
+    private static final int CTRL_HEIGHT = 20;
+    private static final int SLOT_HEIGHT = 32;
+    private static final int ROW_HEIGHT = 96;
+    private static final int START_X = 70;
+    private static final int START_Y = 115;
+    // How long each probed group stays the "current" one in the replay
+    private static final int GROUP_STEP_MS = 450;
+
+    public SwissMapPanel(VisualSwissMap map) {
+        this.map = map;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            map.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            SwissMapMemoryDialog dialog = new SwissMapMemoryDialog((Frame) window, map);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = Math.max(900, START_X + VisualSwissMap.GROUP_WIDTH * (CELL_WIDTH + CELL_GAP) + 270);
+        int height = Math.max(640, START_Y + map.getGroupCount() * ROW_HEIGHT + 40);
+        return new Dimension(width, height);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        drawBackground(g2d);
+        drawGroups(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(38, 22, 18)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    // ── Groups ───────────────────────────────────────────────────
+
+    private void drawGroups(Graphics2D g2d) {
+        int groups = map.getGroupCount();
+        int probed = map.getLastGroupsProbed();
+        long elapsed = System.currentTimeMillis() - map.getLastProbeTime();
+        int visibleSteps = probed == 0 ? 0 : (int) Math.min(probed, elapsed / GROUP_STEP_MS + 1);
+
+        for (int group = 0; group < groups; group++) {
+            int step = probeStepOf(group, visibleSteps);
+            drawGroup(g2d, group, START_X, START_Y + group * ROW_HEIGHT, step, step == visibleSteps - 1);
+        }
+    }
+
+    // Position of the group in the visible part of the last probe, or -1
+    private int probeStepOf(int group, int visibleSteps) {
+        for (int step = 0; step < visibleSteps; step++) {
+            if (map.getProbeGroup(step) == group) return step;
+        }
+        return -1;
+    }
+
+    private void drawGroup(Graphics2D g2d, int group, int x, int y, int probeStep, boolean current) {
+        int width = VisualSwissMap.GROUP_WIDTH * (CELL_WIDTH + CELL_GAP) - CELL_GAP;
+        int h2 = map.getLastH2();
+        int matches = probeStep >= 0 ? map.getMatchMask(group, h2) : 0;
+        int empties = probeStep >= 0 ? map.getEmptyMask(group) : 0;
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(probeStep >= 0 ? ACCENT : new Color(160, 130, 120));
+        g2d.drawString("G" + group, x - 50, y + 16);
+        if (probeStep >= 0) {
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+            g2d.drawString("probe " + (probeStep + 1), x - 50, y + 30);
+        }
+
+        for (int i = 0; i < VisualSwissMap.GROUP_WIDTH; i++) {
+            int slot = group * VisualSwissMap.GROUP_WIDTH + i;
+            int cx = x + i * (CELL_WIDTH + CELL_GAP);
+            boolean matched = (matches & (1 << i)) != 0;
+            boolean empty = (empties & (1 << i)) != 0;
+            drawCtrlByte(g2d, slot, cx, y, matched, empty);
+            drawSlot(g2d, slot, cx, y + CTRL_HEIGHT + 3, matched, slot == map.getLastSlot() && current);
+        }
+
+        if (probeStep >= 0) {
+            float pulse = current ? (float) (0.6 + 0.4 * Math.sin(glowPhase * 6)) : 0.7f;
+            g2d.setColor(new Color(ACCENT.getRed(), ACCENT.getGreen(), ACCENT.getBlue(), (int) (255 * pulse)));
+            g2d.setStroke(new BasicStroke(current ? 2.2f : 1.5f));
+            g2d.drawRoundRect(x - 4, y - 4, width + 8, CTRL_HEIGHT + SLOT_HEIGHT + 11, 10, 10);
+
+            // One compare answers for all 16 bytes: the broadcast tag and the two bit masks
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+            int textY = y + CTRL_HEIGHT + SLOT_HEIGHT + 20;
+            g2d.setColor(MATCH_COLOR);
+            g2d.drawString("match(h2=" + String.format("%02X", h2) + ") = " + bits(matches), x, textY);
+            g2d.setColor(EMPTY_COLOR);
+            g2d.drawString("empty = " + bits(empties), x + 290, textY);
+        }
+    }
+
+    private void drawCtrlByte(Graphics2D g2d, int slot, int x, int y, boolean matched, boolean empty) {
+        byte ctrl = map.getCtrlAt(slot);
+        String text;
+        Color color;
+        if (ctrl == SwissIntIntMap.EMPTY) {
+            text = "EMP";
+            color = new Color(70, 70, 80);
+        } else if (ctrl == SwissIntIntMap.DELETED) {
+            text = "DEL";
+            color = DELETED_COLOR;
+        } else {
+            text = String.format("%02X", ctrl);
+            color = Color.getHSBColor(ctrl / 128f, 0.55f, 0.95f);
+        }
+
+        g2d.setColor(new Color(color.getRed() / 4, color.getGreen() / 4, color.getBlue() / 4));
+        g2d.fillRect(x, y, CELL_WIDTH, CTRL_HEIGHT);
+        Color border = matched ? MATCH_COLOR : empty ? EMPTY_COLOR : color.darker();
+        g2d.setColor(border);
+        g2d.setStroke(new BasicStroke(matched || empty ? 2f : 1f));
+        g2d.drawRect(x, y, CELL_WIDTH, CTRL_HEIGHT);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(color);
+        FontMetrics fm = g2d.getFontMetrics();
+        g2d.drawString(text, x + (CELL_WIDTH - fm.stringWidth(text)) / 2, y + 14);
+    }
+
+    private void drawSlot(Graphics2D g2d, int slot, int x, int y, boolean matched, boolean found) {
+        boolean full = map.isFull(slot);
+        g2d.setColor(full ? new Color(55, 35, 28) : new Color(35, 28, 26));
+        g2d.fillRoundRect(x, y, CELL_WIDTH, SLOT_HEIGHT, 6, 6);
+
+        Color border = new Color(90, 70, 60);
+        if (found) {
+            border = MATCH_COLOR;
+        } else if (matched) {
+            // Tag hit on a different key: the H2 false positive a key compare filters out
+            border = full && map.getKeyAt(slot) != map.getLastKey() ? FALSE_MATCH_COLOR : MATCH_COLOR;
+        }
+        g2d.setColor(border);
+        g2d.setStroke(new BasicStroke(found || matched ? 2f : 1f));
+        g2d.drawRoundRect(x, y, CELL_WIDTH, SLOT_HEIGHT, 6, 6);
+
+        if (!full) return;
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(TEXT_COLOR);
+        String key = String.valueOf(map.getKeyAt(slot));
+        FontMetrics fm = g2d.getFontMetrics();
+        g2d.drawString(key, x + (CELL_WIDTH - fm.stringWidth(key)) / 2, y + 13);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(210, 180, 160));
+        String value = String.valueOf(map.getValueAt(slot));
+        fm = g2d.getFontMetrics();
+        g2d.drawString(value, x + (CELL_WIDTH - fm.stringWidth(value)) / 2, y + 26);
+    }
+
+    // Slot 0 first, as the slots are drawn left to right
+    private static String bits(int mask) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < VisualSwissMap.GROUP_WIDTH; i++) {
+            sb.append((mask & (1 << i)) != 0 ? '1' : '0');
+            if (i == 7) sb.append(' ');
+        }
+        return sb.toString();
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("SWISS TABLE VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ 16-slot groups, 7-bit H2 tags, 16 tags matched per compare ]", 20, 55);
+
+        g2d.setColor(new Color(210, 180, 160));
+        g2d.drawString(map.getLastOperation(), 20, 80);
+
+        if (map.wasJustRehashed()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(255, 130, 90, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("REHASH!", 320, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 205;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("TABLE STATUS", panelX + 15, panelY + 20);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Size: " + map.getSize() + " / Capacity: " + map.getCapacity(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Groups: " + map.getGroupCount() + " x " + VisualSwissMap.GROUP_WIDTH, panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Load: %.1f%% (max 87.5%%)", map.getCurrentLoad() * 100), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Growth left: " + map.getGrowthLeft(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(map.getDeleted() > 0 ? DELETED_COLOR : TEXT_COLOR);
+        g2d.drawString("DELETED bytes: " + map.getDeleted(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Rehashes: " + map.getRehashCount() + "  Cleanups: " + map.getCleanupCount(), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Groups/hit:   %.2f", map.getAverageGroupsPerHit()), panelX + 15, y);
+        y += 15;
+        g2d.drawString(String.format("Groups/op:    %.2f", map.getAverageGroupsPerOperation()), panelX + 15, y);
+        y += 15;
+        long matches = map.getTagMatches();
+        g2d.setColor(FALSE_MATCH_COLOR);
+        g2d.drawString(String.format("False tag hits: %d / %d", map.getFalseTagMatches(), matches), panelX + 15, y);
+
+        drawLegend(g2d, panelX, panelY + panelHeight + 10);
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 110);
+    }
+
+    private void drawLegend(Graphics2D g2d, int x, int y) {
+        drawBox(g2d, x, y, 220, 90);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("LEGEND", x + 15, y + 20);
+
+        Object[][] entries = {
+                {MATCH_COLOR, "tag match / key found"},
+                {FALSE_MATCH_COLOR, "tag match, other key"},
+                {EMPTY_COLOR, "EMPTY: probe stops here"},
+                {DELETED_COLOR, "DELETED: probe continues"}
+        };
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int ly = y + 36;
+        for (Object[] entry : entries) {
+            g2d.setColor((Color) entry[0]);
+            g2d.fillRect(x + 15, ly - 8, 10, 10);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) entry[1], x + 32, ly);
+            ly += 14;
+        }
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 75;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualSwissMap.MemoryInfo mem = map.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total: " + mem.formatTotal(), x + 15, y + 35);
+        g2d.drawString("HashMap<Integer,Integer>: " + mem.formatBoxedHashMap(), x + 15, y + 50);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(210, 180, 160));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 66);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(42, 26, 20, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}
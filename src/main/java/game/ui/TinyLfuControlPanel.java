@@ -0,0 +1,359 @@
+package game.ui;
+
+import game.model.VisualTinyLfu;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import java.util.Random;
+import game.ui.ThemeManager;
+
+public class TinyLfuControlPanel extends JPanel {
+    private VisualTinyLfu cache;
+    private Random random = new Random();
+    private JTextField keyField;
+    private JComboBox<String> skewCombo;
+    private JComboBox<String> speedCombo;
+    private JComboBox<String> windowCombo;
+    private JButton playBtn;
+    private JLabel statusLabel;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(150, 230, 120);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+    private static Color BUTTON_BG = ThemeManager.get().getButtonBg();
+    private static Color SUCCESS_COLOR = ThemeManager.get().getSuccessColor();
+    private static Color WARN_COLOR = ThemeManager.get().getWarnColor();
+    private static Color ERROR_COLOR = ThemeManager.get().getErrorColor();
+
+    public TinyLfuControlPanel(VisualTinyLfu cache) {
+        this.cache = cache;
+        setBackground(BG_COLOR);
+        setPreferredSize(new Dimension(280, 640));
+        setBorder(new EmptyBorder(15, 15, 15, 15));
+        setLayout(new BoxLayout(this, BoxLayout.Y_AXIS));
+
+        initComponents();
+        ThemeManager.get().addListener(() -> { updateThemeColors(); repaint(); });
+    }
+
+    private void initComponents() {
+        add(createTitle("ACCESS"));
+        add(Box.createVerticalStrut(8));
+
+        add(createLabel("KEY (0.." + (VisualTinyLfu.KEY_RANGE - 1) + "):"));
+        keyField = new JTextField();
+        styleTextField(keyField);
+        add(keyField);
+        add(Box.createVerticalStrut(8));
+
+        JPanel opPanel = new JPanel(new GridLayout(1, 2, 4, 4));
+        opPanel.setBackground(BG_COLOR);
+        opPanel.setMaximumSize(new Dimension(230, 26));
+        opPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton getBtn = createSmallButton("get / load", new Color(255, 230, 100));
+        getBtn.addActionListener(e -> {
+            Integer key = parseKey();
+            if (key == null) return;
+            boolean hit = cache.access(key);
+            updateStatus(hit ? "Hit: " + key : "Miss: " + key + " loaded", hit ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        opPanel.add(getBtn);
+
+        JButton randomBtn = createSmallButton("random key", new Color(120, 180, 255));
+        randomBtn.addActionListener(e -> {
+            int key = VisualTinyLfu.generateRandomKey(random);
+            boolean hit = cache.access(key);
+            updateStatus((hit ? "Hit: " : "Miss: ") + key, hit ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        opPanel.add(randomBtn);
+        add(opPanel);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("ZIPF TRACE"));
+        add(Box.createVerticalStrut(6));
+
+        String[] skewNames = new String[VisualTinyLfu.SKEWS.length];
+        for (int i = 0; i < skewNames.length; i++) skewNames[i] = "skew " + VisualTinyLfu.SKEWS[i];
+        skewCombo = new JComboBox<>(skewNames);
+        styleComboBox(skewCombo);
+        skewCombo.setSelectedIndex(1);
+        skewCombo.addActionListener(e -> cache.setSkew(VisualTinyLfu.SKEWS[skewCombo.getSelectedIndex()]));
+        add(skewCombo);
+        add(Box.createVerticalStrut(4));
+
+        String[] speedNames = new String[VisualTinyLfu.SPEEDS.length];
+        for (int i = 0; i < speedNames.length; i++) speedNames[i] = VisualTinyLfu.SPEEDS[i] + " accesses / s";
+        speedCombo = new JComboBox<>(speedNames);
+        styleComboBox(speedCombo);
+        speedCombo.setSelectedIndex(1);
+        speedCombo.addActionListener(e -> cache.setSpeed(VisualTinyLfu.SPEEDS[speedCombo.getSelectedIndex()]));
+        add(speedCombo);
+        add(Box.createVerticalStrut(6));
+
+        JPanel stepPanel = new JPanel(new GridLayout(1, 3, 4, 4));
+        stepPanel.setBackground(BG_COLOR);
+        stepPanel.setMaximumSize(new Dimension(230, 26));
+        stepPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        playBtn = createSmallButton("play", new Color(120, 240, 170));
+        playBtn.addActionListener(e -> {
+            boolean playing = !cache.isPlaying();
+            cache.setPlaying(playing);
+            playBtn.setText(playing ? "pause" : "play");
+            updateStatus(playing ? "Replaying Zipf trace" : "Paused", playing ? SUCCESS_COLOR : TEXT_COLOR);
+        });
+        stepPanel.add(playBtn);
+
+        JButton stepBtn = createSmallButton("step", new Color(255, 210, 100));
+        stepBtn.addActionListener(e -> {
+            cache.step(1);
+            updateStatus(cache.wasLastHit() ? "Hit: " + cache.getLastKey() : "Miss: " + cache.getLastKey(),
+                    cache.wasLastHit() ? SUCCESS_COLOR : WARN_COLOR);
+        });
+        stepPanel.add(stepBtn);
+
+        JButton burstBtn = createSmallButton("x200", new Color(200, 150, 255));
+        burstBtn.addActionListener(e -> {
+            cache.step(200);
+            updateStatus(String.format("TinyLFU %.1f%%, LRU %.1f%%", 100 * cache.getHitRate(), 100 * cache.getLruHitRate()),
+                    SUCCESS_COLOR);
+        });
+        stepPanel.add(burstBtn);
+        add(stepPanel);
+        add(Box.createVerticalStrut(6));
+
+        JButton scanBtn = createStyledButton("scan 20 one-off keys", new Color(255, 150, 110));
+        scanBtn.addActionListener(e -> {
+            cache.scan(VisualTinyLfu.CAPACITY);
+            updateStatus("Scan pushed through", WARN_COLOR);
+        });
+        add(scanBtn);
+        add(Box.createVerticalStrut(10));
+
+        add(createTitle("POLICY"));
+        add(Box.createVerticalStrut(6));
+
+        String[] windowNames = new String[VisualTinyLfu.WINDOW_PERCENTS.length];
+        for (int i = 0; i < windowNames.length; i++) windowNames[i] = "window " + VisualTinyLfu.WINDOW_PERCENTS[i] + "% of capacity";
+        windowCombo = new JComboBox<>(windowNames);
+        styleComboBox(windowCombo);
+        windowCombo.setSelectedIndex(1);
+        windowCombo.addActionListener(e -> {
+            cache.setWindowPercent(VisualTinyLfu.WINDOW_PERCENTS[windowCombo.getSelectedIndex()]);
+            updateStatus("Cache rebuilt, window " + cache.getWindowCapacity(), WARN_COLOR);
+        });
+        add(windowCombo);
+        add(Box.createVerticalStrut(6));
+
+        JPanel resetPanel = new JPanel(new GridLayout(1, 2, 4, 4));
+        resetPanel.setBackground(BG_COLOR);
+        resetPanel.setMaximumSize(new Dimension(230, 26));
+        resetPanel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JButton resetBtn = createSmallButton("reset stats", ACCENT);
+        resetBtn.addActionListener(e -> {
+            cache.resetStats();
+            updateStatus("Hit counters zeroed", TEXT_COLOR);
+        });
+        resetPanel.add(resetBtn);
+
+        JButton clearBtn = createSmallButton("clear()", new Color(200, 80, 80));
+        clearBtn.addActionListener(e -> {
+            cache.clear();
+            updateStatus("Cache cleared", WARN_COLOR);
+        });
+        resetPanel.add(clearBtn);
+        add(resetPanel);
+        add(Box.createVerticalStrut(8));
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Consolas", Font.PLAIN, 12));
+        statusLabel.setForeground(TEXT_COLOR);
+        statusLabel.setAlignmentX(LEFT_ALIGNMENT);
+        statusLabel.setMaximumSize(new Dimension(230, 20));
+        add(statusLabel);
+
+        add(Box.createVerticalGlue());
+        add(createInfoPanel());
+    }
+
+    private Integer parseKey() {
+        try {
+            int key = Integer.parseInt(keyField.getText().trim());
+            if (key < 0 || key >= VisualTinyLfu.KEY_RANGE) {
+                updateStatus("Key must be 0.." + (VisualTinyLfu.KEY_RANGE - 1), ERROR_COLOR);
+                return null;
+            }
+            return key;
+        } catch (NumberFormatException ex) {
+            updateStatus("Invalid key", ERROR_COLOR);
+            return null;
+        }
+    }
+
+    private void updateStatus(String message, Color color) {
+        statusLabel.setText(message);
+        statusLabel.setForeground(color);
+    }
+
+    private JLabel createTitle(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(ACCENT);
+        label.setFont(new Font("Consolas", Font.BOLD, 14));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private JLabel createLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setForeground(TEXT_COLOR);
+        label.setFont(new Font("Consolas", Font.PLAIN, 12));
+        label.setAlignmentX(LEFT_ALIGNMENT);
+        return label;
+    }
+
+    private void styleComboBox(JComboBox<String> combo) {
+        combo.setBackground(BUTTON_BG);
+        combo.setForeground(TEXT_COLOR);
+        combo.setFont(new Font("Consolas", Font.PLAIN, 13));
+        combo.setMaximumSize(new Dimension(250, 26));
+        combo.setAlignmentX(LEFT_ALIGNMENT);
+        combo.setBorder(BorderFactory.createLineBorder(ACCENT.darker(), 1));
+    }
+
+    private void styleTextField(JTextField field) {
+        field.setBackground(BUTTON_BG);
+        field.setForeground(TEXT_COLOR);
+        field.setCaretColor(ACCENT);
+        field.setFont(new Font("Consolas", Font.PLAIN, 13));
+        field.setMaximumSize(new Dimension(250, 26));
+        field.setAlignmentX(LEFT_ALIGNMENT);
+        field.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                BorderFactory.createEmptyBorder(3, 6, 3, 6)
+        ));
+    }
+
+    private JButton createStyledButton(String text, Color accentColor) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(accentColor.darker());
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(accentColor);
+                } else {
+                    g2d.setColor(BUTTON_BG);
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+                g2d.setColor(accentColor);
+                g2d.setStroke(new BasicStroke(1.5f));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 6, 6);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.BOLD, 13));
+        button.setMaximumSize(new Dimension(250, 32));
+        button.setAlignmentX(LEFT_ALIGNMENT);
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JButton createSmallButton(String text, Color color) {
+        JButton button = new JButton(text) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+                if (getModel().isPressed()) {
+                    g2d.setColor(color);
+                } else if (getModel().isRollover()) {
+                    g2d.setColor(color.darker());
+                } else {
+                    g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 40));
+                }
+
+                g2d.fillRoundRect(0, 0, getWidth(), getHeight(), 5, 5);
+                g2d.setColor(color);
+                g2d.setStroke(new BasicStroke(1));
+                g2d.drawRoundRect(0, 0, getWidth() - 1, getHeight() - 1, 5, 5);
+
+                g2d.setColor(TEXT_COLOR);
+                g2d.setFont(getFont());
+                FontMetrics fm = g2d.getFontMetrics();
+                int x = (getWidth() - fm.stringWidth(getText())) / 2;
+                int y = (getHeight() + fm.getAscent() - fm.getDescent()) / 2;
+                g2d.drawString(getText(), x, y);
+                g2d.dispose();
+            }
+        };
+
+        button.setFont(new Font("Consolas", Font.PLAIN, 11));
+        button.setContentAreaFilled(false);
+        button.setBorderPainted(false);
+        button.setFocusPainted(false);
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
+    }
+
+    private JPanel createInfoPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(8, 10, 8, 10)
+        ));
+        panel.setMaximumSize(new Dimension(230, 130));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel title = new JLabel("TINYLFU INFO");
+        title.setForeground(ACCENT);
+        title.setFont(new Font("Consolas", Font.BOLD, 12));
+        panel.add(title);
+
+        String[] info = {
+                "New keys: small LRU window",
+                "Main: probation + protected",
+                "Admit if more frequent",
+                "Sketch halves to forget",
+                "Hits buffered, lock batched"
+        };
+
+        for (String line : info) {
+            JLabel label = new JLabel(line);
+            label.setForeground(new Color(190, 230, 180));
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private void updateThemeColors() {
+        BG_COLOR = ThemeManager.get().getBgColor();
+        TEXT_COLOR = ThemeManager.get().getTextColor();
+        PANEL_BG = ThemeManager.get().getPanelBg();
+        BUTTON_BG = ThemeManager.get().getButtonBg();
+        setBackground(BG_COLOR);
+    }
+}
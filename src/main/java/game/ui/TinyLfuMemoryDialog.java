@@ -0,0 +1,169 @@
+package game.ui;
+
+import game.collections.TinyLfuIntCache;
+import game.model.VisualTinyLfu;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+import game.ui.ThemeManager;
+
+public class TinyLfuMemoryDialog extends JDialog {
+    private VisualTinyLfu cache;
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color PANEL_BG = ThemeManager.get().getPanelBg();
+    private static final Color ACCENT = new Color(150, 230, 120);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    public TinyLfuMemoryDialog(Frame parent, VisualTinyLfu cache) {
+        super(parent, "W-TinyLFU Cache Memory Analysis", true);
+        this.cache = cache;
+
+        setSize(650, 660);
+        setLocationRelativeTo(parent);
+        setBackground(BG_COLOR);
+
+        JPanel content = createContentPanel();
+        JScrollPane scrollPane = new JScrollPane(content);
+        scrollPane.setBorder(null);
+        scrollPane.getViewport().setBackground(BG_COLOR);
+        add(scrollPane);
+    }
+
+    private JPanel createContentPanel() {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(BG_COLOR);
+        panel.setBorder(new EmptyBorder(20, 20, 20, 20));
+
+        panel.add(createSummaryPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createPolicyPanel());
+        panel.add(Box.createVerticalStrut(15));
+        panel.add(createComparisonPanel());
+
+        return panel;
+    }
+
+    private JPanel createSummaryPanel() {
+        JPanel panel = createSection("MEMORY SUMMARY");
+
+        VisualTinyLfu.MemoryInfo mem = cache.getMemoryInfo();
+        int n = mem.entries();
+
+        String[] lines = {
+                "Total heap used: " + mem.formatTotal(),
+                "",
+                "Entries:      " + n + " of " + VisualTinyLfu.CAPACITY + " (" + mem.formatEntries() + " incl. map table)",
+                "Sketch:       " + mem.formatSketch() + " (" + mem.sketchBytes() / 8 * 16 + " four-bit counters)",
+                "Read buffers: " + mem.formatBuffers() + " (" + TinyLfuIntCache.READ_BUFFER_STRIPES + " stripes x "
+                        + TinyLfuIntCache.READ_BUFFER_SIZE + " slots)",
+                "",
+                String.format("Bytes per entry: %.1f", n == 0 ? 0.0 : (double) mem.totalUsed() / n)
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            boolean highlight = line.contains("Total") || line.startsWith("Bytes per");
+            label.setForeground(highlight ? ACCENT : TEXT_COLOR);
+            label.setFont(new Font("Consolas", highlight ? Font.BOLD : Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createPolicyPanel() {
+        JPanel panel = createSection("POLICY STATE");
+
+        String[] lines = {
+                String.format("window     %2d / %2d", cache.getSegment(TinyLfuIntCache.Segment.WINDOW).size(), cache.getWindowCapacity()),
+                String.format("probation  %2d / %2d", cache.getSegment(TinyLfuIntCache.Segment.PROBATION).size(), cache.getProbationCapacity()),
+                String.format("protected  %2d / %2d", cache.getSegment(TinyLfuIntCache.Segment.PROTECTED).size(), cache.getProtectedCapacity()),
+                "",
+                String.format("hit rate   TinyLFU %.1f%%   LRU %.1f%%", 100 * cache.getHitRate(), 100 * cache.getLruHitRate()),
+                "admitted   " + cache.getAdmissions() + "   rejected " + cache.getRejections()
+                        + "   evicted " + cache.getEvictions(),
+                "sketch     " + cache.getSketchAdditions() + " / " + cache.getSketchSampleSize()
+                        + " additions, halved " + cache.getSketchResets() + "x",
+                "",
+                "entry -> [ CHM node ] -> [ Integer key ] + [ policy node: key, value, segment, prev, next ]",
+                "A hit costs one slot in a read buffer; the relink happens later, under the lock.",
+                "The sketch is fixed size: it remembers keys long after they were evicted."
+        };
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            label.setForeground(line.contains("[") ? ACCENT : line.startsWith("A ") || line.startsWith("The ")
+                    ? new Color(190, 230, 180) : TEXT_COLOR);
+            label.setFont(new Font("Consolas", Font.PLAIN, 10));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createComparisonPanel() {
+        JPanel panel = createSection("TINYLFU vs SYNCHRONIZED LINKEDHASHMAP LRU");
+
+        VisualTinyLfu.MemoryInfo mem = cache.getMemoryInfo();
+        int n = mem.entries();
+        double perCache = n == 0 ? 0 : (double) mem.totalUsed() / n;
+        double perLru = n == 0 ? 0 : (double) mem.linkedHashMap() / n;
+
+        String[] lines = {
+                "For the current " + n + " entries:",
+                "",
+                String.format("TinyLfuIntCache:           %s  (%.1f B/entry)", mem.formatTotal(), perCache),
+                "  - fixed cost of sketch and buffers dominates a tiny cache",
+                "  - gets never take a lock; scans rarely get past the window",
+                "",
+                String.format("LinkedHashMap (accessOrder): %s  (%.1f B/entry)", mem.formatLinkedHashMap(), perLru),
+                "  - 40B entry with before/after links + two 16B boxes",
+                "  - every get relinks, so synchronizedMap serialises reads",
+                "",
+                "Choose a TinyLFU cache when:",
+                "  - Many threads read a bounded cache concurrently",
+                "  - Popularity is skewed and scans or one-hit keys are common"
+        };
+
+        for (String line : lines) {
+            JLabel label = new JLabel(line.isEmpty() ? " " : line);
+            Color color = TEXT_COLOR;
+            if (line.startsWith("TinyLfuIntCache:") || line.startsWith("LinkedHashMap")) {
+                color = ACCENT;
+            } else if (line.startsWith("  -")) {
+                color = new Color(190, 230, 180);
+            }
+            label.setForeground(color);
+            label.setFont(new Font("Consolas", Font.PLAIN, 11));
+            label.setAlignmentX(LEFT_ALIGNMENT);
+            panel.add(label);
+        }
+
+        return panel;
+    }
+
+    private JPanel createSection(String title) {
+        JPanel panel = new JPanel();
+        panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
+        panel.setBackground(PANEL_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createLineBorder(ACCENT.darker(), 1),
+                new EmptyBorder(12, 15, 12, 15)
+        ));
+        panel.setMaximumSize(new Dimension(600, 2000));
+        panel.setAlignmentX(LEFT_ALIGNMENT);
+
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setForeground(ACCENT);
+        titleLabel.setFont(new Font("Consolas", Font.BOLD, 12));
+        titleLabel.setAlignmentX(LEFT_ALIGNMENT);
+        panel.add(titleLabel);
+        panel.add(Box.createVerticalStrut(10));
+
+        return panel;
+    }
+}
@@ -0,0 +1,505 @@
+package game.ui;
+
+import game.collections.TinyLfuIntCache.Segment;
+import game.model.VisualTinyLfu;
+import game.model.VisualTinyLfu.Duel;
+import game.model.VisualTinyLfu.EntryView;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import game.ui.ThemeManager;
+
+public class TinyLfuPanel extends JPanel {
+    private VisualTinyLfu cache;
+    private Timer timer;
+    private double glowPhase = 0;
+    private long lastTime;
+    private Rectangle memoryPanelBounds = new Rectangle();
+
+    private static Color BG_COLOR = ThemeManager.get().getBgColor();
+    private static Color GRID_COLOR = ThemeManager.get().getGridColor();
+    private static final Color ACCENT = new Color(150, 230, 120);
+    private static final Color WINDOW_COLOR = new Color(255, 210, 100);
+    private static final Color PROBATION_COLOR = new Color(120, 180, 255);
+    private static final Color PROTECTED_COLOR = new Color(150, 230, 120);
+    private static final Color LRU_COLOR = new Color(255, 160, 110);
+    private static final Color REJECT_COLOR = new Color(255, 90, 90);
+    private static final Color HIT_COLOR = new Color(255, 255, 255);
+    private static Color TEXT_COLOR = ThemeManager.get().getTextColor();
+
+    private static final int LABEL_X = 20;
+    private static final int LANES_X = 150;
+    private static final int CELL_WIDTH = 36;
+    private static final int CELL_HEIGHT = 30;
+    private static final int COLUMN_WIDTH = 40;
+    private static final int LANES_Y = 105;
+    private static final int LANE_HEIGHT = 66;
+    private static final int LOWER_Y = LANES_Y + 3 * LANE_HEIGHT + 20;
+    private static final int LOWER_HEIGHT = 200;
+    private static final int SKETCH_COLUMNS = 32;
+    private static final int SKETCH_CELL = 9;
+
+    public TinyLfuPanel(VisualTinyLfu cache) {
+        this.cache = cache;
+        setBackground(BG_COLOR);
+        setAutoscrolls(true);
+        lastTime = System.nanoTime();
+
+        timer = new Timer(16, e -> {
+            long now = System.nanoTime();
+            double delta = (now - lastTime) / 1_000_000_000.0;
+            lastTime = now;
+            glowPhase += delta;
+            cache.update(delta);
+            repaint();
+        });
+        timer.start();
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (memoryPanelBounds.contains(e.getPoint())) {
+                    showMemoryDialog();
+                }
+            }
+        });
+    }
+
+    private void showMemoryDialog() {
+        Window window = SwingUtilities.getWindowAncestor(this);
+        if (window instanceof Frame) {
+            TinyLfuMemoryDialog dialog = new TinyLfuMemoryDialog((Frame) window, cache);
+            dialog.setVisible(true);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int width = LANES_X + VisualTinyLfu.CAPACITY * COLUMN_WIDTH + 20 + 260;
+        int height = LOWER_Y + LOWER_HEIGHT + 60;
+        return new Dimension(width, Math.max(640, height));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g.create();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        drawBackground(g2d);
+        drawLanes(g2d);
+        drawEntries(g2d);
+        drawDuels(g2d, LABEL_X, LOWER_Y);
+        drawSketch(g2d, LABEL_X + 320, LOWER_Y);
+        drawHitRateChart(g2d, LABEL_X + 660, LOWER_Y);
+        drawLegend(g2d);
+        drawHeader(g2d);
+        drawStats(g2d);
+
+        g2d.dispose();
+    }
+
+    private void drawBackground(Graphics2D g2d) {
+        GradientPaint gradient = new GradientPaint(
+                0, 0, BG_COLOR,
+                0, getHeight(), new Color(18, 32, 20)
+        );
+        g2d.setPaint(gradient);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        g2d.setColor(GRID_COLOR);
+        g2d.setStroke(new BasicStroke(0.5f));
+        int gridSize = 40;
+        for (int x = 0; x < getWidth(); x += gridSize) {
+            g2d.drawLine(x, 0, x, getHeight());
+        }
+        for (int y = 0; y < getHeight(); y += gridSize) {
+            g2d.drawLine(0, y, getWidth(), y);
+        }
+    }
+
+    private static Color segmentColor(int row) {
+        return row == 0 ? WINDOW_COLOR : row == 1 ? PROBATION_COLOR : PROTECTED_COLOR;
+    }
+
+    private static int laneY(double row) {
+        return (int) (LANES_Y + row * LANE_HEIGHT);
+    }
+
+    // ── Segments ─────────────────────────────────────────────────
+
+    private void drawLanes(Graphics2D g2d) {
+        String[] names = {"WINDOW", "PROBATION", "PROTECTED"};
+        String[] notes = {"every new key enters", "candidates + demoted", "promoted from probation"};
+        int[] capacities = {cache.getWindowCapacity(), cache.getProbationCapacity(), cache.getProtectedCapacity()};
+        int laneWidth = VisualTinyLfu.CAPACITY * COLUMN_WIDTH + 8;
+
+        for (int row = 0; row < 3; row++) {
+            int y = laneY(row);
+            Color color = segmentColor(row);
+            Segment segment = Segment.values()[row];
+            int size = cache.getSegment(segment).size();
+
+            g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 18));
+            g2d.fillRoundRect(LANES_X - 8, y - 8, laneWidth, CELL_HEIGHT + 24, 8, 8);
+            g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 110));
+            g2d.setStroke(new BasicStroke(1f));
+            g2d.drawRoundRect(LANES_X - 8, y - 8, laneWidth, CELL_HEIGHT + 24, 8, 8);
+
+            // Slots this segment is sized for; probation can run over while protected fills
+            g2d.setStroke(new BasicStroke(1f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10f, new float[]{3f, 3f}, 0f));
+            g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 60));
+            for (int col = size; col < capacities[row]; col++) {
+                g2d.drawRoundRect(LANES_X + col * COLUMN_WIDTH, y, CELL_WIDTH, CELL_HEIGHT, 6, 6);
+            }
+
+            g2d.setFont(new Font("Consolas", Font.BOLD, 12));
+            g2d.setColor(color);
+            g2d.drawString(names[row], LABEL_X, y + 12);
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString(size + " / " + capacities[row], LABEL_X, y + 26);
+            g2d.setColor(new Color(170, 200, 170));
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+            g2d.drawString(notes[row], LABEL_X, y + 40);
+        }
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(170, 200, 170));
+        g2d.drawString("LRU (next victim)", LANES_X, LANES_Y - 14);
+        String mru = "MRU";
+        g2d.drawString(mru, LANES_X + laneWidth - 12 - g2d.getFontMetrics().stringWidth(mru), LANES_Y - 14);
+    }
+
+    private void drawEntries(Graphics2D g2d) {
+        int lastKey = cache.getLastKey();
+        for (Segment segment : Segment.values()) {
+            for (EntryView entry : cache.getSegment(segment)) {
+                double row = cache.getRow(entry.key());
+                double col = cache.getColumn(entry.key());
+                if (row < 0) continue;
+                int x = (int) (LANES_X + col * COLUMN_WIDTH);
+                int y = laneY(row);
+                int alpha = (int) (255 * cache.getAlpha(entry.key()));
+                Color color = segmentColor(segment.ordinal());
+
+                g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), Math.min(alpha, 70)));
+                g2d.fillRoundRect(x, y, CELL_WIDTH, CELL_HEIGHT, 6, 6);
+                g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha));
+                g2d.setStroke(new BasicStroke(1.4f));
+                g2d.drawRoundRect(x, y, CELL_WIDTH, CELL_HEIGHT, 6, 6);
+
+                if (entry.key() == lastKey) {
+                    float pulse = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+                    Color ring = cache.wasLastHit() ? HIT_COLOR : WINDOW_COLOR;
+                    g2d.setColor(new Color(ring.getRed(), ring.getGreen(), ring.getBlue(), (int) (120 + 135 * pulse)));
+                    g2d.setStroke(new BasicStroke(2.2f));
+                    g2d.drawRoundRect(x - 3, y - 3, CELL_WIDTH + 6, CELL_HEIGHT + 6, 8, 8);
+                }
+
+                g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+                FontMetrics fm = g2d.getFontMetrics();
+                String label = String.valueOf(entry.key());
+                g2d.setColor(new Color(TEXT_COLOR.getRed(), TEXT_COLOR.getGreen(), TEXT_COLOR.getBlue(), alpha));
+                g2d.drawString(label, x + (CELL_WIDTH - fm.stringWidth(label)) / 2, y + 15);
+
+                // Sketch estimate, 0..15
+                g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+                g2d.setColor(new Color(200, 220, 200, alpha));
+                g2d.drawString("f" + entry.frequency(), x + 3, y + CELL_HEIGHT - 4);
+                g2d.setColor(new Color(60, 80, 60));
+                g2d.fillRect(x + 2, y + CELL_HEIGHT + 3, CELL_WIDTH - 4, 4);
+                g2d.setColor(color);
+                g2d.fillRect(x + 2, y + CELL_HEIGHT + 3, (CELL_WIDTH - 4) * entry.frequency() / 15, 4);
+            }
+        }
+    }
+
+    // ── Admission, sketch, hit rate ──────────────────────────────
+
+    private void drawDuels(Graphics2D g2d, int x, int y) {
+        int width = 300;
+        drawBox(g2d, x, y, width, LOWER_HEIGHT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("ADMISSION: window candidate vs probation LRU", x + 12, y + 18);
+
+        List<Duel> duels = cache.getDuels();
+        if (duels.isEmpty()) {
+            g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+            g2d.setColor(new Color(170, 200, 170));
+            g2d.drawString("No duel yet: main is not full", x + 12, y + 40);
+            return;
+        }
+
+        Duel latest = duels.get(0);
+        drawDuelKey(g2d, x + 30, y + 34, latest.candidate(), latest.candidateFrequency(), WINDOW_COLOR,
+                "candidate", !latest.admitted());
+        g2d.setFont(new Font("Consolas", Font.BOLD, 13));
+        g2d.setColor(TEXT_COLOR);
+        String relation = latest.candidateFrequency() > latest.victimFrequency() ? ">"
+                : latest.candidateFrequency() == latest.victimFrequency() ? "=" : "<";
+        g2d.drawString(relation, x + 142, y + 58);
+        drawDuelKey(g2d, x + 180, y + 34, latest.victim(), latest.victimFrequency(), PROBATION_COLOR,
+                "victim", latest.admitted());
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(latest.admitted() ? ACCENT : REJECT_COLOR);
+        g2d.drawString(latest.admitted() ? "ADMITTED: victim " + latest.victim() + " evicted"
+                : "REJECTED: candidate " + latest.candidate() + " evicted", x + 12, y + 104);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        for (int i = 1; i < duels.size(); i++) {
+            Duel duel = duels.get(i);
+            int rowY = y + 104 + i * 17;
+            g2d.setColor(duel.admitted() ? new Color(170, 220, 150) : new Color(230, 140, 140));
+            g2d.drawString(String.format("%4d (f%d) vs %4d (f%d)  %s", duel.candidate(), duel.candidateFrequency(),
+                    duel.victim(), duel.victimFrequency(), duel.admitted() ? "admitted" : "rejected"), x + 12, rowY);
+        }
+    }
+
+    private void drawDuelKey(Graphics2D g2d, int x, int y, int key, int frequency, Color color, String role, boolean evicted) {
+        g2d.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 60));
+        g2d.fillRoundRect(x, y, 80, 40, 8, 8);
+        g2d.setColor(evicted ? REJECT_COLOR : color);
+        g2d.setStroke(new BasicStroke(evicted ? 2f : 1.5f));
+        g2d.drawRoundRect(x, y, 80, 40, 8, 8);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 13));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString(String.valueOf(key), x + 8, y + 18);
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.drawString("f = " + frequency, x + 8, y + 33);
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(color);
+        g2d.drawString(role, x, y + 52);
+        if (evicted) {
+            g2d.setColor(REJECT_COLOR);
+            g2d.setStroke(new BasicStroke(2f));
+            g2d.drawLine(x + 60, y + 8, x + 72, y + 20);
+            g2d.drawLine(x + 60, y + 20, x + 72, y + 8);
+        }
+    }
+
+    // Every 4-bit counter of the count-min sketch; the key just accessed lights up its
+    // SKETCH_DEPTH counters, and the smallest of them is its frequency estimate
+    private void drawSketch(Graphics2D g2d, int x, int y) {
+        int width = 320;
+        drawBox(g2d, x, y, width, LOWER_HEIGHT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("COUNT-MIN SKETCH (4-bit counters)", x + 12, y + 18);
+
+        int[] counters = cache.getSketchCounters();
+        int gridX = x + 16;
+        int gridY = y + 28;
+        for (int i = 0; i < counters.length; i++) {
+            int cx = gridX + (i % SKETCH_COLUMNS) * SKETCH_CELL;
+            int cy = gridY + (i / SKETCH_COLUMNS) * SKETCH_CELL;
+            int v = counters[i];
+            if (v == 0) {
+                g2d.setColor(new Color(30, 44, 32));
+            } else {
+                float t = v / 15f;
+                g2d.setColor(new Color((int) (60 + 195 * t), (int) (120 + 110 * t), (int) (70 - 20 * t)));
+            }
+            g2d.fillRect(cx, cy, SKETCH_CELL - 1, SKETCH_CELL - 1);
+        }
+
+        int[] indexes = cache.getLastIndexes();
+        int min = 15;
+        for (int index : indexes) min = Math.min(min, counters[index]);
+        g2d.setStroke(new BasicStroke(1.6f));
+        for (int index : indexes) {
+            int cx = gridX + (index % SKETCH_COLUMNS) * SKETCH_CELL;
+            int cy = gridY + (index / SKETCH_COLUMNS) * SKETCH_CELL;
+            g2d.setColor(counters[index] == min ? HIT_COLOR : WINDOW_COLOR);
+            g2d.drawRect(cx - 1, cy - 1, SKETCH_CELL, SKETCH_CELL);
+        }
+
+        int textY = gridY + (counters.length / SKETCH_COLUMNS) * SKETCH_CELL + 14;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(TEXT_COLOR);
+        if (indexes.length > 0) {
+            StringBuilder values = new StringBuilder();
+            for (int index : indexes) values.append(values.length() == 0 ? "" : ", ").append(counters[index]);
+            g2d.drawString("key " + cache.getLastKey() + ": counters [" + values + "] -> min " + min, x + 16, textY);
+        }
+        g2d.setColor(new Color(170, 200, 170));
+        g2d.drawString("additions " + cache.getSketchAdditions() + " / " + cache.getSketchSampleSize()
+                + " until halving, halved " + cache.getSketchResets() + "x", x + 16, textY + 13);
+    }
+
+    private void drawHitRateChart(Graphics2D g2d, int x, int y) {
+        int width = 290;
+        drawBox(g2d, x, y, width, LOWER_HEIGHT);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("HIT RATE per " + VisualTinyLfu.HISTORY_BUCKET + " accesses", x + 12, y + 18);
+
+        int chartX = x + 36;
+        int chartY = y + 30;
+        int chartWidth = width - 50;
+        int chartHeight = LOWER_HEIGHT - 70;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 8));
+        for (int pct = 0; pct <= 100; pct += 25) {
+            int ly = chartY + chartHeight - chartHeight * pct / 100;
+            g2d.setColor(new Color(60, 80, 60));
+            g2d.drawLine(chartX, ly, chartX + chartWidth, ly);
+            g2d.setColor(new Color(150, 170, 150));
+            g2d.drawString(pct + "%", x + 10, ly + 3);
+        }
+        drawSeries(g2d, cache.getLruHistory(), LRU_COLOR, chartX, chartY, chartWidth, chartHeight);
+        drawSeries(g2d, cache.getTinyHistory(), ACCENT, chartX, chartY, chartWidth, chartHeight);
+
+        int legendY = y + LOWER_HEIGHT - 24;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString(String.format("TinyLFU %.1f%%", 100 * cache.getHitRate()), x + 12, legendY);
+        g2d.setColor(LRU_COLOR);
+        g2d.drawString(String.format("LinkedHashMap LRU %.1f%%", 100 * cache.getLruHitRate()), x + 120, legendY);
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(170, 200, 170));
+        g2d.drawString("same keys, same capacity " + VisualTinyLfu.CAPACITY, x + 12, legendY + 13);
+    }
+
+    private void drawSeries(Graphics2D g2d, List<Double> series, Color color, int x, int y, int width, int height) {
+        if (series.size() < 2) return;
+        g2d.setColor(color);
+        g2d.setStroke(new BasicStroke(1.6f));
+        double step = (double) width / (VisualTinyLfu.HISTORY - 1);
+        for (int i = 1; i < series.size(); i++) {
+            int x1 = (int) (x + (i - 1) * step);
+            int x2 = (int) (x + i * step);
+            int y1 = (int) (y + height - height * series.get(i - 1) / 100);
+            int y2 = (int) (y + height - height * series.get(i) / 100);
+            g2d.drawLine(x1, y1, x2, y2);
+        }
+    }
+
+    private void drawLegend(Graphics2D g2d) {
+        int y = getHeight() - 30;
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        int x = 20;
+        Object[][] items = {
+                {WINDOW_COLOR, "window (LRU)"},
+                {PROBATION_COLOR, "probation (main, on trial)"},
+                {PROTECTED_COLOR, "protected (main, proven)"},
+                {HIT_COLOR, "last hit / min counter"},
+                {REJECT_COLOR, "evicted by admission"}
+        };
+        for (Object[] item : items) {
+            g2d.setColor((Color) item[0]);
+            g2d.fillRect(x, y, 10, 10);
+            g2d.setColor(TEXT_COLOR);
+            g2d.drawString((String) item[1], x + 14, y + 9);
+            x += g2d.getFontMetrics().stringWidth((String) item[1]) + 30;
+        }
+        g2d.setColor(new Color(170, 200, 170));
+        g2d.drawString("bar under a key: sketch estimate 0..15", x, y + 9);
+    }
+
+    private void drawHeader(Graphics2D g2d) {
+        g2d.setFont(new Font("Consolas", Font.BOLD, 20));
+        g2d.setColor(ACCENT);
+        g2d.drawString("W-TINYLFU CACHE VISUALIZER", 20, 35);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 11));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("[ new keys wait in a small LRU window; to enter main they must be more frequent than the entry they would evict ]", 20, 55);
+
+        g2d.setColor(new Color(190, 230, 180));
+        g2d.drawString(cache.getLastOperation(), 20, 80);
+
+        if (cache.wasJustRejected()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 8));
+            g2d.setColor(new Color(255, 110, 110, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("ADMISSION REJECTED", 400, 35);
+        } else if (cache.isPlaying()) {
+            float flash = (float) (0.5 + 0.5 * Math.sin(glowPhase * 6));
+            g2d.setColor(new Color(255, 210, 120, (int) (255 * flash)));
+            g2d.setFont(new Font("Consolas", Font.BOLD, 14));
+            g2d.drawString("PLAYING: zipf " + cache.getSkew() + ", " + cache.getSpeed() + "/s", 400, 35);
+        }
+    }
+
+    // ── Stats and memory ─────────────────────────────────────────
+
+    private void drawStats(Graphics2D g2d) {
+        int panelX = getWidth() - 240;
+        int panelY = 20;
+        int panelWidth = 220;
+        int panelHeight = 205;
+
+        drawBox(g2d, panelX, panelY, panelWidth, panelHeight);
+        g2d.setFont(new Font("Consolas", Font.BOLD, 11));
+        g2d.setColor(ACCENT);
+        g2d.drawString("CACHE STATUS", panelX + 15, panelY + 20);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        int y = panelY + 40;
+        g2d.drawString("Size: " + cache.getSize() + " / " + VisualTinyLfu.CAPACITY + "   window " + cache.getWindowPercent() + "%",
+                panelX + 15, y);
+        y += 15;
+        g2d.drawString("Hits: " + cache.getHits() + "   Misses: " + cache.getMisses(), panelX + 15, y);
+        y += 15;
+        g2d.setColor(ACCENT);
+        g2d.drawString(String.format("TinyLFU hit rate: %.1f%%", 100 * cache.getHitRate()), panelX + 15, y);
+        y += 15;
+        g2d.setColor(LRU_COLOR);
+        g2d.drawString(String.format("LRU hit rate:     %.1f%%", 100 * cache.getLruHitRate()), panelX + 15, y);
+        y += 20;
+        g2d.setColor(ACCENT);
+        g2d.drawString("ADMISSION", panelX + 15, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Admitted: " + cache.getAdmissions(), panelX + 15, y);
+        g2d.setColor(REJECT_COLOR);
+        g2d.drawString("rejected: " + cache.getRejections(), panelX + 115, y);
+        y += 15;
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Evictions: " + cache.getEvictions(), panelX + 15, y);
+        y += 15;
+        g2d.drawString("Sketch halved: " + cache.getSketchResets() + "x", panelX + 15, y);
+        y += 20;
+        g2d.setColor(new Color(170, 200, 170));
+        g2d.drawString("Trace: zipf " + cache.getSkew() + " over " + VisualTinyLfu.KEY_RANGE + " keys", panelX + 15, y);
+
+        drawMemoryPanel(g2d, panelX, panelY + panelHeight + 10);
+    }
+
+    private void drawMemoryPanel(Graphics2D g2d, int x, int y) {
+        int width = 220;
+        int height = 90;
+        memoryPanelBounds.setBounds(x, y, width, height);
+        drawBox(g2d, x, y, width, height);
+
+        g2d.setFont(new Font("Consolas", Font.BOLD, 10));
+        g2d.setColor(ACCENT);
+        g2d.drawString("MEMORY USAGE", x + 15, y + 18);
+
+        VisualTinyLfu.MemoryInfo mem = cache.getMemoryInfo();
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 10));
+        g2d.setColor(TEXT_COLOR);
+        g2d.drawString("Total: " + mem.formatTotal(), x + 15, y + 35);
+        g2d.drawString("Sketch + buffers: " + mem.formatSketch() + " + " + mem.formatBuffers(), x + 15, y + 50);
+        g2d.drawString("LinkedHashMap LRU: " + mem.formatLinkedHashMap(), x + 15, y + 65);
+
+        g2d.setFont(new Font("Consolas", Font.PLAIN, 9));
+        g2d.setColor(new Color(190, 230, 180));
+        g2d.drawString("[CLICK FOR DETAILS]", x + 15, y + 81);
+    }
+
+    private void drawBox(Graphics2D g2d, int x, int y, int width, int height) {
+        g2d.setColor(new Color(18, 34, 22, 220));
+        g2d.fillRoundRect(x, y, width, height, 10, 10);
+        g2d.setColor(ACCENT);
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.drawRoundRect(x, y, width, height, 10, 10);
+    }
+}